@@ -0,0 +1,156 @@
+/*****************************************************************************
+ * Copyright (C) 2008 EnterpriseDB Corporation.
+ * Copyright (C) 2011 Stado Global Development Group.
+ *
+ * This file is part of Stado.
+ *
+ * Stado is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Stado is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Stado.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * You can find Stado at http://www.stado.us
+ *
+ ****************************************************************************/
+/*
+ * ByteArrayPool.java
+ *
+ */
+
+package org.postgresql.stado.common.util;
+
+import java.util.LinkedList;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pool of byte arrays used as packet buffers. Arrays are grouped by length,
+ * lengths are powers of two. Requests for arrays longer than the max pooled
+ * length are served by non-pooled arrays, which are just garbage collected
+ * when released.
+ */
+public class ByteArrayPool {
+
+    private static final int MIN_LENGTH = 0x1000; // 4K
+
+    /**
+     * Buffers of the result set packets. Packet buffer is passed from the
+     * node to the coordinator and returned here after the packet is sent out
+     * or read.
+     */
+    public static final ByteArrayPool PACKET_POOL = new ByteArrayPool(
+            0x100000, Props.XDB_RESULT_PACKET_POOL_SIZE);
+
+    /**
+     * Arrays of length MIN_LENGTH << i
+     */
+    private LinkedList<byte[]>[] pools;
+
+    private int maxLength;
+
+    private int maxArrays;
+
+    private final AtomicLong allocated = new AtomicLong();
+
+    private final AtomicLong reused = new AtomicLong();
+
+    /**
+     *
+     * @param maxLength
+     *                arrays longer then this are not pooled
+     * @param maxArrays
+     *                max number of idle arrays of the same length
+     */
+    @SuppressWarnings("unchecked")
+    public ByteArrayPool(int maxLength, int maxArrays) {
+        int classes = 1;
+        while (MIN_LENGTH << (classes - 1) < maxLength) {
+            classes++;
+        }
+        pools = new LinkedList[classes];
+        for (int i = 0; i < classes; i++) {
+            pools[i] = new LinkedList<byte[]>();
+        }
+        this.maxLength = MIN_LENGTH << (classes - 1);
+        this.maxArrays = maxArrays;
+    }
+
+    /**
+     * @param length
+     * @return index of the pool serving arrays of the length
+     */
+    private int getPoolIndex(int length) {
+        int i = 0;
+        while (MIN_LENGTH << i < length) {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * Returns array of at least requested length. Content of the array is
+     * undefined.
+     *
+     * @param length
+     * @return
+     */
+    public byte[] acquire(int length) {
+        if (length > maxLength) {
+            return new byte[length];
+        }
+        int i = getPoolIndex(length);
+        byte[] array;
+        synchronized (pools[i]) {
+            array = pools[i].poll();
+        }
+        if (array != null) {
+            reused.incrementAndGet();
+            return array;
+        }
+        allocated.incrementAndGet();
+        return new byte[MIN_LENGTH << i];
+    }
+
+    /**
+     * Returns the array to the pool. Array must not be used by caller after
+     * that.
+     *
+     * @param array
+     */
+    public void release(byte[] array) {
+        if (array == null || array.length > maxLength) {
+            return;
+        }
+        int i = getPoolIndex(array.length);
+        if (MIN_LENGTH << i != array.length) {
+            // Not from this pool
+            return;
+        }
+        synchronized (pools[i]) {
+            if (pools[i].size() < maxArrays) {
+                pools[i].add(array);
+            }
+        }
+    }
+
+    /**
+     * @return number of arrays allocated by the pool
+     */
+    public long getAllocatedCount() {
+        return allocated.get();
+    }
+
+    /**
+     * @return number of times pooled array was reused
+     */
+    public long getReusedCount() {
+        return reused.get();
+    }
+}
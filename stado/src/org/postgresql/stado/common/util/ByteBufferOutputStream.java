@@ -0,0 +1,116 @@
+/*****************************************************************************
+ * Copyright (C) 2008 EnterpriseDB Corporation.
+ * Copyright (C) 2011 Stado Global Development Group.
+ *
+ * This file is part of Stado.
+ *
+ * Stado is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Stado is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Stado.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * You can find Stado at http://www.stado.us
+ *
+ ****************************************************************************/
+/*
+ * ByteBufferOutputStream.java
+ *
+ */
+
+package org.postgresql.stado.common.util;
+
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * OutputStream writing into ByteBuffer taken from the pool. If data do not
+ * fit, buffer is replaced with a larger one. Call release() to return current
+ * buffer to the pool when data are consumed.
+ */
+public class ByteBufferOutputStream extends OutputStream {
+
+    private ByteBufferPool pool;
+
+    private ByteBuffer buffer;
+
+    /**
+     *
+     * @param pool
+     * @param initialCapacity
+     */
+    public ByteBufferOutputStream(ByteBufferPool pool, int initialCapacity) {
+        this.pool = pool;
+        buffer = pool.acquire(initialCapacity);
+    }
+
+    private void ensureCapacity(int length) {
+        if (buffer.remaining() < length) {
+            int capacity = buffer.capacity() * 2;
+            while (capacity - buffer.position() < length) {
+                capacity *= 2;
+            }
+            ByteBuffer newBuffer = pool.acquire(capacity);
+            buffer.flip();
+            newBuffer.put(buffer);
+            pool.release(buffer);
+            buffer = newBuffer;
+        }
+    }
+
+    @Override
+    public void write(int b) {
+        ensureCapacity(1);
+        buffer.put((byte) b);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+        ensureCapacity(len);
+        buffer.put(b, off, len);
+    }
+
+    /**
+     * Overwrites previously written bytes with the int value
+     *
+     * @param index
+     *                position of the value
+     * @param value
+     */
+    public void putInt(int index, int value) {
+        buffer.putInt(index, value);
+    }
+
+    /**
+     * @return number of bytes written
+     */
+    public int size() {
+        return buffer.position();
+    }
+
+    /**
+     * Prepares the buffer for reading written data and returns it. Nothing
+     * should be written to the stream after that.
+     *
+     * @return
+     */
+    public ByteBuffer getBuffer() {
+        buffer.flip();
+        return buffer;
+    }
+
+    /**
+     * Returns buffer to the pool
+     */
+    public void release() {
+        pool.release(buffer);
+        buffer = null;
+    }
+}
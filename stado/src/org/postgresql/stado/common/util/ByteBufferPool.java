@@ -0,0 +1,148 @@
+/*****************************************************************************
+ * Copyright (C) 2008 EnterpriseDB Corporation.
+ * Copyright (C) 2011 Stado Global Development Group.
+ *
+ * This file is part of Stado.
+ *
+ * Stado is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Stado is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Stado.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * You can find Stado at http://www.stado.us
+ *
+ ****************************************************************************/
+/*
+ * ByteBufferPool.java
+ *
+ */
+
+package org.postgresql.stado.common.util;
+
+import java.nio.ByteBuffer;
+import java.util.LinkedList;
+
+/**
+ * Pool of direct ByteBuffers used by the connectors to read and write
+ * messages. Buffers are grouped by capacity, capacities are powers of two.
+ * Requests for buffers larger than the max pooled capacity are served by
+ * non-pooled heap buffers, which are just garbage collected when released.
+ */
+public class ByteBufferPool {
+
+    private static final int MIN_CAPACITY = 0x1000; // 4K
+
+    /**
+     * Buffers of capacity MIN_CAPACITY << i
+     */
+    private LinkedList<ByteBuffer>[] pools;
+
+    private int maxCapacity;
+
+    private int maxBuffers;
+
+    private long allocated = 0;
+
+    private long reused = 0;
+
+    /**
+     *
+     * @param maxCapacity
+     *                buffers larger then this are not pooled
+     * @param maxBuffers
+     *                max number of idle buffers of the same capacity
+     */
+    @SuppressWarnings("unchecked")
+    public ByteBufferPool(int maxCapacity, int maxBuffers) {
+        int classes = 1;
+        while (MIN_CAPACITY << (classes - 1) < maxCapacity) {
+            classes++;
+        }
+        pools = new LinkedList[classes];
+        for (int i = 0; i < classes; i++) {
+            pools[i] = new LinkedList<ByteBuffer>();
+        }
+        this.maxCapacity = MIN_CAPACITY << (classes - 1);
+        this.maxBuffers = maxBuffers;
+    }
+
+    /**
+     * @param capacity
+     * @return index of the pool serving buffers of the capacity
+     */
+    private int getPoolIndex(int capacity) {
+        int i = 0;
+        while (MIN_CAPACITY << i < capacity) {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * Returns cleared buffer of at least requested capacity.
+     *
+     * @param capacity
+     * @return
+     */
+    public ByteBuffer acquire(int capacity) {
+        if (capacity > maxCapacity) {
+            return ByteBuffer.allocate(capacity);
+        }
+        int i = getPoolIndex(capacity);
+        synchronized (pools[i]) {
+            ByteBuffer buffer = pools[i].poll();
+            if (buffer != null) {
+                reused++;
+                buffer.clear();
+                return buffer;
+            }
+            allocated++;
+        }
+        return ByteBuffer.allocateDirect(MIN_CAPACITY << i);
+    }
+
+    /**
+     * Returns the buffer to the pool. Buffer must not be used by caller
+     * after that.
+     *
+     * @param buffer
+     */
+    public void release(ByteBuffer buffer) {
+        if (buffer == null || !buffer.isDirect()
+                || buffer.capacity() > maxCapacity) {
+            return;
+        }
+        int i = getPoolIndex(buffer.capacity());
+        if (MIN_CAPACITY << i != buffer.capacity()) {
+            // Not from this pool
+            return;
+        }
+        synchronized (pools[i]) {
+            if (pools[i].size() < maxBuffers) {
+                pools[i].add(buffer);
+            }
+        }
+    }
+
+    /**
+     * @return number of direct buffers allocated by the pool
+     */
+    public long getAllocatedCount() {
+        return allocated;
+    }
+
+    /**
+     * @return number of times pooled buffer was reused
+     */
+    public long getReusedCount() {
+        return reused;
+    }
+}
@@ -0,0 +1,162 @@
+/*****************************************************************************
+ * Copyright (C) 2008 EnterpriseDB Corporation.
+ * Copyright (C) 2011 Stado Global Development Group.
+ *
+ * This file is part of Stado.
+ *
+ * Stado is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Stado is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Stado.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * You can find Stado at http://www.stado.us
+ *
+ ****************************************************************************/
+/*
+ * MappedFileInputStream.java
+ *
+ */
+
+package org.postgresql.stado.common.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * InputStream reading a local file mapped into memory. The file is mapped by
+ * windows of limited size, so files of any size may be read. Data are copied
+ * from the mapped region directly, without system calls and intermediate
+ * buffer. The stream is not thread safe.
+ */
+public class MappedFileInputStream extends InputStream {
+
+    private static final long WINDOW_SIZE = 64L * 1024 * 1024;
+
+    private FileChannel channel;
+
+    private long fileSize;
+
+    /**
+     * File position of the current window
+     */
+    private long windowStart = 0;
+
+    private MappedByteBuffer window = null;
+
+    /**
+     *
+     * @param fileName
+     * @throws IOException
+     */
+    public MappedFileInputStream(String fileName) throws IOException {
+        channel = new RandomAccessFile(fileName, "r").getChannel();
+        fileSize = channel.size();
+    }
+
+    /**
+     * Ensure there is data in the window, map next one if needed
+     *
+     * @return false if end of file is reached
+     * @throws IOException
+     */
+    private boolean ensureData() throws IOException {
+        if (window != null && window.hasRemaining()) {
+            return true;
+        }
+        if (window != null) {
+            windowStart += window.limit();
+        }
+        if (windowStart >= fileSize) {
+            return false;
+        }
+        window = channel.map(FileChannel.MapMode.READ_ONLY, windowStart,
+                Math.min(WINDOW_SIZE, fileSize - windowStart));
+        return true;
+    }
+
+    /**
+     * @return number of bytes read so far
+     */
+    public long getPosition() {
+        return window == null ? 0 : windowStart + window.position();
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see java.io.InputStream#read()
+     */
+    @Override
+    public int read() throws IOException {
+        return ensureData() ? window.get() & 0xff : -1;
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see java.io.InputStream#read(byte[], int, int)
+     */
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (off < 0 || len < 0 || off + len > b.length) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (len == 0) {
+            return 0;
+        }
+        if (!ensureData()) {
+            return -1;
+        }
+        len = Math.min(len, window.remaining());
+        window.get(b, off, len);
+        return len;
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see java.io.InputStream#skip(long)
+     */
+    @Override
+    public long skip(long n) throws IOException {
+        long skipped = 0;
+        while (skipped < n && ensureData()) {
+            int step = (int) Math.min(n - skipped, window.remaining());
+            window.position(window.position() + step);
+            skipped += step;
+        }
+        return skipped;
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see java.io.InputStream#available()
+     */
+    @Override
+    public int available() throws IOException {
+        return (int) Math.min(Integer.MAX_VALUE, fileSize - getPosition());
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see java.io.InputStream#close()
+     */
+    @Override
+    public void close() throws IOException {
+        window = null;
+        channel.close();
+    }
+}
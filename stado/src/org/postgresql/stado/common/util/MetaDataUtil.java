@@ -49,7 +49,10 @@ import java.util.regex.Pattern;
 
 import org.postgresql.stado.common.ColumnMetaData;
 import org.postgresql.stado.common.ResultSetImpl;
+import org.postgresql.stado.communication.AbstractConnector;
+import org.postgresql.stado.communication.CoordinatorAgent;
 import org.postgresql.stado.engine.ExecutableRequest;
+import org.postgresql.stado.engine.PlanCache;
 import org.postgresql.stado.engine.XDBSessionContext;
 import org.postgresql.stado.engine.datatypes.BooleanType;
 import org.postgresql.stado.engine.datatypes.IntegerType;
@@ -229,7 +232,10 @@ public class MetaDataUtil implements XDBServerPropNames {
         if (logger.isDebugEnabled()) {
             synchronized (client.getSysDatabase().getScheduler()) {
                 logger.debug(client.getSysDatabase().getLm().dumpLockManager());
+                logger.debug(client.getSysDatabase().getScheduler()
+                        .dumpScheduler());
             }
+            logger.debug(PlanCache.dumpPlanCache());
         }
 
         final String tableNamePattern = "STATEMENTS";
@@ -848,24 +854,47 @@ public class MetaDataUtil implements XDBServerPropNames {
     public static ResultSet getAgents() {
         short flags = 0;
         int maxNodeLen = 1;
+        int maxQueueLen = 1;
+        int maxTransferLen = 1;
 
         Vector<XData[]> rows = new Vector<XData[]>();
         for (SysAgent agent : SysAgent.getNodeAgents()) {
             StringBuilder sNodes = new StringBuilder();
+            StringBuilder sQueues = new StringBuilder();
+            StringBuilder sTransfer = new StringBuilder();
             for (Node node : agent.getNodes()) {
                 sNodes.append(node.getNodeid()).append(",");
+                sQueues.append(node.getNodeid()).append(":").append(
+                        getSendQueueDepth(node.getNodeid())).append(",");
+                String transfer = getTransferStatistics(node.getNodeid());
+                if (transfer != null) {
+                    sTransfer.append(node.getNodeid()).append(": ").append(
+                            transfer).append("; ");
+                }
             }
             if (sNodes.length() > 0) {
                 sNodes.setLength(sNodes.length() - 1);
+                sQueues.setLength(sQueues.length() - 1);
+            }
+            if (sTransfer.length() > 0) {
+                sTransfer.setLength(sTransfer.length() - 2);
+            }
+            if (maxTransferLen < sTransfer.length()) {
+                maxTransferLen = sTransfer.length();
             }
             if (maxNodeLen < sNodes.length()) {
                 maxNodeLen = sNodes.length();
             }
+            if (maxQueueLen < sQueues.length()) {
+                maxQueueLen = sQueues.length();
+            }
 
             rows.add(new XData[] { new VarcharType(agent.getHost()),
                     new VarcharType(agent.isConnected() ? "Connected"
                             : "Disconnected"),
-                    new VarcharType(sNodes.toString()) });
+                    new VarcharType(sNodes.toString()),
+                    new VarcharType(sQueues.toString()),
+                    new VarcharType(sTransfer.toString()) });
         }
 
         ColumnMetaData[] headers = new ColumnMetaData[] {
@@ -875,11 +904,43 @@ public class MetaDataUtil implements XDBServerPropNames {
                         null, flags, false),
                 new ColumnMetaData("NODES", "NODES", maxNodeLen, Types.VARCHAR,
                         0, 0,
-                        null, flags, false), };
+                        null, flags, false),
+                new ColumnMetaData("SEND_QUEUE", "SEND_QUEUE", maxQueueLen,
+                        Types.VARCHAR, 0, 0, null, flags, false),
+                new ColumnMetaData("TRANSFER", "TRANSFER", maxTransferLen,
+                        Types.VARCHAR, 0, 0, null, flags, false), };
 
         return new ResultSetImpl(headers, rows);
     }
 
+    /**
+     * Returns number of messages waiting in the coordinator to be sent to the
+     * node
+     *
+     * @param nodeID
+     * @return
+     */
+    private static int getSendQueueDepth(int nodeID) {
+        Integer target = new Integer(nodeID);
+        AbstractConnector connector = CoordinatorAgent.getInstance()
+                .getConnector(target);
+        return connector == null ? 0 : connector.getQueueDepth(target);
+    }
+
+    /**
+     * Returns compression statistics of the data exchanged with the node
+     *
+     * @param nodeID
+     * @return
+     */
+    private static String getTransferStatistics(int nodeID) {
+        Integer target = new Integer(nodeID);
+        AbstractConnector connector = CoordinatorAgent.getInstance()
+                .getConnector(target);
+        return connector == null ? null : connector
+                .getTransferStatistics(target);
+    }
+
     public static ResultSet getShowNodes() {
         short flags = 0;
 
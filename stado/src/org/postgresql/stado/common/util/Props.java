@@ -47,9 +47,30 @@ public class Props {
             "xdb.protocol.handler.class",
             "org.postgresql.stado.protocol.PgProtocolHandler");
 
+    /**
+     * Read client connections with a few selector threads and handle the
+     * requests on a bounded worker pool, instead of a thread per connection
+     */
+    public static final boolean XDB_PROTOCOL_NIO = Property.getBoolean(
+            "xdb.protocol.nio", false);
+
+    /** Number of selector threads reading client connections */
+    public static final int XDB_PROTOCOL_SELECTORS = Property.getInt(
+            "xdb.protocol.selectors", 2);
+
+    /** Number of worker threads handling client requests */
+    public static final int XDB_PROTOCOL_WORKERS = Property.getInt(
+            "xdb.protocol.workers", 100);
+
     public static final int XDB_COORDINATOR_NODE = Property.getInt(
             "xdb.coordinator.node", -1);
 
+    /** Combine partial results of ungrouped aggregates in coordinator
+     * memory instead of a coordinator temp table, COUNT, SUM, AVG, MIN and
+     * MAX are computed without querying the coordinator database */
+    public static final boolean XDB_COORDINATOR_AGGREGATE = Property.getBoolean(
+            "xdb.coordinator.aggregate", false);
+
     public static final int XDB_MAXCONNECTIONS = Property.getInt(
             "xdb.maxconnections", 50);
 
@@ -133,6 +154,23 @@ public class Props {
     public static final boolean XDB_SQLCOMMAND_UPDATESTATISTICS_ROWCOUNT_QUOTED = Property.getBoolean(
             "xdb.sqlcommand.updatestatistics.rowcount.quoted", false);
 
+    /** Query returning column value distributions of a table from a node,
+     * one row per column: name, fraction of NULLs, most common values,
+     * their frequencies and histogram bounds */
+    public static final String XDB_SQLCOMMAND_UPDATESTATISTICS_COLSTATS = Property.get(
+            "xdb.sqlcommand.updatestatistics.colstats",
+            "SELECT s.attname, s.null_frac, CAST(s.most_common_vals AS TEXT), "
+                    + "CAST(s.most_common_freqs AS TEXT), "
+                    + "CAST(s.histogram_bounds AS TEXT) "
+                    + "FROM pg_stats s JOIN pg_namespace n ON n.nspname = s.schemaname "
+                    + "JOIN pg_class c ON c.relnamespace = n.oid AND c.relname = s.tablename "
+                    + "WHERE s.tablename = '{table}' AND pg_table_is_visible(c.oid)");
+
+    /** Maximum number of most common values and histogram buckets kept per
+     * column by ANALYZE, 0 to collect distinct counts only */
+    public static final int XDB_STATISTICS_TARGET = Property.getInt(
+            "xdb.statistics.target", 100);
+
     public static final String XDB_SQLCOMMAND_DROP_INDEX = Property.get(
             "xdb.sqlcommand.dropindex", "drop index {index_list}");
 
@@ -285,6 +323,25 @@ public class Props {
             "xdb.loader.edbwriter.template",
             "COPY {table} {columninfo} FROM STDIN WITH DELIMITER AS E'{delimiter}' NULL AS E'{null}'");
 
+    public static final String XDB_LOADER_PGWRITER_BINARY_TEMPLATE = Property.get(
+            "xdb.loader.pgwriter.binary.template",
+            "COPY {table} {columninfo} FROM STDIN WITH BINARY");
+
+    /**
+     * Send intermediate results from ResultSet in binary COPY format, if all
+     * target column types are supported and match the ResultSet column types
+     */
+    public static final boolean XDB_LOADER_BINARY_COPY = Property.getBoolean(
+            "xdb.loader.binarycopy", true);
+
+    /**
+     * Send date and time values in binary COPY format. They are encoded as
+     * 64-bit integers, so it must be disabled if the nodes are built without
+     * integer_datetimes
+     */
+    public static final boolean XDB_LOADER_BINARY_COPY_DATETIME = Property.getBoolean(
+            "xdb.loader.binarycopy.datetime", true);
+
     public static final String XDB_LOADER_NODEWRITER_TEMPLATE = Property.get(
             "xdb.loader.nodewriter.template",
             "{psql-util-name} -h {dbhost} -p {dbport} -d {database} -U {dbusername} -a -e -E -c \"COPY {table} {columninfo} FROM STDIN WITH DELIMITER AS E'{delimiter}' NULL AS E'{null}'\"");
@@ -401,12 +458,93 @@ public class Props {
     public static final boolean XDB_STEP_INDEX_CORRELATED = Property.getBoolean(
             "xdb.step.indexcorrelated", true);
 
+    /**
+     * Tell the nodes to finish a step in the same round trip as the
+     * initialization of the next step. The next step is not started before
+     * the previous one has been produced completely, streaming rows of a
+     * step into the next one is not done yet.
+     */
+    public static final boolean XDB_STEP_COALESCE_END = Property.getBoolean(
+            "xdb.step.coalesce_end", false);
+
+    /** Filter rows hashed to the nodes of the next joined table with a Bloom
+     * filter built on its join key, when the planner estimates it pays off */
+    public static final boolean XDB_SEMIJOIN_FILTER = Property.getBoolean(
+            "xdb.semijoin.filter", false);
+
+    /** Maximum size of the semi-join Bloom filter, in bits */
+    public static final int XDB_SEMIJOIN_FILTER_MAX_BITS = Property.getInt(
+            "xdb.semijoin.filter.maxbits", 262144);
+
+    /** Do not use the semi-join filter if the estimated percentage of rows
+     * passing it is higher */
+    public static final int XDB_SEMIJOIN_FILTER_MAX_PASS_PERCENT = Property.getInt(
+            "xdb.semijoin.filter.maxpasspercent", 50);
+
+    /**
+     * Number of hash buckets of newly created hash partitioned tables,
+     * rounded up to power of two, 65536 max. Tables which were created with
+     * different number of buckets can not be joined locally.
+     */
+    public static final int XDB_PARTITIONMAP_BUCKETS = Property.getInt(
+            "xdb.partitionmap.buckets", 256);
+
+    /**
+     * Number of virtual nodes per partition on the consistent hash ring
+     * used to assign hash buckets to partitions. If 0, buckets are assigned
+     * round robin.
+     */
+    public static final int XDB_PARTITIONMAP_VIRTUALNODES = Property.getInt(
+            "xdb.partitionmap.virtualnodes", 0);
+
+    /**
+     * Maximum rate, in bytes per second, at which REBALANCE TABLE copies rows
+     * to the nodes. 0 means unlimited.
+     */
+    public static final long XDB_REBALANCE_MAXBYTESPERSECOND = Property.getLong(
+            "xdb.rebalance.maxbytespersecond", 0);
+
+    /**
+     * Maximum number of partitioning key values in a single statement
+     * moving rows of a hash bucket
+     */
+    public static final int XDB_REBALANCE_KEYSPERSTATEMENT = Property.getInt(
+            "xdb.rebalance.keysperstatement", 1000);
+
+    /**
+     * Number of result packets a node may send to the coordinator ahead,
+     * without waiting for request. If 0 coordinator requests every packet.
+     */
+    public static final int XDB_RESULT_ROWS_WINDOW = Property.getInt(
+            "xdb.resultrows.window", 4);
+
+    /**
+     * Max number of idle result packet buffers of the same size kept for
+     * reuse
+     */
+    public static final int XDB_RESULT_PACKET_POOL_SIZE = Property.getInt(
+            "xdb.resultpacket.pool.size", 64);
+
+    /**
+     * How long a transaction should be waiting for locks before the waits-for
+     * graph is checked for deadlock, ms
+     */
+    public static final int XDB_LOCK_DEADLOCK_TIMEOUT = Property.getInt(
+            "xdb.lock.deadlock.timeout", 1000);
+
     public static final int XDB_NODEFETCHSIZE = Property.getInt(
             "xdb.nodeFetchSize", 1000);
 
     public static final int XDB_COMBINED_RESULTSET_BUFFER = Property.getInt(
             "xdb.combined.resultset.buffer", 1000);
 
+    /**
+     * Number of rows the fetch thread of a combined ResultSet hands over to
+     * the merging thread at once
+     */
+    public static final int XDB_COMBINED_RESULTSET_BATCH = Property.getInt(
+            "xdb.combined.resultset.batch", 100);
+
     // How to sort nulls (should match to backend)
     public static final int SORT_NULLS_AT_START = 0;
 
@@ -550,6 +688,20 @@ public class Props {
     public static final boolean XDB_PERSIST_ON_SET = Property.getBoolean(
             "xdb.persist_on_set", true);
 
+    /** Release the underlying connections of the sessions between
+     * transactions even if SET has been used, and replay the SET commands
+     * on the connections the session takes next time. */
+    public static final boolean XDB_SESSION_MULTIPLEX = Property.getBoolean(
+            "xdb.session.multiplex", false);
+
+    /** Number of query shapes kept by the plan cache, 0 disables it */
+    public static final int XDB_PLANCACHE_SIZE = Property.getInt(
+            "xdb.plancache.size", 0);
+
+    /** Number of cached plans a session keeps prepared */
+    public static final int XDB_PLANCACHE_SESSION_SIZE = Property.getInt(
+            "xdb.plancache.session.size", 32);
+
     public static final boolean XDB_TEMPORARY_INTERMEDIATE_TABLES = Property.getBoolean(
             "xdb.temporary_intermediate_tables", !XDB_USE_LOAD_FOR_STEP);
 
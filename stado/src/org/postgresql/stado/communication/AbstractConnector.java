@@ -24,6 +24,7 @@ package org.postgresql.stado.communication;
 
 import java.util.*;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.LinkedBlockingQueue;
 
 import org.postgresql.stado.common.util.XLogger;
@@ -64,6 +65,15 @@ public abstract class AbstractConnector implements Runnable {
      */
     protected BlockingQueue<NodeMessage> outQueue;
 
+    /**
+     * Queues for outgoing messages to particular nodes, if connector sends
+     * messages to different nodes in parallel. Every queue is served by its
+     * own sending thread.
+     *
+     * @see #createSendingThread(Integer, BlockingQueue)
+     */
+    private Map<Integer, BlockingQueue<NodeMessage>> targetQueues = new ConcurrentHashMap<Integer, BlockingQueue<NodeMessage>>();
+
     /**
      * Threads to interrupt on destroy
      */
@@ -150,6 +160,8 @@ public abstract class AbstractConnector implements Runnable {
             if (!consumed) {
                 XLogger.getLogger("Server").warn(
                         "Message was not consumed: " + message);
+                // Nobody is going to read the packet, return it to the pool
+                message.releaseBuffers();
             }
 
         } finally {
@@ -166,15 +178,105 @@ public abstract class AbstractConnector implements Runnable {
         logger.entering(method, new Object[] { message });
         try {
 
+            BlockingQueue<NodeMessage> queue = getSendQueue(message
+                    .getTargetNodeID());
             NodeMessage.CATEGORY_MESSAGE.debug("Message is enqueued, queue: "
-                    + outQueue);
-            outQueue.offer(message);
+                    + queue);
+            queue.offer(message);
 
         } finally {
             logger.exiting(method);
         }
     }
 
+    /**
+     * Returns queue for messages to the specified node. If connector supports
+     * parallel sending, the queue and the thread serving it are created upon
+     * first request.
+     * @param targetID 
+     * @return 
+     */
+    private BlockingQueue<NodeMessage> getSendQueue(Integer targetID) {
+        if (targetID == null) {
+            return outQueue;
+        }
+        BlockingQueue<NodeMessage> queue = targetQueues.get(targetID);
+        if (queue == null) {
+            synchronized (targetQueues) {
+                queue = targetQueues.get(targetID);
+                if (queue == null) {
+                    queue = new LinkedBlockingQueue<NodeMessage>();
+                    Runnable sendingThread = createSendingThread(targetID,
+                            queue);
+                    if (sendingThread == null) {
+                        // Parallel sending is not supported, use common queue
+                        queue = outQueue;
+                    } else {
+                        addWorkerThread(sendingThread);
+                    }
+                    targetQueues.put(targetID, queue);
+                }
+            }
+        }
+        return queue;
+    }
+
+    /**
+     * Subclass supporting parallel sending to different nodes creates here
+     * thread to serve the queue of messages to the specified node.
+     * @param targetID 
+     * @param queue 
+     * @return the sending thread or null if messages to all nodes are sent
+     * from the common queue
+     */
+    protected AbstractSendingThread createSendingThread(Integer targetID,
+            BlockingQueue<NodeMessage> queue) {
+        return null;
+    }
+
+    /**
+     * Returns number of messages waiting to be sent.
+     * @return 
+     */
+    public int getQueueDepth() {
+        int depth = outQueue.size();
+        for (BlockingQueue<NodeMessage> queue : targetQueues.values()) {
+            if (queue != outQueue) {
+                depth += queue.size();
+            }
+        }
+        return depth;
+    }
+
+    /**
+     * Returns number of messages waiting to be sent to the specified node.
+     * @param targetID 
+     * @return 
+     */
+    public int getQueueDepth(Integer targetID) {
+        BlockingQueue<NodeMessage> queue = targetQueues.get(targetID);
+        if (queue != null && queue != outQueue) {
+            return queue.size();
+        }
+        int depth = 0;
+        for (NodeMessage message : outQueue) {
+            if (targetID.equals(message.getTargetNodeID())) {
+                depth++;
+            }
+        }
+        return depth;
+    }
+
+    /**
+     * Returns description of the data transfer with the specified node, like
+     * compression efficiency, if connector collects such statistics.
+     * @param targetID 
+     * @return the description or null
+     */
+    public String getTransferStatistics(Integer targetID) {
+        return null;
+    }
+
     /**
      * 
      * @param r 
@@ -250,27 +352,57 @@ public abstract class AbstractConnector implements Runnable {
     protected abstract class AbstractSendingThread implements Runnable {
 
         /**
-         * Reads messages one by one from outgoing queue and send them to other
-         * participants of the connection using send(NodeMessage) method.
+         * The queue to send messages from
+         */
+        private BlockingQueue<NodeMessage> queue;
+
+        /**
+         * Max number of queued messages to pass to sendBatch() at once
+         */
+        private int maxBatchSize;
+
+        /**
+         * Creates the thread sending messages from the common outgoing queue
+         * one by one
+         */
+        protected AbstractSendingThread() {
+            this(outQueue, 1);
+        }
+
+        /**
+         * Creates the thread sending messages from the specified queue
+         * @param queue 
+         * @param maxBatchSize 
+         */
+        protected AbstractSendingThread(BlockingQueue<NodeMessage> queue,
+                int maxBatchSize) {
+            this.queue = queue;
+            this.maxBatchSize = maxBatchSize;
+        }
+
+        /**
+         * Reads messages from outgoing queue and send them to other
+         * participants of the connection using sendBatch(List) method.
+         * Messages already waiting in the queue are taken together with the
+         * first one.
          */
         public void run() {
             final String method = "run";
             logger.entering(method);
             try {
 
+                List<NodeMessage> batch = new ArrayList<NodeMessage>();
                 while (true) {
                     try {
-                        NodeMessage message = outQueue.poll(5,
+                        NodeMessage message = queue.poll(5,
                                 java.util.concurrent.TimeUnit.SECONDS);
-                        try {
-                            if (message != null) {
-                                NodeMessage.CATEGORY_MESSAGE
-                                        .info("Sending message: " + message);
-                                send(message);
+                        if (message != null) {
+                            batch.add(message);
+                            if (maxBatchSize > 1) {
+                                queue.drainTo(batch, maxBatchSize - 1);
                             }
-                        } catch (Exception ex) {
-                            logger.catching(ex);
-                            sendFailed(message, ex);
+                            sendBatch(batch);
+                            batch.clear();
                         }
                     } catch (InterruptedException ie) {
                         // Normal shutdown
@@ -283,6 +415,24 @@ public abstract class AbstractConnector implements Runnable {
             }
         }
 
+        /**
+         * Sends the messages taken from the queue. Default implementation
+         * sends them one by one using send(NodeMessage) method.
+         * @param messages 
+         */
+        protected void sendBatch(List<NodeMessage> messages) {
+            for (NodeMessage message : messages) {
+                try {
+                    NodeMessage.CATEGORY_MESSAGE.info("Sending message: "
+                            + message);
+                    send(message);
+                } catch (Exception ex) {
+                    logger.catching(ex);
+                    sendFailed(message, ex);
+                }
+            }
+        }
+
         /**
          * Called when sending error occurs. Re-enqueue message by default
          * @param message 
@@ -301,6 +451,24 @@ public abstract class AbstractConnector implements Runnable {
                         logger.catching(e);
                     }
                 }
+                deliveryFailed(message, ex);
+
+            } finally {
+                logger.exiting(method);
+            }
+        }
+
+        /**
+         * Called when message can not be delivered and should not be
+         * resent. Sends MSG_ABORT back to the sender.
+         * @param message
+         * @param ex
+         */
+        protected void deliveryFailed(NodeMessage message, Exception ex) {
+            final String method = "deliveryFailed";
+            logger.entering(method, new Object[] { message, ex });
+            try {
+
                 XLogger
                         .getLogger("Server")
                         .error(
@@ -0,0 +1,108 @@
+/*****************************************************************************
+ * Copyright (C) 2008 EnterpriseDB Corporation.
+ * Copyright (C) 2011 Stado Global Development Group.
+ *
+ * This file is part of Stado.
+ *
+ * Stado is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Stado is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Stado.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * You can find Stado at http://www.stado.us
+ *
+ ****************************************************************************/
+/*
+ * ChannelDeflater.java
+ *
+ */
+
+package org.postgresql.stado.communication;
+
+import java.nio.ByteBuffer;
+import java.util.zip.Deflater;
+
+/**
+ * Compresses data written to a connection. Compressor state, including the
+ * dictionary, is kept between blocks, so recurring data like table names and
+ * column values compress well even in small messages. Every block is flushed,
+ * so receiver can decode it as soon as the block arrives.
+ * <p>
+ * Block layout: int size with high bit set, compressed data.
+ *
+ * @see ChannelInflater
+ */
+class ChannelDeflater {
+
+    /**
+     * Set in the size of the frame if frame is a compressed block
+     */
+    static final int COMPRESSED_FLAG = 0x80000000;
+
+    private Deflater deflater = new Deflater(Deflater.BEST_SPEED, true);
+
+    private byte[] input = new byte[0x10000];
+
+    private byte[] output = new byte[0x10000];
+
+    private byte[] block = new byte[0x10000];
+
+    private int blockSize;
+
+    /**
+     * Compresses remaining data of the buffers.
+     *
+     * @param data
+     * @return buffer containing the block, ready for writing
+     */
+    ByteBuffer compress(ByteBuffer[] data) {
+        // Placeholder for the size
+        blockSize = 4;
+        for (ByteBuffer buffer : data) {
+            while (buffer.hasRemaining()) {
+                int length = Math.min(buffer.remaining(), input.length);
+                buffer.get(input, 0, length);
+                deflater.setInput(input, 0, length);
+                while (!deflater.needsInput()) {
+                    append(deflater.deflate(output, 0, output.length,
+                            Deflater.NO_FLUSH));
+                }
+            }
+        }
+        int length;
+        do {
+            length = deflater.deflate(output, 0, output.length,
+                    Deflater.SYNC_FLUSH);
+            append(length);
+        } while (length == output.length);
+        ByteBuffer out = ByteBuffer.wrap(block, 0, blockSize);
+        out.putInt(0, (blockSize - 4) | COMPRESSED_FLAG);
+        return out;
+    }
+
+    private void append(int length) {
+        if (blockSize + length > block.length) {
+            byte[] newBlock = new byte[Math.max(block.length * 2, blockSize
+                    + length)];
+            System.arraycopy(block, 0, newBlock, 0, blockSize);
+            block = newBlock;
+        }
+        System.arraycopy(output, 0, block, blockSize, length);
+        blockSize += length;
+    }
+
+    /**
+     * Releases resources held by the compressor
+     */
+    void end() {
+        deflater.end();
+    }
+}
@@ -0,0 +1,99 @@
+/*****************************************************************************
+ * Copyright (C) 2008 EnterpriseDB Corporation.
+ * Copyright (C) 2011 Stado Global Development Group.
+ *
+ * This file is part of Stado.
+ *
+ * Stado is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Stado is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Stado.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * You can find Stado at http://www.stado.us
+ *
+ ****************************************************************************/
+/*
+ * ChannelInflater.java
+ *
+ */
+
+package org.postgresql.stado.communication;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * Decompresses blocks produced by ChannelDeflater on the other end of the
+ * connection. Blocks must be passed in the same order they were compressed.
+ *
+ * @see ChannelDeflater
+ */
+class ChannelInflater {
+
+    private Inflater inflater = new Inflater(true);
+
+    private byte[] input = new byte[0x10000];
+
+    private byte[] output = new byte[0x40000];
+
+    /**
+     * Decompresses remaining data of the block. Returned buffer is reused by
+     * subsequent calls.
+     *
+     * @param block
+     *                compressed data, without size
+     * @return buffer containing decompressed data
+     * @throws IOException
+     */
+    ByteBuffer inflate(ByteBuffer block) throws IOException {
+        int size = 0;
+        try {
+            while (block.hasRemaining()) {
+                int length = Math.min(block.remaining(), input.length);
+                block.get(input, 0, length);
+                inflater.setInput(input, 0, length);
+                while (!inflater.needsInput()) {
+                    if (size == output.length) {
+                        byte[] newOutput = new byte[output.length * 2];
+                        System.arraycopy(output, 0, newOutput, 0, size);
+                        output = newOutput;
+                    }
+                    size += inflater.inflate(output, size, output.length
+                            - size);
+                }
+            }
+            // Get data remaining in the inflater
+            int length;
+            do {
+                if (size == output.length) {
+                    byte[] newOutput = new byte[output.length * 2];
+                    System.arraycopy(output, 0, newOutput, 0, size);
+                    output = newOutput;
+                }
+                length = inflater.inflate(output, size, output.length - size);
+                size += length;
+            } while (size == output.length);
+        } catch (DataFormatException e) {
+            throw new IOException("Corrupted compressed block: "
+                    + e.getMessage());
+        }
+        return ByteBuffer.wrap(output, 0, size);
+    }
+
+    /**
+     * Releases resources held by the decompressor
+     */
+    void end() {
+        inflater.end();
+    }
+}
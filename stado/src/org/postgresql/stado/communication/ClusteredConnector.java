@@ -105,10 +105,7 @@ public abstract class ClusteredConnector extends AbstractConnector {
         // Cycle through connectors
         for (int i = bestIndex; loop == (i <= lastIndex); i = (loop = ++i >= connectors.length) ? 0
                 : i) {
-            int load;
-            synchronized (connectors[i].outQueue) {
-                load = connectors[i].outQueue.size();
-            }
+            int load = connectors[i].getQueueDepth();
             if (load < bestLoad) {
                 bestLoad = load;
                 bestIndex = i;
@@ -26,6 +26,8 @@
 package org.postgresql.stado.communication;
 
 import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
 import java.net.InetAddress;
 import java.net.InetSocketAddress;
 import java.nio.ByteBuffer;
@@ -34,16 +36,25 @@ import java.nio.channels.SelectionKey;
 import java.nio.channels.Selector;
 import java.nio.channels.ServerSocketChannel;
 import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.log4j.Level;
+import org.postgresql.stado.common.util.ByteBufferInputStream;
+import org.postgresql.stado.common.util.ByteBufferOutputStream;
+import org.postgresql.stado.common.util.ByteBufferPool;
 import org.postgresql.stado.common.util.Property;
 import org.postgresql.stado.common.util.XLogger;
 import org.postgresql.stado.communication.message.NodeMessage;
+import org.postgresql.stado.communication.message.NodeMessageCodec;
 import org.postgresql.stado.exception.XDBServerException;
 
 
@@ -57,6 +68,15 @@ public class SocketConnector extends AbstractConnector {
     private static final XLogger logger = XLogger
             .getLogger(SocketConnector.class);
 
+    private static final byte[] SIZE_PLACEHOLDER = new byte[4];
+
+    public static final int COMPRESSION_NONE = 0;
+
+    /**
+     * Stream compression, see ChannelDeflater
+     */
+    public static final int COMPRESSION_DEFLATE = 1;
+
     /**
      * Owning node ID
      */
@@ -88,6 +108,71 @@ public class SocketConnector extends AbstractConnector {
 
     private Selector serverSelector = null;
 
+    /**
+     * Selectors used by sending threads to wait until channel is connected or
+     * can accept more data
+     */
+    private Collection<Selector> writeSelectors = new ArrayList<Selector>();
+
+    /**
+     * Whether messages to different nodes are sent by separate threads
+     */
+    private boolean parallelSending;
+
+    /**
+     * Max number of queued messages to the same node coalesced into one
+     * write
+     */
+    private int maxBatchSize;
+
+    /**
+     * Max number of bytes to write at once, when messages are coalesced
+     */
+    private int maxBatchBytes;
+
+    /**
+     * Direct buffers to read and write messages
+     */
+    private ByteBufferPool bufferPool;
+
+    /**
+     * Version of binary message codec this connector is willing to use, 0 to
+     * always use Java serialization
+     */
+    private int codecVersion;
+
+    /**
+     * Codec versions negotiated with remote nodes. Messages to a node which
+     * has not completed handshake are serialized.
+     */
+    private Map<Integer, Integer> peerCodecVersions = new ConcurrentHashMap<Integer, Integer>();
+
+    /**
+     * Compression this connector accepts and wants to use, 0 for none
+     */
+    private int compression;
+
+    /**
+     * Do not compress data written to a channel at once if there are less
+     * bytes
+     */
+    private int compressionThreshold;
+
+    /**
+     * Compression negotiated with remote nodes
+     */
+    private Map<Integer, Integer> peerCompressions = new ConcurrentHashMap<Integer, Integer>();
+
+    /**
+     * Compressors of the channels where compression is used
+     */
+    private Map<SocketChannel, ChannelDeflater> deflaters = new HashMap<SocketChannel, ChannelDeflater>();
+
+    /**
+     * Transfer statistics by remote node
+     */
+    private ConcurrentHashMap<Integer, TransferStatistics> statistics = new ConcurrentHashMap<Integer, TransferStatistics>();
+
     /**
      *
      * @param nodeID
@@ -98,6 +183,25 @@ public class SocketConnector extends AbstractConnector {
         try {
 
             this.nodeID = nodeID;
+            String codec = Property.get("xdb.connector." + nodeID + ".codec",
+                    Property.get("xdb.connector.codec", "binary"));
+            codecVersion = "binary".equalsIgnoreCase(codec) ? NodeMessageCodec.VERSION
+                    : 0;
+            bufferPool = new ByteBufferPool(Property.getInt(
+                    "xdb.connector.bufferpool.maxbuffersize", 0x100000),
+                    Property.getInt("xdb.connector.bufferpool.maxbuffers", 16));
+            parallelSending = Property.getBoolean("xdb.connector.parallel",
+                    true);
+            maxBatchSize = Property.getInt("xdb.connector.batch.messages", 64);
+            maxBatchBytes = Property.getInt("xdb.connector.batch.size",
+                    0x10000);
+            String compressionName = Property.get("xdb.connector." + nodeID
+                    + ".compression", Property.get(
+                    "xdb.connector.compression", "none"));
+            compression = "deflate".equalsIgnoreCase(compressionName) ? COMPRESSION_DEFLATE
+                    : COMPRESSION_NONE;
+            compressionThreshold = Property.getInt(
+                    "xdb.connector.compression.threshold", 256);
 
         } finally {
             logger.exiting(method);
@@ -158,6 +262,19 @@ public class SocketConnector extends AbstractConnector {
         }
     }
 
+    /**
+     * Creates separate thread to send messages to the node, unless parallel
+     * sending is disabled
+     *
+     * @see org.postgresql.stado.communication.AbstractConnector#createSendingThread(java.lang.Integer,
+     *      java.util.concurrent.BlockingQueue)
+     */
+    @Override
+    protected AbstractSendingThread createSendingThread(Integer targetID,
+            BlockingQueue<NodeMessage> queue) {
+        return parallelSending ? new SendingThread(queue, maxBatchSize) : null;
+    }
+
     /**
      * Stops connector threads and closes all channels
      */
@@ -170,6 +287,12 @@ public class SocketConnector extends AbstractConnector {
             super.destroy();
             try {
                 selector.close();
+                synchronized (writeSelectors) {
+                    for (Selector writeSelector : writeSelectors) {
+                        writeSelector.close();
+                    }
+                    writeSelectors.clear();
+                }
                 serverSelector.close();
                 server.close();
                 synchronized (channels) {
@@ -300,6 +423,12 @@ public class SocketConnector extends AbstractConnector {
                 logger.log(Level.DEBUG, "newChannels: %0%",
                         new Object[] { newChannels });
             }
+            synchronized (deflaters) {
+                ChannelDeflater deflater = deflaters.remove(ch);
+                if (deflater != null) {
+                    deflater.end();
+                }
+            }
             try {
                 ch.close();
             } catch (IOException ioe) {
@@ -311,6 +440,170 @@ public class SocketConnector extends AbstractConnector {
         }
     }
 
+    /**
+     * Creates handshake message to be sent to specified node
+     *
+     * @param targetID
+     * @param replyRequested
+     * @return
+     */
+    private NodeMessage createHandshake(Integer targetID,
+            boolean replyRequested) {
+        NodeMessage handshake = NodeMessage
+                .getNodeMessage(NodeMessage.MSG_CONNECTOR_HANDSHAKE);
+        handshake.setSourceNodeID(nodeID);
+        handshake.setTargetNodeID(targetID);
+        handshake.setCodecVersion(codecVersion);
+        handshake.setCompression(compression);
+        handshake.setReplyRequested(replyRequested);
+        return handshake;
+    }
+
+    /**
+     * Handles handshake received from remote node: remember codec version
+     * supported by both sides and reply if requested
+     *
+     * @param handshake
+     */
+    private void handshakeReceived(NodeMessage handshake) {
+        final String method = "handshakeReceived";
+        logger.entering(method, new Object[] { handshake });
+        try {
+
+            Integer sourceID = new Integer(handshake.getSourceNodeID());
+            peerCodecVersions.put(sourceID, new Integer(Math.min(codecVersion,
+                    handshake.getCodecVersion())));
+            peerCompressions.put(sourceID, new Integer(
+                    compression == handshake.getCompression() ? compression
+                            : COMPRESSION_NONE));
+            if (handshake.isReplyRequested()) {
+                enqueueMessage(createHandshake(sourceID, false));
+            }
+
+        } finally {
+            logger.exiting(method);
+        }
+    }
+
+    /**
+     * @param message
+     * @return true if the message can be sent in binary format
+     */
+    private boolean useBinaryCodec(NodeMessage message) {
+        // Handshake is always serialized, so any peer can read it
+        if (message.getMessageType() == NodeMessage.MSG_CONNECTOR_HANDSHAKE) {
+            return false;
+        }
+        // Peers running an older binary format get serialized messages
+        Integer version = peerCodecVersions.get(message.getTargetNodeID());
+        return version != null
+                && version.intValue() == NodeMessageCodec.VERSION;
+    }
+
+    /**
+     * Returns compressor for the channel if compression is negotiated with
+     * the node
+     *
+     * @param ch
+     * @param targetID
+     * @return the compressor or null
+     */
+    private ChannelDeflater getDeflater(SocketChannel ch, Integer targetID) {
+        Integer peerCompression = peerCompressions.get(targetID);
+        if (peerCompression == null
+                || peerCompression.intValue() != COMPRESSION_DEFLATE) {
+            return null;
+        }
+        synchronized (deflaters) {
+            ChannelDeflater deflater = deflaters.get(ch);
+            if (deflater == null) {
+                deflater = new ChannelDeflater();
+                deflaters.put(ch, deflater);
+            }
+            return deflater;
+        }
+    }
+
+    /**
+     * @param nodeID
+     * @return transfer statistics of the connection with the node
+     */
+    private TransferStatistics getStatistics(Integer nodeID) {
+        TransferStatistics stats = statistics.get(nodeID);
+        if (stats == null) {
+            statistics.putIfAbsent(nodeID, new TransferStatistics());
+            stats = statistics.get(nodeID);
+        }
+        return stats;
+    }
+
+    /**
+     * Reports compression ratio and CPU time spent on compression of the
+     * data exchanged with the node
+     *
+     * @see org.postgresql.stado.communication.AbstractConnector#getTransferStatistics(java.lang.Integer)
+     */
+    @Override
+    public String getTransferStatistics(Integer targetID) {
+        TransferStatistics stats = statistics.get(targetID);
+        return stats == null ? null : stats.toString();
+    }
+
+    /**
+     * @return CPU time of current thread, if supported, otherwise elapsed
+     *         time, in nanoseconds
+     */
+    private static long getCpuTime() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        return bean.isCurrentThreadCpuTimeSupported() ? bean
+                .getCurrentThreadCpuTime() : System.nanoTime();
+    }
+
+    /**
+     * Amounts of data exchanged with a node through compressed blocks
+     */
+    private static class TransferStatistics {
+        private long rawSent = 0;
+
+        private long compressedSent = 0;
+
+        private long compressTime = 0;
+
+        private long rawReceived = 0;
+
+        private long compressedReceived = 0;
+
+        private long decompressTime = 0;
+
+        private synchronized void sent(long raw, long compressed, long cpuTime) {
+            rawSent += raw;
+            compressedSent += compressed;
+            compressTime += cpuTime;
+        }
+
+        private synchronized void received(long raw, long compressed,
+                long cpuTime) {
+            rawReceived += raw;
+            compressedReceived += compressed;
+            decompressTime += cpuTime;
+        }
+
+        private static String getRatio(long raw, long compressed) {
+            return compressed == 0 ? "-" : String.format("%.2f",
+                    (double) raw / compressed);
+        }
+
+        @Override
+        public synchronized String toString() {
+            return "sent " + rawSent + "/" + compressedSent + " bytes (ratio "
+                    + getRatio(rawSent, compressedSent) + ", "
+                    + compressTime / 1000000 + " ms), received " + rawReceived
+                    + "/" + compressedReceived + " bytes (ratio "
+                    + getRatio(rawReceived, compressedReceived) + ", "
+                    + decompressTime / 1000000 + " ms)";
+        }
+    }
+
     protected class ReceivingThread extends AbstractReceivingThread {
         private boolean hasData = false;
 
@@ -368,11 +661,19 @@ public class SocketConnector extends AbstractConnector {
                                 }
                             }
                             while (msg != null) {
-                                out.add(msg);
+                                if (msg.getMessageType() == NodeMessage.MSG_CONNECTOR_HANDSHAKE) {
+                                    handshakeReceived(msg);
+                                } else {
+                                    out.add(msg);
+                                }
                                 msg = read(key);
                             }
                         } finally {
                             if (!hasData) {
+                                ReadState state = (ReadState) key.attachment();
+                                if (state != null) {
+                                    state.release();
+                                }
                                 closeChannel((SocketChannel) key.channel());
                             }
                         }
@@ -392,55 +693,67 @@ public class SocketConnector extends AbstractConnector {
             logger.entering(method);
             try {
 
-                int size;
                 SocketChannel ch = (SocketChannel) key.channel();
+                ReadState state = (ReadState) key.attachment();
+                if (state == null) {
+                    state = new ReadState();
+                    key.attach(state);
+                }
                 try {
-                    ByteBuffer buffer = (ByteBuffer) key.attachment();
-                    if (buffer == null) {
+                    if (!state.pending.isEmpty()) {
+                        // Rest of decompressed block
+                        return state.pending.removeFirst();
+                    }
+                    if (state.body == null) {
                         // Read new message
                         // Read message size
-                        buffer = ByteBuffer.allocate(4);
-                    }
-                    if (buffer.capacity() == 4) {
-                        if (ch.read(buffer) > 0) {
+                        if (ch.read(state.header) > 0) {
                             hasData = true;
                         }
-                        if (buffer.position() == 4) {
-                            // We can now restore message size
-                            byte[] data = buffer.array();
-                            size = ((data[0] & 0xFF) << 24)
-                                    | ((data[1] & 0xFF) << 16)
-                                    | ((data[2] & 0xFF) << 8)
-                                    | (data[3] & 0xFF);
-                            // and prepare new message buffer
-                            byte[] newBuffer = new byte[size + 4];
-                            System.arraycopy(data, 0, newBuffer, 0, 4);
-                            buffer = ByteBuffer.wrap(newBuffer, 4, size);
-                        } else {
+                        if (state.header.hasRemaining()) {
                             // Do not have all data available, continue later
-                            key.attach(buffer);
                             return null;
                         }
+                        // We can now restore message size
+                        // and prepare new message buffer
+                        state.header.flip();
+                        int size = state.header.getInt();
+                        state.header.clear();
+                        state.compressed = (size & ChannelDeflater.COMPRESSED_FLAG) != 0;
+                        size &= ~ChannelDeflater.COMPRESSED_FLAG;
+                        state.body = bufferPool.acquire(size);
+                        state.body.limit(size);
                     }
                     // Now read message body
-                    if (ch.read(buffer) > 0) {
+                    if (ch.read(state.body) > 0) {
                         hasData = true;
                     }
-                    if (buffer.position() == buffer.limit()) {
-                        // Got complete message, decode
-                        key.attach(null);
-                        return NodeMessage.decodeBytes(buffer.array(), 4,
-                                buffer.position() - 4);
-                    } else {
+                    if (state.body.hasRemaining()) {
                         // Do not have all data available, continue later
-                        key.attach(buffer);
                         return null;
                     }
+                    // Got complete message, decode
+                    ByteBuffer body = state.body;
+                    state.body = null;
+                    try {
+                        body.flip();
+                        if (state.compressed) {
+                            return readBlock(state, body);
+                        }
+                        NodeMessage msg = NodeMessage
+                                .readFrom(new ByteBufferInputStream(body));
+                        state.sourceID = new Integer(msg.getSourceNodeID());
+                        return msg;
+                    } finally {
+                        bufferPool.release(body);
+                    }
                 } catch (IOException ioe) {
+                    state.release();
                     closeChannel(ch);
                     return null;
                 } catch (Throwable t) {
                     logger.catching(t);
+                    state.release();
                     closeChannel(ch);
                     return null;
                 }
@@ -450,9 +763,121 @@ public class SocketConnector extends AbstractConnector {
             }
         }
 
+        /**
+         * Decompresses the block and decodes messages it contains
+         *
+         * @param state
+         * @param block
+         * @return first message of the block, others are left pending
+         * @throws Exception
+         */
+        private NodeMessage readBlock(ReadState state, ByteBuffer block)
+                throws Exception {
+            if (state.inflater == null) {
+                state.inflater = new ChannelInflater();
+            }
+            int blockSize = block.remaining();
+            long start = getCpuTime();
+            ByteBuffer frames = state.inflater.inflate(block);
+            long cpuTime = getCpuTime() - start;
+            while (frames.hasRemaining()) {
+                int size = frames.getInt();
+                ByteBuffer frame = frames.duplicate();
+                frame.limit(frame.position() + size);
+                frames.position(frame.limit());
+                state.pending.add(NodeMessage.readFrom(new ByteBufferInputStream(
+                        frame)));
+            }
+            NodeMessage msg = state.pending.removeFirst();
+            state.sourceID = new Integer(msg.getSourceNodeID());
+            getStatistics(state.sourceID).received(frames.limit(), blockSize,
+                    cpuTime);
+            return msg;
+        }
+
+    }
+
+    /**
+     * Partially read message, attached to the selection key of the channel
+     */
+    private class ReadState {
+        /**
+         * Message size
+         */
+        private ByteBuffer header = ByteBuffer.allocateDirect(4);
+
+        /**
+         * Message data, null until size is known
+         */
+        private ByteBuffer body = null;
+
+        /**
+         * Whether the body is a compressed block
+         */
+        private boolean compressed;
+
+        /**
+         * Decompressor, created when first compressed block is received
+         */
+        private ChannelInflater inflater = null;
+
+        /**
+         * Decoded messages of the compressed block, not returned yet
+         */
+        private LinkedList<NodeMessage> pending = new LinkedList<NodeMessage>();
+
+        /**
+         * The node sending messages through the channel
+         */
+        private Integer sourceID;
+
+        private void release() {
+            bufferPool.release(body);
+            body = null;
+            // Messages decoded from the block, but not delivered
+            for (NodeMessage message : pending) {
+                message.releaseBuffers();
+            }
+            pending.clear();
+            if (inflater != null) {
+                inflater.end();
+                inflater = null;
+            }
+        }
     }
 
     protected class SendingThread extends AbstractSendingThread {
+
+        /**
+         * Selector to wait until channel is connected or can accept more data
+         */
+        private Selector writeSelector = null;
+
+        /**
+         * Number of bytes of the data passed to last writeData() call that
+         * have been written to the channel, -1 if data were compressed and
+         * the written part is not known.
+         */
+        private long writeProgress = 0;
+
+        /**
+         * Creates thread sending messages from the common queue
+         */
+        protected SendingThread() {
+            super();
+        }
+
+        /**
+         * Creates thread sending messages from the queue of particular node
+         *
+         * @param queue
+         * @param maxBatchSize
+         */
+        protected SendingThread(BlockingQueue<NodeMessage> queue,
+                int maxBatchSize) {
+            super(queue, maxBatchSize);
+        }
+
         /**
          *
          * @param message
@@ -464,47 +889,200 @@ public class SocketConnector extends AbstractConnector {
             logger.entering(method, new Object[] { message });
             try {
 
-                Integer targetID = message.getTargetNodeID();
-                SocketChannel ch = null;
-                boolean connected = true;
+                SocketChannel ch = getChannel(message.getTargetNodeID());
                 try {
-                    synchronized (channels) {
-                        ch = channels.get(targetID);
-                    }
-                    if (ch == null) {
-                        int targetNode = targetID.intValue();
-                        String key = (targetNode == 0 ? "xdb.coordinator"
-                                : "xdb.node." + targetNode);
-                        String host = Property.get(key + ".host");
-                        int port = Property.getInt(key + ".port", -1);
-                        InetAddress addr = InetAddress.getByName(host);
-                        ch = SocketChannel.open();
-                        ch.configureBlocking(false);
-                        connected = ch
-                                .connect(new InetSocketAddress(addr, port));
-                        registerChannel(targetID, ch);
-                    } else {
-                        logger.log(Level.DEBUG,
-                                "Found existing channel to send: %0%",
-                                new Object[] { ch });
-                    }
-                    while (!connected) {
-                        connected = ch.finishConnect();
-                        Thread.sleep(1);
-                    }
                     write(ch, message);
                 } catch (Exception e) {
-                    if (ch != null) {
-                        closeChannel(ch);
-                    }
+                    closeChannel(ch);
                     throw e;
                 }
+                message.releaseBuffers();
 
             } finally {
                 logger.exiting(method);
             }
         }
 
+        /**
+         * Sends consecutive messages to the same node coalesced into as few
+         * socket writes as possible.
+         *
+         * @param messages
+         */
+        @Override
+        protected void sendBatch(List<NodeMessage> messages) {
+            int start = 0;
+            while (start < messages.size()) {
+                Integer targetID = messages.get(start).getTargetNodeID();
+                int end = start + 1;
+                while (end < messages.size() && targetID != null
+                        && targetID.equals(messages.get(end).getTargetNodeID())) {
+                    end++;
+                }
+                if (end - start == 1) {
+                    super.sendBatch(messages.subList(start, end));
+                } else {
+                    sendCoalesced(targetID, messages.subList(start, end));
+                }
+                start = end;
+            }
+        }
+
+        /**
+         * Writes the messages to the node, up to xdb.connector.batch.size
+         * bytes per write. If write fails, frames completely written out
+         * are considered delivered and messages not written yet are handled
+         * as failed. Messages the node may have received, which is the case
+         * if a compressed block has been written partially, are not resent.
+         *
+         * @param targetID
+         * @param messages
+         */
+        private void sendCoalesced(Integer targetID, List<NodeMessage> messages) {
+            final String method = "sendCoalesced";
+            logger.entering(method, new Object[] { targetID, messages });
+            int sent = 0;
+            SocketChannel ch = null;
+            ByteBufferOutputStream data = null;
+            // End offsets of the frames in the data buffer
+            List<Integer> frameEnds = new ArrayList<Integer>();
+            boolean writing = false;
+            try {
+
+                ch = getChannel(targetID);
+                data = new ByteBufferOutputStream(bufferPool, maxBatchBytes);
+                for (NodeMessage message : messages) {
+                    NodeMessage.CATEGORY_MESSAGE.info("Sending message: "
+                            + message);
+                    writeFrame(data, message);
+                    frameEnds.add(data.size());
+                    if (data.size() >= maxBatchBytes) {
+                        writing = true;
+                        writeData(ch, targetID, new ByteBuffer[] { data
+                                .getBuffer() });
+                        writing = false;
+                        data.release();
+                        data = new ByteBufferOutputStream(bufferPool,
+                                maxBatchBytes);
+                        releaseBuffers(messages, sent, frameEnds.size());
+                        sent += frameEnds.size();
+                        frameEnds.clear();
+                    }
+                }
+                if (!frameEnds.isEmpty()) {
+                    writing = true;
+                    writeData(ch, targetID, new ByteBuffer[] { data
+                            .getBuffer() });
+                    writing = false;
+                    releaseBuffers(messages, sent, frameEnds.size());
+                    sent += frameEnds.size();
+                    frameEnds.clear();
+                }
+
+            } catch (Exception ex) {
+                logger.catching(ex);
+                if (ch != null) {
+                    closeChannel(ch);
+                }
+                if (writing) {
+                    if (writeProgress < 0) {
+                        // Some of the frames may have reached the node
+                        for (int i = 0; i < frameEnds.size(); i++) {
+                            deliveryFailed(messages.get(sent + i), ex);
+                        }
+                        sent += frameEnds.size();
+                    } else {
+                        int delivered = 0;
+                        while (delivered < frameEnds.size()
+                                && frameEnds.get(delivered) <= writeProgress) {
+                            delivered++;
+                        }
+                        releaseBuffers(messages, sent, delivered);
+                        sent += delivered;
+                    }
+                }
+                for (NodeMessage message : messages.subList(sent, messages
+                        .size())) {
+                    sendFailed(message, ex);
+                }
+            } finally {
+                if (data != null) {
+                    data.release();
+                }
+                logger.exiting(method);
+            }
+        }
+
+        /**
+         * Let the messages written out reuse their buffers, they are not
+         * going to be resent.
+         *
+         * @param messages
+         * @param start
+         * @param count
+         */
+        private void releaseBuffers(List<NodeMessage> messages, int start,
+                int count) {
+            for (int i = start; i < start + count; i++) {
+                messages.get(i).releaseBuffers();
+            }
+        }
+
+        /**
+         * Returns the channel to the node, connects if there is no channel
+         * yet.
+         *
+         * @param targetID
+         * @return
+         * @throws Exception
+         */
+        private SocketChannel getChannel(Integer targetID) throws Exception {
+            SocketChannel ch = null;
+            boolean connected = true;
+            boolean handshake = false;
+            try {
+                synchronized (channels) {
+                    ch = channels.get(targetID);
+                }
+                if (ch == null) {
+                    int targetNode = targetID.intValue();
+                    String key = (targetNode == 0 ? "xdb.coordinator"
+                            : "xdb.node." + targetNode);
+                    String host = Property.get(key + ".host");
+                    int port = Property.getInt(key + ".port", -1);
+                    InetAddress addr = InetAddress.getByName(host);
+                    ch = SocketChannel.open();
+                    ch.configureBlocking(false);
+                    connected = ch.connect(new InetSocketAddress(addr, port));
+                    registerChannel(targetID, ch);
+                    handshake = true;
+                } else {
+                    logger.log(Level.DEBUG,
+                            "Found existing channel to send: %0%",
+                            new Object[] { ch });
+                }
+                while (!connected) {
+                    waitForChannel(ch, SelectionKey.OP_CONNECT);
+                    connected = ch.finishConnect();
+                }
+                if (handshake) {
+                    // Introduce ourselves first
+                    write(ch, createHandshake(targetID, true));
+                }
+                return ch;
+            } catch (Exception e) {
+                if (ch != null) {
+                    closeChannel(ch);
+                }
+                throw e;
+            }
+        }
+
+        /**
+         * Message size, written before the message
+         */
+        private ByteBuffer header = ByteBuffer.allocateDirect(4);
+
         /**
          *
          * @param ch
@@ -517,17 +1095,18 @@ public class SocketConnector extends AbstractConnector {
             try {
 
                 logger.debug("Writing " + msg + " to " + ch);
-                byte[] msgBytes = NodeMessage.getBytes(msg);
-                byte[] buf = new byte[4 + msgBytes.length];
-                buf[0] = (byte) ((msgBytes.length >> 24) & 0xFF);
-                buf[1] = (byte) ((msgBytes.length >> 16) & 0xFF);
-                buf[2] = (byte) ((msgBytes.length >> 8) & 0xFF);
-                buf[3] = (byte) (msgBytes.length & 0xFF);
-                System.arraycopy(msgBytes, 0, buf, 4, msgBytes.length);
-                ByteBuffer bb = ByteBuffer.wrap(buf);
-                ch.write(bb);
-                while (bb.hasRemaining()) {
-                    ch.write(bb);
+                ByteBufferOutputStream body = new ByteBufferOutputStream(
+                        bufferPool, 0x1000);
+                try {
+                    NodeMessage.writeTo(msg, body, useBinaryCodec(msg));
+                    header.clear();
+                    header.putInt(body.size());
+                    header.flip();
+                    // Gathering write of the size and the message
+                    writeData(ch, msg.getTargetNodeID(), new ByteBuffer[] {
+                            header, body.getBuffer() });
+                } finally {
+                    body.release();
                 }
 
             } finally {
@@ -535,6 +1114,93 @@ public class SocketConnector extends AbstractConnector {
             }
         }
 
+        /**
+         * Appends the message preceded by its size to the buffer
+         *
+         * @param data
+         * @param msg
+         * @throws IOException
+         */
+        private void writeFrame(ByteBufferOutputStream data, NodeMessage msg)
+                throws IOException {
+            int start = data.size();
+            // Placeholder for the size
+            data.write(SIZE_PLACEHOLDER);
+            NodeMessage.writeTo(msg, data, useBinaryCodec(msg));
+            data.putInt(start, data.size() - start - 4);
+        }
+
+        /**
+         * Writes out all remaining data of the buffers, compressed if
+         * compression is negotiated with the node
+         *
+         * @param ch
+         * @param targetID
+         * @param data
+         * @throws IOException
+         */
+        private void writeData(SocketChannel ch, Integer targetID,
+                ByteBuffer[] data) throws IOException {
+            long remaining = 0;
+            for (ByteBuffer buffer : data) {
+                remaining += buffer.remaining();
+            }
+            boolean compressed = false;
+            ChannelDeflater deflater = getDeflater(ch, targetID);
+            if (deflater != null && remaining >= compressionThreshold) {
+                compressed = true;
+                long start = getCpuTime();
+                ByteBuffer block = deflater.compress(data);
+                getStatistics(targetID).sent(remaining, block.remaining(),
+                        getCpuTime() - start);
+                data = new ByteBuffer[] { block };
+                remaining = block.remaining();
+            }
+            writeProgress = 0;
+            while (true) {
+                long written = ch.write(data);
+                if (written > 0) {
+                    writeProgress = compressed ? -1 : writeProgress + written;
+                }
+                if ((remaining -= written) <= 0) {
+                    break;
+                }
+                waitForChannel(ch, SelectionKey.OP_WRITE);
+            }
+        }
+
+        /**
+         * Blocks until the channel is ready for specified operation.
+         *
+         * @param ch
+         * @param ops
+         *                OP_CONNECT or OP_WRITE
+         * @throws IOException
+         */
+        private void waitForChannel(SocketChannel ch, int ops)
+                throws IOException {
+            if (writeSelector == null) {
+                writeSelector = Selector.open();
+                synchronized (writeSelectors) {
+                    writeSelectors.add(writeSelector);
+                }
+            }
+            SelectionKey key = ch.keyFor(writeSelector);
+            if (key == null) {
+                key = ch.register(writeSelector, ops);
+            } else {
+                key.interestOps(ops);
+            }
+            try {
+                writeSelector.select(1000);
+            } finally {
+                writeSelector.selectedKeys().clear();
+                if (key.isValid()) {
+                    key.interestOps(0);
+                }
+            }
+        }
+
         /**
          *
          * @param message
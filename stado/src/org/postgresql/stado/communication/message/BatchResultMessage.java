@@ -25,6 +25,10 @@
  */
 package org.postgresql.stado.communication.message;
 
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
 /**
  * 
  * 
@@ -55,4 +59,21 @@ public class BatchResultMessage extends NodeMessage {
     public int[] getBatchResult() {
         return batchResult == null ? new int[0] : batchResult;
     }
+
+    @Override
+    protected byte getBinaryClassCode() {
+        return NodeMessageCodec.CLASS_BATCH_RESULT;
+    }
+
+    @Override
+    protected void writeBinary(DataOutputStream out) throws IOException {
+        super.writeBinary(out);
+        NodeMessageCodec.writeInts(out, batchResult);
+    }
+
+    @Override
+    protected void readBinary(DataInputStream in) throws IOException {
+        super.readBinary(in);
+        batchResult = NodeMessageCodec.readInts(in);
+    }
 }
@@ -25,6 +25,10 @@
  */
 package org.postgresql.stado.communication.message;
 
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
 /**
  * 
  * 
@@ -54,4 +58,21 @@ public class CommandExtMessage extends CommandMessage {
     public void setAutocommit(boolean autocommit) {
         this.autocommit = autocommit;
     }
+
+    @Override
+    protected byte getBinaryClassCode() {
+        return NodeMessageCodec.CLASS_COMMAND_EXT;
+    }
+
+    @Override
+    protected void writeBinary(DataOutputStream out) throws IOException {
+        super.writeBinary(out);
+        out.writeBoolean(autocommit);
+    }
+
+    @Override
+    protected void readBinary(DataInputStream in) throws IOException {
+        super.readBinary(in);
+        autocommit = in.readBoolean();
+    }
 }
@@ -25,6 +25,10 @@
  */
 package org.postgresql.stado.communication.message;
 
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
 /**
  * 
  * 
@@ -78,4 +82,21 @@ public class CommandMessage extends NodeMessage {
     public String getTargetTable() {
         return command;
     }
+
+    @Override
+    protected byte getBinaryClassCode() {
+        return NodeMessageCodec.CLASS_COMMAND;
+    }
+
+    @Override
+    protected void writeBinary(DataOutputStream out) throws IOException {
+        super.writeBinary(out);
+        NodeMessageCodec.writeString(out, command);
+    }
+
+    @Override
+    protected void readBinary(DataInputStream in) throws IOException {
+        super.readBinary(in);
+        command = NodeMessageCodec.readString(in);
+    }
 }
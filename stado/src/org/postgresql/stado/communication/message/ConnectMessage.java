@@ -25,6 +25,10 @@
  */
 package org.postgresql.stado.communication.message;
 
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
 /**
  * 
  * 
@@ -186,4 +190,35 @@ public class ConnectMessage extends CommandMessage {
     public void setTimeOut(long timeOut) {
         this.timeOut = timeOut;
     }
+
+    @Override
+    protected byte getBinaryClassCode() {
+        return NodeMessageCodec.CLASS_CONNECT;
+    }
+
+    @Override
+    protected void writeBinary(DataOutputStream out) throws IOException {
+        super.writeBinary(out);
+        NodeMessageCodec.writeString(out, database);
+        NodeMessageCodec.writeString(out, jdbcDriver);
+        NodeMessageCodec.writeString(out, jdbcString);
+        NodeMessageCodec.writeString(out, jdbcUser);
+        NodeMessageCodec.writeString(out, jdbcPassword);
+        out.writeInt(maxConns);
+        out.writeInt(minConns);
+        out.writeLong(timeOut);
+    }
+
+    @Override
+    protected void readBinary(DataInputStream in) throws IOException {
+        super.readBinary(in);
+        database = NodeMessageCodec.readString(in);
+        jdbcDriver = NodeMessageCodec.readString(in);
+        jdbcString = NodeMessageCodec.readString(in);
+        jdbcUser = NodeMessageCodec.readString(in);
+        jdbcPassword = NodeMessageCodec.readString(in);
+        maxConns = in.readInt();
+        minConns = in.readInt();
+        timeOut = in.readLong();
+    }
 }
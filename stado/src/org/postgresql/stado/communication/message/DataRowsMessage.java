@@ -25,6 +25,9 @@
  */
 package org.postgresql.stado.communication.message;
 
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
 import java.util.Arrays;
 import java.util.Collection;
 
@@ -140,4 +143,50 @@ public class DataRowsMessage extends NodeMessage {
         }
         return message;
     }
+
+    @Override
+    protected byte getBinaryClassCode() {
+        return NodeMessageCodec.CLASS_DATA_ROWS;
+    }
+
+    /**
+     * Only filled elements of the row buffer are written. Temp table list
+     * has no row count and is written as a whole.
+     */
+    @Override
+    protected void writeBinary(DataOutputStream out) throws IOException {
+        super.writeBinary(out);
+        out.writeLong(dataSeqNo);
+        out.writeInt(rowCount);
+        out.writeInt(rowSize);
+        out.writeBoolean(autocommit);
+        if (rowData == null) {
+            out.writeInt(-1);
+        } else {
+            out.writeInt(rowData.length);
+            int count = rowCount > 0 ? rowCount : rowData.length;
+            for (int i = 0; i < count; i++) {
+                NodeMessageCodec.writeString(out, rowData[i]);
+            }
+        }
+    }
+
+    @Override
+    protected void readBinary(DataInputStream in) throws IOException {
+        super.readBinary(in);
+        dataSeqNo = in.readLong();
+        rowCount = in.readInt();
+        rowSize = in.readInt();
+        autocommit = in.readBoolean();
+        int length = in.readInt();
+        if (length < 0) {
+            rowData = null;
+        } else {
+            rowData = new String[length];
+            int count = rowCount > 0 ? rowCount : length;
+            for (int i = 0; i < count; i++) {
+                rowData[i] = NodeMessageCodec.readString(in);
+            }
+        }
+    }
 }
@@ -0,0 +1,124 @@
+/*****************************************************************************
+ * Copyright (C) 2008 EnterpriseDB Corporation.
+ * Copyright (C) 2011 Stado Global Development Group.
+ *
+ * This file is part of Stado.
+ *
+ * Stado is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Stado is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Stado.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * You can find Stado at http://www.stado.us
+ *
+ ****************************************************************************/
+/*
+ * HandshakeMessage.java
+ *
+ */
+
+package org.postgresql.stado.communication.message;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * Message exchanged by connectors when new connection is established to
+ * negotiate connection parameters. It is consumed by the connector and is not
+ * passed to message listeners.
+ */
+public class HandshakeMessage extends NodeMessage {
+    private static final long serialVersionUID = 4310517925836174209L;
+
+    /**
+     * Highest version of binary message codec the sender supports, 0 if
+     * sender does not use the binary codec
+     */
+    private int codecVersion;
+
+    /**
+     * Compression the sender accepts on the connection, 0 for none
+     */
+    private int compression;
+
+    /**
+     * Whether the recipient should reply with its own handshake
+     */
+    private boolean replyRequested;
+
+    /** Parameterless constructor required for serialization */
+    public HandshakeMessage() {
+    }
+
+    /**
+     * @param messageType
+     */
+    protected HandshakeMessage(int messageType) {
+        super(messageType);
+    }
+
+    @Override
+    public int getCodecVersion() {
+        return codecVersion;
+    }
+
+    @Override
+    public void setCodecVersion(int version) {
+        codecVersion = version;
+    }
+
+    @Override
+    public int getCompression() {
+        return compression;
+    }
+
+    @Override
+    public void setCompression(int compression) {
+        this.compression = compression;
+    }
+
+    @Override
+    public boolean isReplyRequested() {
+        return replyRequested;
+    }
+
+    @Override
+    public void setReplyRequested(boolean value) {
+        replyRequested = value;
+    }
+
+    @Override
+    protected String getDescription() {
+        return ", Codec: " + codecVersion + ", Compression: " + compression;
+    }
+
+    @Override
+    protected byte getBinaryClassCode() {
+        return NodeMessageCodec.CLASS_HANDSHAKE;
+    }
+
+    @Override
+    protected void writeBinary(DataOutputStream out) throws IOException {
+        super.writeBinary(out);
+        out.writeInt(codecVersion);
+        out.writeInt(compression);
+        out.writeBoolean(replyRequested);
+    }
+
+    @Override
+    protected void readBinary(DataInputStream in) throws IOException {
+        super.readBinary(in);
+        codecVersion = in.readInt();
+        compression = in.readInt();
+        replyRequested = in.readBoolean();
+    }
+}
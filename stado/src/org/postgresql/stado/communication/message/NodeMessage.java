@@ -24,17 +24,19 @@ package org.postgresql.stado.communication.message;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.NotSerializableException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
+import java.io.OutputStream;
 import java.io.Serializable;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
-import java.util.zip.ZipOutputStream;
 
 import org.postgresql.stado.common.util.XLogger;
 import org.postgresql.stado.engine.NodeResultSetImpl;
@@ -160,6 +162,12 @@ public class NodeMessage implements Serializable, Cloneable {
 
     public static final int MSG_RESULT_ROWS = 43;
 
+    /**
+     * Coordinator allows node to send more MSG_RESULT_ROWS without
+     * MSG_RESULT_ROWS_REQUEST
+     */
+    public static final int MSG_RESULT_ROWS_CREDIT = 49;
+
     public static final int MSG_INIT_PROPERTIES = 44;
 
     public static final int MSG_START_LOADERS = 45;
@@ -170,6 +178,8 @@ public class NodeMessage implements Serializable, Cloneable {
 
     public static final int MSG_END_SEND_ROWS = 47;
 
+    public static final int MSG_CONNECTOR_HANDSHAKE = 48;
+
     // This is likely temporary, until NodeThreads are pooled and persist
     public static final int MSG_STOP_THREAD = 1001;
 
@@ -226,6 +236,7 @@ public class NodeMessage implements Serializable, Cloneable {
         case MSG_RESULT_CLOSE:
         case MSG_RESULT_ROWS_REQUEST:
         case MSG_RESULT_ROWS:
+        case MSG_RESULT_ROWS_CREDIT:
             return new ResultSetMessage(messageType);
 
         case MSG_EXECUTE_STEP_RUN:
@@ -275,66 +286,72 @@ public class NodeMessage implements Serializable, Cloneable {
         case MSG_END_SEND_ROWS:
             return new SendRowsMessage(messageType);
 
+        case MSG_CONNECTOR_HANDSHAKE:
+            return new HandshakeMessage(messageType);
+
         default:
             return new NodeMessage(messageType);
         }
     }
 
     public static final byte[] getBytes(NodeMessage message) throws IOException {
-        // Never compress by default
-        return getBytes(message, Integer.MAX_VALUE);
+        return getBytes(message, false);
     }
 
-    public static final byte[] getBytes(NodeMessage message,
-            int compressThreshold) throws IOException {
+    /**
+     * Encode the message. Messages are not compressed individually, socket
+     * connections may compress the whole stream instead.
+     *
+     * @param message
+     *                the message to encode
+     * @param binary
+     *                use binary codec if message supports it
+     * @return
+     * @throws IOException
+     */
+    public static final byte[] getBytes(NodeMessage message, boolean binary)
+            throws IOException {
         byte[] aMessage = null;
         // TODO find out good initial size
         ByteArrayOutputStream baos = new ByteArrayOutputStream();
         try {
-            // Indicate not compressed stream
-            baos.write(0);
-            ObjectOutputStream oos = new ObjectOutputStream(baos);
-            try {
-                try {
-                    oos.writeObject(message);
-                } catch (NotSerializableException e) {
-                    logger.catching(e);
-                    throw new IOException("Can not serialize message "
-                            + message);
-                }
-                oos.flush();
-                aMessage = baos.toByteArray();
-                logger.debug("Encode message, size: " + aMessage.length);
-            } finally {
-                oos.close();
-            }
+            writeTo(message, baos, binary);
+            aMessage = baos.toByteArray();
+            logger.debug("Encode message, size: " + aMessage.length);
         } finally {
             baos.close();
         }
-        if (aMessage.length < compressThreshold) {
-            return aMessage;
-        }
+        return aMessage;
+    }
 
-        // TODO find out good initial size
-        baos = new ByteArrayOutputStream();
+    /**
+     * Writes message to the stream, including format
+     * indicator. The stream is not closed.
+     *
+     * @param message
+     *                the message to encode
+     * @param os
+     *                the stream to write to
+     * @param binary
+     *                use binary codec if message supports it
+     * @throws IOException
+     */
+    public static final void writeTo(NodeMessage message, OutputStream os,
+            boolean binary) throws IOException {
+        if (binary && NodeMessageCodec.isSupported(message)) {
+            NodeMessageCodec.encode(message, os);
+            return;
+        }
+        // Indicate not compressed stream
+        os.write(NodeMessageCodec.FORMAT_SERIALIZED);
+        ObjectOutputStream oos = new ObjectOutputStream(os);
         try {
-            // Indicate compressed stream
-            baos.write(1);
-            ZipOutputStream zos = new ZipOutputStream(baos);
-            try {
-                zos.putNextEntry(new ZipEntry("x"));
-                // Skip compression indicator
-                zos.write(aMessage, 1, aMessage.length - 1);
-                zos.closeEntry();
-                zos.flush();
-                logger.debug("Compress message, size: " + baos.size());
-                return baos.toByteArray();
-            } finally {
-                zos.close();
-            }
-        } finally {
-            baos.close();
+            oos.writeObject(message);
+        } catch (NotSerializableException e) {
+            logger.catching(e);
+            throw new IOException("Can not serialize message " + message);
         }
+        oos.flush();
     }
 
     public static final NodeMessage decodeBytes(byte[] bytes)
@@ -345,35 +362,45 @@ public class NodeMessage implements Serializable, Cloneable {
     public static final NodeMessage decodeBytes(byte[] bytes, int offset,
             int length)
             throws IOException, ClassNotFoundException {
-        ByteArrayInputStream bais = new ByteArrayInputStream(bytes, offset + 1,
-                length - 1);
+        ByteArrayInputStream bais = new ByteArrayInputStream(bytes, offset,
+                length);
         try {
-            if (bytes[offset] == 0) {
-                ObjectInputStream ois = new ObjectInputStream(bais);
-                try {
-                    return (NodeMessage) ois.readObject();
-                } finally {
-                    ois.close();
-                }
-            } else {
-                ZipInputStream zis = new ZipInputStream(bais);
-                try {
-                    zis.getNextEntry();
-                    ObjectInputStream ois = new ObjectInputStream(zis);
-                    try {
-                        return (NodeMessage) ois.readObject();
-                    } finally {
-                        ois.close();
-                    }
-                } finally {
-                    zis.close();
-                }
-            }
+            return readFrom(bais);
         } finally {
             bais.close();
         }
     }
 
+    /**
+     * Reads message from the stream, format is determined by the indicator
+     * preceding message data.
+     *
+     * @param is
+     *                the stream to read from
+     * @return decoded message
+     * @throws IOException
+     * @throws ClassNotFoundException
+     */
+    public static final NodeMessage readFrom(InputStream is)
+            throws IOException, ClassNotFoundException {
+        int format = is.read();
+        if (format == NodeMessageCodec.FORMAT_BINARY) {
+            return NodeMessageCodec.decode(is);
+        } else if (format == NodeMessageCodec.FORMAT_SERIALIZED) {
+            ObjectInputStream ois = new ObjectInputStream(is);
+            return (NodeMessage) ois.readObject();
+        } else if (format == NodeMessageCodec.FORMAT_COMPRESSED) {
+            // Individually compressed messages are not produced any more,
+            // but can still be sent by nodes running older version
+            ZipInputStream zis = new ZipInputStream(is);
+            zis.getNextEntry();
+            ObjectInputStream ois = new ObjectInputStream(zis);
+            return (NodeMessage) ois.readObject();
+        } else {
+            throw new IOException("Unknown message format: " + format);
+        }
+    }
+
     static public String getMessageTypeString(int messageType) {
         String msgTypeStr = "";
 
@@ -528,6 +555,9 @@ public class NodeMessage implements Serializable, Cloneable {
         case MSG_RESULT_ROWS:
             msgTypeStr = "MSG_RESULT_ROWS";
             break;
+        case MSG_RESULT_ROWS_CREDIT:
+            msgTypeStr = "MSG_RESULT_ROWS_CREDIT";
+            break;
         case MSG_STOP_THREAD:
             msgTypeStr = "MSG_STOP_THREAD";
             break;
@@ -543,6 +573,9 @@ public class NodeMessage implements Serializable, Cloneable {
         case MSG_START_LOADERS_ACK:
             msgTypeStr = "MSG_START_LOADERS_ACK";
             break;
+        case MSG_CONNECTOR_HANDSHAKE:
+            msgTypeStr = "MSG_CONNECTOR_HANDSHAKE";
+            break;
         default:
             msgTypeStr = (new Integer(messageType)).toString();
         }
@@ -674,6 +707,63 @@ public class NodeMessage implements Serializable, Cloneable {
         return this.requestId;
     }
 
+    /**
+     * Returns code of the message class for the binary codec.
+     * Subclasses supporting binary format must override this method, others
+     * are encoded using Java serialization.
+     *
+     * @return the class code or NodeMessageCodec.CLASS_UNKNOWN
+     * @see NodeMessageCodec
+     */
+    protected byte getBinaryClassCode() {
+        return getClass() == NodeMessage.class ? NodeMessageCodec.CLASS_NODE_MESSAGE
+                : NodeMessageCodec.CLASS_UNKNOWN;
+    }
+
+    /**
+     * Writes message fields in binary format. Subclasses write their own
+     * fields after calling this method.
+     *
+     * @param out
+     * @throws IOException
+     */
+    protected void writeBinary(DataOutputStream out) throws IOException {
+        out.writeInt(msgType);
+        out.writeInt(sourceNodeID);
+        out.writeInt(requestId);
+        NodeMessageCodec.writeInteger(out, sessionID);
+        if (targetNodeIDs == null) {
+            out.writeInt(-1);
+        } else {
+            out.writeInt(targetNodeIDs.length);
+            for (Integer targetNodeID : targetNodeIDs) {
+                NodeMessageCodec.writeInteger(out, targetNodeID);
+            }
+        }
+    }
+
+    /**
+     * Reads message fields written by writeBinary()
+     *
+     * @param in
+     * @throws IOException
+     */
+    protected void readBinary(DataInputStream in) throws IOException {
+        msgType = in.readInt();
+        sourceNodeID = in.readInt();
+        requestId = in.readInt();
+        sessionID = NodeMessageCodec.readInteger(in);
+        int count = in.readInt();
+        if (count < 0) {
+            targetNodeIDs = null;
+        } else {
+            targetNodeIDs = new Integer[count];
+            for (int i = 0; i < count; i++) {
+                targetNodeIDs[i] = NodeMessageCodec.readInteger(in);
+            }
+        }
+    }
+
     /*
      * To track message status in a Connector
      */
@@ -713,6 +803,16 @@ public class NodeMessage implements Serializable, Cloneable {
                 "Method is not implemented: setResultSetData(byte[])");
     }
 
+    public int getResultSetDataLength() {
+        throw new XDBServerException(
+                "Method is not implemented: getResultSetDataLength()");
+    }
+
+    public void setResultSetData(byte[] resultSetData, int length) {
+        throw new XDBServerException(
+                "Method is not implemented: setResultSetData(byte[], int)");
+    }
+
     public boolean isResultSetHasMoreRows() {
         throw new XDBServerException(
                 "Method is not implemented: isResultSetHasMoreRows()");
@@ -723,6 +823,58 @@ public class NodeMessage implements Serializable, Cloneable {
                 "Method is not implemented: setResultSetHasMoreRows(boolean)");
     }
 
+    public int getResultRowsCredit() {
+        throw new XDBServerException(
+                "Method is not implemented: getResultRowsCredit()");
+    }
+
+    public void setResultRowsCredit(int credit) {
+        throw new XDBServerException(
+                "Method is not implemented: setResultRowsCredit(int)");
+    }
+
+    /**
+     * Called by connector when message is written out and will not be
+     * sent again, so pooled buffers referenced by the message can be
+     * reused. Does nothing by default.
+     */
+    public void releaseBuffers() {
+    }
+
+    /*
+     * Methods for message carrying connector handshake
+     * MSG_CONNECTOR_HANDSHAKE
+     */
+    public int getCodecVersion() {
+        throw new XDBServerException(
+                "Method is not implemented: getCodecVersion()");
+    }
+
+    public void setCodecVersion(int version) {
+        throw new XDBServerException(
+                "Method is not implemented: setCodecVersion(int)");
+    }
+
+    public int getCompression() {
+        throw new XDBServerException(
+                "Method is not implemented: getCompression()");
+    }
+
+    public void setCompression(int compression) {
+        throw new XDBServerException(
+                "Method is not implemented: setCompression(int)");
+    }
+
+    public boolean isReplyRequested() {
+        throw new XDBServerException(
+                "Method is not implemented: isReplyRequested()");
+    }
+
+    public void setReplyRequested(boolean value) {
+        throw new XDBServerException(
+                "Method is not implemented: setReplyRequested(boolean)");
+    }
+
     /*
      * Methods for message carrying step detail MSG_SEND_DATA
      * MSG_EXECUTE_STEP_RUN MSG_EXECUTE_STEP_INIT
@@ -0,0 +1,298 @@
+/*****************************************************************************
+ * Copyright (C) 2008 EnterpriseDB Corporation.
+ * Copyright (C) 2011 Stado Global Development Group.
+ *
+ * This file is part of Stado.
+ *
+ * Stado is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Stado is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Stado.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * You can find Stado at http://www.stado.us
+ *
+ ****************************************************************************/
+/*
+ * NodeMessageCodec.java
+ *
+ */
+
+package org.postgresql.stado.communication.message;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Hand-written binary encoding of the NodeMessages. Every message class
+ * supporting the format writes its own fields after the fields of its
+ * parent, so there is no class metadata on the wire, just a class code.
+ * Messages carrying complex object graphs (StepDetail, exceptions) are not
+ * supported and fall back to Java serialization.
+ * <p>
+ * Encoded message layout: format indicator (FORMAT_BINARY), codec version,
+ * class code, message fields.
+ */
+public class NodeMessageCodec {
+
+    /**
+     * Format indicator: Java serialization
+     */
+    public static final byte FORMAT_SERIALIZED = 0;
+
+    /**
+     * Format indicator: Java serialization, compressed. Only decoded, for
+     * compatibility.
+     */
+    public static final byte FORMAT_COMPRESSED = 1;
+
+    /**
+     * Format indicator: binary codec
+     */
+    public static final byte FORMAT_BINARY = 2;
+
+    /**
+     * Version of the binary format produced by this class. Version 0 means
+     * binary format is not supported.
+     * Version 2 adds byte and ack wait counts to SendRowsMessage.
+     */
+    public static final int VERSION = 2;
+
+    /*
+     * Class codes
+     */
+    public static final byte CLASS_UNKNOWN = -1;
+
+    public static final byte CLASS_NODE_MESSAGE = 0;
+
+    public static final byte CLASS_COMMAND = 1;
+
+    public static final byte CLASS_COMMAND_EXT = 2;
+
+    public static final byte CLASS_CONNECT = 3;
+
+    public static final byte CLASS_DATA_ROWS = 4;
+
+    public static final byte CLASS_BATCH_RESULT = 5;
+
+    public static final byte CLASS_RESULT_SET = 6;
+
+    public static final byte CLASS_SEND_ROWS = 7;
+
+    public static final byte CLASS_UPDATE_RESULT = 8;
+
+    public static final byte CLASS_HANDSHAKE = 9;
+
+    private static final String ENCODING = "UTF-8";
+
+    /** Utility class */
+    private NodeMessageCodec() {
+    }
+
+    /**
+     * @param message
+     * @return true if the message can be encoded by the binary codec
+     */
+    public static boolean isSupported(NodeMessage message) {
+        return message.getBinaryClassCode() != CLASS_UNKNOWN;
+    }
+
+    /**
+     * Encodes the message using the binary format.
+     *
+     * @param message
+     * @return encoded message, including the format indicator
+     * @throws IOException
+     *                 if message does not support binary format
+     */
+    public static byte[] encode(NodeMessage message) throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream(256);
+        encode(message, baos);
+        return baos.toByteArray();
+    }
+
+    /**
+     * Writes the message to the stream using the binary format.
+     *
+     * @param message
+     * @param os
+     * @throws IOException
+     *                 if message does not support binary format
+     */
+    public static void encode(NodeMessage message, OutputStream os)
+            throws IOException {
+        byte classCode = message.getBinaryClassCode();
+        if (classCode == CLASS_UNKNOWN) {
+            throw new IOException("Binary format is not supported for "
+                    + message.getClass().getName());
+        }
+        DataOutputStream out = new DataOutputStream(os);
+        out.writeByte(FORMAT_BINARY);
+        out.writeByte(VERSION);
+        out.writeByte(classCode);
+        message.writeBinary(out);
+        out.flush();
+    }
+
+    /**
+     * Decodes the message encoded using the binary format.
+     *
+     * @param bytes
+     * @param offset
+     *                position of the format indicator
+     * @param length
+     * @return decoded message
+     * @throws IOException
+     */
+    public static NodeMessage decode(byte[] bytes, int offset, int length)
+            throws IOException {
+        return decode(new ByteArrayInputStream(bytes, offset + 1, length - 1));
+    }
+
+    /**
+     * Reads the message encoded using the binary format.
+     *
+     * @param is
+     *                the stream positioned after the format indicator
+     * @return decoded message
+     * @throws IOException
+     */
+    public static NodeMessage decode(InputStream is) throws IOException {
+        DataInputStream in = new DataInputStream(is);
+        int version = in.readUnsignedByte();
+        if (version > VERSION) {
+            throw new IOException("Unsupported binary message version: "
+                    + version);
+        }
+        NodeMessage message = newMessage(in.readByte());
+        message.readBinary(in);
+        return message;
+    }
+
+    /**
+     * Creates empty message instance of the class identified by the code
+     *
+     * @param classCode
+     * @return
+     * @throws IOException
+     */
+    private static NodeMessage newMessage(byte classCode) throws IOException {
+        switch (classCode) {
+        case CLASS_NODE_MESSAGE:
+            return new NodeMessage();
+        case CLASS_COMMAND:
+            return new CommandMessage();
+        case CLASS_COMMAND_EXT:
+            return new CommandExtMessage();
+        case CLASS_CONNECT:
+            return new ConnectMessage();
+        case CLASS_DATA_ROWS:
+            return new DataRowsMessage();
+        case CLASS_BATCH_RESULT:
+            return new BatchResultMessage();
+        case CLASS_RESULT_SET:
+            return new ResultSetMessage();
+        case CLASS_SEND_ROWS:
+            return new SendRowsMessage();
+        case CLASS_UPDATE_RESULT:
+            return new UpdateResultMessage();
+        case CLASS_HANDSHAKE:
+            return new HandshakeMessage();
+        default:
+            throw new IOException("Unknown binary message class: " + classCode);
+        }
+    }
+
+    /*
+     * Field helpers, used by message classes
+     */
+
+    static void writeString(DataOutputStream out, String value)
+            throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+        } else {
+            byte[] bytes = value.getBytes(ENCODING);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+    }
+
+    static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, ENCODING);
+    }
+
+    static void writeBytes(DataOutputStream out, byte[] value)
+            throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+        } else {
+            out.writeInt(value.length);
+            out.write(value);
+        }
+    }
+
+    static byte[] readBytes(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return bytes;
+    }
+
+    static void writeInts(DataOutputStream out, int[] value)
+            throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+        } else {
+            out.writeInt(value.length);
+            for (int element : value) {
+                out.writeInt(element);
+            }
+        }
+    }
+
+    static int[] readInts(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        int[] value = new int[length];
+        for (int i = 0; i < length; i++) {
+            value[i] = in.readInt();
+        }
+        return value;
+    }
+
+    static void writeInteger(DataOutputStream out, Integer value)
+            throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeInt(value.intValue());
+        }
+    }
+
+    static Integer readInteger(DataInputStream in) throws IOException {
+        return in.readBoolean() ? new Integer(in.readInt()) : null;
+    }
+}
@@ -25,8 +25,14 @@
  */
 package org.postgresql.stado.communication.message;
 
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.sql.SQLException;
 
+import org.postgresql.stado.common.util.ByteArrayPool;
 import org.postgresql.stado.common.util.XLogger;
 import org.postgresql.stado.engine.NodeResultSetImpl;
 
@@ -47,7 +53,22 @@ public class ResultSetMessage extends NodeMessage {
 
     private boolean resultSetHasMoreRows;
 
-    private byte[] resultSetData = null;
+    /**
+     * Serialized by writeObject(), only the valid bytes are written
+     */
+    private transient byte[] resultSetData = null;
+
+    /**
+     * Number of valid bytes in resultSetData, which may be a larger pooled
+     * buffer. If 0 all bytes are valid.
+     */
+    private transient int resultSetDataLength = 0;
+
+    /**
+     * Number of MSG_RESULT_ROWS the node may send,
+     * for MSG_RESULT_ROWS_CREDIT only
+     */
+    private int resultRowsCredit = 0;
 
     /** Parameterless constructor required for serialization */
     public ResultSetMessage() {
@@ -107,6 +128,107 @@ public class ResultSetMessage extends NodeMessage {
 
     @Override
     public void setResultSetData(byte[] resultSetData) {
+        setResultSetData(resultSetData, 0);
+    }
+
+    @Override
+    public int getResultSetDataLength() {
+        return resultSetDataLength == 0 && resultSetData != null ? resultSetData.length
+                : resultSetDataLength;
+    }
+
+    @Override
+    public void setResultSetData(byte[] resultSetData, int length) {
         this.resultSetData = resultSetData;
+        resultSetDataLength = length;
+    }
+
+    /**
+     * Packet buffer is returned to the pool, once the message is written out
+     */
+    @Override
+    public void releaseBuffers() {
+        if (resultSetDataLength > 0) {
+            ByteArrayPool.PACKET_POOL.release(resultSetData);
+            resultSetData = null;
+            resultSetDataLength = 0;
+        }
+    }
+
+    @Override
+    public int getResultRowsCredit() {
+        return resultRowsCredit;
+    }
+
+    @Override
+    public void setResultRowsCredit(int credit) {
+        resultRowsCredit = credit;
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        if (resultSetData == null) {
+            out.writeInt(-1);
+        } else {
+            // Only valid part of the packet buffer
+            int length = getResultSetDataLength();
+            out.writeInt(length);
+            out.write(resultSetData, 0, length);
+        }
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException,
+            ClassNotFoundException {
+        in.defaultReadObject();
+        int length = in.readInt();
+        resultSetData = length < 0 ? null : new byte[length];
+        if (length > 0) {
+            in.readFully(resultSetData);
+        }
+    }
+
+    @Override
+    protected byte getBinaryClassCode() {
+        return NodeMessageCodec.CLASS_RESULT_SET;
+    }
+
+    @Override
+    protected void writeBinary(DataOutputStream out) throws IOException {
+        super.writeBinary(out);
+        NodeMessageCodec.writeString(out, resultSetID);
+        out.writeBoolean(resultSetHasMoreRows);
+        if (resultSetData == null) {
+            out.writeInt(-1);
+        } else {
+            // Only valid part of the packet buffer
+            int length = getResultSetDataLength();
+            out.writeInt(length);
+            out.write(resultSetData, 0, length);
+        }
+        if (getMessageType() == MSG_RESULT_ROWS_CREDIT) {
+            out.writeInt(resultRowsCredit);
+        }
+    }
+
+    @Override
+    protected void readBinary(DataInputStream in) throws IOException {
+        super.readBinary(in);
+        resultSetID = NodeMessageCodec.readString(in);
+        resultSetHasMoreRows = in.readBoolean();
+        int length = in.readInt();
+        if (length < 0) {
+            resultSetData = null;
+            resultSetDataLength = 0;
+        } else {
+            // Read the packet into pooled buffer, NodeResultSetImpl returns
+            // it to the pool after the rows are read
+            resultSetData = length == 0 ? new byte[0]
+                    : ByteArrayPool.PACKET_POOL.acquire(length);
+            in.readFully(resultSetData, 0, length);
+            resultSetDataLength = length;
+        }
+        if (getMessageType() == MSG_RESULT_ROWS_CREDIT) {
+            resultRowsCredit = in.readInt();
+        }
     }
 }
@@ -27,6 +27,10 @@
 
 package org.postgresql.stado.communication.message;
 
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
 /**
  *
  * 
@@ -45,6 +49,10 @@ public class SendRowsMessage extends NodeMessage {
     
     private int destNodeForRows = -1;
 
+    private long numBytesSent = 0;
+
+    private long ackWaitMillis = 0;
+
     /**
      * @param messageType
      */
@@ -82,5 +90,54 @@ public class SendRowsMessage extends NodeMessage {
     {
         return destNodeForRows;
     }      
-}
 
+    public void setNumBytesSent(long value)
+    {
+        numBytesSent = value;
+    }
+
+    public long getNumBytesSent()
+    {
+        return numBytesSent;
+    }
+
+    /**
+     * @param value
+     *            time the producer spent waiting for acknowledgements from
+     *            the consumers, in milliseconds
+     */
+    public void setAckWaitMillis(long value)
+    {
+        ackWaitMillis = value;
+    }
+
+    public long getAckWaitMillis()
+    {
+        return ackWaitMillis;
+    }
+
+    @Override
+    protected byte getBinaryClassCode() {
+        return NodeMessageCodec.CLASS_SEND_ROWS;
+    }
+
+    @Override
+    protected void writeBinary(DataOutputStream out) throws IOException {
+        super.writeBinary(out);
+        out.writeBoolean(isStartMessage);
+        out.writeLong(numRowsSent);
+        out.writeInt(destNodeForRows);
+        out.writeLong(numBytesSent);
+        out.writeLong(ackWaitMillis);
+    }
+
+    @Override
+    protected void readBinary(DataInputStream in) throws IOException {
+        super.readBinary(in);
+        isStartMessage = in.readBoolean();
+        numRowsSent = in.readLong();
+        destNodeForRows = in.readInt();
+        numBytesSent = in.readLong();
+        ackWaitMillis = in.readLong();
+    }
+}
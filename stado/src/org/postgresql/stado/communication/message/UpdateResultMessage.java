@@ -25,6 +25,10 @@
  */
 package org.postgresql.stado.communication.message;
 
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
 /**
  * 
  * 
@@ -57,4 +61,21 @@ public class UpdateResultMessage extends NodeMessage {
     public int getNumRowsResult() {
         return numRowsResult;
     }
+
+    @Override
+    protected byte getBinaryClassCode() {
+        return NodeMessageCodec.CLASS_UPDATE_RESULT;
+    }
+
+    @Override
+    protected void writeBinary(DataOutputStream out) throws IOException {
+        super.writeBinary(out);
+        out.writeInt(numRowsResult);
+    }
+
+    @Override
+    protected void readBinary(DataInputStream in) throws IOException {
+        super.readBinary(in);
+        numRowsResult = in.readInt();
+    }
 }
@@ -426,7 +426,7 @@ public class Engine {
      * @param updater
      * @param client
      */
-    synchronized private void doMetadataUpdate(MultinodeExecutor aMultinodeExecutor,
+    synchronized void doMetadataUpdate(MultinodeExecutor aMultinodeExecutor,
             IMetaDataUpdate updater, XDBSessionContext client) {
         // phase 2
         try {
@@ -0,0 +1,316 @@
+/*****************************************************************************
+ * Copyright (C) 2008 EnterpriseDB Corporation.
+ * Copyright (C) 2011 Stado Global Development Group.
+ *
+ * This file is part of Stado.
+ *
+ * Stado is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Stado is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Stado.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * You can find Stado at http://www.stado.us
+ *
+ ****************************************************************************/
+package org.postgresql.stado.engine;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.postgresql.stado.planner.StepDetail;
+
+/**
+ * Runtime statistics of a query collected for EXPLAIN ANALYZE. The
+ * coordinator records the duration of every phase of each step, nodes
+ * report rows and bytes they have shipped to other nodes with
+ * SendRowsMessages.
+ */
+public class ExecutionStatistics {
+
+    /**
+     * Statistics of a node participating in a step
+     */
+    public static class NodeStatistics {
+        private int nodeId;
+
+        /** Time from the start of the step until the node reported completion */
+        private long runMillis = -1;
+
+        private long rowsOut = 0;
+
+        private long bytesOut = 0;
+
+        private long rowsIn = 0;
+
+        private long bytesIn = 0;
+
+        private long ackWaitMillis = 0;
+
+        private NodeStatistics(int nodeId) {
+            this.nodeId = nodeId;
+        }
+
+        public int getNodeId() {
+            return nodeId;
+        }
+
+        public long getRunMillis() {
+            return runMillis;
+        }
+
+        public long getRowsOut() {
+            return rowsOut;
+        }
+
+        public long getBytesOut() {
+            return bytesOut;
+        }
+
+        public long getRowsIn() {
+            return rowsIn;
+        }
+
+        public long getBytesIn() {
+            return bytesIn;
+        }
+
+        public long getAckWaitMillis() {
+            return ackWaitMillis;
+        }
+    }
+
+    /**
+     * Statistics of an execution step. Step is executed in three phases:
+     * init (consumers create target tables), run (producers execute the
+     * query and ship results) and end (consumers finish loading the target
+     * tables).
+     */
+    public static class StepStatistics {
+        private int stepNo;
+
+        private String description;
+
+        private long initMillis = 0;
+
+        private long runMillis = 0;
+
+        private long endMillis = 0;
+
+        private long runStart;
+
+        private Map<Integer, NodeStatistics> nodes = new TreeMap<Integer, NodeStatistics>();
+
+        private StepStatistics(int stepNo, String description) {
+            this.stepNo = stepNo;
+            this.description = description;
+        }
+
+        private NodeStatistics getNode(int nodeId) {
+            NodeStatistics node = nodes.get(nodeId);
+            if (node == null) {
+                node = new NodeStatistics(nodeId);
+                nodes.put(nodeId, node);
+            }
+            return node;
+        }
+
+        public int getStepNo() {
+            return stepNo;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+
+        public synchronized void setInitMillis(long millis) {
+            initMillis = millis;
+        }
+
+        /**
+         * Marks the beginning of the run phase
+         *
+         * @param producers
+         *            nodes executing the query of the step
+         */
+        public synchronized void startRun(Iterable<Integer> producers) {
+            runStart = System.currentTimeMillis();
+            for (Integer nodeId : producers) {
+                getNode(nodeId);
+            }
+        }
+
+        public synchronized void endRun() {
+            runMillis = System.currentTimeMillis() - runStart;
+        }
+
+        public synchronized void setEndMillis(long millis) {
+            endMillis = millis;
+        }
+
+        /**
+         * Records that the node has completed its part of the run phase
+         *
+         * @param nodeId
+         */
+        public synchronized void nodeDone(int nodeId) {
+            NodeStatistics node = getNode(nodeId);
+            if (node.runMillis < 0) {
+                node.runMillis = System.currentTimeMillis() - runStart;
+            }
+        }
+
+        /**
+         * Records rows shipped between the nodes
+         *
+         * @param sourceNodeId
+         * @param destNodeId
+         * @param rows
+         * @param bytes
+         * @param ackWaitMillis
+         *            time the source node waited for acknowledgements
+         */
+        public synchronized void rowsSent(int sourceNodeId, int destNodeId,
+                long rows, long bytes, long ackWaitMillis) {
+            NodeStatistics source = getNode(sourceNodeId);
+            source.rowsOut += rows;
+            source.bytesOut += bytes;
+            source.ackWaitMillis = Math.max(source.ackWaitMillis,
+                    ackWaitMillis);
+            NodeStatistics dest = getNode(destNodeId);
+            dest.rowsIn += rows;
+            dest.bytesIn += bytes;
+        }
+
+        public synchronized long getInitMillis() {
+            return initMillis;
+        }
+
+        public synchronized long getRunMillis() {
+            return runMillis;
+        }
+
+        public synchronized long getEndMillis() {
+            return endMillis;
+        }
+
+        public synchronized List<NodeStatistics> getNodes() {
+            return new ArrayList<NodeStatistics>(nodes.values());
+        }
+
+        @Override
+        public synchronized String toString() {
+            StringBuffer sbStep = new StringBuffer(256);
+            sbStep.append(" Step ").append(stepNo).append(": ");
+            sbStep.append(description).append('\n');
+            sbStep.append("   init = ").append(initMillis);
+            sbStep.append(" ms, run = ").append(runMillis);
+            sbStep.append(" ms, end = ").append(endMillis).append(" ms\n");
+            if (!nodes.isEmpty()) {
+                sbStep.append(String.format("   %6s %10s %12s %14s %12s %14s %12s\n",
+                        "node", "run ms", "rows out", "bytes out",
+                        "rows in", "bytes in", "ack wait ms"));
+                for (NodeStatistics node : nodes.values()) {
+                    sbStep.append(String.format("   %6d %10s %12d %14d %12d %14d %12d\n",
+                            node.nodeId,
+                            node.runMillis < 0 ? "-" : "" + node.runMillis,
+                            node.rowsOut, node.bytesOut, node.rowsIn,
+                            node.bytesIn, node.ackWaitMillis));
+                }
+            }
+            return sbStep.toString();
+        }
+    }
+
+    private List<StepStatistics> steps = new ArrayList<StepStatistics>();
+
+    private long startTime = System.currentTimeMillis();
+
+    private long totalMillis = 0;
+
+    private long rowsReturned = 0;
+
+    /**
+     * Adds the step executed on the nodes
+     *
+     * @param aStepDetail
+     * @return statistics of the step
+     */
+    public synchronized StepStatistics addStep(StepDetail aStepDetail) {
+        String target;
+        switch (aStepDetail.getDestType()) {
+        case StepDetail.DEST_TYPE_COORD_FINAL:
+            target = "final results";
+            break;
+        case StepDetail.DEST_TYPE_COORD:
+            target = aStepDetail.targetTable + " on coordinator";
+            break;
+        case StepDetail.DEST_TYPE_BROADCAST:
+        case StepDetail.DEST_TYPE_BROADCAST_AND_COORD:
+            target = aStepDetail.targetTable + " broadcast";
+            break;
+        case StepDetail.DEST_TYPE_HASH:
+            target = aStepDetail.targetTable + " hashed";
+            break;
+        default:
+            target = aStepDetail.targetTable;
+        }
+        return addStep("nodes -> " + target);
+    }
+
+    /**
+     * Adds the step
+     *
+     * @param description
+     * @return statistics of the step
+     */
+    public synchronized StepStatistics addStep(String description) {
+        StepStatistics step = new StepStatistics(steps.size() + 1, description);
+        steps.add(step);
+        return step;
+    }
+
+    public synchronized List<StepStatistics> getSteps() {
+        return new ArrayList<StepStatistics>(steps);
+    }
+
+    /**
+     * Marks the end of the query execution
+     *
+     * @param rowsReturned
+     *            number of rows the query has returned
+     */
+    public synchronized void finish(long rowsReturned) {
+        this.rowsReturned = rowsReturned;
+        totalMillis = System.currentTimeMillis() - startTime;
+    }
+
+    public synchronized long getTotalMillis() {
+        return totalMillis;
+    }
+
+    public synchronized long getRowsReturned() {
+        return rowsReturned;
+    }
+
+    @Override
+    public synchronized String toString() {
+        StringBuffer sbStats = new StringBuffer(1024);
+        for (StepStatistics step : steps) {
+            sbStats.append(step);
+        }
+        sbStats.append(" Total runtime = ").append(totalMillis);
+        sbStats.append(" ms, rows returned = ").append(rowsReturned);
+        sbStats.append('\n');
+        return sbStats.toString();
+    }
+}
@@ -72,6 +72,9 @@ public class MessageMonitor {
     private int currentRequestId;
 
     private XDBSessionContext client;
+
+    // Step being analyzed, if EXPLAIN ANALYZE is running
+    private ExecutionStatistics.StepStatistics stepStatistics = null;
     
     /** Constructor */
     public MessageMonitor(XDBSessionContext client) {
@@ -122,6 +125,18 @@ public class MessageMonitor {
         }
     }
 
+    /**
+     * Set up monitor to collect statistics of the step from the arriving
+     * messages
+     *
+     * @param stepStatistics
+     *            statistics of the running step, or null to stop collecting
+     */
+    public synchronized void setStepStatistics(
+            ExecutionStatistics.StepStatistics stepStatistics) {
+        this.stepStatistics = stepStatistics;
+    }
+
     /**
      * Blocks caller thread until all messages arrived or timeout expired.
      * Clears monitor before exit. NOTE: Size of resulting array may be less
@@ -343,9 +358,20 @@ public class MessageMonitor {
                             msg.getSourceNodeID(),
                             ((SendRowsMessage) msg).getDestNodeForRows(),
                             ((SendRowsMessage) msg).getNumRowsSent());                        
+                    if (stepStatistics != null) {
+                        SendRowsMessage sendRowsMessage = (SendRowsMessage) msg;
+                        stepStatistics.rowsSent(msg.getSourceNodeID(),
+                                sendRowsMessage.getDestNodeForRows(),
+                                sendRowsMessage.getNumRowsSent(),
+                                sendRowsMessage.getNumBytesSent(),
+                                sendRowsMessage.getAckWaitMillis());
+                    }
                 }                              
                 else if (sourceList.remove(new Integer(msg.getSourceNodeID()))) {
                     logger.debug("Getting closer: " + sourceList);
+                    if (stepStatistics != null) {
+                        stepStatistics.nodeDone(msg.getSourceNodeID());
+                    }
                     messages.add(msg);
                     notify();
                 }
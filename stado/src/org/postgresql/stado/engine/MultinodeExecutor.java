@@ -30,6 +30,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.concurrent.LinkedBlockingQueue;
@@ -105,6 +106,18 @@ public class MultinodeExecutor implements IMessageListener {
 
     private Collection<Integer> currentStepProcesses;
 
+    /**
+     * Nodes which have not been told yet to finish the previous step, if
+     * it is sent along with the next step
+     */
+    private Collection<Integer> pendingStepEnd = null;
+
+    /**
+     * Runtime statistics of the steps, collected if EXPLAIN ANALYZE is
+     * running
+     */
+    private ExecutionStatistics statistics = null;
+
     /**
      * MSG_SEND_DATA messages are arriving while we are waiting for
      * MSG_EXECUTE_STEP_SENT messages. We put it here.
@@ -229,6 +242,11 @@ public class MultinodeExecutor implements IMessageListener {
         logger.entering(method, new Object[] { nodeList });
         try {
 
+            if (client.hasUsedSet()) {
+                // Do not pass session settings to other sessions
+                executeCommand(XDBSessionContext.RESET_SETTINGS, nodeList,
+                        true);
+            }
             int requestId = client.getRequestId();
             monitor.setMonitor(requestId, nodeList);
             try {
@@ -270,6 +288,17 @@ public class MultinodeExecutor implements IMessageListener {
                 monitor.waitForMessages(CONNECTION_TIMEOUT);
             }
 
+            String settings = client.getSessionSettings();
+            if (settings != null) {
+                // Session gets pooled connections, replay its SET commands
+                try {
+                    executeCommand(settings, initList, true);
+                } catch (XDBServerException e) {
+                    // SET errors are ignored when the command is executed
+                    logger.catching(e);
+                }
+            }
+
         } finally {
             logger.exiting(method);
         }
@@ -574,6 +603,7 @@ public class MultinodeExecutor implements IMessageListener {
                 } finally {
                     monitor.waitForMessages();
                 }
+                client.commitSessionSettings();
             } finally {
                 client.setInTransaction(false);
             }
@@ -758,17 +788,18 @@ public class MultinodeExecutor implements IMessageListener {
      */
 
     // -----------------------------------------------------------------------
-    private void finishInserts() throws XDBServerException {
+    private void finishInserts(Collection<Integer> stepProcesses)
+            throws XDBServerException {
         final String method = "finishInserts";
         logger.entering(method);
         try {
 
-            if (currentStepProcesses != null) {
+            if (stepProcesses != null) {
                 int requestId = client.getRequestId();
-                monitor.setMonitor(requestId, currentStepProcesses);
+                monitor.setMonitor(requestId, stepProcesses);
 
                 try {
-                    sendHelper.sendMessageToList(currentStepProcesses,
+                    sendHelper.sendMessageToList(stepProcesses,
                             NodeMessage.MSG_EXECUTE_STEP_END, requestId);
                 } finally {
                     monitor.waitForMessages();
@@ -780,6 +811,29 @@ public class MultinodeExecutor implements IMessageListener {
         }
     }
 
+    /**
+     * Finishes the step whose end has been left pending, if any
+     *
+     * @throws org.postgresql.stado.exception.XDBServerException
+     */
+    public void finishPendingStep() throws XDBServerException {
+        if (pendingStepEnd != null) {
+            Collection<Integer> stepEnd = pendingStepEnd;
+            pendingStepEnd = null;
+            finishInserts(stepEnd);
+        }
+    }
+
+    /**
+     * Makes executor collect runtime statistics of the executed steps
+     *
+     * @param statistics
+     *            the statistics to fill in, or null to stop collecting
+     */
+    public void setStatistics(ExecutionStatistics statistics) {
+        this.statistics = statistics;
+    }
+
     /*
      * Execute a step of our query.
      *
@@ -794,6 +848,10 @@ public class MultinodeExecutor implements IMessageListener {
      * @param nodeUsageTable
      * @param producerCount
      * @param consumerCount
+     * @param coalesceEnd
+     *            next step is executed right after this one, so nodes are
+     *            told to finish this step together with initialization of
+     *            the next step
      * @throws org.postgresql.stado.exception.XDBServerException
      */
     public void executeStep(QueryCombiner aQueryCombiner,
@@ -801,13 +859,17 @@ public class MultinodeExecutor implements IMessageListener {
             Map<Integer,NodeUsage> nodeUsageTable, int producerCount, // number of nodes
             // that are
             // producers
-            int consumerCount // number of nodes that are consumers
+            int consumerCount, // number of nodes that are consumers
+            boolean coalesceEnd
     ) throws XDBServerException {
 
         final String method = "executeStep";
         logger.entering(method, new Object[] { aQueryCombiner, aStepDetail,
                 coordStepDetail, nodeUsageTable, new Integer(producerCount),
                 new Integer(consumerCount) });
+        ExecutionStatistics.StepStatistics stepStatistics = statistics == null ? null
+                : statistics.addStep(aStepDetail);
+        long phaseStart = System.currentTimeMillis();
         try {
             StepDetail currentStepDetail;
 
@@ -843,6 +905,7 @@ public class MultinodeExecutor implements IMessageListener {
             for (NodeUsage aNodeUsageElement : nodeUsageTable.values()) {
                 Integer nodeID = new Integer(aNodeUsageElement.nodeId);
                 currentStepDetail = aStepDetail.copy();
+                currentStepDetail.collectStatistics = stepStatistics != null;
 
                 // Add to consumer node thread list for finishing up later
                 if (aNodeUsageElement.isConsumer) {
@@ -923,23 +986,48 @@ public class MultinodeExecutor implements IMessageListener {
             // Only bother doing the INIT step if we are a
             // consumer and need to create a temp table
             if (aStepDetail.isConsumer) {
-                monitor.setMonitor(requestId, initMessages.keySet());
+                // If previous step is pending, finish it in the same round
+                // trip. Nodes handle messages in order, so the step is
+                // finished before the next one is initialized.
+                Collection<Integer> stepEnd = pendingStepEnd;
+                List<Integer> sources = new ArrayList<Integer>(initMessages.keySet());
+                if (stepEnd != null) {
+                    sources.addAll(stepEnd);
+                }
+                monitor.setMonitor(requestId, sources);
 
                 try {
+                    if (stepEnd != null) {
+                        pendingStepEnd = null;
+                        sendHelper.sendMessageToList(stepEnd,
+                                NodeMessage.MSG_EXECUTE_STEP_END, requestId);
+                    }
                     for (Entry<Integer, NodeMessage> entry : initMessages
                             .entrySet()) {
                         sendHelper
                                 .sendMessage(entry.getKey(), entry.getValue());
                     }
                 } finally {
-                    monitor.waitForMessages(SHORT_TIMEOUT);
+                    if (stepEnd == null) {
+                        monitor.waitForMessages(SHORT_TIMEOUT);
+                    } else {
+                        monitor.waitForMessages();
+                    }
                 }
 
                 sendDataMessages.clear();
+            } else {
+                finishPendingStep();
             }
 
             // Set up execution monitor
             monitor.setMonitor(requestId, producers);
+            if (stepStatistics != null) {
+                stepStatistics.setInitMillis(System.currentTimeMillis()
+                        - phaseStart);
+                stepStatistics.startRun(producers);
+                monitor.setStepStatistics(stepStatistics);
+            }
 
             for (Entry<Integer, NodeMessage> entry : initMessages.entrySet()) {
                 NodeMessage nodeMessage = entry.getValue();
@@ -952,9 +1040,14 @@ public class MultinodeExecutor implements IMessageListener {
             if (coordStepDetail != null && coordStepDetail.isProducer
                     && aStepDetail.isConsumer) {
                 try {
+                    StepDetail coordProducerDetail = coordStepDetail;
+                    if (stepStatistics != null) {
+                        coordProducerDetail = coordStepDetail.copy();
+                        coordProducerDetail.collectStatistics = true;
+                    }
                     coordinatorQueue.clear();
                     aQueryCombiner.queryOnCoordAndSendToNodes(
-                            coordStepDetail.queryString, coordStepDetail,
+                            coordProducerDetail.queryString, coordProducerDetail,
                             new ProducerSender(sendHelper, coordinatorQueue));
                 } catch (Exception e) {
                     logger.catching(e);
@@ -1015,6 +1108,12 @@ public class MultinodeExecutor implements IMessageListener {
                 }
             } while (messages == null);
 
+            if (stepStatistics != null) {
+                monitor.setStepStatistics(null);
+                stepStatistics.endRun();
+                phaseStart = System.currentTimeMillis();
+            }
+
             if (coordStepDetail != null && coordStepDetail.isConsumer
                     && Props.XDB_DUMPSTEPPATH != null) {
                 NodeThread.dumpStepResults(client
@@ -1039,7 +1138,16 @@ public class MultinodeExecutor implements IMessageListener {
             // Tell all NodeThreads that we are done producing, so they can
             // finish consuming
             if (aStepDetail != null && aStepDetail.isConsumer) {
-                this.finishInserts();
+                if (coalesceEnd) {
+                    pendingStepEnd = currentStepProcesses;
+                } else {
+                    this.finishInserts(currentStepProcesses);
+                }
+            }
+
+            if (stepStatistics != null) {
+                stepStatistics.setEndMillis(System.currentTimeMillis()
+                        - phaseStart);
             }
         }
 
@@ -1054,6 +1162,9 @@ public class MultinodeExecutor implements IMessageListener {
             abortSQLCommand(nodesToAbort, monitor.getRequestId());
             throw ex;
         } finally {
+            if (stepStatistics != null) {
+                monitor.setStepStatistics(null);
+            }
             if (Props.XDB_ENABLE_ACTIVITY_LOG) {
 
                 for (NodeUsage aNodeUsageElement : nodeUsageTable.values()) {
@@ -1104,7 +1215,7 @@ public class MultinodeExecutor implements IMessageListener {
             aQueryCombiner.queryOnCoordAndSendToNodes(queryString, aStepDetail,
                     new ProducerSender(sendHelper, coordinatorQueue));
 
-            finishInserts();
+            finishInserts(currentStepProcesses);
 
         } finally {
             logger.exiting(method);
@@ -44,7 +44,6 @@ import org.postgresql.stado.engine.copy.CopyOut;
 import org.postgresql.stado.engine.io.DataTypes;
 import org.postgresql.stado.engine.io.ResponseMessage;
 import org.postgresql.stado.engine.io.ResultSetResponse;
-import org.postgresql.stado.engine.io.XMessage;
 import org.postgresql.stado.exception.XDBBaseException;
 import org.postgresql.stado.exception.XDBServerException;
 import org.postgresql.stado.exception.XDBUnexpectedMessageException;
@@ -78,6 +77,11 @@ public class NodeProducerThread implements Runnable {
 
         NodeMessage nextMessage = null;
 
+        /**
+         * How many packets may be sent to the coordinator without request
+         */
+        int credit = 0;
+
         /**
          *
          * @param rsResponse
@@ -105,21 +109,18 @@ public class NodeProducerThread implements Runnable {
                         + ": Packing results");
                 ResponseMessage rm = rsResponse.nextResults(rsResponse
                         .getFetchSize());
-                byte[] resultSetData = new byte[rm.getPacketLength()];
-                System.arraycopy(rm.getHeaderBytes(), 0, resultSetData, 0,
-                        XMessage.HEADER_SIZE);
-                System.arraycopy(rm.getMessage(), 0, resultSetData,
-                        XMessage.HEADER_SIZE, rm.getPacketLength()
-                        - XMessage.HEADER_SIZE);
+                // Packet buffer is passed over as is, it is returned to the
+                // pool when the message is written out or read
                 nextMessage = NodeMessage.getNodeMessage(msgType);
-                nextMessage.setResultSetData(resultSetData);
-                boolean lastPacket = rm.getMessage()[0] == ResultSetResponse.LAST_PACKET_TRUE;
+                nextMessage.setResultSetData(rm.getPacketBytes(), rm
+                        .getPacketLength());
+                boolean lastPacket = rm.getMessage()[rm.getMessageOffset()] == ResultSetResponse.LAST_PACKET_TRUE;
                 logger
                 .log(
                         Level.INFO,
                         "Node %0% sends new ResultSet packet, size: %1%, last: %2%",
                         new Object[] { new Integer(nodeId),
-                                new Integer(resultSetData.length),
+                                new Integer(rm.getPacketLength()),
                                 new Boolean(lastPacket) });
                 if (lastPacket) {
                     closeResultSet(aResultSet);
@@ -131,6 +132,36 @@ public class NodeProducerThread implements Runnable {
                 logger.exiting(method);
             }
         }
+
+        /**
+         * Send the packet prepared before and prepare next one
+         *
+         * @param request
+         *            message from coordinator the packet is replying to
+         * @param resultSetId
+         * @throws java.sql.SQLException
+         * @return true if the result set has more rows
+         */
+        private boolean sendNextResultRows(NodeMessage request,
+                String resultSetId) throws SQLException {
+            if (!nextMessage.isResultSetHasMoreRows()) {
+                // Be sure to close the statement, otherwise
+                // it may still be locking the table.
+                closeResultSet(aResultSet);
+            }
+            nextMessage.setResultSetID(resultSetId);
+            // send results that we previously prepared
+            sendHelper.sendReplyMessage(request, nextMessage);
+
+            // try and prepare next set of data
+            if (nextMessage.isResultSetHasMoreRows()) {
+                packNextResultRows(NodeMessage.MSG_RESULT_ROWS);
+                return true;
+            } else {
+                resultTable.remove(resultSetId);
+                return false;
+            }
+        }
     }
 
     protected static final int STATEDISCONNECTED = -1; // don't do anything
@@ -457,25 +488,33 @@ public class NodeProducerThread implements Runnable {
                                 }
                                 resultTable.remove(resultSetId);
                             }
-                            if (!aQueryResult.nextMessage
-                                    .isResultSetHasMoreRows()) {
-                                // Be sure to close the statement, otherwise
-                                // it may still be locking the table.
-                                closeResultSet(aQueryResult.aResultSet);
-                            }
-                            aQueryResult.nextMessage
-                            .setResultSetID(resultSetId);
-                            // send results that we previously prepared
-                            sendHelper.sendReplyMessage(aNodeMessage,
-                                    aQueryResult.nextMessage);
-
-                            // try and prepare next set of data
-                            if (aQueryResult.nextMessage
-                                    .isResultSetHasMoreRows()) {
-                                aQueryResult
-                                .packNextResultRows(NodeMessage.MSG_RESULT_ROWS);
-                            } else {
-                                resultTable.remove(resultSetId);
+                            aQueryResult.sendNextResultRows(aNodeMessage,
+                                    resultSetId);
+                        } finally {
+                            setState(STATEWAIT);
+                        }
+                        break;
+                    case NodeMessage.MSG_RESULT_ROWS_CREDIT:
+                        checkCurrentState(new int[] { STATEWAIT },
+                                STATEDATADOWN);
+                        try {
+                            String resultSetId = aNodeMessage.getResultSetID();
+                            QueryResult aQueryResult = resultTable
+                            .get(resultSetId);
+                            // Credit may come after the last packet is sent
+                            // or result set is closed, ignore it then
+                            if (aQueryResult != null) {
+                                aQueryResult.credit += aNodeMessage
+                                .getResultRowsCredit();
+                                // push packets ahead while allowed
+                                while (aQueryResult.credit > 0
+                                        && aQueryResult.nextMessage != null) {
+                                    aQueryResult.credit--;
+                                    if (!aQueryResult.sendNextResultRows(
+                                            aNodeMessage, resultSetId)) {
+                                        break;
+                                    }
+                                }
                             }
                         } finally {
                             setState(STATEWAIT);
@@ -489,6 +528,10 @@ public class NodeProducerThread implements Runnable {
                             QueryResult query = resultTable.remove(resultSetId);
                             if (query != null) {
                                 closeResultSet(query.aResultSet);
+                                // Drop the packet prepared ahead
+                                if (query.nextMessage != null) {
+                                    query.nextMessage.releaseBuffers();
+                                }
                             }
                         } finally {
                             setState(STATEWAIT);
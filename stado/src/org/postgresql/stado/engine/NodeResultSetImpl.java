@@ -28,9 +28,11 @@
 package org.postgresql.stado.engine;
 
 import java.sql.SQLException;
+import java.util.LinkedList;
 
 import org.apache.log4j.Level;
 import org.postgresql.stado.common.ResultSetImpl;
+import org.postgresql.stado.common.util.Props;
 import org.postgresql.stado.common.util.XLogger;
 import org.postgresql.stado.communication.AbstractAgent;
 import org.postgresql.stado.communication.CoordinatorAgent;
@@ -39,7 +41,6 @@ import org.postgresql.stado.communication.NodeAgent;
 import org.postgresql.stado.communication.SendMessageHelper;
 import org.postgresql.stado.communication.message.NodeMessage;
 import org.postgresql.stado.engine.io.ResultSetResponse;
-import org.postgresql.stado.engine.io.XMessage;
 import org.postgresql.stado.exception.XDBBaseException;
 import org.postgresql.stado.exception.XDBServerException;
 
@@ -62,6 +63,34 @@ public class NodeResultSetImpl extends ResultSetImpl implements
 
     private NodeMessage nextMessage = null;
 
+    /**
+     * Message holding the packet the rows are currently read from, its
+     * buffer is returned to the pool when next packet is taken
+     */
+    private NodeMessage currentMessage = null;
+
+    /**
+     * Number of packets the node may push ahead of our requests, 0 if
+     * packets are requested one by one
+     */
+    private int window = Props.XDB_RESULT_ROWS_WINDOW;
+
+    /**
+     * Packets pushed by the node and not yet consumed
+     */
+    private LinkedList<NodeMessage> pushedMessages = null;
+
+    /**
+     * Packets consumed since last credit was granted
+     */
+    private int consumed = 0;
+
+    /**
+     * Set when the result set is closed, packets arriving after that are
+     * discarded
+     */
+    private boolean closed = false;
+
     /**
      * 
      * @param nodeMessage
@@ -79,6 +108,24 @@ public class NodeResultSetImpl extends ResultSetImpl implements
 
         resetRawRows();
         this.columnMeta = responseMessage.getColumnMetaData();
+        if (window > 0 && !responseMessage.isLastPacket()) {
+            pushedMessages = new LinkedList<NodeMessage>();
+            sendCredit(window);
+        }
+    }
+
+    /**
+     * Allow the node to send more packets without waiting for request
+     *
+     * @param credit
+     *            number of packets
+     */
+    private void sendCredit(int credit) {
+        NodeMessage creditNM = NodeMessage
+                .getNodeMessage(NodeMessage.MSG_RESULT_ROWS_CREDIT);
+        creditNM.setResultSetID(nodeMessage.getResultSetID());
+        creditNM.setResultRowsCredit(credit);
+        sendHelper.sendReplyMessage(nodeMessage, creditNM);
     }
 
     /**
@@ -89,7 +136,7 @@ public class NodeResultSetImpl extends ResultSetImpl implements
      * @return
      */
     public synchronized boolean processMessage(NodeMessage message) {
-        if (nextMessage != null) {
+        if (pushedMessages == null && nextMessage != null) {
             // Development error
             XDBServerException ex = new XDBServerException(
                     "Previous message has not been consumed");
@@ -101,7 +148,13 @@ public class NodeResultSetImpl extends ResultSetImpl implements
                 .getMessageType() == NodeMessage.MSG_ABORT)
                 && nodeMessage.getSourceNodeID() == message.getSourceNodeID()
                 && nodeMessage.getRequestId() == message.getRequestId()) {
-            nextMessage = message;
+            if (closed) {
+                message.releaseBuffers();
+            } else if (pushedMessages == null) {
+                nextMessage = message;
+            } else {
+                pushedMessages.add(message);
+            }
             notify();
             return true;
         }
@@ -114,14 +167,20 @@ public class NodeResultSetImpl extends ResultSetImpl implements
      */
     @Override
     protected synchronized void setNextResultSet() throws SQLException {
-        logger.log(Level.INFO, "Asking node %0% for more rows",
-                new Object[] { new Integer(nodeMessage.getSourceNodeID()) });
-        NodeMessage requestNM = NodeMessage
-                .getNodeMessage(NodeMessage.MSG_RESULT_ROWS_REQUEST);
-        requestNM.setResultSetID(nodeMessage.getResultSetID());
-        sendHelper.sendReplyMessage(nodeMessage, requestNM);
+        if (pushedMessages == null) {
+            logger.log(Level.INFO, "Asking node %0% for more rows",
+                    new Object[] { new Integer(nodeMessage.getSourceNodeID()) });
+            NodeMessage requestNM = NodeMessage
+                    .getNodeMessage(NodeMessage.MSG_RESULT_ROWS_REQUEST);
+            requestNM.setResultSetID(nodeMessage.getResultSetID());
+            sendHelper.sendReplyMessage(nodeMessage, requestNM);
+        }
         // TODO wait timeout ?
         while (nextMessage == null) {
+            if (pushedMessages != null && !pushedMessages.isEmpty()) {
+                nextMessage = pushedMessages.removeFirst();
+                break;
+            }
             try {
                 wait();
             } catch (InterruptedException e) {
@@ -141,10 +200,19 @@ public class NodeResultSetImpl extends ResultSetImpl implements
         }
         responseMessage = getNextResponse(nextMessage, responseMessage);
         nextMessage = null;
+        if (pushedMessages != null && !responseMessage.isLastPacket()) {
+            // Return credits in batches to reduce number of messages
+            if (++consumed >= Math.max(1, window / 2)) {
+                sendCredit(consumed);
+                consumed = 0;
+            }
+        }
     }
 
     /**
-     * Extract data from incoming message
+     * Extract data from incoming message. The response reads rows right
+     * from the message buffer, rows of the previous packet are already read
+     * at this point, so its buffer is released.
      * 
      * @param message
      * @param response
@@ -155,21 +223,31 @@ public class NodeResultSetImpl extends ResultSetImpl implements
         if (response == null) {
             response = new ResultSetResponse();
         }
-        byte[] resultSetData = message.getResultSetData();
-        // reading response
-        byte[] header = new byte[XMessage.HEADER_SIZE];
-        System.arraycopy(resultSetData, 0, header, 0, XMessage.HEADER_SIZE);
-        response.setHeaderBytes(header);
-        int len = response.getPacketLength() - XMessage.HEADER_SIZE;
-        byte[] inputBytes = new byte[len];
-        System.arraycopy(resultSetData, XMessage.HEADER_SIZE, inputBytes, 0,
-                len);
-        response.setMessage(inputBytes);
+        releaseCurrentMessage();
+        response.setPacketBytes(message.getResultSetData());
+        currentMessage = message;
         return response;
     }
 
+    private void releaseCurrentMessage() {
+        if (currentMessage != null) {
+            currentMessage.releaseBuffers();
+            currentMessage = null;
+        }
+    }
+
     @Override
     public void close() throws SQLException {
+        synchronized (this) {
+            closed = true;
+            releaseCurrentMessage();
+            if (pushedMessages != null) {
+                for (NodeMessage message : pushedMessages) {
+                    message.releaseBuffers();
+                }
+                pushedMessages.clear();
+            }
+        }
         if (!responseMessage.isLastPacket()) {
             // Close RS on node
             NodeMessage closeMsg = NodeMessage
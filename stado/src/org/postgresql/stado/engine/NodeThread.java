@@ -1043,7 +1043,7 @@ public class NodeThread implements Runnable, IMessageListener {
                         aStatement.close();
                     }
                 }
-                if (Props.XDB_STEP_RUNANALYZE) {
+                if (Props.XDB_STEP_RUNANALYZE && aStepDetail.analyzeTarget) {
                     // Analyze / Update Stats
                     HashMap<String, String> params = new HashMap<String, String>();
                     params.put("table", IdentifierHandler.quote(aStepDetail.targetTable));
@@ -1663,6 +1663,7 @@ public class NodeThread implements Runnable, IMessageListener {
                         break;
 
                     case NodeMessage.MSG_RESULT_ROWS_REQUEST:
+                    case NodeMessage.MSG_RESULT_ROWS_CREDIT:
                         producerQueuePut(aNodeMessage);
                         break;
 
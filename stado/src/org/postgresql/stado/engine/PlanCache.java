@@ -0,0 +1,326 @@
+/*****************************************************************************
+ * Copyright (C) 2008 EnterpriseDB Corporation.
+ * Copyright (C) 2011 Stado Global Development Group.
+ *
+ * This file is part of Stado.
+ *
+ * Stado is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Stado is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Stado.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * You can find Stado at http://www.stado.us
+ *
+ ****************************************************************************/
+/*
+ * PlanCache.java
+ *
+ */
+package org.postgresql.stado.engine;
+
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.postgresql.stado.common.util.Props;
+
+/**
+ * Cache of the query shapes of simple protocol SELECT statements. Literal
+ * values compared in the query are replaced with parameters, and queries
+ * differing only by these values share the entry. Sessions keep the plans of
+ * the entries as server-side prepared statements, and reuse them binding
+ * the literal values as parameters.
+ * <p>
+ * Plans can not be shared by sessions as they refer to the session context
+ * and to the temporary tables of the session. The shared entry tells whether
+ * the shape can be planned with parameters, and assigns the statement name.
+ * <p>
+ * Entries are keyed by schema version, database and normalized query text.
+ * Version changes on every metadata update, discarding all the entries.
+ */
+public class PlanCache {
+
+    /**
+     * Prefix of the names of the statements holding cached plans. Clients
+     * can not use zero character in statement names.
+     */
+    static final String STATEMENT_PREFIX = "\0plan";
+
+    /**
+     * The queries referring these are not cached, values are computed at
+     * parse time or they have side effects.
+     */
+    private static final Set<String> VOLATILE_WORDS = new HashSet<String>(
+            Arrays.asList(new String[] { "INTO", "NOW", "LOCALTIME",
+                    "LOCALTIMESTAMP", "TIMEOFDAY", "CLOCK_TIMESTAMP",
+                    "STATEMENT_TIMESTAMP", "TRANSACTION_TIMESTAMP", "RANDOM",
+                    "NEXTVAL", "CURRVAL", "SETVAL", "LASTVAL" }));
+
+    /**
+     * Query shape
+     */
+    static class Entry {
+        private String statementID;
+
+        private String sql;
+
+        private int[] paramTypes;
+
+        private volatile boolean cacheable = true;
+
+        Entry(String statementID, String sql, int[] paramTypes) {
+            this.statementID = statementID;
+            this.sql = sql;
+            this.paramTypes = paramTypes;
+        }
+
+        String getStatementID() {
+            return statementID;
+        }
+
+        String getSql() {
+            return sql;
+        }
+
+        int[] getParamTypes() {
+            return paramTypes;
+        }
+
+        boolean isCacheable() {
+            return cacheable;
+        }
+
+        /**
+         * Called if the shape can not be planned with parameters, the query
+         * should be executed as is.
+         */
+        void setNotCacheable() {
+            cacheable = false;
+        }
+    }
+
+    private static final Map<String, Entry> entries = new LinkedHashMap<String, Entry>(
+            16, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+            return size() > Props.XDB_PLANCACHE_SIZE;
+        }
+    };
+
+    private static int schemaVersion = 0;
+
+    private static int lastEntryID = 0;
+
+    private static long hitCount = 0;
+
+    private static long missCount = 0;
+
+    /** Utility class */
+    private PlanCache() {
+    }
+
+    /**
+     * @return true if the cache is enabled
+     */
+    public static boolean isEnabled() {
+        return Props.XDB_PLANCACHE_SIZE > 0;
+    }
+
+    /**
+     * Returns the entry of the query shape, creating it if needed
+     *
+     * @param dbName
+     * @param sql
+     *            normalized query
+     * @param paramTypes
+     *            types of the literal values
+     * @return
+     */
+    static Entry getEntry(String dbName, String sql, int[] paramTypes) {
+        StringBuilder key = new StringBuilder(sql.length() + 32);
+        key.append(dbName).append('\0');
+        for (int paramType : paramTypes) {
+            key.append(paramType).append(',');
+        }
+        key.append('\0').append(sql);
+        synchronized (entries) {
+            String entryKey = schemaVersion + "\0" + key;
+            Entry entry = entries.get(entryKey);
+            if (entry == null) {
+                missCount++;
+                entry = new Entry(STATEMENT_PREFIX + ++lastEntryID, sql,
+                        paramTypes);
+                entries.put(entryKey, entry);
+            } else {
+                hitCount++;
+            }
+            return entry;
+        }
+    }
+
+    /**
+     * Discards all the entries. Called when metadata are updated.
+     */
+    public static void invalidate() {
+        synchronized (entries) {
+            schemaVersion++;
+            entries.clear();
+        }
+    }
+
+    /**
+     * @return one line summary of the cache usage
+     */
+    public static String dumpPlanCache() {
+        synchronized (entries) {
+            return "Plan cache: version " + schemaVersion + ", entries "
+                    + entries.size() + ", hits " + hitCount + ", misses "
+                    + missCount;
+        }
+    }
+
+    /**
+     * Replaces literal values following comparison operators with
+     * parameters $1, $2, ... and collapses white space.
+     *
+     * @param cmd
+     *            the query
+     * @param values
+     *            receives the literal values
+     * @param types
+     *            receives the types of the literal values
+     * @return normalized query, or null if the query should not be cached
+     */
+    static String normalize(String cmd, List<String> values, List<Integer> types) {
+        String sql = cmd.trim();
+        if (sql.length() < 7 || !sql.substring(0, 6).equalsIgnoreCase("SELECT")) {
+            return null;
+        }
+        StringBuilder out = new StringBuilder(sql.length());
+        int length = sql.length();
+        boolean afterComparison = false;
+        int i = 0;
+        while (i < length) {
+            char c = sql.charAt(i);
+            char next = i + 1 < length ? sql.charAt(i + 1) : 0;
+            if (c == '$' || c == ';' || c == '\\' || c == '-' && next == '-'
+                    || c == '/' && next == '*') {
+                // Parameters, comments, multiple statements
+                return null;
+            }
+            if (c == '\'') {
+                if (i > 0 && isWordChar(sql.charAt(i - 1))) {
+                    // E'', B'', X'' strings
+                    return null;
+                }
+                int end = sql.indexOf('\'', i + 1);
+                if (end < 0 || end + 1 < length && sql.charAt(end + 1) == '\'') {
+                    // Value would need escaping
+                    return null;
+                }
+                if (afterComparison && !isCastAt(sql, end + 1)) {
+                    values.add(sql.substring(i + 1, end));
+                    types.add(Types.VARCHAR);
+                    out.append('$').append(values.size());
+                } else {
+                    out.append(sql, i, end + 1);
+                }
+                i = end + 1;
+                afterComparison = false;
+            } else if (c == '"') {
+                int end = sql.indexOf('"', i + 1);
+                if (end < 0) {
+                    return null;
+                }
+                out.append(sql, i, end + 1);
+                i = end + 1;
+                afterComparison = false;
+            } else if (c == '=' || c == '<' || c == '>' || c == '!') {
+                out.append(c);
+                i++;
+                afterComparison = true;
+            } else if (Character.isWhitespace(c)) {
+                while (i < length && Character.isWhitespace(sql.charAt(i))) {
+                    i++;
+                }
+                out.append(' ');
+            } else if (afterComparison
+                    && (Character.isDigit(c) || (c == '-' || c == '+')
+                            && Character.isDigit(next))) {
+                int end = i + 1;
+                boolean decimal = false;
+                while (end < length
+                        && (Character.isDigit(sql.charAt(end)) || sql.charAt(end) == '.')) {
+                    decimal |= sql.charAt(end) == '.';
+                    end++;
+                }
+                if (end < length && isWordChar(sql.charAt(end))) {
+                    // Exponent or something unexpected
+                    return null;
+                }
+                if (isCastAt(sql, end)) {
+                    out.append(sql, i, end);
+                } else {
+                    String value = sql.substring(c == '+' ? i + 1 : i, end);
+                    int type = Types.INTEGER;
+                    if (decimal) {
+                        type = Types.NUMERIC;
+                    } else if (end - i > 9) {
+                        type = end - i > 18 ? Types.NUMERIC : Types.BIGINT;
+                    }
+                    values.add(value);
+                    types.add(type);
+                    out.append('$').append(values.size());
+                }
+                i = end;
+                afterComparison = false;
+            } else if (isWordChar(c)) {
+                int end = i + 1;
+                while (end < length && isWordChar(sql.charAt(end))) {
+                    end++;
+                }
+                String word = sql.substring(i, end).toUpperCase();
+                if (VOLATILE_WORDS.contains(word) || word.startsWith("CURRENT_")) {
+                    return null;
+                }
+                out.append(sql, i, end);
+                i = end;
+                afterComparison = false;
+            } else {
+                out.append(c);
+                i++;
+                afterComparison = false;
+            }
+        }
+        return out.toString();
+    }
+
+    private static boolean isWordChar(char c) {
+        return Character.isLetterOrDigit(c) || c == '_';
+    }
+
+    /**
+     * @return true if type cast operator :: is at the position, maybe after
+     *         white space
+     */
+    private static boolean isCastAt(String sql, int pos) {
+        while (pos < sql.length() && Character.isWhitespace(sql.charAt(pos))) {
+            pos++;
+        }
+        return sql.startsWith("::", pos);
+    }
+}
@@ -97,6 +97,15 @@ public class ProducerSender {
 
     private AtomicReference<Loader> currentLoader = new AtomicReference<Loader>();
 
+    /**
+     * Rows and bytes sent to every node using batches, collected if the
+     * step requests statistics
+     */
+    private HashMap<Integer, long[]> sentCounts = null;
+
+    /** Time spent waiting for acknowledgements, in milliseconds */
+    private long ackWaitMillis = 0;
+
 
     /**
 
@@ -135,6 +144,9 @@ public class ProducerSender {
 
             Collection<Integer> nodeList = stepDetail.consumerNodeList;
             if (!Props.XDB_USE_LOAD_FOR_STEP) {
+                sentCounts = stepDetail.collectStatistics ? new HashMap<Integer, long[]>()
+                        : null;
+                ackWaitMillis = 0;
                 dataSeqNo = 0;
                 anAckTracker = new AckTracker();
                 anAckTracker.init(new HashMap(), nodeList);
@@ -171,7 +183,7 @@ public class ProducerSender {
         Collection<Integer> nodeList = aStepDetail.consumerNodeList;
 
         // Send messages if we are using the grid monitor
-        if (Props.XDB_ENABLE_ACTIVITY_LOG) {
+        if (Props.XDB_ENABLE_ACTIVITY_LOG || aStepDetail.collectStatistics) {
             if (aStepDetail.getDestType() == StepDetail.DEST_TYPE_COORD
                     || aStepDetail.getDestType() == StepDetail.DEST_TYPE_COORD_FINAL) {
                 SendRowsMessage beginSendRowsMessage = (SendRowsMessage) NodeMessage.getNodeMessage(NodeMessage.MSG_BEGIN_SEND_ROWS);
@@ -239,8 +251,9 @@ public class ProducerSender {
                 NodeProducerThread.CATEGORY_NODEQUERYTIME.debug("Finish load");
                 loader.finishLoad(success);
 
-                if (Props.XDB_ENABLE_ACTIVITY_LOG) {
+                if (Props.XDB_ENABLE_ACTIVITY_LOG || aStepDetail.collectStatistics) {
                     HashMap<Integer, Long> writerMap = loader.getRowCountMap();
+                    HashMap<Integer, Long> byteMap = loader.getByteCountMap();
 
                     if (writerMap != null) {
                         for (Object element : writerMap.keySet()) {
@@ -251,6 +264,9 @@ public class ProducerSender {
                             endSendRowsMessage.setRequestId(requestId);
                             endSendRowsMessage.setDestNodeForRows(destNodeInt.intValue());
                             endSendRowsMessage.setNumRowsSent(writerMap.get(destNodeInt));
+                            if (byteMap != null && byteMap.containsKey(destNodeInt)) {
+                                endSendRowsMessage.setNumBytesSent(byteMap.get(destNodeInt));
+                            }
 
                             sendHelper.sendMessage(new Integer(0),
                                     endSendRowsMessage);
@@ -298,7 +314,7 @@ public class ProducerSender {
                 Collection<Integer> nodeList = aStepDetail.consumerNodeList;
 
                 // Send messages if we are using the grid monitor
-                if (Props.XDB_ENABLE_ACTIVITY_LOG) {
+                if (Props.XDB_ENABLE_ACTIVITY_LOG || aStepDetail.collectStatistics) {
                     if (aStepDetail.getDestType() == StepDetail.DEST_TYPE_COORD
                             || aStepDetail.getDestType() == StepDetail.DEST_TYPE_COORD_FINAL) {
                         SendRowsMessage beginSendRowsMessage = (SendRowsMessage) NodeMessage.getNodeMessage(NodeMessage.MSG_BEGIN_SEND_ROWS);
@@ -365,8 +381,9 @@ public class ProducerSender {
                         NodeProducerThread.CATEGORY_NODEQUERYTIME.debug("Finish load");
                         loader.finishLoad(success);
 
-                        if (Props.XDB_ENABLE_ACTIVITY_LOG) {
+                        if (Props.XDB_ENABLE_ACTIVITY_LOG || aStepDetail.collectStatistics) {
                             HashMap<Integer, Long> writerMap = loader.getRowCountMap();
+                            HashMap<Integer, Long> byteMap = loader.getByteCountMap();
 
                             if (writerMap != null) {
                                 for (Object element : writerMap.keySet()) {
@@ -377,6 +394,9 @@ public class ProducerSender {
                                     endSendRowsMessage.setRequestId(requestId);
                                     endSendRowsMessage.setDestNodeForRows(destNodeInt.intValue());
                                     endSendRowsMessage.setNumRowsSent(writerMap.get(destNodeInt));
+                                    if (byteMap != null && byteMap.containsKey(destNodeInt)) {
+                                        endSendRowsMessage.setNumBytesSent(byteMap.get(destNodeInt));
+                                    }
 
                                     sendHelper.sendMessage(new Integer(0),
                                             endSendRowsMessage);
@@ -642,6 +662,18 @@ public class ProducerSender {
                 logger.info("Finishing Inserts");
                 finishInserts(aStepDetail.getDestType());
                 logger.info("Finished Inserts");
+                if (sentCounts != null) {
+                    for (Entry<Integer, long[]> entry : sentCounts.entrySet()) {
+                        SendRowsMessage endSendRowsMessage = (SendRowsMessage) NodeMessage.getNodeMessage(NodeMessage.MSG_END_SEND_ROWS);
+                        endSendRowsMessage.setRequestId(requestId);
+                        endSendRowsMessage.setDestNodeForRows(entry.getKey());
+                        endSendRowsMessage.setNumRowsSent(entry.getValue()[0]);
+                        endSendRowsMessage.setNumBytesSent(entry.getValue()[1]);
+                        endSendRowsMessage.setAckWaitMillis(ackWaitMillis);
+                        sendHelper.sendMessage(new Integer(0),
+                                endSendRowsMessage);
+                    }
+                }
             } catch (Exception e) {
                 logger.catching(e);
                 XDBServerException ex = new XDBServerException(
@@ -675,14 +707,14 @@ public class ProducerSender {
 
             if (!Props.XDB_USE_LOAD_FOR_STEP) {
                 NodeMessage buildNodeMessage = nodeMsgTable.get(null);
+                boolean addCoord = aStepDetail.getDestType() == StepDetail.DEST_TYPE_BROADCAST_AND_COORD
+                || aStepDetail.combineOnCoordFirst;
 
                 if (buildNodeMessage == null) {
                     ++dataSeqNo;
                     buildNodeMessage = NodeMessage.getNodeMessage(NodeMessage.MSG_SEND_DATA);
                     buildNodeMessage.setDataSeqNo(dataSeqNo);
                     Integer[] targetNodeIDs;
-                    boolean addCoord = aStepDetail.getDestType() == StepDetail.DEST_TYPE_BROADCAST_AND_COORD
-                    || aStepDetail.combineOnCoordFirst;
                     if (aStepDetail.consumerNodeList == null) {
                         targetNodeIDs = addCoord ? new Integer[] { new Integer(
                                 0) } : null;
@@ -700,6 +732,16 @@ public class ProducerSender {
                 }
 
                 buildNodeMessage.addRowData(insertValueString);
+                if (sentCounts != null) {
+                    if (aStepDetail.consumerNodeList != null) {
+                        for (Integer nodeId : aStepDetail.consumerNodeList) {
+                            countSent(nodeId, insertValueString);
+                        }
+                    }
+                    if (addCoord) {
+                        countSent(0, insertValueString);
+                    }
+                }
 
                 if (!buildNodeMessage.canAddRows()) {
                     sendHelper.sendMessageByDestInMessage(buildNodeMessage);
@@ -715,6 +757,22 @@ public class ProducerSender {
         }
     }
 
+    /**
+     * Accounts the row sent to the node, for step statistics
+     *
+     * @param nodeId
+     * @param row
+     */
+    private void countSent(Integer nodeId, String row) {
+        long[] counts = sentCounts.get(nodeId);
+        if (counts == null) {
+            counts = new long[2];
+            sentCounts.put(nodeId, counts);
+        }
+        counts[0]++;
+        counts[1] += row.length();
+    }
+
     /**
      *
      * @param maxUnacked
@@ -724,6 +782,7 @@ public class ProducerSender {
     private void checkAcks(int maxUnacked) throws XDBServerException {
         final String method = "checkAcks";
         logger.entering(method);
+        long waitStart = System.currentTimeMillis();
         try {
             while (anAckTracker != null
                     && anAckTracker.getUnackedKeyCount() > maxUnacked
@@ -771,6 +830,7 @@ public class ProducerSender {
         } catch (InterruptedException ie) {
             // Just exit the loop
         } finally {
+            ackWaitMillis += System.currentTimeMillis() - waitStart;
             logger.exiting(method);
         }
     }
@@ -802,6 +862,9 @@ public class ProducerSender {
                 }
 
                 buildNodeMessage.addRowData(insertValueString);
+                if (sentCounts != null) {
+                    countSent(iNodeId, insertValueString);
+                }
 
                 // see if the message for target node is full and we should send
                 if (!buildNodeMessage.canAddRows()) {
@@ -256,6 +256,8 @@ public class ServerStatement {
                 }
 
             }
+            // Statement may be executed again
+            result = null;
         }
     }
 
@@ -0,0 +1,552 @@
+/*****************************************************************************
+ * Copyright (C) 2008 EnterpriseDB Corporation.
+ * Copyright (C) 2011 Stado Global Development Group.
+ *
+ * This file is part of Stado.
+ *
+ * Stado is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Stado is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Stado.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * You can find Stado at http://www.stado.us
+ *
+ ****************************************************************************/
+package org.postgresql.stado.engine;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import org.postgresql.stado.common.util.ParseCmdLine;
+import org.postgresql.stado.common.util.Props;
+import org.postgresql.stado.common.util.XLogger;
+import org.postgresql.stado.engine.loader.Loader;
+import org.postgresql.stado.exception.XDBServerException;
+import org.postgresql.stado.metadata.DBNode;
+import org.postgresql.stado.metadata.MetaData;
+import org.postgresql.stado.metadata.NodeDBConnectionInfo;
+import org.postgresql.stado.metadata.SysCheck;
+import org.postgresql.stado.metadata.SysColumn;
+import org.postgresql.stado.metadata.SysDatabase;
+import org.postgresql.stado.metadata.SysIndex;
+import org.postgresql.stado.metadata.SysIndexKey;
+import org.postgresql.stado.metadata.SysTable;
+import org.postgresql.stado.metadata.SyncMoveBucket;
+import org.postgresql.stado.metadata.partitions.HashPartitionMap;
+import org.postgresql.stado.metadata.partitions.PartitionRouter;
+import org.postgresql.stado.optimizer.SqlExpression;
+import org.postgresql.stado.parser.ExpressionType;
+import org.postgresql.stado.parser.handler.IdentifierHandler;
+
+/**
+ * Moves hash buckets of a hash partitioned table between the nodes, so
+ * buckets are evenly distributed among the specified nodes. Rows of the
+ * buckets that are moving out of a node are copied by the Loader into
+ * staging tables on destination nodes, in one pass over the source node.
+ * Then buckets are switched one by one: rows of the bucket are moved from
+ * the staging table into the table and deleted from the source node, and
+ * the bucket is assigned to the destination node in the MetaData, all in
+ * the same transaction. Rows to move and delete are selected by their
+ * partitioning key values, as they are read back from the staging tables.
+ * The table can be queried while it is rebalanced, writers are locked out.
+ * If the row counts do not match the bucket move is rolled back, and
+ * rebalancing may be resumed later from where it stopped.
+ */
+public class TableRebalancer {
+    private static final XLogger logger = XLogger.getLogger(TableRebalancer.class);
+
+    private static final String STAGING_PREFIX = "XREBALANCE_";
+
+    private XDBSessionContext client;
+
+    private SysTable table;
+
+    private String quotedTableName;
+
+    private String quotedPartitionColumn;
+
+    /**
+     * @param client
+     * @param table
+     *            the table to rebalance, must be hash partitioned
+     */
+    public TableRebalancer(XDBSessionContext client, SysTable table) {
+        this.client = client;
+        this.table = table;
+        quotedTableName = IdentifierHandler.quote(table.getTableName());
+        quotedPartitionColumn = IdentifierHandler.quote(table.getPartitionColumn());
+    }
+
+    /**
+     * Checks if the table can be rebalanced onto specified nodes
+     *
+     * @param nodeList
+     * @throws XDBServerException
+     */
+    public void validate(Collection<DBNode> nodeList) throws XDBServerException {
+        if (!(table.getPartitionMap() instanceof HashPartitionMap)
+                || table.getPartitionScheme() != SysTable.PTYPE_HASH) {
+            throw new XDBServerException("Table " + table.getTableName()
+                    + " is not hash partitioned");
+        }
+        if (table.getParentTable() != null
+                || table.getChildrenTables() != null
+                && !table.getChildrenTables().isEmpty()) {
+            throw new XDBServerException("Table " + table.getTableName()
+                    + " is in inheritance hierarchy, it can not be rebalanced");
+        }
+        if (table.isTemporary()) {
+            throw new XDBServerException("Temporary table "
+                    + table.getTableName() + " can not be rebalanced");
+        }
+        if (nodeList.isEmpty()) {
+            throw new XDBServerException("Node list is empty");
+        }
+        if (!getNewNodes(nodeList).isEmpty()) {
+            boolean hasTablespace = table.getTablespaceID() != -1;
+            for (SysIndex index : table.getSysIndexList()) {
+                hasTablespace |= index.tablespaceID != -1;
+            }
+            if (hasTablespace) {
+                throw new XDBServerException("Table " + table.getTableName()
+                        + " or its index is in a tablespace, it can not be"
+                        + " extended to new nodes");
+            }
+        }
+    }
+
+    /**
+     * @param nodeList
+     * @return nodes from the list where the table does not exist yet
+     */
+    private Collection<DBNode> getNewNodes(Collection<DBNode> nodeList) {
+        Collection<DBNode> newNodes = new ArrayList<DBNode>();
+        Collection<Integer> current = table.getPartitionMap().allPartitions();
+        for (DBNode node : nodeList) {
+            if (!current.contains(node.getNodeId())) {
+                newNodes.add(node);
+            }
+        }
+        return newNodes;
+    }
+
+    /**
+     * Rebalances the table
+     *
+     * @param engine
+     * @param nodeList
+     *            nodes where the table should be distributed to
+     * @return number of rows moved
+     * @throws Exception
+     */
+    public long rebalance(Engine engine, Collection<DBNode> nodeList)
+            throws Exception {
+        final String method = "rebalance";
+        logger.entering(method, new Object[] { table.getTableName(), nodeList });
+        try {
+            validate(nodeList);
+            Collection<Integer> nodeIds = new TreeSet<Integer>();
+            for (DBNode node : nodeList) {
+                nodeIds.add(node.getNodeId());
+            }
+            HashPartitionMap currentMap = (HashPartitionMap) table.getPartitionMap();
+            HashPartitionMap targetMap = currentMap.rebalance(nodeIds);
+            // source node -> bucket -> destination node
+            Map<Integer,Map<Integer,Integer>> moves = new TreeMap<Integer,Map<Integer,Integer>>();
+            for (int bucket = 0; bucket < currentMap.getBucketCount(); bucket++) {
+                Integer source = currentMap.getBucketPartition(bucket);
+                Integer destination = targetMap.getBucketPartition(bucket);
+                if (!source.equals(destination)) {
+                    Map<Integer,Integer> sourceMoves = moves.get(source);
+                    if (sourceMoves == null) {
+                        sourceMoves = new TreeMap<Integer,Integer>();
+                        moves.put(source, sourceMoves);
+                    }
+                    sourceMoves.put(bucket, destination);
+                }
+            }
+            if (moves.isEmpty()) {
+                return 0;
+            }
+            createTable(engine, getNewNodes(nodeList));
+            long rowCount = 0;
+            for (Map.Entry<Integer,Map<Integer,Integer>> entry : moves.entrySet()) {
+                rowCount += moveBuckets(engine, entry.getKey(), entry.getValue());
+            }
+            return rowCount;
+        } finally {
+            logger.exiting(method);
+        }
+    }
+
+    /**
+     * Creates the table with its indexes and checks on the nodes.
+     *
+     * @param engine
+     * @param nodeList
+     */
+    private void createTable(Engine engine, Collection<DBNode> nodeList) {
+        if (nodeList.isEmpty()) {
+            return;
+        }
+        List<String> commands = new ArrayList<String>();
+        commands.add(table.getTableDef(false));
+        SysColumn serialColumn = table.getSerialColumn();
+        for (SysIndex index : table.getSysIndexList()) {
+            List<SysColumn> keyColumns = index.getKeyColumns();
+            // Index on serial column is not created on nodes
+            if (keyColumns.size() == 1 && keyColumns.get(0) == serialColumn) {
+                continue;
+            }
+            StringBuffer sbColumns = new StringBuffer();
+            for (SysIndexKey key : index.getIndexKeys()) {
+                sbColumns.append(IdentifierHandler.quote(
+                        key.sysColumn.getColName()));
+                if (key.coloperator != null) {
+                    sbColumns.append(" ").append(key.coloperator);
+                }
+                if (key.idxascdesc != 0) {
+                    sbColumns.append(" DESC");
+                }
+                sbColumns.append(", ");
+            }
+            sbColumns.setLength(sbColumns.length() - 2);
+            if (index.idxtype == 'P') {
+                HashMap<String,String> arguments = new HashMap<String,String>();
+                arguments.put("table", quotedTableName);
+                arguments.put("col_list", sbColumns.toString());
+                arguments.put("constr_name", IdentifierHandler.quote(
+                        table.getPrimaryConstraint() == null ? index.idxname
+                                : table.getPrimaryConstraint().getConstName()));
+                commands.add("ALTER TABLE " + quotedTableName + " "
+                        + ParseCmdLine.substitute(
+                                Props.XDB_SQLCOMMAND_ALTERTABLE_ADDPRIMARY,
+                                arguments));
+            } else {
+                StringBuffer sbCreateIndex = new StringBuffer("CREATE ");
+                sbCreateIndex.append(index.idxtype == 'U' ? "UNIQUE" : "").append(
+                        " INDEX ").append(IdentifierHandler.quote(index.idxname));
+                sbCreateIndex.append(" ON ").append(quotedTableName);
+                if (index.usingtype != null) {
+                    sbCreateIndex.append(" USING ").append(index.usingtype);
+                }
+                sbCreateIndex.append(" (").append(sbColumns).append(")");
+                if (index.wherepred != null) {
+                    sbCreateIndex.append(" WHERE ").append(index.wherepred);
+                }
+                commands.add(sbCreateIndex.toString());
+            }
+        }
+        for (SysCheck check : table.getSysChecks()) {
+            HashMap<String,String> arguments = new HashMap<String,String>();
+            arguments.put("constr_name", IdentifierHandler.quote(
+                    check.getConstraint().getConstName()));
+            arguments.put("check_def", check.getCheckDef());
+            commands.add("ALTER TABLE " + quotedTableName + " "
+                    + ParseCmdLine.substitute(
+                            Props.XDB_SQLCOMMAND_ALTERTABLE_ADDCHECK, arguments));
+        }
+        MultinodeExecutor aMultinodeExecutor = client.getMultinodeExecutor(nodeList);
+        engine.beginTransaction(client, nodeList);
+        try {
+            for (String command : commands) {
+                aMultinodeExecutor.executeCommand(command, nodeList, false);
+            }
+            aMultinodeExecutor.commit();
+        } catch (XDBServerException e) {
+            aMultinodeExecutor.rollback();
+            throw e;
+        }
+    }
+
+    /**
+     * Moves the buckets out of the source node
+     *
+     * @param engine
+     * @param sourceId
+     * @param bucketMoves
+     *            bucket -> destination node
+     * @return number of rows moved
+     * @throws Exception
+     */
+    private long moveBuckets(Engine engine, Integer sourceId,
+            Map<Integer,Integer> bucketMoves) throws Exception {
+        SysDatabase database = MetaData.getMetaData().getSysDatabase(
+                client.getDBName());
+        DBNode source = database.getDBNode(sourceId);
+        Collection<DBNode> destinations = new ArrayList<DBNode>();
+        for (Integer destinationId : new TreeSet<Integer>(bucketMoves.values())) {
+            destinations.add(database.getDBNode(destinationId));
+        }
+        String stagingTable = STAGING_PREFIX + table.getTableId();
+        String quotedStagingTable = IdentifierHandler.quote(stagingTable);
+        MultinodeExecutor aMultinodeExecutor = client.getMultinodeExecutor(destinations);
+        aMultinodeExecutor.executeCommand("CREATE TABLE " + quotedStagingTable
+                + " (LIKE " + quotedTableName + ")", destinations, true);
+        try {
+            BucketFilter filter = copyBuckets(engine, source, destinations,
+                    stagingTable, bucketMoves);
+            Map<Integer,Collection<String>> values = getBucketValues(engine,
+                    destinations, quotedStagingTable);
+            long rowCount = 0;
+            for (Map.Entry<Integer,Integer> entry : bucketMoves.entrySet()) {
+                Collection<String> bucketValues = values.get(entry.getKey());
+                if (bucketValues == null) {
+                    bucketValues = Collections.emptySet();
+                }
+                rowCount += switchBucket(engine, entry.getKey(), source,
+                        database.getDBNode(entry.getValue()),
+                        quotedStagingTable, filter.getRowCount(entry.getKey()),
+                        bucketValues);
+            }
+            return rowCount;
+        } finally {
+            try {
+                aMultinodeExecutor.executeCommand("DROP TABLE "
+                        + quotedStagingTable, destinations, true);
+            } catch (Exception e) {
+                logger.catching(e);
+            }
+        }
+    }
+
+    /**
+     * Copies rows of the moving buckets from the source node into staging
+     * tables on destination nodes
+     *
+     * @return the filter, holding row counts of the copied buckets
+     * @throws Exception
+     */
+    private BucketFilter copyBuckets(Engine engine, DBNode source,
+            Collection<DBNode> destinations, String stagingTable,
+            Map<Integer,Integer> bucketMoves) throws Exception {
+        ResultSet rs = engine.executeQueryOnMultipleNodes(
+                "SELECT * FROM " + quotedTableName,
+                Collections.singleton(source), client).get(source.getNodeId());
+        try {
+            ResultSetMetaData rsmd = rs.getMetaData();
+            int partColumn = -1;
+            for (int i = 1; i <= rsmd.getColumnCount(); i++) {
+                if (table.getPartitionColumn().equalsIgnoreCase(
+                        rsmd.getColumnName(i))) {
+                    partColumn = i - 1;
+                    break;
+                }
+            }
+            NodeDBConnectionInfo[] nodeInfos = new NodeDBConnectionInfo[destinations.size()];
+            int i = 0;
+            for (DBNode destination : destinations) {
+                nodeInfos[i++] = destination.getNodeDBConnectionInfo();
+            }
+            BucketFilter filter = new BucketFilter(
+                    (HashPartitionMap) table.getPartitionMap(), bucketMoves);
+            Loader loader = new Loader(rs, null);
+            loader.setTargetTableInfoExt(stagingTable, partColumn, null,
+                    filter, new ExpressionType(table.getPartitionedColumn()),
+                    0, null, false, false, nodeInfos);
+            loader.setMaxBytesPerSecond(Props.XDB_REBALANCE_MAXBYTESPERSECOND);
+            loader.prepareLoad();
+            boolean success = false;
+            try {
+                loader.runWriters();
+                success = true;
+            } finally {
+                loader.finishLoad(success);
+            }
+            return filter;
+        } finally {
+            rs.close();
+        }
+    }
+
+    /**
+     * Reads distinct partitioning key values from the staging tables and
+     * groups them by bucket. The values are kept in the text form the
+     * database has output, so they can be passed back as literals; they are
+     * normalized only to find their bucket, the same way the Loader does.
+     *
+     * @return bucket -> values
+     * @throws SQLException
+     */
+    private Map<Integer,Collection<String>> getBucketValues(Engine engine,
+            Collection<DBNode> destinations, String quotedStagingTable)
+            throws SQLException {
+        HashPartitionMap partitionMap = (HashPartitionMap) table.getPartitionMap();
+        ExpressionType hashDataType = new ExpressionType(
+                table.getPartitionedColumn());
+        Map<Integer,Collection<String>> values = new HashMap<Integer,Collection<String>>();
+        Map<Integer,ResultSet> results = engine.executeQueryOnMultipleNodes(
+                "SELECT DISTINCT " + quotedPartitionColumn + " FROM "
+                        + quotedStagingTable, destinations, client);
+        for (ResultSet rs : results.values()) {
+            try {
+                while (rs.next()) {
+                    String value = rs.getString(1);
+                    String key = value == null ? null
+                            : SqlExpression.createConstantExpression(value,
+                                    hashDataType).getNormalizedValue();
+                    int bucket = partitionMap.getBucket(key);
+                    Collection<String> bucketValues = values.get(bucket);
+                    if (bucketValues == null) {
+                        bucketValues = new ArrayList<String>();
+                        values.put(bucket, bucketValues);
+                    }
+                    bucketValues.add(value);
+                }
+            } finally {
+                rs.close();
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Moves rows of the bucket from the staging table on destination node to
+     * the table, deletes them on the source node and assigns the bucket to
+     * the destination node.
+     *
+     * @param expected
+     *            number of rows copied to the staging table
+     * @param values
+     *            partitioning key values of the bucket
+     * @return number of rows moved
+     * @throws Exception
+     */
+    private long switchBucket(Engine engine, int bucket, DBNode source,
+            DBNode destination, String quotedStagingTable, long expected,
+            Collection<String> values) throws Exception {
+        final String method = "switchBucket";
+        logger.entering(method, new Object[] { bucket, source, destination });
+        try {
+            List<String> conditions = getConditions(values);
+            Collection<DBNode> sourceList = Collections.singleton(source);
+            Collection<DBNode> destinationList = Collections.singleton(destination);
+            Collection<DBNode> nodeList = new ArrayList<DBNode>(2);
+            nodeList.add(source);
+            nodeList.add(destination);
+            MultinodeExecutor aMultinodeExecutor = client.getMultinodeExecutor(nodeList);
+            engine.beginTransaction(client, nodeList);
+            try {
+                long inserted = 0;
+                long deleted = 0;
+                for (String condition : conditions) {
+                    inserted += aMultinodeExecutor.executeCommand("INSERT INTO "
+                            + quotedTableName + " SELECT * FROM "
+                            + quotedStagingTable + " WHERE " + condition,
+                            destinationList, false);
+                    deleted += aMultinodeExecutor.executeCommand("DELETE FROM "
+                            + quotedTableName + " WHERE " + condition,
+                            sourceList, false);
+                }
+                if (inserted != expected || deleted != expected) {
+                    throw new XDBServerException("Rows of bucket " + bucket
+                            + " of table " + table.getTableName()
+                            + " do not match the copied rows,"
+                            + " rebalancing is interrupted");
+                }
+            } catch (XDBServerException e) {
+                aMultinodeExecutor.rollback();
+                throw e;
+            }
+            HashPartitionMap newMap = ((HashPartitionMap) table.getPartitionMap()).moveBucket(
+                    bucket, destination.getNodeId());
+            engine.doMetadataUpdate(aMultinodeExecutor, new SyncMoveBucket(
+                    table, newMap, bucket), client);
+            return expected;
+        } finally {
+            logger.exiting(method);
+        }
+    }
+
+    /**
+     * Builds conditions selecting rows having specified partitioning key
+     * values, no more than configured number of values per condition.
+     *
+     * @param values
+     *            values in the text form output by the database
+     * @return
+     */
+    private List<String> getConditions(Collection<String> values) {
+        List<String> conditions = new ArrayList<String>();
+        StringBuffer sbValues = new StringBuffer();
+        int count = 0;
+        for (Iterator<String> it = values.iterator(); it.hasNext();) {
+            String value = it.next();
+            if (value == null) {
+                conditions.add(quotedPartitionColumn + " IS NULL");
+            } else {
+                sbValues.append("E'").append(
+                        value.replace("\\", "\\\\").replace("'", "''")).append(
+                        "', ");
+                count++;
+            }
+            if (count > 0
+                    && (count == Props.XDB_REBALANCE_KEYSPERSTATEMENT || !it.hasNext())) {
+                sbValues.setLength(sbValues.length() - 2);
+                conditions.add(quotedPartitionColumn + " IN (" + sbValues
+                        + ")");
+                sbValues.setLength(0);
+                count = 0;
+            }
+        }
+        return conditions;
+    }
+
+    /**
+     * Routes the rows loaded into staging tables. Passes through only rows
+     * of the moving buckets, sending them to the bucket's destination node,
+     * and counts rows of the buckets.
+     */
+    private static class BucketFilter implements PartitionRouter {
+        private HashPartitionMap partitionMap;
+
+        private Map<Integer,Integer> bucketMoves;
+
+        private Map<Integer,Long> rowCounts = new HashMap<Integer,Long>();
+
+        private BucketFilter(HashPartitionMap partitionMap,
+                Map<Integer,Integer> bucketMoves) {
+            this.partitionMap = partitionMap;
+            this.bucketMoves = bucketMoves;
+        }
+
+        public synchronized Collection<Integer> getPartitions(String key) {
+            int bucket = partitionMap.getBucket(key);
+            Integer destination = bucketMoves.get(bucket);
+            if (destination == null) {
+                return Collections.emptySet();
+            }
+            Long count = rowCounts.get(bucket);
+            rowCounts.put(bucket, count == null ? 1 : count + 1);
+            return Collections.singleton(destination);
+        }
+
+        private long getRowCount(int bucket) {
+            Long count = rowCounts.get(bucket);
+            return count == null ? 0 : count;
+        }
+
+        public Collection<Integer> allPartitions() {
+            return new HashSet<Integer>(bucketMoves.values());
+        }
+    }
+}
@@ -29,11 +29,14 @@ import java.io.IOException;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Hashtable;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.Map;
 import java.util.Properties;
@@ -66,10 +69,12 @@ import org.postgresql.stado.metadata.scheduler.ILockCost;
 import org.postgresql.stado.metadata.scheduler.ITransaction;
 import org.postgresql.stado.metadata.scheduler.Scheduler;
 import org.postgresql.stado.optimizer.QueryTree;
+import org.postgresql.stado.parser.IXDBSql;
 import org.postgresql.stado.parser.Parser;
 import org.postgresql.stado.parser.SqlCreateUser;
 import org.postgresql.stado.parser.SqlGrant;
 import org.postgresql.stado.parser.SqlModifyTable;
+import org.postgresql.stado.parser.SqlSelect;
 
 
 /**
@@ -95,6 +100,9 @@ public class XDBSessionContext implements MessageTypes, ITransaction {
     // A logger to trace session instance
     private XLogger logSession;
 
+    /** Returns pooled connection to default settings */
+    static final String RESET_SETTINGS = "RESET ALL";
+
     private static final Collection<XDBSessionContext> sessions = new HashSet<XDBSessionContext>();
 
     private static volatile int lastSessionID = 0;
@@ -102,6 +110,20 @@ public class XDBSessionContext implements MessageTypes, ITransaction {
     /** whether or not the user has made changes to their 
      * connection/environment */
     private boolean usedSet = false;
+
+    /**
+     * SET commands the client has executed, by property name. If sessions
+     * are multiplexed they are replayed on every connection the session
+     * takes from the pools.
+     */
+    private LinkedHashMap<String, String> sessionSettings = new LinkedHashMap<String, String>();
+
+    /**
+     * SET commands executed in the current transaction. They are moved to
+     * sessionSettings when the transaction commits and dropped when it rolls
+     * back, like the database does. Guarded by sessionSettings.
+     */
+    private LinkedHashMap<String, String> transactionSettings = new LinkedHashMap<String, String>();
     
     /**
      * Global statement Id
@@ -655,6 +677,10 @@ public class XDBSessionContext implements MessageTypes, ITransaction {
             synchronized (this) {
                 for (ExecutableRequest request : executables) {
                     request.cancel();
+                    if (database != null) {
+                        database.getScheduler().cancelRequest(
+                                request.getCost());
+                    }
                 }
                 executables.clear();
                 notifyAll();
@@ -691,6 +717,7 @@ public class XDBSessionContext implements MessageTypes, ITransaction {
             synchronized (database.getScheduler()) {
                 logSession.debug("Releasing locks from LM, if still held");
                 database.getLm().notifyTransactionEnd(this);
+                database.getScheduler().locksReleased();
             }
         } finally {
             sessions.remove(this);
@@ -808,10 +835,33 @@ public class XDBSessionContext implements MessageTypes, ITransaction {
     public Connection getAndSetCoordinatorConnection() {
         if (coordConnection == null) {
             coordConnection = CoordinatorPools.getConnection(dbName);
+            applySessionSettings(coordConnection);
         }
         return coordConnection;
     }
 
+    /**
+     * Replay the SET commands of the session on the pooled connection
+     *
+     * @param conn
+     */
+    private void applySessionSettings(Connection conn) {
+        String settings = getSessionSettings();
+        if (settings != null) {
+            try {
+                Statement stmt = conn.createStatement();
+                try {
+                    stmt.execute(settings);
+                } finally {
+                    stmt.close();
+                }
+            } catch (SQLException e) {
+                // SET errors are ignored when the command is executed
+                logger.catching(e);
+            }
+        }
+    }
+
     /**
      * @return
      */
@@ -821,6 +871,7 @@ public class XDBSessionContext implements MessageTypes, ITransaction {
             CoordinatorPools.destroyConnection(dbName, coordConnection);
 
             coordConnection = CoordinatorPools.getConnection(dbName);
+            applySessionSettings(coordConnection);
         }
         return coordConnection;
     }
@@ -832,6 +883,14 @@ public class XDBSessionContext implements MessageTypes, ITransaction {
         if (coordConnection != null) {
             try {
                 coordConnection.rollback();
+                if (hasUsedSet()) {
+                    Statement stmt = coordConnection.createStatement();
+                    try {
+                        stmt.execute(RESET_SETTINGS);
+                    } finally {
+                        stmt.close();
+                    }
+                }
                 CoordinatorPools.releaseConnection(dbName, coordConnection);
             } catch (Exception e) {
                 logger.catching(e);
@@ -952,11 +1011,16 @@ public class XDBSessionContext implements MessageTypes, ITransaction {
         if (!flag) {
             // clear savepoints after commit or rollback
             savepointTable.clear();
+            // settings of committed transaction are already saved
+            synchronized (sessionSettings) {
+                transactionSettings.clear();
+            }
             if (database != null) {
                 logSession
                         .debug("Transaction is completed, releasing all the locks");
                 synchronized (database.getScheduler()) {
                     database.getLm().notifyTransactionEnd(this);
+                    database.getScheduler().locksReleased();
                 }
             }
         }
@@ -1184,12 +1248,105 @@ public class XDBSessionContext implements MessageTypes, ITransaction {
 
     public void closeCursor(String cursorID) {
         ServerStatement statement = cursors.remove(cursorID);
-        if (statement != null && statement != statements.get(statement.getStatementID())) {
+        if (statement != null
+                && (statement != statements.get(statement.getStatementID())
+                        || cachedStatements.containsKey(statement.getStatementID()))) {
             statement.close();
         }
         tryToReleaseConnections();
     }
 
+    /*
+     * Plan cache section start
+     */
+    /**
+     * Statements holding plans of the PlanCache entries, least recently
+     * used first
+     */
+    private LinkedHashMap<String, String> cachedStatements = new LinkedHashMap<String, String>(
+            16, 0.75f, true);
+
+    /**
+     * If plan of the query shape is cached, or can be cached, bind the
+     * literal values of the query to the cached statement and open the
+     * cursor.
+     *
+     * @param cmd
+     *            the query
+     * @param cursorID
+     * @return false if the query should be parsed and executed as usual
+     */
+    public boolean bindCachedStatement(String cmd, String cursorID) {
+        if (!PlanCache.isEnabled()) {
+            return false;
+        }
+        ArrayList<String> values = new ArrayList<String>();
+        ArrayList<Integer> types = new ArrayList<Integer>();
+        String sql = PlanCache.normalize(cmd, values, types);
+        if (sql == null) {
+            return false;
+        }
+        int[] paramTypes = new int[types.size()];
+        for (int i = 0; i < paramTypes.length; i++) {
+            paramTypes[i] = types.get(i);
+        }
+        PlanCache.Entry entry = PlanCache.getEntry(dbName, sql, paramTypes);
+        if (!entry.isCacheable()) {
+            return false;
+        }
+        String statementID = entry.getStatementID();
+        if (cachedStatements.get(statementID) == null
+                && !prepareCachedStatement(entry)) {
+            return false;
+        }
+        bindStatement(statementID, cursorID,
+                values.toArray(new String[values.size()]));
+        return true;
+    }
+
+    /**
+     * Parse and plan the normalized query of the entry and register it as
+     * the session's statement
+     *
+     * @param entry
+     * @return false if the query can not be planned with parameters
+     */
+    private boolean prepareCachedStatement(PlanCache.Entry entry) {
+        try {
+            Parser parser = new Parser(this);
+            parser.parseStatement(entry.getSql());
+            IXDBSql sqlObject = parser.getSqlObject();
+            if (!(sqlObject instanceof SqlSelect)
+                    || ((SqlSelect) sqlObject).getParamCount() != entry.getParamTypes().length) {
+                entry.setNotCacheable();
+                return false;
+            }
+            if (entry.getParamTypes().length > 0) {
+                ((SqlSelect) sqlObject).setParamDataTypes(entry.getParamTypes());
+            }
+            ExecutableRequest request = new ExecutableRequest(entry.getSql());
+            request.setSQLObject(sqlObject);
+            createStatement(entry.getStatementID(), request);
+        } catch (Exception e) {
+            logSession.debug("Query is not cacheable: " + entry.getSql()
+                    + ", " + e.getMessage());
+            entry.setNotCacheable();
+            return false;
+        }
+        cachedStatements.put(entry.getStatementID(), entry.getStatementID());
+        if (cachedStatements.size() > Props.XDB_PLANCACHE_SESSION_SIZE) {
+            Iterator<String> it = cachedStatements.keySet().iterator();
+            String eldest = it.next();
+            it.remove();
+            closeStatement(eldest);
+        }
+        return true;
+    }
+
+    /*
+     * Plan cache section end
+     */
+
     /**
      * This method is blocking - it returns only if request is successfully
      * completed or rejected with error. Request handling sequence: 1. Request
@@ -1242,9 +1399,13 @@ public class XDBSessionContext implements MessageTypes, ITransaction {
         SysDatabase database = this.database;
         try {
             Scheduler scheduler = database.getScheduler();
-            scheduler.addRequest(executableRequest.getCost(), this);
-            ILockCost lockCost = executableRequest.getCost().getSqlObject();
             try {
+                if (!scheduler.addRequest(executableRequest.getCost(), this)) {
+                    return ExecutionResult
+                            .createErrorResult(new XDBServerException(
+                                    "Request has been cancelled"));
+                }
+                ILockCost lockCost = executableRequest.getCost().getSqlObject();
                 while (result == null) {
                     // Register the request with scheduler
                     // try and place locks, acquire other resources
@@ -1279,8 +1440,8 @@ public class XDBSessionContext implements MessageTypes, ITransaction {
                     } else {
                         // remove locks
                         tryToReleaseConnections();
-                        scheduler.holdRequest(executableRequest.getCost());
-                        if (executableRequest.cancelled()) {
+                        if (!scheduler.holdRequest(executableRequest.getCost())
+                                || executableRequest.cancelled()) {
                             database.getLm().notifyRefusedRequest(this);
                             return ExecutionResult
                                     .createErrorResult(new XDBServerException(
@@ -1320,7 +1481,8 @@ public class XDBSessionContext implements MessageTypes, ITransaction {
         return forcePersistent || isInTransaction || savepointTable.size() != 0
                 || isInBatch || hasActiveResultSets()
                 || tempTableMap.size() != 0 || hasPreparedStatements()
-                || (usedSet && Props.XDB_PERSIST_ON_SET)
+                || (usedSet && Props.XDB_PERSIST_ON_SET
+                        && !Props.XDB_SESSION_MULTIPLEX)
                 || this.mode == CONNECTION_MODE_PERSISTENT;
     }
 
@@ -1392,6 +1554,11 @@ public class XDBSessionContext implements MessageTypes, ITransaction {
     public synchronized void kill(ExecutableRequest execRequest) {
         execRequest.cancel();
         notifyAll();
+        // Wake up the request if it is waiting for admission
+        SysDatabase database = this.database;
+        if (database != null) {
+            database.getScheduler().cancelRequest(execRequest.getCost());
+        }
     }
 
     /*
@@ -1570,4 +1737,85 @@ public class XDBSessionContext implements MessageTypes, ITransaction {
     public void setUsedSet() {
         usedSet = true;
     }
+
+    /**
+     * @return true if the client has used SET, and connections it has taken
+     *         may need to be reset before they are returned to the pools
+     */
+    boolean hasUsedSet() {
+        return usedSet;
+    }
+
+    /**
+     * The client has executed SET command. If sessions are multiplexed the
+     * command is remembered to be replayed on the pooled connections the
+     * session will take later. Inside a transaction the command is kept
+     * aside until the transaction commits.
+     *
+     * @param propertyName
+     * @param sqlStatement
+     */
+    public void addSessionSetting(String propertyName, String sqlStatement) {
+        if (Props.XDB_SESSION_MULTIPLEX) {
+            synchronized (sessionSettings) {
+                putSetting(isInTransaction ? transactionSettings
+                        : sessionSettings, propertyName.toLowerCase(),
+                        sqlStatement);
+            }
+        }
+    }
+
+    /**
+     * Keep the order of the last assignments
+     *
+     * @param settings
+     * @param propertyName
+     * @param sqlStatement
+     */
+    private static void putSetting(LinkedHashMap<String, String> settings,
+            String propertyName, String sqlStatement) {
+        settings.remove(propertyName);
+        settings.put(propertyName, sqlStatement);
+    }
+
+    /**
+     * The transaction has been committed, the SET commands executed in it
+     * become settings of the session.
+     */
+    void commitSessionSettings() {
+        synchronized (sessionSettings) {
+            for (Map.Entry<String, String> entry : transactionSettings
+                    .entrySet()) {
+                putSetting(sessionSettings, entry.getKey(), entry.getValue());
+            }
+            transactionSettings.clear();
+        }
+    }
+
+    /**
+     * @return the SET commands to replay as a single statement, or null if
+     *         there are not any. Commands of the current transaction are
+     *         included.
+     */
+    String getSessionSettings() {
+        synchronized (sessionSettings) {
+            if (sessionSettings.isEmpty() && transactionSettings.isEmpty()) {
+                return null;
+            }
+            LinkedHashMap<String, String> settings = new LinkedHashMap<String, String>(
+                    sessionSettings);
+            for (Map.Entry<String, String> entry : transactionSettings
+                    .entrySet()) {
+                putSetting(settings, entry.getKey(), entry.getValue());
+            }
+            StringBuilder sb = new StringBuilder();
+            for (String sqlStatement : settings.values()) {
+                if (sb.length() > 0) {
+                    sb.append("; ");
+                }
+                sb.append(sqlStatement);
+            }
+            return sb.toString();
+        }
+    }
 }
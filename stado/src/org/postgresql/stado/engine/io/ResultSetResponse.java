@@ -38,6 +38,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import org.postgresql.stado.common.ColumnMetaData;
+import org.postgresql.stado.common.util.ByteArrayPool;
 import org.postgresql.stado.common.util.XLogger;
 import org.postgresql.stado.engine.datatypes.BigDecimalType;
 import org.postgresql.stado.engine.datatypes.BlobType;
@@ -98,6 +99,8 @@ public class ResultSetResponse extends ResponseMessage {
 
     private boolean[] columnIsBinary;
 
+    private int lastPacketSize = 32767;
+
     public ResultSetResponse() {
 
     }
@@ -213,8 +216,9 @@ public class ResultSetResponse extends ResponseMessage {
         ResponseMessage response = new ResponseMessage(
                 (byte) MessageTypes.RESP_QUERY_RESULTS, 0);
 
-        // init message size to avoid allocs
-        response.initSize(32767);
+        // init message size to avoid allocs, packets of the same result set
+        // are usually of similar size
+        response.reserveHeader(ByteArrayPool.PACKET_POOL, lastPacketSize);
 
         int count;
         if (columnIsBinary == null) {
@@ -267,8 +271,9 @@ public class ResultSetResponse extends ResponseMessage {
 
         if (!reachedMax) {
             exhaustedData = true;
-            response.getMessage()[0] = ResultSetResponse.LAST_PACKET_TRUE;
+            response.getMessage()[response.getMessageOffset()] = ResultSetResponse.LAST_PACKET_TRUE;
         }
+        lastPacketSize = response.getCurrentMessageSize();
 
         logger.debug("total rows read so far " + totalRows + ", total msg len="
                 + response.getMessage().length);
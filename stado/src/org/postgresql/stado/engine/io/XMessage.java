@@ -24,6 +24,7 @@ package org.postgresql.stado.engine.io;
 
 import java.io.UnsupportedEncodingException;
 
+import org.postgresql.stado.common.util.ByteArrayPool;
 import org.postgresql.stado.common.util.Property;
 import org.postgresql.stado.common.util.XLogger;
 
@@ -79,6 +80,13 @@ public abstract class XMessage {
 
     protected int readPos = 0;
 
+    // position of the first byte of the details in message[], HEADER_SIZE
+    // if the header is kept in front of the details
+    protected int messageOffset = 0;
+
+    // pool message[] is taken from, if any
+    protected ByteArrayPool pool = null;
+
     // header info
     // 1. 3 bytes
     protected int packetLength = HEADER_SIZE;// minimum is the header size
@@ -118,18 +126,30 @@ public abstract class XMessage {
 
     /** this will overwrite all previous values */
     public void setHeaderBytes(byte[] header) {
-        this.packetLength = (header[0] & 0xff) | ((header[1] & 0xff) << 8)
-                | ((header[2] & 0xff) << 16);
+        setHeaderBytes(header, 0);
+    }
+
+    private void setHeaderBytes(byte[] header, int offset) {
+        this.packetLength = (header[offset] & 0xff)
+                | ((header[offset + 1] & 0xff) << 8)
+                | ((header[offset + 2] & 0xff) << 16);
 
-        this.requestId = (header[3] & 0xff) | ((header[4] & 0xff) << 8)
-                | ((header[5] & 0xff) << 16) | ((header[6] & 0xff) << 24);
+        this.requestId = (header[offset + 3] & 0xff)
+                | ((header[offset + 4] & 0xff) << 8)
+                | ((header[offset + 5] & 0xff) << 16)
+                | ((header[offset + 6] & 0xff) << 24);
 
-        this.type = header[7];
+        this.type = header[offset + 7];
     }
 
     /** convenient method returning this header in byte[] */
     public byte[] getHeaderBytes() {
         byte[] header = new byte[HEADER_SIZE];
+        writeHeader(header);
+        return header;
+    }
+
+    private void writeHeader(byte[] header) {
         header[0] = (byte) (packetLength & 0xff);
         header[1] = (byte) (packetLength >> 8);
         header[2] = (byte) (packetLength >> 16);
@@ -138,13 +158,60 @@ public abstract class XMessage {
         header[5] = (byte) (requestId >> 16);
         header[6] = (byte) (requestId >> 24);
         header[7] = type;
+    }
 
-        return header;
+    /**
+     * Start new message, which keeps room for the header in front of the
+     * details, so the whole packet can be taken by getPacketBytes() without
+     * copying.
+     *
+     * @param pool
+     *            the pool to take message[] from, may be null
+     * @param size
+     *            expected size of the details
+     */
+    public void reserveHeader(ByteArrayPool pool, int size) {
+        this.pool = pool;
+        message = pool == null ? new byte[HEADER_SIZE + size] : pool
+                .acquire(HEADER_SIZE + size);
+        messageOffset = HEADER_SIZE;
+        currentPos = HEADER_SIZE;
+        readPos = HEADER_SIZE;
+    }
+
+    /**
+     * Returns buffer holding the whole packet, the header followed by the
+     * details, valid bytes are 0 to getPacketLength(). Only available if
+     * message was started with reserveHeader(). The buffer is passed to the
+     * caller, that should return it to the pool when done.
+     *
+     * @return
+     */
+    public byte[] getPacketBytes() {
+        if (messageOffset != HEADER_SIZE) {
+            throw new IllegalStateException("Header is not reserved");
+        }
+        writeHeader(message);
+        return message;
+    }
+
+    /**
+     * Use the buffer holding the whole packet, the header followed by the
+     * details, as message[] without copying.
+     *
+     * @param packet
+     */
+    public void setPacketBytes(byte[] packet) {
+        setHeaderBytes(packet, 0);
+        message = packet;
+        messageOffset = HEADER_SIZE;
+        readPos = HEADER_SIZE;
     }
 
     // now for the details
     public void setMessage(byte[] message) {
         this.message = message;
+        messageOffset = 0;
         readPos = 0;
     }
 
@@ -152,8 +219,15 @@ public abstract class XMessage {
         return message;
     }
 
+    /**
+     * @return position of the first byte of the details in getMessage()
+     */
+    public int getMessageOffset() {
+        return messageOffset;
+    }
+
     public int getCurrentMessageSize() {
-        return currentPos;// this is also the size being used
+        return currentPos - messageOffset;// this is also the size being used
     }
 
     // make sure message[] has enough room for the new data
@@ -167,8 +241,17 @@ public abstract class XMessage {
             }
 
             int newSize = currentPos + size;
-            byte[] tmp = new byte[newSize];
-            System.arraycopy(message, 0, tmp, 0, message.length);
+            byte[] tmp;
+            if (pool == null) {
+                tmp = new byte[newSize];
+            } else {
+                // Pooled arrays are twice as long as needed at most
+                tmp = pool.acquire(Math.max(newSize, message.length * 2));
+            }
+            System.arraycopy(message, 0, tmp, 0, currentPos);
+            if (pool != null) {
+                pool.release(message);
+            }
             message = tmp;
         }
     }
@@ -292,7 +375,7 @@ public abstract class XMessage {
 
     // any more data on message[]
     public boolean hasMoreDataToRead() {
-        return readPos < packetLength - XMessage.HEADER_SIZE;
+        return readPos - messageOffset < packetLength - XMessage.HEADER_SIZE;
     }
 
     // readPos marks where last byte read
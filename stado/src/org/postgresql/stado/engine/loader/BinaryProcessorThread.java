@@ -0,0 +1,101 @@
+/*****************************************************************************
+ * Copyright (C) 2008 EnterpriseDB Corporation.
+ * Copyright (C) 2011 Stado Global Development Group.
+ *
+ * This file is part of Stado.
+ *
+ * Stado is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Stado is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Stado.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * You can find Stado at http://www.stado.us
+ *
+ ****************************************************************************/
+package org.postgresql.stado.engine.loader;
+
+import java.io.IOException;
+import java.util.Map;
+
+
+/**
+ * Data processor which builds binary COPY tuples from values read from a
+ * Result Set (sending intermediate results)
+ */
+public class BinaryProcessorThread extends DataProcessorThread<Object[]> {
+
+    private Object[] colsValue;
+
+    private final PostgresBinaryEncoder encoder;
+
+    private byte[] outputRow;
+
+    /**
+     * Create new processor instance
+     * @param loader
+     * @param id
+     * @param b
+     * @param types type codes of the target columns
+     * @throws Exception
+     */
+    public BinaryProcessorThread(ILoaderConfigInformation loader, int id,
+            DataReaderAndProcessorBuffer<Object[]> b, int[] types) throws Exception {
+        super(loader, id, b);
+        encoder = new PostgresBinaryEncoder(types);
+    }
+
+    @Override
+    protected boolean parseRow() {
+        outputRow = null;
+        return (colsValue = getNextRowValue()) != null;
+    }
+
+    /**
+     * Binary format is used only if there are no generated values
+     */
+    @Override
+    protected void insertGeneratedValues(Map<Integer, String> values) {
+        if (values.size() > 0) {
+            throw new IllegalStateException(
+                    "Generated values are not supported in binary format");
+        }
+    }
+
+    @Override
+    protected String getValue(int colIndex) {
+        Object value = colsValue[colIndex - 1];
+        return value == null ? null : value.toString();
+    }
+
+    /**
+     * Partitioning value is returned as read, integers are hashed without
+     * conversion to text
+     */
+    @Override
+    protected Object getPartitionValue(int colIndex) {
+        return colsValue[colIndex - 1];
+    }
+
+    @Override
+    protected void outputRow(INodeWriter writer) throws IOException {
+        if (outputRow == null) {
+            // Extra values, like node ID, are ignored by encoder
+            outputRow = encoder.encodeRow(colsValue);
+        }
+        writer.writeRow(outputRow);
+    }
+
+    @Override
+    protected int getColumnCount() {
+        return colsValue.length;
+    }
+
+}
@@ -96,6 +96,7 @@ public class CopyOutReaderThread implements Callable<Boolean> {
             	}
                 loadBuffer.putRowValue(rowColsValue, null);
             }
+            loadBuffer.flush();
             return true;
         } catch (Exception ex) {
             if (ex instanceof XDBDataReaderException) {
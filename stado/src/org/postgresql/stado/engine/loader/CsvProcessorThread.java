@@ -26,6 +26,8 @@ package org.postgresql.stado.engine.loader;
 
 /**
  * Data processor which process data in CSV format
+ * Rows are complete CSV records split by the StreamReaderThread, so multiple
+ * processors may run in parallel.
  *
  *
  * @author amart
@@ -96,21 +98,9 @@ public class CsvProcessorThread extends TextProcessorThread {
             if (openQuote) {
                 nextPos = find(outputRow, (byte) getQuoteChar(), pos);
                 if (nextPos == -1) {
-                    // Not completed quoted value, append next row
-                    byte[] nextRow = getNextRowValue();
-                    if (nextRow == null) {
-                        throw new Exception("Closing quote not found");
-                    }
-                    byte[] newOutputRow;
-                    try {
-                        newOutputRow = new byte[outputRow.length + nextRow.length];
-                    } catch (OutOfMemoryError e) {
-                        outputRow = null;
-                        throw new Exception("Not enough heap memory, probably doe to malformed input");
-                    }
-                    System.arraycopy(outputRow, 0, newOutputRow, 0, outputRow.length);
-                    System.arraycopy(nextRow, 0, newOutputRow, outputRow.length, nextRow.length);
-                    outputRow = newOutputRow;
+                    // StreamReaderThread joins lines of quoted values, so
+                    // the row is always complete record
+                    throw new Exception("Closing quote not found");
                 } else {
                     if (getQuoteChar() == getQuoteEscape() && nextPos < outputRow.length - 1 && outputRow[nextPos + 1] == getQuoteChar()) {
                         // Skip escape and quote quote
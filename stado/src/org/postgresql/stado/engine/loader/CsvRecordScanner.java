@@ -0,0 +1,109 @@
+/*****************************************************************************
+ * Copyright (C) 2008 EnterpriseDB Corporation.
+ * Copyright (C) 2011 Stado Global Development Group.
+ *
+ * This file is part of Stado.
+ *
+ * Stado is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Stado is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Stado.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * You can find Stado at http://www.stado.us
+ *
+ ****************************************************************************/
+package org.postgresql.stado.engine.loader;
+
+/**
+ * Tracks quotes in CSV data to find where records end. A line end within
+ * quoted value belongs to the value.
+ * The rules must match to CsvProcessorThread#parseRow(): a value is quoted if
+ * it starts with the quote character, within quoted value the quote is
+ * escaped by preceding escape character or, if the escape is the same as the
+ * quote, by doubling it.
+ */
+class CsvRecordScanner {
+    private final byte quoteChar;
+
+    private final byte quoteEscape;
+
+    private final byte separator;
+
+    private boolean inQuote;
+
+    /**
+     * Quote within quoted value has been seen, and the quote is its own
+     * escape. It is a closing quote unless the next byte is a quote.
+     */
+    private boolean quotePending;
+
+    private boolean fieldStart;
+
+    private byte prevByte;
+
+    CsvRecordScanner(char quoteChar, char quoteEscape, char separator) {
+        this.quoteChar = (byte) quoteChar;
+        this.quoteEscape = (byte) quoteEscape;
+        this.separator = (byte) separator;
+        reset();
+    }
+
+    /**
+     * Set initial state, at the beginning of a record
+     */
+    void reset() {
+        inQuote = false;
+        quotePending = false;
+        fieldStart = true;
+        prevByte = '\n';
+    }
+
+    /**
+     * Update state by the next byte of data
+     * @param b
+     */
+    void update(byte b) {
+        if (quotePending) {
+            quotePending = false;
+            if (b == quoteChar) {
+                // Doubled quote
+                prevByte = b;
+                return;
+            }
+            inQuote = false;
+        }
+        if (inQuote) {
+            if (b == quoteChar) {
+                if (quoteChar == quoteEscape) {
+                    quotePending = true;
+                } else if (prevByte != quoteEscape) {
+                    inQuote = false;
+                }
+            }
+        } else if (b == '\r' || b == '\n') {
+            fieldStart = true;
+        } else {
+            if (fieldStart && b == quoteChar) {
+                inQuote = true;
+            }
+            fieldStart = b == separator;
+        }
+        prevByte = b;
+    }
+
+    /**
+     * @return true if the data seen so far end within quoted value, so line
+     *         end does not end the record
+     */
+    boolean isInQuote() {
+        return inQuote && !quotePending;
+    }
+}
@@ -23,6 +23,7 @@
 package org.postgresql.stado.engine.loader;
 
 import java.io.IOException;
+import java.sql.Types;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -36,7 +37,8 @@ import org.postgresql.stado.common.util.XLogger;
 import org.postgresql.stado.engine.XDBSessionContext;
 import org.postgresql.stado.exception.XDBGeneratorException;
 import org.postgresql.stado.metadata.SysTable;
-import org.postgresql.stado.metadata.partitions.PartitionMap;
+import org.postgresql.stado.metadata.partitions.HashPartitionMap;
+import org.postgresql.stado.metadata.partitions.PartitionRouter;
 import org.postgresql.stado.optimizer.SqlExpression;
 import org.postgresql.stado.parser.ExpressionType;
 
@@ -56,6 +58,9 @@ public abstract class DataProcessorThread<T> implements Callable<Integer> {
 
     private static final Map<Integer,String> NO_AUTOINCREMENTS = Collections.emptyMap();
 
+    /** Returned by getTypedHash() if the value can not be hashed that way */
+    private static final int NO_HASH = Integer.MIN_VALUE;
+
     protected int rowsLoaded = 0;
 
     protected final int threadId;
@@ -64,13 +69,20 @@ public abstract class DataProcessorThread<T> implements Callable<Integer> {
 
     private final DataReaderAndProcessorBuffer<T> loadBuffer;
 
+    /**
+     * Chunk of rows being processed and position of the current row
+     */
+    private DataReaderAndProcessorBuffer.Chunk<T> currentChunk;
+
+    private int currentChunkPos;
+
     protected long maxSuppliedRowIDValue;
 
     protected long maxSuppliedSerialValue;
 
     private final INodeWriterFactory writersFactory;
 
-    protected final PartitionMap gridPartitionMap;
+    protected final PartitionRouter gridPartitionMap;
 
     protected final SysTable table;
 
@@ -107,6 +119,14 @@ public abstract class DataProcessorThread<T> implements Callable<Integer> {
 
     protected final boolean noParse;
 
+    /**
+     * Not null if the values of the partitioning column can be hashed by
+     * their type, without text normalization
+     */
+    private final HashPartitionMap typedHashMap;
+
+    private final int typedHashType;
+
     /**
      * creates a new instance of RPWThread
      */
@@ -148,6 +168,34 @@ public abstract class DataProcessorThread<T> implements Callable<Integer> {
         this.NULLValue = confInfo.getNULLValue();
         this.quoteChar = confInfo.getQuoteChar();
         this.quoteEscape = confInfo.getQuoteEscape();
+
+        typedHashType = getTypedHashType(hashDataType);
+        typedHashMap = typedHashType != Types.NULL
+                && gridPartitionMap instanceof HashPartitionMap ? (HashPartitionMap) gridPartitionMap
+                : null;
+    }
+
+    /**
+     * @param hashDataType
+     * @return Types.BIGINT if the values of specified type are hashed as
+     *         integers, Types.DATE if they are hashed as dates, Types.NULL if
+     *         typed hashing is not supported for them
+     */
+    static int getTypedHashType(ExpressionType hashDataType) {
+        if (hashDataType == null) {
+            return Types.NULL;
+        }
+        switch (hashDataType.type) {
+        case Types.BIGINT:
+        case Types.INTEGER:
+        case Types.SMALLINT:
+        case Types.TINYINT:
+            return Types.BIGINT;
+        case Types.DATE:
+            return Types.DATE;
+        default:
+            return Types.NULL;
+        }
     }
 
     // Taken from config and never changed
@@ -278,9 +326,9 @@ public abstract class DataProcessorThread<T> implements Callable<Integer> {
         int rows = 0;
         while (parseRow()) {
             insertGeneratedValues(noParse ? NO_AUTOINCREMENTS : generateAutoincrements());
-            String partValue = null;
+            Object partValue = null;
             if (partColumn >= 0) {
-                partValue = getValue(partColumn + 1);
+                partValue = getPartitionValue(partColumn + 1);
             }
             // See if we need to send data based on XNODEID
             if (isDestTypeNodeId) {
@@ -297,9 +345,7 @@ public abstract class DataProcessorThread<T> implements Callable<Integer> {
                     INodeWriter aWriter = writerThreadsList.get(new Integer(nodeArray[0]));
                     outputRow(aWriter);
                 } else {
-                    for (int nodeId : gridPartitionMap.getPartitions(partValue == null ? null
-                            : SqlExpression.createConstantExpression(
-                                    partValue, hashDataType).getNormalizedValue())) {
+                    for (int nodeId : getPartitions(partValue)) {
                         INodeWriter aWriter = writerThreadsList.get(new Integer(nodeId));
                         outputRow(aWriter);
                     }
@@ -326,12 +372,136 @@ public abstract class DataProcessorThread<T> implements Callable<Integer> {
         return rowsLoaded;
     }
 
+    /**
+     * Determines partitions where row with specified partitioning value
+     * should be written. Integer and date values are hashed by their typed
+     * hash functions, that is faster than creating normalized text
+     * representation and gives the same result.
+     *
+     * @param partValue
+     * @return
+     */
+    private Collection<Integer> getPartitions(Object partValue) {
+        if (partValue == null) {
+            return gridPartitionMap.getPartitions(null);
+        }
+        if (typedHashMap != null) {
+            int hash = getTypedHash(partValue);
+            if (hash != NO_HASH) {
+                return typedHashMap.getPartitionsByHash(hash);
+            }
+        }
+        return gridPartitionMap.getPartitions(SqlExpression.createConstantExpression(
+                partValue.toString(), hashDataType).getNormalizedValue());
+    }
+
+    /**
+     * @param value
+     * @return typed hash of the value, or NO_HASH if the value is not in
+     *         the expected format
+     */
+    private int getTypedHash(Object value) {
+        if (typedHashType == Types.BIGINT) {
+            if (value instanceof Number) {
+                return HashPartitionMap.hash(((Number) value).longValue());
+            }
+            return hashInteger(value.toString());
+        } else {
+            return hashDate(value.toString());
+        }
+    }
+
+    /**
+     * Parses integer, optionally surrounded by white spaces, and returns its
+     * typed hash. Values of other formats and values that may not fit into
+     * long are left to the normalization.
+     *
+     * @param value
+     * @return
+     */
+    private static int hashInteger(String value) {
+        int start = 0;
+        int end = value.length();
+        while (start < end && Character.isWhitespace(value.charAt(start))) {
+            start++;
+        }
+        while (end > start && Character.isWhitespace(value.charAt(end - 1))) {
+            end--;
+        }
+        boolean negative = false;
+        if (start < end
+                && (value.charAt(start) == '-' || value.charAt(start) == '+')) {
+            negative = value.charAt(start) == '-';
+            start++;
+        }
+        if (start == end || end - start > 18) {
+            return NO_HASH;
+        }
+        long result = 0;
+        for (int i = start; i < end; i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return NO_HASH;
+            }
+            result = result * 10 + c - '0';
+        }
+        return HashPartitionMap.hash(negative ? -result : result);
+    }
+
+    /**
+     * Returns typed hash of the date in YYYY-MM-DD format, the format used by
+     * the database
+     *
+     * @param value
+     * @return
+     */
+    private static int hashDate(String value) {
+        if (value.length() != 10 || value.charAt(4) != '-'
+                || value.charAt(7) != '-') {
+            return NO_HASH;
+        }
+        int year = parseDigits(value, 0, 4);
+        int month = parseDigits(value, 5, 7);
+        int day = parseDigits(value, 8, 10);
+        if (year < 0 || month < 0 || day < 0) {
+            return NO_HASH;
+        }
+        return HashPartitionMap.hashDate(year, month, day);
+    }
+
+    /**
+     * @return number represented by the digits at specified positions of the
+     *         string, -1 if there is a non-digit character
+     */
+    private static int parseDigits(String value, int start, int end) {
+        int result = 0;
+        for (int i = start; i < end; i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            result = result * 10 + c - '0';
+        }
+        return result;
+    }
+
     protected abstract boolean parseRow() throws Exception;
 
     protected abstract void insertGeneratedValues(Map<Integer,String> values)  throws Exception;
 
     protected abstract String getValue(int colIndex);
 
+    /**
+     * Returns value of the partitioning column. Subclasses having typed
+     * values may return them as is, to avoid text conversion.
+     *
+     * @param colIndex
+     * @return
+     */
+    protected Object getPartitionValue(int colIndex) {
+        return getValue(colIndex);
+    }
+
     protected abstract void outputRow(INodeWriter writer) throws IOException;
 
     protected int getColumnCount() {
@@ -383,14 +553,23 @@ public abstract class DataProcessorThread<T> implements Callable<Integer> {
      * @return Count of processed rows
      */
     protected T getNextRowValue() {
-        return loadBuffer.getNextRowValue();
+        if (currentChunk == null || ++currentChunkPos >= currentChunk.size()) {
+            currentChunk = loadBuffer.getNextChunk();
+            if (currentChunk == null) {
+                return null;
+            }
+            currentChunkPos = 0;
+        }
+        return currentChunk.getRowValue(currentChunkPos);
     }
 
     /**
-     * Get next hash Group By value
+     * Get hash Group By value of the row returned by last call of
+     * getNextRowValue()
      */
     protected String getNextGroupByHashString() {
-        return loadBuffer.getNextGroupByHashString();
+        return currentChunk == null ? null : currentChunk
+                .getGroupByHashString(currentChunkPos);
     }
 
     public long getMaxSuppliedSerialValue() {
@@ -422,6 +601,18 @@ public abstract class DataProcessorThread<T> implements Callable<Integer> {
         return rowCountMap;
     }
 
+    /**
+     * @return a HashMap containing the number of bytes each writer wrote,
+     *         with the key being the node number.
+     */
+    public HashMap<Integer, Long> getByteCountMap() {
+        HashMap<Integer, Long> byteCountMap = new HashMap<Integer, Long>();
+        for (Map.Entry<Integer, INodeWriter> entry : writerThreadsList.entrySet()) {
+            byteCountMap.put(entry.getKey(), entry.getValue().getByteCount());
+        }
+        return byteCountMap;
+    }
+
     public void cancel() {
         loadBuffer.markFinished();
     }
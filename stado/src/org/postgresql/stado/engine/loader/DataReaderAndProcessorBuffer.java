@@ -23,6 +23,9 @@
 
 package org.postgresql.stado.engine.loader;
 
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
 import org.postgresql.stado.common.util.XLogger;
 import org.postgresql.stado.exception.XDBDataReaderException;
 
@@ -34,25 +37,83 @@ import org.postgresql.stado.exception.XDBDataReaderException;
  * the data-reader thread and data-processor threads so that they can easily act as
  * producer-consumer against some data-source (e.g. file, result set, and socket).
  *
+ * The buffer is a lock-free ring for single producer and multiple consumers.
+ * The data-reader thread collects rows, along with their group by hash
+ * strings, into chunks and publishes full chunks into the ring, the
+ * data-processor threads take whole chunks. So threads synchronize once per
+ * chunk rather than once per row. When the ring is full or empty the waiting
+ * thread spins and then parks for increasing periods of time.
  *
  */
 public class DataReaderAndProcessorBuffer<T> {
     private static final XLogger logger = XLogger.getLogger(DataReaderAndProcessorBuffer.class);
-    private long waitForFullBuffer = 0;
-    private long waitForEmptyBuffer = 0;
 
+    /**
+     * Maximum number of rows in a chunk
+     */
+    private static final int MAX_CHUNK_SIZE = 256;
 
-    private T[] rowsBuffer;
-    private String[] groupByHashBuffer;
-    private String currentGroupByHashString;
-    
-    private int in ;
-    private int out ;
+    private static final int SPIN_COUNT = 100;
 
-    private int bufferLimit ;
-    private int currentSize ;
+    private static final long MIN_PARK_NANOS = 10000L;
 
-    private boolean hasFinished ;
+    private static final long MAX_PARK_NANOS = 1000000L;
+
+    /**
+     * Rows passed from the data-reader thread to a data-processor thread at
+     * once
+     */
+    public static class Chunk<T> {
+        private final T[] rows;
+
+        private final String[] groupByHashStrings;
+
+        private int size = 0;
+
+        private Chunk(int capacity) {
+            rows = (T[]) new Object[capacity];
+            groupByHashStrings = new String[capacity];
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public T getRowValue(int index) {
+            return rows[index];
+        }
+
+        public String getGroupByHashString(int index) {
+            return groupByHashStrings[index];
+        }
+    }
+
+    /* Nanoseconds spent waiting */
+    private final AtomicLong waitForFullBuffer = new AtomicLong();
+    private final AtomicLong waitForEmptyBuffer = new AtomicLong();
+
+    private Chunk<T>[] ring;
+    private int mask;
+    private int chunkSize;
+
+    /**
+     * Sequence number of the next chunk to be taken by a data-processor
+     * thread
+     */
+    private final AtomicLong head = new AtomicLong();
+
+    /**
+     * Sequence number of the next chunk to be published by the data-reader
+     * thread
+     */
+    private final AtomicLong tail = new AtomicLong();
+
+    /**
+     * Chunk being filled by the data-reader thread
+     */
+    private Chunk<T> pending;
+
+    private volatile boolean hasFinished ;
 
     /**
      * Creates a new instance of PCBuffer
@@ -69,112 +130,154 @@ public class DataReaderAndProcessorBuffer<T> {
             throw new IllegalArgumentException();
         }
 
-        bufferLimit = capacity ;
-        rowsBuffer = (T[]) new Object[capacity];
-        groupByHashBuffer = new String[capacity];
-        in = 0 ;
-        out = 0 ;
+        // At least 4 chunks in the ring, so the reader may fill one chunk
+        // while processors work on others
+        chunkSize = Math.max(1, Math.min(MAX_CHUNK_SIZE, capacity / 4));
+        int ringSize = 1;
+        while (ringSize * chunkSize < capacity) {
+            ringSize <<= 1;
+        }
+        ring = new Chunk[ringSize];
+        mask = ringSize - 1;
+        head.set(0);
+        tail.set(0);
+        pending = null;
         hasFinished = false ;
     }
 
     /**
      * Mark *this* instance of PCBuffer Finished, so that we could stop waiting once
      * rowsBuffer is empty and hasFinished is true.
+     * The data-reader thread should call #flush() before, otherwise rows of
+     * the partially filled chunk are lost.
      */
-    public synchronized void markFinished() {
+    public void markFinished() {
         hasFinished = true ;
-        notify() ;
-        if (waitForFullBuffer > 0) {
-            logger.debug("Wait for full buffer: " + waitForFullBuffer);
-        }
-        if (waitForEmptyBuffer > 0) {
-            logger.debug("Wait for empty buffer: " + waitForEmptyBuffer);
+        if (logger.isDebugEnabled()) {
+            logger.debug(getStatistics());
         }
     }
 
     /**
      * Put row value in the rowsBuffer.
+     * Should be called by the data-reader thread only.
      */
-    public synchronized void putRowValue(T value, String hashString)
+    public void putRowValue(T value, String hashString)
     throws XDBDataReaderException {
-        try {
-            while ( !hasFinished && currentSize == bufferLimit ) {
-                try {
-                    long curTime = System.currentTimeMillis();
-                    wait() ;
-                    waitForFullBuffer += System.currentTimeMillis() - curTime;
-                }
-                catch (InterruptedException ex) {
-                    // keep waiting till our buffer has any free space.
-                }
-            }
-            if (hasFinished) {
-                throw new XDBDataReaderException("Cancelled by user");
-            }
-            if ( in==bufferLimit ) { in = 0 ; }
-            currentSize++ ;
-            groupByHashBuffer[in] = hashString;
-            rowsBuffer[in++] = value ;
+        if (hasFinished) {
+            throw new XDBDataReaderException("Cancelled by user");
         }
-        finally {
-            notify() ;
+        if (pending == null) {
+            pending = new Chunk<T>(chunkSize);
+        }
+        pending.groupByHashStrings[pending.size] = hashString;
+        pending.rows[pending.size++] = value;
+        if (pending.size == chunkSize) {
+            flush();
         }
     }
 
     /**
      * Put row value in the rowsBuffer.
      */
-    public synchronized void putRowValue(T value) throws XDBDataReaderException {
-        try {
-            putRowValue(value, null);
-        }
-        finally {
-            notify() ;
-        }
+    public void putRowValue(T value) throws XDBDataReaderException {
+        putRowValue(value, null);
     }
-    
+
     /**
-     * Fetch the buffered row value.
+     * Make the rows put so far available to data-processor threads.
+     * Should be called by the data-reader thread only.
      */
-    public synchronized T getNextRowValue() {
-        try {
-            while ( currentSize==0 ) {
-                if ( hasFinished ) {
-                    return null ;
-                }
-                else {
-                    try {
-                        long curTime = System.currentTimeMillis();
-                        wait() ;
-                        waitForEmptyBuffer += System.currentTimeMillis() - curTime;
-                    }
-                    catch (InterruptedException ex) {
-                        // keep waiting till our buffer has got some data.
-                    }
+    public void flush() throws XDBDataReaderException {
+        if (pending == null || pending.size == 0) {
+            return;
+        }
+        long sequence = tail.get();
+        if (sequence - head.get() > mask) {
+            long startWait = System.nanoTime();
+            int spins = 0;
+            long parkNanos = MIN_PARK_NANOS;
+            while (!hasFinished && sequence - head.get() > mask) {
+                if (++spins < SPIN_COUNT) {
+                    Thread.yield();
+                } else {
+                    LockSupport.parkNanos(parkNanos);
+                    parkNanos = Math.min(parkNanos * 2, MAX_PARK_NANOS);
                 }
             }
-            if ( out==bufferLimit ) { out = 0 ; }
-            currentSize-- ;
-            // set this so it can be obtained via getNextGroupByHashString
-            currentGroupByHashString = groupByHashBuffer[out];
-            return rowsBuffer[out++] ;
+            waitForFullBuffer.addAndGet(System.nanoTime() - startWait);
         }
-        finally {
-            notify() ;
+        if (hasFinished) {
+            throw new XDBDataReaderException("Cancelled by user");
         }
+        ring[(int) sequence & mask] = pending;
+        pending = null;
+        // Publish the chunk
+        tail.set(sequence + 1);
     }
-    
+
     /**
-     * Fetch the group by hash string. getNextRowValue() should be
-     * called before this one.
+     * Fetch the next chunk of buffered rows.
+     * This function blocks execution until more data available.
      *
+     * @return the chunk, or null if there is no more data
      */
-    public synchronized String getNextGroupByHashString() {        
+    public Chunk<T> getNextChunk() {
+        long startWait = 0;
+        int spins = 0;
+        long parkNanos = MIN_PARK_NANOS;
         try {
-            return currentGroupByHashString;            
-        }
-        finally {
-            notify() ;
+            while (true) {
+                long sequence = head.get();
+                if (sequence < tail.get()) {
+                    // Slot can not be overwritten until head moves past the
+                    // sequence, so read it before claiming
+                    Chunk<T> chunk = ring[(int) sequence & mask];
+                    if (head.compareAndSet(sequence, sequence + 1)) {
+                        return chunk;
+                    }
+                    // Taken by another processor, try next one
+                    continue;
+                }
+                if (hasFinished && sequence >= tail.get()) {
+                    return null;
+                }
+                if (startWait == 0) {
+                    startWait = System.nanoTime();
+                }
+                if (++spins < SPIN_COUNT) {
+                    Thread.yield();
+                } else {
+                    LockSupport.parkNanos(parkNanos);
+                    parkNanos = Math.min(parkNanos * 2, MAX_PARK_NANOS);
+                }
+            }
+        } finally {
+            if (startWait != 0) {
+                waitForEmptyBuffer.addAndGet(System.nanoTime() - startWait);
+            }
         }
-    }    
+    }
+
+    /**
+     * @return total time in milliseconds the data-reader thread has waited
+     *         for free space in the buffer
+     */
+    public long getWaitForFullBuffer() {
+        return waitForFullBuffer.get() / 1000000L;
+    }
+
+    /**
+     * @return total time in milliseconds the data-processor threads have
+     *         waited for data in the buffer
+     */
+    public long getWaitForEmptyBuffer() {
+        return waitForEmptyBuffer.get() / 1000000L;
+    }
+
+    public String getStatistics() {
+        return "Wait for full buffer: " + getWaitForFullBuffer()
+                + "ms, wait for empty buffer: " + getWaitForEmptyBuffer()
+                + "ms";
+    }
 }
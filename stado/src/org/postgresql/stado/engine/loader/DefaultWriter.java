@@ -60,6 +60,8 @@ public class DefaultWriter implements INodeWriter {
 
     private long rowCount = 0;
 
+    private long byteCount = 0;
+
     private volatile boolean terminated = false;
 
     private String header;
@@ -98,6 +100,7 @@ public class DefaultWriter implements INodeWriter {
 
     public void start() throws IOException {
         rowCount = 0;
+        byteCount = 0;
         loader = Runtime.getRuntime().exec(parseCommand(command));
         writer = new BufferedOutputStream(loader.getOutputStream(), 65536);
         StreamGobbler out = new StreamGobbler(loader.getInputStream(), logger, Level.DEBUG);
@@ -202,6 +205,7 @@ public class DefaultWriter implements INodeWriter {
         }
         writer.write(row, offset, length);
         writer.write('\n');
+        byteCount += length + 1;
     }
 
     public synchronized void writeRow(byte[] row) throws IOException {
@@ -267,4 +271,11 @@ public class DefaultWriter implements INodeWriter {
         return rowCount;
     }
 
+    /**
+     * @return number of bytes written to the loader process
+     */
+    public long getByteCount() {
+        return byteCount;
+    }
+
 }
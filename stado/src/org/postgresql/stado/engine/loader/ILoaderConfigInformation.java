@@ -27,7 +27,7 @@ import java.util.List;
 
 import org.postgresql.stado.engine.XDBSessionContext;
 import org.postgresql.stado.metadata.SysTable;
-import org.postgresql.stado.metadata.partitions.PartitionMap;
+import org.postgresql.stado.metadata.partitions.PartitionRouter;
 import org.postgresql.stado.parser.ExpressionType;
 
 
@@ -46,7 +46,7 @@ public interface ILoaderConfigInformation {
 
     public Loader               getLoaderInstance() ;
     public XDBSessionContext    getClient() ;
-    public PartitionMap         getPartitionMap() ;
+    public PartitionRouter      getPartitionMap() ;
     public SysTable             getTableInformation() ;
     public List<TableColumnDescription> getTableColumnsInformation() ;
     public INodeWriterFactory   getWriterFactory() ;
@@ -51,4 +51,6 @@ public interface INodeWriter {
     public String getStatistics();
 
     public long getRowCount();
+
+    public long getByteCount();
 }
@@ -27,18 +27,21 @@
  */
 package org.postgresql.stado.engine.loader;
 
-import java.io.FileInputStream;
+import java.io.File;
+import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.sql.Types;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
@@ -59,7 +62,7 @@ import org.postgresql.stado.metadata.SysRowIDHandler;
 import org.postgresql.stado.metadata.SysSerialGenerator;
 import org.postgresql.stado.metadata.SysSerialIDHandler;
 import org.postgresql.stado.metadata.SysTable;
-import org.postgresql.stado.metadata.partitions.PartitionMap;
+import org.postgresql.stado.metadata.partitions.PartitionRouter;
 import org.postgresql.stado.optimizer.SqlExpression;
 import org.postgresql.stado.parser.ExpressionType;
 import org.postgresql.stado.parser.SqlCreateTableColumn;
@@ -113,6 +116,8 @@ public class Loader implements ILoaderConfigInformation {
 
     private DataProcessorThread[] dpThreads;
 
+    private DataReaderAndProcessorBuffer<?> dataBuffer;
+
     // Not null only if dataSource is RESULT_SET
     private ResultSet inputRS = null;
 
@@ -122,6 +127,14 @@ public class Loader implements ILoaderConfigInformation {
     // Not null if dataSource is TEXT or CSV or BINARY
     private InputStream inputStream = null;
 
+    // Not null if dataSource is TEXT or CSV read from local file
+    private String inputFileName = null;
+
+    /* Throughput statistics of last run */
+    private long inputBytes = 0;
+
+    private long loadTime = 0;
+
     private char separator = '\t';
 
     private String valueNULL = "\\N";
@@ -136,6 +149,11 @@ public class Loader implements ILoaderConfigInformation {
     // in case we want to stream in values only for a subset of columns
     private String columninfo = Props.XDB_LOADER_NODEWRITER_COLUMNINFO_NONE;
 
+    private String columnString = null;
+
+    // Not null if ResultSet is sent in binary format
+    private int[] binaryTypes = null;
+
     // Destination table definitions
     private XDBSessionContext client = null;
 
@@ -156,7 +174,7 @@ public class Loader implements ILoaderConfigInformation {
     private int serialColumnPosition;
 
     // private long nextRowID;
-    private PartitionMap partitionMap;
+    private PartitionRouter partitionMap;
 
     private ExpressionType hashDataType;
 
@@ -190,6 +208,9 @@ public class Loader implements ILoaderConfigInformation {
 
     private HashMap<Integer, Long> rowCountMap;
 
+    /** Limit of the write rate, 0 if unlimited */
+    private long maxBytesPerSecond = 0;
+
     /**
      * Create a Loader with data source as ResultSet (intermediate results)
      * @param rs
@@ -245,7 +266,14 @@ public class Loader implements ILoaderConfigInformation {
      * @throws IOException
      */
     public void setDataSource(String fileName) throws IOException {
-        setDataSource(new FileInputStream(fileName));
+        File file = new File(fileName);
+        if (!file.isFile() || !file.canRead()) {
+            throw new FileNotFoundException(fileName);
+        }
+        this.inputFileName = fileName;
+        if (dataSource != DATA_SOURCE.CSV) {
+            dataSource = DATA_SOURCE.TEXT;
+        }
     }
 
     /**
@@ -283,6 +311,7 @@ public class Loader implements ILoaderConfigInformation {
      * Sets the columns to use, in case we specify a subset of columns to use
      */
     public void setColumns(String columnString) {
+        this.columnString = columnString;
         if (columnString == null || columnString.length() == 0) {
             columninfo = Props.XDB_LOADER_NODEWRITER_COLUMNINFO_NONE;
         } else {
@@ -399,7 +428,7 @@ public class Loader implements ILoaderConfigInformation {
      * partitionMap nodes nodeInfos
      */
     public void setTargetTableInfoExt(String tableName, int partColumn,
-            int[] groupHashList, PartitionMap partMap,
+            int[] groupHashList, PartitionRouter partMap,
             ExpressionType hashDataType,
             int serialColumnPosition, SysSerialGenerator serialGenerator,
             boolean isDestTypeNodeId, boolean suppressSendingNodeId,
@@ -466,7 +495,10 @@ public class Loader implements ILoaderConfigInformation {
      */
     public void prepareLoad() throws Exception {
         if (Props.USE_JDBC_COPY_API) {
-            writerFactory = new PostgresWriterFactory();
+            writerFactory = getBinaryWriterFactory();
+            if (writerFactory == null) {
+                writerFactory = new PostgresWriterFactory();
+            }
         } else {
             writerFactory = new DefaultWriterFactory();
         }
@@ -508,6 +540,90 @@ public class Loader implements ILoaderConfigInformation {
         propertyMap.put("escape", ParseCmdLine.escape("" + quoteEscape, -1, false));
         propertyMap.put("forcenotnullinfo", forcenotnullinfo);
         writerFactory.setParams(dataSource, propertyMap);
+        if (maxBytesPerSecond > 0) {
+            writerFactory = new ThrottledWriterFactory(writerFactory,
+                    maxBytesPerSecond);
+        }
+    }
+
+    /**
+     * Checks if the ResultSet can be sent in binary COPY format. It is
+     * possible if there are no values to generate, all target column types
+     * are supported and each ResultSet column has the same type as the
+     * target column. Target column types are taken from the table metadata,
+     * or, for intermediate tables, from the table on the first node.
+     *
+     * @return writer factory or null, if text format should be used
+     */
+    private INodeWriterFactory getBinaryWriterFactory() {
+        if (!Props.XDB_LOADER_BINARY_COPY
+                || dataSource != DATA_SOURCE.RESULT_SET || nodeInfos == null
+                || !noParse()) {
+            return null;
+        }
+        PostgresBinaryWriterFactory factory = new PostgresBinaryWriterFactory();
+        factory.setNodeConnectionInfos(nodeInfos);
+        try {
+            int[] types = table == null ? factory.getColumnTypes(
+                    IdentifierHandler.quote(tableName), columnString)
+                    : getTableTypes();
+            if (types == null || !matchResultSetTypes(types)) {
+                logger.debug("Binary format can not be used to load "
+                        + tableName);
+                return null;
+            }
+            binaryTypes = types;
+            return factory;
+        } catch (Exception e) {
+            logger.catching(e);
+            return null;
+        }
+    }
+
+    /**
+     * @return binary type codes of the loaded columns of the target table,
+     *         or null if some of them are not in the metadata
+     */
+    private int[] getTableTypes() {
+        int[] types = new int[columns.size()];
+        int i = 0;
+        for (TableColumnDescription column : columns) {
+            SysColumn col = table.getSysColumn(column.getName());
+            if (col == null) {
+                return null;
+            }
+            types[i++] = PostgresBinaryEncoder.getTypeCode(col.getColType(),
+                    col.isWithTimeZone);
+        }
+        return types;
+    }
+
+    /**
+     * Values are encoded by the target column type, the receiving node does
+     * not convert them. So binary format is used only if every ResultSet
+     * column has the same supported type as the target column.
+     *
+     * @param types
+     *                binary type codes of the target columns
+     * @return true if values can be sent in binary format
+     * @throws SQLException
+     */
+    private boolean matchResultSetTypes(int[] types) throws SQLException {
+        ResultSetMetaData rsmd = inputRS.getMetaData();
+        if (types.length != rsmd.getColumnCount()
+                - (suppressSendingNodeId ? 1 : 0)) {
+            return false;
+        }
+        for (int i = 0; i < types.length; i++) {
+            if (types[i] == PostgresBinaryEncoder.TYPE_UNSUPPORTED
+                    || !Props.XDB_LOADER_BINARY_COPY_DATETIME
+                    && PostgresBinaryEncoder.isDateTime(types[i])
+                    || types[i] != PostgresBinaryEncoder.getTypeCode(rsmd,
+                            i + 1)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
@@ -546,7 +662,17 @@ public class Loader implements ILoaderConfigInformation {
         return quoteChar;
     }
 
-    public void setPartitionMap(PartitionMap partitionMap) {
+    /**
+     * Limit the rate at which data is written to the nodes
+     *
+     * @param maxBytesPerSecond
+     *            the limit, 0 if unlimited
+     */
+    public void setMaxBytesPerSecond(long maxBytesPerSecond) {
+        this.maxBytesPerSecond = maxBytesPerSecond;
+    }
+
+    public void setPartitionMap(PartitionRouter partitionMap) {
         this.partitionMap = partitionMap;
     }
 
@@ -571,7 +697,7 @@ public class Loader implements ILoaderConfigInformation {
         return writerFactory;
     }
 
-    public PartitionMap getPartitionMap() {
+    public PartitionRouter getPartitionMap() {
         return partitionMap;
     }
 
@@ -651,6 +777,9 @@ public class Loader implements ILoaderConfigInformation {
     private DATA_SOURCE dataSource;
 
     public void runWriters() throws Exception {
+        long startTime = System.currentTimeMillis();
+        StreamReaderThread streamReader = null;
+        MappedFileReaderThread fileReader = null;
 
         if (inputRS != null && partColumn >= 0 && hashDataType == null) {
             hashDataType = new ExpressionType();
@@ -662,7 +791,7 @@ public class Loader implements ILoaderConfigInformation {
         }
 
         Future<Boolean> drHandle;
-        int dataProcCount = dataSource == DATA_SOURCE.CSV ? 1 : Props.XDB_LOADER_DATAPROCESSORS_COUNT;
+        int dataProcCount = Props.XDB_LOADER_DATAPROCESSORS_COUNT;
         dpThreads = new DataProcessorThread[dataProcCount];
         Future<Integer>[] dpHandles = new Future[dataProcCount];
         /*
@@ -670,7 +799,29 @@ public class Loader implements ILoaderConfigInformation {
          * to run parallel. - Instantiate the data-reader-thread. - Call the
          * procedure to start the data reading and data processing tasks.
          */
-        if (dataSource == DATA_SOURCE.RESULT_SET) {
+        if (dataSource == DATA_SOURCE.RESULT_SET && binaryTypes != null) {
+            DataReaderAndProcessorBuffer<Object[]> buffer = new DataReaderAndProcessorBuffer<Object[]>(
+                    Props.XDB_LOADER_DATAPROCESSOR_BUFFER, dataSource);
+            dataBuffer = buffer;
+            /*
+             * Values used to determine target node are read as Strings, the
+             * same way as if they are sent as text, unless the partitioning
+             * values are integers, which have typed hash
+             */
+            int[] stringColumns = new int[] {
+                    DataProcessorThread.getTypedHashType(hashDataType) == Types.BIGINT ? -1
+                            : partColumn,
+                    isDestTypeNodeId ? getTableColumnsCount() - 1 : -1 };
+            BinaryResultSetReaderThread drThread = new BinaryResultSetReaderThread(
+                    inputRS, buffer, groupHashList, binaryTypes, stringColumns);
+            drHandle = executorService.submit(drThread);
+            for (int i = 0; i < dpThreads.length; i++) {
+                dpThreads[i] = new BinaryProcessorThread(this, i + 1, buffer,
+                        binaryTypes);
+                dpThreads[i].initializeDataWriters();
+                dpHandles[i] = executorService.submit(dpThreads[i]);
+            }
+        } else if (dataSource == DATA_SOURCE.RESULT_SET) {
             /*
              * Instantiate data buffer instance which will be shared b/w
              * data-reader-thread and data-processors-thread where
@@ -682,6 +833,7 @@ public class Loader implements ILoaderConfigInformation {
              */
             DataReaderAndProcessorBuffer<String[]> buffer = new DataReaderAndProcessorBuffer<String[]>(
                     Props.XDB_LOADER_DATAPROCESSOR_BUFFER, dataSource);
+            dataBuffer = buffer;
             /*
              * When the data source is result set, we want at most 2
              * data-processors-threads. (Currently it is hard coded; we can
@@ -698,6 +850,7 @@ public class Loader implements ILoaderConfigInformation {
         } else if (dataSource == DATA_SOURCE.COPY_OUT) {
             DataReaderAndProcessorBuffer<byte[]> buffer = new DataReaderAndProcessorBuffer<byte[]>(
                     Props.XDB_LOADER_DATAPROCESSOR_BUFFER, dataSource);
+            dataBuffer = buffer;
             CopyOutReaderThread drThread = new CopyOutReaderThread(copyOut,
                     buffer, groupHashList);
             drHandle = executorService.submit(drThread);
@@ -707,7 +860,7 @@ public class Loader implements ILoaderConfigInformation {
                 dpHandles[i] = executorService.submit(dpThreads[i]);
             }
      	
-        } else if (inputStream != null) {
+        } else if (inputStream != null || inputFileName != null) {
             /*
              * Instantiate data buffer instance which will be shared b/w
              * data-reader-thread and data-processors-thread where
@@ -719,12 +872,23 @@ public class Loader implements ILoaderConfigInformation {
              */
             DataReaderAndProcessorBuffer<byte[]> buffer = new DataReaderAndProcessorBuffer<byte[]>(
                     Props.XDB_LOADER_DATAPROCESSOR_BUFFER, dataSource);
+            dataBuffer = buffer;
             /*
              * When the data source is file, determine the number of
              * data-processors-threads from the configuration file.
              */
-            StreamReaderThread drThread = new StreamReaderThread(inputStream, buffer, dataSource == DATA_SOURCE.CSV);
-            drHandle = executorService.submit(drThread);
+            if (inputFileName != null) {
+                // Local file, map it into memory rather than stream
+                fileReader = dataSource == DATA_SOURCE.CSV
+                        ? new MappedFileReaderThread(inputFileName, buffer, quoteChar, quoteEscape, separator)
+                        : new MappedFileReaderThread(inputFileName, buffer);
+                drHandle = executorService.submit(fileReader);
+            } else {
+                streamReader = dataSource == DATA_SOURCE.CSV
+                        ? new StreamReaderThread(inputStream, buffer, quoteChar, quoteEscape, separator)
+                        : new StreamReaderThread(inputStream, buffer, false);
+                drHandle = executorService.submit(streamReader);
+            }
             for (int i = 0; i < dpThreads.length; i++) {
                 if (dataSource == DATA_SOURCE.CSV) {
                     dpThreads[i] = new CsvProcessorThread(this, i + 1, buffer);
@@ -777,6 +941,20 @@ public class Loader implements ILoaderConfigInformation {
         logger.info("Data processing has finished.");
         logger.log(Level.INFO, " %0% input rows have been handed off to Node Writers.",
                 new Object[] {rowCount});
+        logger.log(Level.INFO, " Data buffer: %0%",
+                new Object[] {dataBuffer.getStatistics()});
+        loadTime = System.currentTimeMillis() - startTime;
+        if (fileReader != null) {
+            inputBytes = fileReader.getBytesRead();
+        } else if (streamReader != null) {
+            inputBytes = streamReader.getBytesRead();
+        }
+        if (loadTime > 0) {
+            logger.log(Level.INFO, " %0% bytes, %1% rows processed in %2% ms (%3% MB/s, %4% rows/s)",
+                    new Object[] {inputBytes, rowCount, loadTime,
+                            inputBytes * 1000 / loadTime / (1024 * 1024),
+                            rowCount * 1000L / loadTime});
+        }
     }
 
     public void finishLoad(boolean success) throws Exception {
@@ -931,10 +1109,61 @@ public class Loader implements ILoaderConfigInformation {
         }
     }
 
+    /**
+     * @return a HashMap containing the number of bytes each writer wrote,
+     *         with the key being the node number.
+     */
+    public HashMap<Integer,Long> getByteCountMap() {
+        if (dpThreads == null) {
+            return null;
+        }
+        HashMap<Integer, Long> byteCountMap = new HashMap<Integer, Long>();
+        for (DataProcessorThread element : dpThreads) {
+            HashMap<Integer, Long> threadByteCountMap = element.getByteCountMap();
+            for (Map.Entry<Integer, Long> entry : threadByteCountMap.entrySet()) {
+                Long byteCount = byteCountMap.get(entry.getKey());
+                byteCountMap.put(entry.getKey(), byteCount == null ? entry.getValue()
+                        : byteCount + entry.getValue());
+            }
+        }
+        return byteCountMap;
+    }
+
     public long getRowCount() {
         return rowCount;
     }
 
+    /**
+     * @return number of bytes read from the input stream or file by last run,
+     *         0 if the data source is not a stream or a file
+     */
+    public long getInputBytes() {
+        return inputBytes;
+    }
+
+    /**
+     * @return duration of last run, in milliseconds
+     */
+    public long getLoadTime() {
+        return loadTime;
+    }
+
+    /**
+     * @return total time in milliseconds the data reader has waited for the
+     *         data processors, or 0 if data processing has not started
+     */
+    public long getWaitForFullBuffer() {
+        return dataBuffer == null ? 0 : dataBuffer.getWaitForFullBuffer();
+    }
+
+    /**
+     * @return total time in milliseconds the data processors have waited for
+     *         the data reader, or 0 if data processing has not started
+     */
+    public long getWaitForEmptyBuffer() {
+        return dataBuffer == null ? 0 : dataBuffer.getWaitForEmptyBuffer();
+    }
+
     /* (non-Javadoc)
      * @see org.postgresql.stado.engine.loader.ILoaderConfigInformation#getHashDataType()
      */
@@ -0,0 +1,275 @@
+/*****************************************************************************
+ * Copyright (C) 2008 EnterpriseDB Corporation.
+ * Copyright (C) 2011 Stado Global Development Group.
+ *
+ * This file is part of Stado.
+ *
+ * Stado is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Stado is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Stado.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * You can find Stado at http://www.stado.us
+ *
+ ****************************************************************************/
+package org.postgresql.stado.engine.loader;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.concurrent.Callable;
+
+import org.postgresql.stado.exception.XDBDataReaderException;
+
+
+/**
+ * Data Reader splitting a local file on rows (Plain text or CSV format).
+ * The file is mapped into memory by windows, rows are copied to the row
+ * buffers right from the mapped region, bypassing the stream buffers.
+ * A window always starts at the beginning of a row, the row crossing the
+ * window end is scanned again in the next window.
+ */
+public class MappedFileReaderThread implements Callable<Boolean> {
+
+    private static final byte CR = '\r';
+
+    private static final byte LF = '\n';
+
+    private static final long WINDOW_SIZE = 64L * 1024 * 1024;
+
+    private DataReaderAndProcessorBuffer<byte[]> loadBuffer;
+
+    private String fileName;
+
+    private FileChannel channel;
+
+    private long fileSize;
+
+    /**
+     * Finds CSV record boundaries, null if the data are not CSV
+     */
+    private CsvRecordScanner csvScanner = null;
+
+    // 0 - not determined
+    // 1 - CR
+    // 2 - LF
+    // 3 - CRLF
+    private int lineDelimiterStyle = 0;
+
+    private long bytesRead = 0;
+
+    /**
+     * Creates a new instance of MappedFileReaderThread to read text rows
+     * @param fileName
+     * @param buffer
+     * @throws IOException
+     */
+    public MappedFileReaderThread(String fileName,
+            DataReaderAndProcessorBuffer<byte[]> buffer) throws IOException {
+        if (buffer == null) {
+            throw new NullPointerException("buffer");
+        }
+        this.fileName = fileName;
+        loadBuffer = buffer;
+        channel = new RandomAccessFile(fileName, "r").getChannel();
+        fileSize = channel.size();
+    }
+
+    /**
+     * Creates a new instance of MappedFileReaderThread to read CSV records
+     * @param fileName
+     * @param buffer
+     * @param quoteChar
+     * @param quoteEscape
+     * @param separator
+     * @throws IOException
+     */
+    public MappedFileReaderThread(String fileName,
+            DataReaderAndProcessorBuffer<byte[]> buffer, char quoteChar,
+            char quoteEscape, char separator) throws IOException {
+        this(fileName, buffer);
+        csvScanner = new CsvRecordScanner(quoteChar, quoteEscape, separator);
+    }
+
+    /**
+     * Closes data source.
+     *
+     */
+    public void close() {
+        try {
+            channel.close();
+        } catch (Exception ex) {
+            // Ignore exception message.
+        }
+    }
+
+    /**
+     * Scan the mapped window and pass complete rows to the buffer
+     * @param window
+     * @param lastWindow
+     *            true if the window ends at the end of file
+     * @return number of bytes consumed, the rest of the window is the
+     *         beginning of the row to be continued in the next window, or -1
+     *         if the EOF marker is found
+     * @throws XDBDataReaderException
+     */
+    private int readRows(MappedByteBuffer window, boolean lastWindow)
+            throws XDBDataReaderException {
+        int limit = window.limit();
+        int rowStart = 0;
+        int pos = 0;
+        if (csvScanner != null) {
+            csvScanner.reset();
+        }
+        while (pos < limit) {
+            byte b = window.get(pos++);
+            if (csvScanner != null) {
+                csvScanner.update(b);
+            }
+            if (b != LF && b != CR) {
+                continue;
+            }
+            int style = 2;
+            int lineEnd = pos - 1;
+            if (b == CR) {
+                if (pos == limit && !lastWindow) {
+                    // Do not know if LF follows
+                    break;
+                }
+                if (pos < limit && window.get(pos) == LF) {
+                    if (csvScanner != null) {
+                        csvScanner.update(LF);
+                    }
+                    pos++;
+                    style = 3;
+                } else {
+                    style = 1;
+                }
+            }
+            if (csvScanner != null) {
+                if (csvScanner.isInQuote()) {
+                    continue;
+                }
+            } else {
+                setLineDelimiterStyle(style);
+            }
+            // Line end is preserved for CSV
+            if (putRow(window, rowStart, csvScanner == null ? lineEnd : pos,
+                    lineEnd)) {
+                return -1;
+            }
+            rowStart = pos;
+        }
+        if (lastWindow && rowStart < limit) {
+            if (putRow(window, rowStart, limit, limit)) {
+                return -1;
+            }
+            rowStart = limit;
+        }
+        return rowStart;
+    }
+
+    /**
+     * Copy the row from the window and pass it to the buffer
+     * @param window
+     * @param start
+     * @param end
+     * @param lineEnd
+     *            end of the row excluding line end
+     * @return true if the row is the EOF marker (\.)
+     * @throws XDBDataReaderException
+     */
+    private boolean putRow(MappedByteBuffer window, int start, int end,
+            int lineEnd) throws XDBDataReaderException {
+        if (lineEnd - start == 2 && window.get(start) == '\\'
+                && window.get(start + 1) == '.') {
+            window.position(end);
+            return true;
+        }
+        byte[] row = new byte[end - start];
+        window.position(start);
+        window.get(row);
+        loadBuffer.putRowValue(row);
+        return false;
+    }
+
+    /**
+     * Register the style of delimiter after last read row
+     * <ul>
+     * <li>1 - CR (Mac)</li>
+     * <li>2 - LF (Unix)</li>
+     * <li>3 - CRLF (Windows)</li>
+     * </ul>
+     * @param style
+     */
+    private void setLineDelimiterStyle(int style) throws XDBDataReaderException {
+        if (style != lineDelimiterStyle) {
+            if (lineDelimiterStyle == 0) {
+                lineDelimiterStyle = style;
+            } else {
+                throw new XDBDataReaderException("The data file has mixed line ends");
+            }
+        }
+    }
+
+    /**
+     * @return number of bytes read from the data source
+     */
+    public long getBytesRead() {
+        return bytesRead;
+    }
+
+    /**
+     * @see java.util.concurrent.Callable#call()
+     */
+    public Boolean call() throws XDBDataReaderException {
+        try {
+            long windowStart = 0;
+            long windowSize = WINDOW_SIZE;
+            while (windowStart < fileSize) {
+                long size = Math.min(windowSize, fileSize - windowStart);
+                boolean lastWindow = windowStart + size == fileSize;
+                MappedByteBuffer window = channel.map(
+                        FileChannel.MapMode.READ_ONLY, windowStart, size);
+                int consumed = readRows(window, lastWindow);
+                if (consumed < 0) {
+                    // EOF marker
+                    bytesRead = windowStart + window.position();
+                    break;
+                }
+                if (consumed == 0 && !lastWindow) {
+                    // Row is longer than the window
+                    if (windowSize >= Integer.MAX_VALUE / 2) {
+                        throw new XDBDataReaderException("Row is too long in "
+                                + fileName);
+                    }
+                    windowSize *= 2;
+                } else {
+                    windowSize = WINDOW_SIZE;
+                }
+                windowStart += consumed;
+                bytesRead = windowStart;
+            }
+            loadBuffer.flush();
+            return true;
+        } catch (XDBDataReaderException dre) {
+            throw dre;
+        } catch (Exception ex) {
+            throw new XDBDataReaderException(ex);
+        } finally {
+            close();
+            if (loadBuffer != null) {
+                loadBuffer.markFinished();
+            }
+        }
+    }
+}
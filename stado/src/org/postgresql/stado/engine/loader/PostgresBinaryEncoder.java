@@ -0,0 +1,642 @@
+/*****************************************************************************
+ * Copyright (C) 2008 EnterpriseDB Corporation.
+ * Copyright (C) 2011 Stado Global Development Group.
+ *
+ * This file is part of Stado.
+ *
+ * Stado is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Stado is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Stado.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * You can find Stado at http://www.stado.us
+ *
+ ****************************************************************************/
+/**
+ *
+ */
+package org.postgresql.stado.engine.loader;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.List;
+import java.util.TimeZone;
+
+
+/**
+ * Builds tuples in PostgreSQL binary COPY format. Values are either typed
+ * objects read from the ResultSet (Integer, Long, BigDecimal, Timestamp,
+ * etc.) or Strings in the PostgreSQL text output format, they are converted
+ * to the binary representation of the target column type.
+ * <p>
+ * Date and time values are encoded as 64-bit integers, so binary format can
+ * only be used with servers having integer_datetimes on.
+ */
+public class PostgresBinaryEncoder {
+
+    /*
+     * Supported types
+     */
+    public static final int TYPE_UNSUPPORTED = -1;
+
+    public static final int TYPE_BOOL = 0;
+
+    public static final int TYPE_INT2 = 1;
+
+    public static final int TYPE_INT4 = 2;
+
+    public static final int TYPE_INT8 = 3;
+
+    public static final int TYPE_FLOAT4 = 4;
+
+    public static final int TYPE_FLOAT8 = 5;
+
+    public static final int TYPE_NUMERIC = 6;
+
+    public static final int TYPE_TEXT = 7;
+
+    public static final int TYPE_DATE = 8;
+
+    public static final int TYPE_TIME = 9;
+
+    public static final int TYPE_TIMESTAMP = 10;
+
+    public static final int TYPE_TIMESTAMPTZ = 11;
+
+    /**
+     * File header: signature, flags, header extension length
+     */
+    public static final byte[] HEADER = new byte[] { 'P', 'G', 'C', 'O', 'P',
+            'Y', '\n', (byte) 0xff, '\r', '\n', 0, 0, 0, 0, 0, 0, 0, 0, 0 };
+
+    /**
+     * File trailer: field count of -1
+     */
+    public static final byte[] TRAILER = new byte[] { (byte) 0xff, (byte) 0xff };
+
+    private static final String ENCODING = "UTF-8";
+
+    /**
+     * Days between 1970-01-01 and 2000-01-01, PostgreSQL epoch
+     */
+    private static final int PG_EPOCH_DAYS = 10957;
+
+    private static final long MICROS_PER_DAY = 86400000000L;
+
+    private static final long MILLIS_PER_DAY = 86400000L;
+
+    /**
+     * Start of the Gregorian calendar, 1582-10-15 00:00:00 UTC. Earlier
+     * dates are returned by JDBC drivers in the Julian calendar.
+     */
+    private static final long GREGORIAN_CUTOVER = -12219292800000L;
+
+    /**
+     * Drivers represent infinite dates and timestamps with values beyond
+     * the PostgreSQL range, these are the smallest of them.
+     */
+    private static final long POSITIVE_INFINITY = 185543533774800000L;
+
+    private static final long NEGATIVE_INFINITY = -185543533774800000L;
+
+    private static final short NUMERIC_POS = 0x0000;
+
+    private static final short NUMERIC_NEG = 0x4000;
+
+    private static final short NUMERIC_NAN = (short) 0xC000;
+
+    private static final BigInteger NBASE = BigInteger.valueOf(10000);
+
+    private final int[] types;
+
+    private final ByteArrayOutputStream buffer = new ByteArrayOutputStream(256);
+
+    private final DataOutputStream out = new DataOutputStream(buffer);
+
+    private final Calendar calendar = newCalendar();
+
+    /**
+     * @param types
+     *                type codes of target columns
+     */
+    public PostgresBinaryEncoder(int[] types) {
+        this.types = types;
+    }
+
+    /**
+     * Returns type code for the SQL type of a column as it is described by
+     * the metadata. Types.BIT is a bit string there, its binary form is not
+     * a boolean, so it is not supported, as well as TIME WITH TIME ZONE.
+     *
+     * @param sqlType
+     *                java.sql.Types constant
+     * @param withTimeZone
+     *                true if time or timestamp column is WITH TIME ZONE
+     * @return the type code or TYPE_UNSUPPORTED
+     */
+    public static int getTypeCode(int sqlType, boolean withTimeZone) {
+        switch (sqlType) {
+        case Types.BOOLEAN:
+            return TYPE_BOOL;
+        case Types.SMALLINT:
+            return TYPE_INT2;
+        case Types.INTEGER:
+            return TYPE_INT4;
+        case Types.BIGINT:
+            return TYPE_INT8;
+        case Types.REAL:
+            return TYPE_FLOAT4;
+        case Types.FLOAT:
+        case Types.DOUBLE:
+            return TYPE_FLOAT8;
+        case Types.NUMERIC:
+        case Types.DECIMAL:
+            return TYPE_NUMERIC;
+        case Types.CHAR:
+        case Types.VARCHAR:
+        case Types.LONGVARCHAR:
+            return TYPE_TEXT;
+        case Types.DATE:
+            return TYPE_DATE;
+        case Types.TIME:
+            return withTimeZone ? TYPE_UNSUPPORTED : TYPE_TIME;
+        case Types.TIMESTAMP:
+            return withTimeZone ? TYPE_TIMESTAMPTZ : TYPE_TIMESTAMP;
+        default:
+            return TYPE_UNSUPPORTED;
+        }
+    }
+
+    /**
+     * Returns type code for a column reported by the PostgreSQL JDBC driver.
+     * The driver reports bool, bit(n) and varbit as Types.BIT and money as
+     * Types.DOUBLE, so the database type name is checked as well.
+     *
+     * @param rsmd
+     *                the metadata
+     * @param column
+     *                1-based column index
+     * @return the type code or TYPE_UNSUPPORTED
+     * @throws SQLException
+     */
+    public static int getTypeCode(ResultSetMetaData rsmd, int column)
+            throws SQLException {
+        String typeName = rsmd.getColumnTypeName(column);
+        typeName = typeName == null ? "" : typeName.toLowerCase();
+        if ("bool".equals(typeName) || "boolean".equals(typeName)) {
+            return TYPE_BOOL;
+        }
+        // "char" is a single byte, money is a scaled int8
+        if ("\"char\"".equals(typeName) || "char".equals(typeName)
+                || "money".equals(typeName)) {
+            return TYPE_UNSUPPORTED;
+        }
+        return getTypeCode(rsmd.getColumnType(column),
+                "timetz".equals(typeName) || typeName.startsWith("timestamptz"));
+    }
+
+    /**
+     * @return calendar to pass to {@link #readValue}, date and time values
+     *         are read as UTC to avoid time zone conversions
+     */
+    public static Calendar newCalendar() {
+        return new GregorianCalendar(TimeZone.getTimeZone("UTC"));
+    }
+
+    /**
+     * @param typeCode
+     * @return true if values of the type are encoded as 64-bit date/time
+     */
+    public static boolean isDateTime(int typeCode) {
+        return typeCode >= TYPE_DATE;
+    }
+
+    /**
+     * Reads value of the column from the current row of the ResultSet using
+     * getter most suitable for the target type
+     *
+     * @param rs
+     * @param column
+     * @param typeCode
+     * @param utc
+     *                calendar returned by {@link #newCalendar()}
+     * @return the value or null
+     * @throws SQLException
+     */
+    public static Object readValue(ResultSet rs, int column, int typeCode,
+            Calendar utc) throws SQLException {
+        Object value;
+        switch (typeCode) {
+        case TYPE_BOOL:
+            value = Boolean.valueOf(rs.getBoolean(column));
+            break;
+        case TYPE_INT2:
+        case TYPE_INT4:
+            value = new Integer(rs.getInt(column));
+            break;
+        case TYPE_INT8:
+            value = new Long(rs.getLong(column));
+            break;
+        case TYPE_FLOAT4:
+            value = new Float(rs.getFloat(column));
+            break;
+        case TYPE_FLOAT8:
+            value = new Double(rs.getDouble(column));
+            break;
+        case TYPE_NUMERIC:
+            try {
+                return rs.getBigDecimal(column);
+            } catch (SQLException e) {
+                // NaN can not be represented as BigDecimal
+                String str = rs.getString(column);
+                if ("NaN".equalsIgnoreCase(str)) {
+                    return str;
+                }
+                throw e;
+            }
+        case TYPE_DATE:
+            return rs.getDate(column, utc);
+        case TYPE_TIMESTAMP:
+        case TYPE_TIMESTAMPTZ:
+            return rs.getTimestamp(column, utc);
+        default:
+            // Time is kept as String, java.sql.Time has no microseconds
+            return rs.getString(column);
+        }
+        return rs.wasNull() ? null : value;
+    }
+
+    /**
+     * Encodes a tuple
+     *
+     * @param values
+     *                the values, one per target column
+     * @return the tuple
+     * @throws IOException
+     *                 if a value can not be converted
+     */
+    public byte[] encodeRow(Object[] values) throws IOException {
+        buffer.reset();
+        out.writeShort(types.length);
+        for (int i = 0; i < types.length; i++) {
+            if (values[i] == null) {
+                out.writeInt(-1);
+            } else {
+                try {
+                    writeValue(values[i], types[i]);
+                } catch (IllegalArgumentException e) {
+                    throw new IOException("Invalid value of column "
+                            + (i + 1) + ": " + values[i]);
+                }
+            }
+        }
+        out.flush();
+        return buffer.toByteArray();
+    }
+
+    private void writeValue(Object value, int typeCode) throws IOException {
+        switch (typeCode) {
+        case TYPE_BOOL:
+            out.writeInt(1);
+            out.writeByte(toBoolean(value) ? 1 : 0);
+            break;
+        case TYPE_INT2:
+            out.writeInt(2);
+            out.writeShort(value instanceof Number ? ((Number) value)
+                    .shortValue() : Short.parseShort(value.toString().trim()));
+            break;
+        case TYPE_INT4:
+            out.writeInt(4);
+            out.writeInt(value instanceof Number ? ((Number) value).intValue()
+                    : Integer.parseInt(value.toString().trim()));
+            break;
+        case TYPE_INT8:
+            out.writeInt(8);
+            out.writeLong(value instanceof Number ? ((Number) value)
+                    .longValue() : Long.parseLong(value.toString().trim()));
+            break;
+        case TYPE_FLOAT4:
+            out.writeInt(4);
+            out.writeFloat(value instanceof Number ? ((Number) value)
+                    .floatValue() : Float.parseFloat(value.toString()));
+            break;
+        case TYPE_FLOAT8:
+            out.writeInt(8);
+            out.writeDouble(value instanceof Number ? ((Number) value)
+                    .doubleValue() : Double.parseDouble(value.toString()));
+            break;
+        case TYPE_NUMERIC:
+            writeNumeric(value);
+            break;
+        case TYPE_TEXT:
+            byte[] bytes = value.toString().getBytes(ENCODING);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+            break;
+        case TYPE_DATE:
+            out.writeInt(4);
+            out.writeInt(value instanceof Date ? toDays((Date) value)
+                    : parseDate(value.toString()));
+            break;
+        case TYPE_TIME:
+            out.writeInt(8);
+            out.writeLong(parseTime(value.toString(), 0, false));
+            break;
+        case TYPE_TIMESTAMP:
+        case TYPE_TIMESTAMPTZ:
+            out.writeInt(8);
+            out.writeLong(value instanceof Timestamp ? toMicros((Timestamp) value)
+                    : parseTimestamp(value.toString(),
+                            typeCode == TYPE_TIMESTAMPTZ));
+            break;
+        default:
+            throw new IOException("Unsupported type: " + typeCode);
+        }
+    }
+
+    private static boolean toBoolean(Object value) {
+        if (value instanceof Boolean) {
+            return ((Boolean) value).booleanValue();
+        }
+        String str = value.toString().trim();
+        if (str.length() == 0) {
+            throw new IllegalArgumentException();
+        }
+        char c = Character.toLowerCase(str.charAt(0));
+        return c == 't' || c == 'y' || c == '1'
+                || "on".equalsIgnoreCase(str);
+    }
+
+    /**
+     * Writes numeric as base 10000 digits with weight, sign and display
+     * scale
+     */
+    private void writeNumeric(Object value) throws IOException {
+        BigDecimal decimal;
+        if (value instanceof BigDecimal) {
+            decimal = (BigDecimal) value;
+        } else {
+            String str = value.toString().trim();
+            if ("NaN".equalsIgnoreCase(str)) {
+                out.writeInt(8);
+                out.writeShort(0);
+                out.writeShort(0);
+                out.writeShort(NUMERIC_NAN);
+                out.writeShort(0);
+                return;
+            }
+            decimal = new BigDecimal(str);
+        }
+        int scale = decimal.scale();
+        int dscale = Math.max(scale, 0);
+        BigInteger unscaled = decimal.unscaledValue();
+        short sign = unscaled.signum() < 0 ? NUMERIC_NEG : NUMERIC_POS;
+        unscaled = unscaled.abs();
+        if (scale < 0) {
+            unscaled = unscaled.multiply(BigInteger.TEN.pow(-scale));
+            scale = 0;
+        }
+        // Align fractional part to base 10000 digits
+        if (scale % 4 != 0) {
+            int pad = 4 - scale % 4;
+            unscaled = unscaled.multiply(BigInteger.TEN.pow(pad));
+            scale += pad;
+        }
+        List<Short> digits = new ArrayList<Short>();
+        while (unscaled.signum() > 0) {
+            BigInteger[] qr = unscaled.divideAndRemainder(NBASE);
+            digits.add(new Short(qr[1].shortValue()));
+            unscaled = qr[0];
+        }
+        int weight = digits.size() - 1 - scale / 4;
+        // Trailing zeroes are not stored
+        int first = 0;
+        while (first < digits.size() && digits.get(first).shortValue() == 0) {
+            first++;
+        }
+        int ndigits = digits.size() - first;
+        if (ndigits == 0) {
+            weight = 0;
+            sign = NUMERIC_POS;
+        }
+        out.writeInt(8 + 2 * ndigits);
+        out.writeShort(ndigits);
+        out.writeShort(weight);
+        out.writeShort(sign);
+        out.writeShort(dscale);
+        for (int i = digits.size() - 1; i >= first; i--) {
+            out.writeShort(digits.get(i).shortValue());
+        }
+    }
+
+    /**
+     * @param date
+     *                date read using UTC calendar
+     * @return days since 2000-01-01
+     */
+    private int toDays(Date date) {
+        long millis = date.getTime();
+        if (millis >= POSITIVE_INFINITY) {
+            return Integer.MAX_VALUE;
+        } else if (millis <= NEGATIVE_INFINITY) {
+            return Integer.MIN_VALUE;
+        } else if (millis >= GREGORIAN_CUTOVER) {
+            return (int) (floorDiv(millis, MILLIS_PER_DAY) - PG_EPOCH_DAYS);
+        }
+        calendar.setTimeInMillis(millis);
+        return (int) (getCalendarDays() - PG_EPOCH_DAYS);
+    }
+
+    /**
+     * @param timestamp
+     *                timestamp read using UTC calendar
+     * @return microseconds since 2000-01-01 00:00:00 UTC
+     */
+    private long toMicros(Timestamp timestamp) {
+        long millis = timestamp.getTime();
+        if (millis >= POSITIVE_INFINITY) {
+            return Long.MAX_VALUE;
+        } else if (millis <= NEGATIVE_INFINITY) {
+            return Long.MIN_VALUE;
+        }
+        long micros = timestamp.getNanos() / 1000;
+        if (millis >= GREGORIAN_CUTOVER) {
+            micros += floorDiv(millis, 1000) * 1000000L;
+            return micros - PG_EPOCH_DAYS * MICROS_PER_DAY;
+        }
+        calendar.setTimeInMillis(millis);
+        micros += ((calendar.get(Calendar.HOUR_OF_DAY) * 60L
+                + calendar.get(Calendar.MINUTE)) * 60L
+                + calendar.get(Calendar.SECOND)) * 1000000L;
+        return (getCalendarDays() - PG_EPOCH_DAYS) * MICROS_PER_DAY + micros;
+    }
+
+    /**
+     * Converts date of the calendar, which is in the Julian calendar before
+     * the cutover, to days since 1970-01-01 in proleptic Gregorian calendar
+     */
+    private long getCalendarDays() {
+        long year = calendar.get(Calendar.YEAR);
+        if (calendar.get(Calendar.ERA) == GregorianCalendar.BC) {
+            year = 1 - year;
+        }
+        return daysFromCivil(year, calendar.get(Calendar.MONTH) + 1,
+                calendar.get(Calendar.DAY_OF_MONTH));
+    }
+
+    private static long floorDiv(long x, long y) {
+        long q = x / y;
+        return x % y < 0 ? q - 1 : q;
+    }
+
+    /**
+     * @param str
+     *                date in ISO format, optionally followed by BC
+     * @return days since 2000-01-01
+     */
+    static int parseDate(String str) {
+        str = str.trim();
+        if ("infinity".equals(str)) {
+            return Integer.MAX_VALUE;
+        } else if ("-infinity".equals(str)) {
+            return Integer.MIN_VALUE;
+        }
+        return (int) (parseDays(str, 0, str.length(), str.endsWith(" BC")) - PG_EPOCH_DAYS);
+    }
+
+    /**
+     * @param str
+     *                timestamp in ISO format, optionally with time zone
+     *                offset and BC
+     * @param withTimeZone
+     * @return microseconds since 2000-01-01 00:00:00 UTC
+     */
+    static long parseTimestamp(String str, boolean withTimeZone) {
+        str = str.trim();
+        if ("infinity".equals(str)) {
+            return Long.MAX_VALUE;
+        } else if ("-infinity".equals(str)) {
+            return Long.MIN_VALUE;
+        }
+        boolean bc = str.endsWith(" BC");
+        if (bc) {
+            str = str.substring(0, str.length() - 3);
+        }
+        int pos = str.indexOf(' ');
+        if (pos < 0) {
+            throw new IllegalArgumentException(str);
+        }
+        long days = parseDays(str, 0, pos, bc) - PG_EPOCH_DAYS;
+        return days * MICROS_PER_DAY + parseTime(str, pos + 1, withTimeZone);
+    }
+
+    /**
+     * Parses yyyy-mm-dd
+     *
+     * @return days since 1970-01-01 in proleptic Gregorian calendar
+     */
+    private static long parseDays(String str, int start, int end, boolean bc) {
+        int pos1 = str.indexOf('-', start + 1);
+        int pos2 = str.indexOf('-', pos1 + 1);
+        if (pos1 < 0 || pos2 < 0 || pos2 >= end) {
+            throw new IllegalArgumentException(str);
+        }
+        long year = Long.parseLong(str.substring(start, pos1));
+        int month = Integer.parseInt(str.substring(pos1 + 1, pos2));
+        int endDay = pos2 + 1;
+        while (endDay < end && Character.isDigit(str.charAt(endDay))) {
+            endDay++;
+        }
+        int day = Integer.parseInt(str.substring(pos2 + 1, endDay));
+        if (bc) {
+            // There is no year 0, 1 BC is year 0 in the proleptic calendar
+            year = 1 - year;
+        }
+        return daysFromCivil(year, month, day);
+    }
+
+    /**
+     * @return days since 1970-01-01 in proleptic Gregorian calendar
+     */
+    private static long daysFromCivil(long year, int month, int day) {
+        // Algorithm from http://howardhinnant.github.io/date_algorithms.html
+        if (month <= 2) {
+            year--;
+        }
+        long era = (year >= 0 ? year : year - 399) / 400;
+        long yoe = year - era * 400;
+        long doy = (153 * (month + (month > 2 ? -3 : 9)) + 2) / 5 + day - 1;
+        long doe = yoe * 365 + yoe / 4 - yoe / 100 + doy;
+        return era * 146097 + doe - 719468;
+    }
+
+    /**
+     * Parses hh:mm:ss[.ffffff][+-hh[:mm[:ss]]] starting from the specified
+     * position
+     *
+     * @return microseconds since midnight, UTC if time zone is expected
+     */
+    static long parseTime(String str, int start, boolean withTimeZone) {
+        str = str.trim();
+        int len = str.length();
+        int pos = start;
+        int hour = Integer.parseInt(str.substring(pos, pos + 2));
+        int minute = Integer.parseInt(str.substring(pos + 3, pos + 5));
+        int second = Integer.parseInt(str.substring(pos + 6, pos + 8));
+        pos += 8;
+        long micros = 0;
+        if (pos < len && str.charAt(pos) == '.') {
+            int digits = 0;
+            pos++;
+            while (pos < len && Character.isDigit(str.charAt(pos))) {
+                if (digits < 6) {
+                    micros = micros * 10 + str.charAt(pos) - '0';
+                    digits++;
+                }
+                pos++;
+            }
+            while (digits++ < 6) {
+                micros *= 10;
+            }
+        }
+        long result = ((hour * 60L + minute) * 60L + second) * 1000000L
+                + micros;
+        if (withTimeZone && pos < len) {
+            char sign = str.charAt(pos++);
+            if (sign != '+' && sign != '-') {
+                throw new IllegalArgumentException(str);
+            }
+            String[] parts = str.substring(pos).split(":");
+            long offset = 0;
+            for (int i = 0; i < 3; i++) {
+                offset = offset * 60
+                        + (i < parts.length ? Integer.parseInt(parts[i]) : 0);
+            }
+            offset *= 1000000L;
+            result -= sign == '+' ? offset : -offset;
+        } else if (pos < len) {
+            throw new IllegalArgumentException(str);
+        }
+        return result;
+    }
+}
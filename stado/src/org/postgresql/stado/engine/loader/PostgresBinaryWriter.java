@@ -0,0 +1,79 @@
+/*****************************************************************************
+ * Copyright (C) 2008 EnterpriseDB Corporation.
+ * Copyright (C) 2011 Stado Global Development Group.
+ *
+ * This file is part of Stado.
+ *
+ * Stado is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Stado is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Stado.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * You can find Stado at http://www.stado.us
+ *
+ ****************************************************************************/
+/**
+ *
+ */
+package org.postgresql.stado.engine.loader;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.Map;
+
+import org.postgresql.stado.common.util.XLogger;
+import org.postgresql.stado.engine.copy.CopyManager;
+import org.postgresql.stado.metadata.NodeDBConnectionInfo;
+
+
+/**
+ * Writer sending rows in binary COPY format, rows are tuples built by the
+ * PostgresBinaryEncoder
+ */
+public class PostgresBinaryWriter extends PostgresWriter {
+    private static final XLogger logger = XLogger.getLogger(PostgresBinaryWriter.class);
+
+    /**
+     */
+    public PostgresBinaryWriter(NodeDBConnectionInfo connectionInfo,
+            String template, Map<String,String> m) {
+        super(connectionInfo, template, m);
+    }
+
+    @Override
+    public synchronized void writeRow(byte[] row, int offset, int length) throws IOException {
+        try {
+            if (copyIn == null) {
+                copyIn = CopyManager.getCopyManager(conn).copyIn(copyQuery);
+                copyIn.writeToCopy(PostgresBinaryEncoder.HEADER, 0,
+                        PostgresBinaryEncoder.HEADER.length);
+            }
+            copyIn.writeToCopy(row, offset, length);
+            byteCount += length;
+        } catch (SQLException se) {
+            throw new IOException(se.getMessage());
+        }
+    }
+
+    @Override
+    public synchronized void finish(boolean success) throws IOException {
+        if (copyIn != null && success) {
+            try {
+                copyIn.writeToCopy(PostgresBinaryEncoder.TRAILER, 0,
+                        PostgresBinaryEncoder.TRAILER.length);
+            } catch (SQLException se) {
+                logger.catching(se);
+                throw new IOException(se.getMessage());
+            }
+        }
+        super.finish(success);
+    }
+}
@@ -0,0 +1,114 @@
+/*****************************************************************************
+ * Copyright (C) 2008 EnterpriseDB Corporation.
+ * Copyright (C) 2011 Stado Global Development Group.
+ *
+ * This file is part of Stado.
+ *
+ * Stado is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Stado is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Stado.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * You can find Stado at http://www.stado.us
+ *
+ ****************************************************************************/
+/**
+ *
+ */
+package org.postgresql.stado.engine.loader;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.Statement;
+import java.util.Map;
+
+import org.postgresql.stado.common.util.Props;
+import org.postgresql.stado.engine.loader.Loader.DATA_SOURCE;
+import org.postgresql.stado.metadata.NodeDBConnectionInfo;
+
+
+/**
+ * Creates writers sending data in binary COPY format
+ */
+public class PostgresBinaryWriterFactory extends PostgresWriterFactory {
+
+    /**
+     *
+     */
+    public PostgresBinaryWriterFactory() {
+    }
+
+    /**
+     * Looks up types of the target columns. Target table has the same
+     * structure on all nodes, so the first node is asked.
+     *
+     * @param table
+     *                quoted name of the target table
+     * @param columns
+     *                comma separated list of target columns, or null if all
+     *                columns are loaded
+     * @return type codes of the columns, TYPE_UNSUPPORTED for those which
+     *         can not be sent in binary format
+     * @throws IOException
+     */
+    public int[] getColumnTypes(String table, String columns)
+            throws IOException {
+        NodeDBConnectionInfo[] connectionInfos = getNodeConnectionInfos();
+        if (connectionInfos == null || connectionInfos.length == 0) {
+            throw new IOException(
+                    "Can not describe table: no database connection info");
+        }
+        LoaderConnectionPool pool = LoaderConnectionPool.getConnectionPool();
+        Connection conn = pool.getConnection(connectionInfos[0]);
+        try {
+            Statement stmt = conn.createStatement();
+            try {
+                ResultSet rs = stmt.executeQuery("SELECT "
+                        + (columns == null || columns.length() == 0 ? "*"
+                                : columns) + " FROM " + table + " LIMIT 0");
+                try {
+                    ResultSetMetaData rsmd = rs.getMetaData();
+                    int[] types = new int[rsmd.getColumnCount()];
+                    for (int i = 0; i < types.length; i++) {
+                        types[i] = PostgresBinaryEncoder.getTypeCode(rsmd,
+                                i + 1);
+                    }
+                    return types;
+                } finally {
+                    rs.close();
+                }
+            } finally {
+                stmt.close();
+            }
+        } catch (Exception e) {
+            throw new IOException("Can not describe table " + table + ": "
+                    + e.getMessage());
+        } finally {
+            pool.releaseConnection(connectionInfos[0], conn);
+        }
+    }
+
+    @Override
+    protected INodeWriter newWriter(NodeDBConnectionInfo connectionInfo) {
+        return new PostgresBinaryWriter(connectionInfo, template, params);
+    }
+
+    /* (non-Javadoc)
+     * @see org.postgresql.stado.engine.loader.INodeWriterFactory#setParams(java.util.Map)
+     */
+    @Override
+    public void setParams(DATA_SOURCE ds, Map<String, String> params) {
+        template = Props.XDB_LOADER_PGWRITER_BINARY_TEMPLATE;
+        this.params = params;
+    }
+}
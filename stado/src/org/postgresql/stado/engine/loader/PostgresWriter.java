@@ -71,14 +71,16 @@ public class PostgresWriter implements INodeWriter {
      *
      * @see org.postgresql.stado.Util.loader.INodeWriter#start(boolean)
      */
-    private String copyQuery;
+    protected String copyQuery;
 
-    private Connection conn = null;
+    protected Connection conn = null;
 
-    private CopyIn copyIn;
+    protected CopyIn copyIn;
     
     private long rowCount = 0;
 
+    protected long byteCount = 0;
+
     public void start() throws IOException {
 
         try {
@@ -103,6 +105,7 @@ public class PostgresWriter implements INodeWriter {
     		}
 	        copyIn.writeToCopy(row, offset, length);
 	        copyIn.writeToCopy(ROW_VALUES_DELIMITER, 0, ROW_VALUES_DELIMITER.length);
+	        byteCount += length + ROW_VALUES_DELIMITER.length;
     	} catch (SQLException se) {
     		throw new IOException(se.getMessage());
     	}
@@ -153,4 +156,11 @@ public class PostgresWriter implements INodeWriter {
          */
         return rowCount;
     }
+
+    /**
+     * @return number of bytes written to the COPY stream
+     */
+    public long getByteCount() {
+        return byteCount;
+    }
 }
@@ -39,9 +39,9 @@ import org.postgresql.stado.metadata.NodeDBConnectionInfo;
 public class PostgresWriterFactory implements INodeWriterFactory {
     private NodeDBConnectionInfo[] nodeDBConnectionInfos;
 
-    private String template;
+    protected String template;
 
-    private Map<String,String> params;
+    protected Map<String,String> params;
 
     /**
      *
@@ -62,7 +62,7 @@ public class PostgresWriterFactory implements INodeWriterFactory {
         }
         for (NodeDBConnectionInfo element : nodeDBConnectionInfos) {
             if (element.getNodeID() == nodeID) {
-                return new PostgresWriter(element, template, params);
+                return newWriter(element);
             }
         }
         throw new IOException(
@@ -70,6 +70,15 @@ public class PostgresWriterFactory implements INodeWriterFactory {
                         + nodeID);
     }
 
+    /**
+     * Creates writer to the specified node database
+     * @param connectionInfo
+     * @return
+     */
+    protected INodeWriter newWriter(NodeDBConnectionInfo connectionInfo) {
+        return new PostgresWriter(connectionInfo, template, params);
+    }
+
     /*
      * (non-Javadoc)
      *
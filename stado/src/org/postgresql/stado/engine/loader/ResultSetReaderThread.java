@@ -109,6 +109,7 @@ public class ResultSetReaderThread implements Callable<Boolean> {
             while ((rowColsValue = readLineFromResultSet()) != null) {
                 loadBuffer.putRowValue(rowColsValue, getGroupByHashString());
             }
+            loadBuffer.flush();
             return true;
         } catch (Exception ex) {
             throw new XDBDataReaderException(ex);
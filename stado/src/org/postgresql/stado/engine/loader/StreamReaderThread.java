@@ -33,6 +33,10 @@ import org.postgresql.stado.exception.XDBDataReaderException;
  * Purpose of Data Reader is to split data source on rows
  * StreamReaderThread assumes the data source is a stream of text (Plain text or
  * CSV format)
+ * In CSV format a quoted value may contain line ends. The reader tracks
+ * quotes the same way as CsvProcessorThread and joins lines until the record
+ * is complete, so every row passed to the processors is a whole record and
+ * they can parse records in parallel.
  *
  * @author amart
  */
@@ -61,6 +65,8 @@ public class StreamReaderThread implements Callable<Boolean> {
 
     private boolean eof = false;
 
+    private long bytesRead = 0;
+
     private boolean skipLF = false;
 
     private byte[] buffer = new byte[128];
@@ -69,6 +75,17 @@ public class StreamReaderThread implements Callable<Boolean> {
 
     private boolean preserveLineEnd;
 
+    /**
+     * Finds CSV record boundaries, null if the data are not CSV
+     */
+    private CsvRecordScanner csvScanner = null;
+
+    /**
+     * Lines of current CSV record read so far, if the record spans multiple
+     * lines
+     */
+    private byte[] record = null;
+
     /**
      * Creates a new instance of StreamReaderThread
      * @param inputStream
@@ -86,6 +103,21 @@ public class StreamReaderThread implements Callable<Boolean> {
         this.preserveLineEnd = preserveLineEnd;
     }
 
+    /**
+     * Creates a new instance of StreamReaderThread to read CSV records
+     * @param inputStream
+     * @param buffer
+     * @param quoteChar
+     * @param quoteEscape
+     * @param separator
+     */
+    public StreamReaderThread(InputStream inputStream,
+            DataReaderAndProcessorBuffer<byte[]> buffer, char quoteChar,
+            char quoteEscape, char separator) {
+        this(inputStream, buffer, true);
+        csvScanner = new CsvRecordScanner(quoteChar, quoteEscape, separator);
+    }
+
     /**
      * Closes data source.
      *
@@ -164,6 +196,9 @@ public class StreamReaderThread implements Callable<Boolean> {
         readPos = 0;
         readEnd = dataSourceFile.read(readBuffer);
         eof = readEnd < 0;
+        if (!eof) {
+            bytesRead += readEnd;
+        }
     }
 
     /**
@@ -215,7 +250,11 @@ public class StreamReaderThread implements Callable<Boolean> {
                 // 2 or 3
                 out[bufferIdx++] = '\n';
             }
-            loadBuffer.putRowValue(out);
+            if (csvScanner == null || scanCsvLine(out, bufferIdx)) {
+                putRecord(out);
+            } else {
+                appendRecord(out);
+            }
             bufferIdx = 0;
         }
         else if (style != lineDelimiterStyle) {
@@ -227,6 +266,56 @@ public class StreamReaderThread implements Callable<Boolean> {
         }
     }
 
+    /**
+     * Update CSV parsing state by the line.
+     * @param line
+     * @param length
+     * @return true if the line completes the record
+     */
+    private boolean scanCsvLine(byte[] line, int length) {
+        for (int i = 0; i < length; i++) {
+            csvScanner.update(line[i]);
+        }
+        return !csvScanner.isInQuote();
+    }
+
+    /**
+     * Pass CSV record to the processors
+     * @param line
+     *            last line of the record
+     * @throws XDBDataReaderException
+     */
+    private void putRecord(byte[] line) throws XDBDataReaderException {
+        if (record != null) {
+            appendRecord(line);
+            line = record;
+            record = null;
+        }
+        loadBuffer.putRowValue(line);
+    }
+
+    /**
+     * Keep the line until the CSV record is complete
+     * @param line
+     */
+    private void appendRecord(byte[] line) {
+        if (record == null) {
+            record = line;
+        } else {
+            byte[] newRecord = new byte[record.length + line.length];
+            System.arraycopy(record, 0, newRecord, 0, record.length);
+            System.arraycopy(line, 0, newRecord, record.length, line.length);
+            record = newRecord;
+        }
+    }
+
+    /**
+     * @return number of bytes read from the data source
+     */
+    public long getBytesRead() {
+        return bytesRead;
+    }
+
     /**
      * Detect if lines in the source stream have had different delimiters
      * @return
@@ -251,9 +340,18 @@ public class StreamReaderThread implements Callable<Boolean> {
             if (bufferIdx > 0) {
                 byte[] out = new byte[bufferIdx];
                 System.arraycopy(buffer, 0, out, 0, bufferIdx);
-                loadBuffer.putRowValue(out);
+                if (preserveLineEnd) {
+                    putRecord(out);
+                } else {
+                    loadBuffer.putRowValue(out);
+                }
                 bufferIdx = 0;
+            } else if (record != null) {
+                // Unterminated quoted value, let processor report it
+                loadBuffer.putRowValue(record);
+                record = null;
             }
+            loadBuffer.flush();
             return true;
         } catch (XDBDataReaderException dre) {
             throw dre;
@@ -0,0 +1,153 @@
+/*****************************************************************************
+ * Copyright (C) 2008 EnterpriseDB Corporation.
+ * Copyright (C) 2011 Stado Global Development Group.
+ *
+ * This file is part of Stado.
+ *
+ * Stado is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Stado is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Stado.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * You can find Stado at http://www.stado.us
+ *
+ ****************************************************************************/
+package org.postgresql.stado.engine.loader;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.Map;
+
+import org.postgresql.stado.engine.loader.Loader.DATA_SOURCE;
+import org.postgresql.stado.metadata.NodeDBConnectionInfo;
+
+/**
+ * Wraps writers created by other factory to limit the rate at which data is
+ * written. Limit is shared by all writers created by the factory.
+ */
+public class ThrottledWriterFactory implements INodeWriterFactory {
+    private INodeWriterFactory factory;
+
+    private long maxBytesPerSecond;
+
+    private long startTime = 0;
+
+    private long bytesWritten = 0;
+
+    /**
+     * @param factory
+     *            the factory creating writers
+     * @param maxBytesPerSecond
+     *            the limit
+     */
+    public ThrottledWriterFactory(INodeWriterFactory factory,
+            long maxBytesPerSecond) {
+        this.factory = factory;
+        this.maxBytesPerSecond = maxBytesPerSecond;
+    }
+
+    public void setNodeConnectionInfos(
+            NodeDBConnectionInfo[] nodeDBConnectionInfos) {
+        factory.setNodeConnectionInfos(nodeDBConnectionInfos);
+    }
+
+    public NodeDBConnectionInfo[] getNodeConnectionInfos() {
+        return factory.getNodeConnectionInfos();
+    }
+
+    public INodeWriter createWriter(int node) throws IOException {
+        return new ThrottledWriter(factory.createWriter(node));
+    }
+
+    public void setParams(DATA_SOURCE ds, Map<String,String> params) {
+        factory.setParams(ds, params);
+    }
+
+    public void close() {
+        factory.close();
+    }
+
+    /**
+     * Account written bytes and sleep if we are ahead of the allowed rate
+     *
+     * @param length
+     * @throws IOException
+     */
+    private void throttle(int length) throws IOException {
+        long delay;
+        synchronized (this) {
+            long now = System.currentTimeMillis();
+            if (startTime == 0) {
+                startTime = now;
+            }
+            bytesWritten += length;
+            delay = bytesWritten * 1000 / maxBytesPerSecond - (now - startTime);
+        }
+        if (delay > 0) {
+            try {
+                Thread.sleep(delay);
+            } catch (InterruptedException e) {
+                throw new IOException("Interrupted");
+            }
+        }
+    }
+
+    private class ThrottledWriter implements INodeWriter {
+        private INodeWriter writer;
+
+        private ThrottledWriter(INodeWriter writer) {
+            this.writer = writer;
+        }
+
+        public void start() throws IOException {
+            writer.start();
+        }
+
+        public void writeRow(byte[] row) throws IOException {
+            throttle(row.length);
+            writer.writeRow(row);
+        }
+
+        public void writeRow(byte[] row, int offset, int length)
+                throws IOException {
+            throttle(length);
+            writer.writeRow(row, offset, length);
+        }
+
+        public void finish(boolean success) throws IOException {
+            writer.finish(success);
+        }
+
+        public void commit() throws SQLException {
+            writer.commit();
+        }
+
+        public void rollback() throws SQLException {
+            writer.rollback();
+        }
+
+        public void close() throws SQLException {
+            writer.close();
+        }
+
+        public String getStatistics() {
+            return writer.getStatistics();
+        }
+
+        public long getRowCount() {
+            return writer.getRowCount();
+        }
+
+        public long getByteCount() {
+            return writer.getByteCount();
+        }
+    }
+}
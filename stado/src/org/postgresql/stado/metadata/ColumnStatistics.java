@@ -0,0 +1,664 @@
+/*****************************************************************************
+ * Copyright (C) 2008 EnterpriseDB Corporation.
+ * Copyright (C) 2011 Stado Global Development Group.
+ *
+ * This file is part of Stado.
+ *
+ * Stado is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Stado is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Stado.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * You can find Stado at http://www.stado.us
+ *
+ ****************************************************************************/
+/*
+ * ColumnStatistics.java
+ *
+ */
+package org.postgresql.stado.metadata;
+
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * Value distribution of a column: fraction of NULLs, most common values with
+ * their frequencies and equi-depth histogram of the other values, as
+ * collected by the underlying database. The statistics of the nodes are
+ * merged by ANALYZE and kept in xsyscolumns.colstats.
+ * <p>
+ * Values are kept in their text form. They are compared as numbers or as
+ * date/time if the column has such type, so histogram buckets can be
+ * interpolated, and as strings otherwise.
+ */
+public class ColumnStatistics {
+
+    /** Version of the stored format */
+    private static final String FORMAT_VERSION = "1";
+
+    private static final char SEPARATOR = '|';
+
+    private static final char ESCAPE = '\\';
+
+    /** Used for range conditions if there is no histogram */
+    private static final double DEFAULT_RANGE_SELECTIVITY = 1.0 / 3;
+
+    /** Type of the column, defines how values are compared */
+    private int sqlType;
+
+    private double nullFraction;
+
+    private String[] mcvValues;
+
+    private double[] mcvFrequencies;
+
+    /** Sum of mcvFrequencies */
+    private double mcvFraction;
+
+    /** Equi-depth histogram of the values that are not in mcvValues */
+    private String[] histogramBounds;
+
+    private Comparator<String> comparator = new Comparator<String>() {
+        public int compare(String value1, String value2) {
+            return compareValues(value1, value2);
+        }
+    };
+
+    /**
+     *
+     * @param sqlType
+     * @param nullFraction
+     * @param mcvValues
+     * @param mcvFrequencies
+     * @param histogramBounds
+     */
+    public ColumnStatistics(int sqlType, double nullFraction,
+            String[] mcvValues, double[] mcvFrequencies,
+            String[] histogramBounds) {
+        this.sqlType = sqlType;
+        this.nullFraction = nullFraction;
+        this.mcvValues = mcvValues == null ? new String[0] : mcvValues;
+        this.mcvFrequencies = mcvFrequencies == null ? new double[0]
+                : mcvFrequencies;
+        if (this.mcvValues.length != this.mcvFrequencies.length) {
+            throw new IllegalArgumentException(
+                    "Most common values do not match their frequencies");
+        }
+        this.histogramBounds = histogramBounds == null ? new String[0]
+                : histogramBounds;
+        mcvFraction = 0;
+        for (double frequency : this.mcvFrequencies) {
+            mcvFraction += frequency;
+        }
+    }
+
+    /**
+     * Creates statistics from a row of the PostgreSQL pg_stats view
+     *
+     * @param sqlType
+     *            type of the column
+     * @param nullFraction
+     *            null_frac
+     * @param mcvText
+     *            most_common_vals in text form
+     * @param frequencyText
+     *            most_common_freqs in text form
+     * @param histogramText
+     *            histogram_bounds in text form
+     * @return the statistics or null if they can not be parsed
+     */
+    public static ColumnStatistics fromPgStats(int sqlType,
+            double nullFraction, String mcvText, String frequencyText,
+            String histogramText) {
+        String[] mcvValues = parseArray(mcvText);
+        String[] frequencyValues = parseArray(frequencyText);
+        String[] histogramBounds = parseArray(histogramText);
+        if (mcvValues == null || frequencyValues == null) {
+            mcvValues = null;
+            frequencyValues = new String[0];
+        } else if (mcvValues.length != frequencyValues.length) {
+            return null;
+        }
+        double[] mcvFrequencies = new double[frequencyValues.length];
+        try {
+            for (int i = 0; i < frequencyValues.length; i++) {
+                mcvFrequencies[i] = Double.parseDouble(frequencyValues[i]);
+            }
+        } catch (NumberFormatException nfe) {
+            return null;
+        }
+        return new ColumnStatistics(sqlType, nullFraction, mcvValues,
+                mcvFrequencies, histogramBounds);
+    }
+
+    /**
+     * Parses a one dimensional array in PostgreSQL text form, like
+     * {1,2,"a b"}. NULL elements are skipped.
+     *
+     * @param text
+     * @return array elements or null if text is not an array
+     */
+    static String[] parseArray(String text) {
+        if (text == null) {
+            return null;
+        }
+        text = text.trim();
+        if (text.length() < 2 || text.charAt(0) != '{'
+                || text.charAt(text.length() - 1) != '}') {
+            return null;
+        }
+        List<String> elements = new ArrayList<String>();
+        if (text.length() == 2) {
+            return new String[0];
+        }
+        StringBuffer sbElement = new StringBuffer();
+        boolean inQuotes = false;
+        boolean wasQuoted = false;
+        for (int i = 1; i < text.length(); i++) {
+            char ch = text.charAt(i);
+            if (inQuotes) {
+                if (ch == '\\' && i + 1 < text.length()) {
+                    sbElement.append(text.charAt(++i));
+                } else if (ch == '"') {
+                    inQuotes = false;
+                } else {
+                    sbElement.append(ch);
+                }
+            } else if (ch == '"') {
+                inQuotes = true;
+                wasQuoted = true;
+            } else if (ch == ',' || i == text.length() - 1) {
+                String element = sbElement.toString();
+                if (wasQuoted) {
+                    elements.add(element);
+                } else if (!"NULL".equalsIgnoreCase(element.trim())) {
+                    elements.add(element.trim());
+                }
+                sbElement.setLength(0);
+                wasQuoted = false;
+            } else {
+                sbElement.append(ch);
+            }
+        }
+        return elements.toArray(new String[elements.size()]);
+    }
+
+    /**
+     * Merges statistics of the nodes. Frequencies and histograms are
+     * weighted by number of rows on the node.
+     *
+     * @param sqlType
+     *            type of the column
+     * @param nodeStatistics
+     *            statistics of the nodes
+     * @param nodeRows
+     *            number of rows on the nodes, in the same order
+     * @param target
+     *            maximum number of the most common values and of the
+     *            histogram buckets
+     * @return merged statistics or null if no node has any
+     */
+    public static ColumnStatistics merge(int sqlType,
+            List<ColumnStatistics> nodeStatistics, List<Long> nodeRows,
+            int target) {
+        double totalRows = 0;
+        for (int i = 0; i < nodeStatistics.size(); i++) {
+            totalRows += nodeRows.get(i);
+        }
+        if (totalRows <= 0) {
+            return null;
+        }
+        double nullFraction = 0;
+        final Map<String, Double> mcvMap = new HashMap<String, Double>();
+        double histogramRows = 0;
+        for (int i = 0; i < nodeStatistics.size(); i++) {
+            ColumnStatistics stats = nodeStatistics.get(i);
+            double weight = nodeRows.get(i) / totalRows;
+            nullFraction += stats.nullFraction * weight;
+            for (int j = 0; j < stats.mcvValues.length; j++) {
+                Double frequency = mcvMap.get(stats.mcvValues[j]);
+                mcvMap.put(stats.mcvValues[j], (frequency == null ? 0
+                        : frequency.doubleValue())
+                        + stats.mcvFrequencies[j] * weight);
+            }
+            if (stats.histogramBounds.length > 1) {
+                histogramRows += stats.getHistogramFraction() * nodeRows.get(i);
+            }
+        }
+
+        // Keep most frequent values
+        List<String> mcvList = new ArrayList<String>(mcvMap.keySet());
+        Collections.sort(mcvList, new Comparator<String>() {
+            public int compare(String value1, String value2) {
+                return mcvMap.get(value2).compareTo(mcvMap.get(value1));
+            }
+        });
+        if (mcvList.size() > target) {
+            mcvList = mcvList.subList(0, target);
+        }
+        String[] mcvValues = mcvList.toArray(new String[mcvList.size()]);
+        double[] mcvFrequencies = new double[mcvValues.length];
+        for (int i = 0; i < mcvValues.length; i++) {
+            mcvFrequencies[i] = mcvMap.get(mcvValues[i]);
+        }
+
+        ColumnStatistics merged = new ColumnStatistics(sqlType,
+                nullFraction, mcvValues, mcvFrequencies, null);
+        if (histogramRows > 0 && target > 0) {
+            merged.histogramBounds = merged.mergeHistograms(nodeStatistics,
+                    nodeRows, histogramRows, target);
+        }
+        return merged;
+    }
+
+    /**
+     * Builds equi-depth histogram from the node histograms. The bounds are
+     * picked from the node bounds, where the combined distribution crosses
+     * the bucket boundaries.
+     *
+     * @param nodeStatistics
+     * @param nodeRows
+     * @param histogramRows
+     *            total number of rows in the node histograms
+     * @param target
+     *            maximum number of buckets
+     * @return histogram bounds
+     */
+    private String[] mergeHistograms(List<ColumnStatistics> nodeStatistics,
+            List<Long> nodeRows, double histogramRows, int target) {
+        List<String> candidates = new ArrayList<String>();
+        for (ColumnStatistics stats : nodeStatistics) {
+            if (stats.histogramBounds.length > 1) {
+                candidates.addAll(Arrays.asList(stats.histogramBounds));
+            }
+        }
+        Collections.sort(candidates, comparator);
+        int buckets = Math.min(target, candidates.size() - 1);
+        List<String> bounds = new ArrayList<String>(buckets + 1);
+        bounds.add(candidates.get(0));
+        int bucket = 1;
+        for (int i = 1; i < candidates.size() - 1 && bucket < buckets; i++) {
+            String candidate = candidates.get(i);
+            double below = 0;
+            for (int j = 0; j < nodeStatistics.size(); j++) {
+                ColumnStatistics stats = nodeStatistics.get(j);
+                if (stats.histogramBounds.length > 1) {
+                    below += stats.getHistogramPosition(candidate)
+                            * stats.getHistogramFraction() * nodeRows.get(j);
+                }
+            }
+            if (below / histogramRows >= (double) bucket / buckets) {
+                bounds.add(candidate);
+                while (bucket < buckets
+                        && below / histogramRows >= (double) bucket / buckets) {
+                    bucket++;
+                }
+            }
+        }
+        bounds.add(candidates.get(candidates.size() - 1));
+        return bounds.toArray(new String[bounds.size()]);
+    }
+
+    /**
+     * @return fraction of rows which are represented by the histogram
+     */
+    private double getHistogramFraction() {
+        return Math.max(0, 1 - nullFraction - mcvFraction);
+    }
+
+    /**
+     * @param value
+     * @return fraction of the histogram population below the value, or -1
+     *         if there is no histogram
+     */
+    private double getHistogramPosition(String value) {
+        int last = histogramBounds.length - 1;
+        if (last < 1) {
+            return -1;
+        }
+        if (compareValues(value, histogramBounds[0]) <= 0) {
+            return 0;
+        }
+        if (compareValues(value, histogramBounds[last]) >= 0) {
+            return 1;
+        }
+        // find the bucket
+        int low = 0;
+        int high = last;
+        while (high - low > 1) {
+            int middle = (low + high) / 2;
+            if (compareValues(value, histogramBounds[middle]) < 0) {
+                high = middle;
+            } else {
+                low = middle;
+            }
+        }
+        double position = 0.5;
+        double lowValue = toNumber(histogramBounds[low]);
+        double highValue = toNumber(histogramBounds[high]);
+        double number = toNumber(value);
+        if (!Double.isNaN(lowValue) && !Double.isNaN(highValue)
+                && !Double.isNaN(number) && highValue > lowValue) {
+            position = (number - lowValue) / (highValue - lowValue);
+        }
+        return (low + position) / last;
+    }
+
+    /**
+     * Estimates fraction of rows equal to the value
+     *
+     * @param value
+     * @param distinctSelectivity
+     *            1 / number of distinct values, or 0 if unknown
+     * @return selectivity or -1 if can not be estimated
+     */
+    public double getEqualSelectivity(String value, double distinctSelectivity) {
+        for (int i = 0; i < mcvValues.length; i++) {
+            if (compareValues(value, mcvValues[i]) == 0) {
+                return mcvFrequencies[i];
+            }
+        }
+        if (distinctSelectivity <= 0) {
+            return -1;
+        }
+        double otherDistinct = 1 / distinctSelectivity - mcvValues.length;
+        return getHistogramFraction() / Math.max(1, otherDistinct);
+    }
+
+    /**
+     * Estimates fraction of rows compared with the value by a relational
+     * operator, in form column operator value
+     *
+     * @param operator
+     *            one of =, <>, !=, <, <=, >, >=
+     * @param value
+     * @param distinctSelectivity
+     *            1 / number of distinct values, or 0 if unknown
+     * @return selectivity or -1 if can not be estimated
+     */
+    public double getSelectivity(String operator, String value,
+            double distinctSelectivity) {
+        if ("=".equals(operator)) {
+            return getEqualSelectivity(value, distinctSelectivity);
+        }
+        if ("<>".equals(operator) || "!=".equals(operator)) {
+            double equal = getEqualSelectivity(value, distinctSelectivity);
+            return equal < 0 ? -1 : Math.max(0, 1 - nullFraction - equal);
+        }
+        boolean isLess = "<".equals(operator) || "<=".equals(operator);
+        boolean isGreater = ">".equals(operator) || ">=".equals(operator);
+        if (!isLess && !isGreater) {
+            return -1;
+        }
+        boolean inclusive = operator.endsWith("=");
+        double selectivity = 0;
+        for (int i = 0; i < mcvValues.length; i++) {
+            int comparison = compareValues(mcvValues[i], value);
+            if (comparison == 0 && inclusive || comparison < 0 && isLess
+                    || comparison > 0 && isGreater) {
+                selectivity += mcvFrequencies[i];
+            }
+        }
+        double position = getHistogramPosition(value);
+        if (position < 0) {
+            position = DEFAULT_RANGE_SELECTIVITY;
+        } else if (isGreater) {
+            position = 1 - position;
+        }
+        return selectivity + position * getHistogramFraction();
+    }
+
+    /**
+     * Estimates selectivity of an equi-join, that is, fraction of the
+     * Cartesian product of the two columns that matches. Frequencies of the
+     * most common values are matched with each other, remaining values are
+     * assumed to be evenly distributed.
+     *
+     * @param stats1
+     *            statistics of the first column, may be null
+     * @param distinctSelectivity1
+     *            1 / number of distinct values of the first column
+     * @param stats2
+     *            statistics of the second column, may be null
+     * @param distinctSelectivity2
+     *            1 / number of distinct values of the second column
+     * @return selectivity or -1 if can not be estimated
+     */
+    public static double getJoinSelectivity(ColumnStatistics stats1,
+            double distinctSelectivity1, ColumnStatistics stats2,
+            double distinctSelectivity2) {
+        if (stats1 == null && stats2 == null || distinctSelectivity1 <= 0
+                || distinctSelectivity2 <= 0) {
+            return -1;
+        }
+        double distinct1 = 1 / distinctSelectivity1;
+        double distinct2 = 1 / distinctSelectivity2;
+        double nonNull1 = stats1 == null ? 1 : 1 - stats1.nullFraction;
+        double nonNull2 = stats2 == null ? 1 : 1 - stats2.nullFraction;
+        if (stats1 == null || stats2 == null || stats1.mcvValues.length == 0
+                || stats2.mcvValues.length == 0) {
+            return nonNull1 * nonNull2 / Math.max(distinct1, distinct2);
+        }
+        double matched = 0;
+        double matched1 = 0;
+        double matched2 = 0;
+        for (int i = 0; i < stats1.mcvValues.length; i++) {
+            for (int j = 0; j < stats2.mcvValues.length; j++) {
+                if (stats1.compareValues(stats1.mcvValues[i],
+                        stats2.mcvValues[j]) == 0) {
+                    matched += stats1.mcvFrequencies[i]
+                            * stats2.mcvFrequencies[j];
+                    matched1 += stats1.mcvFrequencies[i];
+                    matched2 += stats2.mcvFrequencies[j];
+                    break;
+                }
+            }
+        }
+        double other1 = stats1.getHistogramFraction();
+        double other2 = stats2.getHistogramFraction();
+        double otherDistinct1 = Math.max(1, distinct1
+                - stats1.mcvValues.length);
+        double otherDistinct2 = Math.max(1, distinct2
+                - stats2.mcvValues.length);
+        // Unmatched common values may match the values of the other column
+        // which are not common
+        double selectivity = matched
+                + (stats1.mcvFraction - matched1) * other2 / otherDistinct2
+                + (stats2.mcvFraction - matched2) * other1 / otherDistinct1
+                + other1 * other2 / Math.max(otherDistinct1, otherDistinct2);
+        return Math.min(1, selectivity);
+    }
+
+    /**
+     * Compares values as numbers if they can be converted according to the
+     * column type, as strings otherwise.
+     *
+     * @param value1
+     * @param value2
+     * @return
+     */
+    private int compareValues(String value1, String value2) {
+        double number1 = toNumber(value1);
+        double number2 = toNumber(value2);
+        if (!Double.isNaN(number1) && !Double.isNaN(number2)) {
+            return Double.compare(number1, number2);
+        }
+        return value1.compareTo(value2);
+    }
+
+    /**
+     * @param value
+     * @return value converted to a number, if column type allows, or NaN
+     */
+    private double toNumber(String value) {
+        try {
+            switch (sqlType) {
+            case Types.TINYINT:
+            case Types.SMALLINT:
+            case Types.INTEGER:
+            case Types.BIGINT:
+            case Types.DECIMAL:
+            case Types.NUMERIC:
+            case Types.REAL:
+            case Types.FLOAT:
+            case Types.DOUBLE:
+                return Double.parseDouble(value.trim());
+            case Types.DATE:
+                return Date.valueOf(value.trim()).getTime();
+            case Types.TIME:
+                String time = value.trim();
+                return Time.valueOf(time.length() > 8 ? time.substring(0, 8)
+                        : time).getTime();
+            case Types.TIMESTAMP:
+                String timestamp = value.trim();
+                // skip fractions and time zone
+                if (timestamp.length() > 19) {
+                    timestamp = timestamp.substring(0, 19);
+                } else if (timestamp.length() == 10) {
+                    timestamp += " 00:00:00";
+                }
+                return Timestamp.valueOf(timestamp).getTime();
+            default:
+                return Double.NaN;
+            }
+        } catch (IllegalArgumentException e) {
+            // NumberFormatException is IllegalArgumentException
+            return Double.NaN;
+        }
+    }
+
+    /**
+     * @return fraction of NULL values
+     */
+    public double getNullFraction() {
+        return nullFraction;
+    }
+
+    /**
+     * @return the most common values
+     */
+    public String[] getMostCommonValues() {
+        return mcvValues;
+    }
+
+    /**
+     * @return frequencies of the most common values
+     */
+    public double[] getMostCommonFrequencies() {
+        return mcvFrequencies;
+    }
+
+    /**
+     * @return bounds of the equi-depth histogram
+     */
+    public String[] getHistogramBounds() {
+        return histogramBounds;
+    }
+
+    /**
+     * Restores statistics stored by {@link #toString()}
+     *
+     * @param sqlType
+     *            type of the column
+     * @param text
+     * @return the statistics or null if text is null or in unknown format
+     */
+    public static ColumnStatistics parse(int sqlType, String text) {
+        if (text == null) {
+            return null;
+        }
+        List<String> fields = new ArrayList<String>();
+        StringBuffer sbField = new StringBuffer();
+        for (int i = 0; i < text.length(); i++) {
+            char ch = text.charAt(i);
+            if (ch == ESCAPE && i + 1 < text.length()) {
+                sbField.append(text.charAt(++i));
+            } else if (ch == SEPARATOR) {
+                fields.add(sbField.toString());
+                sbField.setLength(0);
+            } else {
+                sbField.append(ch);
+            }
+        }
+        fields.add(sbField.toString());
+        try {
+            int pos = 0;
+            if (!FORMAT_VERSION.equals(fields.get(pos++))) {
+                return null;
+            }
+            double nullFraction = Double.parseDouble(fields.get(pos++));
+            int mcvCount = Integer.parseInt(fields.get(pos++));
+            String[] mcvValues = new String[mcvCount];
+            double[] mcvFrequencies = new double[mcvCount];
+            for (int i = 0; i < mcvCount; i++) {
+                mcvFrequencies[i] = Double.parseDouble(fields.get(pos++));
+                mcvValues[i] = fields.get(pos++);
+            }
+            int boundCount = Integer.parseInt(fields.get(pos++));
+            String[] histogramBounds = new String[boundCount];
+            for (int i = 0; i < boundCount; i++) {
+                histogramBounds[i] = fields.get(pos++);
+            }
+            return new ColumnStatistics(sqlType, nullFraction, mcvValues,
+                    mcvFrequencies, histogramBounds);
+        } catch (IndexOutOfBoundsException e) {
+            return null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * @param sbText
+     * @param field
+     */
+    private static void appendField(StringBuffer sbText, String field) {
+        sbText.append(SEPARATOR);
+        for (int i = 0; i < field.length(); i++) {
+            char ch = field.charAt(i);
+            if (ch == ESCAPE || ch == SEPARATOR) {
+                sbText.append(ESCAPE);
+            }
+            sbText.append(ch);
+        }
+    }
+
+    /**
+     * Format used to store the statistics in the metadata database
+     *
+     * @return String representation of ColumnStatistics
+     */
+    @Override
+    public String toString() {
+        StringBuffer sbText = new StringBuffer(FORMAT_VERSION);
+        appendField(sbText, Double.toString(nullFraction));
+        appendField(sbText, Integer.toString(mcvValues.length));
+        for (int i = 0; i < mcvValues.length; i++) {
+            appendField(sbText, Double.toString(mcvFrequencies[i]));
+            appendField(sbText, mcvValues[i]);
+        }
+        appendField(sbText, Integer.toString(histogramBounds.length));
+        for (String bound : histogramBounds) {
+            appendField(sbText, bound);
+        }
+        return sbText.toString();
+    }
+}
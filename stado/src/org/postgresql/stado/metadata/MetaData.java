@@ -48,6 +48,7 @@ import org.postgresql.stado.common.util.ParseCmdLine;
 import org.postgresql.stado.common.util.Property;
 import org.postgresql.stado.common.util.Props;
 import org.postgresql.stado.common.util.XLogger;
+import org.postgresql.stado.engine.PlanCache;
 import org.postgresql.stado.exception.ErrorMessageRepository;
 import org.postgresql.stado.exception.XDBServerException;
 
@@ -910,6 +911,8 @@ public class MetaData {
                 oConn.commit();
                 if (refresher != null) {
                     refresher.refresh();
+                    // Cached plans may refer to changed objects
+                    PlanCache.invalidate();
                 }
                 transactionThread = null;
                 connectionMutex.notifyAll();
@@ -0,0 +1,73 @@
+/*****************************************************************************
+ * Copyright (C) 2008 EnterpriseDB Corporation.
+ * Copyright (C) 2011 Stado Global Development Group.
+ *
+ * This file is part of Stado.
+ *
+ * Stado is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Stado is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Stado.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * You can find Stado at http://www.stado.us
+ *
+ ****************************************************************************/
+package org.postgresql.stado.metadata;
+
+import org.postgresql.stado.engine.XDBSessionContext;
+import org.postgresql.stado.metadata.partitions.HashPartitionMap;
+
+/**
+ * Assigns hash bucket of the table to other partition, after rows of the
+ * bucket have been moved.
+ */
+public class SyncMoveBucket implements IMetaDataUpdate {
+    private SysTable table;
+
+    private HashPartitionMap partitionMap;
+
+    private int bucket;
+
+    /**
+     * @param table
+     *            the hash partitioned table
+     * @param partitionMap
+     *            new partition map of the table
+     * @param bucket
+     *            the bucket that has been moved
+     */
+    public SyncMoveBucket(SysTable table, HashPartitionMap partitionMap,
+            int bucket) {
+        this.table = table;
+        this.partitionMap = partitionMap;
+        this.bucket = bucket;
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see org.postgresql.stado.MetaData.IMetaDataUpdate#execute(org.postgresql.stado.server.XDBSessionContext)
+     */
+    public void execute(XDBSessionContext client) throws Exception {
+        partitionMap.storeBucketToMetadataDB(MetaData.getMetaData(), table,
+                bucket);
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see org.postgresql.stado.MetaData.IMetaDataUpdate#refresh()
+     */
+    public void refresh() throws Exception {
+        table.setPartitioning(table.getPartitionColumn(),
+                table.getPartitionScheme(), partitionMap);
+    }
+}
@@ -69,6 +69,9 @@ public class SysColumn {
 
     private double selectivity;
 
+    /** value distribution, null if not analyzed */
+    private ColumnStatistics statistics;
+
     private String defaultExprStr = "";
 
     private SqlExpression defaultExpr;
@@ -379,6 +382,21 @@ public class SysColumn {
         return selectivity;
     }
 
+    /**
+     * @return Returns the value distribution, null if it is not known.
+     */
+    public ColumnStatistics getStatistics() {
+        return statistics;
+    }
+
+    /**
+     * @param statistics
+     *            The value distribution to set.
+     */
+    public void setStatistics(ColumnStatistics statistics) {
+        this.statistics = statistics;
+    }
+
     /**
      * @return Returns the defaultExpr.
      */
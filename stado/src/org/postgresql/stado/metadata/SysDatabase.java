@@ -183,9 +183,6 @@ public class SysDatabase {
 
     private void initSchedulingMechanism() {
         sc = new Scheduler();
-        Thread schedulerThread = new Thread(sc, dbname + " Scheduler Thread");
-        schedulerThread.setDaemon(true);
-        schedulerThread.start();
     }
 
     private void initLockManager() {
@@ -372,6 +372,15 @@ public class SysTable {
                     aSysColumn.isWithTimeZone = true;
                 }
 
+                String colstats = null;
+                try {
+                    colstats = aColumnRS.getString("colstats");
+                } catch (SQLException e) {
+                    // metadata database created before colstats was added
+                }
+                aSysColumn.setStatistics(ColumnStatistics.parse(
+                        aSysColumn.getColType(), colstats));
+
                 addSysColumn(aSysColumn);
             }
         } catch (SQLException e) {
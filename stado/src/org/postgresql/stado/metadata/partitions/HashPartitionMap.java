@@ -27,12 +27,21 @@ package org.postgresql.stado.metadata.partitions;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
 
+import org.postgresql.stado.common.util.Props;
 import org.postgresql.stado.exception.ErrorMessageRepository;
 import org.postgresql.stado.exception.XDBServerException;
 import org.postgresql.stado.metadata.MetaData;
@@ -50,7 +59,23 @@ public class HashPartitionMap implements PartitionMap {
      */
     private static final long serialVersionUID = -5952477578322320409L;
 
-    private static final int HASH_SIZE = 256;
+    private static final int MAX_HASH_SIZE = 0x10000;
+
+    /**
+     * Recently generated consistent hash distributions, they are expensive
+     * to calculate and the same partition lists are used over and over for
+     * intermediate tables. Mapping tables are never modified, so they are
+     * shared.
+     */
+    private static final Map<String,Integer[]> distributionCache = new LinkedHashMap<String,Integer[]>(
+            16, 0.75f, true) {
+        private static final long serialVersionUID = 7245385434196211720L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String,Integer[]> eldest) {
+            return size() > 32;
+        }
+    };
 
     private Integer[] mappingTable;
 
@@ -82,10 +107,15 @@ public class HashPartitionMap implements PartitionMap {
      */
     public void generateDistribution(Collection<Integer> partitionIdList) {
         partitions = new HashSet<Integer>(partitionIdList);
+        mappingTable = new Integer[getConfiguredSize()];
+        if (Props.XDB_PARTITIONMAP_VIRTUALNODES > 0) {
+            generateConsistentDistribution(partitionIdList,
+                    Props.XDB_PARTITIONMAP_VIRTUALNODES);
+            return;
+        }
         Iterator<Integer> it = partitionIdList.iterator();
-        // create mapping table, for all HASH_SIZE possible values,
+        // create mapping table, for all possible hash values,
         // assigning a node to each.
-        mappingTable = new Integer[HASH_SIZE];
         for (int i = 0; i < mappingTable.length; i++) {
             if (!it.hasNext()) {
                 it = partitionIdList.iterator();
@@ -93,7 +123,193 @@ public class HashPartitionMap implements PartitionMap {
             mappingTable[i] = it.next();
         }
     }
-    
+
+    /**
+     * Assign buckets using consistent hashing. Every partition is placed
+     * on a hash ring as a number of virtual nodes, and bucket goes to the
+     * partition owning first virtual node following the bucket's position
+     * on the ring. Partition which already has its share of buckets is
+     * skipped, so buckets are distributed evenly, and a partition owns the
+     * same buckets regardless of order of the partition list.
+     *
+     * @param partitionIdList
+     * @param virtualNodes
+     */
+    private void generateConsistentDistribution(
+            Collection<Integer> partitionIdList, int virtualNodes) {
+        TreeSet<Integer> sortedIds = new TreeSet<Integer>(partitionIdList);
+        String cacheKey = mappingTable.length + ":" + sortedIds;
+        synchronized (distributionCache) {
+            Integer[] cached = distributionCache.get(cacheKey);
+            if (cached != null) {
+                mappingTable = cached;
+                return;
+            }
+        }
+        // Bucket share of every partition, first partitions get one bucket
+        // more if buckets can not be divided evenly
+        Map<Integer,Integer> capacity = new HashMap<Integer,Integer>();
+        int extra = mappingTable.length % sortedIds.size();
+        for (Integer partitionId : sortedIds) {
+            capacity.put(partitionId, mappingTable.length / sortedIds.size()
+                    + (extra-- > 0 ? 1 : 0));
+        }
+        TreeMap<Integer,Integer> ring = new TreeMap<Integer,Integer>();
+        for (Integer partitionId : sortedIds) {
+            for (int i = 0; i < virtualNodes; i++) {
+                int position = mix(partitionId * 0x10000 + i);
+                if (!ring.containsKey(position)) {
+                    ring.put(position, partitionId);
+                }
+            }
+        }
+        for (int i = 0; i < mappingTable.length; i++) {
+            int position = mix(~i);
+            Integer owner = findOwner(ring.tailMap(position).values(), capacity);
+            if (owner == null) {
+                owner = findOwner(ring.values(), capacity);
+            }
+            mappingTable[i] = owner;
+        }
+        synchronized (distributionCache) {
+            distributionCache.put(cacheKey, mappingTable);
+        }
+    }
+
+    /**
+     * Find first partition in the list having space for one more bucket,
+     * and reserve the space
+     *
+     * @param candidates
+     * @param capacity
+     * @return the partition or null if all are full
+     */
+    private static Integer findOwner(Collection<Integer> candidates,
+            Map<Integer,Integer> capacity) {
+        for (Integer partitionId : candidates) {
+            int space = capacity.get(partitionId);
+            if (space > 0) {
+                capacity.put(partitionId, space - 1);
+                return partitionId;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Scramble the value to get position on the hash ring
+     *
+     * @param value
+     * @return
+     */
+    private static int mix(int value) {
+        value ^= value >>> 16;
+        value *= 0x85EBCA6B;
+        value ^= value >>> 13;
+        value *= 0xC2B2AE35;
+        value ^= value >>> 16;
+        return value;
+    }
+
+    /**
+     * @return number of hash buckets for new tables, as configured
+     */
+    private static int getConfiguredSize() {
+        int size = 1;
+        while (size < Props.XDB_PARTITIONMAP_BUCKETS && size < MAX_HASH_SIZE) {
+            size <<= 1;
+        }
+        return size;
+    }
+
+    /**
+     * Creates the map distributing the buckets evenly among the specified
+     * partitions, with minimal number of buckets changing their partitions.
+     * A bucket stays where it is, unless the partition is removed or has more
+     * buckets than its share. Buckets being moved go to the partitions having
+     * less buckets than their share. Number of buckets remains the same, so
+     * rows of moved buckets may be just copied to new partitions.
+     *
+     * @param partitionIdList
+     * @return the new map
+     */
+    public HashPartitionMap rebalance(Collection<Integer> partitionIdList) {
+        final Map<Integer,Integer> current = getBucketDistribution();
+        List<Integer> sortedIds = new ArrayList<Integer>(
+                new TreeSet<Integer>(partitionIdList));
+        // Partitions already having more buckets get larger share, if
+        // buckets can not be divided evenly
+        Collections.sort(sortedIds, new Comparator<Integer>() {
+            public int compare(Integer o1, Integer o2) {
+                Integer count1 = current.get(o1);
+                Integer count2 = current.get(o2);
+                return (count2 == null ? 0 : count2)
+                        - (count1 == null ? 0 : count1);
+            }
+        });
+        Map<Integer,Integer> capacity = new HashMap<Integer,Integer>();
+        int extra = mappingTable.length % sortedIds.size();
+        for (Integer partitionId : sortedIds) {
+            capacity.put(partitionId, mappingTable.length / sortedIds.size()
+                    + (extra-- > 0 ? 1 : 0));
+        }
+        Integer[] newMappingTable = new Integer[mappingTable.length];
+        List<Integer> toMove = new ArrayList<Integer>();
+        for (int i = 0; i < mappingTable.length; i++) {
+            Integer space = capacity.get(mappingTable[i]);
+            if (space != null && space > 0) {
+                newMappingTable[i] = mappingTable[i];
+                capacity.put(mappingTable[i], space - 1);
+            } else {
+                toMove.add(i);
+            }
+        }
+        Iterator<Integer> it = toMove.iterator();
+        for (Integer partitionId : sortedIds) {
+            for (int space = capacity.get(partitionId); space > 0; space--) {
+                newMappingTable[it.next()] = partitionId;
+            }
+        }
+        HashPartitionMap result = new HashPartitionMap();
+        result.mappingTable = newMappingTable;
+        return result;
+    }
+
+    /**
+     * Creates copy of the map, with the bucket assigned to other partition
+     *
+     * @param bucket
+     * @param partitionId
+     * @return the new map
+     */
+    public HashPartitionMap moveBucket(int bucket, Integer partitionId) {
+        HashPartitionMap result = new HashPartitionMap();
+        result.mappingTable = mappingTable.clone();
+        result.mappingTable[bucket] = partitionId;
+        return result;
+    }
+
+    /**
+     * @return number of hash buckets
+     */
+    public int getBucketCount() {
+        return mappingTable.length;
+    }
+
+    /**
+     * Counts the hash buckets assigned to each of partitions
+     *
+     * @return map of partition ids to number of buckets
+     */
+    public Map<Integer,Integer> getBucketDistribution() {
+        Map<Integer,Integer> result = new HashMap<Integer,Integer>();
+        for (Integer element : mappingTable) {
+            Integer count = result.get(element);
+            result.put(element, count == null ? 1 : count + 1);
+        }
+        return result;
+    }
+
     /**
      * 
      * @param key 
@@ -167,7 +383,23 @@ public class HashPartitionMap implements PartitionMap {
      * @return 
      */
     private Integer getNodeId(String sValue) {
-        return getNodeFromHash(hash(sValue));
+        return getNodeFromHash(getBucket(sValue));
+    }
+
+    /**
+     * @param sValue
+     * @return number of hash bucket where the value belongs
+     */
+    public int getBucket(String sValue) {
+        return hash(sValue) & mappingTable.length - 1;
+    }
+
+    /**
+     * @param bucket
+     * @return the partition assigned to the bucket
+     */
+    public Integer getBucketPartition(int bucket) {
+        return mappingTable[bucket];
     }
 
     /**
@@ -200,7 +432,8 @@ public class HashPartitionMap implements PartitionMap {
     }
 
     /**
-     * get hash value, 0 - HASH_SIZE
+     * get hash value, low 16 bits are significant, bucket number is taken
+     * from low bits
      */
     private final static int hash(byte key[]) {
 
@@ -210,10 +443,99 @@ public class HashPartitionMap implements PartitionMap {
         int value = 0x238F13AF * key.length;
 
         for (int i = 0; i < key.length; i++) {
-            value = value + (key[i] << i * 5 % 24) & 0x7fffffff;
+            value = hashStep(value, key[i], i);
         }
 
-        return (1103515243 * value + 12345) % 65537 & 0x000000FF;
+        return hashFinish(value);
+    }
+
+    /**
+     * Adds byte at specified position to the hash value
+     */
+    private final static int hashStep(int value, int b, int i) {
+        return value + (b << i * 5 % 24) & 0x7fffffff;
+    }
+
+    private final static int hashFinish(int value) {
+        return (1103515243 * value + 12345) % 65537;
+    }
+
+    private static final long[] POWERS_OF_TEN = new long[19];
+    static {
+        POWERS_OF_TEN[0] = 1;
+        for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+        }
+    }
+
+    /**
+     * Typed hash of an integer value. Returns the same hash as the normalized
+     * text representation of the value would have, so rows are routed the
+     * same way regardless of the format they are received in, but does not
+     * convert the value to a String.
+     *
+     * @param value
+     * @return the hash
+     */
+    public final static int hash(long value) {
+        int digits = 1;
+        while (digits < POWERS_OF_TEN.length
+                && (value >= POWERS_OF_TEN[digits] || value <= -POWERS_OF_TEN[digits])) {
+            digits++;
+        }
+        int i = 0;
+        int hash = 0x238F13AF * (value < 0 ? digits + 1 : digits);
+        if (value < 0) {
+            hash = hashStep(hash, '-', i++);
+        }
+        for (int d = digits - 1; d >= 0; d--) {
+            // value may be Long.MIN_VALUE, so the digit is taken from
+            // the signed quotient
+            int digit = (int) (value / POWERS_OF_TEN[d] % 10);
+            hash = hashStep(hash, '0' + (digit < 0 ? -digit : digit), i++);
+        }
+        return hashFinish(hash);
+    }
+
+    /**
+     * Typed hash of a date value, same as hash of the normalized text
+     * representation of the date, that is 'YYYY-MM-DD' including quotes.
+     *
+     * @param year
+     *            the year, 1 to 9999
+     * @param month
+     * @param day
+     * @return the hash
+     */
+    public final static int hashDate(int year, int month, int day) {
+        int hash = 0x238F13AF * 12;
+        hash = hashStep(hash, '\'', 0);
+        hash = hashStep(hash, '0' + year / 1000, 1);
+        hash = hashStep(hash, '0' + year / 100 % 10, 2);
+        hash = hashStep(hash, '0' + year / 10 % 10, 3);
+        hash = hashStep(hash, '0' + year % 10, 4);
+        hash = hashStep(hash, '-', 5);
+        hash = hashStep(hash, '0' + month / 10, 6);
+        hash = hashStep(hash, '0' + month % 10, 7);
+        hash = hashStep(hash, '-', 8);
+        hash = hashStep(hash, '0' + day / 10, 9);
+        hash = hashStep(hash, '0' + day % 10, 10);
+        hash = hashStep(hash, '\'', 11);
+        return hashFinish(hash);
+    }
+
+    /**
+     * Returns partitions where row should be inserted, if its key has
+     * specified typed hash.
+     *
+     * @param hash
+     *            value returned by one of the typed hash functions
+     * @return collection of partition ids
+     * @see #hash(long)
+     * @see #hashDate(int, int, int)
+     */
+    public Collection<Integer> getPartitionsByHash(int hash) {
+        return Collections.singleton(getNodeFromHash(hash & mappingTable.length - 1));
     }
 
     /**
@@ -224,17 +546,26 @@ public class HashPartitionMap implements PartitionMap {
      */
     public void readMapFromMetadataDB(MetaData metadata, SysTable parent)
             throws SQLException {
-        mappingTable = new Integer[HASH_SIZE];
         String query = "SELECT hashValue, nodeid FROM xsystabparthash WHERE tableid = "
                 + parent.getTableId();
+        Map<Integer,Integer> buckets = new HashMap<Integer,Integer>();
+        int size = 1;
         ResultSet rs = metadata.executeQuery(query);
         try {
             while (rs.next()) {
-                mappingTable[rs.getInt(1)] = rs.getInt(2);
+                int hashValue = rs.getInt(1);
+                buckets.put(hashValue, rs.getInt(2));
+                while (hashValue >= size) {
+                    size <<= 1;
+                }
             }
         } finally {
             rs.close();
         }
+        mappingTable = new Integer[size];
+        for (Map.Entry<Integer,Integer> entry : buckets.entrySet()) {
+            mappingTable[entry.getKey()] = entry.getValue();
+        }
     }
 
     
@@ -267,6 +598,22 @@ public class HashPartitionMap implements PartitionMap {
         }
     }
 
+    /**
+     * Updates partition of the bucket in the MetaData DB
+     *
+     * @param metadata
+     * @param parent
+     * @param bucket
+     * @throws java.sql.SQLException
+     */
+    public void storeBucketToMetadataDB(MetaData metadata, SysTable parent,
+            int bucket) throws SQLException {
+        String update = "UPDATE xsystabparthash SET nodeid = "
+                + mappingTable[bucket] + " WHERE tableid = "
+                + parent.getTableId() + " AND hashValue = " + bucket;
+        metadata.executeUpdate(update);
+    }
+
     /**
      * 
      * @param metadata 
@@ -38,7 +38,8 @@ import org.postgresql.stado.metadata.SysTable;
  * 
  * 
  */
-public interface PartitionMap extends Serializable, Cloneable {
+public interface PartitionMap extends Serializable, Cloneable,
+        PartitionRouter {
     /**
      * Generate default mapping for provided list of node IDs
      * 
@@ -0,0 +1,49 @@
+/*****************************************************************************
+ * Copyright (C) 2008 EnterpriseDB Corporation.
+ * Copyright (C) 2011 Stado Global Development Group.
+ *
+ * This file is part of Stado.
+ *
+ * Stado is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Stado is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Stado.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * You can find Stado at http://www.stado.us
+ *
+ ****************************************************************************/
+package org.postgresql.stado.metadata.partitions;
+
+import java.util.Collection;
+
+/**
+ * Routes new rows to partitions by value of the partitioning key. That is
+ * what the Loader needs to know about the distribution of the target table.
+ */
+public interface PartitionRouter {
+    /**
+     * Returns a list of partitions where row with specified key should be
+     * written
+     *
+     * @param key
+     *            normalized value of the partitioning key, null if NULL
+     * @return collection of partition ids where row should be inserted, may
+     *         be empty if the row should be skipped
+     */
+    public Collection<Integer> getPartitions(String key);
+
+    /**
+     * Returns full list of partitions rows may be written to
+     *
+     * @return collection of partition ids
+     */
+    public Collection<Integer> allPartitions();
+}
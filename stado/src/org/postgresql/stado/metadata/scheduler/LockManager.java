@@ -22,14 +22,21 @@
  ****************************************************************************/
 package org.postgresql.stado.metadata.scheduler;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedList;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.apache.log4j.Level;
+import org.postgresql.stado.common.util.Props;
 import org.postgresql.stado.exception.XDBServerException;
 import org.postgresql.stado.metadata.SysDatabase;
 import org.postgresql.stado.metadata.SysTable;
@@ -38,22 +45,33 @@ import org.postgresql.stado.metadata.SysTable;
 /**
  * LockManager all the lock acquired in the database. It works on table level
  * but can work on different levels too.
+ * <p>
+ * Lock state is kept per table, so requests for different tables do not
+ * contend. If a request touches multiple tables their states are locked in
+ * the order of table ids. Transactions that failed to acquire locks are
+ * registered in the waits-for graph, it is checked for cycles only when a
+ * transaction has been waiting longer than xdb.lock.deadlock.timeout.
  */
 public class LockManager {
     /**
-     * A table of locks held by particular transaction
+     * Lock state of the tables
      */
-    private LockTable<ITransaction, SysTable> transactionLocks = new LockTable<ITransaction, SysTable>();
+    private final ConcurrentHashMap<SysTable, TableLock> tableLocks = new ConcurrentHashMap<SysTable, TableLock>();
 
     /**
-     * A table of locks that particular transaction wants to acquire. Some of
-     * this lock can not be acquired at the moment, and transactions in the list
-     * are waiting until other transaction is completed and releases resources
+     * Locks held by particular transaction
      */
-    private LockTable<ITransaction, SysTable> lockCandidates = new LockTable<ITransaction, SysTable>();
+    private final ConcurrentHashMap<ITransaction, HashMap<SysTable, Lock<SysTable>>> transactionLocks = new ConcurrentHashMap<ITransaction, HashMap<SysTable, Lock<SysTable>>>();
 
     /**
-     * Needed for Commit Synchronization.
+     * The waits-for graph: transactions that failed to acquire locks and the
+     * transactions holding conflicting locks. Transactions are waiting until
+     * other transaction is completed and releases resources
+     */
+    private final ConcurrentHashMap<ITransaction, LockWait> lockWaits = new ConcurrentHashMap<ITransaction, LockWait>();
+
+    /**
+     * Needed for Commit Synchronization. Guarded by committingInserts.
      */
     private HashSet<ITransaction> workingTrans = new HashSet<ITransaction>();
 
@@ -63,6 +81,22 @@ public class LockManager {
      */
     private HashMap<ITransaction, CommitSynchronizer> committingInserts = new HashMap<ITransaction, CommitSynchronizer>();
 
+    /**
+     * Order to lock the table states, to avoid deadlocks between requests
+     */
+    private static final Comparator<TableLock> LOCK_ORDER = new Comparator<TableLock>() {
+        public int compare(TableLock tl1, TableLock tl2) {
+            int id1 = tl1.table.getTableId();
+            int id2 = tl2.table.getTableId();
+            if (id1 != id2) {
+                return id1 < id2 ? -1 : 1;
+            }
+            id1 = System.identityHashCode(tl1);
+            id2 = System.identityHashCode(tl2);
+            return id1 < id2 ? -1 : (id1 == id2 ? 0 : 1);
+        }
+    };
+
     /**
      * Creates and initializes LockManager
      * 
@@ -87,6 +121,8 @@ public class LockManager {
 
     /**
      * Remove managed object to LockManager because it going to be dropped.
+     * The lock state of the table is discarded when the last holder, usually
+     * the dropping transaction, releases its lock.
      * 
      * @param dropTable
      *            object being removed
@@ -95,13 +131,102 @@ public class LockManager {
      * @return true
      */
     public boolean remove(Object dropTable, Object tranContext) {
+        TableLock tableLock = tableLocks.get(dropTable);
+        if (tableLock != null) {
+            tableLock.mutex.lock();
+            try {
+                tableLock.dropped = true;
+                discardIfUnused(tableLock);
+            } finally {
+                tableLock.mutex.unlock();
+            }
+        }
         return true;
     }
 
+    /**
+     * Remove lock state of the dropped table from the map if nobody holds a
+     * lock on it. Table state must be locked by caller.
+     * 
+     * @param tableLock
+     */
+    private void discardIfUnused(TableLock tableLock) {
+        if (tableLock.dropped && !tableLock.discarded
+                && tableLock.holders.isEmpty()) {
+            tableLock.discarded = true;
+            tableLocks.remove(tableLock.table, tableLock);
+        }
+    }
+
+    /**
+     * @param table
+     * @return lock state of the table, created if not exists
+     */
+    private TableLock getTableLock(SysTable table) {
+        TableLock tableLock = tableLocks.get(table);
+        if (tableLock == null) {
+            tableLock = new TableLock(table);
+            TableLock existing = tableLocks.putIfAbsent(table, tableLock);
+            if (existing != null) {
+                tableLock = existing;
+            }
+        }
+        return tableLock;
+    }
+
+    /**
+     * @param locks
+     * @return lock states of the locked tables, in the lock order
+     */
+    private TableLock[] getTableLocks(Collection<Lock<SysTable>> locks) {
+        TableLock[] result = new TableLock[locks.size()];
+        int i = 0;
+        for (Lock<SysTable> lock : locks) {
+            result[i++] = getTableLock(lock.getManagedObject());
+        }
+        Arrays.sort(result, LOCK_ORDER);
+        return result;
+    }
+
+    /**
+     * Lock the states of the locked tables. If some state has been discarded
+     * while waiting for its mutex, the states are looked up again.
+     * 
+     * @param locks
+     * @return locked states, in the lock order
+     */
+    private TableLock[] lockTableLocks(Collection<Lock<SysTable>> locks) {
+        while (true) {
+            TableLock[] tables = getTableLocks(locks);
+            lockAll(tables);
+            boolean valid = true;
+            for (TableLock tableLock : tables) {
+                valid &= !tableLock.discarded;
+            }
+            if (valid) {
+                return tables;
+            }
+            unlockAll(tables);
+        }
+    }
+
+    private static void lockAll(TableLock[] tableLocks) {
+        for (TableLock tableLock : tableLocks) {
+            tableLock.mutex.lock();
+        }
+    }
+
+    private static void unlockAll(TableLock[] tableLocks) {
+        for (int i = tableLocks.length - 1; i >= 0; i--) {
+            tableLocks[i].mutex.unlock();
+        }
+    }
+
     /**
      * Acquire specified locks for specified transaction and update
      * transactionlocks table accordingly. If other transaction is already held
-     * conflicting lock false is returned and lockCandidates table is updated.
+     * conflicting lock false is returned and the transaction is registered as
+     * waiting for the holders.
      * This method may block if trying to acquire read lock on an object that
      * was recently modified by a transaction that is currently committing. It
      * is unblocked after commit is completed.
@@ -119,54 +244,200 @@ public class LockManager {
         Lock.CATEGORY_LOCK.log(Level.DEBUG,
                 "Transaction %0% is trying to acquire locks %1%", new Object[] {
                         tranContext, lockSpecs });
-        boolean success;
-        synchronized (transactionLocks) {
-            lockCandidates.removeLocks(tranContext);
-            
-            if (SysDatabase.isReadOnly()) {
-            	if (!isReadyOnlyStatment) {
-                    notifyTransactionEnd(tranContext);
-                    throw new XDBServerException(
-                            "Statement invalid when in READ_ONLY mode");
-            	}
+        if (SysDatabase.isReadOnly()) {
+            if (!isReadyOnlyStatment) {
+                notifyTransactionEnd(tranContext);
+                throw new XDBServerException(
+                        "Statement invalid when in READ_ONLY mode");
             }
-            
-            success = transactionLocks.checkLocks(tranContext, lockSpecs
-                    .getCombinedVector());
-            if (success) {
-                for (CommitSynchronizer synchronizer : committingInserts
-                        .values()) {
-                    for (Lock<SysTable> lock : lockSpecs
-                            .getCombinedVector()) {
-                        if (lock.forRead()
-                                && synchronizer.hasTable(lock
-                                        .getManagedObject())) {
-                            return false;
+        }
+        Collection<Lock<SysTable>> locks = lockSpecs.getCombinedVector();
+        // conflicting transaction -> table
+        HashMap<ITransaction, TableLock> blockers = new HashMap<ITransaction, TableLock>();
+        boolean success = false;
+        TableLock[] tables = lockTableLocks(locks);
+        try {
+            for (Lock<SysTable> lock : locks) {
+                getTableLock(lock.getManagedObject()).findConflicts(
+                        tranContext, lock, blockers);
+            }
+            if (blockers.isEmpty()) {
+                success = true;
+                synchronized (committingInserts) {
+                    for (CommitSynchronizer synchronizer : committingInserts
+                            .values()) {
+                        for (Lock<SysTable> lock : locks) {
+                            if (lock.forRead()
+                                    && synchronizer.hasTable(lock
+                                            .getManagedObject())) {
+                                success = false;
+                            }
                         }
                     }
+                    if (success) {
+                        workingTrans.add(tranContext);
+                    }
                 }
-                workingTrans.add(tranContext);
-                transactionLocks.addLocks(tranContext, lockSpecs
-                        .getCombinedVector());
-            } else {
-                lockCandidates.addLocks(tranContext, lockSpecs
-                        .getCombinedVector());
-                Collection deadlocks = findDeadLocks();
-                if (!deadlocks.isEmpty()) {
-                    // Release locks are held by current transaction ...
-                    notifyTransactionEnd(tranContext);
-                    // ... and interrupt current operation
-                    throw new XDBServerException(
-                            "Can not complete request due to concurrent problem");
-                    // Another way to go is to determine wait of deadlocked
-                    // transaction
-                    // and force rollback one with minimal cost
+                if (success) {
+                    addLocks(tranContext, locks);
                 }
             }
+        } finally {
+            unlockAll(tables);
+        }
+        if (success) {
+            endWait(tranContext);
+        } else if (startWait(tranContext, blockers)) {
+            // Release locks are held by current transaction ...
+            notifyTransactionEnd(tranContext);
+            // ... and interrupt current operation
+            throw new XDBServerException(
+                    "Can not complete request due to concurrent problem");
+            // Another way to go is to determine wait of deadlocked
+            // transaction
+            // and force rollback one with minimal cost
         }
         return success;
     }
 
+    /**
+     * Register the locks in the table states and in the list of locks held
+     * by the transaction. Table states must be locked by caller.
+     * 
+     * @param tranContext
+     * @param locks
+     */
+    private void addLocks(ITransaction tranContext,
+            Collection<Lock<SysTable>> locks) {
+        HashMap<SysTable, Lock<SysTable>> held = transactionLocks
+                .get(tranContext);
+        if (held == null) {
+            held = new HashMap<SysTable, Lock<SysTable>>();
+            transactionLocks.put(tranContext, held);
+        }
+        synchronized (held) {
+            for (Lock<SysTable> lock : locks) {
+                Lock<SysTable> oldLock = held.get(lock.getManagedObject());
+                if (oldLock == null) {
+                    held.put(lock.getManagedObject(), lock);
+                    getTableLock(lock.getManagedObject()).holders.put(
+                            tranContext, lock);
+                } else {
+                    oldLock.merge(lock);
+                }
+            }
+        }
+    }
+
+    /**
+     * Remove all locks held by specified transaction. Like in addLocks(),
+     * the table states are locked before the list of held locks.
+     * 
+     * @param tranContext
+     */
+    private void removeLocks(ITransaction tranContext) {
+        HashMap<SysTable, Lock<SysTable>> held = transactionLocks
+                .remove(tranContext);
+        if (held != null) {
+            Collection<Lock<SysTable>> locks;
+            synchronized (held) {
+                locks = new ArrayList<Lock<SysTable>>(held.values());
+            }
+            TableLock[] tables = lockTableLocks(locks);
+            try {
+                synchronized (held) {
+                    for (TableLock tableLock : tables) {
+                        tableLock.holders.remove(tranContext);
+                        discardIfUnused(tableLock);
+                    }
+                }
+            } finally {
+                unlockAll(tables);
+            }
+        }
+    }
+
+    /**
+     * Register the transaction in the waits-for graph, or update the
+     * conflicting transactions if it is already waiting. Check the graph for
+     * deadlock if the transaction has been waiting long enough.
+     * 
+     * @param tranContext
+     * @param blockers
+     *            transactions holding conflicting locks, empty if waiting
+     *            for commit of other transaction
+     * @return true if deadlock is detected
+     */
+    private boolean startWait(ITransaction tranContext,
+            HashMap<ITransaction, TableLock> blockers) {
+        LockWait wait = lockWaits.get(tranContext);
+        if (wait == null) {
+            wait = new LockWait();
+            lockWaits.put(tranContext, wait);
+        }
+        wait.blockers = blockers;
+        wait.tables.addAll(blockers.values());
+        return !blockers.isEmpty()
+                && System.currentTimeMillis() - wait.since >= Props.XDB_LOCK_DEADLOCK_TIMEOUT
+                && isDeadlocked(tranContext);
+    }
+
+    /**
+     * Remove the transaction from the waits-for graph and account the wait
+     * time to the tables it was waiting for.
+     * 
+     * @param tranContext
+     */
+    private void endWait(ITransaction tranContext) {
+        LockWait wait = lockWaits.remove(tranContext);
+        if (wait != null) {
+            long waitTime = System.currentTimeMillis() - wait.since;
+            for (TableLock tableLock : wait.tables) {
+                tableLock.addWait(waitTime);
+            }
+            Lock.CATEGORY_LOCK.log(Level.DEBUG,
+                    "Transaction %0% waited %1% ms for locks on %2%",
+                    new Object[] { tranContext, new Long(waitTime),
+                            wait.tables });
+        }
+    }
+
+    /**
+     * Search the waits-for graph for a cycle passing through the
+     * transaction. Edge is followed only if the holder still holds a lock
+     * on the table, waiter may have not retried yet after the holder has
+     * released it.
+     * 
+     * @param tranContext
+     * @return true if the transaction is deadlocked
+     */
+    private boolean isDeadlocked(ITransaction tranContext) {
+        HashSet<ITransaction> visited = new HashSet<ITransaction>();
+        LinkedList<ITransaction> toVisit = new LinkedList<ITransaction>();
+        toVisit.add(tranContext);
+        while (!toVisit.isEmpty()) {
+            ITransaction waiter = toVisit.removeFirst();
+            LockWait wait = lockWaits.get(waiter);
+            if (wait == null || !visited.add(waiter)) {
+                continue;
+            }
+            for (Map.Entry<ITransaction, TableLock> entry : wait.blockers
+                    .entrySet()) {
+                ITransaction holder = entry.getKey();
+                if (entry.getValue().isHeldBy(holder)) {
+                    if (holder == tranContext) {
+                        Lock.CATEGORY_LOCK.log(Level.DEBUG,
+                                "Deadlock detected, transactions %0%",
+                                new Object[] { visited });
+                        return true;
+                    }
+                    toVisit.add(holder);
+                }
+            }
+        }
+        return false;
+    }
+
     /**
      * Notification that transaction is completed request and idle
      * 
@@ -178,7 +449,7 @@ public class LockManager {
         Lock.CATEGORY_LOCK.log(Level.DEBUG,
                 "Releasing locks held by transaction %0%",
                 new Object[] { tranContext });
-        synchronized (transactionLocks) {
+        synchronized (committingInserts) {
             workingTrans.remove(tranContext);
             for (CommitSynchronizer synchronizer : committingInserts.values()) {
                 if (synchronizer.hasTransaction(tranContext)) {
@@ -188,9 +459,9 @@ public class LockManager {
                     synchronizer.countDown();
                 }
             }
-            if (!tranContext.isInTransaction() && !tranContext.isInSubTransaction()) {
-                transactionLocks.removeLocks(tranContext);
-            }
+        }
+        if (!tranContext.isInTransaction() && !tranContext.isInSubTransaction()) {
+            removeLocks(tranContext);
         }
         return true;
     }
@@ -203,7 +474,7 @@ public class LockManager {
      *            the transaction
      */
     public void notifyRefusedRequest(ITransaction tranContext) {
-        lockCandidates.removeLocks(tranContext);
+        endWait(tranContext);
     }
 
     /**
@@ -222,35 +493,44 @@ public class LockManager {
         CommitSynchronizer synchronizer = null;
         HashSet<SysTable> tables = new HashSet<SysTable>();
         HashSet<ITransaction> transactions = new HashSet<ITransaction>();
-        synchronized (transactionLocks) {
-            HashMap<SysTable, Lock<SysTable>> locksByMO = transactionLocks
-                    .getLocksByTransaction(tranContext);
-            if (locksByMO == null) {
-                return;
+        HashMap<SysTable, Lock<SysTable>> locksByMO = transactionLocks
+                .get(tranContext);
+        if (locksByMO == null) {
+            return;
+        }
+        Collection<Lock<SysTable>> writeLocks = new ArrayList<Lock<SysTable>>();
+        synchronized (locksByMO) {
+            for (Lock<SysTable> lock : locksByMO.values()) {
+                if (lock.forWrite()) {
+                    writeLocks.add(lock);
+                }
             }
-            for (Map.Entry<SysTable, Lock<SysTable>> entry : locksByMO
-                    .entrySet()) {
-                if (entry.getValue().forWrite()) {
-                    HashMap<ITransaction, Lock<SysTable>> lockByTran = transactionLocks
-                            .getLocksByManagedObject(entry.getKey());
-                    for (Map.Entry<ITransaction, Lock<SysTable>> entry1 : lockByTran
+        }
+        TableLock[] writeTables = getTableLocks(writeLocks);
+        lockAll(writeTables);
+        try {
+            synchronized (committingInserts) {
+                for (TableLock tableLock : writeTables) {
+                    for (Map.Entry<ITransaction, Lock<SysTable>> entry1 : tableLock.holders
                             .entrySet()) {
                         if (entry1.getKey() != tranContext
                                 && workingTrans.contains(entry1.getKey())
                                 && entry1.getValue().forRead()) {
-                            tables.add(entry.getKey());
+                            tables.add(tableLock.table);
                             transactions.add(entry1.getKey());
                         }
                     }
                 }
+                if (!transactions.isEmpty()) {
+                    synchronizer = new CommitSynchronizer(transactions, tables);
+                    Lock.CATEGORY_LOCK.log(Level.DEBUG,
+                            "Create latch %0% for transactions %1%",
+                            new Object[] { synchronizer, transactions });
+                    committingInserts.put(tranContext, synchronizer);
+                }
             }
-            if (!transactions.isEmpty()) {
-                synchronizer = new CommitSynchronizer(transactions, tables);
-                Lock.CATEGORY_LOCK.log(Level.DEBUG,
-                        "Create latch %0% for transactions %1%",
-                        new Object[] { synchronizer, transactions });
-                committingInserts.put(tranContext, synchronizer);
-            }
+        } finally {
+            unlockAll(writeTables);
         }
         if (synchronizer != null) {
             synchronizer.await();
@@ -268,60 +548,27 @@ public class LockManager {
         Lock.CATEGORY_LOCK.log(Level.DEBUG,
                 "Releasing locks by the end of transaction %0%",
                 new Object[] { tranContext });
-        synchronized (transactionLocks) {
+        synchronized (committingInserts) {
             committingInserts.remove(tranContext);
-            transactionLocks.removeLocks(tranContext);
-            lockCandidates.removeLocks(tranContext);
-            transactionLocks.notifyAll();
         }
+        removeLocks(tranContext);
+        endWait(tranContext);
     }
 
     /**
-     * Analyze the acquired locks and locks wanted to be acquired and return
-     * collection of deadlocked transactions
+     * Returns lock wait statistics of the tables, that have been locked
+     * since server start.
      * 
-     * @return deadlocked transactions
+     * @return table -> statistics
      */
-    private Collection<ITransaction> findDeadLocks() {
-        //
-        boolean reduced;
-        LockTable<ITransaction, SysTable> locks;
-        LockTable<ITransaction, SysTable> candidates;
-        // Take a snapshot
-        synchronized (transactionLocks) {
-            synchronized (lockCandidates) {
-                locks = (LockTable<ITransaction, SysTable>) transactionLocks
-                        .clone();
-                candidates = (LockTable<ITransaction, SysTable>) lockCandidates
-                        .clone();
+    public Map<SysTable, LockWaitStatistics> getLockWaitStatistics() {
+        Map<SysTable, LockWaitStatistics> result = new HashMap<SysTable, LockWaitStatistics>();
+        for (TableLock tableLock : tableLocks.values()) {
+            synchronized (tableLock.statistics) {
+                result.put(tableLock.table, tableLock.statistics.copy());
             }
         }
-        do {
-            reduced = false;
-            // First reduction step: remove locks that are held by transactions
-            // that do not want acquire anything
-            for (Iterator<ITransaction> it = locks.getTransactions().iterator(); it
-                    .hasNext();) {
-                ITransaction transaction = it.next();
-                if (candidates.getLocksByTransaction(transaction) == null) {
-                    locks.removeLocks(transaction);
-                    reduced = true;
-                }
-            }
-            // Second reduction step: remove candidates that could be satisfied
-            if (reduced) {
-                for (Iterator<ITransaction> it = candidates.getTransactions()
-                        .iterator(); it.hasNext();) {
-                    ITransaction transaction = it.next();
-                    if (locks.checkLocks(transaction, candidates
-                            .getLocksByTransaction(transaction).values())) {
-                        candidates.removeLocks(transaction);
-                        reduced = true;
-                    }
-                }
-            }
-        } while (reduced);
-        return locks.getTransactions();
+        return result;
     }
 
     /**
@@ -330,10 +577,182 @@ public class LockManager {
      * @return
      */
     public String dumpLockManager() {
-        return "Current locks: " + transactionLocks + "\n"
-                + "Lock candidates: " + lockCandidates + "\n"
-                + "Wait for commit: " + committingInserts.keySet() + "\n"
-                + "Busy: " + workingTrans + "\n";
+        StringBuffer locks = new StringBuffer();
+        StringBuffer waitTimes = new StringBuffer();
+        for (Iterator<TableLock> it = tableLocks.values().iterator(); it
+                .hasNext();) {
+            TableLock tableLock = it.next();
+            tableLock.mutex.lock();
+            try {
+                if (!tableLock.holders.isEmpty()) {
+                    locks.append(tableLock.table).append("=").append(
+                            tableLock.holders).append(" ");
+                }
+            } finally {
+                tableLock.mutex.unlock();
+            }
+            waitTimes.append(tableLock.table).append("=").append(
+                    tableLock.statistics).append(" ");
+        }
+        HashMap<ITransaction, Collection<ITransaction>> waits = new HashMap<ITransaction, Collection<ITransaction>>();
+        for (Map.Entry<ITransaction, LockWait> entry : lockWaits.entrySet()) {
+            waits.put(entry.getKey(), entry.getValue().blockers.keySet());
+        }
+        synchronized (committingInserts) {
+            return "Current locks: " + locks + "\n" + "Waits for: " + waits
+                    + "\n" + "Wait for commit: " + committingInserts.keySet()
+                    + "\n" + "Busy: " + workingTrans + "\n"
+                    + "Lock wait time: " + waitTimes + "\n";
+        }
+    }
+
+    /**
+     * Lock state of a table. Holders are accessed only when the mutex is
+     * locked.
+     */
+    private static class TableLock {
+        final SysTable table;
+
+        final ReentrantLock mutex = new ReentrantLock();
+
+        final HashMap<ITransaction, Lock<SysTable>> holders = new HashMap<ITransaction, Lock<SysTable>>();
+
+        final LockWaitStatistics statistics = new LockWaitStatistics();
+
+        /**
+         * The table is being dropped. Guarded by mutex.
+         */
+        boolean dropped = false;
+
+        /**
+         * The state is removed from the map, a new one is created if the
+         * table is locked again. Guarded by mutex.
+         */
+        boolean discarded = false;
+
+        TableLock(SysTable table) {
+            this.table = table;
+        }
+
+        /**
+         * Find other transactions holding locks conflicting with the lock
+         * 
+         * @param transaction
+         *            the transaction that acquires lock
+         * @param lock
+         *            the lock to be acquired
+         * @param blockers
+         *            conflicting transactions are added here
+         */
+        void findConflicts(ITransaction transaction, Lock<SysTable> lock,
+                Map<ITransaction, TableLock> blockers) {
+            // Check is we already have that lock
+            Lock<SysTable> oldLock = holders.get(transaction);
+            if (oldLock != null && !lock.stricterThan(oldLock)) {
+                return;
+            }
+            // Check if other locks are compatible
+            for (Map.Entry<ITransaction, Lock<SysTable>> entry : holders
+                    .entrySet()) {
+                if (entry.getKey() != transaction
+                        && !lock.isCompatible(entry.getValue(), transaction
+                                .getTransactionIsolation(), entry.getKey()
+                                .getTransactionIsolation())) {
+                    blockers.put(entry.getKey(), this);
+                }
+            }
+        }
+
+        boolean isHeldBy(ITransaction transaction) {
+            mutex.lock();
+            try {
+                return holders.containsKey(transaction);
+            } finally {
+                mutex.unlock();
+            }
+        }
+
+        void addWait(long waitTime) {
+            synchronized (statistics) {
+                statistics.waitCount++;
+                statistics.waitTime += waitTime;
+                if (waitTime > statistics.maxWaitTime) {
+                    statistics.maxWaitTime = waitTime;
+                }
+            }
+        }
+
+        @Override
+        public String toString() {
+            return String.valueOf(table);
+        }
+    }
+
+    /**
+     * Node of the waits-for graph
+     */
+    private static class LockWait {
+        /**
+         * When transaction failed to acquire locks first time
+         */
+        final long since = System.currentTimeMillis();
+
+        /**
+         * Transactions holding conflicting locks at the last attempt, and
+         * the tables they are conflicting on
+         */
+        volatile HashMap<ITransaction, TableLock> blockers;
+
+        /**
+         * All the tables the transaction was waiting for
+         */
+        final HashSet<TableLock> tables = new HashSet<TableLock>();
+    }
+
+    /**
+     * Time transactions spent waiting for locks on a table
+     */
+    public static class LockWaitStatistics {
+        private long waitCount;
+
+        private long waitTime;
+
+        private long maxWaitTime;
+
+        LockWaitStatistics copy() {
+            LockWaitStatistics copy = new LockWaitStatistics();
+            copy.waitCount = waitCount;
+            copy.waitTime = waitTime;
+            copy.maxWaitTime = maxWaitTime;
+            return copy;
+        }
+
+        /**
+         * @return number of lock requests that had to wait
+         */
+        public long getWaitCount() {
+            return waitCount;
+        }
+
+        /**
+         * @return total wait time, ms
+         */
+        public long getWaitTime() {
+            return waitTime;
+        }
+
+        /**
+         * @return longest wait, ms
+         */
+        public long getMaxWaitTime() {
+            return maxWaitTime;
+        }
+
+        @Override
+        public String toString() {
+            return "<waits: " + waitCount + ", total: " + waitTime
+                    + " ms, max: " + maxWaitTime + " ms>";
+        }
     }
 
     /**
@@ -377,4 +796,4 @@ public class LockManager {
             }
         }
     }
-}
\ No newline at end of file
+}
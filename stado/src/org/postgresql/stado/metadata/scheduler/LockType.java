@@ -86,6 +86,15 @@ public class LockType {
         }
     }
 
+    /**
+     * @return the weakest lock type that keeps other transactions from
+     *         writing the object. Share write is enough unless writers are
+     *         allowed to share the object, then it is exclusive.
+     */
+    public static LockType getExcludingWriters() {
+        return LOCK_MODE == LOCK_MODE_LOOSE ? LOCK_EXCLUSIVE : LOCK_SHARE_WRITE;
+    }
+
     private int lockType;
 
     private boolean upgradeable;
@@ -62,6 +62,13 @@ public class RequestCost implements Comparable<RequestCost> {
         return sqlObject;
     }
 
+    /**
+     * @return estimated cost of the request
+     */
+    long getCost() {
+        return static_cost;
+    }
+
     public long getDynamicCost() {
         // This is the cost that we get from checking the
         // locking
@@ -22,12 +22,12 @@
  ****************************************************************************/
 package org.postgresql.stado.metadata.scheduler;
 
-import java.util.Map;
-import java.util.TreeMap;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.HashMap;
+import java.util.TreeSet;
 
 import org.postgresql.stado.common.util.Property;
 import org.postgresql.stado.engine.XDBSessionContext;
+import org.postgresql.stado.metadata.SysUser;
 
 
 /**
@@ -35,14 +35,16 @@ import org.postgresql.stado.engine.XDBSessionContext;
  * maintains a queue of requests, but while we does not support multiple
  * concurrent requests within one connection there is at most one entry in the
  * queue. 2. Request is scheduled. First request in queue is registered with
- * scheduler. If the request is enqueued and queue has been empty it is
- * scheduled immediately. 3. Scheduler notifies XDBSessionContext that request
+ * scheduler. If there is a free slot the request is admitted immediately,
+ * otherwise it waits in the queue of its user until a slot is freed.
+ * 3. Scheduler notifies XDBSessionContext that request
  * can be executed. XDBSessionContext tries and acquires locks needed by calling
  * LockManager, then reports result back to Scheduler. There are three possible
  * results: a. LockManager succeeded and locks are acquired. Request is removed
  * from Scheduler. Go to Step 4. b. LockManager failed (there are conflicting
  * locks) and no locks are acquired. Scheduler moves to another session, request
- * is waiting for next time. c. Exception is thrown (deadlock is detected) and
+ * is waiting until some request completes or locks are released. c. Exception
+ * is thrown (deadlock is detected) and
  * no locks are acquired. Request is removed from Scheduler, error response is
  * written to client. 4. Scheduler allocates thread and executes request
  * prepared on Step 3 within it. 5. Locks are released by calling LockManager.
@@ -50,8 +52,16 @@ import org.postgresql.stado.engine.XDBSessionContext;
  * there is active transaction LockManager will held the locks until transaction
  * is committed or rolled back. 6. XDBSessionContext is cleaned and become ready
  * for next request. If there is one in the queue it is scheduled.
+ * <p>
+ * Admission is event driven: waiting requests are admitted when a request
+ * completes, there is no periodic scan. Large and small queries have separate
+ * slot pools, small query may take a free large slot if no large query is
+ * waiting. Within a pool requests are ordered by start-time fair queuing over
+ * per user queues, each request is charged its RequestCost divided by the
+ * weight of the user, so a user submitting many or expensive queries can not
+ * starve other users.
  */
-public class Scheduler implements Runnable {
+public class Scheduler {
 
     private static final int QUERY_LIMIT = Property.getInt(
             "xdb.jdbc.pool.query.count", Property.getInt(
@@ -60,91 +70,373 @@ public class Scheduler implements Runnable {
     private static final int LARGE_QUERY_LIMIT = Property.getInt(
             "xdb.jdbc.pool.largequery.count", 2);
 
-    private final TreeMap<RequestCost, XDBSessionContext> serviceQueue = new TreeMap<RequestCost, XDBSessionContext>();
+    private static final int SMALL_QUERY_LIMIT = Property.getInt(
+            "xdb.jdbc.pool.smallquery.count", Math.max(1, QUERY_LIMIT
+                    - LARGE_QUERY_LIMIT));
 
-    private final AtomicInteger queryCount;
+    /**
+     * Max time to hold request that failed to acquire locks, if nothing is
+     * happening meanwhile, ms
+     */
+    private static final long HOLD_TIMEOUT = 1000;
 
-    private final AtomicInteger largeQueryCount;
+    /**
+     * Upper bounds of the queue wait histogram buckets, ms. Last bucket is
+     * unbounded.
+     */
+    public static final long[] QUEUE_WAIT_BOUNDS = { 1, 10, 100, 1000, 10000 };
+
+    private final SlotPool smallPool = new SlotPool(SMALL_QUERY_LIMIT);
+
+    private final SlotPool largePool = new SlotPool(LARGE_QUERY_LIMIT);
+
+    /**
+     * Registered requests
+     */
+    private final HashMap<RequestCost, Ticket> tickets = new HashMap<RequestCost, Ticket>();
+
+    /**
+     * Queues of the users, key is user name
+     */
+    private final HashMap<String, Flow> flows = new HashMap<String, Flow>();
+
+    /**
+     * Virtual time of fair queuing: start tag of the latest admitted request
+     */
+    private long virtualTime = 0;
+
+    /**
+     * Incremented when a slot is freed or locks are released, held requests
+     * are waiting for this to change
+     */
+    private long capacityChanges = 0;
 
     public Scheduler() {
-        queryCount = new AtomicInteger(0);
-        largeQueryCount = new AtomicInteger(0);
     }
 
-    public void addRequest(RequestCost cost, XDBSessionContext client) {
-        boolean fallThru;
-        synchronized (this) {
-            fallThru = serviceQueue.isEmpty();
-            serviceQueue.put(cost, client);
+    /**
+     * Register the request and block until it is admitted or cancelled.
+     * Request must be unregistered by removeRequest() in any case.
+     * 
+     * @param cost
+     * @param client
+     * @return true if admitted, false if cancelled
+     */
+    public synchronized boolean addRequest(RequestCost cost,
+            XDBSessionContext client) {
+        Ticket ticket = new Ticket(cost, client, getFlow(client));
+        tickets.put(cost, ticket);
+        enqueue(ticket);
+        return waitForAdmission(ticket);
+    }
+
+    /**
+     * Wake up the request if it is waiting for admission, the waiting
+     * thread returns without a slot.
+     * 
+     * @param cost
+     */
+    public synchronized void cancelRequest(RequestCost cost) {
+        Ticket ticket = tickets.get(cost);
+        if (ticket != null) {
+            ticket.cancelled = true;
+            notifyAll();
+        }
+    }
+
+    /**
+     * Unregister the request, its slot becomes available
+     * 
+     * @param cost
+     * @return
+     */
+    public synchronized XDBSessionContext removeRequest(RequestCost cost) {
+        Ticket ticket = tickets.remove(cost);
+        if (ticket == null) {
+            return null;
+        }
+        if (ticket.pool != null) {
+            ticket.pool.used--;
+            ticket.pool = null;
+            // Wake up held requests
+            capacityChanges++;
             notifyAll();
+        } else {
+            ticket.queue.remove(ticket);
         }
-        if (!fallThru) {
-            synchronized (client) {
-                try {
-                    client.wait(1000);
-                } catch (InterruptedException ie) {
-                    // ignore
-                }
+        dispatch();
+        return ticket.client;
+    }
+
+    /**
+     * Free the slot of the request that failed to acquire locks. Block until
+     * some other request completes or locks are released, and then until the
+     * request is admitted again. The request keeps its place in the queue.
+     * 
+     * @param cost
+     * @return true if admitted, false if cancelled
+     */
+    public synchronized boolean holdRequest(RequestCost cost) {
+        Ticket ticket = tickets.get(cost);
+        if (ticket == null || ticket.pool == null) {
+            return ticket != null;
+        }
+        ticket.pool.used--;
+        ticket.pool = null;
+        dispatch();
+        // If something happened since the request was admitted, locks may
+        // be available already
+        long deadline = System.currentTimeMillis() + HOLD_TIMEOUT;
+        while (capacityChanges == ticket.capacityChanges && !ticket.cancelled) {
+            long timeout = deadline - System.currentTimeMillis();
+            if (timeout <= 0) {
+                break;
+            }
+            try {
+                wait(timeout);
+            } catch (InterruptedException ie) {
+                ticket.cancelled = true;
+                Thread.currentThread().interrupt();
             }
         }
-        queryCount.incrementAndGet();
-        if (cost.isLarge()) {
-            largeQueryCount.incrementAndGet();
+        if (ticket.cancelled) {
+            return false;
         }
+        ticket.enqueueTime = System.currentTimeMillis();
+        ticket.queue.add(ticket);
+        dispatch();
+        return waitForAdmission(ticket);
+    }
+
+    /**
+     * Notification that locks are released outside of request execution,
+     * requests held because of lock conflict should retry
+     */
+    public synchronized void locksReleased() {
+        capacityChanges++;
+        notifyAll();
     }
 
-    public XDBSessionContext removeRequest(RequestCost cost) {
-        queryCount.decrementAndGet();
-        if (cost.isLarge()) {
-            largeQueryCount.decrementAndGet();
+    /**
+     * @param client
+     * @return queue of the client's user
+     */
+    private Flow getFlow(XDBSessionContext client) {
+        SysUser user = client == null ? null : client.getCurrentUser();
+        String userName = user == null ? "" : user.getName();
+        Flow flow = flows.get(userName);
+        if (flow == null) {
+            flow = new Flow(Property.getInt("xdb.scheduler.weight." + userName,
+                    1));
+            flows.put(userName, flow);
         }
-        XDBSessionContext client;
-        synchronized (this) {
-            client = serviceQueue.remove(cost);
-            notifyAll();
+        return flow;
+    }
+
+    /**
+     * Assign fair queuing tags to the new request and put it to the queue
+     * 
+     * @param ticket
+     */
+    private void enqueue(Ticket ticket) {
+        Flow flow = ticket.flow;
+        ticket.startTag = Math.max(virtualTime, flow.finishTag);
+        long charge = Math.max(1, ticket.cost.getCost() / flow.weight);
+        flow.finishTag = ticket.startTag + charge;
+        ticket.queue = ticket.cost.isLarge() ? largePool.queue
+                : smallPool.queue;
+        ticket.queue.add(ticket);
+        dispatch();
+    }
+
+    /**
+     * Admit waiting requests while there are free slots
+     */
+    private void dispatch() {
+        boolean admitted = false;
+        while (!largePool.queue.isEmpty() && largePool.hasFreeSlot()) {
+            admit(largePool.queue.first(), largePool);
+            admitted = true;
         }
-        if (client != null) {
-            synchronized (client) {
-                client.notifyAll();
+        while (!smallPool.queue.isEmpty()) {
+            if (smallPool.hasFreeSlot()) {
+                admit(smallPool.queue.first(), smallPool);
+            } else if (largePool.hasFreeSlot()) {
+                // Large queue is empty at this point
+                admit(smallPool.queue.first(), largePool);
+            } else {
+                break;
             }
+            admitted = true;
+        }
+        if (admitted) {
+            notifyAll();
         }
-        return client;
     }
 
-    public void holdRequest(RequestCost cost) {
-        XDBSessionContext client = removeRequest(cost);
-        if (client != null) {
-            synchronized (this) {
-                try {
-                    wait(1000);
-                } catch (InterruptedException ie) {
-                    // ignore
-                }
-            }
-            addRequest(cost, client);
-        }
-    }
-
-    public synchronized void run() {
-        while (true) {
-            for (Map.Entry<RequestCost, XDBSessionContext> entry : serviceQueue
-                    .entrySet()) {
-                if (QUERY_LIMIT <= queryCount.get()) {
-                    break;
-                }
-                if (entry.getKey().isLarge()
-                        && LARGE_QUERY_LIMIT <= largeQueryCount.get()) {
-                    continue;
-                }
-                synchronized (entry.getValue()) {
-                    entry.getValue().notifyAll();
-                }
+    private void admit(Ticket ticket, SlotPool pool) {
+        ticket.queue.remove(ticket);
+        ticket.pool = pool;
+        ticket.capacityChanges = capacityChanges;
+        pool.used++;
+        if (ticket.startTag > virtualTime) {
+            virtualTime = ticket.startTag;
+        }
+        long waitTime = System.currentTimeMillis() - ticket.enqueueTime;
+        long[] histogram = ticket.cost.isLarge() ? largePool.queueWaits
+                : smallPool.queueWaits;
+        int i = 0;
+        while (i < QUEUE_WAIT_BOUNDS.length && waitTime >= QUEUE_WAIT_BOUNDS[i]) {
+            i++;
+        }
+        histogram[i]++;
+    }
+
+    /**
+     * Block until the request is admitted, cancelled or the thread is
+     * interrupted. Wait is timed, so the request is not stuck if a
+     * notification is missed.
+     * 
+     * @param ticket
+     * @return true if admitted
+     */
+    private boolean waitForAdmission(Ticket ticket) {
+        while (ticket.pool == null && tickets.get(ticket.cost) == ticket) {
+            if (ticket.cancelled) {
+                // Give up the place in the queue
+                ticket.queue.remove(ticket);
+                return false;
             }
             try {
-                wait(1000);
+                wait(HOLD_TIMEOUT);
             } catch (InterruptedException ie) {
-                // ignore
+                ticket.cancelled = true;
+                Thread.currentThread().interrupt();
+            }
+        }
+        return ticket.pool != null;
+    }
+
+    /**
+     * Returns numbers of requests that waited in the queue for time in
+     * ranges defined by QUEUE_WAIT_BOUNDS
+     * 
+     * @param large
+     *            histogram of large or small queries
+     * @return
+     */
+    public synchronized long[] getQueueWaitHistogram(boolean large) {
+        return (large ? largePool : smallPool).queueWaits.clone();
+    }
+
+    /**
+     * For debugging purposes
+     * 
+     * @return
+     */
+    public synchronized String dumpScheduler() {
+        return "Small queries: " + smallPool + "\n" + "Large queries: "
+                + largePool + "\n";
+    }
+
+    /**
+     * Registered request
+     */
+    private static class Ticket implements Comparable<Ticket> {
+        final RequestCost cost;
+
+        final XDBSessionContext client;
+
+        final Flow flow;
+
+        long startTag;
+
+        long enqueueTime = System.currentTimeMillis();
+
+        /**
+         * Value of capacityChanges when the request was admitted
+         */
+        long capacityChanges;
+
+        /**
+         * The queue of the request's pool
+         */
+        TreeSet<Ticket> queue;
+
+        /**
+         * The pool providing slot to the request, null if waiting
+         */
+        SlotPool pool;
+
+        /**
+         * Set if the request is cancelled while waiting
+         */
+        boolean cancelled = false;
+
+        Ticket(RequestCost cost, XDBSessionContext client, Flow flow) {
+            this.cost = cost;
+            this.client = client;
+            this.flow = flow;
+        }
+
+        public int compareTo(Ticket other) {
+            if (startTag != other.startTag) {
+                return startTag < other.startTag ? -1 : 1;
+            }
+            return cost.compareTo(other.cost);
+        }
+    }
+
+    /**
+     * Per user queue state
+     */
+    private static class Flow {
+        final long weight;
+
+        /**
+         * Finish tag of the latest request of the user
+         */
+        long finishTag = 0;
+
+        Flow(int weight) {
+            this.weight = Math.max(1, weight);
+        }
+    }
+
+    /**
+     * Execution slots for queries of the same kind
+     */
+    private static class SlotPool {
+        final int size;
+
+        int used = 0;
+
+        final TreeSet<Ticket> queue = new TreeSet<Ticket>();
+
+        final long[] queueWaits = new long[QUEUE_WAIT_BOUNDS.length + 1];
+
+        SlotPool(int size) {
+            this.size = size;
+        }
+
+        boolean hasFreeSlot() {
+            return used < size;
+        }
+
+        @Override
+        public String toString() {
+            StringBuffer sb = new StringBuffer();
+            sb.append("slots: ").append(used).append("/").append(size);
+            sb.append(", waiting: ").append(queue.size());
+            sb.append(", queue wait:");
+            for (int i = 0; i < queueWaits.length; i++) {
+                sb.append(" ").append(
+                        i < QUEUE_WAIT_BOUNDS.length ? "<"
+                                + QUEUE_WAIT_BOUNDS[i] : ">="
+                                + QUEUE_WAIT_BOUNDS[i - 1]).append("ms=")
+                        .append(queueWaits[i]);
             }
+            return sb.toString();
         }
     }
 }
@@ -0,0 +1,144 @@
+/*****************************************************************************
+ * Copyright (C) 2008 EnterpriseDB Corporation.
+ * Copyright (C) 2011 Stado Global Development Group.
+ *
+ * This file is part of Stado.
+ *
+ * Stado is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Stado is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Stado.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * You can find Stado at http://www.stado.us
+ *
+ ****************************************************************************/
+package org.postgresql.stado.misc.combinedresultset;
+
+import java.util.List;
+
+/**
+ * Tournament tree merging sorted ResultSetPosManagers. Every internal node
+ * keeps the loser of the match played there, the overall winner is the
+ * manager positioned on the record that goes next. After the winner advances
+ * only the matches on the path from its leaf to the root are replayed, that
+ * is log2(n) comparisons per record, without any allocation.
+ * <p>
+ * Leaves of the tree are implicit: manager i is the leaf n + i, internal nodes
+ * are 1 .. n - 1, parent of the node k is k / 2.
+ */
+class LoserTree {
+    private final ResultSetPosManager[] players;
+
+    /**
+     * tree[0] is the winner, tree[1 .. n-1] are the losers
+     */
+    private final int[] tree;
+
+    private final boolean[] descending;
+
+    /**
+     * @param managers
+     *            the managers, every one should be already advanced to its
+     *            first record, if any
+     * @param sortCriteriaList
+     */
+    LoserTree(List<ResultSetPosManager> managers,
+            List<SortCriteria> sortCriteriaList) {
+        players = managers.toArray(new ResultSetPosManager[managers.size()]);
+        descending = new boolean[sortCriteriaList.size()];
+        int i = 0;
+        for (SortCriteria criteria : sortCriteriaList) {
+            descending[i++] = criteria.getDirection() == SortCriteria.DESCENDING;
+        }
+        int n = players.length;
+        tree = new int[Math.max(n, 1)];
+        if (n > 0) {
+            // Play all matches bottom-up, keeping winners of the internal
+            // nodes in a temporary array
+            int[] winners = new int[n];
+            for (int node = n - 1; node > 0; node--) {
+                int left = 2 * node;
+                int right = left + 1;
+                int player1 = left >= n ? left - n : winners[left];
+                int player2 = right >= n ? right - n : winners[right];
+                if (beats(player1, player2)) {
+                    winners[node] = player1;
+                    tree[node] = player2;
+                } else {
+                    winners[node] = player2;
+                    tree[node] = player1;
+                }
+            }
+            tree[0] = n == 1 ? 0 : winners[1];
+        }
+    }
+
+    /**
+     * @return the manager positioned on the next record in the sort order,
+     *         or null if all managers are exhausted
+     */
+    ResultSetPosManager getWinner() {
+        if (players.length == 0) {
+            return null;
+        }
+        ResultSetPosManager winner = players[tree[0]];
+        return winner.hasCurrent() ? winner : null;
+    }
+
+    /**
+     * Restore the tree after the winner has been advanced
+     */
+    void replay() {
+        int n = players.length;
+        int winner = tree[0];
+        for (int node = (winner + n) / 2; node > 0; node /= 2) {
+            if (beats(tree[node], winner)) {
+                int loser = winner;
+                winner = tree[node];
+                tree[node] = loser;
+            }
+        }
+        tree[0] = winner;
+    }
+
+    /**
+     * @param player1
+     * @param player2
+     * @return true if the record of player1 goes before the record of
+     *         player2. Exhausted players lose to everyone, equal records are
+     *         taken from the manager with greater index first.
+     */
+    private boolean beats(int player1, int player2) {
+        ResultSetPosManager manager1 = players[player1];
+        ResultSetPosManager manager2 = players[player2];
+        if (!manager1.hasCurrent()) {
+            return false;
+        }
+        if (!manager2.hasCurrent()) {
+            return true;
+        }
+        int k = RowBatch.compare(manager1.getCurrentBatch(), manager1
+                .getCurrentPosition(), manager2.getCurrentBatch(), manager2
+                .getCurrentPosition(), descending);
+        return k < 0 || k == 0 && player1 > player2;
+    }
+
+    /**
+     * @param batch1
+     * @param row1
+     * @param batch2
+     * @param row2
+     * @return true if the records are equal according to the sort criteria
+     */
+    boolean isEqual(RowBatch batch1, int row1, RowBatch batch2, int row2) {
+        return RowBatch.compare(batch1, row1, batch2, row2, descending) == 0;
+    }
+}
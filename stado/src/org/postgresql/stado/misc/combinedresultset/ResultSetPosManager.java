@@ -22,11 +22,8 @@
  ****************************************************************************/
 package org.postgresql.stado.misc.combinedresultset;
 
-import java.math.BigDecimal;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.util.ArrayList;
-import java.util.Date;
 import java.util.List;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
@@ -38,16 +35,17 @@ import org.postgresql.stado.common.util.XLogger;
 
 
 /**
- * 
+ * Reads a ResultSet in background thread and provides its rows, along with
+ * their sort keys, to the ServerResultSetImpl.
  */
-public class ResultSetPosManager implements Runnable, Comparable<ResultSetPosManager> {
+public class ResultSetPosManager implements Runnable {
     private static final XLogger logger = XLogger
             .getLogger(ResultSetPosManager.class);
 
     /**
      * This value is put into buffer when fetching is finished
      */
-    private static final List<Object> END_MARK = new ArrayList<Object>();
+    private static final RowBatch END_MARK = new RowBatch(0, new int[0]);
 
     /**
      * Underlying result set
@@ -60,44 +58,38 @@ public class ResultSetPosManager implements Runnable, Comparable<ResultSetPosMan
     private int colCount;
 
     /**
-     * We are sort data using TreeSet It does not allow equal entries, so rows
-     * that equal to some other row will be skipped. That is what we want if we
-     * are producing distinct ResultSet. But if we want to keep duplicates, we
-     * should answer that records are differs, even they are equal by specified
-     * criteria. To fulfill this requirement ServerResultSet should assign
-     * different distinctModifiers to its PosManagers
+     * Last value returned by #getObject() Used by #lastValueWasNull()
      */
-    private int distinctModifier;
-
-    private List<SortCriteria> sortCriteriaList;
+    private Object lastValue;
 
     /**
-     * Last value returned by #getObject() Used by #lastValueWasNull()
+     * Batch containing current record of this "ResultSet". It is taken from
+     * the buffer when next() reaches the end of previous batch.
      */
-    private Object lastValue;
+    private RowBatch currentBatch = null;
 
     /**
-     * Current "ordering" value, matching to sortCriteriaList Updated if the
-     * "ResultSet" advanced to next record.
+     * Position of the current record within currentBatch
      */
-    private Object[] currentValue = null;
+    private int currentPos = -1;
 
     /**
-     * Current record of this "ResultSet" It is taken from the buffer when
-     * next() is called.
+     * Current record of this "ResultSet"
      */
-    private List<Object> currentRecord = null;
+    private Object[] currentRecord = null;
 
     // this may be used a lot, so use array for faster access
     int sortColPosition[];
 
     /**
-     * Current row is taken from beginning, new lines are added to the end.
-     * Linked list is the best storage. Another approach could be cyclic buffer
-     * over array
+     * Fetch thread hands rows over in batches of this size
+     */
+    private int batchSize;
+
+    /**
+     * Batches fetched and not yet consumed
      */
-    private LinkedBlockingQueue<List<Object>> rowBuffer = new LinkedBlockingQueue<List<Object>>(
-            Props.XDB_COMBINED_RESULTSET_BUFFER);
+    private LinkedBlockingQueue<RowBatch> rowBuffer;
 
     /**
      * Are the manager and underlying ResultSet closed
@@ -118,60 +110,86 @@ public class ResultSetPosManager implements Runnable, Comparable<ResultSetPosMan
 
     private long waitForClient = 0;
 
-    public ResultSetPosManager(ResultSet rs, List<SortCriteria> sortedOrderList,
-            int distinctModifier) {
+    public ResultSetPosManager(ResultSet rs, List<SortCriteria> sortedOrderList) {
         this.rs = rs;
         try {
             colCount = rs.getMetaData().getColumnCount();
         } catch (SQLException ignore) {
         }
 
-        sortCriteriaList = sortedOrderList;
-        this.distinctModifier = distinctModifier;
-
         sortColPosition = new int[sortedOrderList.size()];
         int i = 0;
 
-        for (SortCriteria aSortCriteria : sortCriteriaList) {
+        for (SortCriteria aSortCriteria : sortedOrderList) {
             int colpos = aSortCriteria.getColumnPosition();
             // TODO compare to colCount
             // Convert column number to list index
             sortColPosition[i++] = colpos - 1;
         }
+
+        batchSize = Math.max(1, Math.min(Props.XDB_COMBINED_RESULTSET_BATCH,
+                Props.XDB_COMBINED_RESULTSET_BUFFER));
+        rowBuffer = new LinkedBlockingQueue<RowBatch>(Math.max(1,
+                Props.XDB_COMBINED_RESULTSET_BUFFER / batchSize));
         fetchPool.execute(this);
     }
 
     /**
-     * Remove first record from buffer and make it "current"
+     * Advance to the next record, take next batch from buffer if current is
+     * exhausted
      * 
      * @return true if there is current record, false otherwise (end of the
      *         result set)
      */
     public boolean next() {
-        long startWait = System.currentTimeMillis();
-        try {
-            currentRecord = null;
-            while (currentRecord == null) {
-                currentRecord = rowBuffer.poll(5,
-                        java.util.concurrent.TimeUnit.SECONDS);
-            }
-        } catch (InterruptedException ie) {
-            currentRecord = null;
-            return false;
-        }
-        waitForNextRow += (System.currentTimeMillis() - startWait);
-        if (currentRecord == END_MARK) {
-            currentRecord = null;
+        if (currentBatch == END_MARK) {
             return false;
         }
-        // Update sort value
-        currentValue = new Object[sortColPosition.length];
-        for (int i = 0; i < sortColPosition.length; i++) {
-            currentValue[i] = currentRecord.get(sortColPosition[i]);
+        if (currentBatch == null || ++currentPos >= currentBatch.size) {
+            long startWait = System.currentTimeMillis();
+            try {
+                currentBatch = null;
+                currentRecord = null;
+                while (currentBatch == null) {
+                    currentBatch = rowBuffer.poll(5,
+                            java.util.concurrent.TimeUnit.SECONDS);
+                }
+            } catch (InterruptedException ie) {
+                currentRecord = null;
+                return false;
+            }
+            waitForNextRow += (System.currentTimeMillis() - startWait);
+            if (currentBatch == END_MARK) {
+                currentRecord = null;
+                return false;
+            }
+            currentPos = 0;
         }
+        currentRecord = currentBatch.rows[currentPos];
         return true;
     }
 
+    /**
+     * @return true if #next() has been called and returned true
+     */
+    boolean hasCurrent() {
+        return currentRecord != null;
+    }
+
+    /**
+     * @return batch holding current record and its sort keys
+     */
+    RowBatch getCurrentBatch() {
+        return currentBatch;
+    }
+
+    /**
+     * @return position of current record within #getCurrentBatch()
+     */
+    int getCurrentPosition() {
+        return currentPos;
+    }
+
     /**
      * Get value from specified column of the current record
      * 
@@ -190,7 +208,7 @@ public class ResultSetPosManager implements Runnable, Comparable<ResultSetPosMan
         if (currentRecord == null) {
             throw new SQLException("No current record");
         }
-        lastValue = currentRecord.get(index - 1);
+        lastValue = currentRecord[index - 1];
         return lastValue;
     }
 
@@ -249,6 +267,7 @@ public class ResultSetPosManager implements Runnable, Comparable<ResultSetPosMan
      * @see java.lang.Runnable#run()
      */
     public void run() {
+        RowBatch batch = new RowBatch(batchSize, sortColPosition);
         try {
             long startFetch = System.currentTimeMillis();
             try {
@@ -256,17 +275,16 @@ public class ResultSetPosManager implements Runnable, Comparable<ResultSetPosMan
                     if (closed) {
                         return;
                     }
-                    List<Object> row = new ArrayList<Object>(colCount);
-                    for (int i = 1; i <= colCount; i++) {
-                        row.add(rs.getObject(i));
+                    Object[] row = new Object[colCount];
+                    for (int i = 0; i < colCount; i++) {
+                        row[i] = rs.getObject(i + 1);
                     }
-                    long startWait = System.currentTimeMillis();
-                    try {
-                        rowBuffer.put(row);
-                    } catch (InterruptedException ignore) {
-                    }
-                    waitForClient += (System.currentTimeMillis() - startWait);
+                    batch.add(row);
                     rowCount++;
+                    if (batch.isFull()) {
+                        putBatch(batch);
+                        batch = new RowBatch(batchSize, sortColPosition);
+                    }
                 }
             } finally {
                 fetchTime = System.currentTimeMillis() - startFetch;
@@ -279,152 +297,30 @@ public class ResultSetPosManager implements Runnable, Comparable<ResultSetPosMan
         } catch (SQLException se) {
             logger.catching(se);
         } finally {
+            if (!closed && batch.size > 0) {
+                putBatch(batch);
+            }
             while (!rowBuffer.offer(END_MARK)) {
                 ;
             }
         }
     }
 
-    /**
-     * Compare current record of this ResultSetPosManager to current record of
-     * another ResultSetPosManager according to sort criteria.
-     * 
-     * @param obj2
-     * @return
-     */
-    public int compareTo(ResultSetPosManager obj2) {
-        ResultSetPosManager aResultSetPosManager1 = this;
-        ResultSetPosManager aResultSetPosManager2 = obj2;
-
-        // TODO do not scroll
-        Object[] value1 = aResultSetPosManager1.currentValue;
-        Object[] value2 = aResultSetPosManager2.currentValue;
-
-        int count = 0;
-
-        for (SortCriteria criteria : sortCriteriaList) {
-            // Check is there nulls:
-            if (value1[count] == null && value2[count] == null) {
-                count++;
-                continue;
-            }
-            if (value1[count] == null) {
-                switch (Props.XDB_COMBINED_RESULTSET_SORT_NULLS_STYLE) {
-                case Props.SORT_NULLS_AT_END:
-                    return -1;
-                case Props.SORT_NULLS_AT_START:
-                    return 1;
-                case Props.SORT_NULLS_LOW:
-                    return criteria.getDirection() == SortCriteria.DESCENDING ? -1
-                            : 1;
-                case Props.SORT_NULLS_HIGH:
-                default:
-                    return criteria.getDirection() == SortCriteria.DESCENDING ? 1
-                            : -1;
-                }
-            }
-            if (value2[count] == null) {
-                switch (Props.XDB_COMBINED_RESULTSET_SORT_NULLS_STYLE) {
-                case Props.SORT_NULLS_AT_END:
-                    return 1;
-                case Props.SORT_NULLS_AT_START:
-                    return -1;
-                case Props.SORT_NULLS_LOW:
-                    return criteria.getDirection() == SortCriteria.DESCENDING ? 1
-                            : -1;
-                case Props.SORT_NULLS_HIGH:
-                default:
-                    return criteria.getDirection() == SortCriteria.DESCENDING ? -1
-                            : 1;
-                }
-            }
-            int k = compare(value1[count], value2[count]);
-            if (k == 0) {
-                count++;
-                continue;
-            } else {
-                return criteria.getDirection() == SortCriteria.DESCENDING ? k
-                        : -k;
-            }
-        }
-        // If rows are equal one record will be thrown away, unless RS is
-        // distinct
-        return aResultSetPosManager1.distinctModifier == aResultSetPosManager2.distinctModifier ? 0
-                : (aResultSetPosManager1.distinctModifier > aResultSetPosManager2.distinctModifier ? 1
-                        : -1);
-    }
-
-    private int compare(Object obj1, Object obj2) {
-        if (obj1 instanceof Number && obj2 instanceof Number) {
-            boolean compareAsDouble = obj1 instanceof Float
-                    || obj1 instanceof Double || obj1 instanceof BigDecimal
-                    || obj2 instanceof Float || obj2 instanceof Double
-                    || obj2 instanceof BigDecimal;
-            if (compareAsDouble) {
-                double val1 = ((Number) obj1).doubleValue();
-                double val2 = ((Number) obj2).doubleValue();
-                if (val1 == val2) {
-                    return 0;
-                } else {
-                    return val1 > val2 ? 1 : -1;
-                }
-            } else // whole numbers, compare as long
-            {
-                long val1 = ((Number) obj1).longValue();
-                long val2 = ((Number) obj2).longValue();
-                if (val1 == val2) {
-                    return 0;
-                } else {
-                    return val1 > val2 ? 1 : -1;
-                }
-            }
-        } else if (obj1 instanceof Date && obj2 instanceof Date) {
-            return ((Date) obj1).compareTo((Date) obj2);
-        } else if (obj1 instanceof Boolean && obj2 instanceof Boolean) {
-            // JDK 1.5 feature
-            // return ((Boolean) obj1).compareTo((Boolean) obj2);
-            return (obj1.equals(obj2)) ? 0
-                    : (((Boolean) obj1).booleanValue() ? 1 : -1);
-        } else {
-            // Compare string representations
-            String str1 = obj1.toString();
-            String str2 = obj2.toString();
-            if (Props.XDB_COMBINED_RESULTSET_SORT_TRIM) {
-                str1 = str1.trim();
-                str2 = str2.trim();
-            }
-            int count = Math.min(str1.length(), str2.length());
-            for (int i = 0; i < count; i++) {
-                char chr1 = str1.charAt(i);
-                char chr2 = str2.charAt(i);
-                if (!Props.XDB_COMBINED_RESULTSET_SORT_CASE_SENSITIVE) {
-                    chr1 = Character.toLowerCase(chr1);
-                    chr2 = Character.toLowerCase(chr2);
-                }
-                if (chr1 == chr2) {
-                    continue;
-                } else {
-                    return chr1 > chr2 ? 1 : -1;
-                }
-            }
-            return str1.length() > count ? 1 : (str2.length() > count ? -1 : 0);
+    private void putBatch(RowBatch batch) {
+        long startWait = System.currentTimeMillis();
+        try {
+            rowBuffer.put(batch);
+        } catch (InterruptedException ignore) {
         }
-    }
-
-    @Override
-    public boolean equals(Object tocheck) {
-        return this == tocheck 
-                || tocheck instanceof ResultSetPosManager && compareTo((ResultSetPosManager)tocheck) == 0;
+        waitForClient += (System.currentTimeMillis() - startWait);
     }
 
     @Override
     public String toString() {
         String str = "";
-        int count = 0;
-        for (SortCriteria aSortCriteria : sortCriteriaList) {
-            str += ("Column Postion  : " + aSortCriteria.getColumnPosition()
-                    + "        Value : " + currentValue[count]);
-            count++;
+        for (int colPos : sortColPosition) {
+            str += ("Column Postion  : " + (colPos + 1) + "        Value : "
+                    + (currentRecord == null ? null : currentRecord[colPos]));
         }
         return str;
     }
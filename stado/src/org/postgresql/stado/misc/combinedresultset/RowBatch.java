@@ -0,0 +1,236 @@
+/*****************************************************************************
+ * Copyright (C) 2008 EnterpriseDB Corporation.
+ * Copyright (C) 2011 Stado Global Development Group.
+ *
+ * This file is part of Stado.
+ *
+ * Stado is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Stado is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Stado.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * You can find Stado at http://www.stado.us
+ *
+ ****************************************************************************/
+package org.postgresql.stado.misc.combinedresultset;
+
+import java.math.BigDecimal;
+import java.util.Date;
+
+import org.postgresql.stado.common.util.Props;
+
+/**
+ * Block of rows handed over by the fetch thread of a ResultSetPosManager to
+ * the merging thread. Values of the sort columns are extracted by the fetch
+ * thread when a row is added, numbers and booleans are kept as primitives,
+ * strings are trimmed and case folded according to the sort settings, so
+ * merging rows does not have to look at the column values.
+ */
+class RowBatch {
+    static final byte KEY_NULL = 0;
+
+    static final byte KEY_LONG = 1;
+
+    static final byte KEY_DOUBLE = 2;
+
+    static final byte KEY_BOOLEAN = 3;
+
+    static final byte KEY_DATE = 4;
+
+    static final byte KEY_STRING = 5;
+
+    /**
+     * Rows of the batch
+     */
+    final Object[][] rows;
+
+    /**
+     * Number of rows in the batch
+     */
+    int size = 0;
+
+    /**
+     * 0-based positions of the sort columns within a row
+     */
+    final int[] keyColumns;
+
+    /*
+     * Sort keys, keyColumns.length entries per row. Whole numbers have both
+     * long and double value set, to be compared with floating point numbers.
+     */
+    final byte[] keyKinds;
+
+    final long[] longKeys;
+
+    final double[] doubleKeys;
+
+    final Object[] objectKeys;
+
+    RowBatch(int capacity, int[] keyColumns) {
+        rows = new Object[capacity][];
+        this.keyColumns = keyColumns;
+        int keyCount = capacity * keyColumns.length;
+        keyKinds = new byte[keyCount];
+        longKeys = new long[keyCount];
+        doubleKeys = new double[keyCount];
+        objectKeys = new Object[keyCount];
+    }
+
+    boolean isFull() {
+        return size == rows.length;
+    }
+
+    /**
+     * Append the row to the batch and extract its sort keys
+     *
+     * @param row
+     */
+    void add(Object[] row) {
+        int key = size * keyColumns.length;
+        for (int column : keyColumns) {
+            Object value = row[column];
+            if (value == null) {
+                keyKinds[key] = KEY_NULL;
+            } else if (value instanceof Float || value instanceof Double
+                    || value instanceof BigDecimal) {
+                keyKinds[key] = KEY_DOUBLE;
+                doubleKeys[key] = ((Number) value).doubleValue();
+            } else if (value instanceof Number) {
+                keyKinds[key] = KEY_LONG;
+                longKeys[key] = ((Number) value).longValue();
+                doubleKeys[key] = ((Number) value).doubleValue();
+            } else if (value instanceof Boolean) {
+                keyKinds[key] = KEY_BOOLEAN;
+                longKeys[key] = ((Boolean) value).booleanValue() ? 1 : 0;
+            } else if (value instanceof Date) {
+                keyKinds[key] = KEY_DATE;
+                objectKeys[key] = value;
+            } else {
+                keyKinds[key] = KEY_STRING;
+                objectKeys[key] = normalize(value.toString());
+            }
+            key++;
+        }
+        rows[size++] = row;
+    }
+
+    /**
+     * Compare the sort keys of two rows as specified by the sort criteria
+     *
+     * @param batch1
+     * @param row1
+     * @param batch2
+     * @param row2
+     * @param descending
+     *            direction of every sort column
+     * @return negative value if row1 should go first, positive value if row2
+     *         should go first, 0 if they are equal
+     */
+    static int compare(RowBatch batch1, int row1, RowBatch batch2, int row2,
+            boolean[] descending) {
+        int key1 = row1 * descending.length;
+        int key2 = row2 * descending.length;
+        for (int i = 0; i < descending.length; i++, key1++, key2++) {
+            byte kind1 = batch1.keyKinds[key1];
+            byte kind2 = batch2.keyKinds[key2];
+            if (kind1 == KEY_NULL || kind2 == KEY_NULL) {
+                if (kind1 == kind2) {
+                    continue;
+                }
+                int k = compareNull(descending[i]);
+                return kind1 == KEY_NULL ? k : -k;
+            }
+            int k;
+            if (kind1 == kind2) {
+                switch (kind1) {
+                case KEY_LONG:
+                case KEY_BOOLEAN:
+                    k = compare(batch1.longKeys[key1], batch2.longKeys[key2]);
+                    break;
+                case KEY_DOUBLE:
+                    k = compare(batch1.doubleKeys[key1],
+                            batch2.doubleKeys[key2]);
+                    break;
+                case KEY_DATE:
+                    k = ((Date) batch1.objectKeys[key1])
+                            .compareTo((Date) batch2.objectKeys[key2]);
+                    break;
+                default:
+                    k = ((String) batch1.objectKeys[key1])
+                            .compareTo((String) batch2.objectKeys[key2]);
+                }
+            } else if ((kind1 == KEY_LONG || kind1 == KEY_DOUBLE)
+                    && (kind2 == KEY_LONG || kind2 == KEY_DOUBLE)) {
+                k = compare(batch1.doubleKeys[key1], batch2.doubleKeys[key2]);
+            } else {
+                // Mixed types, compare string representations
+                k = normalize(
+                        batch1.rows[row1][batch1.keyColumns[i]].toString())
+                        .compareTo(
+                                normalize(batch2.rows[row2][batch2.keyColumns[i]]
+                                        .toString()));
+            }
+            if (k != 0) {
+                return descending[i] ? -k : k;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * @param descending
+     * @return negative value if NULL goes before non-NULL value, positive
+     *         value otherwise
+     */
+    private static int compareNull(boolean descending) {
+        switch (Props.XDB_COMBINED_RESULTSET_SORT_NULLS_STYLE) {
+        case Props.SORT_NULLS_AT_END:
+            return 1;
+        case Props.SORT_NULLS_AT_START:
+            return -1;
+        case Props.SORT_NULLS_LOW:
+            return descending ? 1 : -1;
+        case Props.SORT_NULLS_HIGH:
+        default:
+            return descending ? -1 : 1;
+        }
+    }
+
+    private static int compare(long val1, long val2) {
+        return val1 == val2 ? 0 : (val1 > val2 ? 1 : -1);
+    }
+
+    private static int compare(double val1, double val2) {
+        return val1 == val2 ? 0 : (val1 > val2 ? 1 : -1);
+    }
+
+    /**
+     * Prepare string for comparison according to the sort settings
+     *
+     * @param str
+     * @return
+     */
+    private static String normalize(String str) {
+        if (Props.XDB_COMBINED_RESULTSET_SORT_TRIM) {
+            str = str.trim();
+        }
+        if (!Props.XDB_COMBINED_RESULTSET_SORT_CASE_SENSITIVE) {
+            // Fold character by character, String.toLowerCase() is locale
+            // sensitive and may change string length
+            char[] chars = str.toCharArray();
+            for (int i = 0; i < chars.length; i++) {
+                chars[i] = Character.toLowerCase(chars[i]);
+            }
+            str = new String(chars);
+        }
+        return str;
+    }
+}
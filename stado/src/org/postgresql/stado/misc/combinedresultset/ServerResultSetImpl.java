@@ -60,7 +60,19 @@ public class ServerResultSetImpl implements java.sql.ResultSet, ServerResultSet
     /**
      * Here ResultSetPosManagers are sorted
      */
-    private TreeSet<ResultSetPosManager> aTreeSet;
+    private LoserTree loserTree;
+
+    /**
+     * Whether records equal according to sort criteria should be skipped
+     */
+    private boolean isDistinct;
+
+    /**
+     * Sort keys of the record returned last time, to detect duplicates
+     */
+    private RowBatch lastBatch;
+
+    private int lastPosition;
 
     private LinkedList<ResultSetPosManager> aLinkedList;
 
@@ -102,16 +114,11 @@ public class ServerResultSetImpl implements java.sql.ResultSet, ServerResultSet
             }
         }
 
-        // distinctModifier force ResultSet is NOT equal to other ResultSet
-        // if the server resultset is not distinct
-        int distinctModifier = 0;
+        this.isDistinct = isDistinct;
         for (ResultSet rs : resultSetList) {
             ResultSetPosManager resultSetPosMan = new ResultSetPosManager(rs,
-                    this.sortedOrderList, distinctModifier);
+                    this.sortedOrderList);
             resultSetManagerList.add(resultSetPosMan);
-            if (!isDistinct) {
-                distinctModifier++;
-            }
         }
 
         if (this.sortedOrderList == null || this.sortedOrderList.isEmpty()) {
@@ -123,23 +130,13 @@ public class ServerResultSetImpl implements java.sql.ResultSet, ServerResultSet
                 }
             }
         } else {
-            aTreeSet = new TreeSet<ResultSetPosManager>();
-            // Init tree set
+            // Position managers on their first records and play the
+            // tournament
             for (ResultSetPosManager rsPosMan : resultSetManagerList) {
-                boolean wasAdded = false;
-                while (!wasAdded) {
-                    if (rsPosMan.next()) {
-                        // We have next record, try to sort it
-                        // if add() returned false it means we have duplicate
-                        // record
-                        // and should skip it (do next loop)
-                        wasAdded = aTreeSet.add(rsPosMan);
-                    } else {
-                        // Result set is exhausted, forget about it
-                        break;
-                    }
-                }
+                rsPosMan.next();
             }
+            loserTree = new LoserTree(resultSetManagerList,
+                    this.sortedOrderList);
         }
 
         // See if offset is set, then we need to skip some rows.
@@ -157,7 +154,7 @@ public class ServerResultSetImpl implements java.sql.ResultSet, ServerResultSet
             // We reached the maximum limit, just clean up
             close();
             currentResultSetManager = null;
-            aTreeSet = null;
+            loserTree = null;
             aLinkedList = null;
             return false;
         }
@@ -171,24 +168,13 @@ public class ServerResultSetImpl implements java.sql.ResultSet, ServerResultSet
      * main next() functionality, broken out because of OFFSET
      */
     private boolean do_next() {
-        // Advance currentResultSetManager to new record and add it to
-        // the TreeSet to have it sorted
+        // Advance currentResultSetManager to new record and replay the
+        // tournament to have it sorted
         // Note; currentResultSetManager == null when next() called first time
         if (currentResultSetManager != null) {
-            if (aTreeSet != null) {
-                boolean wasAdded = false;
-                while (!wasAdded) {
-                    if (currentResultSetManager.next()) {
-                        // We have next record, try to sort it
-                        // if add() returned false it means we have duplicate
-                        // record
-                        // and should skip it (do next loop)
-                        wasAdded = aTreeSet.add(currentResultSetManager);
-                    } else {
-                        // Result set is exhausted, forget about it
-                        break;
-                    }
-                }
+            if (loserTree != null) {
+                currentResultSetManager.next();
+                loserTree.replay();
             } else if (aLinkedList != null) {
                 if (currentResultSetManager.next()) {
                     aLinkedList.addFirst(currentResultSetManager);
@@ -197,13 +183,22 @@ public class ServerResultSetImpl implements java.sql.ResultSet, ServerResultSet
         }
 
         // Chhosing next currentResultSetManager
-        if (aTreeSet != null) {
-            if (aTreeSet.isEmpty()) {
-                // No result set left. Reporting end of the Result set
-                currentResultSetManager = null;
-            } else {
-                currentResultSetManager = aTreeSet.last();
-                aTreeSet.remove(currentResultSetManager);
+        if (loserTree != null) {
+            currentResultSetManager = loserTree.getWinner();
+            if (isDistinct && lastBatch != null) {
+                // Records are coming sorted, so duplicates are adjacent
+                while (currentResultSetManager != null
+                        && loserTree.isEqual(lastBatch, lastPosition,
+                                currentResultSetManager.getCurrentBatch(),
+                                currentResultSetManager.getCurrentPosition())) {
+                    currentResultSetManager.next();
+                    loserTree.replay();
+                    currentResultSetManager = loserTree.getWinner();
+                }
+            }
+            if (currentResultSetManager != null) {
+                lastBatch = currentResultSetManager.getCurrentBatch();
+                lastPosition = currentResultSetManager.getCurrentPosition();
             }
         } else if (aLinkedList != null) {
             if (aLinkedList.isEmpty()) {
@@ -0,0 +1,117 @@
+/*****************************************************************************
+ * Copyright (C) 2008 EnterpriseDB Corporation.
+ * Copyright (C) 2011 Stado Global Development Group.
+ *
+ * This file is part of Stado.
+ *
+ * Stado is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Stado is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Stado.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * You can find Stado at http://www.stado.us
+ *
+ ****************************************************************************/
+/*
+ * DistinctCountSketch.java
+ *
+ */
+
+package org.postgresql.stado.optimizer;
+
+/**
+ * Builds the SQL for APPROX_COUNT_DISTINCT. The value is estimated with a
+ * Flajolet-Martin sketch with stochastic averaging (PCSA): every value is
+ * hashed, the low bits of the hash select one of the buckets and the number
+ * of trailing zeros of the rest selects a bit in the bucket's 32 bit
+ * bitmap. The sketch of a set of values is the BIT_OR of the sketches of its
+ * elements, so nodes can build partial sketches that are merged later by
+ * another BIT_OR, just like the other two-phase aggregates. The sketch is a
+ * BIT(4096) value no matter how many distinct values there are, the
+ * standard error of the estimate is about 7%.
+ */
+public final class DistinctCountSketch {
+
+    /** Number of buckets, must be a power of two */
+    private static final int BUCKETS = 128;
+
+    /** Number of hash bits used to select the bucket */
+    private static final int BUCKET_SHIFT = 7;
+
+    /** Width of the bucket bitmap */
+    private static final int BUCKET_BITS = 32;
+
+    /** Mask of the hash bits left after the bucket is selected */
+    private static final int REST_MASK = (1 << (32 - BUCKET_SHIFT)) - 1;
+
+    /** Flajolet-Martin correction factor */
+    private static final String PHI = "0.77351";
+
+    /** Length of the sketch */
+    public static final int SKETCH_BITS = BUCKETS * BUCKET_BITS;
+
+    /** Utility class */
+    private DistinctCountSketch() {
+    }
+
+    /**
+     * @param argument
+     *            the SQL expression to count
+     * @return SQL aggregate expression building the sketch of the argument
+     *         values, of type BIT(SKETCH_BITS). NULL values are ignored.
+     */
+    public static String getPartialExpression(String argument) {
+        String hash = "hashtext(CAST(" + argument + " AS TEXT))";
+        // position of the bit: bucket * BUCKET_BITS + trailing zeros
+        String position = "(" + hash + " & " + (BUCKETS - 1) + ") * "
+                + BUCKET_BITS + " + LEAST(" + (BUCKET_BITS - 1) + ", "
+                + BUCKET_BITS + " - LENGTH(RTRIM(CAST(CAST(((" + hash
+                + " >> " + BUCKET_SHIFT + ") & " + REST_MASK
+                + ") AS BIT(32)) AS TEXT), '0')))";
+        return "BIT_OR(CAST(B'1' AS BIT(" + SKETCH_BITS + ")) >> ("
+                + position + "))";
+    }
+
+    /**
+     * @param sketch
+     *            the SQL expression returning the merged sketch
+     * @return SQL expression estimating the number of distinct values from
+     *         the sketch, of type BIGINT. Linear counting is used while there
+     *         are empty buckets, it is more accurate for small counts.
+     */
+    public static String getEstimateExpression(String sketch) {
+        StringBuffer zeros = new StringBuffer(BUCKET_BITS);
+        for (int i = 0; i < BUCKET_BITS; i++) {
+            zeros.append('0');
+        }
+        String emptyBuckets = "SUM(CASE WHEN xsketchword = '" + zeros
+                + "' THEN 1 ELSE 0 END)";
+        return "(SELECT COALESCE(CAST(CASE WHEN " + emptyBuckets + " > 0"
+                + " THEN " + BUCKETS + " * LN(" + BUCKETS + ".0 / "
+                + emptyBuckets + ") ELSE " + BUCKETS + " / " + PHI
+                + " * POWER(2, AVG(POSITION('0' IN xsketchword || '0') - 1))"
+                + " END AS BIGINT), 0) FROM (SELECT SUBSTRING(CAST("
+                + sketch + " AS TEXT) FROM xsketchpos * " + BUCKET_BITS
+                + " + 1 FOR " + BUCKET_BITS
+                + ") AS xsketchword FROM generate_series(0, "
+                + (BUCKETS - 1) + ") AS xsketchpos) AS xsketch)";
+    }
+
+    /**
+     * @param argument
+     *            the SQL expression to count
+     * @return SQL expression estimating the number of distinct argument
+     *         values, when there is no need to split it in two phases
+     */
+    public static String getExpression(String argument) {
+        return getEstimateExpression(getPartialExpression(argument));
+    }
+}
@@ -1655,6 +1655,49 @@ public class FunctionAnalysis {
         return exprT;
     }
 
+    /**
+     * Input: any Output: bigint
+     */
+    public static ExpressionType analyzeApproxCountDistinct(
+            SqlExpression functionExpr, Command commandToExecute) {
+        if (functionExpr.getFunctionParams().size() != 1) {
+            throw new XDBServerException(
+                    "APPROX_COUNT_DISTINCT requires exactly one argument");
+        }
+        SqlExpression.setExpressionResultType(
+                functionExpr.getFunctionParams().get(0), commandToExecute);
+        return analyzeCountParameter(functionExpr);
+    }
+
+    /**
+     * Input: numeric, constant between 0 and 1 Output: double precision
+     */
+    public static ExpressionType analyzeApproxPercentile(
+            SqlExpression functionExpr, Command commandToExecute) {
+        if (functionExpr.getFunctionParams().size() != 2) {
+            throw new XDBServerException(
+                    "APPROX_PERCENTILE requires exactly two arguments");
+        }
+        SqlExpression.setExpressionResultType(
+                functionExpr.getFunctionParams().get(0), commandToExecute);
+        SqlExpression fraction = functionExpr.getFunctionParams().get(1);
+        boolean valid = fraction.getExprType() == SqlExpression.SQLEX_CONSTANT;
+        if (valid) {
+            try {
+                double value = Double.parseDouble(fraction.getConstantValue());
+                valid = value >= 0 && value <= 1;
+            } catch (Exception e) {
+                valid = false;
+            }
+        }
+        if (!valid) {
+            throw new XDBServerException(
+                    "The fraction of APPROX_PERCENTILE must be a constant between 0 and 1");
+        }
+        SqlExpression.setExpressionResultType(fraction, commandToExecute);
+        return analyzeCoRegFunc(functionExpr);
+    }
+
     /**
      * Input: double precision, double precision Output: bigint
      */
@@ -39,6 +39,7 @@ import org.postgresql.stado.common.util.XLogger;
 import org.postgresql.stado.engine.XDBSessionContext;
 import org.postgresql.stado.exception.ErrorMessageRepository;
 import org.postgresql.stado.exception.XDBServerException;
+import org.postgresql.stado.metadata.ColumnStatistics;
 import org.postgresql.stado.metadata.MetaData;
 import org.postgresql.stado.metadata.SysCheck;
 import org.postgresql.stado.metadata.SysColumn;
@@ -89,6 +90,30 @@ public class Optimizer {
             this.outerType = outerType;
         }
     }
+
+    /**
+     * condition comparing a column with a constant, column operator value
+     */
+    private class ColumnComparison {
+
+        AttributeColumn column;
+        String operator;
+        String value;
+
+        /**
+         * Constructor
+         *
+         * @param column
+         * @param operator
+         * @param value
+         */
+        ColumnComparison(AttributeColumn column, String operator,
+                String value) {
+            this.column = column;
+            this.operator = operator;
+            this.value = value;
+        }
+    }
     private static final XLogger logger = XLogger.getLogger(Optimizer.class);
     /**
      * Processing factor in costing, based on # of rows
@@ -1571,9 +1596,31 @@ public class Optimizer {
                         cond = currRelNode.getConditionList()
                                 .get(i);
 
-                        // see if we are dealing with a simple condition, eg,
-                        // FirstName = 'fred'
-                        if (cond.isAtomic()) {
+                        // use value distribution of the column if known
+                        double condSelectivity = -1;
+                        aSysColumn = null;
+                        ColumnComparison comparison = getColumnComparison(cond);
+                        if (comparison != null) {
+                            aSysColumn = comparison.column.getSysColumn(database);
+                            if (aSysColumn != null
+                                    && aSysColumn.getStatistics() != null) {
+                                condSelectivity = aSysColumn.getStatistics().getSelectivity(
+                                        comparison.operator, comparison.value,
+                                        aSysColumn.getSelectivity());
+                            }
+                        }
+
+                        if (condSelectivity >= 0) {
+                            testEstBaseReadCost = calculateIndexCost(
+                                    aSysColumn, numRows, condSelectivity);
+
+                            if (testEstBaseReadCost >= 0
+                                    && testEstBaseReadCost < estBaseReadCost) {
+                                estBaseReadCost = testEstBaseReadCost;
+                            }
+
+                            rowReductionFactor *= condSelectivity;
+                        } else if (cond.isAtomic()) {
                             if (cond.getLeftCond().getExpr().isColumn()) {
                                 compColumn = cond.getLeftCond().getExpr().getColumn();
                             } else if (cond.getRightCond().getExpr().isColumn()) {
@@ -1585,7 +1632,8 @@ public class Optimizer {
                             aSysColumn = compColumn.getSysColumn(database);
 
                             testEstBaseReadCost = calculateIndexCost(
-                                    aSysColumn, numRows);
+                                    aSysColumn, numRows,
+                                    aSysColumn.getSelectivity());
 
                             double subtableReductionFactor = 1.0;
                             // We check if we have subtables, and if the
@@ -1679,9 +1727,12 @@ public class Optimizer {
      *
      * @param aSysColumn The column to check
      * @param numTableRows The number of rows affected
+     * @param selectivity Fraction of rows matching the condition on the
+     *        column, 0 if unknown
      * @return
      */
-    private long calculateIndexCost(SysColumn aSysColumn, long numTableRows) {
+    private long calculateIndexCost(SysColumn aSysColumn, long numTableRows,
+            double selectivity) {
         final String method = "calculateIndexCost";
         logger.entering(method);
         try {
@@ -1693,9 +1744,9 @@ public class Optimizer {
                 numPages = numTableRows / aSysColumn.bestIndex.estRowsPerPage;
 
                 if (aSysColumn.bestIndexColPos == 1) {
-                    if (aSysColumn.getSelectivity() > 0) {
+                    if (selectivity > 0) {
                         estReadCost = Math.round(numPages
-                                * aSysColumn.getSelectivity())
+                                * selectivity)
                                 + Math.round(PROC_FACTOR * numTableRows);
                     } else {
                         estReadCost = Math.round(numPages * 0.10)
@@ -1706,10 +1757,10 @@ public class Optimizer {
                     // we have to scan the index pages,
                     // but there are fewer of these than table pages
                     // (Table scan may still be better sometimes though)
-                    if (aSysColumn.getSelectivity() > 0) {
+                    if (selectivity > 0) {
                         estReadCost = numPages
                                 + Math.round(numTableRows
-                                * aSysColumn.getSelectivity())
+                                * selectivity)
                                 // approx. table fetches
                                 + Math.round(PROC_FACTOR * numTableRows);
                     } else {
@@ -1726,6 +1777,93 @@ public class Optimizer {
         }
     }
 
+    /**
+     * Checks if the condition compares a column with a constant, like
+     * col1 < 10 or 'fred' = col2.
+     *
+     * @param cond The condition to check
+     * @return the comparison with the column on the left side, or null
+     */
+    private ColumnComparison getColumnComparison(QueryCondition cond) {
+        String operator;
+        SqlExpression leftExpr;
+        SqlExpression rightExpr;
+        if (cond.getCondType() == QueryCondition.QC_RELOP
+                && cond.getLeftCond() != null && cond.getRightCond() != null) {
+            operator = cond.getOperator();
+            leftExpr = cond.getLeftCond().getExpr();
+            rightExpr = cond.getRightCond().getExpr();
+        } else if (cond.getCondType() == QueryCondition.QC_SQLEXPR
+                && cond.getExpr() != null
+                && cond.getExpr().getExprType() == SqlExpression.SQLEX_OPERATOR_EXPRESSION) {
+            operator = cond.getExpr().getOperator();
+            leftExpr = cond.getExpr().getLeftExpr();
+            rightExpr = cond.getExpr().getRightExpr();
+        } else {
+            return null;
+        }
+        if (operator == null || leftExpr == null || rightExpr == null) {
+            return null;
+        }
+        if (!leftExpr.isColumn()) {
+            // swap sides, 10 > col1 is col1 < 10
+            SqlExpression expr = leftExpr;
+            leftExpr = rightExpr;
+            rightExpr = expr;
+            if (operator.startsWith("<") && !operator.equals("<>")) {
+                operator = ">" + operator.substring(1);
+            } else if (operator.startsWith(">")) {
+                operator = "<" + operator.substring(1);
+            }
+        }
+        if (!leftExpr.isColumn()
+                || rightExpr.getExprType() != SqlExpression.SQLEX_CONSTANT
+                || rightExpr.getConstantValue() == null) {
+            return null;
+        }
+        AttributeColumn column = leftExpr.getColumn();
+        if ((column.columnGenre & AttributeColumn.MAPPED) != 0
+                || column.relationNode == null
+                || !column.relationNode.isTable()) {
+            return null;
+        }
+        String value = rightExpr.getConstantValue().trim();
+        if (value.length() > 1 && value.startsWith("'") && value.endsWith("'")) {
+            value = value.substring(1, value.length() - 1).replaceAll("''", "'");
+        }
+        if ("-".equals(rightExpr.getUnaryOperator())) {
+            value = "-" + value;
+        }
+        return new ColumnComparison(column, operator, value);
+    }
+
+    /**
+     * Estimates selectivity of equi-join of the columns from their value
+     * distributions.
+     *
+     * @param leftColumn
+     * @param rightColumn
+     * @return fraction of the Cartesian product returned by the join, or -1
+     *         if it can not be estimated
+     */
+    private double getJoinSelectivity(AttributeColumn leftColumn,
+            AttributeColumn rightColumn) {
+        if (leftColumn.relationNode == null
+                || !leftColumn.relationNode.isTable()
+                || rightColumn.relationNode == null
+                || !rightColumn.relationNode.isTable()) {
+            return -1;
+        }
+        SysColumn leftSysColumn = leftColumn.getSysColumn(database);
+        SysColumn rightSysColumn = rightColumn.getSysColumn(database);
+        if (leftSysColumn == null || rightSysColumn == null) {
+            return -1;
+        }
+        return ColumnStatistics.getJoinSelectivity(
+                leftSysColumn.getStatistics(), leftSysColumn.getSelectivity(),
+                rightSysColumn.getStatistics(), rightSysColumn.getSelectivity());
+    }
+
     /**
      * Calculates the cost of joining by trying to take index info into account
      *
@@ -1856,6 +1994,8 @@ public class Optimizer {
             QueryNode otherSubtreeNode = null;
             boolean otherNodeOnNode1 = false;
             long testRowsReturned;
+            // estimated from value distributions, -1 if unknown
+            double joinSelectivity = -1;
 
             // keep these on same line for build process!
             if (node1.getNodeType() == QueryNode.RELATION) {
@@ -1922,6 +2062,23 @@ public class Optimizer {
                         continue;
                     }
 
+                    if ("=".equals(cond.getOperator())
+                            && (node2.subtreeFind(leftColumn.getTableName(),
+                                    leftColumn.getTableAlias()) != null
+                                    && node1.subtreeFind(rightColumn.getTableName(),
+                                            rightColumn.getTableAlias()) != null
+                                    || node2.subtreeFind(rightColumn.getTableName(),
+                                            rightColumn.getTableAlias()) != null
+                                    && node1.subtreeFind(leftColumn.getTableName(),
+                                            leftColumn.getTableAlias()) != null)) {
+                        double condJoinSelectivity = getJoinSelectivity(
+                                leftColumn, rightColumn);
+                        if (condJoinSelectivity >= 0) {
+                            joinSelectivity = joinSelectivity < 0 ? condJoinSelectivity
+                                    : joinSelectivity * condJoinSelectivity;
+                        }
+                    }
+
                     aSysColumn = null;
 
                     // Left node columns will currently
@@ -2014,6 +2171,12 @@ public class Optimizer {
                 }
             }
 
+            // value distributions of the join columns are known
+            if (joinSelectivity >= 0) {
+                estRowsReturned = Math.max(1, Math.round(node1.getEstRowsReturned()
+                        * (double) node2.getEstRowsReturned() * joinSelectivity));
+            }
+
             // double check if we found a joinable index
             // if not, estimate the number of rows returned
             if (estRowsReturned == 0) {
@@ -0,0 +1,139 @@
+/*****************************************************************************
+ * Copyright (C) 2008 EnterpriseDB Corporation.
+ * Copyright (C) 2011 Stado Global Development Group.
+ *
+ * This file is part of Stado.
+ *
+ * Stado is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Stado is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Stado.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * You can find Stado at http://www.stado.us
+ *
+ ****************************************************************************/
+/*
+ * PercentileSketch.java
+ *
+ */
+
+package org.postgresql.stado.optimizer;
+
+import java.math.BigDecimal;
+
+/**
+ * Builds the SQL for APPROX_PERCENTILE. Every node sorts its values of a
+ * group and returns a fixed number of evenly spaced quantiles, each of them
+ * standing for the same share of the node's rows, together with the number
+ * of rows. The final step puts the quantiles of all nodes in order, weighs
+ * each by the row count of its node and picks the first one where the
+ * cumulative weight reaches the requested fraction of the total. A node
+ * ships POINTS values per group no matter how many rows it has, and the rank
+ * error of the result is within 1 / POINTS of the row count.
+ * <p>
+ * The node quantiles are computed with percentile_disc(ARRAY[...]) and the
+ * sketches are merged with array_agg of arrays, so the nodes and the
+ * coordinator need PostgreSQL 9.5 or later.
+ */
+public final class PercentileSketch {
+
+    /** Number of quantiles returned by each node */
+    private static final int POINTS = 100;
+
+    /** Utility class */
+    private PercentileSketch() {
+    }
+
+    /**
+     * @param argument
+     *            the SQL expression to take the percentile of
+     * @return the argument as the values are sorted and returned
+     */
+    private static String getValue(String argument) {
+        return "CAST(" + argument + " AS DOUBLE PRECISION)";
+    }
+
+    /**
+     * @param argument
+     *            the SQL expression to take the percentile of
+     * @return SQL aggregate expression returning the quantiles of the
+     *         argument values as text of a DOUBLE PRECISION array, or NULL if
+     *         there are no values. NULL values are ignored.
+     */
+    public static String getPartialExpression(String argument) {
+        StringBuffer fractions = new StringBuffer(POINTS * 7);
+        BigDecimal denominator = new BigDecimal(2 * POINTS);
+        for (int i = 0; i < POINTS; i++) {
+            if (i > 0) {
+                fractions.append(", ");
+            }
+            // middle of the i-th share of the rows
+            fractions.append(new BigDecimal(2 * i + 1).divide(denominator)
+                    .toPlainString());
+        }
+        return "CAST(percentile_disc(ARRAY[" + fractions
+                + "]) WITHIN GROUP (ORDER BY " + getValue(argument)
+                + ") AS TEXT)";
+    }
+
+    /**
+     * @param argument
+     *            the SQL expression to take the percentile of
+     * @return SQL aggregate expression returning the weight of the node
+     *         quantiles, of type BIGINT
+     */
+    public static String getCountExpression(String argument) {
+        return "COUNT(" + argument + ")";
+    }
+
+    /**
+     * @param sketch
+     *            the column with node quantiles
+     * @param count
+     *            the column with node row counts
+     * @param fraction
+     *            the requested fraction, between 0 and 1
+     * @return SQL expression merging the node quantiles, of type DOUBLE
+     *         PRECISION
+     */
+    public static String getEstimateExpression(String sketch, String count,
+            String fraction) {
+        // Both arrays list the nodes in the same order
+        String order = " ORDER BY " + sketch + ", " + count
+                + ") FILTER (WHERE " + count + " > 0)";
+        String value = "xpcta.xpctsketches[xpctnode][xpctitem]";
+        String weight = "xpcta.xpctcounts[xpctnode]";
+        return "(SELECT xpct.xpctvalue FROM (SELECT " + value
+                + " AS xpctvalue, SUM(" + weight + ") OVER (ORDER BY "
+                + value + " ROWS UNBOUNDED PRECEDING) AS xpctcum, SUM("
+                + weight + ") OVER () AS xpcttotal FROM (SELECT array_agg(CAST("
+                + sketch + " AS DOUBLE PRECISION[])" + order
+                + " AS xpctsketches, array_agg(" + count + order
+                + " AS xpctcounts) AS xpcta, generate_subscripts("
+                + "xpcta.xpctsketches, 1) AS xpctnode, generate_subscripts("
+                + "xpcta.xpctsketches, 2) AS xpctitem) AS xpct"
+                + " WHERE xpct.xpctcum >= (" + fraction
+                + ") * xpct.xpcttotal ORDER BY xpct.xpctvalue LIMIT 1)";
+    }
+
+    /**
+     * @param argument
+     *            the SQL expression to take the percentile of
+     * @param fraction
+     *            the requested fraction, between 0 and 1
+     * @return SQL expression returning the percentile, when there is no need
+     *         to split it in two phases. The result is exact.
+     */
+    public static String getExpression(String argument, String fraction) {
+        return "percentile_disc(" + fraction + ") WITHIN GROUP (ORDER BY "
+                + getValue(argument) + ")";
+    }
+}
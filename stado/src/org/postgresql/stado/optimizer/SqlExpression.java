@@ -675,7 +675,26 @@ public class SqlExpression implements IRebuildString {
 							+ aSqlExpression.functionName + ".template");
 					if (newExprString == null) {
 						newExprString = aSqlExpression.functionName;
-						if (aSqlExpression.functionId == IFunctionID.CAST_ID) {
+						if (aSqlExpression.functionId == IFunctionID.APPROX_COUNT_DISTINCT_ID) {
+							// No such function on the nodes, evaluate the
+							// sketch in place
+							SqlExpression theFuncParam = aSqlExpression.functionParams
+									.get(0);
+							theFuncParam.rebuildExpression();
+							newExprString = DistinctCountSketch
+									.getExpression(theFuncParam.exprString);
+						} else if (aSqlExpression.functionId == IFunctionID.APPROX_PERCENTILE_ID) {
+							// Exact percentile if it is not split
+							SqlExpression theFuncParam = aSqlExpression.functionParams
+									.get(0);
+							theFuncParam.rebuildExpression();
+							SqlExpression theFraction = aSqlExpression.functionParams
+									.get(1);
+							theFraction.rebuildExpression();
+							newExprString = PercentileSketch.getExpression(
+									theFuncParam.exprString,
+									theFraction.exprString);
+						} else if (aSqlExpression.functionId == IFunctionID.CAST_ID) {
 							int theFromType;
 
 							SqlExpression theFuncParam = aSqlExpression.functionParams
@@ -869,6 +888,8 @@ public class SqlExpression implements IRebuildString {
 			case IFunctionID.ST_EXTENT_ID:
 			case IFunctionID.ST_EXTENT3D_ID:
 			case IFunctionID.ST_COLLECT_AGG_ID:
+			case IFunctionID.APPROX_COUNT_DISTINCT_ID:
+			case IFunctionID.APPROX_PERCENTILE_ID:
 				return true;
 			default:
 				return false;
@@ -1331,6 +1352,14 @@ public class SqlExpression implements IRebuildString {
 		case IFunctionID.REGRCOUNT_ID:
 			exprType = FunctionAnalysis.analyzeRegrCount(this);
 			break;
+		case IFunctionID.APPROX_COUNT_DISTINCT_ID:
+			exprType = FunctionAnalysis.analyzeApproxCountDistinct(this,
+					commandToExecute);
+			break;
+		case IFunctionID.APPROX_PERCENTILE_ID:
+			exprType = FunctionAnalysis.analyzeApproxPercentile(this,
+					commandToExecute);
+			break;
 		case IFunctionID.BITAND_ID:
 		case IFunctionID.BITOR_ID:
 			/* Input: sqlExpr Output: type of sqlExpr */
@@ -59,6 +59,7 @@ import org.postgresql.stado.parser.core.syntaxtree.FetchCursor;
 import org.postgresql.stado.parser.core.syntaxtree.Grant;
 import org.postgresql.stado.parser.core.syntaxtree.InsertTable;
 import org.postgresql.stado.parser.core.syntaxtree.Kill;
+import org.postgresql.stado.parser.core.syntaxtree.RebalanceTable;
 import org.postgresql.stado.parser.core.syntaxtree.RenameTable;
 import org.postgresql.stado.parser.core.syntaxtree.Revoke;
 import org.postgresql.stado.parser.core.syntaxtree.RollbackTransaction;
@@ -69,8 +70,11 @@ import org.postgresql.stado.parser.core.syntaxtree.ShowAgents;
 import org.postgresql.stado.parser.core.syntaxtree.ShowCluster;
 import org.postgresql.stado.parser.core.syntaxtree.ShowConstraints;
 import org.postgresql.stado.parser.core.syntaxtree.ShowDatabases;
+import org.postgresql.stado.parser.core.syntaxtree.ShowDistribution;
 import org.postgresql.stado.parser.core.syntaxtree.ShowIndexes;
+import org.postgresql.stado.parser.core.syntaxtree.ShowLockWaits;
 import org.postgresql.stado.parser.core.syntaxtree.ShowProperty;
+import org.postgresql.stado.parser.core.syntaxtree.ShowQueueWaits;
 import org.postgresql.stado.parser.core.syntaxtree.ShowStatements;
 import org.postgresql.stado.parser.core.syntaxtree.ShowTables;
 import org.postgresql.stado.parser.core.syntaxtree.ShowTranIsolation;
@@ -341,6 +345,38 @@ public class Parser extends DepthFirstRetArguVisitor {
         return null;
     }
 
+    @Override
+    public Object visit(ShowDistribution n, Object argu) {
+        SqlShowDistribution aSqlShowDistribution = new SqlShowDistribution(client);
+        n.accept(aSqlShowDistribution, argu);
+        sqlObject = aSqlShowDistribution;
+        return null;
+    }
+
+    @Override
+    public Object visit(ShowLockWaits n, Object argu) {
+        SqlShowLockWaits aSqlShowLockWaits = new SqlShowLockWaits(client);
+        n.accept(aSqlShowLockWaits, argu);
+        sqlObject = aSqlShowLockWaits;
+        return null;
+    }
+
+    @Override
+    public Object visit(ShowQueueWaits n, Object argu) {
+        SqlShowQueueWaits aSqlShowQueueWaits = new SqlShowQueueWaits(client);
+        n.accept(aSqlShowQueueWaits, argu);
+        sqlObject = aSqlShowQueueWaits;
+        return null;
+    }
+
+    @Override
+    public Object visit(RebalanceTable n, Object argu) {
+        SqlRebalanceTable aSqlRebalanceTable = new SqlRebalanceTable(client);
+        n.accept(aSqlRebalanceTable, argu);
+        sqlObject = aSqlRebalanceTable;
+        return null;
+    }
+
     @Override
     public Object visit(createIndex n, Object argu) {
         SqlCreateIndex aSqlCreateIndex = new SqlCreateIndex(client);
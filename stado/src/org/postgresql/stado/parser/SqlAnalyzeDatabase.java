@@ -41,9 +41,11 @@ import org.postgresql.stado.engine.Engine;
 import org.postgresql.stado.engine.ExecutionResult;
 import org.postgresql.stado.engine.IPreparable;
 import org.postgresql.stado.engine.MultinodeExecutor;
+import org.postgresql.stado.engine.PlanCache;
 import org.postgresql.stado.engine.XDBSessionContext;
 import org.postgresql.stado.exception.XDBSecurityException;
 import org.postgresql.stado.exception.XDBServerException;
+import org.postgresql.stado.metadata.ColumnStatistics;
 import org.postgresql.stado.metadata.DBNode;
 import org.postgresql.stado.metadata.MetaData;
 import org.postgresql.stado.metadata.SysColumn;
@@ -277,7 +279,7 @@ public class SqlAnalyzeDatabase extends DepthFirstVoidArguVisitor implements IXD
     }
 
     private Object[] createStatements(SysTable table) throws Exception {
-        Object[] result = doAnalyze ? new Object[4] : new Object[1];
+        Object[] result = doAnalyze ? new Object[5] : new Object[1];
         params.put("table", IdentifierHandler.quote(table.getTableName()));
         // result[0] = vacuum analyze (update statistics) command
         Collection<SysColumn> columns = createColumnList(table);
@@ -340,6 +342,13 @@ public class SqlAnalyzeDatabase extends DepthFirstVoidArguVisitor implements IXD
             }
             // result[3] = column list
             result[3] = columns;
+            // result[4] = query to get value distributions from nodes
+            if (Props.XDB_STATISTICS_TARGET > 0) {
+                params.put("table", table.getTableName().replaceAll("'", "''"));
+                result[4] = ParseCmdLine.substitute(
+                        Props.XDB_SQLCOMMAND_UPDATESTATISTICS_COLSTATS, params);
+                params.put("table", IdentifierHandler.quote(table.getTableName()));
+            }
         }
         return result;
     }
@@ -404,13 +413,16 @@ public class SqlAnalyzeDatabase extends DepthFirstVoidArguVisitor implements IXD
 
                 // Step two: count all rows and put a result to MetaData
                 long count = 0;
+                Map<Integer, Long> nodeRows = new HashMap<Integer, Long>();
                 Collection<DBNode> nodeList = table.getJoinNodeList();
                 Map<Integer, ResultSet> results = engine.executeQueryOnMultipleNodes(
                         (String) toRun[1], nodeList, client);
-                for (ResultSet rs : results.values()) {
+                for (Map.Entry<Integer, ResultSet> result : results.entrySet()) {
+                    ResultSet rs = result.getValue();
                     try {
                         if (rs.next()) {
                             count += rs.getLong(1);
+                            nodeRows.put(result.getKey(), rs.getLong(1));
                         } else {
                             throw new XDBServerException(
                                     "Could not count rows for table: " + table.getTableName());
@@ -496,12 +508,22 @@ public class SqlAnalyzeDatabase extends DepthFirstVoidArguVisitor implements IXD
                             + selectivity + " where colid = " + col.getColID();
                     MetaData.getMetaData().executeUpdate(updateSelectivity);
                 }
+
+                // Step five: merge value distributions of the nodes
+                if (toRun[4] != null && count > 0) {
+                    updateColumnStatistics(engine, table, (String) toRun[4],
+                            columns, nodeList, nodeRows);
+                }
             } catch (Exception ex) {
                 logger.catching(ex);
                 failedTables.add(table.getTableName());
                 failedMessages.add(ex.getLocalizedMessage());
             }
         }
+        if (doAnalyze) {
+            // Cached plans were made with the old estimates
+            PlanCache.invalidate();
+        }
         if (failedTables.size() > 0) {
             StringBuffer msg = new StringBuffer(
                     "Failed to update statistics for table(s): ");
@@ -521,6 +543,89 @@ public class SqlAnalyzeDatabase extends DepthFirstVoidArguVisitor implements IXD
         return ExecutionResult.createSuccessResult(ExecutionResult.COMMAND_VACUUM_ANALYZE);
     }
 
+    /**
+     * Collects most common values and histograms of the columns from the
+     * nodes, merges them and saves in the MetaData
+     *
+     * @param engine
+     * @param table
+     * @param query
+     *            the query returning value distributions of the table
+     * @param columns
+     *            the columns to update
+     * @param nodeList
+     * @param nodeRows
+     *            number of rows of the table on each node
+     * @throws Exception
+     */
+    private void updateColumnStatistics(Engine engine, SysTable table,
+            String query, Collection columns, Collection<DBNode> nodeList,
+            Map<Integer, Long> nodeRows) throws Exception {
+        Map<String, List<ColumnStatistics>> nodeStatistics = new HashMap<String, List<ColumnStatistics>>();
+        Map<String, List<Long>> nodeWeights = new HashMap<String, List<Long>>();
+        Map<Integer, ResultSet> results = engine.executeQueryOnMultipleNodes(
+                query, nodeList, client);
+        for (Map.Entry<Integer, ResultSet> result : results.entrySet()) {
+            ResultSet rs = result.getValue();
+            Long rows = nodeRows.get(result.getKey());
+            try {
+                while (rs.next()) {
+                    String colName = rs.getString(1);
+                    SysColumn col = table.getSysColumn(colName);
+                    if (col == null || rows == null) {
+                        continue;
+                    }
+                    ColumnStatistics stats = ColumnStatistics.fromPgStats(
+                            col.getColType(), rs.getDouble(2),
+                            rs.getString(3), rs.getString(4), rs.getString(5));
+                    if (stats == null) {
+                        continue;
+                    }
+                    List<ColumnStatistics> statsList = nodeStatistics.get(col.getColName());
+                    if (statsList == null) {
+                        statsList = new ArrayList<ColumnStatistics>();
+                        nodeStatistics.put(col.getColName(), statsList);
+                        nodeWeights.put(col.getColName(), new ArrayList<Long>());
+                    }
+                    statsList.add(stats);
+                    nodeWeights.get(col.getColName()).add(rows);
+                }
+            } finally {
+                rs.close();
+            }
+        }
+
+        boolean save = true;
+        for (Iterator it = columns.iterator(); it.hasNext();) {
+            SysColumn col = (SysColumn) it.next();
+            List<ColumnStatistics> statsList = nodeStatistics.get(col.getColName());
+            ColumnStatistics merged = null;
+            if (statsList != null) {
+                merged = ColumnStatistics.merge(col.getColType(), statsList,
+                        nodeWeights.get(col.getColName()),
+                        Props.XDB_STATISTICS_TARGET);
+            }
+            col.setStatistics(merged);
+            if (!save) {
+                continue;
+            }
+            String updateStatistics = "update xsyscolumns set colstats = "
+                    + (merged == null ? "null" : "E'"
+                            + merged.toString().replace("\\", "\\\\")
+                                    .replace("'", "''") + "'")
+                    + " where colid = " + col.getColID();
+            try {
+                MetaData.getMetaData().executeUpdate(updateStatistics);
+            } catch (XDBServerException ex) {
+                // Keep them in memory, metadata database may be created
+                // before colstats was added
+                logger.warn("Could not save value distributions of "
+                        + table.getTableName() + ": " + ex.getMessage());
+                save = false;
+            }
+        }
+    }
+
     /*
      * (non-Javadoc)
      *
@@ -26,6 +26,7 @@
 package org.postgresql.stado.parser;
 
 
+import java.sql.ResultSet;
 import java.sql.Types;
 import java.util.Collection;
 import java.util.Collections;
@@ -34,8 +35,10 @@ import java.util.List;
 
 import org.postgresql.stado.common.ColumnMetaData;
 import org.postgresql.stado.common.ResultSetImpl;
+import org.postgresql.stado.common.util.XLogger;
 import org.postgresql.stado.engine.Engine;
 import org.postgresql.stado.engine.ExecutionResult;
+import org.postgresql.stado.engine.ExecutionStatistics;
 import org.postgresql.stado.engine.IExecutable;
 import org.postgresql.stado.engine.IPreparable;
 import org.postgresql.stado.engine.XDBSessionContext;
@@ -61,8 +64,12 @@ import org.postgresql.stado.queryproc.QueryProcessor;
 
 public class SqlExplain extends DepthFirstVoidArguVisitor implements IXDBSql,
         IExecutable, IPreparable {
+    private static final XLogger logger = XLogger.getLogger(SqlExplain.class);
+
     private XDBSessionContext client;
 
+    private boolean analyze;
+
     private boolean verbose;
 
     private QueryTree aQueryTree = null;
@@ -87,14 +94,16 @@ public class SqlExplain extends DepthFirstVoidArguVisitor implements IXDBSql,
     /**
 	 * Grammar production:
 	 * f0 -> <EXPLAIN_>
-	 * f1 -> [ <VERBOSE_> ]
-	 * f2 -> Select(prn)
+	 * f1 -> [ <ANALYZE_> ]
+	 * f2 -> [ <VERBOSE_> ]
+	 * f3 -> ( Select(prn) | WithSelect(prn) )
      */
     @Override
 	public void visit(Explain n, Object argu) {
-    	verbose = n.f1.present();
+    	analyze = n.f1.present();
+    	verbose = n.f2.present();
         
-        NodeChoice aNodeChoice = (NodeChoice) n.f2;
+        NodeChoice aNodeChoice = (NodeChoice) n.f3;
 
         SqlSelect aSqlSelect = new SqlSelect(client);
                         
@@ -200,12 +209,42 @@ public class SqlExplain extends DepthFirstVoidArguVisitor implements IXDBSql,
 
     }
 
+    /**
+     * EXPLAIN ANALYZE runs the query, so it is scheduled like the query.
+     * Prepare it to find out nodes, cost and locks, errors are reported to
+     * the client rather than ignored.
+     */
+    private void prepareAnalyze() {
+        final String method = "prepareAnalyze";
+        logger.entering(method);
+        try {
+            if (!isPrepared()) {
+                prepare();
+            }
+        } catch (XDBServerException e) {
+            logger.throwing(e);
+            throw e;
+        } catch (Exception e) {
+            logger.catching(e);
+            XDBServerException ex = new XDBServerException(
+                    "Can not prepare EXPLAIN ANALYZE: " + e.getMessage(), e);
+            logger.throwing(ex);
+            throw ex;
+        } finally {
+            logger.exiting(method);
+        }
+    }
+
     /*
      * (non-Javadoc)
      *
      * @see org.postgresql.stado.Parser.IXDBSql#getNodeList()
      */
     public Collection<DBNode> getNodeList() {
+        if (analyze) {
+            prepareAnalyze();
+            return qProc.getNodeList();
+        }
         return Collections.emptyList();
     }
 
@@ -215,6 +254,10 @@ public class SqlExplain extends DepthFirstVoidArguVisitor implements IXDBSql,
      * @see org.postgresql.stado.MetaData.Scheduler.ILockCost#getCost()
      */
     public long getCost() {
+        if (analyze) {
+            prepareAnalyze();
+            return qProc.getCost();
+        }
         return ILockCost.LOW_COST;
     }
 
@@ -224,6 +267,10 @@ public class SqlExplain extends DepthFirstVoidArguVisitor implements IXDBSql,
      * @see org.postgresql.stado.MetaData.Scheduler.ILockCost#getLockSpecs()
      */
     public LockSpecification<SysTable> getLockSpecs() {
+        if (analyze) {
+            prepareAnalyze();
+            return qProc.getLockSpecs();
+        }
         Collection<SysTable> emptyList = Collections.emptyList();
         return new LockSpecification<SysTable>(emptyList, emptyList);
     }
@@ -237,6 +284,10 @@ public class SqlExplain extends DepthFirstVoidArguVisitor implements IXDBSql,
         if (!isPrepared()) {
             prepare();
         }
+        ExecutionStatistics statistics = null;
+        if (analyze) {
+            statistics = executeQuery(engine);
+        }
         ColumnMetaData[] columnMeta = new ColumnMetaData[] {
                 new ColumnMetaData("Query Plan", "Query Plan", 0, Types.VARCHAR, 0, 0, "", (short) 0, false)};
         List<XData[]> rows = new LinkedList<XData[]>();
@@ -252,10 +303,51 @@ public class SqlExplain extends DepthFirstVoidArguVisitor implements IXDBSql,
             	rows.add(new XData[] {new VarcharType(planStr)});
         	}
         }
+        if (statistics != null) {
+        	rows.add(new XData[] {new VarcharType("")});
+        	rows.add(new XData[] {new VarcharType("--------------------")});
+        	rows.add(new XData[] {new VarcharType(" Runtime Statistics")});
+        	rows.add(new XData[] {new VarcharType("--------------------")});
+        	for (String statStr : statistics.toString().split("\n")) {
+            	rows.add(new XData[] {new VarcharType(statStr)});
+        	}
+        }
         ResultSetImpl rs = new ResultSetImpl(columnMeta, rows);
         return ExecutionResult.createResultSetResult(ExecutionResult.COMMAND_EXPLAIN, rs);
     }
 
+    /**
+     * Executes the query collecting runtime statistics, the results are
+     * read and discarded.
+     *
+     * @param engine
+     * @return the statistics
+     * @throws Exception
+     */
+    private ExecutionStatistics executeQuery(Engine engine) throws Exception {
+        ExecutionStatistics statistics = new ExecutionStatistics();
+        qProc.setStatistics(statistics);
+        try {
+            long rowCount = 0;
+            ExecutionResult result = qProc.execute(engine);
+            ResultSet rs = result.getResultSet();
+            if (rs != null) {
+                try {
+                    while (rs.next()) {
+                        rowCount++;
+                    }
+                } finally {
+                    // Close results and drop temp tables of the final step
+                    new SqlDropTempTables(rs, client).execute(engine);
+                }
+            }
+            statistics.finish(rowCount);
+        } finally {
+            qProc.setStatistics(null);
+        }
+        return statistics;
+    }
+
     public boolean isPrepared() {
         return qProc != null && qProc.isPrepared();
     }
@@ -275,12 +367,12 @@ public class SqlExplain extends DepthFirstVoidArguVisitor implements IXDBSql,
      * @see org.postgresql.stado.MetaData.Scheduler.ILockCost#needCoordinatorConnection()
      */
     public boolean needCoordinatorConnection() {
-        return false;
+        return analyze && qProc != null && qProc.needCoordinatorConnection();
     }
 
 	@Override
 	public boolean isReadOnly() {
-		return true;
+		return !analyze || qProc == null || qProc.isReadOnly();
 	}
 
 }
\ No newline at end of file
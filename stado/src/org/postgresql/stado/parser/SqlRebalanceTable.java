@@ -0,0 +1,183 @@
+/*****************************************************************************
+ * Copyright (C) 2008 EnterpriseDB Corporation.
+ * Copyright (C) 2011 Stado Global Development Group.
+ *
+ * This file is part of Stado.
+ *
+ * Stado is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Stado is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Stado.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * You can find Stado at http://www.stado.us
+ *
+ ****************************************************************************/
+package org.postgresql.stado.parser;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+
+import org.postgresql.stado.engine.Engine;
+import org.postgresql.stado.engine.ExecutionResult;
+import org.postgresql.stado.engine.IExecutable;
+import org.postgresql.stado.engine.TableRebalancer;
+import org.postgresql.stado.engine.XDBSessionContext;
+import org.postgresql.stado.exception.XDBServerException;
+import org.postgresql.stado.metadata.DBNode;
+import org.postgresql.stado.metadata.MetaData;
+import org.postgresql.stado.metadata.SysDatabase;
+import org.postgresql.stado.metadata.SysPermission;
+import org.postgresql.stado.metadata.SysTable;
+import org.postgresql.stado.metadata.scheduler.ILockCost;
+import org.postgresql.stado.metadata.scheduler.LockSpecification;
+import org.postgresql.stado.metadata.scheduler.LockType;
+import org.postgresql.stado.parser.core.syntaxtree.NodeListOptional;
+import org.postgresql.stado.parser.core.syntaxtree.NodeSequence;
+import org.postgresql.stado.parser.core.syntaxtree.NodeToken;
+import org.postgresql.stado.parser.core.syntaxtree.RebalanceTable;
+import org.postgresql.stado.parser.core.visitor.DepthFirstVoidArguVisitor;
+import org.postgresql.stado.parser.handler.TableNameHandler;
+
+/**
+ * REBALANCE TABLE table [ON NODES n, ...]: evenly distributes hash buckets
+ * of the hash partitioned table among the specified nodes, by default among
+ * all nodes of the database, moving the rows online, bucket by bucket.
+ * The table remains readable, but can not be modified.
+ */
+public class SqlRebalanceTable extends DepthFirstVoidArguVisitor implements
+        IXDBSql, IExecutable {
+
+    private XDBSessionContext client;
+
+    private String tableName;
+
+    private SysTable table;
+
+    private List<Integer> nodeIdList = null;
+
+    public SqlRebalanceTable(XDBSessionContext client) {
+        this.client = client;
+    }
+
+    /**
+     * Grammar production:
+     * f0 -> <IDENTIFIER>
+     * f1 -> <TABLE_>
+     * f2 -> TableName(prn)
+     * f3 -> [ <ON_> ( <NODE_> | <NODES_> ) <INT_LITERAL> ( "," <INT_LITERAL> )* ]
+     */
+    @Override
+    public void visit(RebalanceTable n, Object obj) {
+        TableNameHandler aTableNameHandler = new TableNameHandler(client);
+        n.f2.accept(aTableNameHandler, obj);
+        tableName = aTableNameHandler.getTableName();
+        if (n.f3.present()) {
+            NodeSequence aNodeSequence = (NodeSequence) n.f3.node;
+            nodeIdList = new ArrayList<Integer>();
+            nodeIdList.add(Integer.parseInt(((NodeToken) aNodeSequence.elementAt(2)).tokenImage));
+            for (Object node : ((NodeListOptional) aNodeSequence.elementAt(3)).nodes) {
+                NodeToken aNodeToken = (NodeToken) ((NodeSequence) node).elementAt(1);
+                nodeIdList.add(Integer.parseInt(aNodeToken.tokenImage));
+            }
+        }
+    }
+
+    private SysTable getTable() {
+        if (table == null) {
+            table = getDatabase().getSysTable(tableName);
+        }
+        return table;
+    }
+
+    private SysDatabase getDatabase() {
+        return MetaData.getMetaData().getSysDatabase(client.getDBName());
+    }
+
+    /**
+     * @return nodes the table should be distributed to
+     */
+    private Collection<DBNode> getTargetNodeList() {
+        if (nodeIdList == null) {
+            return getDatabase().getDBNodeList();
+        }
+        Collection<DBNode> nodeList = new ArrayList<DBNode>();
+        for (Integer nodeId : new HashSet<Integer>(nodeIdList)) {
+            nodeList.add(getDatabase().getDBNode(nodeId));
+        }
+        return nodeList;
+    }
+
+    /**
+     * This will return the cost of executing this statement in time , milli
+     * seconds
+     */
+    public long getCost() {
+        return ILockCost.HIGH_COST;
+    }
+
+    /**
+     * Table is locked against writers, since rows modified after they are
+     * copied would be lost, but it can be queried while it is rebalanced
+     *
+     * @return
+     */
+    public LockSpecification<SysTable> getLockSpecs() {
+        LockSpecification<SysTable> lockSpecs = new LockSpecification<SysTable>();
+        lockSpecs.add(getTable(), LockType.getExcludingWriters());
+        return lockSpecs;
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see org.postgresql.stado.Parser.IXDBSql#getNodeList()
+     */
+    public Collection<DBNode> getNodeList() {
+        Collection<DBNode> nodeList = new HashSet<DBNode>(getTable().getNodeList());
+        nodeList.addAll(getTargetNodeList());
+        return nodeList;
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see org.postgresql.stado.Engine.IExecutable#execute(org.postgresql.stado.Engine.Engine)
+     */
+    public ExecutionResult execute(Engine engine) throws Exception {
+        if (client.isInTransaction()) {
+            throw new XDBServerException(
+                    "REBALANCE TABLE can not be executed inside a transaction block");
+        }
+        SysTable theSysTable = getTable();
+        theSysTable.ensurePermission(client.getCurrentUser(),
+                SysPermission.PRIVILEGE_ALTER);
+        long rowCount = new TableRebalancer(client, theSysTable).rebalance(
+                engine, getTargetNodeList());
+        return ExecutionResult.createRowCountResult(
+                ExecutionResult.COMMAND_MOVE_ROWS, (int) rowCount);
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see org.postgresql.stado.MetaData.Scheduler.ILockCost#needCoordinatorConnection()
+     */
+    public boolean needCoordinatorConnection() {
+        return false;
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        return false;
+    }
+}
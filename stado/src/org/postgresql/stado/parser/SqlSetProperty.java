@@ -200,16 +200,16 @@ public class SqlSetProperty extends DepthFirstVoidArguVisitor implements IXDBSql
          underlying connections. */
         client.setUsedSet();
 
-        try {
-            String sqlStatement = "SET " + propertyToSet + " TO ";
+        String sqlStatement = "SET " + propertyToSet + " TO ";
 
-            // Do not double-add quotes
-            if (propertyValue.startsWith("'") || propertyValue.startsWith("\"")) {
-                sqlStatement += propertyValue;
-            } else {
-                sqlStatement += "'" + propertyValue + "'";
-            }
+        // Do not double-add quotes
+        if (propertyValue.startsWith("'") || propertyValue.startsWith("\"")) {
+            sqlStatement += propertyValue;
+        } else {
+            sqlStatement += "'" + propertyValue + "'";
+        }
 
+        try {
             MultinodeExecutor aMultinodeExecutor = client
                     .getMultinodeExecutor(getNodeList());
 
@@ -227,6 +227,8 @@ public class SqlSetProperty extends DepthFirstVoidArguVisitor implements IXDBSql
              * help with driver/utility compatibility.
              */
         }
+        // Remember for the connections the session takes later
+        client.addSessionSetting(propertyToSet, sqlStatement);
 
         return ExecutionResult
                 .createSuccessResult(ExecutionResult.COMMAND_SET);
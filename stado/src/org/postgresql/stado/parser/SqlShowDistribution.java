@@ -0,0 +1,200 @@
+/*****************************************************************************
+ * Copyright (C) 2008 EnterpriseDB Corporation.
+ * Copyright (C) 2011 Stado Global Development Group.
+ *
+ * This file is part of Stado.
+ *
+ * Stado is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Stado is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Stado.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * You can find Stado at http://www.stado.us
+ *
+ ****************************************************************************/
+package org.postgresql.stado.parser;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.ResultSet;
+import java.sql.Types;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.Vector;
+
+import org.postgresql.stado.common.ColumnMetaData;
+import org.postgresql.stado.common.ResultSetImpl;
+import org.postgresql.stado.engine.Engine;
+import org.postgresql.stado.engine.ExecutionResult;
+import org.postgresql.stado.engine.IExecutable;
+import org.postgresql.stado.engine.XDBSessionContext;
+import org.postgresql.stado.engine.datatypes.BigDecimalType;
+import org.postgresql.stado.engine.datatypes.IntegerType;
+import org.postgresql.stado.engine.datatypes.LongType;
+import org.postgresql.stado.engine.datatypes.XData;
+import org.postgresql.stado.metadata.DBNode;
+import org.postgresql.stado.metadata.MetaData;
+import org.postgresql.stado.metadata.SysDatabase;
+import org.postgresql.stado.metadata.SysPermission;
+import org.postgresql.stado.metadata.SysTable;
+import org.postgresql.stado.metadata.partitions.HashPartitionMap;
+import org.postgresql.stado.metadata.partitions.PartitionMap;
+import org.postgresql.stado.metadata.scheduler.ILockCost;
+import org.postgresql.stado.metadata.scheduler.LockSpecification;
+import org.postgresql.stado.parser.core.syntaxtree.ShowDistribution;
+import org.postgresql.stado.parser.core.visitor.DepthFirstVoidArguVisitor;
+import org.postgresql.stado.parser.handler.IdentifierHandler;
+import org.postgresql.stado.parser.handler.TableNameHandler;
+
+/**
+ * SHOW DISTRIBUTION ON table: reports how rows of the table are distributed
+ * among the nodes. For every node it shows number of hash buckets assigned
+ * to the node (hash partitioned tables only), number of rows and the skew,
+ * that is ratio of the node's rows to average number of rows per node.
+ */
+public class SqlShowDistribution extends DepthFirstVoidArguVisitor implements
+        IXDBSql, IExecutable {
+
+    private XDBSessionContext client;
+
+    private String tableName;
+
+    private SysTable table;
+
+    public SqlShowDistribution(XDBSessionContext client) {
+        this.client = client;
+    }
+
+    @Override
+    public void visit(ShowDistribution n, Object obj) {
+        TableNameHandler aTableNameHandler = new TableNameHandler(client);
+        n.f3.accept(aTableNameHandler, obj);
+        tableName = aTableNameHandler.getTableName();
+    }
+
+    private SysTable getTable() {
+        if (table == null) {
+            SysDatabase db = MetaData.getMetaData().getSysDatabase(
+                    client.getDBName());
+            table = db.getSysTable(tableName);
+        }
+        return table;
+    }
+
+    /**
+     * This will return the cost of executing this statement in time , milli
+     * seconds
+     */
+    public long getCost() {
+        return ILockCost.LOW_COST;
+    }
+
+    /**
+     * Table is read, so it is locked in shared mode
+     *
+     * @return
+     */
+    public LockSpecification<SysTable> getLockSpecs() {
+        Collection<SysTable> empty = Collections.emptyList();
+        return new LockSpecification<SysTable>(
+                Collections.singletonList(getTable()), empty);
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see org.postgresql.stado.Parser.IXDBSql#getNodeList()
+     */
+    public Collection<DBNode> getNodeList() {
+        return getTable().getNodeList();
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see org.postgresql.stado.Engine.IExecutable#execute(org.postgresql.stado.Engine.Engine)
+     */
+    public ExecutionResult execute(Engine engine) throws Exception {
+        SysTable theSysTable = getTable();
+        theSysTable.ensurePermission(client.getCurrentUser(),
+                SysPermission.PRIVILEGE_SELECT);
+        short flags = 0;
+        ColumnMetaData[] headers = new ColumnMetaData[] {
+                new ColumnMetaData("node", "node", 0, Types.INTEGER, 0, 0,
+                        tableName, flags, false),
+                new ColumnMetaData("buckets", "buckets", 0, Types.INTEGER, 0,
+                        0, tableName, flags, true),
+                new ColumnMetaData("rows", "rows", 0, Types.BIGINT, 0, 0,
+                        tableName, flags, false),
+                new ColumnMetaData("skew", "skew", 0, Types.NUMERIC, 10, 2,
+                        tableName, flags, true) };
+
+        Map<Integer,Integer> buckets = null;
+        PartitionMap partitionMap = theSysTable.getPartitionMap();
+        if (partitionMap instanceof HashPartitionMap) {
+            buckets = ((HashPartitionMap) partitionMap).getBucketDistribution();
+        }
+
+        Collection<DBNode> nodeList = theSysTable.getNodeList();
+        Map<Integer,ResultSet> results = engine.executeQueryOnMultipleNodes(
+                "SELECT count(*) FROM " + IdentifierHandler.quote(tableName),
+                nodeList, client);
+        Map<Integer,Long> counts = new HashMap<Integer,Long>();
+        long total = 0;
+        for (Map.Entry<Integer,ResultSet> entry : results.entrySet()) {
+            ResultSet rs = entry.getValue();
+            try {
+                long count = rs.next() ? rs.getLong(1) : 0;
+                counts.put(entry.getKey(), count);
+                total += count;
+            } finally {
+                rs.close();
+            }
+        }
+
+        Vector<XData[]> rows = new Vector<XData[]>();
+        for (Integer nodeId : new TreeSet<Integer>(counts.keySet())) {
+            long count = counts.get(nodeId);
+            String bucketCount = null;
+            if (buckets != null) {
+                bucketCount = buckets.containsKey(nodeId) ? buckets.get(
+                        nodeId).toString() : "0";
+            }
+            String skew = null;
+            if (total > 0) {
+                skew = new BigDecimal(count * counts.size()).divide(
+                        new BigDecimal(total), 2, RoundingMode.HALF_UP).toString();
+            }
+            rows.add(new XData[] { new IntegerType(nodeId),
+                    new IntegerType(bucketCount), new LongType(count),
+                    new BigDecimalType(skew) });
+        }
+        return ExecutionResult.createResultSetResult(
+                ExecutionResult.COMMAND_SHOW, new ResultSetImpl(headers, rows));
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see org.postgresql.stado.MetaData.Scheduler.ILockCost#needCoordinatorConnection()
+     */
+    public boolean needCoordinatorConnection() {
+        return false;
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+}
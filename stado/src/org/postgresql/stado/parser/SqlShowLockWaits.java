@@ -0,0 +1,140 @@
+/*****************************************************************************
+ * Copyright (C) 2008 EnterpriseDB Corporation.
+ * Copyright (C) 2011 Stado Global Development Group.
+ *
+ * This file is part of Stado.
+ *
+ * Stado is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Stado is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Stado.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * You can find Stado at http://www.stado.us
+ *
+ ****************************************************************************/
+package org.postgresql.stado.parser;
+
+import java.sql.Types;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.Vector;
+
+import org.postgresql.stado.common.ColumnMetaData;
+import org.postgresql.stado.common.ResultSetImpl;
+import org.postgresql.stado.engine.Engine;
+import org.postgresql.stado.engine.ExecutionResult;
+import org.postgresql.stado.engine.IExecutable;
+import org.postgresql.stado.engine.XDBSessionContext;
+import org.postgresql.stado.engine.datatypes.LongType;
+import org.postgresql.stado.engine.datatypes.VarcharType;
+import org.postgresql.stado.engine.datatypes.XData;
+import org.postgresql.stado.metadata.DBNode;
+import org.postgresql.stado.metadata.MetaData;
+import org.postgresql.stado.metadata.SysTable;
+import org.postgresql.stado.metadata.scheduler.ILockCost;
+import org.postgresql.stado.metadata.scheduler.LockManager.LockWaitStatistics;
+import org.postgresql.stado.metadata.scheduler.LockSpecification;
+import org.postgresql.stado.parser.core.visitor.DepthFirstVoidArguVisitor;
+
+/**
+ * SHOW LOCK WAITS: reports for every table of the current database, that
+ * has been locked since server start, how many times and how long
+ * transactions were waiting for locks on the table.
+ */
+public class SqlShowLockWaits extends DepthFirstVoidArguVisitor implements
+        IXDBSql, IExecutable {
+
+    private XDBSessionContext client;
+
+    public SqlShowLockWaits(XDBSessionContext client) {
+        this.client = client;
+    }
+
+    /**
+     * This will return the cost of executing this statement in time , milli
+     * seconds
+     */
+    public long getCost() {
+        return ILockCost.LOW_COST;
+    }
+
+    /**
+     * Nothing is locked, statistics are read from the lock manager
+     *
+     * @return
+     */
+    public LockSpecification<SysTable> getLockSpecs() {
+        Collection<SysTable> empty = Collections.emptyList();
+        return new LockSpecification<SysTable>(empty, empty);
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see org.postgresql.stado.Parser.IXDBSql#getNodeList()
+     */
+    public Collection<DBNode> getNodeList() {
+        return Collections.emptyList();
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see org.postgresql.stado.Engine.IExecutable#execute(org.postgresql.stado.Engine.Engine)
+     */
+    public ExecutionResult execute(Engine engine) throws Exception {
+        short flags = 0;
+        ColumnMetaData[] headers = new ColumnMetaData[] {
+                new ColumnMetaData("table", "table", 0, Types.VARCHAR, 0, 0,
+                        "", flags, false),
+                new ColumnMetaData("waits", "waits", 0, Types.BIGINT, 0, 0,
+                        "", flags, false),
+                new ColumnMetaData("wait_time", "wait_time", 0, Types.BIGINT,
+                        0, 0, "", flags, false),
+                new ColumnMetaData("max_wait_time", "max_wait_time", 0,
+                        Types.BIGINT, 0, 0, "", flags, false) };
+
+        Map<SysTable, LockWaitStatistics> statistics = MetaData.getMetaData()
+                .getSysDatabase(client.getDBName()).getLm()
+                .getLockWaitStatistics();
+        TreeMap<String, LockWaitStatistics> sorted = new TreeMap<String, LockWaitStatistics>();
+        for (Map.Entry<SysTable, LockWaitStatistics> entry : statistics
+                .entrySet()) {
+            sorted.put(entry.getKey().getTableName(), entry.getValue());
+        }
+        Vector<XData[]> rows = new Vector<XData[]>();
+        for (Map.Entry<String, LockWaitStatistics> entry : sorted.entrySet()) {
+            LockWaitStatistics stats = entry.getValue();
+            rows.add(new XData[] { new VarcharType(entry.getKey()),
+                    new LongType(stats.getWaitCount()),
+                    new LongType(stats.getWaitTime()),
+                    new LongType(stats.getMaxWaitTime()) });
+        }
+        return ExecutionResult.createResultSetResult(
+                ExecutionResult.COMMAND_SHOW, new ResultSetImpl(headers, rows));
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see org.postgresql.stado.MetaData.Scheduler.ILockCost#needCoordinatorConnection()
+     */
+    public boolean needCoordinatorConnection() {
+        return false;
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+}
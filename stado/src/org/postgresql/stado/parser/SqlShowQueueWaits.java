@@ -0,0 +1,138 @@
+/*****************************************************************************
+ * Copyright (C) 2008 EnterpriseDB Corporation.
+ * Copyright (C) 2011 Stado Global Development Group.
+ *
+ * This file is part of Stado.
+ *
+ * Stado is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Stado is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Stado.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * You can find Stado at http://www.stado.us
+ *
+ ****************************************************************************/
+package org.postgresql.stado.parser;
+
+import java.sql.Types;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Vector;
+
+import org.postgresql.stado.common.ColumnMetaData;
+import org.postgresql.stado.common.ResultSetImpl;
+import org.postgresql.stado.engine.Engine;
+import org.postgresql.stado.engine.ExecutionResult;
+import org.postgresql.stado.engine.IExecutable;
+import org.postgresql.stado.engine.XDBSessionContext;
+import org.postgresql.stado.engine.datatypes.LongType;
+import org.postgresql.stado.engine.datatypes.VarcharType;
+import org.postgresql.stado.engine.datatypes.XData;
+import org.postgresql.stado.metadata.DBNode;
+import org.postgresql.stado.metadata.MetaData;
+import org.postgresql.stado.metadata.SysTable;
+import org.postgresql.stado.metadata.scheduler.ILockCost;
+import org.postgresql.stado.metadata.scheduler.LockSpecification;
+import org.postgresql.stado.metadata.scheduler.Scheduler;
+import org.postgresql.stado.parser.core.visitor.DepthFirstVoidArguVisitor;
+
+/**
+ * SHOW QUEUE WAITS: reports how long requests to the current database were
+ * waiting in the scheduler queue before they were admitted. There is a row
+ * for small and for large queries, with number of requests per wait time
+ * range.
+ */
+public class SqlShowQueueWaits extends DepthFirstVoidArguVisitor implements
+        IXDBSql, IExecutable {
+
+    private XDBSessionContext client;
+
+    public SqlShowQueueWaits(XDBSessionContext client) {
+        this.client = client;
+    }
+
+    /**
+     * This will return the cost of executing this statement in time , milli
+     * seconds
+     */
+    public long getCost() {
+        return ILockCost.LOW_COST;
+    }
+
+    /**
+     * Nothing is locked, statistics are read from the scheduler
+     *
+     * @return
+     */
+    public LockSpecification<SysTable> getLockSpecs() {
+        Collection<SysTable> empty = Collections.emptyList();
+        return new LockSpecification<SysTable>(empty, empty);
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see org.postgresql.stado.Parser.IXDBSql#getNodeList()
+     */
+    public Collection<DBNode> getNodeList() {
+        return Collections.emptyList();
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see org.postgresql.stado.Engine.IExecutable#execute(org.postgresql.stado.Engine.Engine)
+     */
+    public ExecutionResult execute(Engine engine) throws Exception {
+        short flags = 0;
+        long[] bounds = Scheduler.QUEUE_WAIT_BOUNDS;
+        ColumnMetaData[] headers = new ColumnMetaData[bounds.length + 2];
+        headers[0] = new ColumnMetaData("queries", "queries", 0,
+                Types.VARCHAR, 0, 0, "", flags, false);
+        for (int i = 0; i <= bounds.length; i++) {
+            String name = i < bounds.length ? "<" + bounds[i] + "ms" : ">="
+                    + bounds[i - 1] + "ms";
+            headers[i + 1] = new ColumnMetaData(name, name, 0, Types.BIGINT,
+                    0, 0, "", flags, false);
+        }
+
+        Scheduler scheduler = MetaData.getMetaData().getSysDatabase(
+                client.getDBName()).getScheduler();
+        Vector<XData[]> rows = new Vector<XData[]>();
+        rows.add(getRow("small", scheduler.getQueueWaitHistogram(false)));
+        rows.add(getRow("large", scheduler.getQueueWaitHistogram(true)));
+        return ExecutionResult.createResultSetResult(
+                ExecutionResult.COMMAND_SHOW, new ResultSetImpl(headers, rows));
+    }
+
+    private XData[] getRow(String queries, long[] histogram) {
+        XData[] row = new XData[histogram.length + 1];
+        row[0] = new VarcharType(queries);
+        for (int i = 0; i < histogram.length; i++) {
+            row[i + 1] = new LongType(histogram[i]);
+        }
+        return row;
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see org.postgresql.stado.MetaData.Scheduler.ILockCost#needCoordinatorConnection()
+     */
+    public boolean needCoordinatorConnection() {
+        return false;
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+}
@@ -1376,82 +1376,102 @@ public class CSQLParser implements CSQLParserConstants {
   NodeToken n219 = null;
   Token n220 = null;
   NodeSequence n221 = null;
-  ShowProperty n222 = null;
+  ShowDistribution n222 = null;
   NodeOptional n223 = new NodeOptional();
   NodeToken n224 = null;
   Token n225 = null;
   NodeSequence n226 = null;
-  AddNodeToDB n227 = null;
+  ShowLockWaits n227 = null;
   NodeOptional n228 = new NodeOptional();
   NodeToken n229 = null;
   Token n230 = null;
   NodeSequence n231 = null;
-  DropNodeFromDB n232 = null;
+  ShowQueueWaits n232 = null;
   NodeOptional n233 = new NodeOptional();
   NodeToken n234 = null;
   Token n235 = null;
   NodeSequence n236 = null;
-  StartDatabase n237 = null;
+  ShowProperty n237 = null;
   NodeOptional n238 = new NodeOptional();
   NodeToken n239 = null;
   Token n240 = null;
   NodeSequence n241 = null;
-  StopDatabase n242 = null;
+  RebalanceTable n242 = null;
   NodeOptional n243 = new NodeOptional();
   NodeToken n244 = null;
   Token n245 = null;
   NodeSequence n246 = null;
-  ShutdownXDB n247 = null;
+  AddNodeToDB n247 = null;
   NodeOptional n248 = new NodeOptional();
   NodeToken n249 = null;
   Token n250 = null;
   NodeSequence n251 = null;
-  CreateDatabase n252 = null;
+  DropNodeFromDB n252 = null;
   NodeOptional n253 = new NodeOptional();
   NodeToken n254 = null;
   Token n255 = null;
   NodeSequence n256 = null;
-  DropDatabase n257 = null;
+  StartDatabase n257 = null;
   NodeOptional n258 = new NodeOptional();
   NodeToken n259 = null;
   Token n260 = null;
   NodeSequence n261 = null;
-  CopyData n262 = null;
+  StopDatabase n262 = null;
   NodeOptional n263 = new NodeOptional();
   NodeToken n264 = null;
   Token n265 = null;
   NodeSequence n266 = null;
-  Kill n267 = null;
+  ShutdownXDB n267 = null;
   NodeOptional n268 = new NodeOptional();
   NodeToken n269 = null;
   Token n270 = null;
   NodeSequence n271 = null;
-  Unlisten n272 = null;
+  CreateDatabase n272 = null;
   NodeOptional n273 = new NodeOptional();
   NodeToken n274 = null;
   Token n275 = null;
   NodeSequence n276 = null;
-  DeclareCursor n277 = null;
+  DropDatabase n277 = null;
   NodeOptional n278 = new NodeOptional();
   NodeToken n279 = null;
   Token n280 = null;
   NodeSequence n281 = null;
-  CloseCursor n282 = null;
+  CopyData n282 = null;
   NodeOptional n283 = new NodeOptional();
   NodeToken n284 = null;
   Token n285 = null;
   NodeSequence n286 = null;
-  FetchCursor n287 = null;
+  Kill n287 = null;
   NodeOptional n288 = new NodeOptional();
   NodeToken n289 = null;
   Token n290 = null;
   NodeSequence n291 = null;
-  AlterCluster n292 = null;
+  Unlisten n292 = null;
   NodeOptional n293 = new NodeOptional();
   NodeToken n294 = null;
   Token n295 = null;
-  NodeToken n296 = null;
-  Token n297 = null;
+  NodeSequence n296 = null;
+  DeclareCursor n297 = null;
+  NodeOptional n298 = new NodeOptional();
+  NodeToken n299 = null;
+  Token n300 = null;
+  NodeSequence n301 = null;
+  CloseCursor n302 = null;
+  NodeOptional n303 = new NodeOptional();
+  NodeToken n304 = null;
+  Token n305 = null;
+  NodeSequence n306 = null;
+  FetchCursor n307 = null;
+  NodeOptional n308 = new NodeOptional();
+  NodeToken n309 = null;
+  Token n310 = null;
+  NodeSequence n311 = null;
+  AlterCluster n312 = null;
+  NodeOptional n313 = new NodeOptional();
+  NodeToken n314 = null;
+  Token n315 = null;
+  NodeToken n316 = null;
+  Token n317 = null;
     switch (jj_nt.kind) {
     case VACUUM_:
         n1 = new NodeSequence(2);
@@ -1468,7 +1488,7 @@ public class CSQLParser implements CSQLParserConstants {
         ;
       }
         n1.addNode(n3);
-        n0 = new NodeChoice(n1, 0, 59);
+        n0 = new NodeChoice(n1, 0, 63);
       break;
     case ANALYZE_:
         n6 = new NodeSequence(2);
@@ -1485,10 +1505,10 @@ public class CSQLParser implements CSQLParserConstants {
         ;
       }
         n6.addNode(n8);
-        n0 = new NodeChoice(n6, 1, 59);
+        n0 = new NodeChoice(n6, 1, 63);
       break;
     default:
-      jj_la1[63] = jj_gen;
+      jj_la1[67] = jj_gen;
       if (jj_2_4(3)) {
         n11 = new NodeSequence(2);
         n12 = createTable(prn);
@@ -1504,7 +1524,7 @@ public class CSQLParser implements CSQLParserConstants {
           ;
         }
         n11.addNode(n13);
-        n0 = new NodeChoice(n11, 2, 59);
+        n0 = new NodeChoice(n11, 2, 63);
       } else if (jj_2_5(3)) {
         n16 = new NodeSequence(2);
         n17 = CreateTablespace(prn);
@@ -1520,7 +1540,7 @@ public class CSQLParser implements CSQLParserConstants {
           ;
         }
         n16.addNode(n18);
-        n0 = new NodeChoice(n16, 3, 59);
+        n0 = new NodeChoice(n16, 3, 63);
       } else if (jj_2_6(3)) {
         n21 = new NodeSequence(2);
         n22 = createIndex(prn);
@@ -1536,7 +1556,7 @@ public class CSQLParser implements CSQLParserConstants {
           ;
         }
         n21.addNode(n23);
-        n0 = new NodeChoice(n21, 4, 59);
+        n0 = new NodeChoice(n21, 4, 63);
       } else if (jj_2_7(3)) {
         n26 = new NodeSequence(2);
         n27 = dropTable(prn);
@@ -1552,7 +1572,7 @@ public class CSQLParser implements CSQLParserConstants {
           ;
         }
         n26.addNode(n28);
-        n0 = new NodeChoice(n26, 5, 59);
+        n0 = new NodeChoice(n26, 5, 63);
       } else if (jj_2_8(3)) {
         n31 = new NodeSequence(2);
         n32 = DropTablespace(prn);
@@ -1568,7 +1588,7 @@ public class CSQLParser implements CSQLParserConstants {
           ;
         }
         n31.addNode(n33);
-        n0 = new NodeChoice(n31, 6, 59);
+        n0 = new NodeChoice(n31, 6, 63);
       } else if (jj_2_9(4)) {
         n36 = new NodeSequence(2);
         n37 = SelectAddGeometryColumn(prn);
@@ -1584,7 +1604,7 @@ public class CSQLParser implements CSQLParserConstants {
           ;
         }
         n36.addNode(n38);
-        n0 = new NodeChoice(n36, 7, 59);
+        n0 = new NodeChoice(n36, 7, 63);
       } else if (jj_2_10(4)) {
         n41 = new NodeSequence(2);
         n42 = SelectWithParenthesis(prn);
@@ -1600,7 +1620,7 @@ public class CSQLParser implements CSQLParserConstants {
           ;
         }
         n41.addNode(n43);
-        n0 = new NodeChoice(n41, 8, 59);
+        n0 = new NodeChoice(n41, 8, 63);
       } else if (jj_2_11(4)) {
         n46 = new NodeSequence(2);
         n47 = WithSelect(prn);
@@ -1616,7 +1636,7 @@ public class CSQLParser implements CSQLParserConstants {
           ;
         }
         n46.addNode(n48);
-        n0 = new NodeChoice(n46, 9, 59);
+        n0 = new NodeChoice(n46, 9, 63);
       } else {
         switch (jj_nt.kind) {
         case INSERT_:
@@ -1634,10 +1654,10 @@ public class CSQLParser implements CSQLParserConstants {
             ;
           }
         n51.addNode(n53);
-        n0 = new NodeChoice(n51, 10, 59);
+        n0 = new NodeChoice(n51, 10, 63);
           break;
         default:
-          jj_la1[64] = jj_gen;
+          jj_la1[68] = jj_gen;
           if (jj_2_12(2147483647)) {
         n56 = new NodeSequence(2);
             n57 = UpdateTable(prn);
@@ -1653,7 +1673,7 @@ public class CSQLParser implements CSQLParserConstants {
               ;
             }
         n56.addNode(n58);
-        n0 = new NodeChoice(n56, 11, 59);
+        n0 = new NodeChoice(n56, 11, 63);
           } else {
             switch (jj_nt.kind) {
             case DELETE_:
@@ -1671,10 +1691,10 @@ public class CSQLParser implements CSQLParserConstants {
                 ;
               }
         n61.addNode(n63);
-        n0 = new NodeChoice(n61, 12, 59);
+        n0 = new NodeChoice(n61, 12, 63);
               break;
             default:
-              jj_la1[65] = jj_gen;
+              jj_la1[69] = jj_gen;
               if (jj_2_13(2)) {
         n66 = new NodeSequence(2);
                 n67 = Alter(prn);
@@ -1690,7 +1710,7 @@ public class CSQLParser implements CSQLParserConstants {
                   ;
                 }
         n66.addNode(n68);
-        n0 = new NodeChoice(n66, 13, 59);
+        n0 = new NodeChoice(n66, 13, 63);
               } else if (jj_2_14(2)) {
         n71 = new NodeSequence(2);
                 n72 = DropIndex(prn);
@@ -1706,7 +1726,7 @@ public class CSQLParser implements CSQLParserConstants {
                   ;
                 }
         n71.addNode(n73);
-        n0 = new NodeChoice(n71, 14, 59);
+        n0 = new NodeChoice(n71, 14, 63);
               } else {
                 switch (jj_nt.kind) {
                 case RENAME_:
@@ -1724,7 +1744,7 @@ public class CSQLParser implements CSQLParserConstants {
                     ;
                   }
         n76.addNode(n78);
-        n0 = new NodeChoice(n76, 15, 59);
+        n0 = new NodeChoice(n76, 15, 63);
                   break;
                 case UPDATE_STAT_:
         n81 = new NodeSequence(2);
@@ -1741,10 +1761,10 @@ public class CSQLParser implements CSQLParserConstants {
                     ;
                   }
         n81.addNode(n83);
-        n0 = new NodeChoice(n81, 16, 59);
+        n0 = new NodeChoice(n81, 16, 63);
                   break;
                 default:
-                  jj_la1[66] = jj_gen;
+                  jj_la1[70] = jj_gen;
                   if (jj_2_15(2)) {
         n86 = new NodeSequence(2);
                     n87 = ShowAgents();
@@ -1760,7 +1780,7 @@ public class CSQLParser implements CSQLParserConstants {
                       ;
                     }
         n86.addNode(n88);
-        n0 = new NodeChoice(n86, 17, 59);
+        n0 = new NodeChoice(n86, 17, 63);
                   } else if (jj_2_16(2)) {
         n91 = new NodeSequence(2);
                     n92 = ShowCluster();
@@ -1776,7 +1796,7 @@ public class CSQLParser implements CSQLParserConstants {
                       ;
                     }
         n91.addNode(n93);
-        n0 = new NodeChoice(n91, 18, 59);
+        n0 = new NodeChoice(n91, 18, 63);
                   } else if (jj_2_17(2)) {
         n96 = new NodeSequence(2);
                     n97 = ShowDatabases();
@@ -1792,7 +1812,7 @@ public class CSQLParser implements CSQLParserConstants {
                       ;
                     }
         n96.addNode(n98);
-        n0 = new NodeChoice(n96, 19, 59);
+        n0 = new NodeChoice(n96, 19, 63);
                   } else if (jj_2_18(2)) {
         n101 = new NodeSequence(2);
                     n102 = ShowStatements();
@@ -1808,7 +1828,7 @@ public class CSQLParser implements CSQLParserConstants {
                       ;
                     }
         n101.addNode(n103);
-        n0 = new NodeChoice(n101, 20, 59);
+        n0 = new NodeChoice(n101, 20, 63);
                   } else if (jj_2_19(2)) {
         n106 = new NodeSequence(2);
                     n107 = ShowTables();
@@ -1824,7 +1844,7 @@ public class CSQLParser implements CSQLParserConstants {
                       ;
                     }
         n106.addNode(n108);
-        n0 = new NodeChoice(n106, 21, 59);
+        n0 = new NodeChoice(n106, 21, 63);
                   } else if (jj_2_20(2)) {
         n111 = new NodeSequence(2);
                     n112 = ShowTranIsolation();
@@ -1840,7 +1860,7 @@ public class CSQLParser implements CSQLParserConstants {
                       ;
                     }
         n111.addNode(n113);
-        n0 = new NodeChoice(n111, 22, 59);
+        n0 = new NodeChoice(n111, 22, 63);
                   } else {
                     switch (jj_nt.kind) {
                     case BEGIN_:
@@ -1858,7 +1878,7 @@ public class CSQLParser implements CSQLParserConstants {
                         ;
                       }
         n116.addNode(n118);
-        n0 = new NodeChoice(n116, 23, 59);
+        n0 = new NodeChoice(n116, 23, 63);
                       break;
                     case END_:
                     case COMMIT_:
@@ -1876,7 +1896,7 @@ public class CSQLParser implements CSQLParserConstants {
                         ;
                       }
         n121.addNode(n123);
-        n0 = new NodeChoice(n121, 24, 59);
+        n0 = new NodeChoice(n121, 24, 63);
                       break;
                     case ROLLBACK_:
         n126 = new NodeSequence(2);
@@ -1893,7 +1913,7 @@ public class CSQLParser implements CSQLParserConstants {
                         ;
                       }
         n126.addNode(n128);
-        n0 = new NodeChoice(n126, 25, 59);
+        n0 = new NodeChoice(n126, 25, 63);
                       break;
                     case DESCRIBE_:
                     case SHOW_TABLE_:
@@ -1912,10 +1932,10 @@ public class CSQLParser implements CSQLParserConstants {
                         ;
                       }
         n131.addNode(n133);
-        n0 = new NodeChoice(n131, 26, 59);
+        n0 = new NodeChoice(n131, 26, 63);
                       break;
                     default:
-                      jj_la1[67] = jj_gen;
+                      jj_la1[71] = jj_gen;
                       if (jj_2_21(2)) {
         n136 = new NodeSequence(2);
                         n137 = ShowConstraints(prn);
@@ -1931,7 +1951,7 @@ public class CSQLParser implements CSQLParserConstants {
                           ;
                         }
         n136.addNode(n138);
-        n0 = new NodeChoice(n136, 27, 59);
+        n0 = new NodeChoice(n136, 27, 63);
                       } else if (jj_2_22(2)) {
         n141 = new NodeSequence(2);
                         n142 = ShowIndexes(prn);
@@ -1947,7 +1967,7 @@ public class CSQLParser implements CSQLParserConstants {
                           ;
                         }
         n141.addNode(n143);
-        n0 = new NodeChoice(n141, 28, 59);
+        n0 = new NodeChoice(n141, 28, 63);
                       } else if (jj_2_23(3)) {
         n146 = new NodeSequence(2);
                         n147 = Deallocate(prn);
@@ -1963,7 +1983,7 @@ public class CSQLParser implements CSQLParserConstants {
                           ;
                         }
         n146.addNode(n148);
-        n0 = new NodeChoice(n146, 29, 59);
+        n0 = new NodeChoice(n146, 29, 63);
                       } else if (jj_2_24(3)) {
         n151 = new NodeSequence(2);
                         n152 = CreateUser(prn);
@@ -1979,7 +1999,7 @@ public class CSQLParser implements CSQLParserConstants {
                           ;
                         }
         n151.addNode(n153);
-        n0 = new NodeChoice(n151, 30, 59);
+        n0 = new NodeChoice(n151, 30, 63);
                       } else if (jj_2_25(3)) {
         n156 = new NodeSequence(2);
                         n157 = DropUser(prn);
@@ -1995,7 +2015,7 @@ public class CSQLParser implements CSQLParserConstants {
                           ;
                         }
         n156.addNode(n158);
-        n0 = new NodeChoice(n156, 31, 59);
+        n0 = new NodeChoice(n156, 31, 63);
                       } else if (jj_2_26(3)) {
         n161 = new NodeSequence(2);
                         n162 = AlterUser(prn);
@@ -2011,7 +2031,7 @@ public class CSQLParser implements CSQLParserConstants {
                           ;
                         }
         n161.addNode(n163);
-        n0 = new NodeChoice(n161, 32, 59);
+        n0 = new NodeChoice(n161, 32, 63);
                       } else {
                         switch (jj_nt.kind) {
                         case GRANT_:
@@ -2029,7 +2049,7 @@ public class CSQLParser implements CSQLParserConstants {
                             ;
                           }
         n166.addNode(n168);
-        n0 = new NodeChoice(n166, 33, 59);
+        n0 = new NodeChoice(n166, 33, 63);
                           break;
                         case REVOKE_:
         n171 = new NodeSequence(2);
@@ -2046,7 +2066,7 @@ public class CSQLParser implements CSQLParserConstants {
                             ;
                           }
         n171.addNode(n173);
-        n0 = new NodeChoice(n171, 34, 59);
+        n0 = new NodeChoice(n171, 34, 63);
                           break;
                         case CREATE_:
                         case REPLACE_:
@@ -2064,7 +2084,7 @@ public class CSQLParser implements CSQLParserConstants {
                             ;
                           }
         n176.addNode(n178);
-        n0 = new NodeChoice(n176, 35, 59);
+        n0 = new NodeChoice(n176, 35, 63);
                           break;
                         case DROP_:
         n181 = new NodeSequence(2);
@@ -2081,10 +2101,10 @@ public class CSQLParser implements CSQLParserConstants {
                             ;
                           }
         n181.addNode(n183);
-        n0 = new NodeChoice(n181, 36, 59);
+        n0 = new NodeChoice(n181, 36, 63);
                           break;
                         default:
-                          jj_la1[68] = jj_gen;
+                          jj_la1[72] = jj_gen;
                           if (jj_2_27(2)) {
         n186 = new NodeSequence(2);
                             n187 = ShowUsers(prn);
@@ -2100,7 +2120,7 @@ public class CSQLParser implements CSQLParserConstants {
                               ;
                             }
         n186.addNode(n188);
-        n0 = new NodeChoice(n186, 37, 59);
+        n0 = new NodeChoice(n186, 37, 63);
                           } else if (jj_2_28(2)) {
         n191 = new NodeSequence(2);
                             n192 = ShowViews(prn);
@@ -2116,7 +2136,7 @@ public class CSQLParser implements CSQLParserConstants {
                               ;
                             }
         n191.addNode(n193);
-        n0 = new NodeChoice(n191, 38, 59);
+        n0 = new NodeChoice(n191, 38, 63);
                           } else {
                             switch (jj_nt.kind) {
                             case CLUSTER_:
@@ -2134,7 +2154,7 @@ public class CSQLParser implements CSQLParserConstants {
                                 ;
                               }
         n196.addNode(n198);
-        n0 = new NodeChoice(n196, 39, 59);
+        n0 = new NodeChoice(n196, 39, 63);
                               break;
                             case TRUNCATE_:
         n201 = new NodeSequence(2);
@@ -2151,7 +2171,7 @@ public class CSQLParser implements CSQLParserConstants {
                                 ;
                               }
         n201.addNode(n203);
-        n0 = new NodeChoice(n201, 40, 59);
+        n0 = new NodeChoice(n201, 40, 63);
                               break;
                             case EXEC_:
         n206 = new NodeSequence(2);
@@ -2168,7 +2188,7 @@ public class CSQLParser implements CSQLParserConstants {
                                 ;
                               }
         n206.addNode(n208);
-        n0 = new NodeChoice(n206, 41, 59);
+        n0 = new NodeChoice(n206, 41, 63);
                               break;
                             case EXPLAIN_:
         n211 = new NodeSequence(2);
@@ -2185,10 +2205,10 @@ public class CSQLParser implements CSQLParserConstants {
                                 ;
                               }
         n211.addNode(n213);
-        n0 = new NodeChoice(n211, 42, 59);
+        n0 = new NodeChoice(n211, 42, 63);
                               break;
                             default:
-                              jj_la1[69] = jj_gen;
+                              jj_la1[73] = jj_gen;
                               if (jj_2_29(2)) {
         n216 = new NodeSequence(2);
                                 n217 = SetProperty(prn);
@@ -2204,10 +2224,10 @@ public class CSQLParser implements CSQLParserConstants {
                                   ;
                                 }
         n216.addNode(n218);
-        n0 = new NodeChoice(n216, 43, 59);
-                              } else if (jj_2_30(2)) {
+        n0 = new NodeChoice(n216, 43, 63);
+                              } else if (getToken(1).kind == SHOW_ && getToken(2).image.equalsIgnoreCase("DISTRIBUTION") && getToken(3).kind == ON_) {
         n221 = new NodeSequence(2);
-                                n222 = ShowProperty(prn);
+                                n222 = ShowDistribution(prn);
         n221.addNode(n222);
                                 switch (jj_nt.kind) {
                                 case SEMICOLON_:
@@ -2220,80 +2240,76 @@ public class CSQLParser implements CSQLParserConstants {
                                   ;
                                 }
         n221.addNode(n223);
-        n0 = new NodeChoice(n221, 44, 59);
-                              } else {
-                                switch (jj_nt.kind) {
-                                case ADD_NODE_:
+        n0 = new NodeChoice(n221, 44, 63);
+                              } else if (getToken(1).kind == SHOW_ && getToken(2).image.equalsIgnoreCase("LOCK") && getToken(3).image.equalsIgnoreCase("WAITS")) {
         n226 = new NodeSequence(2);
-                                  n227 = AddNodeToDB(prn);
+                                n227 = ShowLockWaits(prn);
         n226.addNode(n227);
-                                  switch (jj_nt.kind) {
-                                  case SEMICOLON_:
-                                    n230 = jj_consume_token(SEMICOLON_);
+                                switch (jj_nt.kind) {
+                                case SEMICOLON_:
+                                  n230 = jj_consume_token(SEMICOLON_);
           n229 = JTBToolkit.makeNodeToken(n230);
           n228.addNode(n229);
-                                    break;
-                                  default:
-                                    jj_la1[49] = jj_gen;
-                                    ;
-                                  }
-        n226.addNode(n228);
-        n0 = new NodeChoice(n226, 45, 59);
                                   break;
-                                case DROP_NODE_:
+                                default:
+                                  jj_la1[49] = jj_gen;
+                                  ;
+                                }
+        n226.addNode(n228);
+        n0 = new NodeChoice(n226, 45, 63);
+                              } else if (getToken(1).kind == SHOW_ && getToken(2).image.equalsIgnoreCase("QUEUE") && getToken(3).image.equalsIgnoreCase("WAITS")) {
         n231 = new NodeSequence(2);
-                                  n232 = DropNodeFromDB(prn);
+                                n232 = ShowQueueWaits(prn);
         n231.addNode(n232);
-                                  switch (jj_nt.kind) {
-                                  case SEMICOLON_:
-                                    n235 = jj_consume_token(SEMICOLON_);
+                                switch (jj_nt.kind) {
+                                case SEMICOLON_:
+                                  n235 = jj_consume_token(SEMICOLON_);
           n234 = JTBToolkit.makeNodeToken(n235);
           n233.addNode(n234);
-                                    break;
-                                  default:
-                                    jj_la1[50] = jj_gen;
-                                    ;
-                                  }
-        n231.addNode(n233);
-        n0 = new NodeChoice(n231, 46, 59);
                                   break;
-                                case START_DB_:
+                                default:
+                                  jj_la1[50] = jj_gen;
+                                  ;
+                                }
+        n231.addNode(n233);
+        n0 = new NodeChoice(n231, 46, 63);
+                              } else if (jj_2_30(2)) {
         n236 = new NodeSequence(2);
-                                  n237 = StartDatabase(prn);
+                                n237 = ShowProperty(prn);
         n236.addNode(n237);
-                                  switch (jj_nt.kind) {
-                                  case SEMICOLON_:
-                                    n240 = jj_consume_token(SEMICOLON_);
+                                switch (jj_nt.kind) {
+                                case SEMICOLON_:
+                                  n240 = jj_consume_token(SEMICOLON_);
           n239 = JTBToolkit.makeNodeToken(n240);
           n238.addNode(n239);
-                                    break;
-                                  default:
-                                    jj_la1[51] = jj_gen;
-                                    ;
-                                  }
-        n236.addNode(n238);
-        n0 = new NodeChoice(n236, 47, 59);
                                   break;
-                                case STOP_DB_:
+                                default:
+                                  jj_la1[51] = jj_gen;
+                                  ;
+                                }
+        n236.addNode(n238);
+        n0 = new NodeChoice(n236, 47, 63);
+                              } else if (getToken(1).kind == IDENTIFIER && getToken(1).image.equalsIgnoreCase("REBALANCE") && getToken(2).kind == TABLE_) {
         n241 = new NodeSequence(2);
-                                  n242 = StopDatabase(prn);
+                                n242 = RebalanceTable(prn);
         n241.addNode(n242);
-                                  switch (jj_nt.kind) {
-                                  case SEMICOLON_:
-                                    n245 = jj_consume_token(SEMICOLON_);
+                                switch (jj_nt.kind) {
+                                case SEMICOLON_:
+                                  n245 = jj_consume_token(SEMICOLON_);
           n244 = JTBToolkit.makeNodeToken(n245);
           n243.addNode(n244);
-                                    break;
-                                  default:
-                                    jj_la1[52] = jj_gen;
-                                    ;
-                                  }
-        n241.addNode(n243);
-        n0 = new NodeChoice(n241, 48, 59);
                                   break;
-                                case SHUT_DOWN_:
+                                default:
+                                  jj_la1[52] = jj_gen;
+                                  ;
+                                }
+        n241.addNode(n243);
+        n0 = new NodeChoice(n241, 48, 63);
+                              } else {
+                                switch (jj_nt.kind) {
+                                case ADD_NODE_:
         n246 = new NodeSequence(2);
-                                  n247 = ShutdownXDB(prn);
+                                  n247 = AddNodeToDB(prn);
         n246.addNode(n247);
                                   switch (jj_nt.kind) {
                                   case SEMICOLON_:
@@ -2306,11 +2322,11 @@ public class CSQLParser implements CSQLParserConstants {
                                     ;
                                   }
         n246.addNode(n248);
-        n0 = new NodeChoice(n246, 49, 59);
+        n0 = new NodeChoice(n246, 49, 63);
                                   break;
-                                case CREATE_DB_:
+                                case DROP_NODE_:
         n251 = new NodeSequence(2);
-                                  n252 = CreateDatabase(prn);
+                                  n252 = DropNodeFromDB(prn);
         n251.addNode(n252);
                                   switch (jj_nt.kind) {
                                   case SEMICOLON_:
@@ -2323,11 +2339,11 @@ public class CSQLParser implements CSQLParserConstants {
                                     ;
                                   }
         n251.addNode(n253);
-        n0 = new NodeChoice(n251, 50, 59);
+        n0 = new NodeChoice(n251, 50, 63);
                                   break;
-                                case DROP_DB_:
+                                case START_DB_:
         n256 = new NodeSequence(2);
-                                  n257 = DropDatabase(prn);
+                                  n257 = StartDatabase(prn);
         n256.addNode(n257);
                                   switch (jj_nt.kind) {
                                   case SEMICOLON_:
@@ -2340,11 +2356,11 @@ public class CSQLParser implements CSQLParserConstants {
                                     ;
                                   }
         n256.addNode(n258);
-        n0 = new NodeChoice(n256, 51, 59);
+        n0 = new NodeChoice(n256, 51, 63);
                                   break;
-                                case COPY_:
+                                case STOP_DB_:
         n261 = new NodeSequence(2);
-                                  n262 = CopyData(prn);
+                                  n262 = StopDatabase(prn);
         n261.addNode(n262);
                                   switch (jj_nt.kind) {
                                   case SEMICOLON_:
@@ -2357,11 +2373,11 @@ public class CSQLParser implements CSQLParserConstants {
                                     ;
                                   }
         n261.addNode(n263);
-        n0 = new NodeChoice(n261, 52, 59);
+        n0 = new NodeChoice(n261, 52, 63);
                                   break;
-                                case KILL_:
+                                case SHUT_DOWN_:
         n266 = new NodeSequence(2);
-                                  n267 = Kill(prn);
+                                  n267 = ShutdownXDB(prn);
         n266.addNode(n267);
                                   switch (jj_nt.kind) {
                                   case SEMICOLON_:
@@ -2374,11 +2390,11 @@ public class CSQLParser implements CSQLParserConstants {
                                     ;
                                   }
         n266.addNode(n268);
-        n0 = new NodeChoice(n266, 53, 59);
+        n0 = new NodeChoice(n266, 53, 63);
                                   break;
-                                case UNLISTEN_:
+                                case CREATE_DB_:
         n271 = new NodeSequence(2);
-                                  n272 = Unlisten(prn);
+                                  n272 = CreateDatabase(prn);
         n271.addNode(n272);
                                   switch (jj_nt.kind) {
                                   case SEMICOLON_:
@@ -2391,11 +2407,11 @@ public class CSQLParser implements CSQLParserConstants {
                                     ;
                                   }
         n271.addNode(n273);
-        n0 = new NodeChoice(n271, 54, 59);
+        n0 = new NodeChoice(n271, 54, 63);
                                   break;
-                                case DECLARE_:
+                                case DROP_DB_:
         n276 = new NodeSequence(2);
-                                  n277 = DeclareCursor(prn);
+                                  n277 = DropDatabase(prn);
         n276.addNode(n277);
                                   switch (jj_nt.kind) {
                                   case SEMICOLON_:
@@ -2408,11 +2424,11 @@ public class CSQLParser implements CSQLParserConstants {
                                     ;
                                   }
         n276.addNode(n278);
-        n0 = new NodeChoice(n276, 55, 59);
+        n0 = new NodeChoice(n276, 55, 63);
                                   break;
-                                case CLOSE_:
+                                case COPY_:
         n281 = new NodeSequence(2);
-                                  n282 = CloseCursor(prn);
+                                  n282 = CopyData(prn);
         n281.addNode(n282);
                                   switch (jj_nt.kind) {
                                   case SEMICOLON_:
@@ -2425,11 +2441,11 @@ public class CSQLParser implements CSQLParserConstants {
                                     ;
                                   }
         n281.addNode(n283);
-        n0 = new NodeChoice(n281, 56, 59);
+        n0 = new NodeChoice(n281, 56, 63);
                                   break;
-                                case FETCH_:
+                                case KILL_:
         n286 = new NodeSequence(2);
-                                  n287 = FetchCursor(prn);
+                                  n287 = Kill(prn);
         n286.addNode(n287);
                                   switch (jj_nt.kind) {
                                   case SEMICOLON_:
@@ -2442,11 +2458,11 @@ public class CSQLParser implements CSQLParserConstants {
                                     ;
                                   }
         n286.addNode(n288);
-        n0 = new NodeChoice(n286, 57, 59);
+        n0 = new NodeChoice(n286, 57, 63);
                                   break;
-                                case ALTER_:
+                                case UNLISTEN_:
         n291 = new NodeSequence(2);
-                                  n292 = AlterCluster(prn);
+                                  n292 = Unlisten(prn);
         n291.addNode(n292);
                                   switch (jj_nt.kind) {
                                   case SEMICOLON_:
@@ -2459,10 +2475,78 @@ public class CSQLParser implements CSQLParserConstants {
                                     ;
                                   }
         n291.addNode(n293);
-        n0 = new NodeChoice(n291, 58, 59);
+        n0 = new NodeChoice(n291, 58, 63);
+                                  break;
+                                case DECLARE_:
+        n296 = new NodeSequence(2);
+                                  n297 = DeclareCursor(prn);
+        n296.addNode(n297);
+                                  switch (jj_nt.kind) {
+                                  case SEMICOLON_:
+                                    n300 = jj_consume_token(SEMICOLON_);
+          n299 = JTBToolkit.makeNodeToken(n300);
+          n298.addNode(n299);
+                                    break;
+                                  default:
+                                    jj_la1[63] = jj_gen;
+                                    ;
+                                  }
+        n296.addNode(n298);
+        n0 = new NodeChoice(n296, 59, 63);
+                                  break;
+                                case CLOSE_:
+        n301 = new NodeSequence(2);
+                                  n302 = CloseCursor(prn);
+        n301.addNode(n302);
+                                  switch (jj_nt.kind) {
+                                  case SEMICOLON_:
+                                    n305 = jj_consume_token(SEMICOLON_);
+          n304 = JTBToolkit.makeNodeToken(n305);
+          n303.addNode(n304);
+                                    break;
+                                  default:
+                                    jj_la1[64] = jj_gen;
+                                    ;
+                                  }
+        n301.addNode(n303);
+        n0 = new NodeChoice(n301, 60, 63);
+                                  break;
+                                case FETCH_:
+        n306 = new NodeSequence(2);
+                                  n307 = FetchCursor(prn);
+        n306.addNode(n307);
+                                  switch (jj_nt.kind) {
+                                  case SEMICOLON_:
+                                    n310 = jj_consume_token(SEMICOLON_);
+          n309 = JTBToolkit.makeNodeToken(n310);
+          n308.addNode(n309);
+                                    break;
+                                  default:
+                                    jj_la1[65] = jj_gen;
+                                    ;
+                                  }
+        n306.addNode(n308);
+        n0 = new NodeChoice(n306, 61, 63);
+                                  break;
+                                case ALTER_:
+        n311 = new NodeSequence(2);
+                                  n312 = AlterCluster(prn);
+        n311.addNode(n312);
+                                  switch (jj_nt.kind) {
+                                  case SEMICOLON_:
+                                    n315 = jj_consume_token(SEMICOLON_);
+          n314 = JTBToolkit.makeNodeToken(n315);
+          n313.addNode(n314);
+                                    break;
+                                  default:
+                                    jj_la1[66] = jj_gen;
+                                    ;
+                                  }
+        n311.addNode(n313);
+        n0 = new NodeChoice(n311, 62, 63);
                                   break;
                                 default:
-                                  jj_la1[70] = jj_gen;
+                                  jj_la1[74] = jj_gen;
                                   jj_consume_token(-1);
                                   throw new ParseException();
                                 }
@@ -2480,11 +2564,11 @@ public class CSQLParser implements CSQLParserConstants {
         }
       }
     }
-    n297 = jj_consume_token(0);
-    n297.beginColumn++;
-    n297.endColumn++;
-    { n296 = JTBToolkit.makeNodeToken(n297); }
-    {if (true) return new process(n0, n296);}
+    n317 = jj_consume_token(0);
+    n317.beginColumn++;
+    n317.endColumn++;
+    { n316 = JTBToolkit.makeNodeToken(n317); }
+    {if (true) return new process(n0, n316);}
     throw new Error("Missing return statement in function");
   }
 
@@ -2679,7 +2763,7 @@ public class CSQLParser implements CSQLParserConstants {
           n5.addNode(n6);
         break;
       default:
-        jj_la1[71] = jj_gen;
+        jj_la1[75] = jj_gen;
         ;
       }
         n3.addNode(n5);
@@ -2698,7 +2782,7 @@ public class CSQLParser implements CSQLParserConstants {
         n2 = new NodeChoice(n7, 1, 2);
       break;
     default:
-      jj_la1[72] = jj_gen;
+      jj_la1[76] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -2720,7 +2804,7 @@ public class CSQLParser implements CSQLParserConstants {
             n17 = new NodeChoice(n20, 1, 2);
         break;
       default:
-        jj_la1[73] = jj_gen;
+        jj_la1[77] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -2744,7 +2828,7 @@ public class CSQLParser implements CSQLParserConstants {
             n25 = new NodeChoice(n28, 1, 2);
         break;
       default:
-        jj_la1[74] = jj_gen;
+        jj_la1[78] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -2752,7 +2836,7 @@ public class CSQLParser implements CSQLParserConstants {
         n13 = new NodeChoice(n22, 1, 2);
       break;
     default:
-      jj_la1[75] = jj_gen;
+      jj_la1[79] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -2772,7 +2856,7 @@ public class CSQLParser implements CSQLParserConstants {
         n32.addNode(n33);
         break;
       default:
-        jj_la1[76] = jj_gen;
+        jj_la1[80] = jj_gen;
         ;
       }
       n31.addNode(n32);
@@ -2796,7 +2880,7 @@ public class CSQLParser implements CSQLParserConstants {
           n36 = new NodeChoice(n40, 3, 4);
           break;
         default:
-          jj_la1[77] = jj_gen;
+          jj_la1[81] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -2809,7 +2893,7 @@ public class CSQLParser implements CSQLParserConstants {
           ;
           break;
         default:
-          jj_la1[78] = jj_gen;
+          jj_la1[82] = jj_gen;
           break label_1;
         }
       }
@@ -2818,7 +2902,7 @@ public class CSQLParser implements CSQLParserConstants {
       n30.addNode(n31);
       break;
     default:
-      jj_la1[79] = jj_gen;
+      jj_la1[83] = jj_gen;
       ;
     }
     {if (true) return new CopyData(n0, n2, n13, n30);}
@@ -2853,7 +2937,7 @@ public class CSQLParser implements CSQLParserConstants {
       n2.addNode(n3);
       break;
     default:
-      jj_la1[80] = jj_gen;
+      jj_la1[84] = jj_gen;
       ;
     }
     n6 = jj_consume_token(STRING_LITERAL);
@@ -2880,7 +2964,7 @@ public class CSQLParser implements CSQLParserConstants {
       n2.addNode(n3);
       break;
     default:
-      jj_la1[81] = jj_gen;
+      jj_la1[85] = jj_gen;
       ;
     }
     n6 = jj_consume_token(STRING_LITERAL);
@@ -2931,7 +3015,7 @@ public class CSQLParser implements CSQLParserConstants {
         ;
         break;
       default:
-        jj_la1[82] = jj_gen;
+        jj_la1[86] = jj_gen;
         break label_2;
       }
       n7 = new NodeOptional();
@@ -2949,7 +3033,7 @@ public class CSQLParser implements CSQLParserConstants {
           n7.addNode(n8);
           break;
         default:
-          jj_la1[83] = jj_gen;
+          jj_la1[87] = jj_gen;
           ;
         }
         n4.addNode(n7);
@@ -2970,7 +3054,7 @@ public class CSQLParser implements CSQLParserConstants {
           n15.addNode(n16);
           break;
         default:
-          jj_la1[84] = jj_gen;
+          jj_la1[88] = jj_gen;
           ;
         }
         n12.addNode(n15);
@@ -2998,7 +3082,7 @@ public class CSQLParser implements CSQLParserConstants {
         n3 = new NodeChoice(n24, 3, 4);
         break;
       default:
-        jj_la1[85] = jj_gen;
+        jj_la1[89] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -3035,7 +3119,7 @@ public class CSQLParser implements CSQLParserConstants {
         ;
         break;
       default:
-        jj_la1[86] = jj_gen;
+        jj_la1[90] = jj_gen;
         break label_3;
       }
       n5 = new NodeSequence(2);
@@ -3055,7 +3139,7 @@ public class CSQLParser implements CSQLParserConstants {
       n10.addNode(n11);
       break;
     default:
-      jj_la1[87] = jj_gen;
+      jj_la1[91] = jj_gen;
       ;
     }
     {if (true) return new AddNodeToDB(n0, n2, n4, n10);}
@@ -3088,7 +3172,7 @@ public class CSQLParser implements CSQLParserConstants {
         ;
         break;
       default:
-        jj_la1[88] = jj_gen;
+        jj_la1[92] = jj_gen;
         break label_4;
       }
       n5 = new NodeSequence(2);
@@ -3108,7 +3192,7 @@ public class CSQLParser implements CSQLParserConstants {
       n10.addNode(n11);
       break;
     default:
-      jj_la1[89] = jj_gen;
+      jj_la1[93] = jj_gen;
       ;
     }
     {if (true) return new DropNodeFromDB(n0, n2, n4, n10);}
@@ -3141,7 +3225,7 @@ public class CSQLParser implements CSQLParserConstants {
         ;
         break;
       default:
-        jj_la1[90] = jj_gen;
+        jj_la1[94] = jj_gen;
         break label_5;
       }
       n4 = new NodeSequence(2);
@@ -3165,7 +3249,7 @@ public class CSQLParser implements CSQLParserConstants {
       n8.addNode(n9);
       break;
     default:
-      jj_la1[91] = jj_gen;
+      jj_la1[95] = jj_gen;
       ;
     }
     {if (true) return new StartDatabase(n0, n2, n3, n8);}
@@ -3192,7 +3276,7 @@ public class CSQLParser implements CSQLParserConstants {
         ;
         break;
       default:
-        jj_la1[92] = jj_gen;
+        jj_la1[96] = jj_gen;
         break label_6;
       }
       n4 = new NodeSequence(2);
@@ -3224,7 +3308,7 @@ public class CSQLParser implements CSQLParserConstants {
       n2.addNode(n3);
       break;
     default:
-      jj_la1[93] = jj_gen;
+      jj_la1[97] = jj_gen;
       ;
     }
     {if (true) return new ShutdownXDB(n0, n2);}
@@ -3287,7 +3371,7 @@ public class CSQLParser implements CSQLParserConstants {
         n5.addNode(n6);
         break;
       default:
-        jj_la1[94] = jj_gen;
+        jj_la1[98] = jj_gen;
         ;
       }
       n4.addNode(n5);
@@ -3307,7 +3391,7 @@ public class CSQLParser implements CSQLParserConstants {
             n13.addNode(n14);
             break;
           default:
-            jj_la1[95] = jj_gen;
+            jj_la1[99] = jj_gen;
             ;
           }
           n10.addNode(n13);
@@ -3321,7 +3405,7 @@ public class CSQLParser implements CSQLParserConstants {
           n9 = new NodeChoice(n17, 1, 2);
           break;
         default:
-          jj_la1[96] = jj_gen;
+          jj_la1[100] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -3332,7 +3416,7 @@ public class CSQLParser implements CSQLParserConstants {
           ;
           break;
         default:
-          jj_la1[97] = jj_gen;
+          jj_la1[101] = jj_gen;
           break label_7;
         }
       }
@@ -3341,7 +3425,7 @@ public class CSQLParser implements CSQLParserConstants {
       n3.addNode(n4);
       break;
     default:
-      jj_la1[98] = jj_gen;
+      jj_la1[102] = jj_gen;
       ;
     }
     switch (jj_nt.kind) {
@@ -3351,7 +3435,7 @@ public class CSQLParser implements CSQLParserConstants {
       n19.addNode(n20);
       break;
     default:
-      jj_la1[99] = jj_gen;
+      jj_la1[103] = jj_gen;
       ;
     }
     n23 = jj_consume_token(ON_);
@@ -3368,7 +3452,7 @@ public class CSQLParser implements CSQLParserConstants {
         n24 = new NodeChoice(n27, 1, 2);
       break;
     default:
-      jj_la1[100] = jj_gen;
+      jj_la1[104] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -3381,7 +3465,7 @@ public class CSQLParser implements CSQLParserConstants {
         ;
         break;
       default:
-        jj_la1[101] = jj_gen;
+        jj_la1[105] = jj_gen;
         break label_8;
       }
       n32 = new NodeSequence(2);
@@ -3416,7 +3500,7 @@ public class CSQLParser implements CSQLParserConstants {
       n3.addNode(n4);
       break;
     default:
-      jj_la1[102] = jj_gen;
+      jj_la1[106] = jj_gen;
       ;
     }
     {if (true) return new DropDatabase(n0, n2, n3);}
@@ -3460,7 +3544,7 @@ public class CSQLParser implements CSQLParserConstants {
         n7.addNode(n8);
         break;
       default:
-        jj_la1[103] = jj_gen;
+        jj_la1[107] = jj_gen;
         ;
       }
       n6.addNode(n7);
@@ -3480,7 +3564,7 @@ public class CSQLParser implements CSQLParserConstants {
           n11 = new NodeChoice(n14, 2, 3);
           break;
         default:
-          jj_la1[104] = jj_gen;
+          jj_la1[108] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -3492,7 +3576,7 @@ public class CSQLParser implements CSQLParserConstants {
           ;
           break;
         default:
-          jj_la1[105] = jj_gen;
+          jj_la1[109] = jj_gen;
           break label_9;
         }
       }
@@ -3501,7 +3585,7 @@ public class CSQLParser implements CSQLParserConstants {
       n5.addNode(n6);
       break;
     default:
-      jj_la1[106] = jj_gen;
+      jj_la1[110] = jj_gen;
       ;
     }
     {if (true) return new CreateNode(n0, n2, n4, n5);}
@@ -3526,7 +3610,7 @@ public class CSQLParser implements CSQLParserConstants {
       n2.addNode(n3);
       break;
     default:
-      jj_la1[107] = jj_gen;
+      jj_la1[111] = jj_gen;
       ;
     }
     n6 = jj_consume_token(INT_LITERAL);
@@ -3552,7 +3636,7 @@ public class CSQLParser implements CSQLParserConstants {
       n2.addNode(n3);
       break;
     default:
-      jj_la1[108] = jj_gen;
+      jj_la1[112] = jj_gen;
       ;
     }
     n5 = Identifier(prn);
@@ -3577,7 +3661,7 @@ public class CSQLParser implements CSQLParserConstants {
       n2.addNode(n3);
       break;
     default:
-      jj_la1[109] = jj_gen;
+      jj_la1[113] = jj_gen;
       ;
     }
     n5 = Identifier(prn);
@@ -3639,7 +3723,7 @@ public class CSQLParser implements CSQLParserConstants {
             n10 = new NodeChoice(n13, 1, 2);
         break;
       default:
-        jj_la1[110] = jj_gen;
+        jj_la1[114] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -3654,7 +3738,7 @@ public class CSQLParser implements CSQLParserConstants {
           ;
           break;
         default:
-          jj_la1[111] = jj_gen;
+          jj_la1[115] = jj_gen;
           break label_10;
         }
           n18 = new NodeSequence(2);
@@ -3671,7 +3755,7 @@ public class CSQLParser implements CSQLParserConstants {
         n6 = new NodeChoice(n9, 1, 2);
       break;
     default:
-      jj_la1[112] = jj_gen;
+      jj_la1[116] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -3688,37 +3772,50 @@ public class CSQLParser implements CSQLParserConstants {
   NodeOptional n2 = new NodeOptional();
   NodeToken n3 = null;
   Token n4 = null;
-  NodeChoice n5 = null;
-  Select n6 = null;
-  WithSelect n7 = null;
+  NodeOptional n5 = new NodeOptional();
+  NodeToken n6 = null;
+  Token n7 = null;
+  NodeChoice n8 = null;
+  Select n9 = null;
+  WithSelect n10 = null;
     n1 = jj_consume_token(EXPLAIN_);
     n0 = JTBToolkit.makeNodeToken(n1);
     switch (jj_nt.kind) {
-    case VERBOSE_:
-      n4 = jj_consume_token(VERBOSE_);
+    case ANALYZE_:
+      n4 = jj_consume_token(ANALYZE_);
       n3 = JTBToolkit.makeNodeToken(n4);
       n2.addNode(n3);
       break;
     default:
-      jj_la1[113] = jj_gen;
+      jj_la1[117] = jj_gen;
+      ;
+    }
+    switch (jj_nt.kind) {
+    case VERBOSE_:
+      n7 = jj_consume_token(VERBOSE_);
+      n6 = JTBToolkit.makeNodeToken(n7);
+      n5.addNode(n6);
+      break;
+    default:
+      jj_la1[118] = jj_gen;
       ;
     }
     switch (jj_nt.kind) {
     case PARENTHESIS_START_:
     case SELECT_:
-      n6 = Select(prn);
-        n5 = new NodeChoice(n6, 0, 2);
+      n9 = Select(prn);
+        n8 = new NodeChoice(n9, 0, 2);
       break;
     case WITH_:
-      n7 = WithSelect(prn);
-        n5 = new NodeChoice(n7, 1, 2);
+      n10 = WithSelect(prn);
+        n8 = new NodeChoice(n10, 1, 2);
       break;
     default:
-      jj_la1[114] = jj_gen;
+      jj_la1[119] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
-    {if (true) return new Explain(n0, n2, n5);}
+    {if (true) return new Explain(n0, n2, n5, n8);}
     throw new Error("Missing return statement in function");
   }
 
@@ -3753,14 +3850,14 @@ public class CSQLParser implements CSQLParserConstants {
         n3 = new NodeChoice(n6, 1, 2);
         break;
       default:
-        jj_la1[115] = jj_gen;
+        jj_la1[120] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
       n2.addNode(n3);
       break;
     default:
-      jj_la1[116] = jj_gen;
+      jj_la1[121] = jj_gen;
       ;
     }
     switch (jj_nt.kind) {
@@ -4046,14 +4143,14 @@ public class CSQLParser implements CSQLParserConstants {
         n9 = new NodeChoice(n11, 1, 2);
         break;
       default:
-        jj_la1[117] = jj_gen;
+        jj_la1[122] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
       n8.addNode(n9);
       break;
     default:
-      jj_la1[118] = jj_gen;
+      jj_la1[123] = jj_gen;
       ;
     }
     {if (true) return new VacuumDatabase(n0, n2, n8);}
@@ -4231,14 +4328,14 @@ public class CSQLParser implements CSQLParserConstants {
         n5.addNode(n6);
         break;
       default:
-        jj_la1[119] = jj_gen;
+        jj_la1[124] = jj_gen;
         ;
       }
       n3.addNode(n5);
       n2.addNode(n3);
       break;
     default:
-      jj_la1[120] = jj_gen;
+      jj_la1[125] = jj_gen;
       ;
     }
     {if (true) return new AnalyzeDatabase(n0, n2);}
@@ -4271,7 +4368,7 @@ public class CSQLParser implements CSQLParserConstants {
         ;
         break;
       default:
-        jj_la1[121] = jj_gen;
+        jj_la1[126] = jj_gen;
         break label_11;
       }
       n7 = new NodeSequence(2);
@@ -4353,7 +4450,7 @@ public class CSQLParser implements CSQLParserConstants {
             n9 = new NodeChoice(n12, 1, 2);
         break;
       default:
-        jj_la1[122] = jj_gen;
+        jj_la1[127] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -4382,7 +4479,7 @@ public class CSQLParser implements CSQLParserConstants {
         n5 = new NodeChoice(n8, 1, 2);
       break;
     default:
-      jj_la1[123] = jj_gen;
+      jj_la1[128] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -4453,7 +4550,7 @@ public class CSQLParser implements CSQLParserConstants {
             n6 = new NodeChoice(n14, 1, 2);
           break;
         default:
-          jj_la1[124] = jj_gen;
+          jj_la1[129] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -4611,7 +4708,7 @@ public class CSQLParser implements CSQLParserConstants {
         n2 = new NodeChoice(n24, 2, 3);
       break;
     default:
-      jj_la1[125] = jj_gen;
+      jj_la1[130] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -4670,7 +4767,7 @@ public class CSQLParser implements CSQLParserConstants {
       n5.addNode(n6);
       break;
     default:
-      jj_la1[126] = jj_gen;
+      jj_la1[131] = jj_gen;
       ;
     }
     {if (true) return new DropIndex(n0, n2, n4, n5);}
@@ -4696,7 +4793,7 @@ public class CSQLParser implements CSQLParserConstants {
         n2 = new NodeChoice(n4, 1, 2);
       break;
     default:
-      jj_la1[127] = jj_gen;
+      jj_la1[132] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -4748,7 +4845,7 @@ public class CSQLParser implements CSQLParserConstants {
         ;
         break;
       default:
-        jj_la1[128] = jj_gen;
+        jj_la1[133] = jj_gen;
         break label_13;
       }
       n5 = new NodeSequence(2);
@@ -4806,7 +4903,7 @@ public class CSQLParser implements CSQLParserConstants {
       n0 = new NodeChoice(n7, 6, 7);
       break;
     default:
-      jj_la1[129] = jj_gen;
+      jj_la1[134] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -4829,7 +4926,7 @@ public class CSQLParser implements CSQLParserConstants {
       n0.addNode(n1);
       break;
     default:
-      jj_la1[130] = jj_gen;
+      jj_la1[135] = jj_gen;
       ;
     }
     n4 = jj_consume_token(INHERIT_);
@@ -5044,14 +5141,14 @@ public class CSQLParser implements CSQLParserConstants {
             n6 = new NodeChoice(n9, 1, 2);
           break;
         default:
-          jj_la1[131] = jj_gen;
+          jj_la1[136] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
           n5.addNode(n6);
         break;
       default:
-        jj_la1[132] = jj_gen;
+        jj_la1[137] = jj_gen;
         ;
       }
         n3.addNode(n5);
@@ -5228,7 +5325,7 @@ public class CSQLParser implements CSQLParserConstants {
             n11 = new NodeChoice(n25, 7, 8);
         break;
       default:
-        jj_la1[133] = jj_gen;
+        jj_la1[138] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -5248,7 +5345,7 @@ public class CSQLParser implements CSQLParserConstants {
         n2 = new NodeChoice(n27, 1, 2);
       break;
     default:
-      jj_la1[134] = jj_gen;
+      jj_la1[139] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -5289,7 +5386,7 @@ public class CSQLParser implements CSQLParserConstants {
         n0 = new NodeChoice(n7, 3, 4);
       break;
     default:
-      jj_la1[135] = jj_gen;
+      jj_la1[140] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -5327,7 +5424,7 @@ public class CSQLParser implements CSQLParserConstants {
         n2 = new NodeChoice(n7, 2, 3);
       break;
     default:
-      jj_la1[136] = jj_gen;
+      jj_la1[141] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -5335,31 +5432,178 @@ public class CSQLParser implements CSQLParserConstants {
     throw new Error("Missing return statement in function");
   }
 
-  final public OwnerDef OwnerDef(PrintStream prn) throws ParseException {
+// SHOW DISTRIBUTION ON table, DISTRIBUTION is not a keyword
+  final public ShowDistribution ShowDistribution(PrintStream prn) throws ParseException {
   // --- JTB generated node declarations ---
   NodeToken n0 = null;
   Token n1 = null;
-  NodeChoice n2 = null;
-  NodeToken n3 = null;
-  Token n4 = null;
-  Identifier n5 = null;
-    n1 = jj_consume_token(OWNER_TO_);
+  NodeToken n2 = null;
+  Token n3 = null;
+  NodeToken n4 = null;
+  Token n5 = null;
+  TableName n6 = null;
+    n1 = jj_consume_token(SHOW_);
+    n0 = JTBToolkit.makeNodeToken(n1);
+    n3 = jj_consume_token(IDENTIFIER);
+    n2 = JTBToolkit.makeNodeToken(n3);
+    n5 = jj_consume_token(ON_);
+    n4 = JTBToolkit.makeNodeToken(n5);
+    n6 = TableName(prn);
+    {if (true) return new ShowDistribution(n0, n2, n4, n6);}
+    throw new Error("Missing return statement in function");
+  }
+
+// SHOW LOCK WAITS, LOCK and WAITS are not keywords
+  final public ShowLockWaits ShowLockWaits(PrintStream prn) throws ParseException {
+  // --- JTB generated node declarations ---
+  NodeToken n0 = null;
+  Token n1 = null;
+  NodeToken n2 = null;
+  Token n3 = null;
+  NodeToken n4 = null;
+  Token n5 = null;
+    n1 = jj_consume_token(SHOW_);
+    n0 = JTBToolkit.makeNodeToken(n1);
+    n3 = jj_consume_token(IDENTIFIER);
+    n2 = JTBToolkit.makeNodeToken(n3);
+    n5 = jj_consume_token(IDENTIFIER);
+    n4 = JTBToolkit.makeNodeToken(n5);
+    {if (true) return new ShowLockWaits(n0, n2, n4);}
+    throw new Error("Missing return statement in function");
+  }
+
+// SHOW QUEUE WAITS, QUEUE and WAITS are not keywords
+  final public ShowQueueWaits ShowQueueWaits(PrintStream prn) throws ParseException {
+  // --- JTB generated node declarations ---
+  NodeToken n0 = null;
+  Token n1 = null;
+  NodeToken n2 = null;
+  Token n3 = null;
+  NodeToken n4 = null;
+  Token n5 = null;
+    n1 = jj_consume_token(SHOW_);
+    n0 = JTBToolkit.makeNodeToken(n1);
+    n3 = jj_consume_token(IDENTIFIER);
+    n2 = JTBToolkit.makeNodeToken(n3);
+    n5 = jj_consume_token(IDENTIFIER);
+    n4 = JTBToolkit.makeNodeToken(n5);
+    {if (true) return new ShowQueueWaits(n0, n2, n4);}
+    throw new Error("Missing return statement in function");
+  }
+
+// REBALANCE TABLE table [ON NODES n, ...], REBALANCE is not a keyword
+  final public RebalanceTable RebalanceTable(PrintStream prn) throws ParseException {
+  // --- JTB generated node declarations ---
+  NodeToken n0 = null;
+  Token n1 = null;
+  NodeToken n2 = null;
+  Token n3 = null;
+  TableName n4 = null;
+  NodeOptional n5 = new NodeOptional();
+  NodeSequence n6 = null;
+  NodeToken n7 = null;
+  Token n8 = null;
+  NodeChoice n9 = null;
+  NodeToken n10 = null;
+  Token n11 = null;
+  NodeToken n12 = null;
+  Token n13 = null;
+  NodeToken n14 = null;
+  Token n15 = null;
+  NodeListOptional n16 = null;
+  NodeSequence n17 = null;
+  NodeToken n18 = null;
+  Token n19 = null;
+  NodeToken n20 = null;
+  Token n21 = null;
+    n1 = jj_consume_token(IDENTIFIER);
     n0 = JTBToolkit.makeNodeToken(n1);
+    n3 = jj_consume_token(TABLE_);
+    n2 = JTBToolkit.makeNodeToken(n3);
+    n4 = TableName(prn);
     switch (jj_nt.kind) {
-    case PUBLIC_:
-      n4 = jj_consume_token(PUBLIC_);
-        n3 = JTBToolkit.makeNodeToken(n4);
-        n2 = new NodeChoice(n3, 0, 2);
-      break;
-    case AVERAGE_:
-    case DAY_:
-    case DEC_:
-    case INT_:
-    case MAX_:
-    case MIN_:
-    case RAW_:
-    case SUM_:
-    case BLOB_:
+    case ON_:
+      n16 = new NodeListOptional();
+      n6 = new NodeSequence(4);
+      n8 = jj_consume_token(ON_);
+      n7 = JTBToolkit.makeNodeToken(n8);
+      n6.addNode(n7);
+      switch (jj_nt.kind) {
+      case NODE_:
+        n11 = jj_consume_token(NODE_);
+          n10 = JTBToolkit.makeNodeToken(n11);
+          n9 = new NodeChoice(n10, 0, 2);
+        break;
+      case NODES_:
+        n13 = jj_consume_token(NODES_);
+          n12 = JTBToolkit.makeNodeToken(n13);
+          n9 = new NodeChoice(n12, 1, 2);
+        break;
+      default:
+        jj_la1[142] = jj_gen;
+        jj_consume_token(-1);
+        throw new ParseException();
+      }
+      n6.addNode(n9);
+      n15 = jj_consume_token(INT_LITERAL);
+      n14 = JTBToolkit.makeNodeToken(n15);
+      n6.addNode(n14);
+      label_14:
+      while (true) {
+        switch (jj_nt.kind) {
+        case 402:
+          ;
+          break;
+        default:
+          jj_la1[143] = jj_gen;
+          break label_14;
+        }
+        n17 = new NodeSequence(2);
+        n19 = jj_consume_token(402);
+        n18 = JTBToolkit.makeNodeToken(n19);
+        n17.addNode(n18);
+        n21 = jj_consume_token(INT_LITERAL);
+        n20 = JTBToolkit.makeNodeToken(n21);
+        n17.addNode(n20);
+        n16.addNode(n17);
+      }
+      n16.nodes.trimToSize();
+      n6.addNode(n16);
+      n5.addNode(n6);
+      break;
+    default:
+      jj_la1[144] = jj_gen;
+      ;
+    }
+    {if (true) return new RebalanceTable(n0, n2, n4, n5);}
+    throw new Error("Missing return statement in function");
+  }
+
+  final public OwnerDef OwnerDef(PrintStream prn) throws ParseException {
+  // --- JTB generated node declarations ---
+  NodeToken n0 = null;
+  Token n1 = null;
+  NodeChoice n2 = null;
+  NodeToken n3 = null;
+  Token n4 = null;
+  Identifier n5 = null;
+    n1 = jj_consume_token(OWNER_TO_);
+    n0 = JTBToolkit.makeNodeToken(n1);
+    switch (jj_nt.kind) {
+    case PUBLIC_:
+      n4 = jj_consume_token(PUBLIC_);
+        n3 = JTBToolkit.makeNodeToken(n4);
+        n2 = new NodeChoice(n3, 0, 2);
+      break;
+    case AVERAGE_:
+    case DAY_:
+    case DEC_:
+    case INT_:
+    case MAX_:
+    case MIN_:
+    case RAW_:
+    case SUM_:
+    case BLOB_:
     case BYTE_:
     case CHAR_:
     case CLOB_:
@@ -5488,7 +5732,7 @@ public class CSQLParser implements CSQLParserConstants {
         n2 = new NodeChoice(n5, 1, 2);
       break;
     default:
-      jj_la1[137] = jj_gen;
+      jj_la1[145] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -5678,7 +5922,7 @@ public class CSQLParser implements CSQLParserConstants {
           n4.addNode(n5);
         break;
       default:
-        jj_la1[138] = jj_gen;
+        jj_la1[146] = jj_gen;
         ;
       }
         n3.addNode(n4);
@@ -5703,14 +5947,14 @@ public class CSQLParser implements CSQLParserConstants {
             n9 = new NodeChoice(n12, 1, 2);
           break;
         default:
-          jj_la1[139] = jj_gen;
+          jj_la1[147] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
           n8.addNode(n9);
         break;
       default:
-        jj_la1[140] = jj_gen;
+        jj_la1[148] = jj_gen;
         ;
       }
         n3.addNode(n8);
@@ -5727,7 +5971,7 @@ public class CSQLParser implements CSQLParserConstants {
           n17.addNode(n18);
         break;
       default:
-        jj_la1[141] = jj_gen;
+        jj_la1[149] = jj_gen;
         ;
       }
         n16.addNode(n17);
@@ -5745,7 +5989,7 @@ public class CSQLParser implements CSQLParserConstants {
             n19 = new NodeChoice(n22, 2, 3);
         break;
       default:
-        jj_la1[142] = jj_gen;
+        jj_la1[150] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -5753,7 +5997,7 @@ public class CSQLParser implements CSQLParserConstants {
         n2 = new NodeChoice(n16, 1, 2);
       break;
     default:
-      jj_la1[143] = jj_gen;
+      jj_la1[151] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -5920,7 +6164,7 @@ public class CSQLParser implements CSQLParserConstants {
           n4.addNode(n5);
         break;
       default:
-        jj_la1[144] = jj_gen;
+        jj_la1[152] = jj_gen;
         ;
       }
         n3.addNode(n4);
@@ -5938,7 +6182,7 @@ public class CSQLParser implements CSQLParserConstants {
         n2 = new NodeChoice(n9, 2, 3);
       break;
     default:
-      jj_la1[145] = jj_gen;
+      jj_la1[153] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -5966,7 +6210,7 @@ public class CSQLParser implements CSQLParserConstants {
       n2.addNode(n3);
       break;
     default:
-      jj_la1[146] = jj_gen;
+      jj_la1[154] = jj_gen;
       ;
     }
     n5 = Identifier(prn);
@@ -6000,7 +6244,7 @@ public class CSQLParser implements CSQLParserConstants {
         n0 = new NodeChoice(n3, 1, 2);
       break;
     default:
-      jj_la1[147] = jj_gen;
+      jj_la1[155] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -6011,7 +6255,7 @@ public class CSQLParser implements CSQLParserConstants {
       n5.addNode(n6);
       break;
     default:
-      jj_la1[148] = jj_gen;
+      jj_la1[156] = jj_gen;
       ;
     }
     n8 = AlterDefOperation(prn);
@@ -6041,7 +6285,7 @@ public class CSQLParser implements CSQLParserConstants {
         n1 = new NodeChoice(n4, 2, 3);
       break;
     default:
-      jj_la1[149] = jj_gen;
+      jj_la1[157] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -6120,7 +6364,7 @@ public class CSQLParser implements CSQLParserConstants {
           n7 = new NodeChoice(n20, 6, 8);
         break;
       default:
-        jj_la1[150] = jj_gen;
+        jj_la1[158] = jj_gen;
         if (jj_2_33(2)) {
           n22 = IntervalLiterals(prn);
           n7 = new NodeChoice(n22, 7, 8);
@@ -6133,7 +6377,7 @@ public class CSQLParser implements CSQLParserConstants {
       n3.addNode(n4);
       break;
     default:
-      jj_la1[151] = jj_gen;
+      jj_la1[159] = jj_gen;
       ;
     }
     {if (true) return new AlterDefOperationType(n0, n2, n3);}
@@ -6191,7 +6435,7 @@ public class CSQLParser implements CSQLParserConstants {
         n2 = new NodeChoice(n14, 3, 4);
       break;
     default:
-      jj_la1[152] = jj_gen;
+      jj_la1[160] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -6230,7 +6474,7 @@ public class CSQLParser implements CSQLParserConstants {
         n2 = new NodeChoice(n5, 1, 2);
       break;
     default:
-      jj_la1[153] = jj_gen;
+      jj_la1[161] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -6258,7 +6502,7 @@ public class CSQLParser implements CSQLParserConstants {
       n5.addNode(n6);
       break;
     default:
-      jj_la1[154] = jj_gen;
+      jj_la1[162] = jj_gen;
       ;
     }
     {if (true) return new Delete(n0, n2, n4, n5);}
@@ -6286,15 +6530,15 @@ public class CSQLParser implements CSQLParserConstants {
     n4 = jj_consume_token(SET_);
     n3 = JTBToolkit.makeNodeToken(n4);
     n5 = SetUpdateClause(prn);
-    label_14:
+    label_15:
     while (true) {
       switch (jj_nt.kind) {
       case 402:
         ;
         break;
       default:
-        jj_la1[155] = jj_gen;
-        break label_14;
+        jj_la1[163] = jj_gen;
+        break label_15;
       }
       n7 = new NodeSequence(2);
       n9 = jj_consume_token(402);
@@ -6311,7 +6555,7 @@ public class CSQLParser implements CSQLParserConstants {
       n11.addNode(n12);
       break;
     default:
-      jj_la1[156] = jj_gen;
+      jj_la1[164] = jj_gen;
       ;
     }
     {if (true) return new UpdateTable(n0, n2, n3, n5, n6, n11);}
@@ -6386,7 +6630,7 @@ public class CSQLParser implements CSQLParserConstants {
       n2.addNode(n3);
       break;
     default:
-      jj_la1[157] = jj_gen;
+      jj_la1[165] = jj_gen;
       ;
     }
     n6 = jj_consume_token(INDEX_);
@@ -6406,7 +6650,7 @@ public class CSQLParser implements CSQLParserConstants {
       n11.addNode(n12);
       break;
     default:
-      jj_la1[158] = jj_gen;
+      jj_la1[166] = jj_gen;
       ;
     }
     n17 = jj_consume_token(PARENTHESIS_START_);
@@ -6420,7 +6664,7 @@ public class CSQLParser implements CSQLParserConstants {
       n21.addNode(n22);
       break;
     default:
-      jj_la1[159] = jj_gen;
+      jj_la1[167] = jj_gen;
       ;
     }
     switch (jj_nt.kind) {
@@ -6429,7 +6673,7 @@ public class CSQLParser implements CSQLParserConstants {
       n23.addNode(n24);
       break;
     default:
-      jj_la1[160] = jj_gen;
+      jj_la1[168] = jj_gen;
       ;
     }
     {if (true) return new createIndex(n0, n2, n5, n7, n8, n10, n11, n16, n18, n19, n21, n23);}
@@ -6623,7 +6867,7 @@ public class CSQLParser implements CSQLParserConstants {
         n0 = new NodeChoice(n2, 1, 2);
       break;
     default:
-      jj_la1[161] = jj_gen;
+      jj_la1[169] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -6911,25 +7155,25 @@ public class CSQLParser implements CSQLParserConstants {
         n9 = new NodeChoice(n14, 2, 3);
         break;
       default:
-        jj_la1[162] = jj_gen;
+        jj_la1[170] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
       n8.addNode(n9);
       break;
     default:
-      jj_la1[163] = jj_gen;
+      jj_la1[171] = jj_gen;
       ;
     }
-    label_15:
+    label_16:
     while (true) {
       switch (jj_nt.kind) {
       case 402:
         ;
         break;
       default:
-        jj_la1[164] = jj_gen;
-        break label_15;
+        jj_la1[172] = jj_gen;
+        break label_16;
       }
       n27 = new NodeOptional();
       n16 = new NodeSequence(3);
@@ -7086,7 +7330,7 @@ public class CSQLParser implements CSQLParserConstants {
           n19 = new NodeChoice(n21, 1, 2);
         break;
       default:
-        jj_la1[165] = jj_gen;
+        jj_la1[173] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -7375,14 +7619,14 @@ public class CSQLParser implements CSQLParserConstants {
           n28 = new NodeChoice(n33, 2, 3);
           break;
         default:
-          jj_la1[166] = jj_gen;
+          jj_la1[174] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
         n27.addNode(n28);
         break;
       default:
-        jj_la1[167] = jj_gen;
+        jj_la1[175] = jj_gen;
         ;
       }
       n16.addNode(n27);
@@ -7478,14 +7722,14 @@ public class CSQLParser implements CSQLParserConstants {
           n5 = new NodeChoice(n8, 1, 2);
           break;
         default:
-          jj_la1[168] = jj_gen;
+          jj_la1[176] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
         n4.addNode(n5);
         break;
       default:
-        jj_la1[169] = jj_gen;
+        jj_la1[177] = jj_gen;
         ;
       }
       n3.addNode(n4);
@@ -7501,7 +7745,7 @@ public class CSQLParser implements CSQLParserConstants {
           n10 = new NodeChoice(n13, 1, 2);
         break;
       default:
-        jj_la1[170] = jj_gen;
+        jj_la1[178] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -7509,7 +7753,7 @@ public class CSQLParser implements CSQLParserConstants {
       n2.addNode(n3);
       break;
     default:
-      jj_la1[171] = jj_gen;
+      jj_la1[179] = jj_gen;
       ;
     }
     n16 = jj_consume_token(TABLE_);
@@ -7522,15 +7766,15 @@ public class CSQLParser implements CSQLParserConstants {
         n19.addNode(n20);
       n22 = CreateDefinition(prn);
         n19.addNode(n22);
-      label_16:
+      label_17:
       while (true) {
         switch (jj_nt.kind) {
         case 402:
           ;
           break;
         default:
-          jj_la1[172] = jj_gen;
-          break label_16;
+          jj_la1[180] = jj_gen;
+          break label_17;
         }
           n24 = new NodeSequence(2);
         n26 = jj_consume_token(402);
@@ -7555,7 +7799,7 @@ public class CSQLParser implements CSQLParserConstants {
           n30.addNode(n31);
         break;
       default:
-        jj_la1[173] = jj_gen;
+        jj_la1[181] = jj_gen;
         ;
       }
         n19.addNode(n30);
@@ -7565,7 +7809,7 @@ public class CSQLParser implements CSQLParserConstants {
           n32.addNode(n33);
         break;
       default:
-        jj_la1[174] = jj_gen;
+        jj_la1[182] = jj_gen;
         ;
       }
         n19.addNode(n32);
@@ -7576,7 +7820,7 @@ public class CSQLParser implements CSQLParserConstants {
           n34.addNode(n35);
         break;
       default:
-        jj_la1[175] = jj_gen;
+        jj_la1[183] = jj_gen;
         ;
       }
         n19.addNode(n34);
@@ -7586,7 +7830,7 @@ public class CSQLParser implements CSQLParserConstants {
           n36.addNode(n37);
         break;
       default:
-        jj_la1[176] = jj_gen;
+        jj_la1[184] = jj_gen;
         ;
       }
         n19.addNode(n36);
@@ -7596,7 +7840,7 @@ public class CSQLParser implements CSQLParserConstants {
           n38.addNode(n39);
         break;
       default:
-        jj_la1[177] = jj_gen;
+        jj_la1[185] = jj_gen;
         ;
       }
         n19.addNode(n38);
@@ -7617,7 +7861,7 @@ public class CSQLParser implements CSQLParserConstants {
           n41.addNode(n42);
         break;
       default:
-        jj_la1[178] = jj_gen;
+        jj_la1[186] = jj_gen;
         ;
       }
         n40.addNode(n41);
@@ -7631,7 +7875,7 @@ public class CSQLParser implements CSQLParserConstants {
           n48.addNode(n49);
         break;
       default:
-        jj_la1[179] = jj_gen;
+        jj_la1[187] = jj_gen;
         ;
       }
         n40.addNode(n48);
@@ -7642,7 +7886,7 @@ public class CSQLParser implements CSQLParserConstants {
           n50.addNode(n51);
         break;
       default:
-        jj_la1[180] = jj_gen;
+        jj_la1[188] = jj_gen;
         ;
       }
         n40.addNode(n50);
@@ -7652,7 +7896,7 @@ public class CSQLParser implements CSQLParserConstants {
           n52.addNode(n53);
         break;
       default:
-        jj_la1[181] = jj_gen;
+        jj_la1[189] = jj_gen;
         ;
       }
         n40.addNode(n52);
@@ -7662,7 +7906,7 @@ public class CSQLParser implements CSQLParserConstants {
           n54.addNode(n55);
         break;
       default:
-        jj_la1[182] = jj_gen;
+        jj_la1[190] = jj_gen;
         ;
       }
         n40.addNode(n54);
@@ -7710,7 +7954,7 @@ public class CSQLParser implements CSQLParserConstants {
         n2 = new NodeChoice(n7, 2, 3);
       break;
     default:
-      jj_la1[183] = jj_gen;
+      jj_la1[191] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -7737,7 +7981,7 @@ public class CSQLParser implements CSQLParserConstants {
       n0 = new NodeChoice(n3, 1, 2);
       break;
     default:
-      jj_la1[184] = jj_gen;
+      jj_la1[192] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -7776,15 +8020,15 @@ public class CSQLParser implements CSQLParserConstants {
     n3 = jj_consume_token(PARENTHESIS_START_);
     n2 = JTBToolkit.makeNodeToken(n3);
     n4 = TableName(prn);
-    label_17:
+    label_18:
     while (true) {
       switch (jj_nt.kind) {
       case 402:
         ;
         break;
       default:
-        jj_la1[185] = jj_gen;
-        break label_17;
+        jj_la1[193] = jj_gen;
+        break label_18;
       }
       n6 = new NodeSequence(2);
       n8 = jj_consume_token(402);
@@ -7828,7 +8072,7 @@ public class CSQLParser implements CSQLParserConstants {
         n0 = new NodeChoice(n3, 1, 2);
       break;
     default:
-      jj_la1[186] = jj_gen;
+      jj_la1[194] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -7841,7 +8085,7 @@ public class CSQLParser implements CSQLParserConstants {
       n8.addNode(n9);
       break;
     default:
-      jj_la1[187] = jj_gen;
+      jj_la1[195] = jj_gen;
       ;
     }
     n11 = jj_consume_token(AS_);
@@ -7900,15 +8144,15 @@ public class CSQLParser implements CSQLParserConstants {
     n3 = jj_consume_token(TABLE_);
     n2 = JTBToolkit.makeNodeToken(n3);
     n4 = TableName(prn);
-    label_18:
+    label_19:
     while (true) {
       switch (jj_nt.kind) {
       case 402:
         ;
         break;
       default:
-        jj_la1[188] = jj_gen;
-        break label_18;
+        jj_la1[196] = jj_gen;
+        break label_19;
       }
       n6 = new NodeSequence(2);
       n8 = jj_consume_token(402);
@@ -7957,7 +8201,7 @@ public class CSQLParser implements CSQLParserConstants {
       n2.addNode(n3);
       break;
     default:
-      jj_la1[189] = jj_gen;
+      jj_la1[197] = jj_gen;
       ;
     }
     n5 = TableName(prn);
@@ -7997,7 +8241,7 @@ public class CSQLParser implements CSQLParserConstants {
         n13 = new NodeChoice(n22, 1, 2);
       break;
     default:
-      jj_la1[190] = jj_gen;
+      jj_la1[198] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -8204,7 +8448,7 @@ public class CSQLParser implements CSQLParserConstants {
         n3.addNode(n4);
         break;
       default:
-        jj_la1[191] = jj_gen;
+        jj_la1[199] = jj_gen;
         ;
       }
       n2.addNode(n3);
@@ -8222,7 +8466,7 @@ public class CSQLParser implements CSQLParserConstants {
           n5 = new NodeChoice(n8, 2, 3);
         break;
       default:
-        jj_la1[192] = jj_gen;
+        jj_la1[200] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -8230,7 +8474,7 @@ public class CSQLParser implements CSQLParserConstants {
       n0 = new NodeChoice(n2, 1, 2);
       break;
     default:
-      jj_la1[193] = jj_gen;
+      jj_la1[201] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -8281,14 +8525,14 @@ public class CSQLParser implements CSQLParserConstants {
         n3 = new NodeChoice(n9, 1, 2);
         break;
       default:
-        jj_la1[194] = jj_gen;
+        jj_la1[202] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
       n2.addNode(n3);
       break;
     default:
-      jj_la1[195] = jj_gen;
+      jj_la1[203] = jj_gen;
       ;
     }
     switch (jj_nt.kind) {
@@ -8297,7 +8541,7 @@ public class CSQLParser implements CSQLParserConstants {
       n11.addNode(n12);
       break;
     default:
-      jj_la1[196] = jj_gen;
+      jj_la1[204] = jj_gen;
       ;
     }
     switch (jj_nt.kind) {
@@ -8307,7 +8551,7 @@ public class CSQLParser implements CSQLParserConstants {
       n13.addNode(n14);
       break;
     default:
-      jj_la1[197] = jj_gen;
+      jj_la1[205] = jj_gen;
       ;
     }
     switch (jj_nt.kind) {
@@ -8316,7 +8560,7 @@ public class CSQLParser implements CSQLParserConstants {
       n16.addNode(n17);
       break;
     default:
-      jj_la1[198] = jj_gen;
+      jj_la1[206] = jj_gen;
       ;
     }
     {if (true) return new ColumnDeclare(n0, n1, n2, n11, n13, n16);}
@@ -8554,7 +8798,7 @@ public class CSQLParser implements CSQLParserConstants {
         n4.addNode(n5);
         break;
       default:
-        jj_la1[199] = jj_gen;
+        jj_la1[207] = jj_gen;
         ;
       }
       n1.addNode(n4);
@@ -8597,7 +8841,7 @@ public class CSQLParser implements CSQLParserConstants {
           n19 = new NodeChoice(n22, 1, 2);
         break;
       default:
-        jj_la1[200] = jj_gen;
+        jj_la1[208] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -8620,7 +8864,7 @@ public class CSQLParser implements CSQLParserConstants {
       n0 = new NodeChoice(n26, 4, 5);
       break;
     default:
-      jj_la1[201] = jj_gen;
+      jj_la1[209] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -8661,7 +8905,7 @@ public class CSQLParser implements CSQLParserConstants {
           n4 = new NodeChoice(n7, 1, 2);
         break;
       default:
-        jj_la1[202] = jj_gen;
+        jj_la1[210] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -8671,7 +8915,7 @@ public class CSQLParser implements CSQLParserConstants {
       n0 = new NodeChoice(n3, 1, 2);
       break;
     default:
-      jj_la1[203] = jj_gen;
+      jj_la1[211] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -8691,7 +8935,7 @@ public class CSQLParser implements CSQLParserConstants {
   Token n7 = null;
     n1 = jj_consume_token(INT_LITERAL);
     n0 = JTBToolkit.makeNodeToken(n1);
-    label_19:
+    label_20:
     while (true) {
       n3 = new NodeSequence(2);
       n5 = jj_consume_token(402);
@@ -8704,7 +8948,7 @@ public class CSQLParser implements CSQLParserConstants {
       if (jj_2_38(2)) {
         ;
       } else {
-        break label_19;
+        break label_20;
       }
     }
     n2.nodes.trimToSize();
@@ -8760,7 +9004,7 @@ public class CSQLParser implements CSQLParserConstants {
       n0 = new NodeChoice(n2, 1, 31);
       break;
     default:
-      jj_la1[204] = jj_gen;
+      jj_la1[212] = jj_gen;
       if (jj_2_39(2)) {
         n3 = RealDataType();
       n0 = new NodeChoice(n3, 2, 31);
@@ -8776,7 +9020,7 @@ public class CSQLParser implements CSQLParserConstants {
       n0 = new NodeChoice(n5, 4, 31);
           break;
         default:
-          jj_la1[205] = jj_gen;
+          jj_la1[213] = jj_gen;
           if (jj_2_40(2)) {
             n6 = DecimalDataType();
       n0 = new NodeChoice(n6, 5, 31);
@@ -8908,7 +9152,7 @@ public class CSQLParser implements CSQLParserConstants {
       n0 = new NodeChoice(n31, 30, 31);
               break;
             default:
-              jj_la1[206] = jj_gen;
+              jj_la1[214] = jj_gen;
               jj_consume_token(-1);
               throw new ParseException();
             }
@@ -8985,7 +9229,7 @@ public class CSQLParser implements CSQLParserConstants {
       n0 = new NodeChoice(n15, 7, 8);
       break;
     default:
-      jj_la1[207] = jj_gen;
+      jj_la1[215] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -9079,7 +9323,7 @@ public class CSQLParser implements CSQLParserConstants {
       n0 = new NodeChoice(n13, 6, 7);
       break;
     default:
-      jj_la1[208] = jj_gen;
+      jj_la1[216] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -9148,7 +9392,7 @@ public class CSQLParser implements CSQLParserConstants {
       n0 = new NodeChoice(n15, 7, 8);
       break;
     default:
-      jj_la1[209] = jj_gen;
+      jj_la1[217] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -9170,7 +9414,7 @@ public class CSQLParser implements CSQLParserConstants {
       n2.addNode(n3);
       break;
     default:
-      jj_la1[210] = jj_gen;
+      jj_la1[218] = jj_gen;
       ;
     }
     {if (true) return new BitDataType(n0, n2);}
@@ -9191,7 +9435,7 @@ public class CSQLParser implements CSQLParserConstants {
       n2.addNode(n3);
       break;
     default:
-      jj_la1[211] = jj_gen;
+      jj_la1[219] = jj_gen;
       ;
     }
     {if (true) return new VarBitDataType(n0, n2);}
@@ -9319,7 +9563,7 @@ public class CSQLParser implements CSQLParserConstants {
           n2 = new NodeChoice(n5, 1, 2);
         break;
       default:
-        jj_la1[212] = jj_gen;
+        jj_la1[220] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -9331,7 +9575,7 @@ public class CSQLParser implements CSQLParserConstants {
         n7.addNode(n8);
         break;
       default:
-        jj_la1[213] = jj_gen;
+        jj_la1[221] = jj_gen;
         ;
       }
       n1.addNode(n7);
@@ -9345,7 +9589,7 @@ public class CSQLParser implements CSQLParserConstants {
       n0 = new NodeChoice(n11, 1, 2);
       break;
     default:
-      jj_la1[214] = jj_gen;
+      jj_la1[222] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -9383,7 +9627,7 @@ public class CSQLParser implements CSQLParserConstants {
         n0 = new NodeChoice(n5, 2, 3);
       break;
     default:
-      jj_la1[215] = jj_gen;
+      jj_la1[223] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -9394,7 +9638,7 @@ public class CSQLParser implements CSQLParserConstants {
       n7.addNode(n8);
       break;
     default:
-      jj_la1[216] = jj_gen;
+      jj_la1[224] = jj_gen;
       ;
     }
     n10 = UnsignedZeroFillSpecs();
@@ -9449,7 +9693,7 @@ public class CSQLParser implements CSQLParserConstants {
         n0 = new NodeChoice(n5, 2, 3);
       break;
     default:
-      jj_la1[217] = jj_gen;
+      jj_la1[225] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -9488,7 +9732,7 @@ public class CSQLParser implements CSQLParserConstants {
         n0 = new NodeChoice(n5, 2, 3);
       break;
     default:
-      jj_la1[218] = jj_gen;
+      jj_la1[226] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -9499,7 +9743,7 @@ public class CSQLParser implements CSQLParserConstants {
       n7.addNode(n8);
       break;
     default:
-      jj_la1[219] = jj_gen;
+      jj_la1[227] = jj_gen;
       ;
     }
     n10 = UnsignedZeroFillSpecs();
@@ -9522,7 +9766,7 @@ public class CSQLParser implements CSQLParserConstants {
       n2.addNode(n3);
       break;
     default:
-      jj_la1[220] = jj_gen;
+      jj_la1[228] = jj_gen;
       ;
     }
     n4 = UnsignedZeroFillSpecs();
@@ -9560,7 +9804,7 @@ public class CSQLParser implements CSQLParserConstants {
         n4.addNode(n5);
         break;
       default:
-        jj_la1[221] = jj_gen;
+        jj_la1[229] = jj_gen;
         ;
       }
       n1.addNode(n4);
@@ -9577,7 +9821,7 @@ public class CSQLParser implements CSQLParserConstants {
             n7 = new NodeChoice(n10, 1, 2);
           break;
         default:
-          jj_la1[222] = jj_gen;
+          jj_la1[230] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -9599,7 +9843,7 @@ public class CSQLParser implements CSQLParserConstants {
       n0 = new NodeChoice(n14, 2, 3);
       break;
     default:
-      jj_la1[223] = jj_gen;
+      jj_la1[231] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -9627,7 +9871,7 @@ public class CSQLParser implements CSQLParserConstants {
       n2.addNode(n3);
       break;
     default:
-      jj_la1[224] = jj_gen;
+      jj_la1[232] = jj_gen;
       ;
     }
     if (jj_2_43(2)) {
@@ -9643,7 +9887,7 @@ public class CSQLParser implements CSQLParserConstants {
           n5 = new NodeChoice(n8, 1, 2);
         break;
       default:
-        jj_la1[225] = jj_gen;
+        jj_la1[233] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -9694,7 +9938,7 @@ public class CSQLParser implements CSQLParserConstants {
           n2 = new NodeChoice(n5, 1, 2);
         break;
       default:
-        jj_la1[226] = jj_gen;
+        jj_la1[234] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -9705,7 +9949,7 @@ public class CSQLParser implements CSQLParserConstants {
         n7.addNode(n8);
         break;
       default:
-        jj_la1[227] = jj_gen;
+        jj_la1[235] = jj_gen;
         ;
       }
       n1.addNode(n7);
@@ -9717,7 +9961,7 @@ public class CSQLParser implements CSQLParserConstants {
       n0 = new NodeChoice(n9, 1, 2);
       break;
     default:
-      jj_la1[228] = jj_gen;
+      jj_la1[236] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -9757,7 +10001,7 @@ public class CSQLParser implements CSQLParserConstants {
           n2 = new NodeChoice(n5, 1, 2);
         break;
       default:
-        jj_la1[229] = jj_gen;
+        jj_la1[237] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -9768,7 +10012,7 @@ public class CSQLParser implements CSQLParserConstants {
         n7.addNode(n8);
         break;
       default:
-        jj_la1[230] = jj_gen;
+        jj_la1[238] = jj_gen;
         ;
       }
       n1.addNode(n7);
@@ -9793,7 +10037,7 @@ public class CSQLParser implements CSQLParserConstants {
       n0 = new NodeChoice(n14, 3, 4);
         break;
       default:
-        jj_la1[231] = jj_gen;
+        jj_la1[239] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -9824,7 +10068,7 @@ public class CSQLParser implements CSQLParserConstants {
         n0 = new NodeChoice(n3, 1, 2);
       break;
     default:
-      jj_la1[232] = jj_gen;
+      jj_la1[240] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -9834,7 +10078,7 @@ public class CSQLParser implements CSQLParserConstants {
       n5.addNode(n6);
       break;
     default:
-      jj_la1[233] = jj_gen;
+      jj_la1[241] = jj_gen;
       ;
     }
     n7 = UnsignedZeroFillSpecs();
@@ -9897,7 +10141,7 @@ public class CSQLParser implements CSQLParserConstants {
             n6 = new NodeChoice(n9, 1, 2);
         break;
       default:
-        jj_la1[234] = jj_gen;
+        jj_la1[242] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -9905,7 +10149,7 @@ public class CSQLParser implements CSQLParserConstants {
         n0 = new NodeChoice(n3, 1, 2);
       break;
     default:
-      jj_la1[235] = jj_gen;
+      jj_la1[243] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -9922,7 +10166,7 @@ public class CSQLParser implements CSQLParserConstants {
       n14.addNode(n15);
       break;
     default:
-      jj_la1[236] = jj_gen;
+      jj_la1[244] = jj_gen;
       ;
     }
     {if (true) return new NationalCharDataType(n0, n11, n14);}
@@ -9948,7 +10192,7 @@ public class CSQLParser implements CSQLParserConstants {
       n0 = new NodeChoice(n3, 1, 2);
       break;
     default:
-      jj_la1[237] = jj_gen;
+      jj_la1[245] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -9980,7 +10224,7 @@ public class CSQLParser implements CSQLParserConstants {
         n0 = new NodeChoice(n3, 1, 2);
       break;
     default:
-      jj_la1[238] = jj_gen;
+      jj_la1[246] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -9997,7 +10241,7 @@ public class CSQLParser implements CSQLParserConstants {
       n8.addNode(n9);
       break;
     default:
-      jj_la1[239] = jj_gen;
+      jj_la1[247] = jj_gen;
       ;
     }
     {if (true) return new CharachterDataType(n0, n5, n8);}
@@ -10037,7 +10281,7 @@ public class CSQLParser implements CSQLParserConstants {
       n0.addNode(n1);
       break;
     default:
-      jj_la1[240] = jj_gen;
+      jj_la1[248] = jj_gen;
       ;
     }
     switch (jj_nt.kind) {
@@ -10047,7 +10291,7 @@ public class CSQLParser implements CSQLParserConstants {
       n3.addNode(n4);
       break;
     default:
-      jj_la1[241] = jj_gen;
+      jj_la1[249] = jj_gen;
       ;
     }
     {if (true) return new UnsignedZeroFillSpecs(n0, n3);}
@@ -10084,7 +10328,7 @@ public class CSQLParser implements CSQLParserConstants {
       n4.addNode(n5);
       break;
     default:
-      jj_la1[242] = jj_gen;
+      jj_la1[250] = jj_gen;
       ;
     }
     n11 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -10177,7 +10421,7 @@ public class CSQLParser implements CSQLParserConstants {
       n24.addNode(n25);
       break;
     default:
-      jj_la1[243] = jj_gen;
+      jj_la1[251] = jj_gen;
       ;
     }
     n30 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -10210,7 +10454,7 @@ public class CSQLParser implements CSQLParserConstants {
       n1.addNode(n2);
       break;
     default:
-      jj_la1[244] = jj_gen;
+      jj_la1[252] = jj_gen;
       ;
     }
     switch (jj_nt.kind) {
@@ -10219,7 +10463,7 @@ public class CSQLParser implements CSQLParserConstants {
       n3.addNode(n4);
       break;
     default:
-      jj_la1[245] = jj_gen;
+      jj_la1[253] = jj_gen;
       ;
     }
     switch (jj_nt.kind) {
@@ -10228,7 +10472,7 @@ public class CSQLParser implements CSQLParserConstants {
       n5.addNode(n6);
       break;
     default:
-      jj_la1[246] = jj_gen;
+      jj_la1[254] = jj_gen;
       ;
     }
     {if (true) return new Select(n0, n1, n3, n5);}
@@ -10257,15 +10501,15 @@ public class CSQLParser implements CSQLParserConstants {
   SelectWithoutOrderAndSet n9 = null;
   UnionSpec n10 = null;
     n0 = SelectWithoutOrderAndSetWithParenthesis(prn);
-    label_20:
+    label_21:
     while (true) {
       switch (jj_nt.kind) {
       case UNION_:
         ;
         break;
       default:
-        jj_la1[247] = jj_gen;
-        break label_20;
+        jj_la1[255] = jj_gen;
+        break label_21;
       }
       n5 = new NodeOptional();
       n2 = new NodeSequence(3);
@@ -10279,7 +10523,7 @@ public class CSQLParser implements CSQLParserConstants {
         n5.addNode(n6);
         break;
       default:
-        jj_la1[248] = jj_gen;
+        jj_la1[256] = jj_gen;
         ;
       }
       n2.addNode(n5);
@@ -10293,7 +10537,7 @@ public class CSQLParser implements CSQLParserConstants {
           n8 = new NodeChoice(n10, 1, 2);
         break;
       default:
-        jj_la1[249] = jj_gen;
+        jj_la1[257] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -10333,7 +10577,7 @@ public class CSQLParser implements CSQLParserConstants {
       n0 = new NodeChoice(n2, 1, 2);
       break;
     default:
-      jj_la1[250] = jj_gen;
+      jj_la1[258] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -10369,15 +10613,15 @@ Expansion For With List
   Token n4 = null;
   WithDef n5 = null;
     n0 = WithDef(prn);
-    label_21:
+    label_22:
     while (true) {
       switch (jj_nt.kind) {
       case 402:
         ;
         break;
       default:
-        jj_la1[251] = jj_gen;
-        break label_21;
+        jj_la1[259] = jj_gen;
+        break label_22;
       }
       n2 = new NodeSequence(2);
       n4 = jj_consume_token(402);
@@ -10411,7 +10655,7 @@ Expansion For With List
       n1.addNode(n2);
       break;
     default:
-      jj_la1[252] = jj_gen;
+      jj_la1[260] = jj_gen;
       ;
     }
     n4 = jj_consume_token(AS_);
@@ -10485,14 +10729,14 @@ Expansion For With List
         n3 = new NodeChoice(n8, 2, 3);
         break;
       default:
-        jj_la1[253] = jj_gen;
+        jj_la1[261] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
       n2.addNode(n3);
       break;
     default:
-      jj_la1[254] = jj_gen;
+      jj_la1[262] = jj_gen;
       ;
     }
     n10 = SelectList(prn);
@@ -10502,7 +10746,7 @@ Expansion For With List
       n11.addNode(n12);
       break;
     default:
-      jj_la1[255] = jj_gen;
+      jj_la1[263] = jj_gen;
       ;
     }
     switch (jj_nt.kind) {
@@ -10511,7 +10755,7 @@ Expansion For With List
       n13.addNode(n14);
       break;
     default:
-      jj_la1[256] = jj_gen;
+      jj_la1[264] = jj_gen;
       ;
     }
     switch (jj_nt.kind) {
@@ -10520,7 +10764,7 @@ Expansion For With List
       n15.addNode(n16);
       break;
     default:
-      jj_la1[257] = jj_gen;
+      jj_la1[265] = jj_gen;
       ;
     }
     switch (jj_nt.kind) {
@@ -10529,7 +10773,7 @@ Expansion For With List
       n17.addNode(n18);
       break;
     default:
-      jj_la1[258] = jj_gen;
+      jj_la1[266] = jj_gen;
       ;
     }
     switch (jj_nt.kind) {
@@ -10538,7 +10782,7 @@ Expansion For With List
       n19.addNode(n20);
       break;
     default:
-      jj_la1[259] = jj_gen;
+      jj_la1[267] = jj_gen;
       ;
     }
     {if (true) return new SelectWithoutOrderAndSet(n0, n2, n10, n11, n13, n15, n17, n19);}
@@ -10557,15 +10801,15 @@ Expansion For Select List Starts
   Token n4 = null;
   SelectTupleSpec n5 = null;
     n0 = SelectTupleSpec(prn);
-    label_22:
+    label_23:
     while (true) {
       switch (jj_nt.kind) {
       case 402:
         ;
         break;
       default:
-        jj_la1[260] = jj_gen;
-        break label_22;
+        jj_la1[268] = jj_gen;
+        break label_23;
       }
       n2 = new NodeSequence(2);
       n4 = jj_consume_token(402);
@@ -10602,7 +10846,7 @@ Expansion For Select List Starts
         n0 = new NodeChoice(n1, 0, 3);
       break;
     default:
-      jj_la1[261] = jj_gen;
+      jj_la1[269] = jj_gen;
       if (jj_2_49(2147483647)) {
         n3 = new NodeSequence(3);
         n4 = TableName(prn);
@@ -10795,7 +11039,7 @@ Expansion For Select List Starts
         n0 = new NodeChoice(n9, 2, 3);
           break;
         default:
-          jj_la1[262] = jj_gen;
+          jj_la1[270] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -10815,12 +11059,12 @@ Expansion For Select List Starts
   NodeListOptional n1 = new NodeListOptional();
   SQLPrecedenceLevel1Operand n2 = null;
     n0 = SQLPrecedenceLevel1Expression(prn);
-    label_23:
+    label_24:
     while (true) {
       if (jj_2_50(2)) {
         ;
       } else {
-        break label_23;
+        break label_24;
       }
       n2 = SQLPrecedenceLevel1Operand(prn);
       n1.addNode(n2);
@@ -10836,12 +11080,12 @@ Expansion For Select List Starts
   NodeListOptional n1 = new NodeListOptional();
   SQLPrecedenceLevel2Operand n2 = null;
     n0 = SQLPrecedenceLevel2Expression(prn);
-    label_24:
+    label_25:
     while (true) {
       if (jj_2_51(2)) {
         ;
       } else {
-        break label_24;
+        break label_25;
       }
       n2 = SQLPrecedenceLevel2Operand(prn);
       n1.addNode(n2);
@@ -10990,7 +11234,7 @@ Expansion For Select List Starts
         n0 = new NodeChoice(n37, 18, 19);
       break;
     default:
-      jj_la1[263] = jj_gen;
+      jj_la1[271] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -11005,12 +11249,12 @@ Expansion For Select List Starts
   NodeListOptional n1 = new NodeListOptional();
   SQLPrecedenceLevel3Operand n2 = null;
     n0 = SQLPrecedenceLevel3Expression(prn);
-    label_25:
+    label_26:
     while (true) {
       if (jj_2_52(2)) {
         ;
       } else {
-        break label_25;
+        break label_26;
       }
       n2 = SQLPrecedenceLevel3Operand(prn);
       n1.addNode(n2);
@@ -11047,7 +11291,7 @@ Expansion For Select List Starts
         n0 = new NodeChoice(n5, 2, 3);
       break;
     default:
-      jj_la1[264] = jj_gen;
+      jj_la1[272] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -11126,7 +11370,7 @@ Expansion For Select List Starts
         n0 = new NodeChoice(n15, 7, 8);
       break;
     default:
-      jj_la1[265] = jj_gen;
+      jj_la1[273] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -11222,14 +11466,14 @@ Expansion For Select List Starts
         n1 = new NodeChoice(n10, 4, 5);
         break;
       default:
-        jj_la1[266] = jj_gen;
+        jj_la1[274] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
       n0.addNode(n1);
       break;
     default:
-      jj_la1[267] = jj_gen;
+      jj_la1[275] = jj_gen;
       ;
     }
     switch (jj_nt.kind) {
@@ -11247,14 +11491,14 @@ Expansion For Select List Starts
         n13 = new NodeChoice(n16, 1, 2);
         break;
       default:
-        jj_la1[268] = jj_gen;
+        jj_la1[276] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
       n12.addNode(n13);
       break;
     default:
-      jj_la1[269] = jj_gen;
+      jj_la1[277] = jj_gen;
       ;
     }
     if (jj_2_53(2)) {
@@ -11275,7 +11519,7 @@ Expansion For Select List Starts
         n18 = new NodeChoice(n22, 3, 20);
         break;
       default:
-        jj_la1[270] = jj_gen;
+        jj_la1[278] = jj_gen;
         if (jj_2_56(2)) {
         n23 = new NodeSequence(3);
           n25 = jj_consume_token(PARENTHESIS_START_);
@@ -11303,7 +11547,7 @@ Expansion For Select List Starts
         n18 = new NodeChoice(n31, 7, 20);
             break;
           default:
-            jj_la1[271] = jj_gen;
+            jj_la1[279] = jj_gen;
             if (jj_2_57(2)) {
               n32 = IntervalLiterals(prn);
         n18 = new NodeChoice(n32, 8, 20);
@@ -11352,7 +11596,7 @@ Expansion For Select List Starts
         n18 = new NodeChoice(n43, 19, 20);
                 break;
               default:
-                jj_la1[272] = jj_gen;
+                jj_la1[280] = jj_gen;
                 jj_consume_token(-1);
                 throw new ParseException();
               }
@@ -11368,7 +11612,7 @@ Expansion For Select List Starts
       n44.addNode(n45);
       break;
     default:
-      jj_la1[273] = jj_gen;
+      jj_la1[281] = jj_gen;
       ;
     }
     switch (jj_nt.kind) {
@@ -11382,7 +11626,7 @@ Expansion For Select List Starts
       n47.addNode(n48);
       break;
     default:
-      jj_la1[274] = jj_gen;
+      jj_la1[282] = jj_gen;
       ;
     }
     {if (true) return new SQLPrimaryExpression(n0, n12, n18, n44, n47);}
@@ -11407,7 +11651,7 @@ Expansion For Select List Starts
       n2.addNode(n3);
       break;
     default:
-      jj_la1[275] = jj_gen;
+      jj_la1[283] = jj_gen;
       ;
     }
     n6 = jj_consume_token(NULL_);
@@ -11434,7 +11678,7 @@ Expansion For Select List Starts
       n2.addNode(n3);
       break;
     default:
-      jj_la1[276] = jj_gen;
+      jj_la1[284] = jj_gen;
       ;
     }
     n6 = jj_consume_token(BINARY_LITERAL);
@@ -11532,7 +11776,7 @@ Expansion For Select List Starts
       n0 = new NodeChoice(n3, 1, 2);
       break;
     default:
-      jj_la1[277] = jj_gen;
+      jj_la1[285] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -11678,14 +11922,14 @@ void RegClassLiteral(PrintStream prn):
         n5 = new NodeChoice(n8, 1, 2);
         break;
       default:
-        jj_la1[278] = jj_gen;
+        jj_la1[286] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
       n4.addNode(n5);
       break;
     default:
-      jj_la1[279] = jj_gen;
+      jj_la1[287] = jj_gen;
       ;
     }
     n10 = SelectList(prn);
@@ -11695,7 +11939,7 @@ void RegClassLiteral(PrintStream prn):
       n11.addNode(n12);
       break;
     default:
-      jj_la1[280] = jj_gen;
+      jj_la1[288] = jj_gen;
       ;
     }
     switch (jj_nt.kind) {
@@ -11704,7 +11948,7 @@ void RegClassLiteral(PrintStream prn):
       n13.addNode(n14);
       break;
     default:
-      jj_la1[281] = jj_gen;
+      jj_la1[289] = jj_gen;
       ;
     }
     switch (jj_nt.kind) {
@@ -11713,7 +11957,7 @@ void RegClassLiteral(PrintStream prn):
       n15.addNode(n16);
       break;
     default:
-      jj_la1[282] = jj_gen;
+      jj_la1[290] = jj_gen;
       ;
     }
     switch (jj_nt.kind) {
@@ -11722,7 +11966,7 @@ void RegClassLiteral(PrintStream prn):
       n17.addNode(n18);
       break;
     default:
-      jj_la1[283] = jj_gen;
+      jj_la1[291] = jj_gen;
       ;
     }
     n20 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -11740,15 +11984,15 @@ void RegClassLiteral(PrintStream prn):
   Token n4 = null;
   SQLArgument n5 = null;
     n0 = SQLArgument(prn);
-    label_26:
+    label_27:
     while (true) {
       switch (jj_nt.kind) {
       case 402:
         ;
         break;
       default:
-        jj_la1[284] = jj_gen;
-        break label_26;
+        jj_la1[292] = jj_gen;
+        break label_27;
       }
       n2 = new NodeSequence(2);
       n4 = jj_consume_token(402);
@@ -12109,7 +12353,7 @@ void RegClassLiteral(PrintStream prn):
       n3.addNode(n4);
       break;
     default:
-      jj_la1[285] = jj_gen;
+      jj_la1[293] = jj_gen;
       ;
     }
     n6 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -12188,7 +12432,7 @@ void RegClassLiteral(PrintStream prn):
       n2.addNode(n3);
       break;
     default:
-      jj_la1[286] = jj_gen;
+      jj_la1[294] = jj_gen;
       ;
     }
     {if (true) return new Func_ClockTimeStamp(n0, n2);}
@@ -12219,7 +12463,7 @@ void RegClassLiteral(PrintStream prn):
       n2.addNode(n3);
       break;
     default:
-      jj_la1[287] = jj_gen;
+      jj_la1[295] = jj_gen;
       ;
     }
     {if (true) return new Func_StatementTimeStamp(n0, n2);}
@@ -12250,7 +12494,7 @@ void RegClassLiteral(PrintStream prn):
       n2.addNode(n3);
       break;
     default:
-      jj_la1[288] = jj_gen;
+      jj_la1[296] = jj_gen;
       ;
     }
     {if (true) return new Func_TransactionTimeStamp(n0, n2);}
@@ -12281,7 +12525,7 @@ void RegClassLiteral(PrintStream prn):
       n2.addNode(n3);
       break;
     default:
-      jj_la1[289] = jj_gen;
+      jj_la1[297] = jj_gen;
       ;
     }
     {if (true) return new Func_CurrentDatabase(n0, n2);}
@@ -12312,7 +12556,7 @@ void RegClassLiteral(PrintStream prn):
       n2.addNode(n3);
       break;
     default:
-      jj_la1[290] = jj_gen;
+      jj_la1[298] = jj_gen;
       ;
     }
     {if (true) return new Func_CurrentSchema(n0, n2);}
@@ -12360,7 +12604,7 @@ void RegClassLiteral(PrintStream prn):
       n4.addNode(n5);
       break;
     default:
-      jj_la1[291] = jj_gen;
+      jj_la1[299] = jj_gen;
       ;
     }
     n7 = SQLArgument(prn);
@@ -12393,7 +12637,7 @@ void RegClassLiteral(PrintStream prn):
       n4.addNode(n5);
       break;
     default:
-      jj_la1[292] = jj_gen;
+      jj_la1[300] = jj_gen;
       ;
     }
     n7 = SQLArgument(prn);
@@ -12430,7 +12674,7 @@ void RegClassLiteral(PrintStream prn):
         n0 = new NodeChoice(n3, 1, 2);
       break;
     default:
-      jj_la1[293] = jj_gen;
+      jj_la1[301] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -12443,7 +12687,7 @@ void RegClassLiteral(PrintStream prn):
       n7.addNode(n8);
       break;
     default:
-      jj_la1[294] = jj_gen;
+      jj_la1[302] = jj_gen;
       ;
     }
     n10 = SQLArgument(prn);
@@ -12476,7 +12720,7 @@ void RegClassLiteral(PrintStream prn):
       n4.addNode(n5);
       break;
     default:
-      jj_la1[295] = jj_gen;
+      jj_la1[303] = jj_gen;
       ;
     }
     n7 = SQLArgument(prn);
@@ -12520,7 +12764,7 @@ void RegClassLiteral(PrintStream prn):
         n0 = new NodeChoice(n5, 2, 3);
       break;
     default:
-      jj_la1[296] = jj_gen;
+      jj_la1[304] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -12612,7 +12856,7 @@ void RegClassLiteral(PrintStream prn):
         n0 = new NodeChoice(n17, 8, 9);
       break;
     default:
-      jj_la1[297] = jj_gen;
+      jj_la1[305] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -12663,7 +12907,7 @@ void RegClassLiteral(PrintStream prn):
       n5.addNode(n6);
       break;
     default:
-      jj_la1[298] = jj_gen;
+      jj_la1[306] = jj_gen;
       ;
     }
     switch (jj_nt.kind) {
@@ -12677,7 +12921,7 @@ void RegClassLiteral(PrintStream prn):
       n10.addNode(n11);
       break;
     default:
-      jj_la1[299] = jj_gen;
+      jj_la1[307] = jj_gen;
       ;
     }
     n16 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -12754,7 +12998,7 @@ void RegClassLiteral(PrintStream prn):
       n11.addNode(n12);
       break;
     default:
-      jj_la1[300] = jj_gen;
+      jj_la1[308] = jj_gen;
       ;
     }
     n17 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -12806,7 +13050,7 @@ void RegClassLiteral(PrintStream prn):
         n5 = new NodeChoice(n8, 1, 2);
       break;
     default:
-      jj_la1[301] = jj_gen;
+      jj_la1[309] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -12953,7 +13197,7 @@ void RegClassLiteral(PrintStream prn):
         n10 = new NodeChoice(n13, 1, 2);
       break;
     default:
-      jj_la1[302] = jj_gen;
+      jj_la1[310] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -13106,7 +13350,7 @@ void RegClassLiteral(PrintStream prn):
           n18 = new NodeChoice(n21, 1, 2);
         break;
       default:
-        jj_la1[303] = jj_gen;
+        jj_la1[311] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -13114,7 +13358,7 @@ void RegClassLiteral(PrintStream prn):
       n14.addNode(n15);
       break;
     default:
-      jj_la1[304] = jj_gen;
+      jj_la1[312] = jj_gen;
       ;
     }
     n23 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -13251,7 +13495,7 @@ void RegClassLiteral(PrintStream prn):
         n4 = new NodeChoice(n35, 15, 16);
       break;
     default:
-      jj_la1[305] = jj_gen;
+      jj_la1[313] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -13287,7 +13531,7 @@ void RegClassLiteral(PrintStream prn):
         n0 = new NodeChoice(n3, 1, 2);
       break;
     default:
-      jj_la1[306] = jj_gen;
+      jj_la1[314] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -13303,7 +13547,7 @@ void RegClassLiteral(PrintStream prn):
       n5.addNode(n6);
       break;
     default:
-      jj_la1[307] = jj_gen;
+      jj_la1[315] = jj_gen;
       ;
     }
     {if (true) return new Func_User(n0, n5);}
@@ -13357,15 +13601,15 @@ void RegClassLiteral(PrintStream prn):
       n1.addNode(n2);
       n4 = SQLSimpleExpression(prn);
       n1.addNode(n4);
-      label_27:
+      label_28:
       while (true) {
         switch (jj_nt.kind) {
         case WHEN_:
           ;
           break;
         default:
-          jj_la1[308] = jj_gen;
-          break label_27;
+          jj_la1[316] = jj_gen;
+          break label_28;
         }
         n6 = new NodeSequence(4);
         n8 = jj_consume_token(WHEN_);
@@ -13393,7 +13637,7 @@ void RegClassLiteral(PrintStream prn):
         n13.addNode(n14);
         break;
       default:
-        jj_la1[309] = jj_gen;
+        jj_la1[317] = jj_gen;
         ;
       }
       n1.addNode(n13);
@@ -13408,15 +13652,15 @@ void RegClassLiteral(PrintStream prn):
         n22 = jj_consume_token(CASE_);
       n21 = JTBToolkit.makeNodeToken(n22);
       n20.addNode(n21);
-        label_28:
+        label_29:
         while (true) {
           switch (jj_nt.kind) {
           case WHEN_:
             ;
             break;
           default:
-            jj_la1[310] = jj_gen;
-            break label_28;
+            jj_la1[318] = jj_gen;
+            break label_29;
           }
         n24 = new NodeSequence(4);
           n26 = jj_consume_token(WHEN_);
@@ -13444,7 +13688,7 @@ void RegClassLiteral(PrintStream prn):
         n31.addNode(n32);
           break;
         default:
-          jj_la1[311] = jj_gen;
+          jj_la1[319] = jj_gen;
           ;
         }
       n20.addNode(n31);
@@ -13454,7 +13698,7 @@ void RegClassLiteral(PrintStream prn):
       n0 = new NodeChoice(n20, 1, 2);
         break;
       default:
-        jj_la1[312] = jj_gen;
+        jj_la1[320] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -13504,7 +13748,7 @@ void RegClassLiteral(PrintStream prn):
         n4 = new NodeChoice(n9, 2, 3);
       break;
     default:
-      jj_la1[313] = jj_gen;
+      jj_la1[321] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -13679,7 +13923,7 @@ void RegClassLiteral(PrintStream prn):
       n11.addNode(n12);
       break;
     default:
-      jj_la1[314] = jj_gen;
+      jj_la1[322] = jj_gen;
       ;
     }
     n14 = jj_consume_token(FROM_);
@@ -13714,7 +13958,7 @@ void RegClassLiteral(PrintStream prn):
       n4.addNode(n5);
       break;
     default:
-      jj_la1[315] = jj_gen;
+      jj_la1[323] = jj_gen;
       ;
     }
     n7 = SQLArgument(prn);
@@ -13937,14 +14181,14 @@ void RegClassLiteral(PrintStream prn):
             n9 = new NodeChoice(n12, 1, 2);
           break;
         default:
-          jj_la1[316] = jj_gen;
+          jj_la1[324] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
           n8.addNode(n9);
         break;
       default:
-        jj_la1[317] = jj_gen;
+        jj_la1[325] = jj_gen;
         ;
       }
         n7.addNode(n8);
@@ -13953,7 +14197,7 @@ void RegClassLiteral(PrintStream prn):
         n4 = new NodeChoice(n7, 1, 2);
       break;
     default:
-      jj_la1[318] = jj_gen;
+      jj_la1[326] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -13986,7 +14230,7 @@ void RegClassLiteral(PrintStream prn):
       n4.addNode(n5);
       break;
     default:
-      jj_la1[319] = jj_gen;
+      jj_la1[327] = jj_gen;
       ;
     }
     n7 = SQLArgument(prn);
@@ -14019,7 +14263,7 @@ void RegClassLiteral(PrintStream prn):
       n4.addNode(n5);
       break;
     default:
-      jj_la1[320] = jj_gen;
+      jj_la1[328] = jj_gen;
       ;
     }
     n7 = SQLArgument(prn);
@@ -14063,7 +14307,7 @@ void RegClassLiteral(PrintStream prn):
         n0 = new NodeChoice(n5, 2, 3);
       break;
     default:
-      jj_la1[321] = jj_gen;
+      jj_la1[329] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -14076,7 +14320,7 @@ void RegClassLiteral(PrintStream prn):
       n9.addNode(n10);
       break;
     default:
-      jj_la1[322] = jj_gen;
+      jj_la1[330] = jj_gen;
       ;
     }
     n12 = SQLArgument(prn);
@@ -14134,7 +14378,7 @@ void RegClassLiteral(PrintStream prn):
         n0 = new NodeChoice(n9, 4, 5);
       break;
     default:
-      jj_la1[323] = jj_gen;
+      jj_la1[331] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -14147,7 +14391,7 @@ void RegClassLiteral(PrintStream prn):
       n13.addNode(n14);
       break;
     default:
-      jj_la1[324] = jj_gen;
+      jj_la1[332] = jj_gen;
       ;
     }
     n16 = SQLArgument(prn);
@@ -14180,7 +14424,7 @@ void RegClassLiteral(PrintStream prn):
       n4.addNode(n5);
       break;
     default:
-      jj_la1[325] = jj_gen;
+      jj_la1[333] = jj_gen;
       ;
     }
     n7 = SQLArgument(prn);
@@ -14377,7 +14621,7 @@ void RegClassLiteral(PrintStream prn):
         n0 = new NodeChoice(n6, 1, 2);
         break;
       default:
-        jj_la1[326] = jj_gen;
+        jj_la1[334] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -14403,7 +14647,7 @@ void RegClassLiteral(PrintStream prn):
       n0.addNode(n1);
       break;
     default:
-      jj_la1[327] = jj_gen;
+      jj_la1[335] = jj_gen;
       ;
     }
     n3 = AliasName(prn);
@@ -14425,15 +14669,15 @@ void RegClassLiteral(PrintStream prn):
   NodeListOptional n1 = new NodeListOptional();
   SQLORExpression n2 = null;
     n0 = SQLAndExpression(prn);
-    label_29:
+    label_30:
     while (true) {
       switch (jj_nt.kind) {
       case OR_:
         ;
         break;
       default:
-        jj_la1[328] = jj_gen;
-        break label_29;
+        jj_la1[336] = jj_gen;
+        break label_30;
       }
       n2 = SQLORExpression(prn);
       n1.addNode(n2);
@@ -14465,15 +14709,15 @@ SQL Logical Expression Starts here
     } else {
       ;
     }
-    label_30:
+    label_31:
     while (true) {
       switch (jj_nt.kind) {
       case AND_:
         ;
         break;
       default:
-        jj_la1[329] = jj_gen;
-        break label_30;
+        jj_la1[337] = jj_gen;
+        break label_31;
       }
       n5 = SQLAndExp(prn);
       n4.addNode(n5);
@@ -14543,7 +14787,7 @@ SQL Logical Expression Starts here
           n3.addNode(n4);
         break;
       default:
-        jj_la1[330] = jj_gen;
+        jj_la1[338] = jj_gen;
         ;
       }
         n2.addNode(n3);
@@ -14559,7 +14803,7 @@ SQL Logical Expression Starts here
           n8.addNode(n9);
         break;
       default:
-        jj_la1[331] = jj_gen;
+        jj_la1[339] = jj_gen;
         ;
       }
         n7.addNode(n8);
@@ -14593,7 +14837,7 @@ SQL Logical Expression Starts here
       n0 = new NodeChoice(n3, 1, 2);
       break;
     default:
-      jj_la1[332] = jj_gen;
+      jj_la1[340] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -14620,7 +14864,7 @@ SQL Logical Expression Starts here
       n0.addNode(n1);
       break;
     default:
-      jj_la1[333] = jj_gen;
+      jj_la1[341] = jj_gen;
       ;
     }
     n4 = jj_consume_token(EXISTS_);
@@ -14823,7 +15067,7 @@ SQL Logical Expression Starts here
         n0 = new NodeChoice(n2, 1, 2);
         break;
       default:
-        jj_la1[334] = jj_gen;
+        jj_la1[342] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -14892,7 +15136,7 @@ SQL Logical Expression Starts here
         n4 = new NodeChoice(n6, 1, 4);
           break;
         default:
-          jj_la1[335] = jj_gen;
+          jj_la1[343] = jj_gen;
           if (jj_2_106(3)) {
             n10 = IsNullClause(prn);
         n4 = new NodeChoice(n10, 2, 4);
@@ -14905,7 +15149,7 @@ SQL Logical Expression Starts here
         n4 = new NodeChoice(n11, 3, 4);
               break;
             default:
-              jj_la1[336] = jj_gen;
+              jj_la1[344] = jj_gen;
               jj_consume_token(-1);
               throw new ParseException();
             }
@@ -14915,7 +15159,7 @@ SQL Logical Expression Starts here
       n3.addNode(n4);
       break;
     default:
-      jj_la1[337] = jj_gen;
+      jj_la1[345] = jj_gen;
       ;
     }
     {if (true) return new SQLRelationalExpression(n0, n3);}
@@ -14973,14 +15217,14 @@ SQL Logical Expression Starts here
             n4 = new NodeChoice(n9, 2, 3);
           break;
         default:
-          jj_la1[338] = jj_gen;
+          jj_la1[346] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
           n3.addNode(n4);
         break;
       default:
-        jj_la1[339] = jj_gen;
+        jj_la1[347] = jj_gen;
         ;
       }
         n2.addNode(n3);
@@ -15010,7 +15254,7 @@ SQL Logical Expression Starts here
             n11 = new NodeChoice(n18, 1, 2);
           break;
         default:
-          jj_la1[340] = jj_gen;
+          jj_la1[348] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -15189,7 +15433,7 @@ SQL Logical Expression Starts here
         n1 = new NodeChoice(n24, 1, 2);
         break;
       default:
-        jj_la1[341] = jj_gen;
+        jj_la1[349] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -15343,7 +15587,7 @@ SQL Logical Expression Starts here
         n0 = new NodeChoice(n39, 19, 20);
       break;
     default:
-      jj_la1[342] = jj_gen;
+      jj_la1[350] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -15376,7 +15620,7 @@ SQL Logical Expression Starts here
       n0.addNode(n1);
       break;
     default:
-      jj_la1[343] = jj_gen;
+      jj_la1[351] = jj_gen;
       ;
     }
     n4 = jj_consume_token(IN_);
@@ -15401,7 +15645,7 @@ SQL Logical Expression Starts here
         n5 = new NodeChoice(n10, 1, 2);
         break;
       default:
-        jj_la1[344] = jj_gen;
+        jj_la1[352] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -15430,7 +15674,7 @@ SQL Logical Expression Starts here
       n0.addNode(n1);
       break;
     default:
-      jj_la1[345] = jj_gen;
+      jj_la1[353] = jj_gen;
       ;
     }
     n4 = jj_consume_token(BETWEEN_);
@@ -15489,7 +15733,7 @@ SQL Logical Expression Starts here
           n2.addNode(n3);
         break;
       default:
-        jj_la1[346] = jj_gen;
+        jj_la1[354] = jj_gen;
         ;
       }
         n1.addNode(n2);
@@ -15510,7 +15754,7 @@ SQL Logical Expression Starts here
             n5 = new NodeChoice(n10, 2, 3);
         break;
       default:
-        jj_la1[347] = jj_gen;
+        jj_la1[355] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -15528,7 +15772,7 @@ SQL Logical Expression Starts here
           n13.addNode(n14);
         break;
       default:
-        jj_la1[348] = jj_gen;
+        jj_la1[356] = jj_gen;
         ;
       }
         n1.addNode(n13);
@@ -15567,7 +15811,7 @@ SQL Logical Expression Starts here
             n19 = new NodeChoice(n28, 4, 5);
         break;
       default:
-        jj_la1[349] = jj_gen;
+        jj_la1[357] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -15577,7 +15821,7 @@ SQL Logical Expression Starts here
         n0 = new NodeChoice(n18, 1, 2);
       break;
     default:
-      jj_la1[350] = jj_gen;
+      jj_la1[358] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -15621,7 +15865,7 @@ SQL Logical Expression Starts here
           n4.addNode(n5);
         break;
       default:
-        jj_la1[351] = jj_gen;
+        jj_la1[359] = jj_gen;
         ;
       }
         n1.addNode(n4);
@@ -15638,7 +15882,7 @@ SQL Logical Expression Starts here
         n0 = new NodeChoice(n9, 2, 3);
       break;
     default:
-      jj_la1[352] = jj_gen;
+      jj_la1[360] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -15679,7 +15923,7 @@ SQL Logical Expression Starts here
           n4.addNode(n5);
         break;
       default:
-        jj_la1[353] = jj_gen;
+        jj_la1[361] = jj_gen;
         ;
       }
         n1.addNode(n4);
@@ -15696,7 +15940,7 @@ SQL Logical Expression Starts here
         n0 = new NodeChoice(n9, 2, 3);
       break;
     default:
-      jj_la1[354] = jj_gen;
+      jj_la1[362] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -15712,7 +15956,7 @@ SQL Logical Expression Starts here
         n11 = new NodeChoice(n14, 1, 2);
       break;
     default:
-      jj_la1[355] = jj_gen;
+      jj_la1[363] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -15754,14 +15998,14 @@ SQL Logical Expression Starts here
         n3 = new NodeChoice(n6, 1, 2);
         break;
       default:
-        jj_la1[356] = jj_gen;
+        jj_la1[364] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
       n2.addNode(n3);
       break;
     default:
-      jj_la1[357] = jj_gen;
+      jj_la1[365] = jj_gen;
       ;
     }
     switch (jj_nt.kind) {
@@ -15771,7 +16015,7 @@ SQL Logical Expression Starts here
       n8.addNode(n9);
       break;
     default:
-      jj_la1[358] = jj_gen;
+      jj_la1[366] = jj_gen;
       ;
     }
     n11 = TableName(prn);
@@ -16007,14 +16251,14 @@ SQL Logical Expression Starts here
         n16.addNode(n17);
         break;
       default:
-        jj_la1[359] = jj_gen;
+        jj_la1[367] = jj_gen;
         ;
       }
       n8.addNode(n16);
       n0 = new NodeChoice(n8, 1, 2);
       break;
     default:
-      jj_la1[360] = jj_gen;
+      jj_la1[368] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -16031,15 +16275,15 @@ SQL Logical Expression Starts here
   Token n4 = null;
   FromTableSpec n5 = null;
     n0 = FromTableSpec(prn);
-    label_31:
+    label_32:
     while (true) {
       switch (jj_nt.kind) {
       case 402:
         ;
         break;
       default:
-        jj_la1[361] = jj_gen;
-        break label_31;
+        jj_la1[369] = jj_gen;
+        break label_32;
       }
       n2 = new NodeSequence(2);
       n4 = jj_consume_token(402);
@@ -16115,7 +16359,7 @@ SQL Logical Expression Starts here
   Token n56 = null;
   TableSpec n57 = null;
     n0 = TableSpec(prn);
-    label_32:
+    label_33:
     while (true) {
       switch (jj_nt.kind) {
       case FULL_:
@@ -16128,8 +16372,8 @@ SQL Logical Expression Starts here
         ;
         break;
       default:
-        jj_la1[362] = jj_gen;
-        break label_32;
+        jj_la1[370] = jj_gen;
+        break label_33;
       }
       n11 = new NodeOptional();
       n26 = new NodeOptional();
@@ -16164,7 +16408,7 @@ SQL Logical Expression Starts here
               n11.addNode(n12);
             break;
           default:
-            jj_la1[363] = jj_gen;
+            jj_la1[371] = jj_gen;
             ;
           }
             n10.addNode(n11);
@@ -16198,7 +16442,7 @@ SQL Logical Expression Starts here
                 n19 = new NodeChoice(n24, 2, 3);
             break;
           default:
-            jj_la1[364] = jj_gen;
+            jj_la1[372] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
           }
@@ -16210,7 +16454,7 @@ SQL Logical Expression Starts here
               n26.addNode(n27);
             break;
           default:
-            jj_la1[365] = jj_gen;
+            jj_la1[373] = jj_gen;
             ;
           }
             n18.addNode(n26);
@@ -16224,7 +16468,7 @@ SQL Logical Expression Starts here
             n9 = new NodeChoice(n18, 1, 2);
           break;
         default:
-          jj_la1[366] = jj_gen;
+          jj_la1[374] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -16246,7 +16490,7 @@ SQL Logical Expression Starts here
               n38.addNode(n39);
             break;
           default:
-            jj_la1[367] = jj_gen;
+            jj_la1[375] = jj_gen;
             ;
           }
             n37.addNode(n38);
@@ -16278,7 +16522,7 @@ SQL Logical Expression Starts here
                 n45 = new NodeChoice(n50, 2, 3);
             break;
           default:
-            jj_la1[368] = jj_gen;
+            jj_la1[376] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
           }
@@ -16290,7 +16534,7 @@ SQL Logical Expression Starts here
               n52.addNode(n53);
             break;
           default:
-            jj_la1[369] = jj_gen;
+            jj_la1[377] = jj_gen;
             ;
           }
             n44.addNode(n52);
@@ -16302,7 +16546,7 @@ SQL Logical Expression Starts here
             n36 = new NodeChoice(n44, 1, 2);
           break;
         default:
-          jj_la1[370] = jj_gen;
+          jj_la1[378] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -16310,7 +16554,7 @@ SQL Logical Expression Starts here
         n2 = new NodeChoice(n33, 2, 3);
         break;
       default:
-        jj_la1[371] = jj_gen;
+        jj_la1[379] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -16362,7 +16606,7 @@ SQL Logical Expression Starts here
       n0 = new NodeChoice(n5, 1, 2);
       break;
     default:
-      jj_la1[372] = jj_gen;
+      jj_la1[380] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -16412,12 +16656,12 @@ SQL Logical Expression Starts here
   Token n4 = null;
   SQLExpressionListItem n5 = null;
     n0 = SQLExpressionListItem(prn);
-    label_33:
+    label_34:
     while (true) {
       if (jj_2_113(2147483647)) {
         ;
       } else {
-        break label_33;
+        break label_34;
       }
       n2 = new NodeSequence(2);
       n4 = jj_consume_token(402);
@@ -16468,15 +16712,15 @@ SQL Logical Expression Starts here
     n1 = jj_consume_token(ORDER_BY_);
     n0 = JTBToolkit.makeNodeToken(n1);
     n2 = OrderByItem(prn);
-    label_34:
+    label_35:
     while (true) {
       switch (jj_nt.kind) {
       case 402:
         ;
         break;
       default:
-        jj_la1[373] = jj_gen;
-        break label_34;
+        jj_la1[381] = jj_gen;
+        break label_35;
       }
       n4 = new NodeSequence(2);
       n6 = jj_consume_token(402);
@@ -16514,7 +16758,7 @@ SQL Logical Expression Starts here
         n2 = new NodeChoice(n5, 1, 2);
       break;
     default:
-      jj_la1[374] = jj_gen;
+      jj_la1[382] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -16561,14 +16805,14 @@ SQL Logical Expression Starts here
         n2 = new NodeChoice(n5, 1, 2);
         break;
       default:
-        jj_la1[375] = jj_gen;
+        jj_la1[383] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
       n1.addNode(n2);
       break;
     default:
-      jj_la1[376] = jj_gen;
+      jj_la1[384] = jj_gen;
       ;
     }
     {if (true) return new OrderByItem(n0, n1);}
@@ -16612,7 +16856,7 @@ SQL Logical Expression Starts here
       n2.addNode(n3);
       break;
     default:
-      jj_la1[377] = jj_gen;
+      jj_la1[385] = jj_gen;
       ;
     }
     {if (true) return new Func_PgCurrentTime(n0, n2);}
@@ -16646,7 +16890,7 @@ SQL Logical Expression Starts here
       n2.addNode(n3);
       break;
     default:
-      jj_la1[378] = jj_gen;
+      jj_la1[386] = jj_gen;
       ;
     }
     {if (true) return new Func_PgCurrentTimeStamp(n0, n2);}
@@ -16749,7 +16993,7 @@ SQL Logical Expression Starts here
         n7 = new NodeChoice(n9, 1, 2);
       break;
     default:
-      jj_la1[379] = jj_gen;
+      jj_la1[387] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -16771,12 +17015,12 @@ A list of Identifiers seprated by commas
   Token n4 = null;
   Identifier n5 = null;
     n0 = Identifier(prn);
-    label_35:
+    label_36:
     while (true) {
       if (jj_2_114(2)) {
         ;
       } else {
-        break label_35;
+        break label_36;
       }
       n2 = new NodeSequence(2);
       n4 = jj_consume_token(402);
@@ -16972,7 +17216,7 @@ A list of Identifiers seprated by commas
         n0 = new NodeChoice(n10, 3, 4);
       break;
     default:
-      jj_la1[380] = jj_gen;
+      jj_la1[388] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -17006,7 +17250,7 @@ A list of Identifiers seprated by commas
       n0 = new NodeChoice(n5, 2, 3);
         break;
       default:
-        jj_la1[381] = jj_gen;
+        jj_la1[389] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -17115,14 +17359,14 @@ A list of Identifiers seprated by commas
           n3 = new NodeChoice(n8, 2, 3);
         break;
       default:
-        jj_la1[382] = jj_gen;
+        jj_la1[390] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
       n2.addNode(n3);
       break;
     default:
-      jj_la1[383] = jj_gen;
+      jj_la1[391] = jj_gen;
       ;
     }
     {if (true) return new BeginTransaction(n0, n2);}
@@ -17156,7 +17400,7 @@ A list of Identifiers seprated by commas
         n0 = new NodeChoice(n3, 1, 2);
       break;
     default:
-      jj_la1[384] = jj_gen;
+      jj_la1[392] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -17181,14 +17425,14 @@ A list of Identifiers seprated by commas
           n6 = new NodeChoice(n11, 2, 3);
         break;
       default:
-        jj_la1[385] = jj_gen;
+        jj_la1[393] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
       n5.addNode(n6);
       break;
     default:
-      jj_la1[386] = jj_gen;
+      jj_la1[394] = jj_gen;
       ;
     }
     {if (true) return new CommitTransaction(n0, n5);}
@@ -17230,14 +17474,14 @@ A list of Identifiers seprated by commas
           n3 = new NodeChoice(n8, 2, 3);
         break;
       default:
-        jj_la1[387] = jj_gen;
+        jj_la1[395] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
       n2.addNode(n3);
       break;
     default:
-      jj_la1[388] = jj_gen;
+      jj_la1[396] = jj_gen;
       ;
     }
     {if (true) return new RollbackTransaction(n0, n2);}
@@ -17271,7 +17515,7 @@ A list of Identifiers seprated by commas
         n0 = new NodeChoice(n5, 2, 3);
       break;
     default:
-      jj_la1[389] = jj_gen;
+      jj_la1[397] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -17349,7 +17593,7 @@ A list of Identifiers seprated by commas
       n2.addNode(n3);
       break;
     default:
-      jj_la1[390] = jj_gen;
+      jj_la1[398] = jj_gen;
       ;
     }
     n5 = Identifier(prn);
@@ -17404,14 +17648,14 @@ A list of Identifiers seprated by commas
         n9 = new NodeChoice(n14, 2, 3);
         break;
       default:
-        jj_la1[391] = jj_gen;
+        jj_la1[399] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
       n8.addNode(n9);
       break;
     default:
-      jj_la1[392] = jj_gen;
+      jj_la1[400] = jj_gen;
       ;
     }
     {if (true) return new CreateUser(n0, n2, n4, n5, n7, n8);}
@@ -17470,7 +17714,7 @@ A list of Identifiers seprated by commas
       n5.addNode(n6);
       break;
     default:
-      jj_la1[393] = jj_gen;
+      jj_la1[401] = jj_gen;
       ;
     }
     switch (jj_nt.kind) {
@@ -17494,14 +17738,14 @@ A list of Identifiers seprated by commas
         n11 = new NodeChoice(n16, 2, 3);
         break;
       default:
-        jj_la1[394] = jj_gen;
+        jj_la1[402] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
       n10.addNode(n11);
       break;
     default:
-      jj_la1[395] = jj_gen;
+      jj_la1[403] = jj_gen;
       ;
     }
     {if (true) return new AlterUser(n0, n2, n4, n5, n10);}
@@ -17657,7 +17901,7 @@ A list of Identifiers seprated by commas
       n0 = new NodeChoice(n3, 1, 2);
       break;
     default:
-      jj_la1[396] = jj_gen;
+      jj_la1[404] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -17674,15 +17918,15 @@ A list of Identifiers seprated by commas
   Token n4 = null;
   Grantee n5 = null;
     n0 = Grantee(prn);
-    label_36:
+    label_37:
     while (true) {
       switch (jj_nt.kind) {
       case 402:
         ;
         break;
       default:
-        jj_la1[397] = jj_gen;
-        break label_36;
+        jj_la1[405] = jj_gen;
+        break label_37;
       }
       n2 = new NodeSequence(2);
       n4 = jj_consume_token(402);
@@ -17851,15 +18095,15 @@ A list of Identifiers seprated by commas
       n3 = new NodeSequence(2);
       n4 = Identifier(prn);
       n3.addNode(n4);
-      label_37:
+      label_38:
       while (true) {
         switch (jj_nt.kind) {
         case 402:
           ;
           break;
         default:
-          jj_la1[398] = jj_gen;
-          break label_37;
+          jj_la1[406] = jj_gen;
+          break label_38;
         }
         n6 = new NodeSequence(2);
         n8 = jj_consume_token(402);
@@ -17874,7 +18118,7 @@ A list of Identifiers seprated by commas
       n0 = new NodeChoice(n3, 1, 2);
       break;
     default:
-      jj_la1[399] = jj_gen;
+      jj_la1[407] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -17936,7 +18180,7 @@ A list of Identifiers seprated by commas
       n0 = new NodeChoice(n13, 6, 7);
       break;
     default:
-      jj_la1[400] = jj_gen;
+      jj_la1[408] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -17972,15 +18216,15 @@ A list of Identifiers seprated by commas
       n3 = new NodeSequence(2);
       n4 = Privilege(prn);
       n3.addNode(n4);
-      label_38:
+      label_39:
       while (true) {
         switch (jj_nt.kind) {
         case 402:
           ;
           break;
         default:
-          jj_la1[401] = jj_gen;
-          break label_38;
+          jj_la1[409] = jj_gen;
+          break label_39;
         }
         n6 = new NodeSequence(2);
         n8 = jj_consume_token(402);
@@ -17995,7 +18239,7 @@ A list of Identifiers seprated by commas
       n0 = new NodeChoice(n3, 1, 2);
       break;
     default:
-      jj_la1[402] = jj_gen;
+      jj_la1[410] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -18029,7 +18273,7 @@ A list of Identifiers seprated by commas
       n5.addNode(n6);
       break;
     default:
-      jj_la1[403] = jj_gen;
+      jj_la1[411] = jj_gen;
       ;
     }
     n8 = TableListForGrant(prn);
@@ -18066,7 +18310,7 @@ A list of Identifiers seprated by commas
       n5.addNode(n6);
       break;
     default:
-      jj_la1[404] = jj_gen;
+      jj_la1[412] = jj_gen;
       ;
     }
     n8 = TableListForGrant(prn);
@@ -18240,14 +18484,14 @@ A list of Identifiers seprated by commas
         n5.addNode(n6);
         break;
       default:
-        jj_la1[405] = jj_gen;
+        jj_la1[413] = jj_gen;
         ;
       }
       n3.addNode(n5);
       n2.addNode(n3);
       break;
     default:
-      jj_la1[406] = jj_gen;
+      jj_la1[414] = jj_gen;
       ;
     }
     {if (true) return new Cluster(n0, n2);}
@@ -18271,7 +18515,7 @@ A list of Identifiers seprated by commas
       n2.addNode(n3);
       break;
     default:
-      jj_la1[407] = jj_gen;
+      jj_la1[415] = jj_gen;
       ;
     }
     n5 = TableName(prn);
@@ -18582,14 +18826,14 @@ A list of Identifiers seprated by commas
         n3 = new NodeChoice(n5, 1, 2);
         break;
       default:
-        jj_la1[408] = jj_gen;
+        jj_la1[416] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
       n2.addNode(n3);
       break;
     default:
-      jj_la1[409] = jj_gen;
+      jj_la1[417] = jj_gen;
       ;
     }
     {if (true) return new Unlisten(n0, n2);}
@@ -18771,7 +19015,7 @@ A list of Identifiers seprated by commas
         n2 = new NodeChoice(n4, 1, 2);
       break;
     default:
-      jj_la1[410] = jj_gen;
+      jj_la1[418] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -18830,7 +19074,7 @@ A list of Identifiers seprated by commas
         n6 = new NodeChoice(n9, 1, 2);
       break;
     default:
-      jj_la1[411] = jj_gen;
+      jj_la1[419] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -19643,3278 +19887,3225 @@ A list of Identifiers seprated by commas
     finally { jj_save(114, xla); }
   }
 
-  private boolean jj_3R_573() {
-    if (jj_scan_token(TIME_LITERAL)) return true;
+  private boolean jj_3R_227() {
+    if (jj_scan_token(USER_)) return true;
     return false;
   }
 
-  private boolean jj_3R_111() {
-    if (jj_scan_token(AVERAGE_)) return true;
-    if (jj_scan_token(PARENTHESIS_START_)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_699()) jj_scanpos = xsp;
-    if (jj_3R_96()) return true;
-    if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
+  private boolean jj_3R_611() {
+    if (jj_scan_token(BOX2D_)) return true;
     return false;
   }
 
-  private boolean jj_3R_572() {
-    if (jj_scan_token(TIMESTAMP_LITERAL)) return true;
+  private boolean jj_3R_111() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_227()) {
+    jj_scanpos = xsp;
+    if (jj_3R_228()) return true;
+    }
+    xsp = jj_scanpos;
+    if (jj_3R_229()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_179() {
-    if (jj_scan_token(FLOAT4_)) return true;
+  private boolean jj_3R_699() {
+    if (jj_scan_token(402)) return true;
+    if (jj_3R_698()) return true;
     return false;
   }
 
-  private boolean jj_3R_178() {
-    if (jj_scan_token(SMALLFLOAT_)) return true;
+  private boolean jj_3R_610() {
+    if (jj_scan_token(GEOMETRY_)) return true;
     return false;
   }
 
-  private boolean jj_3R_106() {
-    if (jj_scan_token(PARAM_PLACE_HOLDER)) return true;
+  private boolean jj_3R_691() {
+    if (jj_3R_698()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_699()) { jj_scanpos = xsp; break; }
+    }
     return false;
   }
 
-  private boolean jj_3R_177() {
-    if (jj_scan_token(REAL_)) return true;
+  private boolean jj_3R_609() {
+    if (jj_scan_token(INET_)) return true;
     return false;
   }
 
-  private boolean jj_3R_710() {
-    if (jj_3R_96()) return true;
+  private boolean jj_3R_729() {
+    if (jj_scan_token(EPOCH_FROM)) return true;
     return false;
   }
 
-  private boolean jj_3R_787() {
-    if (jj_scan_token(OUTER_)) return true;
+  private boolean jj_3R_728() {
+    if (jj_scan_token(MICROSECONDS_FROM)) return true;
     return false;
   }
 
-  private boolean jj_3R_709() {
-    if (jj_scan_token(TRAILING)) return true;
+  private boolean jj_3R_608() {
+    if (jj_scan_token(CIDR_)) return true;
     return false;
   }
 
-  private boolean jj_3R_85() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_177()) {
-    jj_scanpos = xsp;
-    if (jj_3R_178()) {
-    jj_scanpos = xsp;
-    if (jj_3R_179()) return true;
-    }
-    }
-    if (jj_3R_95()) return true;
+  private boolean jj_3R_727() {
+    if (jj_scan_token(MILLENNIUM_FROM)) return true;
     return false;
   }
 
-  private boolean jj_3R_786() {
-    if (jj_scan_token(FULL_)) return true;
+  private boolean jj_3R_773() {
+    if (jj_scan_token(PARENTHESIS_START_)) return true;
+    if (jj_3R_85()) return true;
+    if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
 
-  private boolean jj_3R_708() {
-    if (jj_scan_token(LEADING)) return true;
+  private boolean jj_3R_726() {
+    if (jj_scan_token(MILLISECOND_FROM)) return true;
     return false;
   }
 
-  private boolean jj_3R_785() {
-    if (jj_scan_token(RIGHT_)) return true;
+  private boolean jj_3R_725() {
+    if (jj_scan_token(CENTURY_FROM)) return true;
     return false;
   }
 
-  private boolean jj_3R_707() {
-    if (jj_scan_token(BOTH)) return true;
+  private boolean jj_3_112() {
+    if (jj_3R_98()) return true;
     return false;
   }
 
-  private boolean jj_3R_784() {
-    if (jj_scan_token(LEFT_)) return true;
+  private boolean jj_3R_607() {
+    if (jj_scan_token(MACADDR_)) return true;
     return false;
   }
 
-  private boolean jj_3R_776() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_784()) {
-    jj_scanpos = xsp;
-    if (jj_3R_785()) {
-    jj_scanpos = xsp;
-    if (jj_3R_786()) return true;
-    }
-    }
-    xsp = jj_scanpos;
-    if (jj_3R_787()) jj_scanpos = xsp;
-    if (jj_scan_token(JOIN_)) return true;
-    if (jj_3R_750()) return true;
+  private boolean jj_3R_724() {
+    if (jj_scan_token(DECADE_FROM)) return true;
     return false;
   }
 
-  private boolean jj_3R_599() {
-    if (jj_scan_token(BIGSERIAL_)) return true;
+  private boolean jj_3R_723() {
+    if (jj_scan_token(DOW_FROM)) return true;
     return false;
   }
 
-  private boolean jj_3R_118() {
-    if (jj_scan_token(TRIM_)) return true;
+  private boolean jj_3R_767() {
     if (jj_scan_token(PARENTHESIS_START_)) return true;
+    if (jj_3R_278()) return true;
+    if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_707()) {
-    jj_scanpos = xsp;
-    if (jj_3R_708()) {
-    jj_scanpos = xsp;
-    if (jj_3R_709()) return true;
-    }
-    }
+    if (jj_3_112()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_710()) jj_scanpos = xsp;
-    if (jj_scan_token(FROM_)) return true;
-    if (jj_3R_96()) return true;
-    if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
+    if (jj_3R_773()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_783() {
-    if (jj_scan_token(INNER_)) return true;
+  private boolean jj_3R_722() {
+    if (jj_scan_token(DOY_FROM)) return true;
     return false;
   }
 
-  private boolean jj_3R_598() {
-    if (jj_scan_token(SERIAL_)) return true;
+  private boolean jj_3R_750() {
+    if (jj_3R_760()) return true;
     return false;
   }
 
-  private boolean jj_3R_775() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_783()) jj_scanpos = xsp;
-    if (jj_scan_token(JOIN_)) return true;
-    if (jj_3R_750()) return true;
+  private boolean jj_3R_721() {
+    if (jj_scan_token(SECOND_FROM)) return true;
     return false;
   }
 
-  private boolean jj_3R_769() {
-    if (jj_scan_token(NATURAL_)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_775()) {
-    jj_scanpos = xsp;
-    if (jj_3R_776()) return true;
-    }
+  private boolean jj_3R_221() {
+    if (jj_scan_token(SHIFT_RIGHT_BITWISE_)) return true;
     return false;
   }
 
-  private boolean jj_3R_747() {
-    if (jj_scan_token(SERIAL_)) return true;
+  private boolean jj_3_111() {
+    if (jj_3R_98()) return true;
     return false;
   }
 
-  private boolean jj_3R_647() {
-    if (jj_scan_token(INT8_)) return true;
+  private boolean jj_3R_606() {
+    if (jj_scan_token(VARBIT_)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_750()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_646() {
-    if (jj_scan_token(BIGINTEGER_)) return true;
+  private boolean jj_3R_720() {
+    if (jj_scan_token(MINUTE_FROM)) return true;
     return false;
   }
 
-  private boolean jj_3R_782() {
-    if (jj_scan_token(OUTER_)) return true;
+  private boolean jj_3R_220() {
+    if (jj_scan_token(SHIFT_LEFT_BITWISE_)) return true;
     return false;
   }
 
-  private boolean jj_3R_318() {
-    if (jj_scan_token(ELSE_)) return true;
-    if (jj_3R_141()) return true;
+  private boolean jj_3R_719() {
+    if (jj_scan_token(HOUR_FROM)) return true;
     return false;
   }
 
-  private boolean jj_3R_645() {
-    if (jj_scan_token(BIGINT_)) return true;
+  private boolean jj_3R_219() {
+    if (jj_scan_token(XOR_BITWISE_)) return true;
     return false;
   }
 
-  private boolean jj_3R_618() {
-    if (jj_scan_token(404)) return true;
-    if (jj_3R_364()) return true;
+  private boolean jj_3_110() {
+    if (jj_scan_token(ONLY_)) return true;
     return false;
   }
 
-  private boolean jj_3R_781() {
-    if (jj_scan_token(FULL_)) return true;
+  private boolean jj_3R_718() {
+    if (jj_scan_token(DAY_FROM)) return true;
     return false;
   }
 
-  private boolean jj_3R_617() {
-    if (jj_scan_token(FACTORIAL_)) return true;
+  private boolean jj_3R_218() {
+    if (jj_scan_token(OR_BITWISE_)) return true;
     return false;
   }
 
-  private boolean jj_3R_600() {
+  private boolean jj_3R_766() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_645()) {
-    jj_scanpos = xsp;
-    if (jj_3R_646()) {
-    jj_scanpos = xsp;
-    if (jj_3R_647()) return true;
-    }
-    }
+    if (jj_3_110()) jj_scanpos = xsp;
+    if (jj_3R_49()) return true;
     xsp = jj_scanpos;
-    if (jj_3R_747()) jj_scanpos = xsp;
-    if (jj_3R_95()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_780() {
-    if (jj_scan_token(RIGHT_)) return true;
+    if (jj_3_111()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_386() {
-    if (jj_3R_580()) return true;
+  private boolean jj_3R_749() {
+    if (jj_3R_760()) return true;
     return false;
   }
 
-  private boolean jj_3R_779() {
-    if (jj_scan_token(LEFT_)) return true;
+  private boolean jj_3R_717() {
+    if (jj_scan_token(WEEK_FROM)) return true;
     return false;
   }
 
-  private boolean jj_3R_385() {
-    if (jj_3R_579()) return true;
+  private boolean jj_3R_217() {
+    if (jj_scan_token(AND_BITWISE_)) return true;
     return false;
   }
 
-  private boolean jj_3R_317() {
-    if (jj_scan_token(WHEN_)) return true;
-    if (jj_3R_104()) return true;
-    if (jj_scan_token(THEN_)) return true;
-    if (jj_3R_141()) return true;
+  private boolean jj_3R_751() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_766()) {
+    jj_scanpos = xsp;
+    if (jj_3R_767()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_384() {
-    if (jj_3R_578()) return true;
+  private boolean jj_3R_716() {
+    if (jj_scan_token(MONTH_FROM)) return true;
     return false;
   }
 
-  private boolean jj_3R_383() {
-    if (jj_3R_577()) return true;
+  private boolean jj_3R_216() {
+    if (jj_scan_token(MODULO_)) return true;
     return false;
   }
 
-  private boolean jj_3R_774() {
+  private boolean jj_3R_605() {
+    if (jj_scan_token(BIT_)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_779()) {
-    jj_scanpos = xsp;
-    if (jj_3R_780()) {
-    jj_scanpos = xsp;
-    if (jj_3R_781()) return true;
-    }
-    }
-    xsp = jj_scanpos;
-    if (jj_3R_782()) jj_scanpos = xsp;
-    if (jj_scan_token(JOIN_)) return true;
-    if (jj_3R_750()) return true;
-    if (jj_3R_778()) return true;
+    if (jj_3R_749()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_382() {
-    if (jj_3R_576()) return true;
+  private boolean jj_3R_715() {
+    if (jj_scan_token(QUARTER_FROM)) return true;
     return false;
   }
 
-  private boolean jj_3R_237() {
-    if (jj_scan_token(CASE_)) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_317()) { jj_scanpos = xsp; break; }
-    }
-    xsp = jj_scanpos;
-    if (jj_3R_318()) jj_scanpos = xsp;
-    if (jj_scan_token(END_)) return true;
+  private boolean jj_3R_215() {
+    if (jj_scan_token(DIVIDE_)) return true;
     return false;
   }
 
-  private boolean jj_3R_381() {
-    if (jj_3R_575()) return true;
+  private boolean jj_3R_714() {
+    if (jj_scan_token(YEAR_FROM)) return true;
     return false;
   }
 
-  private boolean jj_3R_630() {
-    if (jj_scan_token(TINYINT_)) return true;
+  private boolean jj_3R_214() {
+    if (jj_scan_token(STAR_)) return true;
     return false;
   }
 
-  private boolean jj_3R_380() {
-    if (jj_3R_574()) return true;
+  private boolean jj_3R_101() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_214()) {
+    jj_scanpos = xsp;
+    if (jj_3R_215()) {
+    jj_scanpos = xsp;
+    if (jj_3R_216()) {
+    jj_scanpos = xsp;
+    if (jj_3R_217()) {
+    jj_scanpos = xsp;
+    if (jj_3R_218()) {
+    jj_scanpos = xsp;
+    if (jj_3R_219()) {
+    jj_scanpos = xsp;
+    if (jj_3R_220()) {
+    jj_scanpos = xsp;
+    if (jj_3R_221()) return true;
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    if (jj_3R_222()) return true;
     return false;
   }
 
-  private boolean jj_3R_379() {
-    if (jj_3R_573()) return true;
+  private boolean jj_3R_663() {
+    if (jj_scan_token(VARBINARY_)) return true;
     return false;
   }
 
-  private boolean jj_3R_777() {
-    if (jj_scan_token(INNER_)) return true;
+  private boolean jj_3R_122() {
+    if (jj_scan_token(EXTRACT_)) return true;
+    if (jj_scan_token(PARENTHESIS_START_)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_714()) {
+    jj_scanpos = xsp;
+    if (jj_3R_715()) {
+    jj_scanpos = xsp;
+    if (jj_3R_716()) {
+    jj_scanpos = xsp;
+    if (jj_3R_717()) {
+    jj_scanpos = xsp;
+    if (jj_3R_718()) {
+    jj_scanpos = xsp;
+    if (jj_3R_719()) {
+    jj_scanpos = xsp;
+    if (jj_3R_720()) {
+    jj_scanpos = xsp;
+    if (jj_3R_721()) {
+    jj_scanpos = xsp;
+    if (jj_3R_722()) {
+    jj_scanpos = xsp;
+    if (jj_3R_723()) {
+    jj_scanpos = xsp;
+    if (jj_3R_724()) {
+    jj_scanpos = xsp;
+    if (jj_3R_725()) {
+    jj_scanpos = xsp;
+    if (jj_3R_726()) {
+    jj_scanpos = xsp;
+    if (jj_3R_727()) {
+    jj_scanpos = xsp;
+    if (jj_3R_728()) {
+    jj_scanpos = xsp;
+    if (jj_3R_729()) return true;
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    if (jj_3R_97()) return true;
+    if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
 
-  private boolean jj_3R_754() {
-    if (jj_scan_token(ELSE_)) return true;
-    if (jj_3R_141()) return true;
+  private boolean jj_3R_662() {
+    if (jj_scan_token(RAW_)) return true;
     return false;
   }
 
-  private boolean jj_3R_378() {
-    if (jj_3R_572()) return true;
+  private boolean jj_3R_661() {
+    if (jj_scan_token(LONG_RAW_)) return true;
     return false;
   }
 
-  private boolean jj_3R_758() {
-    if (jj_scan_token(SERIAL_)) return true;
+  private boolean jj_3R_660() {
+    if (jj_scan_token(IMAGE_)) return true;
     return false;
   }
 
-  private boolean jj_3R_773() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_777()) jj_scanpos = xsp;
-    if (jj_scan_token(JOIN_)) return true;
-    if (jj_3R_750()) return true;
-    if (jj_3R_778()) return true;
+  private boolean jj_3R_672() {
+    if (jj_scan_token(FROM_)) return true;
+    if (jj_3R_691()) return true;
     return false;
   }
 
-  private boolean jj_3_59() {
-    if (jj_3R_106()) return true;
+  private boolean jj_3R_659() {
+    if (jj_scan_token(BINARY_)) return true;
     return false;
   }
 
-  private boolean jj_3R_676() {
-    if (jj_scan_token(INT2_)) return true;
+  private boolean jj_3R_658() {
+    if (jj_scan_token(BYTE_)) return true;
     return false;
   }
 
-  private boolean jj_3R_768() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_773()) {
-    jj_scanpos = xsp;
-    if (jj_3R_774()) return true;
-    }
+  private boolean jj_3R_657() {
+    if (jj_scan_token(BYTEA_)) return true;
     return false;
   }
 
-  private boolean jj_3_58() {
-    if (jj_3R_105()) return true;
+  private boolean jj_3R_222() {
+    if (jj_3R_315()) return true;
     return false;
   }
 
-  private boolean jj_3R_675() {
-    if (jj_scan_token(SMALLINT_)) return true;
+  private boolean jj_3R_656() {
+    if (jj_scan_token(BLOB_)) return true;
     return false;
   }
 
-  private boolean jj_3R_156() {
-    if (jj_scan_token(UNIQUE_)) return true;
+  private boolean jj_3R_604() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_656()) {
+    jj_scanpos = xsp;
+    if (jj_3R_657()) {
+    jj_scanpos = xsp;
+    if (jj_3R_658()) {
+    jj_scanpos = xsp;
+    if (jj_3R_659()) {
+    jj_scanpos = xsp;
+    if (jj_3R_660()) {
+    jj_scanpos = xsp;
+    if (jj_3R_661()) {
+    jj_scanpos = xsp;
+    if (jj_3R_662()) {
+    jj_scanpos = xsp;
+    if (jj_3R_663()) return true;
+    }
+    }
+    }
+    }
+    }
+    }
+    }
     return false;
   }
 
-  private boolean jj_3_57() {
-    if (jj_3R_76()) return true;
+  private boolean jj_3R_690() {
+    if (jj_scan_token(TABLE_)) return true;
     return false;
   }
 
-  private boolean jj_3R_377() {
-    if (jj_3R_571()) return true;
+  private boolean jj_3R_697() {
+    if (jj_scan_token(TEMP_)) return true;
     return false;
   }
 
-  private boolean jj_3R_753() {
-    if (jj_scan_token(WHEN_)) return true;
-    if (jj_3R_141()) return true;
-    if (jj_scan_token(THEN_)) return true;
-    if (jj_3R_141()) return true;
+  private boolean jj_3R_212() {
+    if (jj_scan_token(CONCAT_)) return true;
     return false;
   }
 
-  private boolean jj_3R_41() {
-    if (jj_scan_token(CREATE_)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_156()) jj_scanpos = xsp;
-    if (jj_scan_token(INDEX_)) return true;
-    if (jj_3R_154()) return true;
+  private boolean jj_3R_696() {
+    if (jj_scan_token(TEMPORARY_)) return true;
     return false;
   }
 
-  private boolean jj_3R_629() {
+  private boolean jj_3R_211() {
+    if (jj_scan_token(MINUS_)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_689() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_675()) {
+    if (jj_3R_696()) {
     jj_scanpos = xsp;
-    if (jj_3R_676()) return true;
+    if (jj_3R_697()) return true;
     }
-    xsp = jj_scanpos;
-    if (jj_3R_758()) jj_scanpos = xsp;
-    if (jj_3R_95()) return true;
     return false;
   }
 
-  private boolean jj_3R_376() {
-    if (jj_3R_570()) return true;
+  private boolean jj_3R_210() {
+    if (jj_scan_token(PLUS_)) return true;
     return false;
   }
 
-  private boolean jj_3R_767() {
-    if (jj_scan_token(CROSS_)) return true;
-    if (jj_scan_token(JOIN_)) return true;
-    if (jj_3R_750()) return true;
+  private boolean jj_3R_671() {
+    if (jj_scan_token(INTO_)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_689()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_690()) jj_scanpos = xsp;
+    if (jj_3R_49()) return true;
     return false;
   }
 
-  private boolean jj_3R_586() {
+  private boolean jj_3R_100() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_629()) {
+    if (jj_3R_210()) {
+    jj_scanpos = xsp;
+    if (jj_3R_211()) {
     jj_scanpos = xsp;
-    if (jj_3R_630()) return true;
+    if (jj_3R_212()) return true;
+    }
     }
+    if (jj_3R_213()) return true;
     return false;
   }
 
-  private boolean jj_3R_375() {
-    if (jj_3R_569()) return true;
+  private boolean jj_3_33() {
+    if (jj_3R_77()) return true;
     return false;
   }
 
-  private boolean jj_3R_751() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_767()) {
-    jj_scanpos = xsp;
-    if (jj_3R_768()) {
-    jj_scanpos = xsp;
-    if (jj_3R_769()) return true;
-    }
-    }
+  private boolean jj_3R_757() {
+    if (jj_3R_155()) return true;
     return false;
   }
 
-  private boolean jj_3_94() {
-    if (jj_scan_token(CASE_)) return true;
-    if (jj_3R_141()) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_753()) { jj_scanpos = xsp; break; }
-    }
-    xsp = jj_scanpos;
-    if (jj_3R_754()) jj_scanpos = xsp;
-    if (jj_scan_token(END_)) return true;
+  private boolean jj_3R_655() {
+    if (jj_scan_token(MEDIUMTEXT_)) return true;
     return false;
   }
 
-  private boolean jj_3R_119() {
+  private boolean jj_3R_756() {
+    if (jj_scan_token(STRING_LITERAL)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_654() {
+    if (jj_scan_token(LVARCHAR_)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_653() {
+    if (jj_scan_token(LONGTEXT_)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_734() {
+    if (jj_scan_token(402)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_94()) {
+    if (jj_3R_756()) {
     jj_scanpos = xsp;
-    if (jj_3R_237()) return true;
+    if (jj_3R_757()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_697() {
-    if (jj_3R_750()) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_751()) { jj_scanpos = xsp; break; }
-    }
+  private boolean jj_3R_652() {
+    if (jj_scan_token(LONG_VARCHAR_)) return true;
     return false;
   }
 
-  private boolean jj_3_56() {
-    if (jj_scan_token(PARENTHESIS_START_)) return true;
-    if (jj_3R_104()) return true;
-    if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
+  private boolean jj_3_52() {
+    if (jj_3R_101()) return true;
     return false;
   }
 
-  private boolean jj_3R_374() {
-    if (jj_3R_568()) return true;
+  private boolean jj_3R_733() {
+    if (jj_3R_155()) return true;
     return false;
   }
 
-  private boolean jj_3_55() {
-    if (jj_3R_103()) return true;
+  private boolean jj_3R_651() {
+    if (jj_scan_token(LONG_)) return true;
     return false;
   }
 
-  private boolean jj_3R_596() {
-    if (jj_scan_token(BOOLEAN_)) return true;
+  private boolean jj_3R_792() {
+    if (jj_scan_token(FALSE_)) return true;
     return false;
   }
 
-  private boolean jj_3_54() {
-    if (jj_3R_102()) return true;
+  private boolean jj_3R_213() {
+    if (jj_3R_222()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3_52()) { jj_scanpos = xsp; break; }
+    }
     return false;
   }
 
-  private boolean jj_3_53() {
-    if (jj_3R_101()) return true;
+  private boolean jj_3R_281() {
+    if (jj_3R_358()) return true;
     return false;
   }
 
-  private boolean jj_3R_280() {
-    if (jj_3R_357()) return true;
+  private boolean jj_3R_732() {
+    if (jj_scan_token(STRING_LITERAL)) return true;
     return false;
   }
 
-  private boolean jj_3R_279() {
-    if (jj_scan_token(QUOTED_IDENTIFIER)) return true;
+  private boolean jj_3R_650() {
+    if (jj_scan_token(CLOB_)) return true;
     return false;
   }
 
-  private boolean jj_3R_613() {
-    if (jj_scan_token(REGCLASS_)) return true;
+  private boolean jj_3R_791() {
+    if (jj_scan_token(TRUE_)) return true;
     return false;
   }
 
-  private boolean jj_3R_567() {
-    if (jj_scan_token(MINUS_)) return true;
+  private boolean jj_3R_280() {
+    if (jj_scan_token(QUOTED_IDENTIFIER)) return true;
     return false;
   }
 
-  private boolean jj_3R_278() {
-    if (jj_scan_token(IDENTIFIER)) return true;
+  private boolean jj_3R_649() {
+    if (jj_scan_token(TEXT_)) return true;
     return false;
   }
 
-  private boolean jj_3R_566() {
-    if (jj_scan_token(PLUS_)) return true;
+  private boolean jj_3R_279() {
+    if (jj_scan_token(IDENTIFIER)) return true;
     return false;
   }
 
-  private boolean jj_3_34() {
-    if (jj_3R_48()) return true;
-    if (jj_scan_token(403)) return true;
+  private boolean jj_3R_731() {
+    if (jj_scan_token(402)) return true;
     return false;
   }
 
-  private boolean jj_3R_154() {
+  private boolean jj_3R_603() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_278()) {
+    if (jj_3R_649()) {
     jj_scanpos = xsp;
-    if (jj_3R_279()) {
+    if (jj_3R_650()) {
+    jj_scanpos = xsp;
+    if (jj_3R_651()) {
+    jj_scanpos = xsp;
+    if (jj_3R_652()) {
+    jj_scanpos = xsp;
+    if (jj_3R_653()) {
+    jj_scanpos = xsp;
+    if (jj_3R_654()) {
     jj_scanpos = xsp;
-    if (jj_3R_280()) return true;
+    if (jj_3R_655()) return true;
+    }
+    }
+    }
+    }
     }
     }
     return false;
   }
 
-  private boolean jj_3R_373() {
+  private boolean jj_3R_584() {
+    if (jj_scan_token(NOT_EQUALS_)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_155() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_566()) {
+    if (jj_3R_279()) {
     jj_scanpos = xsp;
-    if (jj_3R_567()) return true;
+    if (jj_3R_280()) {
+    jj_scanpos = xsp;
+    if (jj_3R_281()) return true;
+    }
     }
     return false;
   }
 
-  private boolean jj_3R_612() {
-    if (jj_scan_token(BOX3DEXTENT_)) return true;
+  private boolean jj_3R_730() {
+    if (jj_scan_token(USING_)) return true;
     return false;
   }
 
-  private boolean jj_3R_565() {
-    if (jj_scan_token(NOT_BITWISE_)) return true;
+  private boolean jj_3R_208() {
+    if (jj_scan_token(ABSOLUTE_)) return true;
     return false;
   }
 
-  private boolean jj_3R_564() {
-    if (jj_scan_token(ABSOLUTE_)) return true;
+  private boolean jj_3R_583() {
+    if (jj_scan_token(EQUALS_)) return true;
     return false;
   }
 
-  private boolean jj_3R_563() {
-    if (jj_scan_token(FACTORIAL_PREFIX_)) return true;
+  private boolean jj_3R_207() {
+    if (jj_scan_token(NOT_BITWISE_)) return true;
     return false;
   }
 
-  private boolean jj_3R_527() {
-    if (jj_scan_token(WITH_)) return true;
+  private boolean jj_3R_793() {
+    if (jj_scan_token(NOT_)) return true;
     return false;
   }
 
-  private boolean jj_3R_611() {
-    if (jj_scan_token(BOX3D_)) return true;
+  private boolean jj_3R_206() {
+    if (jj_scan_token(GIS_STRICT_ABOVE_)) return true;
     return false;
   }
 
-  private boolean jj_3R_562() {
-    if (jj_scan_token(CUBE_ROOT_)) return true;
+  private boolean jj_3R_123() {
+    if (jj_scan_token(CONVERT_)) return true;
+    if (jj_scan_token(PARENTHESIS_START_)) return true;
+    if (jj_3R_97()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_730()) {
+    jj_scanpos = xsp;
+    if (jj_3R_731()) return true;
+    }
+    xsp = jj_scanpos;
+    if (jj_3R_732()) {
+    jj_scanpos = xsp;
+    if (jj_3R_733()) return true;
+    }
+    xsp = jj_scanpos;
+    if (jj_3R_734()) jj_scanpos = xsp;
+    if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
 
-  private boolean jj_3R_526() {
-    if (jj_scan_token(ONLY_)) return true;
+  private boolean jj_3R_205() {
+    if (jj_scan_token(GIS_STRICT_BELOW_)) return true;
     return false;
   }
 
-  private boolean jj_3R_228() {
-    if (jj_scan_token(PARENTHESIS_START_)) return true;
-    if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_561() {
-    if (jj_scan_token(SQUARE_ROOT_)) return true;
+  private boolean jj_3R_582() {
+    if (jj_scan_token(IS_)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_793()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_525() {
-    if (jj_scan_token(PORT_)) return true;
+  private boolean jj_3R_528() {
+    if (jj_scan_token(WITH_)) return true;
     return false;
   }
 
-  private boolean jj_3R_372() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_561()) {
-    jj_scanpos = xsp;
-    if (jj_3R_562()) {
-    jj_scanpos = xsp;
-    if (jj_3R_563()) {
-    jj_scanpos = xsp;
-    if (jj_3R_564()) {
-    jj_scanpos = xsp;
-    if (jj_3R_565()) return true;
-    }
-    }
-    }
-    }
+  private boolean jj_3R_204() {
+    if (jj_scan_token(GIS_SAME_)) return true;
     return false;
   }
 
-  private boolean jj_3R_227() {
-    if (jj_scan_token(CURRENT_USER_)) return true;
+  private boolean jj_3R_527() {
+    if (jj_scan_token(ONLY_)) return true;
     return false;
   }
 
-  private boolean jj_3R_524() {
-    if (jj_scan_token(SPATIAL_)) return true;
+  private boolean jj_3R_203() {
+    if (jj_scan_token(GIS_OVERLAPS_ABOVE_)) return true;
     return false;
   }
 
-  private boolean jj_3R_314() {
+  private boolean jj_3R_389() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_372()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_373()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3_53()) {
-    jj_scanpos = xsp;
-    if (jj_3_54()) {
-    jj_scanpos = xsp;
-    if (jj_3_55()) {
-    jj_scanpos = xsp;
-    if (jj_3R_374()) {
-    jj_scanpos = xsp;
-    if (jj_3_56()) {
-    jj_scanpos = xsp;
-    if (jj_3R_375()) {
-    jj_scanpos = xsp;
-    if (jj_3R_376()) {
-    jj_scanpos = xsp;
-    if (jj_3R_377()) {
-    jj_scanpos = xsp;
-    if (jj_3_57()) {
-    jj_scanpos = xsp;
-    if (jj_3_58()) {
-    jj_scanpos = xsp;
-    if (jj_3_59()) {
-    jj_scanpos = xsp;
-    if (jj_3R_378()) {
-    jj_scanpos = xsp;
-    if (jj_3R_379()) {
-    jj_scanpos = xsp;
-    if (jj_3R_380()) {
-    jj_scanpos = xsp;
-    if (jj_3R_381()) {
-    jj_scanpos = xsp;
-    if (jj_3R_382()) {
-    jj_scanpos = xsp;
-    if (jj_3R_383()) {
-    jj_scanpos = xsp;
-    if (jj_3R_384()) {
+    if (jj_3R_582()) {
     jj_scanpos = xsp;
-    if (jj_3R_385()) {
+    if (jj_3R_583()) {
     jj_scanpos = xsp;
-    if (jj_3R_386()) return true;
-    }
-    }
-    }
-    }
-    }
-    }
-    }
-    }
-    }
-    }
-    }
-    }
-    }
-    }
-    }
-    }
-    }
+    if (jj_3R_584()) return true;
     }
     }
     xsp = jj_scanpos;
-    if (jj_3R_617()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_618()) jj_scanpos = xsp;
+    if (jj_3R_791()) {
+    jj_scanpos = xsp;
+    if (jj_3R_792()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_226() {
-    if (jj_scan_token(USER_)) return true;
+  private boolean jj_3_41() {
+    if (jj_3R_88()) return true;
     return false;
   }
 
-  private boolean jj_3R_610() {
-    if (jj_scan_token(BOX2D_)) return true;
+  private boolean jj_3R_526() {
+    if (jj_scan_token(PORT_)) return true;
     return false;
   }
 
-  private boolean jj_3R_523() {
-    if (jj_scan_token(PERIMETER3D_)) return true;
+  private boolean jj_3R_202() {
+    if (jj_scan_token(GIS_OVERLAPS_BELOW_)) return true;
     return false;
   }
 
-  private boolean jj_3R_110() {
+  private boolean jj_3R_602() {
+    if (jj_scan_token(INTERVAL_)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_226()) {
-    jj_scanpos = xsp;
-    if (jj_3R_227()) return true;
-    }
-    xsp = jj_scanpos;
-    if (jj_3R_228()) jj_scanpos = xsp;
+    if (jj_3_41()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_522() {
-    if (jj_scan_token(PERIMETER2D_)) return true;
+  private boolean jj_3R_525() {
+    if (jj_scan_token(SPATIAL_)) return true;
     return false;
   }
 
-  private boolean jj_3R_521() {
-    if (jj_scan_token(ADDGEOMETRYCOLUMN_)) return true;
+  private boolean jj_3R_201() {
+    if (jj_scan_token(GIS_OVERLAPS_LEFT_)) return true;
     return false;
   }
 
-  private boolean jj_3R_698() {
-    if (jj_scan_token(402)) return true;
-    if (jj_3R_697()) return true;
+  private boolean jj_3R_524() {
+    if (jj_scan_token(PERIMETER3D_)) return true;
     return false;
   }
 
-  private boolean jj_3R_609() {
-    if (jj_scan_token(GEOMETRY_)) return true;
+  private boolean jj_3R_200() {
+    if (jj_scan_token(GIS_OVERLAPS_RIGHT_)) return true;
     return false;
   }
 
-  private boolean jj_3R_520() {
-    if (jj_scan_token(ASBINARY_)) return true;
+  private boolean jj_3R_523() {
+    if (jj_scan_token(PERIMETER2D_)) return true;
     return false;
   }
 
-  private boolean jj_3R_690() {
-    if (jj_3R_697()) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_698()) { jj_scanpos = xsp; break; }
-    }
+  private boolean jj_3R_199() {
+    if (jj_scan_token(GIS_OVERLAPS_)) return true;
     return false;
   }
 
-  private boolean jj_3R_519() {
-    if (jj_scan_token(REGCLASS_)) return true;
+  private boolean jj_3R_522() {
+    if (jj_scan_token(ADDGEOMETRYCOLUMN_)) return true;
     return false;
   }
 
-  private boolean jj_3R_518() {
-    if (jj_scan_token(BOX3DEXTENT_)) return true;
+  private boolean jj_3R_198() {
+    if (jj_scan_token(NOT_EQUALS_2_)) return true;
     return false;
   }
 
-  private boolean jj_3R_608() {
-    if (jj_scan_token(INET_)) return true;
+  private boolean jj_3R_521() {
+    if (jj_scan_token(ASBINARY_)) return true;
     return false;
   }
 
-  private boolean jj_3R_517() {
-    if (jj_scan_token(BOX3D_)) return true;
+  private boolean jj_3R_88() {
+    if (jj_3R_184()) return true;
+    if (jj_scan_token(TO_)) return true;
+    if (jj_3R_184()) return true;
     return false;
   }
 
-  private boolean jj_3R_728() {
-    if (jj_scan_token(EPOCH_FROM)) return true;
+  private boolean jj_3R_197() {
+    if (jj_scan_token(NOT_EQUALS_)) return true;
     return false;
   }
 
-  private boolean jj_3R_516() {
-    if (jj_scan_token(BOX2D_)) return true;
+  private boolean jj_3R_520() {
+    if (jj_scan_token(REGCLASS_)) return true;
     return false;
   }
 
-  private boolean jj_3R_727() {
-    if (jj_scan_token(MICROSECONDS_FROM)) return true;
+  private boolean jj_3R_196() {
+    if (jj_scan_token(EQUALS_)) return true;
     return false;
   }
 
-  private boolean jj_3R_515() {
-    if (jj_scan_token(GEOMETRY_)) return true;
+  private boolean jj_3R_277() {
+    if (jj_scan_token(NOT_EQUALS_)) return true;
     return false;
   }
 
-  private boolean jj_3R_607() {
-    if (jj_scan_token(CIDR_)) return true;
+  private boolean jj_3R_519() {
+    if (jj_scan_token(BOX3DEXTENT_)) return true;
     return false;
   }
 
-  private boolean jj_3R_726() {
-    if (jj_scan_token(MILLENNIUM_FROM)) return true;
+  private boolean jj_3R_735() {
+    if (jj_scan_token(FOR_)) return true;
+    if (jj_3R_97()) return true;
     return false;
   }
 
-  private boolean jj_3R_514() {
-    if (jj_scan_token(REGR_SYY_)) return true;
+  private boolean jj_3R_195() {
+    if (jj_scan_token(LESS_EQUALS_)) return true;
     return false;
   }
 
-  private boolean jj_3R_772() {
-    if (jj_scan_token(PARENTHESIS_START_)) return true;
-    if (jj_3R_84()) return true;
-    if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
+  private boolean jj_3R_276() {
+    if (jj_scan_token(EQUALS_)) return true;
     return false;
   }
 
-  private boolean jj_3R_725() {
-    if (jj_scan_token(MILLISECOND_FROM)) return true;
+  private boolean jj_3R_518() {
+    if (jj_scan_token(BOX3D_)) return true;
     return false;
   }
 
-  private boolean jj_3R_513() {
-    if (jj_scan_token(REGR_SXY_)) return true;
+  private boolean jj_3R_314() {
+    if (jj_scan_token(SECOND_)) return true;
     return false;
   }
 
-  private boolean jj_3R_724() {
-    if (jj_scan_token(CENTURY_FROM)) return true;
+  private boolean jj_3R_194() {
+    if (jj_scan_token(LESS_)) return true;
     return false;
   }
 
-  private boolean jj_3_112() {
-    if (jj_3R_97()) return true;
+  private boolean jj_3R_355() {
+    if (jj_scan_token(NOT_)) return true;
     return false;
   }
 
-  private boolean jj_3R_512() {
-    if (jj_scan_token(REGR_SXX_)) return true;
+  private boolean jj_3R_517() {
+    if (jj_scan_token(BOX2D_)) return true;
     return false;
   }
 
-  private boolean jj_3R_606() {
-    if (jj_scan_token(MACADDR_)) return true;
+  private boolean jj_3R_313() {
+    if (jj_scan_token(MINUTE_)) return true;
     return false;
   }
 
-  private boolean jj_3R_723() {
-    if (jj_scan_token(DECADE_FROM)) return true;
+  private boolean jj_3R_193() {
+    if (jj_scan_token(GREATER_EQUALS_)) return true;
     return false;
   }
 
-  private boolean jj_3R_511() {
-    if (jj_scan_token(REGR_SLOPE_)) return true;
+  private boolean jj_3R_516() {
+    if (jj_scan_token(GEOMETRY_)) return true;
     return false;
   }
 
-  private boolean jj_3R_722() {
-    if (jj_scan_token(DOW_FROM)) return true;
+  private boolean jj_3R_312() {
+    if (jj_scan_token(HOUR_)) return true;
     return false;
   }
 
-  private boolean jj_3R_510() {
-    if (jj_scan_token(REGR_R2_)) return true;
+  private boolean jj_3R_192() {
+    if (jj_scan_token(GREATER_)) return true;
     return false;
   }
 
-  private boolean jj_3R_766() {
-    if (jj_scan_token(PARENTHESIS_START_)) return true;
-    if (jj_3R_277()) return true;
-    if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
+  private boolean jj_3R_275() {
+    if (jj_scan_token(IS_)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_112()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_772()) jj_scanpos = xsp;
+    if (jj_3R_355()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_721() {
-    if (jj_scan_token(DOY_FROM)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_509() {
-    if (jj_scan_token(REGR_INTERCEPT_)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_749() {
-    if (jj_3R_759()) return true;
+  private boolean jj_3R_124() {
+    if (jj_scan_token(OVERLAY_)) return true;
+    if (jj_scan_token(PARENTHESIS_START_)) return true;
+    if (jj_3R_97()) return true;
+    if (jj_scan_token(PLACING_)) return true;
+    if (jj_3R_97()) return true;
+    if (jj_scan_token(FROM_)) return true;
+    if (jj_3R_97()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_735()) jj_scanpos = xsp;
+    if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
 
-  private boolean jj_3R_720() {
-    if (jj_scan_token(SECOND_FROM)) return true;
+  private boolean jj_3R_515() {
+    if (jj_scan_token(REGR_SYY_)) return true;
     return false;
   }
 
-  private boolean jj_3R_220() {
-    if (jj_scan_token(SHIFT_RIGHT_BITWISE_)) return true;
+  private boolean jj_3R_311() {
+    if (jj_scan_token(DAY_)) return true;
     return false;
   }
 
-  private boolean jj_3R_508() {
-    if (jj_scan_token(REGR_COUNT_)) return true;
+  private boolean jj_3R_191() {
+    if (jj_scan_token(CONTAINS_OR_EQUALS_)) return true;
     return false;
   }
 
-  private boolean jj_3_111() {
-    if (jj_3R_97()) return true;
+  private boolean jj_3R_514() {
+    if (jj_scan_token(REGR_SXY_)) return true;
     return false;
   }
 
-  private boolean jj_3R_605() {
-    if (jj_scan_token(VARBIT_)) return true;
+  private boolean jj_3R_152() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_749()) jj_scanpos = xsp;
+    if (jj_3R_275()) {
+    jj_scanpos = xsp;
+    if (jj_3R_276()) {
+    jj_scanpos = xsp;
+    if (jj_3R_277()) return true;
+    }
+    }
+    if (jj_scan_token(NULL_)) return true;
     return false;
   }
 
-  private boolean jj_3R_719() {
-    if (jj_scan_token(MINUTE_FROM)) return true;
+  private boolean jj_3R_310() {
+    if (jj_scan_token(WEEK_)) return true;
     return false;
   }
 
-  private boolean jj_3R_219() {
-    if (jj_scan_token(SHIFT_LEFT_BITWISE_)) return true;
+  private boolean jj_3R_190() {
+    if (jj_scan_token(CONTAINED_WITHIN_OR_EQUALS_)) return true;
     return false;
   }
 
-  private boolean jj_3R_507() {
-    if (jj_scan_token(REGR_AVGY_)) return true;
+  private boolean jj_3R_513() {
+    if (jj_scan_token(REGR_SXX_)) return true;
     return false;
   }
 
-  private boolean jj_3R_718() {
-    if (jj_scan_token(HOUR_FROM)) return true;
+  private boolean jj_3R_309() {
+    if (jj_scan_token(MONTH_)) return true;
     return false;
   }
 
-  private boolean jj_3R_218() {
-    if (jj_scan_token(XOR_BITWISE_)) return true;
+  private boolean jj_3R_512() {
+    if (jj_scan_token(REGR_SLOPE_)) return true;
     return false;
   }
 
-  private boolean jj_3R_506() {
-    if (jj_scan_token(REGR_AVGX_)) return true;
+  private boolean jj_3R_99() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_190()) {
+    jj_scanpos = xsp;
+    if (jj_3R_191()) {
+    jj_scanpos = xsp;
+    if (jj_3R_192()) {
+    jj_scanpos = xsp;
+    if (jj_3R_193()) {
+    jj_scanpos = xsp;
+    if (jj_3R_194()) {
+    jj_scanpos = xsp;
+    if (jj_3R_195()) {
+    jj_scanpos = xsp;
+    if (jj_3R_196()) {
+    jj_scanpos = xsp;
+    if (jj_3R_197()) {
+    jj_scanpos = xsp;
+    if (jj_3R_198()) {
+    jj_scanpos = xsp;
+    if (jj_3R_199()) {
+    jj_scanpos = xsp;
+    if (jj_3R_200()) {
+    jj_scanpos = xsp;
+    if (jj_3R_201()) {
+    jj_scanpos = xsp;
+    if (jj_3R_202()) {
+    jj_scanpos = xsp;
+    if (jj_3R_203()) {
+    jj_scanpos = xsp;
+    if (jj_3R_204()) {
+    jj_scanpos = xsp;
+    if (jj_3R_205()) {
+    jj_scanpos = xsp;
+    if (jj_3R_206()) {
+    jj_scanpos = xsp;
+    if (jj_3R_207()) {
+    jj_scanpos = xsp;
+    if (jj_3R_208()) return true;
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    if (jj_3R_209()) return true;
     return false;
   }
 
-  private boolean jj_3_110() {
-    if (jj_scan_token(ONLY_)) return true;
+  private boolean jj_3R_308() {
+    if (jj_scan_token(QUARTER_)) return true;
     return false;
   }
 
-  private boolean jj_3R_717() {
-    if (jj_scan_token(DAY_FROM)) return true;
+  private boolean jj_3R_511() {
+    if (jj_scan_token(REGR_R2_)) return true;
     return false;
   }
 
-  private boolean jj_3R_217() {
-    if (jj_scan_token(OR_BITWISE_)) return true;
+  private boolean jj_3R_307() {
+    if (jj_scan_token(YEAR_)) return true;
     return false;
   }
 
-  private boolean jj_3R_505() {
-    if (jj_scan_token(COVAR_SAMP_)) return true;
+  private boolean jj_3R_510() {
+    if (jj_scan_token(REGR_INTERCEPT_)) return true;
     return false;
   }
 
-  private boolean jj_3R_765() {
+  private boolean jj_3R_184() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_110()) jj_scanpos = xsp;
-    if (jj_3R_48()) return true;
-    xsp = jj_scanpos;
-    if (jj_3_111()) jj_scanpos = xsp;
+    if (jj_3R_307()) {
+    jj_scanpos = xsp;
+    if (jj_3R_308()) {
+    jj_scanpos = xsp;
+    if (jj_3R_309()) {
+    jj_scanpos = xsp;
+    if (jj_3R_310()) {
+    jj_scanpos = xsp;
+    if (jj_3R_311()) {
+    jj_scanpos = xsp;
+    if (jj_3R_312()) {
+    jj_scanpos = xsp;
+    if (jj_3R_313()) {
+    jj_scanpos = xsp;
+    if (jj_3R_314()) return true;
+    }
+    }
+    }
+    }
+    }
+    }
+    }
     return false;
   }
 
-  private boolean jj_3R_748() {
-    if (jj_3R_759()) return true;
+  private boolean jj_3R_509() {
+    if (jj_scan_token(REGR_COUNT_)) return true;
     return false;
   }
 
-  private boolean jj_3R_716() {
-    if (jj_scan_token(WEEK_FROM)) return true;
+  private boolean jj_3R_153() {
+    if (jj_3R_278()) return true;
     return false;
   }
 
-  private boolean jj_3R_216() {
-    if (jj_scan_token(AND_BITWISE_)) return true;
+  private boolean jj_3R_508() {
+    if (jj_scan_token(REGR_AVGY_)) return true;
     return false;
   }
 
-  private boolean jj_3R_750() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_765()) {
-    jj_scanpos = xsp;
-    if (jj_3R_766()) return true;
-    }
+  private boolean jj_3R_507() {
+    if (jj_scan_token(REGR_AVGX_)) return true;
     return false;
   }
 
-  private boolean jj_3R_504() {
+  private boolean jj_3R_125() {
+    if (jj_scan_token(POSITION_)) return true;
+    if (jj_scan_token(PARENTHESIS_START_)) return true;
+    if (jj_3R_97()) return true;
+    if (jj_scan_token(IN_)) return true;
+    if (jj_3R_97()) return true;
+    if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_506() {
+    if (jj_scan_token(COVAR_SAMP_)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_505() {
     if (jj_scan_token(COVAR_POP_)) return true;
     return false;
   }
 
-  private boolean jj_3R_715() {
-    if (jj_scan_token(MONTH_FROM)) return true;
+  private boolean jj_3R_331() {
+    if (jj_scan_token(OVERLAPS_)) return true;
     return false;
   }
 
-  private boolean jj_3R_215() {
-    if (jj_scan_token(MODULO_)) return true;
+  private boolean jj_3R_504() {
+    if (jj_scan_token(CORR_)) return true;
     return false;
   }
 
-  private boolean jj_3R_604() {
-    if (jj_scan_token(BIT_)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_748()) jj_scanpos = xsp;
+  private boolean jj_3R_330() {
+    if (jj_scan_token(REGEX_NOT_MATCHES_CASE_INSTV_)) return true;
     return false;
   }
 
   private boolean jj_3R_503() {
-    if (jj_scan_token(CORR_)) return true;
+    if (jj_scan_token(EVERY_)) return true;
     return false;
   }
 
-  private boolean jj_3R_714() {
-    if (jj_scan_token(QUARTER_FROM)) return true;
+  private boolean jj_3R_329() {
+    if (jj_scan_token(REGEX_MATCHES_CASE_INSTV_)) return true;
     return false;
   }
 
-  private boolean jj_3R_214() {
-    if (jj_scan_token(DIVIDE_)) return true;
+  private boolean jj_3R_561() {
+    if (jj_3R_614()) return true;
     return false;
   }
 
   private boolean jj_3R_502() {
-    if (jj_scan_token(EVERY_)) return true;
+    if (jj_scan_token(BOOL_OR_)) return true;
     return false;
   }
 
-  private boolean jj_3R_713() {
-    if (jj_scan_token(YEAR_FROM)) return true;
+  private boolean jj_3R_328() {
+    if (jj_scan_token(REGEX_NOT_MATCHES_)) return true;
     return false;
   }
 
-  private boolean jj_3R_213() {
-    if (jj_scan_token(STAR_)) return true;
+  private boolean jj_3R_560() {
+    if (jj_3R_613()) return true;
     return false;
   }
 
   private boolean jj_3R_501() {
-    if (jj_scan_token(BOOL_OR_)) return true;
+    if (jj_scan_token(BOOL_AND_)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_327() {
+    if (jj_scan_token(NOT_BITWISE_)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_559() {
+    if (jj_3R_612()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_558() {
+    if (jj_3R_611()) return true;
     return false;
   }
 
   private boolean jj_3R_500() {
-    if (jj_scan_token(BOOL_AND_)) return true;
+    if (jj_scan_token(BIT_OR_)) return true;
     return false;
   }
 
-  private boolean jj_3R_100() {
+  private boolean jj_3R_240() {
+    if (jj_scan_token(FOR_)) return true;
+    if (jj_3R_97()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_557() {
+    if (jj_3R_610()) return true;
+    return false;
+  }
+
+  private boolean jj_3_51() {
+    if (jj_3R_100()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_271() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_213()) {
-    jj_scanpos = xsp;
-    if (jj_3R_214()) {
-    jj_scanpos = xsp;
-    if (jj_3R_215()) {
-    jj_scanpos = xsp;
-    if (jj_3R_216()) {
+    if (jj_3R_327()) {
     jj_scanpos = xsp;
-    if (jj_3R_217()) {
+    if (jj_3R_328()) {
     jj_scanpos = xsp;
-    if (jj_3R_218()) {
+    if (jj_3R_329()) {
     jj_scanpos = xsp;
-    if (jj_3R_219()) {
+    if (jj_3R_330()) {
     jj_scanpos = xsp;
-    if (jj_3R_220()) return true;
-    }
-    }
+    if (jj_3R_331()) return true;
     }
     }
     }
     }
-    }
-    if (jj_3R_221()) return true;
+    if (jj_3R_142()) return true;
     return false;
   }
 
-  private boolean jj_3R_662() {
-    if (jj_scan_token(VARBINARY_)) return true;
+  private boolean jj_3R_499() {
+    if (jj_scan_token(BIT_AND_)) return true;
     return false;
   }
 
-  private boolean jj_3R_499() {
-    if (jj_scan_token(BIT_OR_)) return true;
+  private boolean jj_3R_556() {
+    if (jj_3R_609()) return true;
     return false;
   }
 
-  private boolean jj_3R_121() {
-    if (jj_scan_token(EXTRACT_)) return true;
-    if (jj_scan_token(PARENTHESIS_START_)) return true;
+  private boolean jj_3R_209() {
+    if (jj_3R_213()) return true;
     Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_713()) {
-    jj_scanpos = xsp;
-    if (jj_3R_714()) {
-    jj_scanpos = xsp;
-    if (jj_3R_715()) {
-    jj_scanpos = xsp;
-    if (jj_3R_716()) {
-    jj_scanpos = xsp;
-    if (jj_3R_717()) {
-    jj_scanpos = xsp;
-    if (jj_3R_718()) {
-    jj_scanpos = xsp;
-    if (jj_3R_719()) {
-    jj_scanpos = xsp;
-    if (jj_3R_720()) {
-    jj_scanpos = xsp;
-    if (jj_3R_721()) {
-    jj_scanpos = xsp;
-    if (jj_3R_722()) {
-    jj_scanpos = xsp;
-    if (jj_3R_723()) {
-    jj_scanpos = xsp;
-    if (jj_3R_724()) {
-    jj_scanpos = xsp;
-    if (jj_3R_725()) {
-    jj_scanpos = xsp;
-    if (jj_3R_726()) {
-    jj_scanpos = xsp;
-    if (jj_3R_727()) {
-    jj_scanpos = xsp;
-    if (jj_3R_728()) return true;
-    }
-    }
-    }
-    }
-    }
-    }
-    }
-    }
-    }
-    }
-    }
-    }
-    }
-    }
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3_51()) { jj_scanpos = xsp; break; }
     }
-    if (jj_3R_96()) return true;
-    if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
 
-  private boolean jj_3R_661() {
-    if (jj_scan_token(RAW_)) return true;
+  private boolean jj_3R_498() {
+    if (jj_scan_token(CURRENT_SCHEMA_)) return true;
     return false;
   }
 
-  private boolean jj_3R_498() {
-    if (jj_scan_token(BIT_AND_)) return true;
+  private boolean jj_3R_555() {
+    if (jj_3R_608()) return true;
     return false;
   }
 
-  private boolean jj_3R_660() {
-    if (jj_scan_token(LONG_RAW_)) return true;
+  private boolean jj_3R_239() {
+    if (jj_scan_token(FROM_)) return true;
+    if (jj_3R_97()) return true;
     return false;
   }
 
-  private boolean jj_3R_497() {
-    if (jj_scan_token(CURRENT_SCHEMA_)) return true;
+  private boolean jj_3R_794() {
+    if (jj_scan_token(ESCAPE_)) return true;
+    if (jj_3R_142()) return true;
     return false;
   }
 
-  private boolean jj_3R_659() {
-    if (jj_scan_token(IMAGE_)) return true;
+  private boolean jj_3R_554() {
+    if (jj_3R_607()) return true;
     return false;
   }
 
-  private boolean jj_3R_496() {
+  private boolean jj_3R_497() {
     if (jj_scan_token(CURRENT_DATABASE_)) return true;
     return false;
   }
 
-  private boolean jj_3R_671() {
-    if (jj_scan_token(FROM_)) return true;
-    if (jj_3R_690()) return true;
+  private boolean jj_3R_553() {
+    if (jj_3R_606()) return true;
     return false;
   }
 
-  private boolean jj_3R_658() {
-    if (jj_scan_token(BINARY_)) return true;
+  private boolean jj_3R_496() {
+    if (jj_scan_token(NULLIF_)) return true;
     return false;
   }
 
-  private boolean jj_3R_495() {
-    if (jj_scan_token(NULLIF_)) return true;
+  private boolean jj_3R_552() {
+    if (jj_3R_605()) return true;
     return false;
   }
 
-  private boolean jj_3R_657() {
-    if (jj_scan_token(BYTE_)) return true;
+  private boolean jj_3R_126() {
+    if (jj_scan_token(SUBSTRING_)) return true;
+    if (jj_scan_token(PARENTHESIS_START_)) return true;
+    if (jj_3R_97()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_239()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_240()) jj_scanpos = xsp;
+    if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
 
-  private boolean jj_3R_494() {
+  private boolean jj_3R_495() {
     if (jj_scan_token(CURRENT_USER_)) return true;
     return false;
   }
 
-  private boolean jj_3R_656() {
-    if (jj_scan_token(BYTEA_)) return true;
+  private boolean jj_3R_326() {
+    if (jj_scan_token(SIMILAR_TO_)) return true;
     return false;
   }
 
-  private boolean jj_3R_493() {
-    if (jj_scan_token(CLUSTER_)) return true;
+  private boolean jj_3R_551() {
+    if (jj_3R_604()) return true;
     return false;
   }
 
-  private boolean jj_3R_221() {
-    if (jj_3R_314()) return true;
+  private boolean jj_3_50() {
+    if (jj_3R_99()) return true;
     return false;
   }
 
-  private boolean jj_3R_655() {
-    if (jj_scan_token(BLOB_)) return true;
+  private boolean jj_3R_550() {
+    if (jj_3R_603()) return true;
     return false;
   }
 
-  private boolean jj_3R_492() {
-    if (jj_scan_token(BYTE_)) return true;
+  private boolean jj_3R_494() {
+    if (jj_scan_token(CLUSTER_)) return true;
     return false;
   }
 
-  private boolean jj_3R_603() {
+  private boolean jj_3R_325() {
+    if (jj_scan_token(ILIKE_)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_142() {
+    if (jj_3R_209()) return true;
     Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_655()) {
-    jj_scanpos = xsp;
-    if (jj_3R_656()) {
-    jj_scanpos = xsp;
-    if (jj_3R_657()) {
-    jj_scanpos = xsp;
-    if (jj_3R_658()) {
-    jj_scanpos = xsp;
-    if (jj_3R_659()) {
-    jj_scanpos = xsp;
-    if (jj_3R_660()) {
-    jj_scanpos = xsp;
-    if (jj_3R_661()) {
-    jj_scanpos = xsp;
-    if (jj_3R_662()) return true;
-    }
-    }
-    }
-    }
-    }
-    }
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3_50()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_689() {
-    if (jj_scan_token(TABLE_)) return true;
+  private boolean jj_3R_549() {
+    if (jj_3R_602()) return true;
     return false;
   }
 
-  private boolean jj_3R_491() {
-    if (jj_scan_token(IMAGE_)) return true;
+  private boolean jj_3R_493() {
+    if (jj_scan_token(BYTE_)) return true;
     return false;
   }
 
-  private boolean jj_3R_696() {
-    if (jj_scan_token(TEMP_)) return true;
+  private boolean jj_3R_324() {
+    if (jj_scan_token(LIKE_)) return true;
     return false;
   }
 
-  private boolean jj_3R_490() {
-    if (jj_scan_token(LONG_RAW_)) return true;
+  private boolean jj_3R_548() {
+    if (jj_3R_601()) return true;
     return false;
   }
 
-  private boolean jj_3R_211() {
-    if (jj_scan_token(CONCAT_)) return true;
+  private boolean jj_3R_492() {
+    if (jj_scan_token(IMAGE_)) return true;
     return false;
   }
 
-  private boolean jj_3R_695() {
-    if (jj_scan_token(TEMPORARY_)) return true;
+  private boolean jj_3R_547() {
+    if (jj_3R_600()) return true;
     return false;
   }
 
-  private boolean jj_3R_489() {
-    if (jj_scan_token(RAW_)) return true;
+  private boolean jj_3R_546() {
+    if (jj_3R_599()) return true;
     return false;
   }
 
-  private boolean jj_3R_210() {
-    if (jj_scan_token(MINUS_)) return true;
+  private boolean jj_3R_491() {
+    if (jj_scan_token(LONG_RAW_)) return true;
     return false;
   }
 
-  private boolean jj_3R_688() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_695()) {
-    jj_scanpos = xsp;
-    if (jj_3R_696()) return true;
-    }
+  private boolean jj_3R_323() {
+    if (jj_scan_token(NOT_)) return true;
     return false;
   }
 
-  private boolean jj_3R_488() {
-    if (jj_scan_token(VARBINARY_)) return true;
+  private boolean jj_3R_545() {
+    if (jj_3R_598()) return true;
     return false;
   }
 
-  private boolean jj_3R_209() {
-    if (jj_scan_token(PLUS_)) return true;
+  private boolean jj_3R_490() {
+    if (jj_scan_token(RAW_)) return true;
     return false;
   }
 
-  private boolean jj_3R_670() {
-    if (jj_scan_token(INTO_)) return true;
+  private boolean jj_3R_270() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_688()) jj_scanpos = xsp;
+    if (jj_3R_323()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_689()) jj_scanpos = xsp;
-    if (jj_3R_48()) return true;
+    if (jj_3R_324()) {
+    jj_scanpos = xsp;
+    if (jj_3R_325()) {
+    jj_scanpos = xsp;
+    if (jj_3R_326()) return true;
+    }
+    }
+    if (jj_3R_142()) return true;
+    xsp = jj_scanpos;
+    if (jj_3R_794()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_487() {
-    if (jj_scan_token(BINARY_)) return true;
+  private boolean jj_3R_544() {
+    if (jj_3R_597()) return true;
     return false;
   }
 
-  private boolean jj_3R_99() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_209()) {
-    jj_scanpos = xsp;
-    if (jj_3R_210()) {
-    jj_scanpos = xsp;
-    if (jj_3R_211()) return true;
-    }
-    }
-    if (jj_3R_212()) return true;
+  private boolean jj_3_48() {
+    if (jj_3R_98()) return true;
     return false;
   }
 
-  private boolean jj_3R_486() {
-    if (jj_scan_token(BLOB_)) return true;
+  private boolean jj_3R_489() {
+    if (jj_scan_token(VARBINARY_)) return true;
     return false;
   }
 
-  private boolean jj_3_33() {
-    if (jj_3R_76()) return true;
+  private boolean jj_3R_543() {
+    if (jj_3R_596()) return true;
     return false;
   }
 
-  private boolean jj_3R_756() {
-    if (jj_3R_154()) return true;
+  private boolean jj_3R_150() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_270()) {
+    jj_scanpos = xsp;
+    if (jj_3R_271()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_654() {
-    if (jj_scan_token(MEDIUMTEXT_)) return true;
+  private boolean jj_3R_542() {
+    if (jj_3R_595()) return true;
     return false;
   }
 
-  private boolean jj_3R_485() {
-    if (jj_scan_token(CLOB_)) return true;
+  private boolean jj_3R_488() {
+    if (jj_scan_token(BINARY_)) return true;
     return false;
   }
 
-  private boolean jj_3R_755() {
-    if (jj_scan_token(STRING_LITERAL)) return true;
+  private boolean jj_3R_688() {
+    if (jj_3R_142()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3_48()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_653() {
-    if (jj_scan_token(LVARCHAR_)) return true;
+  private boolean jj_3_49() {
+    if (jj_3R_49()) return true;
+    if (jj_scan_token(403)) return true;
+    if (jj_scan_token(STAR_)) return true;
     return false;
   }
 
-  private boolean jj_3R_484() {
-    if (jj_scan_token(LONG_)) return true;
+  private boolean jj_3R_541() {
+    if (jj_3R_594()) return true;
     return false;
   }
 
-  private boolean jj_3R_652() {
-    if (jj_scan_token(LONGTEXT_)) return true;
+  private boolean jj_3R_487() {
+    if (jj_scan_token(BLOB_)) return true;
     return false;
   }
 
-  private boolean jj_3R_483() {
-    if (jj_scan_token(LONG_VARCHAR_)) return true;
+  private boolean jj_3R_259() {
+    if (jj_scan_token(REGR_SYY_)) return true;
     return false;
   }
 
-  private boolean jj_3R_733() {
-    if (jj_scan_token(402)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_755()) {
-    jj_scanpos = xsp;
-    if (jj_3R_756()) return true;
-    }
+  private boolean jj_3R_540() {
+    if (jj_3R_593()) return true;
     return false;
   }
 
-  private boolean jj_3R_651() {
-    if (jj_scan_token(LONG_VARCHAR_)) return true;
+  private boolean jj_3R_486() {
+    if (jj_scan_token(CLOB_)) return true;
     return false;
   }
 
-  private boolean jj_3R_482() {
-    if (jj_scan_token(LONGTEXT_)) return true;
+  private boolean jj_3R_539() {
+    if (jj_3R_592()) return true;
     return false;
   }
 
-  private boolean jj_3_52() {
-    if (jj_3R_100()) return true;
+  private boolean jj_3R_258() {
+    if (jj_scan_token(REGR_SXY_)) return true;
     return false;
   }
 
-  private boolean jj_3R_732() {
-    if (jj_3R_154()) return true;
+  private boolean jj_3R_538() {
+    if (jj_3R_591()) return true;
     return false;
   }
 
-  private boolean jj_3R_650() {
+  private boolean jj_3R_485() {
     if (jj_scan_token(LONG_)) return true;
     return false;
   }
 
-  private boolean jj_3R_481() {
-    if (jj_scan_token(LVARCHAR_)) return true;
+  private boolean jj_3R_687() {
+    if (jj_3R_49()) return true;
+    if (jj_scan_token(403)) return true;
+    if (jj_scan_token(STAR_)) return true;
     return false;
   }
 
-  private boolean jj_3R_791() {
-    if (jj_scan_token(FALSE_)) return true;
+  private boolean jj_3R_257() {
+    if (jj_scan_token(REGR_SXX_)) return true;
     return false;
   }
 
-  private boolean jj_3R_212() {
-    if (jj_3R_221()) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3_52()) { jj_scanpos = xsp; break; }
-    }
+  private boolean jj_3R_537() {
+    if (jj_3R_590()) return true;
     return false;
   }
 
-  private boolean jj_3R_731() {
-    if (jj_scan_token(STRING_LITERAL)) return true;
+  private boolean jj_3R_484() {
+    if (jj_scan_token(LONG_VARCHAR_)) return true;
     return false;
   }
 
-  private boolean jj_3R_649() {
-    if (jj_scan_token(CLOB_)) return true;
+  private boolean jj_3R_686() {
+    if (jj_scan_token(STAR_)) return true;
     return false;
   }
 
-  private boolean jj_3R_480() {
-    if (jj_scan_token(MEDIUMTEXT_)) return true;
+  private boolean jj_3R_256() {
+    if (jj_scan_token(REGR_SLOPE_)) return true;
     return false;
   }
 
-  private boolean jj_3R_790() {
-    if (jj_scan_token(TRUE_)) return true;
+  private boolean jj_3_40() {
+    if (jj_3R_87()) return true;
     return false;
   }
 
-  private boolean jj_3R_648() {
-    if (jj_scan_token(TEXT_)) return true;
+  private boolean jj_3R_483() {
+    if (jj_scan_token(LONGTEXT_)) return true;
     return false;
   }
 
-  private boolean jj_3R_479() {
-    if (jj_scan_token(TEXT_)) return true;
+  private boolean jj_3R_255() {
+    if (jj_scan_token(REGR_R2_)) return true;
     return false;
   }
 
-  private boolean jj_3R_730() {
-    if (jj_scan_token(402)) return true;
+  private boolean jj_3R_536() {
+    if (jj_3R_589()) return true;
     return false;
   }
 
-  private boolean jj_3R_602() {
+  private boolean jj_3R_669() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_648()) {
-    jj_scanpos = xsp;
-    if (jj_3R_649()) {
-    jj_scanpos = xsp;
-    if (jj_3R_650()) {
-    jj_scanpos = xsp;
-    if (jj_3R_651()) {
-    jj_scanpos = xsp;
-    if (jj_3R_652()) {
+    if (jj_3R_686()) {
     jj_scanpos = xsp;
-    if (jj_3R_653()) {
+    if (jj_3R_687()) {
     jj_scanpos = xsp;
-    if (jj_3R_654()) return true;
-    }
+    if (jj_3R_688()) return true;
     }
     }
-    }
-    }
-    }
-    return false;
-  }
-
-  private boolean jj_3R_478() {
-    if (jj_scan_token(INTERVAL_)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_583() {
-    if (jj_scan_token(NOT_EQUALS_)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_729() {
-    if (jj_scan_token(USING_)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_207() {
-    if (jj_scan_token(ABSOLUTE_)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_477() {
-    if (jj_scan_token(BOOLEAN_)) return true;
     return false;
   }
 
-  private boolean jj_3R_582() {
-    if (jj_scan_token(EQUALS_)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_206() {
-    if (jj_scan_token(NOT_BITWISE_)) return true;
+  private boolean jj_3R_482() {
+    if (jj_scan_token(LVARCHAR_)) return true;
     return false;
   }
 
-  private boolean jj_3R_476() {
-    if (jj_scan_token(VARYING_)) return true;
+  private boolean jj_3R_535() {
+    if (jj_3R_588()) return true;
     return false;
   }
 
-  private boolean jj_3R_792() {
-    if (jj_scan_token(NOT_)) return true;
+  private boolean jj_3R_254() {
+    if (jj_scan_token(REGR_INTERCEPT_)) return true;
     return false;
   }
 
-  private boolean jj_3R_205() {
-    if (jj_scan_token(GIS_STRICT_ABOVE_)) return true;
+  private boolean jj_3R_481() {
+    if (jj_scan_token(MEDIUMTEXT_)) return true;
     return false;
   }
 
-  private boolean jj_3R_475() {
-    if (jj_scan_token(NATIONAL_)) return true;
+  private boolean jj_3_39() {
+    if (jj_3R_86()) return true;
     return false;
   }
 
-  private boolean jj_3R_122() {
-    if (jj_scan_token(CONVERT_)) return true;
-    if (jj_scan_token(PARENTHESIS_START_)) return true;
-    if (jj_3R_96()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_729()) {
-    jj_scanpos = xsp;
-    if (jj_3R_730()) return true;
-    }
-    xsp = jj_scanpos;
-    if (jj_3R_731()) {
-    jj_scanpos = xsp;
-    if (jj_3R_732()) return true;
-    }
-    xsp = jj_scanpos;
-    if (jj_3R_733()) jj_scanpos = xsp;
-    if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
+  private boolean jj_3R_253() {
+    if (jj_scan_token(REGR_COUNT_)) return true;
     return false;
   }
 
-  private boolean jj_3R_204() {
-    if (jj_scan_token(GIS_STRICT_BELOW_)) return true;
+  private boolean jj_3R_534() {
+    if (jj_3R_587()) return true;
     return false;
   }
 
-  private boolean jj_3R_474() {
-    if (jj_scan_token(NCHAR_)) return true;
+  private boolean jj_3R_480() {
+    if (jj_scan_token(TEXT_)) return true;
     return false;
   }
 
-  private boolean jj_3R_581() {
-    if (jj_scan_token(IS_)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_792()) jj_scanpos = xsp;
+  private boolean jj_3R_252() {
+    if (jj_scan_token(REGR_AVGY_)) return true;
     return false;
   }
 
-  private boolean jj_3R_203() {
-    if (jj_scan_token(GIS_SAME_)) return true;
+  private boolean jj_3R_533() {
+    if (jj_3R_586()) return true;
     return false;
   }
 
-  private boolean jj_3R_473() {
-    if (jj_scan_token(DOUBLE_PRECISION_)) return true;
+  private boolean jj_3R_479() {
+    if (jj_scan_token(INTERVAL_)) return true;
     return false;
   }
 
-  private boolean jj_3R_202() {
-    if (jj_scan_token(GIS_OVERLAPS_ABOVE_)) return true;
+  private boolean jj_3R_251() {
+    if (jj_scan_token(REGR_AVGX_)) return true;
     return false;
   }
 
-  private boolean jj_3R_388() {
+  private boolean jj_3R_365() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_581()) {
+    if (jj_3R_533()) {
     jj_scanpos = xsp;
-    if (jj_3R_582()) {
+    if (jj_3R_534()) {
     jj_scanpos = xsp;
-    if (jj_3R_583()) return true;
-    }
-    }
-    xsp = jj_scanpos;
-    if (jj_3R_790()) {
+    if (jj_3_39()) {
     jj_scanpos = xsp;
-    if (jj_3R_791()) return true;
-    }
-    return false;
-  }
-
-  private boolean jj_3R_472() {
-    if (jj_scan_token(DEC_)) return true;
+    if (jj_3R_535()) {
+    jj_scanpos = xsp;
+    if (jj_3R_536()) {
+    jj_scanpos = xsp;
+    if (jj_3_40()) {
+    jj_scanpos = xsp;
+    if (jj_3R_537()) {
+    jj_scanpos = xsp;
+    if (jj_3R_538()) {
+    jj_scanpos = xsp;
+    if (jj_3R_539()) {
+    jj_scanpos = xsp;
+    if (jj_3R_540()) {
+    jj_scanpos = xsp;
+    if (jj_3R_541()) {
+    jj_scanpos = xsp;
+    if (jj_3R_542()) {
+    jj_scanpos = xsp;
+    if (jj_3R_543()) {
+    jj_scanpos = xsp;
+    if (jj_3R_544()) {
+    jj_scanpos = xsp;
+    if (jj_3R_545()) {
+    jj_scanpos = xsp;
+    if (jj_3R_546()) {
+    jj_scanpos = xsp;
+    if (jj_3R_547()) {
+    jj_scanpos = xsp;
+    if (jj_3R_548()) {
+    jj_scanpos = xsp;
+    if (jj_3R_549()) {
+    jj_scanpos = xsp;
+    if (jj_3R_550()) {
+    jj_scanpos = xsp;
+    if (jj_3R_551()) {
+    jj_scanpos = xsp;
+    if (jj_3R_552()) {
+    jj_scanpos = xsp;
+    if (jj_3R_553()) {
+    jj_scanpos = xsp;
+    if (jj_3R_554()) {
+    jj_scanpos = xsp;
+    if (jj_3R_555()) {
+    jj_scanpos = xsp;
+    if (jj_3R_556()) {
+    jj_scanpos = xsp;
+    if (jj_3R_557()) {
+    jj_scanpos = xsp;
+    if (jj_3R_558()) {
+    jj_scanpos = xsp;
+    if (jj_3R_559()) {
+    jj_scanpos = xsp;
+    if (jj_3R_560()) {
+    jj_scanpos = xsp;
+    if (jj_3R_561()) return true;
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
     return false;
   }
 
-  private boolean jj_3_41() {
-    if (jj_3R_87()) return true;
+  private boolean jj_3R_478() {
+    if (jj_scan_token(BOOLEAN_)) return true;
     return false;
   }
 
-  private boolean jj_3R_201() {
-    if (jj_scan_token(GIS_OVERLAPS_BELOW_)) return true;
+  private boolean jj_3R_138() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_251()) {
+    jj_scanpos = xsp;
+    if (jj_3R_252()) {
+    jj_scanpos = xsp;
+    if (jj_3R_253()) {
+    jj_scanpos = xsp;
+    if (jj_3R_254()) {
+    jj_scanpos = xsp;
+    if (jj_3R_255()) {
+    jj_scanpos = xsp;
+    if (jj_3R_256()) {
+    jj_scanpos = xsp;
+    if (jj_3R_257()) {
+    jj_scanpos = xsp;
+    if (jj_3R_258()) {
+    jj_scanpos = xsp;
+    if (jj_3R_259()) return true;
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    if (jj_scan_token(PARENTHESIS_START_)) return true;
+    if (jj_3R_97()) return true;
+    if (jj_scan_token(402)) return true;
+    if (jj_3R_97()) return true;
+    if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
 
-  private boolean jj_3R_471() {
-    if (jj_scan_token(TIMESTAMP_)) return true;
+  private boolean jj_3R_477() {
+    if (jj_scan_token(VARYING_)) return true;
     return false;
   }
 
-  private boolean jj_3R_601() {
-    if (jj_scan_token(INTERVAL_)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3_41()) jj_scanpos = xsp;
+  private boolean jj_3R_269() {
+    if (jj_scan_token(NOT_)) return true;
     return false;
   }
 
-  private boolean jj_3R_200() {
-    if (jj_scan_token(GIS_OVERLAPS_LEFT_)) return true;
+  private boolean jj_3R_476() {
+    if (jj_scan_token(NATIONAL_)) return true;
     return false;
   }
 
-  private boolean jj_3R_470() {
-    if (jj_scan_token(TIME_)) return true;
+  private boolean jj_3R_149() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_269()) jj_scanpos = xsp;
+    if (jj_scan_token(BETWEEN_)) return true;
+    if (jj_3R_142()) return true;
+    if (jj_scan_token(AND_)) return true;
+    if (jj_3R_142()) return true;
     return false;
   }
 
-  private boolean jj_3R_199() {
-    if (jj_scan_token(GIS_OVERLAPS_RIGHT_)) return true;
+  private boolean jj_3R_670() {
+    if (jj_scan_token(402)) return true;
+    if (jj_3R_669()) return true;
     return false;
   }
 
-  private boolean jj_3R_469() {
-    if (jj_scan_token(DATE_)) return true;
+  private boolean jj_3R_475() {
+    if (jj_scan_token(NCHAR_)) return true;
     return false;
   }
 
-  private boolean jj_3R_198() {
-    if (jj_scan_token(GIS_OVERLAPS_)) return true;
+  private boolean jj_3R_621() {
+    if (jj_3R_669()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_670()) { jj_scanpos = xsp; break; }
+    }
     return false;
   }
 
-  private boolean jj_3R_468() {
-    if (jj_scan_token(VARCHAR2_)) return true;
+  private boolean jj_3R_474() {
+    if (jj_scan_token(DOUBLE_PRECISION_)) return true;
     return false;
   }
 
-  private boolean jj_3R_197() {
-    if (jj_scan_token(NOT_EQUALS_2_)) return true;
+  private boolean jj_3R_473() {
+    if (jj_scan_token(DEC_)) return true;
     return false;
   }
 
-  private boolean jj_3R_467() {
-    if (jj_scan_token(TINYTEXT_)) return true;
+  private boolean jj_3R_472() {
+    if (jj_scan_token(TIMESTAMP_)) return true;
     return false;
   }
 
-  private boolean jj_3R_87() {
-    if (jj_3R_183()) return true;
-    if (jj_scan_token(TO_)) return true;
-    if (jj_3R_183()) return true;
+  private boolean jj_3R_471() {
+    if (jj_scan_token(TIME_)) return true;
     return false;
   }
 
-  private boolean jj_3R_196() {
-    if (jj_scan_token(NOT_EQUALS_)) return true;
+  private boolean jj_3R_470() {
+    if (jj_scan_token(DATE_)) return true;
     return false;
   }
 
-  private boolean jj_3R_466() {
-    if (jj_scan_token(VARCHAR_)) return true;
+  private boolean jj_3_109() {
+    if (jj_scan_token(PARENTHESIS_START_)) return true;
+    if (jj_3R_153()) return true;
     return false;
   }
 
-  private boolean jj_3R_195() {
-    if (jj_scan_token(EQUALS_)) return true;
+  private boolean jj_3R_626() {
+    if (jj_3R_675()) return true;
     return false;
   }
 
-  private boolean jj_3R_276() {
-    if (jj_scan_token(NOT_EQUALS_)) return true;
+  private boolean jj_3R_268() {
+    if (jj_scan_token(PARENTHESIS_START_)) return true;
+    if (jj_3R_320()) return true;
     return false;
   }
 
-  private boolean jj_3R_465() {
-    if (jj_scan_token(CHARACHTER_)) return true;
+  private boolean jj_3R_469() {
+    if (jj_scan_token(VARCHAR2_)) return true;
     return false;
   }
 
-  private boolean jj_3R_734() {
-    if (jj_scan_token(FOR_)) return true;
-    if (jj_3R_96()) return true;
+  private boolean jj_3R_625() {
+    if (jj_3R_674()) return true;
     return false;
   }
 
-  private boolean jj_3R_194() {
-    if (jj_scan_token(LESS_EQUALS_)) return true;
+  private boolean jj_3R_468() {
+    if (jj_scan_token(TINYTEXT_)) return true;
     return false;
   }
 
-  private boolean jj_3R_275() {
-    if (jj_scan_token(EQUALS_)) return true;
+  private boolean jj_3R_624() {
+    if (jj_3R_673()) return true;
     return false;
   }
 
-  private boolean jj_3R_464() {
-    if (jj_scan_token(CHAR_)) return true;
+  private boolean jj_3R_267() {
+    if (jj_scan_token(PARENTHESIS_START_)) return true;
+    if (jj_3R_153()) return true;
     return false;
   }
 
-  private boolean jj_3R_313() {
-    if (jj_scan_token(SECOND_)) return true;
+  private boolean jj_3R_467() {
+    if (jj_scan_token(VARCHAR_)) return true;
     return false;
   }
 
-  private boolean jj_3R_193() {
-    if (jj_scan_token(LESS_)) return true;
+  private boolean jj_3R_623() {
+    if (jj_3R_672()) return true;
     return false;
   }
 
-  private boolean jj_3R_463() {
-    if (jj_scan_token(NUMBER_)) return true;
+  private boolean jj_3_38() {
+    if (jj_scan_token(402)) return true;
+    if (jj_scan_token(INT_LITERAL)) return true;
     return false;
   }
 
-  private boolean jj_3R_354() {
-    if (jj_scan_token(NOT_)) return true;
+  private boolean jj_3R_466() {
+    if (jj_scan_token(CHARACHTER_)) return true;
     return false;
   }
 
-  private boolean jj_3R_312() {
-    if (jj_scan_token(MINUTE_)) return true;
+  private boolean jj_3R_250() {
+    if (jj_scan_token(COVAR_SAMP_)) return true;
     return false;
   }
 
-  private boolean jj_3R_192() {
-    if (jj_scan_token(GREATER_EQUALS_)) return true;
+  private boolean jj_3R_622() {
+    if (jj_3R_671()) return true;
     return false;
   }
 
-  private boolean jj_3R_462() {
-    if (jj_scan_token(MONEY_)) return true;
+  private boolean jj_3R_366() {
+    if (jj_scan_token(CONSTRAINT_)) return true;
+    if (jj_3R_155()) return true;
     return false;
   }
 
-  private boolean jj_3R_311() {
-    if (jj_scan_token(HOUR_)) return true;
+  private boolean jj_3R_465() {
+    if (jj_scan_token(CHAR_)) return true;
     return false;
   }
 
-  private boolean jj_3R_191() {
-    if (jj_scan_token(GREATER_)) return true;
+  private boolean jj_3R_249() {
+    if (jj_scan_token(COVAR_POP_)) return true;
     return false;
   }
 
-  private boolean jj_3R_274() {
-    if (jj_scan_token(IS_)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_354()) jj_scanpos = xsp;
-    return false;
+  private boolean jj_3R_266() {
+    if (jj_scan_token(NOT_)) return true;
+    return false;
   }
 
-  private boolean jj_3R_461() {
-    if (jj_scan_token(SMALLMONEY_)) return true;
+  private boolean jj_3R_668() {
+    if (jj_scan_token(UNIQUE_)) return true;
     return false;
   }
 
-  private boolean jj_3R_123() {
-    if (jj_scan_token(OVERLAY_)) return true;
-    if (jj_scan_token(PARENTHESIS_START_)) return true;
-    if (jj_3R_96()) return true;
-    if (jj_scan_token(PLACING_)) return true;
-    if (jj_3R_96()) return true;
-    if (jj_scan_token(FROM_)) return true;
-    if (jj_3R_96()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_734()) jj_scanpos = xsp;
-    if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
+  private boolean jj_3R_464() {
+    if (jj_scan_token(NUMBER_)) return true;
     return false;
   }
 
-  private boolean jj_3R_310() {
-    if (jj_scan_token(DAY_)) return true;
+  private boolean jj_3R_248() {
+    if (jj_scan_token(CORR_)) return true;
     return false;
   }
 
-  private boolean jj_3R_190() {
-    if (jj_scan_token(CONTAINS_OR_EQUALS_)) return true;
+  private boolean jj_3R_148() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_266()) jj_scanpos = xsp;
+    if (jj_scan_token(IN_)) return true;
+    xsp = jj_scanpos;
+    if (jj_3R_267()) {
+    jj_scanpos = xsp;
+    if (jj_3R_268()) return true;
+    }
+    if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
 
-  private boolean jj_3R_460() {
-    if (jj_scan_token(NUMERIC_)) return true;
+  private boolean jj_3R_667() {
+    if (jj_scan_token(DISTINCT_)) return true;
     return false;
   }
 
-  private boolean jj_3R_151() {
+  private boolean jj_3R_463() {
+    if (jj_scan_token(MONEY_)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_137() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_274()) {
+    if (jj_3R_248()) {
     jj_scanpos = xsp;
-    if (jj_3R_275()) {
+    if (jj_3R_249()) {
     jj_scanpos = xsp;
-    if (jj_3R_276()) return true;
+    if (jj_3R_250()) return true;
     }
     }
-    if (jj_scan_token(NULL_)) return true;
+    if (jj_scan_token(PARENTHESIS_START_)) return true;
+    if (jj_3R_97()) return true;
+    if (jj_scan_token(402)) return true;
+    if (jj_3R_97()) return true;
+    if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
 
-  private boolean jj_3R_309() {
-    if (jj_scan_token(WEEK_)) return true;
+  private boolean jj_3R_666() {
+    if (jj_scan_token(ALL_)) return true;
     return false;
   }
 
-  private boolean jj_3R_189() {
-    if (jj_scan_token(CONTAINED_WITHIN_OR_EQUALS_)) return true;
+  private boolean jj_3R_462() {
+    if (jj_scan_token(SMALLMONEY_)) return true;
     return false;
   }
 
-  private boolean jj_3R_459() {
-    if (jj_scan_token(DECIMAL_)) return true;
+  private boolean jj_3R_620() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_666()) {
+    jj_scanpos = xsp;
+    if (jj_3R_667()) {
+    jj_scanpos = xsp;
+    if (jj_3R_668()) return true;
+    }
+    }
     return false;
   }
 
-  private boolean jj_3R_308() {
-    if (jj_scan_token(MONTH_)) return true;
+  private boolean jj_3R_70() {
+    if (jj_scan_token(ALTER_)) return true;
+    if (jj_scan_token(USER_)) return true;
+    if (jj_3R_155()) return true;
     return false;
   }
 
-  private boolean jj_3R_458() {
-    if (jj_scan_token(FLOAT8_)) return true;
+  private boolean jj_3R_461() {
+    if (jj_scan_token(NUMERIC_)) return true;
     return false;
   }
 
-  private boolean jj_3R_98() {
+  private boolean jj_3R_84() {
+    if (jj_scan_token(SELECT_)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_189()) {
-    jj_scanpos = xsp;
-    if (jj_3R_190()) {
-    jj_scanpos = xsp;
-    if (jj_3R_191()) {
-    jj_scanpos = xsp;
-    if (jj_3R_192()) {
-    jj_scanpos = xsp;
-    if (jj_3R_193()) {
-    jj_scanpos = xsp;
-    if (jj_3R_194()) {
-    jj_scanpos = xsp;
-    if (jj_3R_195()) {
-    jj_scanpos = xsp;
-    if (jj_3R_196()) {
-    jj_scanpos = xsp;
-    if (jj_3R_197()) {
-    jj_scanpos = xsp;
-    if (jj_3R_198()) {
-    jj_scanpos = xsp;
-    if (jj_3R_199()) {
-    jj_scanpos = xsp;
-    if (jj_3R_200()) {
-    jj_scanpos = xsp;
-    if (jj_3R_201()) {
-    jj_scanpos = xsp;
-    if (jj_3R_202()) {
-    jj_scanpos = xsp;
-    if (jj_3R_203()) {
-    jj_scanpos = xsp;
-    if (jj_3R_204()) {
-    jj_scanpos = xsp;
-    if (jj_3R_205()) {
-    jj_scanpos = xsp;
-    if (jj_3R_206()) {
-    jj_scanpos = xsp;
-    if (jj_3R_207()) return true;
-    }
-    }
-    }
-    }
-    }
-    }
-    }
-    }
-    }
-    }
-    }
-    }
-    }
-    }
-    }
-    }
-    }
-    }
-    if (jj_3R_208()) return true;
+    if (jj_3R_620()) jj_scanpos = xsp;
+    if (jj_3R_621()) return true;
+    xsp = jj_scanpos;
+    if (jj_3R_622()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_623()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_624()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_625()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_626()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_307() {
-    if (jj_scan_token(QUARTER_)) return true;
+  private boolean jj_3R_460() {
+    if (jj_scan_token(DECIMAL_)) return true;
     return false;
   }
 
-  private boolean jj_3R_457() {
+  private boolean jj_3R_459() {
+    if (jj_scan_token(FLOAT8_)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_458() {
     if (jj_scan_token(FLOAT4_)) return true;
     return false;
   }
 
-  private boolean jj_3R_306() {
-    if (jj_scan_token(YEAR_)) return true;
+  private boolean jj_3R_351() {
+    if (jj_scan_token(GIS_SAME_)) return true;
     return false;
   }
 
-  private boolean jj_3R_456() {
+  private boolean jj_3R_457() {
     if (jj_scan_token(FLOAT_)) return true;
     return false;
   }
 
-  private boolean jj_3R_183() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_306()) {
-    jj_scanpos = xsp;
-    if (jj_3R_307()) {
-    jj_scanpos = xsp;
-    if (jj_3R_308()) {
-    jj_scanpos = xsp;
-    if (jj_3R_309()) {
-    jj_scanpos = xsp;
-    if (jj_3R_310()) {
-    jj_scanpos = xsp;
-    if (jj_3R_311()) {
-    jj_scanpos = xsp;
-    if (jj_3R_312()) {
-    jj_scanpos = xsp;
-    if (jj_3R_313()) return true;
-    }
-    }
-    }
-    }
-    }
-    }
-    }
+  private boolean jj_3R_350() {
+    if (jj_scan_token(NOT_BITWISE_)) return true;
     return false;
   }
 
-  private boolean jj_3R_455() {
+  private boolean jj_3R_456() {
     if (jj_scan_token(SMALLFLOAT_)) return true;
     return false;
   }
 
-  private boolean jj_3R_152() {
-    if (jj_3R_277()) return true;
+  private boolean jj_3R_739() {
+    if (jj_scan_token(DISTINCT_)) return true;
     return false;
   }
 
-  private boolean jj_3R_454() {
+  private boolean jj_3R_349() {
+    if (jj_scan_token(GIS_STRICT_ABOVE_)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_455() {
     if (jj_scan_token(REAL_)) return true;
     return false;
   }
 
-  private boolean jj_3R_453() {
-    if (jj_scan_token(INT4_)) return true;
+  private boolean jj_3R_348() {
+    if (jj_scan_token(GIS_OVERLAPS_ABOVE_)) return true;
     return false;
   }
 
-  private boolean jj_3R_452() {
-    if (jj_scan_token(INTEGER_)) return true;
+  private boolean jj_3R_454() {
+    if (jj_scan_token(INT4_)) return true;
     return false;
   }
 
-  private boolean jj_3R_124() {
-    if (jj_scan_token(POSITION_)) return true;
+  private boolean jj_3R_136() {
+    if (jj_scan_token(BOOL_OR_)) return true;
     if (jj_scan_token(PARENTHESIS_START_)) return true;
-    if (jj_3R_96()) return true;
-    if (jj_scan_token(IN_)) return true;
-    if (jj_3R_96()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_739()) jj_scanpos = xsp;
+    if (jj_3R_97()) return true;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
 
-  private boolean jj_3R_451() {
-    if (jj_scan_token(INT_)) return true;
+  private boolean jj_3R_69() {
+    if (jj_scan_token(DROP_)) return true;
+    if (jj_scan_token(USER_)) return true;
+    if (jj_3R_155()) return true;
     return false;
   }
 
-  private boolean jj_3R_330() {
-    if (jj_scan_token(OVERLAPS_)) return true;
+  private boolean jj_3R_347() {
+    if (jj_scan_token(ABSOLUTE_)) return true;
     return false;
   }
 
-  private boolean jj_3R_450() {
-    if (jj_scan_token(BIGINTEGER_)) return true;
+  private boolean jj_3R_453() {
+    if (jj_scan_token(INTEGER_)) return true;
     return false;
   }
 
-  private boolean jj_3R_329() {
-    if (jj_scan_token(REGEX_NOT_MATCHES_CASE_INSTV_)) return true;
+  private boolean jj_3R_346() {
+    if (jj_scan_token(SHIFT_RIGHT_BITWISE_)) return true;
     return false;
   }
 
-  private boolean jj_3R_449() {
-    if (jj_scan_token(INT8_)) return true;
+  private boolean jj_3R_452() {
+    if (jj_scan_token(INT_)) return true;
     return false;
   }
 
-  private boolean jj_3R_328() {
-    if (jj_scan_token(REGEX_MATCHES_CASE_INSTV_)) return true;
+  private boolean jj_3R_48() {
+    if (jj_scan_token(WITH_)) return true;
+    if (jj_3R_159()) return true;
     return false;
   }
 
-  private boolean jj_3R_560() {
-    if (jj_3R_613()) return true;
+  private boolean jj_3R_345() {
+    if (jj_scan_token(GIS_STRICT_BELOW_)) return true;
     return false;
   }
 
-  private boolean jj_3R_448() {
-    if (jj_scan_token(BIGINT_)) return true;
+  private boolean jj_3R_451() {
+    if (jj_scan_token(BIGINTEGER_)) return true;
     return false;
   }
 
-  private boolean jj_3R_327() {
-    if (jj_scan_token(REGEX_NOT_MATCHES_)) return true;
+  private boolean jj_3R_344() {
+    if (jj_scan_token(SHIFT_LEFT_BITWISE_)) return true;
     return false;
   }
 
-  private boolean jj_3R_559() {
-    if (jj_3R_612()) return true;
+  private boolean jj_3R_450() {
+    if (jj_scan_token(INT8_)) return true;
     return false;
   }
 
-  private boolean jj_3R_447() {
-    if (jj_scan_token(BYTEA_)) return true;
+  private boolean jj_3R_343() {
+    if (jj_scan_token(GIS_OVERLAPS_RIGHT_)) return true;
     return false;
   }
 
-  private boolean jj_3R_326() {
-    if (jj_scan_token(NOT_BITWISE_)) return true;
+  private boolean jj_3R_449() {
+    if (jj_scan_token(BIGINT_)) return true;
     return false;
   }
 
-  private boolean jj_3R_558() {
-    if (jj_3R_611()) return true;
+  private boolean jj_3R_301() {
+    if (jj_scan_token(ROUND_ROBIN_)) return true;
+    if (jj_scan_token(ON_)) return true;
     return false;
   }
 
-  private boolean jj_3R_446() {
-    if (jj_scan_token(INT2_)) return true;
+  private boolean jj_3R_342() {
+    if (jj_scan_token(GIS_OVERLAPS_BELOW_)) return true;
     return false;
   }
 
-  private boolean jj_3R_557() {
-    if (jj_3R_610()) return true;
+  private boolean jj_3R_738() {
+    if (jj_scan_token(DISTINCT_)) return true;
     return false;
   }
 
-  private boolean jj_3R_239() {
-    if (jj_scan_token(FOR_)) return true;
-    if (jj_3R_96()) return true;
+  private boolean jj_3R_448() {
+    if (jj_scan_token(BYTEA_)) return true;
     return false;
   }
 
-  private boolean jj_3R_556() {
-    if (jj_3R_609()) return true;
+  private boolean jj_3R_341() {
+    if (jj_scan_token(GIS_OVERLAPS_LEFT_)) return true;
     return false;
   }
 
-  private boolean jj_3R_445() {
-    if (jj_scan_token(TINYINT_)) return true;
+  private boolean jj_3R_447() {
+    if (jj_scan_token(INT2_)) return true;
     return false;
   }
 
-  private boolean jj_3_51() {
-    if (jj_3R_99()) return true;
+  private boolean jj_3R_364() {
+    if (jj_3R_532()) return true;
     return false;
   }
 
-  private boolean jj_3R_270() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_326()) {
-    jj_scanpos = xsp;
-    if (jj_3R_327()) {
-    jj_scanpos = xsp;
-    if (jj_3R_328()) {
-    jj_scanpos = xsp;
-    if (jj_3R_329()) {
-    jj_scanpos = xsp;
-    if (jj_3R_330()) return true;
-    }
-    }
-    }
-    }
-    if (jj_3R_141()) return true;
+  private boolean jj_3R_372() {
+    if (jj_scan_token(NODES_)) return true;
     return false;
   }
 
-  private boolean jj_3R_555() {
-    if (jj_3R_608()) return true;
+  private boolean jj_3R_340() {
+    if (jj_scan_token(GIS_OVERLAPS_)) return true;
     return false;
   }
 
-  private boolean jj_3R_444() {
-    if (jj_scan_token(SMALLINT_)) return true;
+  private boolean jj_3R_247() {
+    if (jj_scan_token(EVERY_)) return true;
     return false;
   }
 
-  private boolean jj_3R_208() {
-    if (jj_3R_212()) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3_51()) { jj_scanpos = xsp; break; }
-    }
+  private boolean jj_3R_446() {
+    if (jj_scan_token(TINYINT_)) return true;
     return false;
   }
 
-  private boolean jj_3R_554() {
-    if (jj_3R_607()) return true;
+  private boolean jj_3R_289() {
+    if (jj_3R_155()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_364()) jj_scanpos = xsp;
+    if (jj_scan_token(AS_)) return true;
+    if (jj_scan_token(PARENTHESIS_START_)) return true;
     return false;
   }
 
-  private boolean jj_3R_238() {
-    if (jj_scan_token(FROM_)) return true;
-    if (jj_3R_96()) return true;
+  private boolean jj_3R_371() {
+    if (jj_scan_token(NODE_)) return true;
     return false;
   }
 
-  private boolean jj_3R_443() {
-    if (jj_scan_token(TRANSACTION_TIMESTAMP_)) return true;
+  private boolean jj_3R_339() {
+    if (jj_scan_token(LESS_EQUALS_)) return true;
     return false;
   }
 
-  private boolean jj_3R_793() {
-    if (jj_scan_token(ESCAPE_)) return true;
-    if (jj_3R_141()) return true;
+  private boolean jj_3R_246() {
+    if (jj_scan_token(BOOL_AND_)) return true;
     return false;
   }
 
-  private boolean jj_3R_553() {
-    if (jj_3R_606()) return true;
+  private boolean jj_3R_445() {
+    if (jj_scan_token(SMALLINT_)) return true;
     return false;
   }
 
-  private boolean jj_3R_552() {
-    if (jj_3R_605()) return true;
+  private boolean jj_3R_338() {
+    if (jj_scan_token(LESS_)) return true;
     return false;
   }
 
-  private boolean jj_3R_442() {
-    if (jj_scan_token(STATEMENT_TIMESTAMP_)) return true;
+  private boolean jj_3R_68() {
+    if (jj_scan_token(CREATE_)) return true;
+    if (jj_scan_token(USER_)) return true;
+    if (jj_3R_155()) return true;
     return false;
   }
 
-  private boolean jj_3R_551() {
-    if (jj_3R_604()) return true;
+  private boolean jj_3R_444() {
+    if (jj_scan_token(TRANSACTION_TIMESTAMP_)) return true;
     return false;
   }
 
-  private boolean jj_3R_125() {
-    if (jj_scan_token(SUBSTRING_)) return true;
-    if (jj_scan_token(PARENTHESIS_START_)) return true;
-    if (jj_3R_96()) return true;
+  private boolean jj_3R_135() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_238()) jj_scanpos = xsp;
+    if (jj_3R_246()) {
+    jj_scanpos = xsp;
+    if (jj_3R_247()) return true;
+    }
+    if (jj_scan_token(PARENTHESIS_START_)) return true;
     xsp = jj_scanpos;
-    if (jj_3R_239()) jj_scanpos = xsp;
+    if (jj_3R_738()) jj_scanpos = xsp;
+    if (jj_3R_97()) return true;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
 
-  private boolean jj_3R_441() {
-    if (jj_scan_token(CLOCK_TIMESTAMP_)) return true;
+  private boolean jj_3R_337() {
+    if (jj_scan_token(GREATER_EQUALS_)) return true;
     return false;
   }
 
-  private boolean jj_3R_325() {
-    if (jj_scan_token(SIMILAR_TO_)) return true;
+  private boolean jj_3R_443() {
+    if (jj_scan_token(STATEMENT_TIMESTAMP_)) return true;
     return false;
   }
 
-  private boolean jj_3R_550() {
-    if (jj_3R_603()) return true;
+  private boolean jj_3R_300() {
+    if (jj_scan_token(ON_)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_371()) {
+    jj_scanpos = xsp;
+    if (jj_3R_372()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3_50() {
-    if (jj_3R_98()) return true;
+  private boolean jj_3R_336() {
+    if (jj_scan_token(GREATER_)) return true;
     return false;
   }
 
-  private boolean jj_3R_440() {
-    if (jj_scan_token(TYPE_)) return true;
+  private boolean jj_3R_442() {
+    if (jj_scan_token(CLOCK_TIMESTAMP_)) return true;
     return false;
   }
 
-  private boolean jj_3R_549() {
-    if (jj_3R_602()) return true;
+  private boolean jj_3R_299() {
+    if (jj_scan_token(REPLICATED_)) return true;
     return false;
   }
 
-  private boolean jj_3R_324() {
-    if (jj_scan_token(ILIKE_)) return true;
+  private boolean jj_3R_335() {
+    if (jj_scan_token(NOT_EQUALS_2_)) return true;
     return false;
   }
 
-  private boolean jj_3R_141() {
-    if (jj_3R_208()) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3_50()) { jj_scanpos = xsp; break; }
-    }
+  private boolean jj_3R_441() {
+    if (jj_scan_token(TYPE_)) return true;
     return false;
   }
 
-  private boolean jj_3R_548() {
-    if (jj_3R_601()) return true;
+  private boolean jj_3R_334() {
+    if (jj_scan_token(XOR_BITWISE_)) return true;
     return false;
   }
 
-  private boolean jj_3R_439() {
+  private boolean jj_3R_440() {
     if (jj_scan_token(STORAGE_)) return true;
     return false;
   }
 
-  private boolean jj_3R_323() {
-    if (jj_scan_token(LIKE_)) return true;
+  private boolean jj_3R_298() {
+    if (jj_scan_token(PARTITION_WITH_)) return true;
+    if (jj_scan_token(PARENT_)) return true;
     return false;
   }
 
-  private boolean jj_3R_547() {
-    if (jj_3R_600()) return true;
+  private boolean jj_3R_333() {
+    if (jj_scan_token(NOT_EQUALS_)) return true;
     return false;
   }
 
-  private boolean jj_3R_438() {
+  private boolean jj_3R_439() {
     if (jj_scan_token(PLACING_)) return true;
     return false;
   }
 
-  private boolean jj_3R_546() {
-    if (jj_3R_599()) return true;
+  private boolean jj_3R_159() {
+    if (jj_3R_289()) return true;
     return false;
   }
 
-  private boolean jj_3R_437() {
+  private boolean jj_3R_332() {
+    if (jj_scan_token(EQUALS_)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_438() {
     if (jj_scan_token(OVERLAY_)) return true;
     return false;
   }
 
-  private boolean jj_3R_545() {
-    if (jj_3R_598()) return true;
+  private boolean jj_3R_166() {
+    if (jj_scan_token(PREPARE_)) return true;
     return false;
   }
 
-  private boolean jj_3R_322() {
-    if (jj_scan_token(NOT_)) return true;
+  private boolean jj_3R_370() {
+    if (jj_3R_155()) return true;
     return false;
   }
 
-  private boolean jj_3R_544() {
-    if (jj_3R_597()) return true;
+  private boolean jj_3R_737() {
+    if (jj_scan_token(DISTINCT_)) return true;
     return false;
   }
 
-  private boolean jj_3R_436() {
+  private boolean jj_3R_437() {
     if (jj_scan_token(CONVERT_)) return true;
     return false;
   }
 
-  private boolean jj_3R_269() {
+  private boolean jj_3R_272() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_322()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_323()) {
+    if (jj_3R_332()) {
     jj_scanpos = xsp;
-    if (jj_3R_324()) {
+    if (jj_3R_333()) {
+    jj_scanpos = xsp;
+    if (jj_3R_334()) {
+    jj_scanpos = xsp;
+    if (jj_3R_335()) {
+    jj_scanpos = xsp;
+    if (jj_3R_336()) {
+    jj_scanpos = xsp;
+    if (jj_3R_337()) {
+    jj_scanpos = xsp;
+    if (jj_3R_338()) {
     jj_scanpos = xsp;
-    if (jj_3R_325()) return true;
+    if (jj_3R_339()) {
+    jj_scanpos = xsp;
+    if (jj_3R_340()) {
+    jj_scanpos = xsp;
+    if (jj_3R_341()) {
+    jj_scanpos = xsp;
+    if (jj_3R_342()) {
+    jj_scanpos = xsp;
+    if (jj_3R_343()) {
+    jj_scanpos = xsp;
+    if (jj_3R_344()) {
+    jj_scanpos = xsp;
+    if (jj_3R_345()) {
+    jj_scanpos = xsp;
+    if (jj_3R_346()) {
+    jj_scanpos = xsp;
+    if (jj_3R_347()) {
+    jj_scanpos = xsp;
+    if (jj_3R_348()) {
+    jj_scanpos = xsp;
+    if (jj_3R_349()) {
+    jj_scanpos = xsp;
+    if (jj_3R_350()) {
+    jj_scanpos = xsp;
+    if (jj_3R_351()) return true;
     }
     }
-    if (jj_3R_141()) return true;
-    xsp = jj_scanpos;
-    if (jj_3R_793()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3R_543() {
-    if (jj_3R_596()) return true;
-    return false;
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    return false;
   }
 
-  private boolean jj_3R_435() {
+  private boolean jj_3R_66() {
+    if (jj_scan_token(DEALLOCATE_)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_166()) jj_scanpos = xsp;
+    if (jj_3R_155()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_436() {
     if (jj_scan_token(FIXED_)) return true;
     return false;
   }
 
-  private boolean jj_3_48() {
-    if (jj_3R_97()) return true;
+  private boolean jj_3R_297() {
+    if (jj_scan_token(PARTITIONINGKEY_)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_370()) jj_scanpos = xsp;
+    if (jj_scan_token(ON_)) return true;
     return false;
   }
 
-  private boolean jj_3R_542() {
-    if (jj_3R_595()) return true;
+  private boolean jj_3R_134() {
+    if (jj_scan_token(BIT_OR_)) return true;
+    if (jj_scan_token(PARENTHESIS_START_)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_737()) jj_scanpos = xsp;
+    if (jj_3R_97()) return true;
+    if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
 
-  private boolean jj_3R_434() {
+  private boolean jj_3R_435() {
     if (jj_scan_token(TRIM_)) return true;
     return false;
   }
 
-  private boolean jj_3R_149() {
+  private boolean jj_3R_174() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_269()) {
+    if (jj_3R_297()) {
+    jj_scanpos = xsp;
+    if (jj_3R_298()) {
+    jj_scanpos = xsp;
+    if (jj_3R_299()) {
+    jj_scanpos = xsp;
+    if (jj_3R_300()) {
     jj_scanpos = xsp;
-    if (jj_3R_270()) return true;
+    if (jj_3R_301()) return true;
+    }
+    }
+    }
     }
     return false;
   }
 
-  private boolean jj_3R_541() {
-    if (jj_3R_594()) return true;
+  private boolean jj_3R_434() {
+    if (jj_scan_token(REPLACE_)) return true;
     return false;
   }
 
-  private boolean jj_3R_687() {
-    if (jj_3R_141()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3_48()) jj_scanpos = xsp;
+  private boolean jj_3R_585() {
+    if (jj_scan_token(PARENTHESIS_START_)) return true;
+    if (jj_3R_278()) return true;
+    if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
 
-  private boolean jj_3_49() {
-    if (jj_3R_48()) return true;
-    if (jj_scan_token(403)) return true;
-    if (jj_scan_token(STAR_)) return true;
+  private boolean jj_3R_433() {
+    if (jj_scan_token(VAR_SAMP_)) return true;
     return false;
   }
 
-  private boolean jj_3R_540() {
-    if (jj_3R_593()) return true;
+  private boolean jj_3R_73() {
+    if (jj_scan_token(SHOW_VIEWS_)) return true;
     return false;
   }
 
-  private boolean jj_3R_433() {
-    if (jj_scan_token(REPLACE_)) return true;
+  private boolean jj_3R_432() {
+    if (jj_scan_token(VAR_POP_)) return true;
     return false;
   }
 
-  private boolean jj_3R_258() {
-    if (jj_scan_token(REGR_SYY_)) return true;
+  private boolean jj_3R_431() {
+    if (jj_scan_token(VARIANCE_SAMP_)) return true;
     return false;
   }
 
-  private boolean jj_3R_539() {
-    if (jj_3R_592()) return true;
+  private boolean jj_3R_430() {
+    if (jj_scan_token(VARIANCE_POP_)) return true;
     return false;
   }
 
-  private boolean jj_3R_432() {
-    if (jj_scan_token(VAR_SAMP_)) return true;
+  private boolean jj_3R_736() {
+    if (jj_scan_token(DISTINCT_)) return true;
     return false;
   }
 
-  private boolean jj_3R_538() {
-    if (jj_3R_591()) return true;
+  private boolean jj_3R_71() {
+    if (jj_scan_token(SHOW_USERS_)) return true;
     return false;
   }
 
-  private boolean jj_3R_257() {
-    if (jj_scan_token(REGR_SXY_)) return true;
+  private boolean jj_3R_429() {
+    if (jj_scan_token(VARIANCE_)) return true;
     return false;
   }
 
-  private boolean jj_3R_431() {
-    if (jj_scan_token(VAR_POP_)) return true;
+  private boolean jj_3R_428() {
+    if (jj_scan_token(SUM_)) return true;
     return false;
   }
 
-  private boolean jj_3R_537() {
-    if (jj_3R_590()) return true;
+  private boolean jj_3R_133() {
+    if (jj_scan_token(BIT_AND_)) return true;
+    if (jj_scan_token(PARENTHESIS_START_)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_736()) jj_scanpos = xsp;
+    if (jj_3R_97()) return true;
+    if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
 
-  private boolean jj_3R_686() {
-    if (jj_3R_48()) return true;
-    if (jj_scan_token(403)) return true;
-    if (jj_scan_token(STAR_)) return true;
+  private boolean jj_3R_394() {
+    if (jj_scan_token(PARENTHESIS_START_)) return true;
+    if (jj_3R_356()) return true;
+    if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
 
-  private boolean jj_3R_256() {
-    if (jj_scan_token(REGR_SXX_)) return true;
+  private boolean jj_3R_427() {
+    if (jj_scan_token(STDDEV_SAMP_)) return true;
     return false;
   }
 
-  private boolean jj_3R_536() {
-    if (jj_3R_589()) return true;
+  private boolean jj_3R_393() {
+    if (jj_3R_84()) return true;
     return false;
   }
 
-  private boolean jj_3R_430() {
-    if (jj_scan_token(VARIANCE_SAMP_)) return true;
+  private boolean jj_3R_356() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_393()) {
+    jj_scanpos = xsp;
+    if (jj_3R_394()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_685() {
-    if (jj_scan_token(STAR_)) return true;
+  private boolean jj_3R_426() {
+    if (jj_scan_token(STDDEV_POP_)) return true;
     return false;
   }
 
-  private boolean jj_3R_255() {
-    if (jj_scan_token(REGR_SLOPE_)) return true;
+  private boolean jj_3R_65() {
+    if (jj_scan_token(SHOW_INDEXES_)) return true;
+    if (jj_scan_token(ON_)) return true;
     return false;
   }
 
-  private boolean jj_3R_429() {
-    if (jj_scan_token(VARIANCE_POP_)) return true;
+  private boolean jj_3R_425() {
+    if (jj_scan_token(STDDEV_)) return true;
     return false;
   }
 
-  private boolean jj_3_40() {
-    if (jj_3R_86()) return true;
+  private boolean jj_3R_274() {
+    if (jj_3R_142()) return true;
     return false;
   }
 
-  private boolean jj_3R_254() {
-    if (jj_scan_token(REGR_R2_)) return true;
+  private boolean jj_3R_424() {
+    if (jj_scan_token(MIN_)) return true;
     return false;
   }
 
-  private boolean jj_3R_535() {
-    if (jj_3R_588()) return true;
+  private boolean jj_3R_423() {
+    if (jj_scan_token(VERSION_)) return true;
     return false;
   }
 
-  private boolean jj_3R_668() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_685()) {
-    jj_scanpos = xsp;
-    if (jj_3R_686()) {
-    jj_scanpos = xsp;
-    if (jj_3R_687()) return true;
-    }
-    }
+  private boolean jj_3R_422() {
+    if (jj_scan_token(DATABASE_)) return true;
     return false;
   }
 
-  private boolean jj_3R_428() {
-    if (jj_scan_token(VARIANCE_)) return true;
+  private boolean jj_3R_132() {
+    if (jj_scan_token(VERSION_)) return true;
+    if (jj_scan_token(PARENTHESIS_START_)) return true;
+    if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
 
-  private boolean jj_3R_534() {
-    if (jj_3R_587()) return true;
+  private boolean jj_3R_397() {
+    if (jj_3R_585()) return true;
     return false;
   }
 
-  private boolean jj_3R_253() {
-    if (jj_scan_token(REGR_INTERCEPT_)) return true;
+  private boolean jj_3R_354() {
+    if (jj_scan_token(PARENTHESIS_START_)) return true;
+    if (jj_3R_320()) return true;
+    if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
 
-  private boolean jj_3R_427() {
-    if (jj_scan_token(SUM_)) return true;
+  private boolean jj_3R_171() {
+    if (jj_scan_token(QUOTED_IDENTIFIER)) return true;
     return false;
   }
 
-  private boolean jj_3_39() {
-    if (jj_3R_85()) return true;
+  private boolean jj_3_107() {
+    if (jj_scan_token(PARENTHESIS_START_)) return true;
+    if (jj_3R_153()) return true;
     return false;
   }
 
-  private boolean jj_3R_252() {
-    if (jj_scan_token(REGR_COUNT_)) return true;
+  private boolean jj_3R_64() {
+    if (jj_scan_token(SHOW_CONSTRAINTS_)) return true;
+    if (jj_scan_token(ON_)) return true;
     return false;
   }
 
-  private boolean jj_3R_426() {
-    if (jj_scan_token(STDDEV_SAMP_)) return true;
+  private boolean jj_3R_421() {
+    if (jj_scan_token(WEEK_)) return true;
     return false;
   }
 
-  private boolean jj_3R_533() {
-    if (jj_3R_586()) return true;
+  private boolean jj_3R_396() {
+    if (jj_3R_84()) return true;
     return false;
   }
 
-  private boolean jj_3R_251() {
-    if (jj_scan_token(REGR_AVGY_)) return true;
+  private boolean jj_3R_170() {
+    if (jj_scan_token(ALL_)) return true;
     return false;
   }
 
-  private boolean jj_3R_532() {
-    if (jj_3R_585()) return true;
+  private boolean jj_3R_420() {
+    if (jj_scan_token(SUBSTRING_)) return true;
     return false;
   }
 
-  private boolean jj_3R_425() {
-    if (jj_scan_token(STDDEV_POP_)) return true;
+  private boolean jj_3R_169() {
+    if (jj_scan_token(IDENTIFIER)) return true;
     return false;
   }
 
-  private boolean jj_3R_250() {
-    if (jj_scan_token(REGR_AVGX_)) return true;
+  private boolean jj_3R_419() {
+    if (jj_scan_token(SECOND_)) return true;
     return false;
   }
 
-  private boolean jj_3R_364() {
+  private boolean jj_3R_395() {
+    if (jj_scan_token(ALL_)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_353() {
+    if (jj_scan_token(PARENTHESIS_START_)) return true;
+    if (jj_3R_153()) return true;
+    if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_418() {
+    if (jj_scan_token(MINUTE_)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_76() {
+    if (jj_scan_token(SHOW_)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_532()) {
-    jj_scanpos = xsp;
-    if (jj_3R_533()) {
-    jj_scanpos = xsp;
-    if (jj_3_39()) {
-    jj_scanpos = xsp;
-    if (jj_3R_534()) {
+    if (jj_3R_169()) {
     jj_scanpos = xsp;
-    if (jj_3R_535()) {
+    if (jj_3R_170()) {
     jj_scanpos = xsp;
-    if (jj_3_40()) {
-    jj_scanpos = xsp;
-    if (jj_3R_536()) {
-    jj_scanpos = xsp;
-    if (jj_3R_537()) {
-    jj_scanpos = xsp;
-    if (jj_3R_538()) {
-    jj_scanpos = xsp;
-    if (jj_3R_539()) {
-    jj_scanpos = xsp;
-    if (jj_3R_540()) {
-    jj_scanpos = xsp;
-    if (jj_3R_541()) {
-    jj_scanpos = xsp;
-    if (jj_3R_542()) {
-    jj_scanpos = xsp;
-    if (jj_3R_543()) {
-    jj_scanpos = xsp;
-    if (jj_3R_544()) {
-    jj_scanpos = xsp;
-    if (jj_3R_545()) {
-    jj_scanpos = xsp;
-    if (jj_3R_546()) {
-    jj_scanpos = xsp;
-    if (jj_3R_547()) {
-    jj_scanpos = xsp;
-    if (jj_3R_548()) {
-    jj_scanpos = xsp;
-    if (jj_3R_549()) {
-    jj_scanpos = xsp;
-    if (jj_3R_550()) {
-    jj_scanpos = xsp;
-    if (jj_3R_551()) {
-    jj_scanpos = xsp;
-    if (jj_3R_552()) {
-    jj_scanpos = xsp;
-    if (jj_3R_553()) {
-    jj_scanpos = xsp;
-    if (jj_3R_554()) {
-    jj_scanpos = xsp;
-    if (jj_3R_555()) {
-    jj_scanpos = xsp;
-    if (jj_3R_556()) {
-    jj_scanpos = xsp;
-    if (jj_3R_557()) {
-    jj_scanpos = xsp;
-    if (jj_3R_558()) {
-    jj_scanpos = xsp;
-    if (jj_3R_559()) {
-    jj_scanpos = xsp;
-    if (jj_3R_560()) return true;
-    }
-    }
-    }
-    }
-    }
-    }
-    }
-    }
-    }
-    }
-    }
-    }
-    }
-    }
-    }
-    }
-    }
-    }
-    }
-    }
-    }
-    }
-    }
-    }
-    }
-    }
-    }
-    }
+    if (jj_3R_171()) return true;
     }
     }
     return false;
   }
 
-  private boolean jj_3R_424() {
-    if (jj_scan_token(STDDEV_)) return true;
+  private boolean jj_3R_417() {
+    if (jj_scan_token(HOUR_)) return true;
     return false;
   }
 
-  private boolean jj_3R_423() {
-    if (jj_scan_token(MIN_)) return true;
+  private boolean jj_3R_368() {
+    if (jj_scan_token(FOREIGNKEY_)) return true;
+    if (jj_scan_token(PARENTHESIS_START_)) return true;
     return false;
   }
 
-  private boolean jj_3R_137() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_250()) {
-    jj_scanpos = xsp;
-    if (jj_3R_251()) {
-    jj_scanpos = xsp;
-    if (jj_3R_252()) {
-    jj_scanpos = xsp;
-    if (jj_3R_253()) {
-    jj_scanpos = xsp;
-    if (jj_3R_254()) {
-    jj_scanpos = xsp;
-    if (jj_3R_255()) {
-    jj_scanpos = xsp;
-    if (jj_3R_256()) {
-    jj_scanpos = xsp;
-    if (jj_3R_257()) {
-    jj_scanpos = xsp;
-    if (jj_3R_258()) return true;
-    }
-    }
-    }
-    }
-    }
-    }
-    }
-    }
+  private boolean jj_3R_245() {
     if (jj_scan_token(PARENTHESIS_START_)) return true;
-    if (jj_3R_96()) return true;
-    if (jj_scan_token(402)) return true;
-    if (jj_3R_96()) return true;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
 
-  private boolean jj_3R_268() {
-    if (jj_scan_token(NOT_)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_422() {
-    if (jj_scan_token(VERSION_)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_148() {
+  private boolean jj_3R_357() {
+    if (jj_scan_token(UNION_)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_268()) jj_scanpos = xsp;
-    if (jj_scan_token(BETWEEN_)) return true;
-    if (jj_3R_141()) return true;
-    if (jj_scan_token(AND_)) return true;
-    if (jj_3R_141()) return true;
+    if (jj_3R_395()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_396()) {
+    jj_scanpos = xsp;
+    if (jj_3R_397()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_669() {
-    if (jj_scan_token(402)) return true;
-    if (jj_3R_668()) return true;
+  private boolean jj_3R_392() {
+    if (jj_scan_token(SOME_)) return true;
     return false;
   }
 
-  private boolean jj_3R_421() {
-    if (jj_scan_token(DATABASE_)) return true;
+  private boolean jj_3R_416() {
+    if (jj_scan_token(MONTH_)) return true;
     return false;
   }
 
-  private boolean jj_3R_620() {
-    if (jj_3R_668()) return true;
+  private boolean jj_3R_278() {
+    if (jj_3R_356()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_669()) { jj_scanpos = xsp; break; }
+      if (jj_3R_357()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_420() {
-    if (jj_scan_token(WEEK_)) return true;
+  private boolean jj_3R_131() {
+    if (jj_scan_token(CURRENT_SCHEMA_)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_245()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_419() {
-    if (jj_scan_token(SUBSTRING_)) return true;
+  private boolean jj_3R_391() {
+    if (jj_scan_token(ANY_)) return true;
     return false;
   }
 
-  private boolean jj_3R_418() {
-    if (jj_scan_token(SECOND_)) return true;
+  private boolean jj_3R_415() {
+    if (jj_scan_token(YEAR_)) return true;
     return false;
   }
 
-  private boolean jj_3R_417() {
-    if (jj_scan_token(MINUTE_)) return true;
+  private boolean jj_3_108() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_scan_token(59)) {
+    jj_scanpos = xsp;
+    if (jj_scan_token(57)) {
+    jj_scanpos = xsp;
+    if (jj_scan_token(109)) return true;
+    }
+    }
     return false;
   }
 
-  private boolean jj_3R_416() {
-    if (jj_scan_token(HOUR_)) return true;
+  private boolean jj_3R_390() {
+    if (jj_scan_token(ALL_)) return true;
     return false;
   }
 
-  private boolean jj_3_109() {
-    if (jj_scan_token(PARENTHESIS_START_)) return true;
-    if (jj_3R_152()) return true;
+  private boolean jj_3R_414() {
+    if (jj_scan_token(USER_)) return true;
     return false;
   }
 
-  private boolean jj_3R_625() {
-    if (jj_3R_674()) return true;
+  private boolean jj_3R_352() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_390()) {
+    jj_scanpos = xsp;
+    if (jj_3R_391()) {
+    jj_scanpos = xsp;
+    if (jj_3R_392()) return true;
+    }
+    }
     return false;
   }
 
-  private boolean jj_3R_267() {
-    if (jj_scan_token(PARENTHESIS_START_)) return true;
-    if (jj_3R_319()) return true;
+  private boolean jj_3R_413() {
+    if (jj_scan_token(TRUNCATE_)) return true;
     return false;
   }
 
-  private boolean jj_3R_415() {
-    if (jj_scan_token(MONTH_)) return true;
+  private boolean jj_3R_273() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_352()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_353()) {
+    jj_scanpos = xsp;
+    if (jj_3R_354()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_624() {
-    if (jj_3R_673()) return true;
+  private boolean jj_3R_412() {
+    if (jj_scan_token(CURRENT_TIMESTAMP_)) return true;
     return false;
   }
 
-  private boolean jj_3R_414() {
-    if (jj_scan_token(YEAR_)) return true;
+  private boolean jj_3R_411() {
+    if (jj_scan_token(CURRENT_TIME_)) return true;
     return false;
   }
 
-  private boolean jj_3R_623() {
-    if (jj_3R_672()) return true;
+  private boolean jj_3R_285() {
+    if (jj_3R_278()) return true;
     return false;
   }
 
-  private boolean jj_3R_413() {
-    if (jj_scan_token(USER_)) return true;
+  private boolean jj_3R_151() {
+    if (jj_3R_272()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_273()) {
+    jj_scanpos = xsp;
+    if (jj_3R_274()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_266() {
-    if (jj_scan_token(PARENTHESIS_START_)) return true;
-    if (jj_3R_152()) return true;
+  private boolean jj_3R_410() {
+    if (jj_scan_token(CURRENTDATE_)) return true;
     return false;
   }
 
-  private boolean jj_3R_622() {
-    if (jj_3R_671()) return true;
+  private boolean jj_3R_244() {
+    if (jj_scan_token(PARENTHESIS_START_)) return true;
+    if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
 
-  private boolean jj_3R_412() {
-    if (jj_scan_token(TRUNCATE_)) return true;
+  private boolean jj_3R_409() {
+    if (jj_scan_token(MAX_)) return true;
     return false;
   }
 
-  private boolean jj_3_38() {
-    if (jj_scan_token(402)) return true;
-    if (jj_scan_token(INT_LITERAL)) return true;
+  private boolean jj_3R_130() {
+    if (jj_scan_token(CURRENT_DATABASE_)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_244()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_249() {
-    if (jj_scan_token(COVAR_SAMP_)) return true;
+  private boolean jj_3R_408() {
+    if (jj_scan_token(EXTRACT_)) return true;
     return false;
   }
 
-  private boolean jj_3R_621() {
-    if (jj_3R_670()) return true;
+  private boolean jj_3R_288() {
+    if (jj_3R_363()) return true;
     return false;
   }
 
-  private boolean jj_3R_365() {
-    if (jj_scan_token(CONSTRAINT_)) return true;
-    if (jj_3R_154()) return true;
+  private boolean jj_3R_407() {
+    if (jj_scan_token(COUNT_)) return true;
     return false;
   }
 
-  private boolean jj_3R_411() {
-    if (jj_scan_token(CURRENT_TIMESTAMP_)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_248() {
-    if (jj_scan_token(COVAR_POP_)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_265() {
-    if (jj_scan_token(NOT_)) return true;
+  private boolean jj_3R_287() {
+    if (jj_3R_362()) return true;
     return false;
   }
 
-  private boolean jj_3R_667() {
-    if (jj_scan_token(UNIQUE_)) return true;
+  private boolean jj_3R_406() {
+    if (jj_scan_token(AVERAGE_)) return true;
     return false;
   }
 
-  private boolean jj_3R_410() {
-    if (jj_scan_token(CURRENT_TIME_)) return true;
+  private boolean jj_3R_286() {
+    if (jj_3R_361()) return true;
     return false;
   }
 
-  private boolean jj_3R_247() {
-    if (jj_scan_token(CORR_)) return true;
+  private boolean jj_3R_405() {
+    if (jj_scan_token(PASSWORD_)) return true;
     return false;
   }
 
-  private boolean jj_3R_147() {
+  private boolean jj_3R_158() {
+    if (jj_3R_285()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_265()) jj_scanpos = xsp;
-    if (jj_scan_token(IN_)) return true;
+    if (jj_3R_286()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_266()) {
-    jj_scanpos = xsp;
-    if (jj_3R_267()) return true;
-    }
-    if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_666() {
-    if (jj_scan_token(DISTINCT_)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_409() {
-    if (jj_scan_token(CURRENTDATE_)) return true;
+    if (jj_3R_287()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_288()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_136() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_247()) {
-    jj_scanpos = xsp;
-    if (jj_3R_248()) {
-    jj_scanpos = xsp;
-    if (jj_3R_249()) return true;
-    }
-    }
-    if (jj_scan_token(PARENTHESIS_START_)) return true;
-    if (jj_3R_96()) return true;
-    if (jj_scan_token(402)) return true;
-    if (jj_3R_96()) return true;
-    if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
+  private boolean jj_3R_404() {
+    if (jj_scan_token(SAMLLDATETIME_)) return true;
     return false;
   }
 
-  private boolean jj_3R_665() {
-    if (jj_scan_token(ALL_)) return true;
+  private boolean jj_3R_403() {
+    if (jj_scan_token(DATETIME_)) return true;
     return false;
   }
 
-  private boolean jj_3R_408() {
-    if (jj_scan_token(MAX_)) return true;
+  private boolean jj_3R_292() {
+    if (jj_3R_155()) return true;
+    if (jj_3R_365()) return true;
     return false;
   }
 
-  private boolean jj_3R_619() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_665()) {
-    jj_scanpos = xsp;
-    if (jj_3R_666()) {
-    jj_scanpos = xsp;
-    if (jj_3R_667()) return true;
-    }
-    }
+  private boolean jj_3R_243() {
+    if (jj_scan_token(PARENTHESIS_START_)) return true;
+    if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
 
-  private boolean jj_3R_69() {
-    if (jj_scan_token(ALTER_)) return true;
-    if (jj_scan_token(USER_)) return true;
-    if (jj_3R_154()) return true;
+  private boolean jj_3R_402() {
+    if (jj_scan_token(WITHOUT_TIMEZONE_)) return true;
     return false;
   }
 
-  private boolean jj_3R_407() {
-    if (jj_scan_token(EXTRACT_)) return true;
+  private boolean jj_3R_322() {
+    if (jj_3R_389()) return true;
     return false;
   }
 
-  private boolean jj_3R_406() {
-    if (jj_scan_token(COUNT_)) return true;
+  private boolean jj_3R_168() {
+    if (jj_scan_token(TRANSACTION_)) return true;
     return false;
   }
 
-  private boolean jj_3R_83() {
-    if (jj_scan_token(SELECT_)) return true;
+  private boolean jj_3R_129() {
+    if (jj_scan_token(TRANSACTION_TIMESTAMP_)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_619()) jj_scanpos = xsp;
-    if (jj_3R_620()) return true;
-    xsp = jj_scanpos;
-    if (jj_3R_621()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_622()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_623()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_624()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_625()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3R_405() {
-    if (jj_scan_token(AVERAGE_)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_404() {
-    if (jj_scan_token(PASSWORD_)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_350() {
-    if (jj_scan_token(GIS_SAME_)) return true;
+    if (jj_3R_243()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_403() {
-    if (jj_scan_token(SAMLLDATETIME_)) return true;
+  private boolean jj_3R_401() {
+    if (jj_scan_token(WITH_TIMEZONE_)) return true;
     return false;
   }
 
-  private boolean jj_3R_349() {
-    if (jj_scan_token(NOT_BITWISE_)) return true;
+  private boolean jj_3R_46() {
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3R_402() {
-    if (jj_scan_token(DATETIME_)) return true;
+  private boolean jj_3_106() {
+    if (jj_3R_152()) return true;
     return false;
   }
 
-  private boolean jj_3R_738() {
-    if (jj_scan_token(DISTINCT_)) return true;
+  private boolean jj_3_104() {
+    if (jj_3R_150()) return true;
     return false;
   }
 
-  private boolean jj_3R_170() {
-    if (jj_scan_token(QUOTED_IDENTIFIER)) return true;
+  private boolean jj_3_3() {
+    if (jj_scan_token(TIMESTAMP_)) return true;
     return false;
   }
 
-  private boolean jj_3R_348() {
-    if (jj_scan_token(GIS_STRICT_ABOVE_)) return true;
+  private boolean jj_3_103() {
+    if (jj_3R_149()) return true;
     return false;
   }
 
-  private boolean jj_3R_401() {
-    if (jj_scan_token(WITHOUT_TIMEZONE_)) return true;
+  private boolean jj_3_2() {
+    if (jj_scan_token(TIME_)) return true;
     return false;
   }
 
-  private boolean jj_3R_169() {
-    if (jj_scan_token(ALL_)) return true;
+  private boolean jj_3_102() {
+    if (jj_3R_148()) return true;
     return false;
   }
 
-  private boolean jj_3R_347() {
-    if (jj_scan_token(GIS_OVERLAPS_ABOVE_)) return true;
+  private boolean jj_3R_400() {
+    if (jj_scan_token(QUARTER_)) return true;
     return false;
   }
 
-  private boolean jj_3R_400() {
-    if (jj_scan_token(WITH_TIMEZONE_)) return true;
+  private boolean jj_3R_399() {
+    if (jj_scan_token(DAY_)) return true;
     return false;
   }
 
-  private boolean jj_3R_135() {
-    if (jj_scan_token(BOOL_OR_)) return true;
-    if (jj_scan_token(PARENTHESIS_START_)) return true;
+  private boolean jj_3R_321() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_738()) jj_scanpos = xsp;
-    if (jj_3R_96()) return true;
-    if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_68() {
-    if (jj_scan_token(DROP_)) return true;
-    if (jj_scan_token(USER_)) return true;
-    if (jj_3R_154()) return true;
+    if (jj_3_102()) {
+    jj_scanpos = xsp;
+    if (jj_3_103()) {
+    jj_scanpos = xsp;
+    if (jj_3_104()) return true;
+    }
+    }
     return false;
   }
 
-  private boolean jj_3R_168() {
-    if (jj_scan_token(IDENTIFIER)) return true;
+  private boolean jj_3R_242() {
+    if (jj_scan_token(PARENTHESIS_START_)) return true;
+    if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
 
-  private boolean jj_3R_346() {
-    if (jj_scan_token(ABSOLUTE_)) return true;
+  private boolean jj_3R_296() {
+    if (jj_3R_369()) return true;
     return false;
   }
 
-  private boolean jj_3_3() {
-    if (jj_scan_token(TIMESTAMP_)) return true;
+  private boolean jj_3_101() {
+    if (jj_scan_token(PARENTHESIS_START_)) return true;
+    if (jj_3R_142()) return true;
+    if (jj_scan_token(402)) return true;
     return false;
   }
 
-  private boolean jj_3R_345() {
-    if (jj_scan_token(SHIFT_RIGHT_BITWISE_)) return true;
+  private boolean jj_3_105() {
+    if (jj_3R_151()) return true;
     return false;
   }
 
-  private boolean jj_3R_47() {
-    if (jj_scan_token(WITH_)) return true;
-    if (jj_3R_158()) return true;
+  private boolean jj_3_1() {
+    if (jj_scan_token(DATE_)) return true;
     return false;
   }
 
-  private boolean jj_3_2() {
-    if (jj_scan_token(TIME_)) return true;
+  private boolean jj_3R_295() {
+    if (jj_3R_368()) return true;
     return false;
   }
 
-  private boolean jj_3R_75() {
-    if (jj_scan_token(SHOW_)) return true;
+  private boolean jj_3R_265() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_168()) {
+    if (jj_3_105()) {
     jj_scanpos = xsp;
-    if (jj_3R_169()) {
+    if (jj_3R_321()) {
     jj_scanpos = xsp;
-    if (jj_3R_170()) return true;
+    if (jj_3_106()) {
+    jj_scanpos = xsp;
+    if (jj_3R_322()) return true;
+    }
     }
     }
     return false;
   }
 
-  private boolean jj_3R_344() {
-    if (jj_scan_token(GIS_STRICT_BELOW_)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_399() {
-    if (jj_scan_token(QUARTER_)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_343() {
-    if (jj_scan_token(SHIFT_LEFT_BITWISE_)) return true;
+  private boolean jj_3R_128() {
+    if (jj_scan_token(STATEMENT_TIMESTAMP_)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_242()) jj_scanpos = xsp;
     return false;
   }
 
   private boolean jj_3R_398() {
-    if (jj_scan_token(DAY_)) return true;
+    if (jj_scan_token(POSITION_)) return true;
     return false;
   }
 
-  private boolean jj_3R_342() {
-    if (jj_scan_token(GIS_OVERLAPS_RIGHT_)) return true;
+  private boolean jj_3_47() {
+    if (jj_scan_token(402)) return true;
+    if (jj_3R_97()) return true;
     return false;
   }
 
-  private boolean jj_3_1() {
-    if (jj_scan_token(DATE_)) return true;
+  private boolean jj_3R_294() {
+    if (jj_3R_367()) return true;
     return false;
   }
 
-  private boolean jj_3R_300() {
-    if (jj_scan_token(ROUND_ROBIN_)) return true;
-    if (jj_scan_token(ON_)) return true;
+  private boolean jj_3R_264() {
+    if (jj_3R_142()) return true;
     return false;
   }
 
-  private boolean jj_3R_341() {
-    if (jj_scan_token(GIS_OVERLAPS_BELOW_)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_737() {
-    if (jj_scan_token(DISTINCT_)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_397() {
-    if (jj_scan_token(POSITION_)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_340() {
-    if (jj_scan_token(GIS_OVERLAPS_LEFT_)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_363() {
-    if (jj_3R_531()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_357() {
+  private boolean jj_3R_358() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_397()) {
+    if (jj_3R_398()) {
     jj_scanpos = xsp;
     if (jj_3_1()) {
     jj_scanpos = xsp;
-    if (jj_3R_398()) {
-    jj_scanpos = xsp;
     if (jj_3R_399()) {
     jj_scanpos = xsp;
+    if (jj_3R_400()) {
+    jj_scanpos = xsp;
     if (jj_3_2()) {
     jj_scanpos = xsp;
     if (jj_3_3()) {
     jj_scanpos = xsp;
-    if (jj_3R_400()) {
-    jj_scanpos = xsp;
     if (jj_3R_401()) {
     jj_scanpos = xsp;
     if (jj_3R_402()) {
@@ -23167,7 +23358,9 @@ A list of Identifiers seprated by commas
     jj_scanpos = xsp;
     if (jj_3R_526()) {
     jj_scanpos = xsp;
-    if (jj_3R_527()) return true;
+    if (jj_3R_527()) {
+    jj_scanpos = xsp;
+    if (jj_3R_528()) return true;
     }
     }
     }
@@ -23304,2766 +23497,2817 @@ A list of Identifiers seprated by commas
     return false;
   }
 
-  private boolean jj_3R_371() {
-    if (jj_scan_token(NODES_)) return true;
+  private boolean jj_3R_263() {
+    if (jj_3R_320()) return true;
     return false;
   }
 
-  private boolean jj_3R_339() {
-    if (jj_scan_token(GIS_OVERLAPS_)) return true;
+  private boolean jj_3R_293() {
+    if (jj_3R_366()) return true;
     return false;
   }
 
-  private boolean jj_3R_246() {
-    if (jj_scan_token(EVERY_)) return true;
+  private boolean jj_3R_147() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_263()) {
+    jj_scanpos = xsp;
+    if (jj_3R_264()) return true;
+    }
+    xsp = jj_scanpos;
+    if (jj_3R_265()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_288() {
-    if (jj_3R_154()) return true;
+  private boolean jj_3R_173() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_363()) jj_scanpos = xsp;
-    if (jj_scan_token(AS_)) return true;
-    if (jj_scan_token(PARENTHESIS_START_)) return true;
+    if (jj_3R_293()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_294()) {
+    jj_scanpos = xsp;
+    if (jj_3R_295()) {
+    jj_scanpos = xsp;
+    if (jj_3R_296()) return true;
+    }
+    }
     return false;
   }
 
-  private boolean jj_3R_370() {
-    if (jj_scan_token(NODE_)) return true;
+  private boolean jj_3R_172() {
+    if (jj_3R_292()) return true;
     return false;
   }
 
-  private boolean jj_3R_338() {
-    if (jj_scan_token(LESS_EQUALS_)) return true;
+  private boolean jj_3R_78() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_172()) {
+    jj_scanpos = xsp;
+    if (jj_3R_173()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_245() {
-    if (jj_scan_token(BOOL_AND_)) return true;
+  private boolean jj_3R_45() {
+    if (jj_scan_token(SELECT_)) return true;
+    if (jj_scan_token(ADDGEOMETRYCOLUMN_)) return true;
+    if (jj_scan_token(PARENTHESIS_START_)) return true;
+    if (jj_3R_97()) return true;
     return false;
   }
 
-  private boolean jj_3R_337() {
-    if (jj_scan_token(LESS_)) return true;
+  private boolean jj_3R_241() {
+    if (jj_scan_token(PARENTHESIS_START_)) return true;
+    if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
 
-  private boolean jj_3R_67() {
-    if (jj_scan_token(CREATE_)) return true;
-    if (jj_scan_token(USER_)) return true;
-    if (jj_3R_154()) return true;
+  private boolean jj_3R_167() {
+    if (jj_3R_155()) return true;
     return false;
   }
 
-  private boolean jj_3R_134() {
+  private boolean jj_3R_127() {
+    if (jj_scan_token(CLOCK_TIMESTAMP_)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_245()) {
-    jj_scanpos = xsp;
-    if (jj_3R_246()) return true;
-    }
-    if (jj_scan_token(PARENTHESIS_START_)) return true;
-    xsp = jj_scanpos;
-    if (jj_3R_737()) jj_scanpos = xsp;
-    if (jj_3R_96()) return true;
-    if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_336() {
-    if (jj_scan_token(GREATER_EQUALS_)) return true;
+    if (jj_3R_241()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_299() {
-    if (jj_scan_token(ON_)) return true;
+  private boolean jj_3R_75() {
+    if (jj_scan_token(SET_)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_370()) {
+    if (jj_3R_167()) {
     jj_scanpos = xsp;
-    if (jj_3R_371()) return true;
+    if (jj_3R_168()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_335() {
-    if (jj_scan_token(GREATER_)) return true;
+  private boolean jj_3R_260() {
+    if (jj_scan_token(NOT_)) return true;
     return false;
   }
 
-  private boolean jj_3R_298() {
-    if (jj_scan_token(REPLICATED_)) return true;
+  private boolean jj_3R_369() {
+    if (jj_scan_token(CHECK_)) return true;
+    if (jj_scan_token(PARENTHESIS_START_)) return true;
     return false;
   }
 
-  private boolean jj_3R_334() {
-    if (jj_scan_token(NOT_EQUALS_2_)) return true;
+  private boolean jj_3R_143() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_260()) jj_scanpos = xsp;
+    if (jj_scan_token(EXISTS_)) return true;
+    if (jj_scan_token(PARENTHESIS_START_)) return true;
+    if (jj_3R_153()) return true;
+    if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
 
-  private boolean jj_3R_333() {
-    if (jj_scan_token(XOR_BITWISE_)) return true;
+  private boolean jj_3R_139() {
+    if (jj_scan_token(COALESCE_)) return true;
+    if (jj_scan_token(PARENTHESIS_START_)) return true;
+    if (jj_3R_740()) return true;
+    if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
 
-  private boolean jj_3R_297() {
-    if (jj_scan_token(PARTITION_WITH_)) return true;
-    if (jj_scan_token(PARENT_)) return true;
+  private boolean jj_3R_262() {
+    if (jj_scan_token(FALSE_)) return true;
     return false;
   }
 
-  private boolean jj_3R_332() {
-    if (jj_scan_token(NOT_EQUALS_)) return true;
+  private boolean jj_3R_367() {
+    if (jj_scan_token(PRIMARYKEY_)) return true;
+    if (jj_scan_token(PARENTHESIS_START_)) return true;
     return false;
   }
 
-  private boolean jj_3R_158() {
-    if (jj_3R_288()) return true;
+  private boolean jj_3R_261() {
+    if (jj_scan_token(TRUE_)) return true;
     return false;
   }
 
-  private boolean jj_3R_331() {
-    if (jj_scan_token(EQUALS_)) return true;
+  private boolean jj_3R_62() {
+    if (jj_scan_token(SHOW_TRAN_ISOLATION_)) return true;
     return false;
   }
 
-  private boolean jj_3R_165() {
-    if (jj_scan_token(PREPARE_)) return true;
+  private boolean jj_3R_145() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_261()) {
+    jj_scanpos = xsp;
+    if (jj_3R_262()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_369() {
-    if (jj_3R_154()) return true;
+  private boolean jj_3R_140() {
+    if (jj_scan_token(NULLIF_)) return true;
+    if (jj_scan_token(PARENTHESIS_START_)) return true;
+    if (jj_3R_97()) return true;
+    if (jj_scan_token(402)) return true;
+    if (jj_3R_97()) return true;
+    if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
 
-  private boolean jj_3R_736() {
-    if (jj_scan_token(DISTINCT_)) return true;
+  private boolean jj_3R_761() {
+    if (jj_scan_token(402)) return true;
+    if (jj_scan_token(INT_LITERAL)) return true;
     return false;
   }
 
-  private boolean jj_3R_271() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_331()) {
-    jj_scanpos = xsp;
-    if (jj_3R_332()) {
-    jj_scanpos = xsp;
-    if (jj_3R_333()) {
-    jj_scanpos = xsp;
-    if (jj_3R_334()) {
-    jj_scanpos = xsp;
-    if (jj_3R_335()) {
-    jj_scanpos = xsp;
-    if (jj_3R_336()) {
-    jj_scanpos = xsp;
-    if (jj_3R_337()) {
-    jj_scanpos = xsp;
-    if (jj_3R_338()) {
-    jj_scanpos = xsp;
-    if (jj_3R_339()) {
-    jj_scanpos = xsp;
-    if (jj_3R_340()) {
-    jj_scanpos = xsp;
-    if (jj_3R_341()) {
-    jj_scanpos = xsp;
-    if (jj_3R_342()) {
-    jj_scanpos = xsp;
-    if (jj_3R_343()) {
-    jj_scanpos = xsp;
-    if (jj_3R_344()) {
-    jj_scanpos = xsp;
-    if (jj_3R_345()) {
-    jj_scanpos = xsp;
-    if (jj_3R_346()) {
-    jj_scanpos = xsp;
-    if (jj_3R_347()) {
-    jj_scanpos = xsp;
-    if (jj_3R_348()) {
-    jj_scanpos = xsp;
-    if (jj_3R_349()) {
-    jj_scanpos = xsp;
-    if (jj_3R_350()) return true;
-    }
-    }
-    }
-    }
-    }
-    }
-    }
-    }
-    }
-    }
-    }
-    }
-    }
-    }
-    }
-    }
-    }
-    }
-    }
+  private boolean jj_3R_60() {
+    if (jj_scan_token(SHOW_TABLES_)) return true;
     return false;
   }
 
-  private boolean jj_3R_65() {
-    if (jj_scan_token(DEALLOCATE_)) return true;
+  private boolean jj_3R_185() {
+    if (jj_scan_token(PARENTHESIS_START_)) return true;
+    if (jj_scan_token(INT_LITERAL)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_165()) jj_scanpos = xsp;
-    if (jj_3R_154()) return true;
+    if (jj_3R_761()) jj_scanpos = xsp;
+    if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
 
-  private boolean jj_3R_167() {
-    if (jj_scan_token(TRANSACTION_)) return true;
+  private boolean jj_3R_146() {
+    if (jj_scan_token(NOT_)) return true;
     return false;
   }
 
-  private boolean jj_3R_296() {
-    if (jj_scan_token(PARTITIONINGKEY_)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_369()) jj_scanpos = xsp;
-    if (jj_scan_token(ON_)) return true;
+  private boolean jj_3_30() {
+    if (jj_3R_76()) return true;
     return false;
   }
 
-  private boolean jj_3R_133() {
-    if (jj_scan_token(BIT_OR_)) return true;
-    if (jj_scan_token(PARENTHESIS_START_)) return true;
+  private boolean jj_3_100() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_736()) jj_scanpos = xsp;
-    if (jj_3R_96()) return true;
-    if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
+    if (jj_3R_146()) jj_scanpos = xsp;
+    if (jj_3R_147()) return true;
     return false;
   }
 
-  private boolean jj_3R_173() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_296()) {
-    jj_scanpos = xsp;
-    if (jj_3R_297()) {
-    jj_scanpos = xsp;
-    if (jj_3R_298()) {
-    jj_scanpos = xsp;
-    if (jj_3R_299()) {
-    jj_scanpos = xsp;
-    if (jj_3R_300()) return true;
-    }
-    }
-    }
-    }
+  private boolean jj_3R_58() {
+    if (jj_scan_token(SHOW_STATEMENTS_)) return true;
     return false;
   }
 
-  private boolean jj_3R_584() {
-    if (jj_scan_token(PARENTHESIS_START_)) return true;
-    if (jj_3R_277()) return true;
-    if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
+  private boolean jj_3R_741() {
+    if (jj_3R_740()) return true;
     return false;
   }
 
-  private boolean jj_3R_72() {
-    if (jj_scan_token(SHOW_VIEWS_)) return true;
+  private boolean jj_3_37() {
+    if (jj_scan_token(PARENTHESIS_START_)) return true;
+    if (jj_3R_85()) return true;
     return false;
   }
 
-  private boolean jj_3R_735() {
-    if (jj_scan_token(DISTINCT_)) return true;
+  private boolean jj_3R_144() {
+    if (jj_scan_token(NOT_)) return true;
     return false;
   }
 
-  private boolean jj_3R_70() {
-    if (jj_scan_token(SHOW_USERS_)) return true;
+  private boolean jj_3R_141() {
+    if (jj_3R_155()) return true;
+    if (jj_scan_token(PARENTHESIS_START_)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_741()) jj_scanpos = xsp;
+    if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
 
-  private boolean jj_3R_132() {
-    if (jj_scan_token(BIT_AND_)) return true;
-    if (jj_scan_token(PARENTHESIS_START_)) return true;
+  private boolean jj_3_99() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_735()) jj_scanpos = xsp;
-    if (jj_3R_96()) return true;
-    if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
+    if (jj_3R_144()) jj_scanpos = xsp;
+    if (jj_3R_145()) return true;
     return false;
   }
 
-  private boolean jj_3R_393() {
-    if (jj_scan_token(PARENTHESIS_START_)) return true;
-    if (jj_3R_355()) return true;
-    if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
+  private boolean jj_3R_56() {
+    if (jj_scan_token(SHOW_DATABASES_)) return true;
     return false;
   }
 
-  private boolean jj_3R_392() {
-    if (jj_3R_83()) return true;
+  private boolean jj_3R_187() {
+    if (jj_scan_token(ZEROFILL_)) return true;
     return false;
   }
 
-  private boolean jj_3R_355() {
+  private boolean jj_3_98() {
+    if (jj_3R_143()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_186() {
+    if (jj_scan_token(UNSIGNED_)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_317() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_392()) {
+    if (jj_3_98()) {
+    jj_scanpos = xsp;
+    if (jj_3_99()) {
     jj_scanpos = xsp;
-    if (jj_3R_393()) return true;
+    if (jj_3_100()) return true;
+    }
     }
     return false;
   }
 
-  private boolean jj_3R_64() {
-    if (jj_scan_token(SHOW_INDEXES_)) return true;
-    if (jj_scan_token(ON_)) return true;
+  private boolean jj_3R_96() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_186()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_187()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_273() {
-    if (jj_3R_141()) return true;
+  private boolean jj_3R_54() {
+    if (jj_scan_token(SHOW_CLUSTER_)) return true;
     return false;
   }
 
-  private boolean jj_3R_166() {
-    if (jj_3R_154()) return true;
+  private boolean jj_3_93() {
+    if (jj_3R_141()) return true;
     return false;
   }
 
-  private boolean jj_3R_131() {
-    if (jj_scan_token(VERSION_)) return true;
-    if (jj_scan_token(PARENTHESIS_START_)) return true;
-    if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
+  private boolean jj_3_92() {
+    if (jj_3R_140()) return true;
     return false;
   }
 
-  private boolean jj_3R_396() {
-    if (jj_3R_584()) return true;
+  private boolean jj_3_91() {
+    if (jj_3R_139()) return true;
     return false;
   }
 
-  private boolean jj_3R_353() {
-    if (jj_scan_token(PARENTHESIS_START_)) return true;
-    if (jj_3R_319()) return true;
-    if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
+  private boolean jj_3R_52() {
+    if (jj_scan_token(SHOW_AGENTS_)) return true;
     return false;
   }
 
-  private boolean jj_3_107() {
-    if (jj_scan_token(PARENTHESIS_START_)) return true;
-    if (jj_3R_152()) return true;
+  private boolean jj_3_90() {
+    if (jj_3R_138()) return true;
     return false;
   }
 
-  private boolean jj_3R_63() {
-    if (jj_scan_token(SHOW_CONSTRAINTS_)) return true;
-    if (jj_scan_token(ON_)) return true;
+  private boolean jj_3_89() {
+    if (jj_3R_137()) return true;
     return false;
   }
 
-  private boolean jj_3R_395() {
-    if (jj_3R_83()) return true;
+  private boolean jj_3R_760() {
+    if (jj_scan_token(PARENTHESIS_START_)) return true;
+    if (jj_scan_token(INT_LITERAL)) return true;
+    if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
 
-  private boolean jj_3R_74() {
-    if (jj_scan_token(SET_)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_166()) {
-    jj_scanpos = xsp;
-    if (jj_3R_167()) return true;
-    }
+  private boolean jj_3_88() {
+    if (jj_3R_136()) return true;
     return false;
   }
 
-  private boolean jj_3R_394() {
-    if (jj_scan_token(ALL_)) return true;
+  private boolean jj_3_97() {
+    if (jj_scan_token(LEFTOUTER_)) return true;
     return false;
   }
 
-  private boolean jj_3R_352() {
-    if (jj_scan_token(PARENTHESIS_START_)) return true;
-    if (jj_3R_152()) return true;
-    if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
+  private boolean jj_3_29() {
+    if (jj_3R_75()) return true;
     return false;
   }
 
-  private boolean jj_3R_367() {
-    if (jj_scan_token(FOREIGNKEY_)) return true;
-    if (jj_scan_token(PARENTHESIS_START_)) return true;
+  private boolean jj_3_87() {
+    if (jj_3R_135()) return true;
     return false;
   }
 
-  private boolean jj_3R_244() {
-    if (jj_scan_token(PARENTHESIS_START_)) return true;
-    if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
+  private boolean jj_3R_742() {
+    if (jj_scan_token(AND_)) return true;
+    if (jj_3R_317()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3_97()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_356() {
-    if (jj_scan_token(UNION_)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_394()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_395()) {
-    jj_scanpos = xsp;
-    if (jj_3R_396()) return true;
-    }
+  private boolean jj_3R_665() {
+    if (jj_scan_token(SCIENTIFIC_LITERAL)) return true;
     return false;
   }
 
-  private boolean jj_3R_391() {
-    if (jj_scan_token(SOME_)) return true;
+  private boolean jj_3_86() {
+    if (jj_3R_134()) return true;
     return false;
   }
 
-  private boolean jj_3R_277() {
-    if (jj_3R_355()) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_356()) { jj_scanpos = xsp; break; }
-    }
+  private boolean jj_3R_664() {
+    if (jj_scan_token(INT_LITERAL)) return true;
     return false;
   }
 
-  private boolean jj_3R_130() {
-    if (jj_scan_token(CURRENT_SCHEMA_)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_244()) jj_scanpos = xsp;
+  private boolean jj_3_85() {
+    if (jj_3R_133()) return true;
     return false;
   }
 
-  private boolean jj_3R_390() {
-    if (jj_scan_token(ANY_)) return true;
+  private boolean jj_3R_745() {
+    if (jj_3R_760()) return true;
     return false;
   }
 
-  private boolean jj_3_108() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_scan_token(59)) {
-    jj_scanpos = xsp;
-    if (jj_scan_token(57)) {
-    jj_scanpos = xsp;
-    if (jj_scan_token(109)) return true;
-    }
-    }
+  private boolean jj_3_84() {
+    if (jj_3R_132()) return true;
     return false;
   }
 
-  private boolean jj_3R_389() {
-    if (jj_scan_token(ALL_)) return true;
+  private boolean jj_3_115() {
+    if (jj_scan_token(DECIMAL_LITERAL)) return true;
     return false;
   }
 
-  private boolean jj_3R_351() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_389()) {
-    jj_scanpos = xsp;
-    if (jj_3R_390()) {
-    jj_scanpos = xsp;
-    if (jj_3R_391()) return true;
-    }
-    }
+  private boolean jj_3_46() {
+    if (jj_scan_token(VARYING_)) return true;
     return false;
   }
 
-  private boolean jj_3R_272() {
+  private boolean jj_3R_615() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_351()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_352()) {
+    if (jj_3_115()) {
+    jj_scanpos = xsp;
+    if (jj_3R_664()) {
     jj_scanpos = xsp;
-    if (jj_3R_353()) return true;
+    if (jj_3R_665()) return true;
+    }
     }
     return false;
   }
 
-  private boolean jj_3R_284() {
-    if (jj_3R_277()) return true;
+  private boolean jj_3_83() {
+    if (jj_3R_131()) return true;
     return false;
   }
 
-  private boolean jj_3R_150() {
-    if (jj_3R_271()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_272()) {
-    jj_scanpos = xsp;
-    if (jj_3R_273()) return true;
-    }
+  private boolean jj_3R_695() {
+    if (jj_scan_token(OR_)) return true;
+    if (jj_3R_224()) return true;
     return false;
   }
 
-  private boolean jj_3_30() {
-    if (jj_3R_75()) return true;
+  private boolean jj_3R_638() {
+    if (jj_scan_token(CHAR_)) return true;
     return false;
   }
 
-  private boolean jj_3R_243() {
-    if (jj_scan_token(PARENTHESIS_START_)) return true;
-    if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
+  private boolean jj_3_82() {
+    if (jj_3R_130()) return true;
     return false;
   }
 
-  private boolean jj_3R_129() {
-    if (jj_scan_token(CURRENT_DATABASE_)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_243()) jj_scanpos = xsp;
+  private boolean jj_3R_290() {
+    if (jj_scan_token(TABLE_)) return true;
     return false;
   }
 
-  private boolean jj_3R_287() {
-    if (jj_3R_362()) return true;
+  private boolean jj_3R_637() {
+    if (jj_scan_token(CHARACHTER_)) return true;
     return false;
   }
 
-  private boolean jj_3_29() {
-    if (jj_3R_74()) return true;
+  private boolean jj_3_81() {
+    if (jj_3R_129()) return true;
     return false;
   }
 
-  private boolean jj_3R_286() {
-    if (jj_3R_361()) return true;
+  private boolean jj_3R_43() {
+    if (jj_scan_token(DROP_)) return true;
+    if (jj_scan_token(TABLE_)) return true;
+    if (jj_3R_49()) return true;
     return false;
   }
 
-  private boolean jj_3R_285() {
-    if (jj_3R_360()) return true;
+  private boolean jj_3_80() {
+    if (jj_3R_128()) return true;
     return false;
   }
 
-  private boolean jj_3R_157() {
-    if (jj_3R_284()) return true;
+  private boolean jj_3R_592() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_285()) jj_scanpos = xsp;
+    if (jj_3R_637()) {
+    jj_scanpos = xsp;
+    if (jj_3R_638()) return true;
+    }
     xsp = jj_scanpos;
-    if (jj_3R_286()) jj_scanpos = xsp;
+    if (jj_3_46()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_287()) jj_scanpos = xsp;
+    if (jj_3R_745()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_291() {
-    if (jj_3R_154()) return true;
-    if (jj_3R_364()) return true;
+  private boolean jj_3R_694() {
+    if (jj_3R_742()) return true;
     return false;
   }
 
-  private boolean jj_3R_242() {
-    if (jj_scan_token(PARENTHESIS_START_)) return true;
-    if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
+  private boolean jj_3_79() {
+    if (jj_3R_127()) return true;
     return false;
   }
 
-  private boolean jj_3R_321() {
-    if (jj_3R_388()) return true;
+  private boolean jj_3_78() {
+    if (jj_3R_126()) return true;
     return false;
   }
 
-  private boolean jj_3R_128() {
-    if (jj_scan_token(TRANSACTION_TIMESTAMP_)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_242()) jj_scanpos = xsp;
+  private boolean jj_3R_163() {
+    if (jj_scan_token(QPUBLICDOT_)) return true;
+    if (jj_3R_155()) return true;
     return false;
   }
 
-  private boolean jj_3R_45() {
-    if (jj_3R_157()) return true;
+  private boolean jj_3_96() {
+    if (jj_scan_token(LEFTOUTER_)) return true;
     return false;
   }
 
-  private boolean jj_3_106() {
-    if (jj_3R_151()) return true;
+  private boolean jj_3_77() {
+    if (jj_3R_125()) return true;
     return false;
   }
 
-  private boolean jj_3_104() {
-    if (jj_3R_149()) return true;
+  private boolean jj_3R_224() {
+    if (jj_3R_317()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3_96()) jj_scanpos = xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_694()) { jj_scanpos = xsp; break; }
+    }
     return false;
   }
 
-  private boolean jj_3_103() {
-    if (jj_3R_148()) return true;
+  private boolean jj_3_76() {
+    if (jj_3R_124()) return true;
     return false;
   }
 
-  private boolean jj_3_102() {
-    if (jj_3R_147()) return true;
+  private boolean jj_3R_162() {
+    if (jj_scan_token(PUBLICDOT_)) return true;
+    if (jj_3R_155()) return true;
     return false;
   }
 
-  private boolean jj_3R_320() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3_102()) {
-    jj_scanpos = xsp;
-    if (jj_3_103()) {
-    jj_scanpos = xsp;
-    if (jj_3_104()) return true;
-    }
-    }
+  private boolean jj_3R_74() {
+    if (jj_scan_token(SEMICOLON_)) return true;
     return false;
   }
 
-  private boolean jj_3R_241() {
-    if (jj_scan_token(PARENTHESIS_START_)) return true;
-    if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
+  private boolean jj_3R_291() {
+    if (jj_scan_token(TABLESPACE_)) return true;
     return false;
   }
 
-  private boolean jj_3R_295() {
-    if (jj_3R_368()) return true;
+  private boolean jj_3_75() {
+    if (jj_3R_123()) return true;
     return false;
   }
 
-  private boolean jj_3_101() {
-    if (jj_scan_token(PARENTHESIS_START_)) return true;
-    if (jj_3R_141()) return true;
-    if (jj_scan_token(402)) return true;
+  private boolean jj_3R_633() {
+    if (jj_scan_token(FLOAT8_)) return true;
     return false;
   }
 
-  private boolean jj_3_105() {
-    if (jj_3R_150()) return true;
+  private boolean jj_3_74() {
+    if (jj_3R_122()) return true;
     return false;
   }
 
-  private boolean jj_3R_73() {
-    if (jj_scan_token(SEMICOLON_)) return true;
+  private boolean jj_3R_161() {
+    if (jj_scan_token(TEMPDOT_)) return true;
+    if (jj_3R_155()) return true;
     return false;
   }
 
-  private boolean jj_3R_294() {
-    if (jj_3R_367()) return true;
+  private boolean jj_3R_632() {
+    if (jj_scan_token(DOUBLE_PRECISION_)) return true;
     return false;
   }
 
-  private boolean jj_3R_264() {
+  private boolean jj_3_28() {
+    if (jj_3R_73()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_105()) {
-    jj_scanpos = xsp;
-    if (jj_3R_320()) {
-    jj_scanpos = xsp;
-    if (jj_3_106()) {
-    jj_scanpos = xsp;
-    if (jj_3R_321()) return true;
-    }
-    }
-    }
+    if (jj_3R_74()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_127() {
-    if (jj_scan_token(STATEMENT_TIMESTAMP_)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_241()) jj_scanpos = xsp;
+  private boolean jj_3_73() {
+    if (jj_3R_121()) return true;
     return false;
   }
 
-  private boolean jj_3_47() {
-    if (jj_scan_token(402)) return true;
-    if (jj_3R_96()) return true;
+  private boolean jj_3R_160() {
+    if (jj_3R_155()) return true;
     return false;
   }
 
-  private boolean jj_3R_293() {
-    if (jj_3R_366()) return true;
+  private boolean jj_3R_588() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_632()) {
+    jj_scanpos = xsp;
+    if (jj_3R_633()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_263() {
-    if (jj_3R_141()) return true;
+  private boolean jj_3R_72() {
+    if (jj_scan_token(SEMICOLON_)) return true;
     return false;
   }
 
-  private boolean jj_3_28() {
-    if (jj_3R_72()) return true;
+  private boolean jj_3_72() {
+    if (jj_3R_120()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_49() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_73()) jj_scanpos = xsp;
+    if (jj_3R_160()) {
+    jj_scanpos = xsp;
+    if (jj_3R_161()) {
+    jj_scanpos = xsp;
+    if (jj_3R_162()) {
+    jj_scanpos = xsp;
+    if (jj_3R_163()) return true;
+    }
+    }
+    }
     return false;
   }
 
-  private boolean jj_3R_262() {
-    if (jj_3R_319()) return true;
+  private boolean jj_3R_685() {
+    if (jj_3R_695()) return true;
     return false;
   }
 
-  private boolean jj_3R_292() {
-    if (jj_3R_365()) return true;
+  private boolean jj_3_71() {
+    if (jj_3R_119()) return true;
     return false;
   }
 
-  private boolean jj_3R_71() {
-    if (jj_scan_token(SEMICOLON_)) return true;
+  private boolean jj_3R_165() {
+    if (jj_3R_291()) return true;
     return false;
   }
 
-  private boolean jj_3R_146() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_262()) {
-    jj_scanpos = xsp;
-    if (jj_3R_263()) return true;
-    }
-    xsp = jj_scanpos;
-    if (jj_3R_264()) jj_scanpos = xsp;
+  private boolean jj_3R_532() {
+    if (jj_scan_token(PARENTHESIS_START_)) return true;
+    if (jj_3R_85()) return true;
     return false;
   }
 
-  private boolean jj_3R_172() {
+  private boolean jj_3_27() {
+    if (jj_3R_71()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_292()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_293()) {
-    jj_scanpos = xsp;
-    if (jj_3R_294()) {
-    jj_scanpos = xsp;
-    if (jj_3R_295()) return true;
-    }
-    }
+    if (jj_3R_72()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_171() {
-    if (jj_3R_291()) return true;
+  private boolean jj_3R_164() {
+    if (jj_3R_290()) return true;
     return false;
   }
 
-  private boolean jj_3_27() {
-    if (jj_3R_70()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_71()) jj_scanpos = xsp;
+  private boolean jj_3_70() {
+    if (jj_3R_118()) return true;
     return false;
   }
 
-  private boolean jj_3R_77() {
+  private boolean jj_3R_105() {
+    if (jj_3R_224()) return true;
     Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_171()) {
-    jj_scanpos = xsp;
-    if (jj_3R_172()) return true;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_685()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_44() {
-    if (jj_scan_token(SELECT_)) return true;
-    if (jj_scan_token(ADDGEOMETRYCOLUMN_)) return true;
-    if (jj_scan_token(PARENTHESIS_START_)) return true;
-    if (jj_3R_96()) return true;
+  private boolean jj_3R_747() {
+    if (jj_3R_760()) return true;
     return false;
   }
 
-  private boolean jj_3R_240() {
-    if (jj_scan_token(PARENTHESIS_START_)) return true;
-    if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
+  private boolean jj_3_69() {
+    if (jj_3R_117()) return true;
     return false;
   }
 
-  private boolean jj_3R_126() {
-    if (jj_scan_token(CLOCK_TIMESTAMP_)) return true;
+  private boolean jj_3R_50() {
+    if (jj_scan_token(ALTER_)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_240()) jj_scanpos = xsp;
+    if (jj_3R_164()) {
+    jj_scanpos = xsp;
+    if (jj_3R_165()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_289() {
-    if (jj_scan_token(TABLE_)) return true;
+  private boolean jj_3_68() {
+    if (jj_3R_116()) return true;
     return false;
   }
 
-  private boolean jj_3R_259() {
-    if (jj_scan_token(NOT_)) return true;
+  private boolean jj_3_45() {
+    if (jj_scan_token(VARYING_)) return true;
     return false;
   }
 
-  private boolean jj_3R_368() {
-    if (jj_scan_token(CHECK_)) return true;
-    if (jj_scan_token(PARENTHESIS_START_)) return true;
+  private boolean jj_3_67() {
+    if (jj_3R_115()) return true;
     return false;
   }
 
-  private boolean jj_3R_142() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_259()) jj_scanpos = xsp;
-    if (jj_scan_token(EXISTS_)) return true;
-    if (jj_scan_token(PARENTHESIS_START_)) return true;
-    if (jj_3R_152()) return true;
-    if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
+  private boolean jj_3R_189() {
+    if (jj_3R_155()) return true;
     return false;
   }
 
-  private boolean jj_3R_138() {
-    if (jj_scan_token(COALESCE_)) return true;
-    if (jj_scan_token(PARENTHESIS_START_)) return true;
-    if (jj_3R_739()) return true;
-    if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
+  private boolean jj_3R_765() {
+    if (jj_scan_token(CHARACHTER_)) return true;
     return false;
   }
 
-  private boolean jj_3R_290() {
-    if (jj_scan_token(TABLESPACE_)) return true;
+  private boolean jj_3_66() {
+    if (jj_3R_114()) return true;
     return false;
   }
 
-  private boolean jj_3R_261() {
-    if (jj_scan_token(FALSE_)) return true;
+  private boolean jj_3R_764() {
+    if (jj_scan_token(CHAR_)) return true;
     return false;
   }
 
-  private boolean jj_3R_366() {
-    if (jj_scan_token(PRIMARYKEY_)) return true;
-    if (jj_scan_token(PARENTHESIS_START_)) return true;
+  private boolean jj_3_65() {
+    if (jj_3R_113()) return true;
     return false;
   }
 
-  private boolean jj_3R_260() {
-    if (jj_scan_token(TRUE_)) return true;
+  private boolean jj_3_64() {
+    if (jj_3R_112()) return true;
     return false;
   }
 
-  private boolean jj_3R_61() {
-    if (jj_scan_token(SHOW_TRAN_ISOLATION_)) return true;
+  private boolean jj_3R_188() {
+    if (jj_scan_token(AS_)) return true;
     return false;
   }
 
-  private boolean jj_3R_164() {
-    if (jj_3R_290()) return true;
+  private boolean jj_3_114() {
+    if (jj_scan_token(402)) return true;
+    if (jj_3R_155()) return true;
     return false;
   }
 
-  private boolean jj_3R_144() {
+  private boolean jj_3R_98() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_260()) {
-    jj_scanpos = xsp;
-    if (jj_3R_261()) return true;
-    }
+    if (jj_3R_188()) jj_scanpos = xsp;
+    if (jj_3R_189()) return true;
     return false;
   }
 
-  private boolean jj_3_26() {
-    if (jj_3R_69()) return true;
+  private boolean jj_3_63() {
+    if (jj_3R_111()) return true;
     return false;
   }
 
-  private boolean jj_3R_163() {
-    if (jj_3R_289()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_139() {
-    if (jj_scan_token(NULLIF_)) return true;
-    if (jj_scan_token(PARENTHESIS_START_)) return true;
-    if (jj_3R_96()) return true;
-    if (jj_scan_token(402)) return true;
-    if (jj_3R_96()) return true;
-    if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
+  private boolean jj_3R_85() {
+    if (jj_3R_155()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3_114()) { jj_scanpos = xsp; break; }
+    }
     return false;
   }
 
-  private boolean jj_3R_760() {
-    if (jj_scan_token(402)) return true;
-    if (jj_scan_token(INT_LITERAL)) return true;
+  private boolean jj_3R_645() {
+    if (jj_scan_token(NATIONAL_)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_764()) {
+    jj_scanpos = xsp;
+    if (jj_3R_765()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_570() {
-    if (jj_scan_token(STRING_LITERAL)) return true;
+  private boolean jj_3_62() {
+    if (jj_3R_110()) return true;
     return false;
   }
 
-  private boolean jj_3R_49() {
-    if (jj_scan_token(ALTER_)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_163()) {
-    jj_scanpos = xsp;
-    if (jj_3R_164()) return true;
-    }
+  private boolean jj_3R_644() {
+    if (jj_scan_token(NCHAR_)) return true;
     return false;
   }
 
-  private boolean jj_3R_59() {
-    if (jj_scan_token(SHOW_TABLES_)) return true;
+  private boolean jj_3R_51() {
+    if (jj_scan_token(DROP_)) return true;
+    if (jj_scan_token(INDEX_)) return true;
     return false;
   }
 
-  private boolean jj_3_25() {
-    if (jj_3R_68()) return true;
+  private boolean jj_3_61() {
+    if (jj_3R_109()) return true;
     return false;
   }
 
-  private boolean jj_3R_184() {
-    if (jj_scan_token(PARENTHESIS_START_)) return true;
-    if (jj_scan_token(INT_LITERAL)) return true;
+  private boolean jj_3R_598() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_760()) jj_scanpos = xsp;
-    if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_145() {
-    if (jj_scan_token(NOT_)) return true;
+    if (jj_3R_644()) {
+    jj_scanpos = xsp;
+    if (jj_3R_645()) return true;
+    }
+    xsp = jj_scanpos;
+    if (jj_3_45()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_747()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_568() {
-    if (jj_3R_614()) return true;
+  private boolean jj_3_60() {
+    if (jj_3R_108()) return true;
     return false;
   }
 
-  private boolean jj_3_100() {
+  private boolean jj_3R_102() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_145()) jj_scanpos = xsp;
-    if (jj_3R_146()) return true;
+    if (jj_3_60()) {
+    jj_scanpos = xsp;
+    if (jj_3_61()) {
+    jj_scanpos = xsp;
+    if (jj_3_62()) {
+    jj_scanpos = xsp;
+    if (jj_3_63()) {
+    jj_scanpos = xsp;
+    if (jj_3_64()) {
+    jj_scanpos = xsp;
+    if (jj_3_65()) {
+    jj_scanpos = xsp;
+    if (jj_3_66()) {
+    jj_scanpos = xsp;
+    if (jj_3_67()) {
+    jj_scanpos = xsp;
+    if (jj_3_68()) {
+    jj_scanpos = xsp;
+    if (jj_3_69()) {
+    jj_scanpos = xsp;
+    if (jj_3_70()) {
+    jj_scanpos = xsp;
+    if (jj_3_71()) {
+    jj_scanpos = xsp;
+    if (jj_3_72()) {
+    jj_scanpos = xsp;
+    if (jj_3_73()) {
+    jj_scanpos = xsp;
+    if (jj_3_74()) {
+    jj_scanpos = xsp;
+    if (jj_3_75()) {
+    jj_scanpos = xsp;
+    if (jj_3_76()) {
+    jj_scanpos = xsp;
+    if (jj_3_77()) {
+    jj_scanpos = xsp;
+    if (jj_3_78()) {
+    jj_scanpos = xsp;
+    if (jj_3_79()) {
+    jj_scanpos = xsp;
+    if (jj_3_80()) {
+    jj_scanpos = xsp;
+    if (jj_3_81()) {
+    jj_scanpos = xsp;
+    if (jj_3_82()) {
+    jj_scanpos = xsp;
+    if (jj_3_83()) {
+    jj_scanpos = xsp;
+    if (jj_3_84()) {
+    jj_scanpos = xsp;
+    if (jj_3_85()) {
+    jj_scanpos = xsp;
+    if (jj_3_86()) {
+    jj_scanpos = xsp;
+    if (jj_3_87()) {
+    jj_scanpos = xsp;
+    if (jj_3_88()) {
+    jj_scanpos = xsp;
+    if (jj_3_89()) {
+    jj_scanpos = xsp;
+    if (jj_3_90()) {
+    jj_scanpos = xsp;
+    if (jj_3_91()) {
+    jj_scanpos = xsp;
+    if (jj_3_92()) {
+    jj_scanpos = xsp;
+    if (jj_3_93()) return true;
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
     return false;
   }
 
-  private boolean jj_3R_57() {
-    if (jj_scan_token(SHOW_STATEMENTS_)) return true;
+  private boolean jj_3R_316() {
+    if (jj_3R_155()) return true;
     return false;
   }
 
-  private boolean jj_3R_740() {
-    if (jj_3R_739()) return true;
+  private boolean jj_3R_713() {
+    if (jj_scan_token(NULL_)) return true;
     return false;
   }
 
-  private boolean jj_3_24() {
-    if (jj_3R_67()) return true;
+  private boolean jj_3R_712() {
+    if (jj_3R_365()) return true;
     return false;
   }
 
-  private boolean jj_3_37() {
-    if (jj_scan_token(PARENTHESIS_START_)) return true;
-    if (jj_3R_84()) return true;
+  private boolean jj_3_26() {
+    if (jj_3R_70()) return true;
     return false;
   }
 
-  private boolean jj_3R_143() {
-    if (jj_scan_token(NOT_)) return true;
+  private boolean jj_3_95() {
+    if (jj_3R_49()) return true;
+    if (jj_scan_token(403)) return true;
+    if (jj_3R_155()) return true;
     return false;
   }
 
-  private boolean jj_3R_66() {
-    if (jj_scan_token(SEMICOLON_)) return true;
+  private boolean jj_3R_223() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3_95()) {
+    jj_scanpos = xsp;
+    if (jj_3R_316()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_140() {
-    if (jj_3R_154()) return true;
+  private boolean jj_3R_121() {
+    if (jj_scan_token(CAST_)) return true;
     if (jj_scan_token(PARENTHESIS_START_)) return true;
+    if (jj_3R_97()) return true;
+    if (jj_scan_token(AS_)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_740()) jj_scanpos = xsp;
+    if (jj_3R_712()) {
+    jj_scanpos = xsp;
+    if (jj_3R_713()) return true;
+    }
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
 
-  private boolean jj_3_99() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_143()) jj_scanpos = xsp;
-    if (jj_3R_144()) return true;
+  private boolean jj_3R_591() {
+    if (jj_scan_token(FIXED_)) return true;
+    if (jj_3R_185()) return true;
+    if (jj_3R_96()) return true;
     return false;
   }
 
-  private boolean jj_3R_55() {
-    if (jj_scan_token(SHOW_DATABASES_)) return true;
+  private boolean jj_3_25() {
+    if (jj_3R_69()) return true;
     return false;
   }
 
-  private boolean jj_3_23() {
-    if (jj_3R_65()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_66()) jj_scanpos = xsp;
+  private boolean jj_3R_103() {
+    if (jj_3R_223()) return true;
     return false;
   }
 
-  private boolean jj_3R_50() {
-    if (jj_scan_token(DROP_)) return true;
-    if (jj_scan_token(INDEX_)) return true;
+  private boolean jj_3_24() {
+    if (jj_3R_68()) return true;
     return false;
   }
 
-  private boolean jj_3R_186() {
-    if (jj_scan_token(ZEROFILL_)) return true;
+  private boolean jj_3R_183() {
+    if (jj_3R_185()) return true;
     return false;
   }
 
-  private boolean jj_3_98() {
-    if (jj_3R_142()) return true;
+  private boolean jj_3R_571() {
+    if (jj_scan_token(STRING_LITERAL)) return true;
     return false;
   }
 
-  private boolean jj_3R_185() {
-    if (jj_scan_token(UNSIGNED_)) return true;
+  private boolean jj_3R_67() {
+    if (jj_scan_token(SEMICOLON_)) return true;
     return false;
   }
 
-  private boolean jj_3R_316() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3_98()) {
-    jj_scanpos = xsp;
-    if (jj_3_99()) {
-    jj_scanpos = xsp;
-    if (jj_3_100()) return true;
-    }
-    }
+  private boolean jj_3R_182() {
+    if (jj_scan_token(DEC_)) return true;
     return false;
   }
 
-  private boolean jj_3R_95() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_185()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_186()) jj_scanpos = xsp;
+  private boolean jj_3R_181() {
+    if (jj_scan_token(DECIMAL_)) return true;
     return false;
   }
 
-  private boolean jj_3R_53() {
-    if (jj_scan_token(SHOW_CLUSTER_)) return true;
+  private boolean jj_3_23() {
+    if (jj_3R_66()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_67()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3_93() {
-    if (jj_3R_140()) return true;
+  private boolean jj_3R_569() {
+    if (jj_3R_615()) return true;
     return false;
   }
 
-  private boolean jj_3_22() {
-    if (jj_3R_64()) return true;
+  private boolean jj_3R_177() {
+    if (jj_scan_token(TABLESPACE_)) return true;
+    if (jj_3R_155()) return true;
     return false;
   }
 
-  private boolean jj_3_92() {
-    if (jj_3R_139()) return true;
+  private boolean jj_3R_226() {
+    if (jj_scan_token(PARENTHESIS_START_)) return true;
+    if (jj_3R_97()) return true;
+    if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
 
-  private boolean jj_3_91() {
-    if (jj_3R_138()) return true;
+  private boolean jj_3R_87() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_181()) {
+    jj_scanpos = xsp;
+    if (jj_3R_182()) return true;
+    }
+    xsp = jj_scanpos;
+    if (jj_3R_183()) jj_scanpos = xsp;
+    if (jj_3R_96()) return true;
     return false;
   }
 
-  private boolean jj_3R_51() {
-    if (jj_scan_token(SHOW_AGENTS_)) return true;
+  private boolean jj_3R_97() {
+    if (jj_3R_142()) return true;
     return false;
   }
 
-  private boolean jj_3_90() {
-    if (jj_3R_137()) return true;
+  private boolean jj_3R_110() {
+    if (jj_scan_token(CURRENT_TIMESTAMP_)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_226()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3_21() {
-    if (jj_3R_63()) return true;
+  private boolean jj_3_22() {
+    if (jj_3R_65()) return true;
     return false;
   }
 
-  private boolean jj_3_89() {
-    if (jj_3R_136()) return true;
+  private boolean jj_3R_303() {
+    if (jj_scan_token(WITHOUT_XROWID_)) return true;
     return false;
   }
 
-  private boolean jj_3R_759() {
-    if (jj_scan_token(PARENTHESIS_START_)) return true;
-    if (jj_scan_token(INT_LITERAL)) return true;
-    if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
+  private boolean jj_3R_302() {
+    if (jj_scan_token(WITH_XROWID_)) return true;
     return false;
   }
 
-  private boolean jj_3_88() {
-    if (jj_3R_135()) return true;
+  private boolean jj_3R_758() {
+    if (jj_scan_token(402)) return true;
+    if (jj_3R_97()) return true;
     return false;
   }
 
-  private boolean jj_3_97() {
-    if (jj_scan_token(LEFTOUTER_)) return true;
+  private boolean jj_3_32() {
+    if (jj_scan_token(PARENTHESIS_START_)) return true;
+    if (jj_scan_token(STAR_)) return true;
     return false;
   }
 
-  private boolean jj_3_87() {
-    if (jj_3R_134()) return true;
+  private boolean jj_3R_636() {
+    if (jj_scan_token(YEAR_)) return true;
     return false;
   }
 
-  private boolean jj_3R_741() {
-    if (jj_scan_token(AND_)) return true;
-    if (jj_3R_316()) return true;
+  private boolean jj_3R_175() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_97()) jj_scanpos = xsp;
+    if (jj_3R_302()) {
+    jj_scanpos = xsp;
+    if (jj_3R_303()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_664() {
-    if (jj_scan_token(SCIENTIFIC_LITERAL)) return true;
+  private boolean jj_3_21() {
+    if (jj_3R_64()) return true;
     return false;
   }
 
-  private boolean jj_3_86() {
-    if (jj_3R_133()) return true;
+  private boolean jj_3R_706() {
+    if (jj_scan_token(DISTINCT_)) return true;
     return false;
   }
 
-  private boolean jj_3R_663() {
-    if (jj_scan_token(INT_LITERAL)) return true;
+  private boolean jj_3R_740() {
+    if (jj_3R_97()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_758()) { jj_scanpos = xsp; break; }
+    }
     return false;
   }
 
-  private boolean jj_3_85() {
-    if (jj_3R_132()) return true;
+  private boolean jj_3R_635() {
+    if (jj_scan_token(SMALLMONEY_)) return true;
     return false;
   }
 
-  private boolean jj_3R_744() {
-    if (jj_3R_759()) return true;
+  private boolean jj_3R_634() {
+    if (jj_scan_token(MONEY_)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_117() {
+    if (jj_scan_token(SUM_)) return true;
+    if (jj_scan_token(PARENTHESIS_START_)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_706()) jj_scanpos = xsp;
+    if (jj_3R_97()) return true;
+    if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
 
-  private boolean jj_3_84() {
-    if (jj_3R_131()) return true;
+  private boolean jj_3R_225() {
+    if (jj_scan_token(PARENTHESIS_START_)) return true;
+    if (jj_3R_97()) return true;
+    if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
 
-  private boolean jj_3_115() {
-    if (jj_scan_token(DECIMAL_LITERAL)) return true;
+  private boolean jj_3R_95() {
+    if (jj_3R_185()) return true;
     return false;
   }
 
-  private boolean jj_3_46() {
-    if (jj_scan_token(VARYING_)) return true;
+  private boolean jj_3R_306() {
+    if (jj_scan_token(DROP_)) return true;
     return false;
   }
 
-  private boolean jj_3R_614() {
+  private boolean jj_3R_109() {
+    if (jj_scan_token(CURRENT_TIME_)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_115()) {
-    jj_scanpos = xsp;
-    if (jj_3R_663()) {
-    jj_scanpos = xsp;
-    if (jj_3R_664()) return true;
-    }
-    }
-    return false;
-  }
-
-  private boolean jj_3_83() {
-    if (jj_3R_130()) return true;
+    if (jj_3R_225()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_694() {
-    if (jj_scan_token(OR_)) return true;
-    if (jj_3R_223()) return true;
+  private boolean jj_3R_305() {
+    if (jj_scan_token(DELETE_ROWS_)) return true;
     return false;
   }
 
-  private boolean jj_3R_637() {
-    if (jj_scan_token(CHAR_)) return true;
+  private boolean jj_3R_684() {
+    if (jj_3R_363()) return true;
     return false;
   }
 
-  private boolean jj_3_82() {
-    if (jj_3R_129()) return true;
+  private boolean jj_3R_94() {
+    if (jj_scan_token(NUMBER_)) return true;
     return false;
   }
 
-  private boolean jj_3R_636() {
-    if (jj_scan_token(CHARACHTER_)) return true;
+  private boolean jj_3R_304() {
+    if (jj_scan_token(PRESERVE_ROWS_)) return true;
     return false;
   }
 
-  private boolean jj_3_81() {
-    if (jj_3R_128()) return true;
+  private boolean jj_3R_683() {
+    if (jj_3R_362()) return true;
     return false;
   }
 
-  private boolean jj_3R_42() {
-    if (jj_scan_token(DROP_)) return true;
-    if (jj_scan_token(TABLE_)) return true;
-    if (jj_3R_48()) return true;
+  private boolean jj_3R_93() {
+    if (jj_scan_token(NUMERIC_)) return true;
     return false;
   }
 
-  private boolean jj_3_80() {
-    if (jj_3R_127()) return true;
+  private boolean jj_3R_682() {
+    if (jj_3R_673()) return true;
     return false;
   }
 
-  private boolean jj_3R_591() {
+  private boolean jj_3R_176() {
+    if (jj_scan_token(ON_COMMIT_)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_636()) {
+    if (jj_3R_304()) {
+    jj_scanpos = xsp;
+    if (jj_3R_305()) {
     jj_scanpos = xsp;
-    if (jj_3R_637()) return true;
+    if (jj_3R_306()) return true;
+    }
     }
-    xsp = jj_scanpos;
-    if (jj_3_46()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_744()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3R_693() {
-    if (jj_3R_741()) return true;
-    return false;
-  }
-
-  private boolean jj_3_79() {
-    if (jj_3R_126()) return true;
     return false;
   }
 
-  private boolean jj_3_78() {
-    if (jj_3R_125()) return true;
+  private boolean jj_3R_707() {
+    if (jj_scan_token(DISTINCT_)) return true;
     return false;
   }
 
-  private boolean jj_3R_162() {
-    if (jj_scan_token(QPUBLICDOT_)) return true;
-    if (jj_3R_154()) return true;
+  private boolean jj_3R_681() {
+    if (jj_3R_672()) return true;
     return false;
   }
 
-  private boolean jj_3_96() {
-    if (jj_scan_token(LEFTOUTER_)) return true;
+  private boolean jj_3_44() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_93()) {
+    jj_scanpos = xsp;
+    if (jj_3R_94()) return true;
+    }
+    xsp = jj_scanpos;
+    if (jj_3R_95()) jj_scanpos = xsp;
+    if (jj_3R_96()) return true;
     return false;
   }
 
-  private boolean jj_3R_62() {
-    if (jj_scan_token(SEMICOLON_)) return true;
+  private boolean jj_3R_590() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3_44()) {
+    jj_scanpos = xsp;
+    if (jj_3R_634()) {
+    jj_scanpos = xsp;
+    if (jj_3R_635()) {
+    jj_scanpos = xsp;
+    if (jj_3R_636()) return true;
+    }
+    }
+    }
     return false;
   }
 
-  private boolean jj_3_77() {
-    if (jj_3R_124()) return true;
+  private boolean jj_3R_108() {
+    if (jj_scan_token(CURRENTDATE_)) return true;
     return false;
   }
 
-  private boolean jj_3R_223() {
-    if (jj_3R_316()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3_96()) jj_scanpos = xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_693()) { jj_scanpos = xsp; break; }
-    }
+  private boolean jj_3R_693() {
+    if (jj_scan_token(DISTINCT_)) return true;
     return false;
   }
 
-  private boolean jj_3_32() {
-    if (jj_scan_token(PARENTHESIS_START_)) return true;
-    if (jj_scan_token(STAR_)) return true;
+  private boolean jj_3R_237() {
+    if (jj_scan_token(VAR_SAMP_)) return true;
     return false;
   }
 
-  private boolean jj_3_76() {
-    if (jj_3R_123()) return true;
+  private boolean jj_3R_692() {
+    if (jj_scan_token(ALL_)) return true;
     return false;
   }
 
-  private boolean jj_3R_161() {
-    if (jj_scan_token(PUBLICDOT_)) return true;
-    if (jj_3R_154()) return true;
+  private boolean jj_3R_236() {
+    if (jj_scan_token(VAR_POP_)) return true;
     return false;
   }
 
-  private boolean jj_3_20() {
-    if (jj_3R_61()) return true;
+  private boolean jj_3R_680() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_62()) jj_scanpos = xsp;
+    if (jj_3R_692()) {
+    jj_scanpos = xsp;
+    if (jj_3R_693()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3_75() {
-    if (jj_3R_122()) return true;
+  private boolean jj_3R_235() {
+    if (jj_scan_token(VARIANCE_SAMP_)) return true;
     return false;
   }
 
-  private boolean jj_3R_632() {
-    if (jj_scan_token(FLOAT8_)) return true;
+  private boolean jj_3R_63() {
+    if (jj_scan_token(SEMICOLON_)) return true;
     return false;
   }
 
-  private boolean jj_3R_60() {
-    if (jj_scan_token(SEMICOLON_)) return true;
+  private boolean jj_3R_234() {
+    if (jj_scan_token(VARIANCE_POP_)) return true;
     return false;
   }
 
-  private boolean jj_3_74() {
-    if (jj_3R_121()) return true;
+  private boolean jj_3R_104() {
+    if (jj_scan_token(PARENTHESIS_START_)) return true;
+    if (jj_scan_token(SELECT_)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_680()) jj_scanpos = xsp;
+    if (jj_3R_621()) return true;
+    xsp = jj_scanpos;
+    if (jj_3R_681()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_682()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_683()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_684()) jj_scanpos = xsp;
+    if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
 
-  private boolean jj_3R_160() {
-    if (jj_scan_token(TEMPDOT_)) return true;
-    if (jj_3R_154()) return true;
+  private boolean jj_3R_83() {
+    if (jj_3R_177()) return true;
     return false;
   }
 
-  private boolean jj_3R_631() {
-    if (jj_scan_token(DOUBLE_PRECISION_)) return true;
+  private boolean jj_3R_233() {
+    if (jj_scan_token(VARIANCE_)) return true;
     return false;
   }
 
-  private boolean jj_3_73() {
-    if (jj_3R_120()) return true;
+  private boolean jj_3_20() {
+    if (jj_3R_62()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_63()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_159() {
-    if (jj_3R_154()) return true;
+  private boolean jj_3R_529() {
+    if (jj_3R_142()) return true;
     return false;
   }
 
-  private boolean jj_3R_587() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_631()) {
-    jj_scanpos = xsp;
-    if (jj_3R_632()) return true;
-    }
+  private boolean jj_3R_82() {
+    if (jj_3R_176()) return true;
     return false;
   }
 
-  private boolean jj_3_19() {
-    if (jj_3R_59()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_60()) jj_scanpos = xsp;
+  private boolean jj_3R_640() {
+    if (jj_scan_token(TINYTEXT_)) return true;
     return false;
   }
 
-  private boolean jj_3_72() {
-    if (jj_3R_119()) return true;
+  private boolean jj_3_31() {
+    if (jj_scan_token(402)) return true;
+    if (jj_scan_token(INT_LITERAL)) return true;
     return false;
   }
 
-  private boolean jj_3R_48() {
+  private boolean jj_3R_118() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_159()) {
+    if (jj_3R_233()) {
     jj_scanpos = xsp;
-    if (jj_3R_160()) {
+    if (jj_3R_234()) {
     jj_scanpos = xsp;
-    if (jj_3R_161()) {
+    if (jj_3R_235()) {
     jj_scanpos = xsp;
-    if (jj_3R_162()) return true;
+    if (jj_3R_236()) {
+    jj_scanpos = xsp;
+    if (jj_3R_237()) return true;
     }
     }
     }
+    }
+    if (jj_scan_token(PARENTHESIS_START_)) return true;
+    xsp = jj_scanpos;
+    if (jj_3R_707()) jj_scanpos = xsp;
+    if (jj_3R_97()) return true;
+    if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
 
-  private boolean jj_3R_58() {
+  private boolean jj_3R_61() {
     if (jj_scan_token(SEMICOLON_)) return true;
     return false;
   }
 
-  private boolean jj_3R_684() {
-    if (jj_3R_694()) return true;
+  private boolean jj_3R_762() {
+    if (jj_3R_760()) return true;
     return false;
   }
 
-  private boolean jj_3_71() {
-    if (jj_3R_118()) return true;
+  private boolean jj_3R_81() {
+    if (jj_3R_175()) return true;
     return false;
   }
 
-  private boolean jj_3R_531() {
-    if (jj_scan_token(PARENTHESIS_START_)) return true;
-    if (jj_3R_84()) return true;
+  private boolean jj_3_19() {
+    if (jj_3R_60()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_61()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3_70() {
-    if (jj_3R_117()) return true;
+  private boolean jj_3R_80() {
+    if (jj_3R_174()) return true;
     return false;
   }
 
-  private boolean jj_3R_104() {
-    if (jj_3R_223()) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_684()) { jj_scanpos = xsp; break; }
-    }
+  private boolean jj_3R_679() {
+    if (jj_scan_token(VARCHAR2_)) return true;
     return false;
   }
 
-  private boolean jj_3_18() {
-    if (jj_3R_57()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_58()) jj_scanpos = xsp;
+  private boolean jj_3R_59() {
+    if (jj_scan_token(SEMICOLON_)) return true;
     return false;
   }
 
-  private boolean jj_3R_746() {
-    if (jj_3R_759()) return true;
+  private boolean jj_3R_678() {
+    if (jj_scan_token(VARCHAR_)) return true;
     return false;
   }
 
-  private boolean jj_3_69() {
-    if (jj_3R_116()) return true;
+  private boolean jj_3R_363() {
+    if (jj_scan_token(OFFSET_)) return true;
+    if (jj_scan_token(INT_LITERAL)) return true;
     return false;
   }
 
-  private boolean jj_3R_56() {
-    if (jj_scan_token(SEMICOLON_)) return true;
+  private boolean jj_3_18() {
+    if (jj_3R_58()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_59()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3_68() {
-    if (jj_3R_115()) return true;
+  private boolean jj_3R_639() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_678()) {
+    jj_scanpos = xsp;
+    if (jj_3R_679()) return true;
+    }
+    xsp = jj_scanpos;
+    if (jj_3R_762()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3_45() {
-    if (jj_scan_token(VARYING_)) return true;
+  private boolean jj_3R_79() {
+    if (jj_scan_token(PARENTHESIS_START_)) return true;
+    if (jj_3R_85()) return true;
     return false;
   }
 
-  private boolean jj_3_67() {
-    if (jj_3R_114()) return true;
+  private boolean jj_3R_593() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_639()) {
+    jj_scanpos = xsp;
+    if (jj_3R_640()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_188() {
-    if (jj_3R_154()) return true;
+  private boolean jj_3R_57() {
+    if (jj_scan_token(SEMICOLON_)) return true;
     return false;
   }
 
-  private boolean jj_3_17() {
-    if (jj_3R_55()) return true;
+  private boolean jj_3_36() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_56()) jj_scanpos = xsp;
+    if (jj_3R_79()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_80()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_81()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_82()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_83()) jj_scanpos = xsp;
+    if (jj_scan_token(AS_)) return true;
+    if (jj_3R_84()) return true;
     return false;
   }
 
-  private boolean jj_3R_764() {
-    if (jj_scan_token(CHARACHTER_)) return true;
+  private boolean jj_3R_531() {
+    if (jj_scan_token(ALL_)) return true;
     return false;
   }
 
-  private boolean jj_3_66() {
-    if (jj_3R_113()) return true;
+  private boolean jj_3R_705() {
+    if (jj_scan_token(DISTINCT_)) return true;
     return false;
   }
 
-  private boolean jj_3R_763() {
-    if (jj_scan_token(CHAR_)) return true;
+  private boolean jj_3_17() {
+    if (jj_3R_56()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_57()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_54() {
-    if (jj_scan_token(SEMICOLON_)) return true;
+  private boolean jj_3R_530() {
+    if (jj_scan_token(INT_LITERAL)) return true;
     return false;
   }
 
-  private boolean jj_3_65() {
-    if (jj_3R_112()) return true;
+  private boolean jj_3R_55() {
+    if (jj_scan_token(SEMICOLON_)) return true;
     return false;
   }
 
-  private boolean jj_3_64() {
-    if (jj_3R_111()) return true;
+  private boolean jj_3R_232() {
+    if (jj_scan_token(STDDEV_SAMP_)) return true;
     return false;
   }
 
-  private boolean jj_3R_187() {
-    if (jj_scan_token(AS_)) return true;
+  private boolean jj_3R_231() {
+    if (jj_scan_token(STDDEV_POP_)) return true;
     return false;
   }
 
-  private boolean jj_3_114() {
-    if (jj_scan_token(402)) return true;
-    if (jj_3R_154()) return true;
+  private boolean jj_3R_362() {
+    if (jj_scan_token(LIMIT_)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_530()) {
+    jj_scanpos = xsp;
+    if (jj_3R_531()) return true;
+    }
     return false;
   }
 
   private boolean jj_3_16() {
-    if (jj_3R_53()) return true;
+    if (jj_3R_54()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_54()) jj_scanpos = xsp;
+    if (jj_3R_55()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_97() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_187()) jj_scanpos = xsp;
-    if (jj_3R_188()) return true;
+  private boolean jj_3R_594() {
+    if (jj_scan_token(DATE_)) return true;
     return false;
   }
 
-  private boolean jj_3_63() {
-    if (jj_3R_110()) return true;
+  private boolean jj_3R_230() {
+    if (jj_scan_token(STDDEV_)) return true;
     return false;
   }
 
-  private boolean jj_3R_84() {
-    if (jj_3R_154()) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3_114()) { jj_scanpos = xsp; break; }
-    }
+  private boolean jj_3R_53() {
+    if (jj_scan_token(SEMICOLON_)) return true;
     return false;
   }
 
-  private boolean jj_3R_644() {
-    if (jj_scan_token(NATIONAL_)) return true;
+  private boolean jj_3R_116() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_763()) {
+    if (jj_3R_230()) {
     jj_scanpos = xsp;
-    if (jj_3R_764()) return true;
+    if (jj_3R_231()) {
+    jj_scanpos = xsp;
+    if (jj_3R_232()) return true;
+    }
     }
+    if (jj_scan_token(PARENTHESIS_START_)) return true;
+    xsp = jj_scanpos;
+    if (jj_3R_705()) jj_scanpos = xsp;
+    if (jj_3R_97()) return true;
+    if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
 
-  private boolean jj_3R_52() {
-    if (jj_scan_token(SEMICOLON_)) return true;
+  private boolean jj_3_15() {
+    if (jj_3R_52()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_53()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3_62() {
-    if (jj_3R_109()) return true;
+  private boolean jj_3R_92() {
+    if (jj_scan_token(WITHOUT_TIMEZONE_)) return true;
     return false;
   }
 
-  private boolean jj_3R_643() {
-    if (jj_scan_token(NCHAR_)) return true;
+  private boolean jj_3R_581() {
+    if (jj_scan_token(INET_LITERAL)) return true;
     return false;
   }
 
-  private boolean jj_3_61() {
-    if (jj_3R_108()) return true;
+  private boolean jj_3R_91() {
+    if (jj_scan_token(WITH_TIMEZONE_)) return true;
     return false;
   }
 
-  private boolean jj_3_15() {
-    if (jj_3R_51()) return true;
+  private boolean jj_3_43() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_52()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3_31() {
-    if (jj_scan_token(402)) return true;
-    if (jj_scan_token(INT_LITERAL)) return true;
+    if (jj_3R_91()) {
+    jj_scanpos = xsp;
+    if (jj_3R_92()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_597() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_643()) {
-    jj_scanpos = xsp;
-    if (jj_3R_644()) return true;
-    }
-    xsp = jj_scanpos;
-    if (jj_3_45()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_746()) jj_scanpos = xsp;
+  private boolean jj_3R_44() {
+    if (jj_scan_token(DROP_)) return true;
+    if (jj_scan_token(TABLESPACE_)) return true;
+    if (jj_3R_155()) return true;
     return false;
   }
 
-  private boolean jj_3_60() {
-    if (jj_3R_107()) return true;
+  private boolean jj_3R_361() {
+    if (jj_scan_token(ORDER_BY_)) return true;
+    if (jj_3R_529()) return true;
     return false;
   }
 
-  private boolean jj_3R_101() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3_60()) {
-    jj_scanpos = xsp;
-    if (jj_3_61()) {
-    jj_scanpos = xsp;
-    if (jj_3_62()) {
-    jj_scanpos = xsp;
-    if (jj_3_63()) {
-    jj_scanpos = xsp;
-    if (jj_3_64()) {
-    jj_scanpos = xsp;
-    if (jj_3_65()) {
-    jj_scanpos = xsp;
-    if (jj_3_66()) {
-    jj_scanpos = xsp;
-    if (jj_3_67()) {
-    jj_scanpos = xsp;
-    if (jj_3_68()) {
-    jj_scanpos = xsp;
-    if (jj_3_69()) {
-    jj_scanpos = xsp;
-    if (jj_3_70()) {
-    jj_scanpos = xsp;
-    if (jj_3_71()) {
-    jj_scanpos = xsp;
-    if (jj_3_72()) {
-    jj_scanpos = xsp;
-    if (jj_3_73()) {
-    jj_scanpos = xsp;
-    if (jj_3_74()) {
-    jj_scanpos = xsp;
-    if (jj_3_75()) {
-    jj_scanpos = xsp;
-    if (jj_3_76()) {
-    jj_scanpos = xsp;
-    if (jj_3_77()) {
-    jj_scanpos = xsp;
-    if (jj_3_78()) {
-    jj_scanpos = xsp;
-    if (jj_3_79()) {
-    jj_scanpos = xsp;
-    if (jj_3_80()) {
-    jj_scanpos = xsp;
-    if (jj_3_81()) {
-    jj_scanpos = xsp;
-    if (jj_3_82()) {
-    jj_scanpos = xsp;
-    if (jj_3_83()) {
-    jj_scanpos = xsp;
-    if (jj_3_84()) {
-    jj_scanpos = xsp;
-    if (jj_3_85()) {
-    jj_scanpos = xsp;
-    if (jj_3_86()) {
-    jj_scanpos = xsp;
-    if (jj_3_87()) {
-    jj_scanpos = xsp;
-    if (jj_3_88()) {
-    jj_scanpos = xsp;
-    if (jj_3_89()) {
-    jj_scanpos = xsp;
-    if (jj_3_90()) {
-    jj_scanpos = xsp;
-    if (jj_3_91()) {
-    jj_scanpos = xsp;
-    if (jj_3_92()) {
-    jj_scanpos = xsp;
-    if (jj_3_93()) return true;
-    }
-    }
-    }
-    }
-    }
-    }
-    }
-    }
-    }
-    }
-    }
-    }
-    }
-    }
-    }
-    }
-    }
-    }
-    }
-    }
-    }
-    }
-    }
-    }
-    }
-    }
-    }
-    }
-    }
-    }
-    }
-    }
-    }
+  private boolean jj_3R_746() {
+    if (jj_3R_760()) return true;
     return false;
   }
 
-  private boolean jj_3R_315() {
-    if (jj_3R_154()) return true;
+  private boolean jj_3R_580() {
+    if (jj_scan_token(CIDR_LITERAL)) return true;
     return false;
   }
 
-  private boolean jj_3R_712() {
-    if (jj_scan_token(NULL_)) return true;
+  private boolean jj_3_35() {
+    if (jj_scan_token(PARENTHESIS_START_)) return true;
+    if (jj_3R_78()) return true;
     return false;
   }
 
-  private boolean jj_3R_711() {
-    if (jj_3R_364()) return true;
+  private boolean jj_3R_595() {
+    if (jj_scan_token(TIME_)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_746()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3_43()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3_95() {
-    if (jj_3R_48()) return true;
-    if (jj_scan_token(403)) return true;
-    if (jj_3R_154()) return true;
+  private boolean jj_3R_704() {
+    if (jj_scan_token(DISTINCT_)) return true;
     return false;
   }
 
-  private boolean jj_3R_222() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3_95()) {
-    jj_scanpos = xsp;
-    if (jj_3R_315()) return true;
-    }
+  private boolean jj_3R_579() {
+    if (jj_scan_token(MACADDR_LITERAL)) return true;
     return false;
   }
 
-  private boolean jj_3R_120() {
-    if (jj_scan_token(CAST_)) return true;
+  private boolean jj_3R_284() {
+    if (jj_scan_token(TEMPORARY_)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_115() {
+    if (jj_scan_token(MIN_)) return true;
     if (jj_scan_token(PARENTHESIS_START_)) return true;
-    if (jj_3R_96()) return true;
-    if (jj_scan_token(AS_)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_711()) {
-    jj_scanpos = xsp;
-    if (jj_3R_712()) return true;
-    }
+    if (jj_3R_704()) jj_scanpos = xsp;
+    if (jj_3R_97()) return true;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
 
-  private boolean jj_3R_590() {
-    if (jj_scan_token(FIXED_)) return true;
-    if (jj_3R_184()) return true;
-    if (jj_3R_95()) return true;
+  private boolean jj_3_14() {
+    if (jj_3R_51()) return true;
     return false;
   }
 
-  private boolean jj_3_14() {
-    if (jj_3R_50()) return true;
+  private boolean jj_3R_283() {
+    if (jj_scan_token(TEMP_)) return true;
     return false;
   }
 
-  private boolean jj_3R_102() {
-    if (jj_3R_222()) return true;
+  private boolean jj_3R_675() {
+    if (jj_scan_token(HAVING_)) return true;
+    if (jj_3R_105()) return true;
     return false;
   }
 
-  private boolean jj_3R_182() {
-    if (jj_3R_184()) return true;
+  private boolean jj_3R_578() {
+    if (jj_scan_token(INTEGER_LITERAL)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_643() {
+    if (jj_scan_token(SAMLLDATETIME_)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_41() {
+    if (jj_scan_token(CREATE_)) return true;
+    if (jj_scan_token(TABLESPACE_)) return true;
+    if (jj_3R_155()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_360() {
+    if (jj_scan_token(GLOBAL_)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_642() {
+    if (jj_scan_token(DATETIME_)) return true;
     return false;
   }
 
   private boolean jj_3_13() {
-    if (jj_3R_49()) return true;
+    if (jj_3R_50()) return true;
     return false;
   }
 
-  private boolean jj_3R_181() {
-    if (jj_scan_token(DEC_)) return true;
+  private boolean jj_3R_359() {
+    if (jj_scan_token(LOCAL_)) return true;
     return false;
   }
 
-  private boolean jj_3R_180() {
-    if (jj_scan_token(DECIMAL_)) return true;
+  private boolean jj_3R_154() {
+    if (jj_3R_142()) return true;
     return false;
   }
 
-  private boolean jj_3R_176() {
-    if (jj_scan_token(TABLESPACE_)) return true;
+  private boolean jj_3R_90() {
+    if (jj_scan_token(WITHOUT_TIMEZONE_)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_282() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_359()) {
+    jj_scanpos = xsp;
+    if (jj_3R_360()) return true;
+    }
+    return false;
+  }
+
+  private boolean jj_3R_577() {
+    if (jj_scan_token(HEXDECIMAL_LITERAL)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_89() {
+    if (jj_scan_token(WITH_TIMEZONE_)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_703() {
+    if (jj_scan_token(DISTINCT_)) return true;
+    return false;
+  }
+
+  private boolean jj_3_113() {
+    if (jj_scan_token(402)) return true;
     if (jj_3R_154()) return true;
     return false;
   }
 
-  private boolean jj_3R_225() {
-    if (jj_scan_token(PARENTHESIS_START_)) return true;
-    if (jj_3R_96()) return true;
-    if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
+  private boolean jj_3R_156() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_282()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_283()) {
+    jj_scanpos = xsp;
+    if (jj_3R_284()) return true;
+    }
     return false;
   }
 
   private boolean jj_3_12() {
     if (jj_scan_token(UPDATE_)) return true;
-    if (jj_3R_48()) return true;
+    if (jj_3R_49()) return true;
     if (jj_scan_token(SET_)) return true;
     return false;
   }
 
-  private boolean jj_3R_86() {
+  private boolean jj_3R_40() {
+    if (jj_scan_token(CREATE_)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_156()) jj_scanpos = xsp;
+    if (jj_scan_token(TABLE_)) return true;
+    if (jj_3R_49()) return true;
+    return false;
+  }
+
+  private boolean jj_3_42() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_180()) {
+    if (jj_3R_89()) {
     jj_scanpos = xsp;
-    if (jj_3R_181()) return true;
+    if (jj_3R_90()) return true;
     }
+    return false;
+  }
+
+  private boolean jj_3R_114() {
+    if (jj_scan_token(MAX_)) return true;
+    if (jj_scan_token(PARENTHESIS_START_)) return true;
+    Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_182()) jj_scanpos = xsp;
-    if (jj_3R_95()) return true;
+    if (jj_3R_703()) jj_scanpos = xsp;
+    if (jj_3R_97()) return true;
+    if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
 
-  private boolean jj_3R_96() {
-    if (jj_3R_141()) return true;
+  private boolean jj_3R_576() {
+    if (jj_scan_token(BINARY_LITERAL)) return true;
     return false;
   }
 
-  private boolean jj_3R_109() {
-    if (jj_scan_token(CURRENT_TIMESTAMP_)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_225()) jj_scanpos = xsp;
+  private boolean jj_3R_763() {
+    if (jj_3R_760()) return true;
     return false;
   }
 
-  private boolean jj_3R_302() {
-    if (jj_scan_token(WITHOUT_XROWID_)) return true;
+  private boolean jj_3R_388() {
+    if (jj_scan_token(402)) return true;
+    if (jj_3R_154()) return true;
     return false;
   }
 
-  private boolean jj_3R_43() {
-    if (jj_scan_token(DROP_)) return true;
-    if (jj_scan_token(TABLESPACE_)) return true;
+  private boolean jj_3R_320() {
     if (jj_3R_154()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_388()) { jj_scanpos = xsp; break; }
+    }
     return false;
   }
 
-  private boolean jj_3R_301() {
-    if (jj_scan_token(WITH_XROWID_)) return true;
+  private boolean jj_3R_641() {
+    if (jj_scan_token(TIMESTAMP_)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_763()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3_42()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_757() {
-    if (jj_scan_token(402)) return true;
-    if (jj_3R_96()) return true;
+  private boolean jj_3R_617() {
+    if (jj_scan_token(FALSE_)) return true;
     return false;
   }
 
-  private boolean jj_3R_635() {
-    if (jj_scan_token(YEAR_)) return true;
+  private boolean jj_3R_596() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_641()) {
+    jj_scanpos = xsp;
+    if (jj_3R_642()) {
+    jj_scanpos = xsp;
+    if (jj_3R_643()) return true;
+    }
+    }
     return false;
   }
 
-  private boolean jj_3R_174() {
+  private boolean jj_3R_616() {
+    if (jj_scan_token(TRUE_)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_570() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_301()) {
+    if (jj_3R_616()) {
     jj_scanpos = xsp;
-    if (jj_3R_302()) return true;
+    if (jj_3R_617()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_705() {
+  private boolean jj_3R_772() {
+    if (jj_scan_token(ALL_)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_674() {
+    if (jj_scan_token(GROUP_BY_)) return true;
+    if (jj_3R_320()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_771() {
     if (jj_scan_token(DISTINCT_)) return true;
     return false;
   }
 
-  private boolean jj_3R_739() {
-    if (jj_3R_96()) return true;
+  private boolean jj_3_11() {
+    if (jj_3R_48()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_753() {
     Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_757()) { jj_scanpos = xsp; break; }
+    xsp = jj_scanpos;
+    if (jj_3R_771()) {
+    jj_scanpos = xsp;
+    if (jj_3R_772()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_634() {
-    if (jj_scan_token(SMALLMONEY_)) return true;
+  private boolean jj_3R_47() {
+    if (jj_scan_token(SEMICOLON_)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_702() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_753()) jj_scanpos = xsp;
+    if (jj_3R_97()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_572() {
+    if (jj_scan_token(NULL_)) return true;
     return false;
   }
 
-  private boolean jj_3R_633() {
-    if (jj_scan_token(MONEY_)) return true;
+  private boolean jj_3R_744() {
+    if (jj_3R_760()) return true;
     return false;
   }
 
-  private boolean jj_3R_116() {
-    if (jj_scan_token(SUM_)) return true;
-    if (jj_scan_token(PARENTHESIS_START_)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_705()) jj_scanpos = xsp;
-    if (jj_3R_96()) return true;
-    if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
+  private boolean jj_3R_701() {
+    if (jj_scan_token(STAR_)) return true;
     return false;
   }
 
-  private boolean jj_3R_224() {
-    if (jj_scan_token(PARENTHESIS_START_)) return true;
-    if (jj_3R_96()) return true;
-    if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
+  private boolean jj_3R_673() {
+    if (jj_scan_token(WHERE_)) return true;
+    if (jj_3R_105()) return true;
     return false;
   }
 
-  private boolean jj_3R_94() {
-    if (jj_3R_184()) return true;
+  private boolean jj_3_10() {
+    if (jj_3R_46()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_47()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_305() {
-    if (jj_scan_token(DROP_)) return true;
+  private boolean jj_3R_589() {
+    if (jj_scan_token(FLOAT_)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_744()) jj_scanpos = xsp;
+    if (jj_3R_96()) return true;
     return false;
   }
 
-  private boolean jj_3_11() {
-    if (jj_3R_47()) return true;
+  private boolean jj_3R_106() {
+    if (jj_scan_token(TEXT_LITERAL)) return true;
     return false;
   }
 
-  private boolean jj_3R_108() {
-    if (jj_scan_token(CURRENT_TIME_)) return true;
+  private boolean jj_3R_113() {
+    if (jj_scan_token(COUNT_)) return true;
+    if (jj_scan_token(PARENTHESIS_START_)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_224()) jj_scanpos = xsp;
+    if (jj_3R_701()) {
+    jj_scanpos = xsp;
+    if (jj_3R_702()) return true;
+    }
+    if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
 
-  private boolean jj_3R_304() {
-    if (jj_scan_token(DELETE_ROWS_)) return true;
+  private boolean jj_3_9() {
+    if (jj_3R_45()) return true;
     return false;
   }
 
-  private boolean jj_3R_683() {
-    if (jj_3R_362()) return true;
+  private boolean jj_3R_77() {
+    if (jj_scan_token(INTERVAL_LITERAL)) return true;
     return false;
   }
 
-  private boolean jj_3R_93() {
-    if (jj_scan_token(NUMBER_)) return true;
+  private boolean jj_3R_743() {
+    if (jj_scan_token(SERIAL_)) return true;
     return false;
   }
 
-  private boolean jj_3R_46() {
-    if (jj_scan_token(SEMICOLON_)) return true;
+  private boolean jj_3R_629() {
+    if (jj_scan_token(INT4_)) return true;
     return false;
   }
 
-  private boolean jj_3R_40() {
-    if (jj_scan_token(CREATE_)) return true;
-    if (jj_scan_token(TABLESPACE_)) return true;
-    if (jj_3R_154()) return true;
+  private boolean jj_3_8() {
+    if (jj_3R_44()) return true;
     return false;
   }
 
-  private boolean jj_3R_303() {
-    if (jj_scan_token(PRESERVE_ROWS_)) return true;
+  private boolean jj_3R_628() {
+    if (jj_scan_token(INTEGER_)) return true;
     return false;
   }
 
-  private boolean jj_3R_682() {
-    if (jj_3R_361()) return true;
+  private boolean jj_3R_790() {
+    if (jj_scan_token(USING_)) return true;
+    if (jj_scan_token(PARENTHESIS_START_)) return true;
+    if (jj_3R_85()) return true;
+    if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
 
-  private boolean jj_3R_92() {
-    if (jj_scan_token(NUMERIC_)) return true;
+  private boolean jj_3R_575() {
+    if (jj_scan_token(DATE_LITERAL)) return true;
     return false;
   }
 
-  private boolean jj_3R_681() {
-    if (jj_3R_672()) return true;
+  private boolean jj_3R_627() {
+    if (jj_scan_token(INT_)) return true;
     return false;
   }
 
-  private boolean jj_3_10() {
-    if (jj_3R_45()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_46()) jj_scanpos = xsp;
+  private boolean jj_3_7() {
+    if (jj_3R_43()) return true;
     return false;
   }
 
-  private boolean jj_3R_175() {
-    if (jj_scan_token(ON_COMMIT_)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_303()) {
-    jj_scanpos = xsp;
-    if (jj_3R_304()) {
-    jj_scanpos = xsp;
-    if (jj_3R_305()) return true;
-    }
-    }
+  private boolean jj_3R_789() {
+    if (jj_scan_token(ON_)) return true;
+    if (jj_3R_105()) return true;
     return false;
   }
 
-  private boolean jj_3R_706() {
+  private boolean jj_3R_700() {
     if (jj_scan_token(DISTINCT_)) return true;
     return false;
   }
 
-  private boolean jj_3R_680() {
-    if (jj_3R_671()) return true;
-    return false;
-  }
-
-  private boolean jj_3_44() {
+  private boolean jj_3R_586() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_92()) {
+    if (jj_3R_627()) {
     jj_scanpos = xsp;
-    if (jj_3R_93()) return true;
+    if (jj_3R_628()) {
+    jj_scanpos = xsp;
+    if (jj_3R_629()) return true;
+    }
     }
     xsp = jj_scanpos;
-    if (jj_3R_94()) jj_scanpos = xsp;
-    if (jj_3R_95()) return true;
+    if (jj_3R_743()) jj_scanpos = xsp;
+    if (jj_3R_96()) return true;
     return false;
   }
 
-  private boolean jj_3R_589() {
+  private boolean jj_3R_779() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_44()) {
-    jj_scanpos = xsp;
-    if (jj_3R_633()) {
-    jj_scanpos = xsp;
-    if (jj_3R_634()) {
+    if (jj_3R_789()) {
     jj_scanpos = xsp;
-    if (jj_3R_635()) return true;
+    if (jj_3R_790()) return true;
     }
-    }
-    }
-    return false;
-  }
-
-  private boolean jj_3R_107() {
-    if (jj_scan_token(CURRENTDATE_)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_692() {
-    if (jj_scan_token(DISTINCT_)) return true;
     return false;
   }
 
-  private boolean jj_3R_236() {
-    if (jj_scan_token(VAR_SAMP_)) return true;
-    return false;
-  }
-
-  private boolean jj_3_9() {
-    if (jj_3R_44()) return true;
+  private boolean jj_3R_574() {
+    if (jj_scan_token(TIME_LITERAL)) return true;
     return false;
   }
 
-  private boolean jj_3R_691() {
-    if (jj_scan_token(ALL_)) return true;
+  private boolean jj_3R_112() {
+    if (jj_scan_token(AVERAGE_)) return true;
+    if (jj_scan_token(PARENTHESIS_START_)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_700()) jj_scanpos = xsp;
+    if (jj_3R_97()) return true;
+    if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
 
-  private boolean jj_3R_235() {
-    if (jj_scan_token(VAR_POP_)) return true;
+  private boolean jj_3_6() {
+    if (jj_3R_42()) return true;
     return false;
   }
 
-  private boolean jj_3R_679() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_691()) {
-    jj_scanpos = xsp;
-    if (jj_3R_692()) return true;
-    }
+  private boolean jj_3R_573() {
+    if (jj_scan_token(TIMESTAMP_LITERAL)) return true;
     return false;
   }
 
-  private boolean jj_3R_234() {
-    if (jj_scan_token(VARIANCE_SAMP_)) return true;
+  private boolean jj_3_5() {
+    if (jj_3R_41()) return true;
     return false;
   }
 
-  private boolean jj_3R_233() {
-    if (jj_scan_token(VARIANCE_POP_)) return true;
+  private boolean jj_3R_180() {
+    if (jj_scan_token(FLOAT4_)) return true;
     return false;
   }
 
-  private boolean jj_3_8() {
-    if (jj_3R_43()) return true;
+  private boolean jj_3R_179() {
+    if (jj_scan_token(SMALLFLOAT_)) return true;
     return false;
   }
 
-  private boolean jj_3R_103() {
-    if (jj_scan_token(PARENTHESIS_START_)) return true;
-    if (jj_scan_token(SELECT_)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_679()) jj_scanpos = xsp;
-    if (jj_3R_620()) return true;
-    xsp = jj_scanpos;
-    if (jj_3R_680()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_681()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_682()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_683()) jj_scanpos = xsp;
-    if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
+  private boolean jj_3R_107() {
+    if (jj_scan_token(PARAM_PLACE_HOLDER)) return true;
     return false;
   }
 
-  private boolean jj_3R_82() {
-    if (jj_3R_176()) return true;
+  private boolean jj_3R_178() {
+    if (jj_scan_token(REAL_)) return true;
     return false;
   }
 
-  private boolean jj_3R_232() {
-    if (jj_scan_token(VARIANCE_)) return true;
+  private boolean jj_3R_711() {
+    if (jj_3R_97()) return true;
     return false;
   }
 
-  private boolean jj_3R_528() {
-    if (jj_3R_141()) return true;
+  private boolean jj_3R_788() {
+    if (jj_scan_token(OUTER_)) return true;
     return false;
   }
 
-  private boolean jj_3R_81() {
-    if (jj_3R_175()) return true;
+  private boolean jj_3_4() {
+    if (jj_3R_40()) return true;
     return false;
   }
 
-  private boolean jj_3R_639() {
-    if (jj_scan_token(TINYTEXT_)) return true;
+  private boolean jj_3R_710() {
+    if (jj_scan_token(TRAILING)) return true;
     return false;
   }
 
-  private boolean jj_3R_117() {
+  private boolean jj_3R_86() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_232()) {
-    jj_scanpos = xsp;
-    if (jj_3R_233()) {
-    jj_scanpos = xsp;
-    if (jj_3R_234()) {
+    if (jj_3R_178()) {
     jj_scanpos = xsp;
-    if (jj_3R_235()) {
+    if (jj_3R_179()) {
     jj_scanpos = xsp;
-    if (jj_3R_236()) return true;
-    }
+    if (jj_3R_180()) return true;
     }
     }
-    }
-    if (jj_scan_token(PARENTHESIS_START_)) return true;
-    xsp = jj_scanpos;
-    if (jj_3R_706()) jj_scanpos = xsp;
     if (jj_3R_96()) return true;
-    if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
-    return false;
-  }
-
-  private boolean jj_3_7() {
-    if (jj_3R_42()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_761() {
-    if (jj_3R_759()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_80() {
-    if (jj_3R_174()) return true;
     return false;
   }
 
-  private boolean jj_3R_79() {
-    if (jj_3R_173()) return true;
+  private boolean jj_3R_787() {
+    if (jj_scan_token(FULL_)) return true;
     return false;
   }
 
-  private boolean jj_3R_678() {
-    if (jj_scan_token(VARCHAR2_)) return true;
+  private boolean jj_3R_709() {
+    if (jj_scan_token(LEADING)) return true;
     return false;
   }
 
-  private boolean jj_3R_677() {
-    if (jj_scan_token(VARCHAR_)) return true;
+  private boolean jj_3R_786() {
+    if (jj_scan_token(RIGHT_)) return true;
     return false;
   }
 
-  private boolean jj_3_6() {
-    if (jj_3R_41()) return true;
+  private boolean jj_3R_708() {
+    if (jj_scan_token(BOTH)) return true;
     return false;
   }
 
-  private boolean jj_3R_362() {
-    if (jj_scan_token(OFFSET_)) return true;
-    if (jj_scan_token(INT_LITERAL)) return true;
+  private boolean jj_3R_785() {
+    if (jj_scan_token(LEFT_)) return true;
     return false;
   }
 
-  private boolean jj_3R_638() {
+  private boolean jj_3R_777() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_677()) {
+    if (jj_3R_785()) {
+    jj_scanpos = xsp;
+    if (jj_3R_786()) {
     jj_scanpos = xsp;
-    if (jj_3R_678()) return true;
+    if (jj_3R_787()) return true;
+    }
     }
     xsp = jj_scanpos;
-    if (jj_3R_761()) jj_scanpos = xsp;
+    if (jj_3R_788()) jj_scanpos = xsp;
+    if (jj_scan_token(JOIN_)) return true;
+    if (jj_3R_751()) return true;
     return false;
   }
 
-  private boolean jj_3R_78() {
-    if (jj_scan_token(PARENTHESIS_START_)) return true;
-    if (jj_3R_84()) return true;
+  private boolean jj_3R_600() {
+    if (jj_scan_token(BIGSERIAL_)) return true;
     return false;
   }
 
-  private boolean jj_3R_592() {
+  private boolean jj_3R_119() {
+    if (jj_scan_token(TRIM_)) return true;
+    if (jj_scan_token(PARENTHESIS_START_)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_638()) {
+    if (jj_3R_708()) {
+    jj_scanpos = xsp;
+    if (jj_3R_709()) {
     jj_scanpos = xsp;
-    if (jj_3R_639()) return true;
+    if (jj_3R_710()) return true;
     }
+    }
+    xsp = jj_scanpos;
+    if (jj_3R_711()) jj_scanpos = xsp;
+    if (jj_scan_token(FROM_)) return true;
+    if (jj_3R_97()) return true;
+    if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
 
-  private boolean jj_3_5() {
-    if (jj_3R_40()) return true;
+  private boolean jj_3R_784() {
+    if (jj_scan_token(INNER_)) return true;
     return false;
   }
 
-  private boolean jj_3_36() {
+  private boolean jj_3R_599() {
+    if (jj_scan_token(SERIAL_)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_776() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_78()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_79()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_80()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_81()) jj_scanpos = xsp;
+    if (jj_3R_784()) jj_scanpos = xsp;
+    if (jj_scan_token(JOIN_)) return true;
+    if (jj_3R_751()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_770() {
+    if (jj_scan_token(NATURAL_)) return true;
+    Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_82()) jj_scanpos = xsp;
-    if (jj_scan_token(AS_)) return true;
-    if (jj_3R_83()) return true;
+    if (jj_3R_776()) {
+    jj_scanpos = xsp;
+    if (jj_3R_777()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_530() {
-    if (jj_scan_token(ALL_)) return true;
+  private boolean jj_3R_748() {
+    if (jj_scan_token(SERIAL_)) return true;
     return false;
   }
 
-  private boolean jj_3R_704() {
-    if (jj_scan_token(DISTINCT_)) return true;
+  private boolean jj_3R_648() {
+    if (jj_scan_token(INT8_)) return true;
     return false;
   }
 
-  private boolean jj_3R_529() {
-    if (jj_scan_token(INT_LITERAL)) return true;
+  private boolean jj_3R_647() {
+    if (jj_scan_token(BIGINTEGER_)) return true;
     return false;
   }
 
-  private boolean jj_3_4() {
-    if (jj_3R_39()) return true;
+  private boolean jj_3R_783() {
+    if (jj_scan_token(OUTER_)) return true;
     return false;
   }
 
-  private boolean jj_3R_231() {
-    if (jj_scan_token(STDDEV_SAMP_)) return true;
+  private boolean jj_3R_319() {
+    if (jj_scan_token(ELSE_)) return true;
+    if (jj_3R_142()) return true;
     return false;
   }
 
-  private boolean jj_3R_230() {
-    if (jj_scan_token(STDDEV_POP_)) return true;
+  private boolean jj_3R_646() {
+    if (jj_scan_token(BIGINT_)) return true;
     return false;
   }
 
-  private boolean jj_3R_361() {
-    if (jj_scan_token(LIMIT_)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_529()) {
-    jj_scanpos = xsp;
-    if (jj_3R_530()) return true;
-    }
+  private boolean jj_3R_619() {
+    if (jj_scan_token(404)) return true;
+    if (jj_3R_365()) return true;
     return false;
   }
 
-  private boolean jj_3R_593() {
-    if (jj_scan_token(DATE_)) return true;
+  private boolean jj_3R_782() {
+    if (jj_scan_token(FULL_)) return true;
     return false;
   }
 
-  private boolean jj_3R_229() {
-    if (jj_scan_token(STDDEV_)) return true;
+  private boolean jj_3R_618() {
+    if (jj_scan_token(FACTORIAL_)) return true;
     return false;
   }
 
-  private boolean jj_3R_115() {
+  private boolean jj_3R_601() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_229()) {
+    if (jj_3R_646()) {
     jj_scanpos = xsp;
-    if (jj_3R_230()) {
+    if (jj_3R_647()) {
     jj_scanpos = xsp;
-    if (jj_3R_231()) return true;
+    if (jj_3R_648()) return true;
     }
     }
-    if (jj_scan_token(PARENTHESIS_START_)) return true;
     xsp = jj_scanpos;
-    if (jj_3R_704()) jj_scanpos = xsp;
+    if (jj_3R_748()) jj_scanpos = xsp;
     if (jj_3R_96()) return true;
-    if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_91() {
-    if (jj_scan_token(WITHOUT_TIMEZONE_)) return true;
     return false;
   }
 
-  private boolean jj_3R_580() {
-    if (jj_scan_token(INET_LITERAL)) return true;
+  private boolean jj_3R_781() {
+    if (jj_scan_token(RIGHT_)) return true;
     return false;
   }
 
-  private boolean jj_3R_90() {
-    if (jj_scan_token(WITH_TIMEZONE_)) return true;
+  private boolean jj_3R_387() {
+    if (jj_3R_581()) return true;
     return false;
   }
 
-  private boolean jj_3_43() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_90()) {
-    jj_scanpos = xsp;
-    if (jj_3R_91()) return true;
-    }
+  private boolean jj_3R_780() {
+    if (jj_scan_token(LEFT_)) return true;
     return false;
   }
 
-  private boolean jj_3R_360() {
-    if (jj_scan_token(ORDER_BY_)) return true;
-    if (jj_3R_528()) return true;
+  private boolean jj_3R_386() {
+    if (jj_3R_580()) return true;
     return false;
   }
 
-  private boolean jj_3R_745() {
-    if (jj_3R_759()) return true;
+  private boolean jj_3R_318() {
+    if (jj_scan_token(WHEN_)) return true;
+    if (jj_3R_105()) return true;
+    if (jj_scan_token(THEN_)) return true;
+    if (jj_3R_142()) return true;
     return false;
   }
 
-  private boolean jj_3R_579() {
-    if (jj_scan_token(CIDR_LITERAL)) return true;
+  private boolean jj_3R_385() {
+    if (jj_3R_579()) return true;
     return false;
   }
 
-  private boolean jj_3_35() {
-    if (jj_scan_token(PARENTHESIS_START_)) return true;
-    if (jj_3R_77()) return true;
+  private boolean jj_3R_384() {
+    if (jj_3R_578()) return true;
     return false;
   }
 
-  private boolean jj_3R_594() {
-    if (jj_scan_token(TIME_)) return true;
+  private boolean jj_3R_775() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_745()) jj_scanpos = xsp;
+    if (jj_3R_780()) {
+    jj_scanpos = xsp;
+    if (jj_3R_781()) {
+    jj_scanpos = xsp;
+    if (jj_3R_782()) return true;
+    }
+    }
     xsp = jj_scanpos;
-    if (jj_3_43()) jj_scanpos = xsp;
+    if (jj_3R_783()) jj_scanpos = xsp;
+    if (jj_scan_token(JOIN_)) return true;
+    if (jj_3R_751()) return true;
+    if (jj_3R_779()) return true;
     return false;
   }
 
-  private boolean jj_3R_703() {
-    if (jj_scan_token(DISTINCT_)) return true;
+  private boolean jj_3R_383() {
+    if (jj_3R_577()) return true;
     return false;
   }
 
-  private boolean jj_3R_578() {
-    if (jj_scan_token(MACADDR_LITERAL)) return true;
+  private boolean jj_3R_238() {
+    if (jj_scan_token(CASE_)) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_318()) { jj_scanpos = xsp; break; }
+    }
+    xsp = jj_scanpos;
+    if (jj_3R_319()) jj_scanpos = xsp;
+    if (jj_scan_token(END_)) return true;
     return false;
   }
 
-  private boolean jj_3R_283() {
-    if (jj_scan_token(TEMPORARY_)) return true;
+  private boolean jj_3R_382() {
+    if (jj_3R_576()) return true;
     return false;
   }
 
-  private boolean jj_3R_114() {
-    if (jj_scan_token(MIN_)) return true;
-    if (jj_scan_token(PARENTHESIS_START_)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_703()) jj_scanpos = xsp;
-    if (jj_3R_96()) return true;
-    if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
+  private boolean jj_3R_631() {
+    if (jj_scan_token(TINYINT_)) return true;
     return false;
   }
 
-  private boolean jj_3R_282() {
-    if (jj_scan_token(TEMP_)) return true;
+  private boolean jj_3R_381() {
+    if (jj_3R_575()) return true;
     return false;
   }
 
-  private boolean jj_3R_674() {
-    if (jj_scan_token(HAVING_)) return true;
-    if (jj_3R_104()) return true;
+  private boolean jj_3R_380() {
+    if (jj_3R_574()) return true;
     return false;
   }
 
-  private boolean jj_3R_577() {
-    if (jj_scan_token(INTEGER_LITERAL)) return true;
+  private boolean jj_3R_778() {
+    if (jj_scan_token(INNER_)) return true;
     return false;
   }
 
-  private boolean jj_3R_642() {
-    if (jj_scan_token(SAMLLDATETIME_)) return true;
+  private boolean jj_3R_755() {
+    if (jj_scan_token(ELSE_)) return true;
+    if (jj_3R_142()) return true;
     return false;
   }
 
-  private boolean jj_3R_359() {
-    if (jj_scan_token(GLOBAL_)) return true;
+  private boolean jj_3R_379() {
+    if (jj_3R_573()) return true;
     return false;
   }
 
-  private boolean jj_3R_641() {
-    if (jj_scan_token(DATETIME_)) return true;
+  private boolean jj_3R_759() {
+    if (jj_scan_token(SERIAL_)) return true;
     return false;
   }
 
-  private boolean jj_3R_358() {
-    if (jj_scan_token(LOCAL_)) return true;
+  private boolean jj_3R_774() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_778()) jj_scanpos = xsp;
+    if (jj_scan_token(JOIN_)) return true;
+    if (jj_3R_751()) return true;
+    if (jj_3R_779()) return true;
     return false;
   }
 
-  private boolean jj_3R_153() {
-    if (jj_3R_141()) return true;
+  private boolean jj_3_59() {
+    if (jj_3R_107()) return true;
     return false;
   }
 
-  private boolean jj_3R_89() {
-    if (jj_scan_token(WITHOUT_TIMEZONE_)) return true;
+  private boolean jj_3R_677() {
+    if (jj_scan_token(INT2_)) return true;
     return false;
   }
 
-  private boolean jj_3R_281() {
+  private boolean jj_3R_769() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_358()) {
+    if (jj_3R_774()) {
     jj_scanpos = xsp;
-    if (jj_3R_359()) return true;
+    if (jj_3R_775()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_576() {
-    if (jj_scan_token(HEXDECIMAL_LITERAL)) return true;
+  private boolean jj_3_58() {
+    if (jj_3R_106()) return true;
     return false;
   }
 
-  private boolean jj_3R_88() {
-    if (jj_scan_token(WITH_TIMEZONE_)) return true;
+  private boolean jj_3R_676() {
+    if (jj_scan_token(SMALLINT_)) return true;
     return false;
   }
 
-  private boolean jj_3R_702() {
-    if (jj_scan_token(DISTINCT_)) return true;
+  private boolean jj_3R_157() {
+    if (jj_scan_token(UNIQUE_)) return true;
     return false;
   }
 
-  private boolean jj_3_113() {
-    if (jj_scan_token(402)) return true;
-    if (jj_3R_153()) return true;
+  private boolean jj_3_57() {
+    if (jj_3R_77()) return true;
     return false;
   }
 
-  private boolean jj_3R_155() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_281()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_282()) {
-    jj_scanpos = xsp;
-    if (jj_3R_283()) return true;
-    }
+  private boolean jj_3R_378() {
+    if (jj_3R_572()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_754() {
+    if (jj_scan_token(WHEN_)) return true;
+    if (jj_3R_142()) return true;
+    if (jj_scan_token(THEN_)) return true;
+    if (jj_3R_142()) return true;
     return false;
   }
 
-  private boolean jj_3R_39() {
+  private boolean jj_3R_42() {
     if (jj_scan_token(CREATE_)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_155()) jj_scanpos = xsp;
-    if (jj_scan_token(TABLE_)) return true;
-    if (jj_3R_48()) return true;
+    if (jj_3R_157()) jj_scanpos = xsp;
+    if (jj_scan_token(INDEX_)) return true;
+    if (jj_3R_155()) return true;
     return false;
   }
 
-  private boolean jj_3_42() {
+  private boolean jj_3R_630() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_88()) {
+    if (jj_3R_676()) {
     jj_scanpos = xsp;
-    if (jj_3R_89()) return true;
+    if (jj_3R_677()) return true;
     }
-    return false;
-  }
-
-  private boolean jj_3R_113() {
-    if (jj_scan_token(MAX_)) return true;
-    if (jj_scan_token(PARENTHESIS_START_)) return true;
-    Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_702()) jj_scanpos = xsp;
+    if (jj_3R_759()) jj_scanpos = xsp;
     if (jj_3R_96()) return true;
-    if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_575() {
-    if (jj_scan_token(BINARY_LITERAL)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_762() {
-    if (jj_3R_759()) return true;
     return false;
   }
 
-  private boolean jj_3R_387() {
-    if (jj_scan_token(402)) return true;
-    if (jj_3R_153()) return true;
+  private boolean jj_3R_377() {
+    if (jj_3R_571()) return true;
     return false;
   }
 
-  private boolean jj_3R_319() {
-    if (jj_3R_153()) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_387()) { jj_scanpos = xsp; break; }
-    }
+  private boolean jj_3R_768() {
+    if (jj_scan_token(CROSS_)) return true;
+    if (jj_scan_token(JOIN_)) return true;
+    if (jj_3R_751()) return true;
     return false;
   }
 
-  private boolean jj_3R_640() {
-    if (jj_scan_token(TIMESTAMP_)) return true;
+  private boolean jj_3R_587() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_762()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3_42()) jj_scanpos = xsp;
+    if (jj_3R_630()) {
+    jj_scanpos = xsp;
+    if (jj_3R_631()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_616() {
-    if (jj_scan_token(FALSE_)) return true;
+  private boolean jj_3R_376() {
+    if (jj_3R_570()) return true;
     return false;
   }
 
-  private boolean jj_3R_595() {
+  private boolean jj_3R_752() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_640()) {
+    if (jj_3R_768()) {
     jj_scanpos = xsp;
-    if (jj_3R_641()) {
+    if (jj_3R_769()) {
     jj_scanpos = xsp;
-    if (jj_3R_642()) return true;
+    if (jj_3R_770()) return true;
     }
     }
     return false;
   }
 
-  private boolean jj_3R_615() {
-    if (jj_scan_token(TRUE_)) return true;
+  private boolean jj_3_94() {
+    if (jj_scan_token(CASE_)) return true;
+    if (jj_3R_142()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_754()) { jj_scanpos = xsp; break; }
+    }
+    xsp = jj_scanpos;
+    if (jj_3R_755()) jj_scanpos = xsp;
+    if (jj_scan_token(END_)) return true;
     return false;
   }
 
-  private boolean jj_3R_569() {
+  private boolean jj_3R_120() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_615()) {
+    if (jj_3_94()) {
     jj_scanpos = xsp;
-    if (jj_3R_616()) return true;
+    if (jj_3R_238()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_771() {
-    if (jj_scan_token(ALL_)) return true;
+  private boolean jj_3R_698() {
+    if (jj_3R_751()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_752()) { jj_scanpos = xsp; break; }
+    }
     return false;
   }
 
-  private boolean jj_3R_673() {
-    if (jj_scan_token(GROUP_BY_)) return true;
-    if (jj_3R_319()) return true;
+  private boolean jj_3_56() {
+    if (jj_scan_token(PARENTHESIS_START_)) return true;
+    if (jj_3R_105()) return true;
+    if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
 
-  private boolean jj_3R_770() {
-    if (jj_scan_token(DISTINCT_)) return true;
+  private boolean jj_3R_375() {
+    if (jj_3R_569()) return true;
     return false;
   }
 
-  private boolean jj_3R_752() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_770()) {
-    jj_scanpos = xsp;
-    if (jj_3R_771()) return true;
-    }
+  private boolean jj_3_55() {
+    if (jj_3R_104()) return true;
     return false;
   }
 
-  private boolean jj_3R_701() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_752()) jj_scanpos = xsp;
-    if (jj_3R_96()) return true;
+  private boolean jj_3R_597() {
+    if (jj_scan_token(BOOLEAN_)) return true;
     return false;
   }
 
-  private boolean jj_3R_571() {
-    if (jj_scan_token(NULL_)) return true;
+  private boolean jj_3_54() {
+    if (jj_3R_103()) return true;
     return false;
   }
 
-  private boolean jj_3R_743() {
-    if (jj_3R_759()) return true;
+  private boolean jj_3_53() {
+    if (jj_3R_102()) return true;
     return false;
   }
 
-  private boolean jj_3R_700() {
-    if (jj_scan_token(STAR_)) return true;
+  private boolean jj_3R_614() {
+    if (jj_scan_token(REGCLASS_)) return true;
     return false;
   }
 
-  private boolean jj_3R_672() {
-    if (jj_scan_token(WHERE_)) return true;
-    if (jj_3R_104()) return true;
+  private boolean jj_3R_568() {
+    if (jj_scan_token(MINUS_)) return true;
     return false;
   }
 
-  private boolean jj_3R_588() {
-    if (jj_scan_token(FLOAT_)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_743()) jj_scanpos = xsp;
-    if (jj_3R_95()) return true;
+  private boolean jj_3R_567() {
+    if (jj_scan_token(PLUS_)) return true;
     return false;
   }
 
-  private boolean jj_3R_105() {
-    if (jj_scan_token(TEXT_LITERAL)) return true;
+  private boolean jj_3_34() {
+    if (jj_3R_49()) return true;
+    if (jj_scan_token(403)) return true;
     return false;
   }
 
-  private boolean jj_3R_112() {
-    if (jj_scan_token(COUNT_)) return true;
-    if (jj_scan_token(PARENTHESIS_START_)) return true;
+  private boolean jj_3R_374() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_700()) {
+    if (jj_3R_567()) {
     jj_scanpos = xsp;
-    if (jj_3R_701()) return true;
+    if (jj_3R_568()) return true;
     }
-    if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_76() {
-    if (jj_scan_token(INTERVAL_LITERAL)) return true;
     return false;
   }
 
-  private boolean jj_3R_742() {
-    if (jj_scan_token(SERIAL_)) return true;
+  private boolean jj_3R_613() {
+    if (jj_scan_token(BOX3DEXTENT_)) return true;
     return false;
   }
 
-  private boolean jj_3R_628() {
-    if (jj_scan_token(INT4_)) return true;
+  private boolean jj_3R_566() {
+    if (jj_scan_token(NOT_BITWISE_)) return true;
     return false;
   }
 
-  private boolean jj_3R_627() {
-    if (jj_scan_token(INTEGER_)) return true;
+  private boolean jj_3R_565() {
+    if (jj_scan_token(ABSOLUTE_)) return true;
     return false;
   }
 
-  private boolean jj_3R_789() {
-    if (jj_scan_token(USING_)) return true;
-    if (jj_scan_token(PARENTHESIS_START_)) return true;
-    if (jj_3R_84()) return true;
-    if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
+  private boolean jj_3R_564() {
+    if (jj_scan_token(FACTORIAL_PREFIX_)) return true;
     return false;
   }
 
-  private boolean jj_3R_574() {
-    if (jj_scan_token(DATE_LITERAL)) return true;
+  private boolean jj_3R_612() {
+    if (jj_scan_token(BOX3D_)) return true;
     return false;
   }
 
-  private boolean jj_3R_626() {
-    if (jj_scan_token(INT_)) return true;
+  private boolean jj_3R_563() {
+    if (jj_scan_token(CUBE_ROOT_)) return true;
     return false;
   }
 
-  private boolean jj_3R_788() {
-    if (jj_scan_token(ON_)) return true;
-    if (jj_3R_104()) return true;
+  private boolean jj_3R_229() {
+    if (jj_scan_token(PARENTHESIS_START_)) return true;
+    if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
 
-  private boolean jj_3R_699() {
-    if (jj_scan_token(DISTINCT_)) return true;
+  private boolean jj_3R_562() {
+    if (jj_scan_token(SQUARE_ROOT_)) return true;
     return false;
   }
 
-  private boolean jj_3R_585() {
+  private boolean jj_3R_373() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_626()) {
+    if (jj_3R_562()) {
     jj_scanpos = xsp;
-    if (jj_3R_627()) {
+    if (jj_3R_563()) {
+    jj_scanpos = xsp;
+    if (jj_3R_564()) {
     jj_scanpos = xsp;
-    if (jj_3R_628()) return true;
+    if (jj_3R_565()) {
+    jj_scanpos = xsp;
+    if (jj_3R_566()) return true;
+    }
+    }
     }
     }
-    xsp = jj_scanpos;
-    if (jj_3R_742()) jj_scanpos = xsp;
-    if (jj_3R_95()) return true;
     return false;
   }
 
-  private boolean jj_3R_778() {
+  private boolean jj_3R_228() {
+    if (jj_scan_token(CURRENT_USER_)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_315() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_788()) {
+    if (jj_3R_373()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_374()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3_53()) {
+    jj_scanpos = xsp;
+    if (jj_3_54()) {
+    jj_scanpos = xsp;
+    if (jj_3_55()) {
+    jj_scanpos = xsp;
+    if (jj_3R_375()) {
+    jj_scanpos = xsp;
+    if (jj_3_56()) {
+    jj_scanpos = xsp;
+    if (jj_3R_376()) {
+    jj_scanpos = xsp;
+    if (jj_3R_377()) {
+    jj_scanpos = xsp;
+    if (jj_3R_378()) {
+    jj_scanpos = xsp;
+    if (jj_3_57()) {
+    jj_scanpos = xsp;
+    if (jj_3_58()) {
+    jj_scanpos = xsp;
+    if (jj_3_59()) {
+    jj_scanpos = xsp;
+    if (jj_3R_379()) {
+    jj_scanpos = xsp;
+    if (jj_3R_380()) {
+    jj_scanpos = xsp;
+    if (jj_3R_381()) {
+    jj_scanpos = xsp;
+    if (jj_3R_382()) {
+    jj_scanpos = xsp;
+    if (jj_3R_383()) {
+    jj_scanpos = xsp;
+    if (jj_3R_384()) {
+    jj_scanpos = xsp;
+    if (jj_3R_385()) {
+    jj_scanpos = xsp;
+    if (jj_3R_386()) {
     jj_scanpos = xsp;
-    if (jj_3R_789()) return true;
+    if (jj_3R_387()) return true;
+    }
+    }
+    }
+    }
+    }
+    }
     }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    xsp = jj_scanpos;
+    if (jj_3R_618()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_619()) jj_scanpos = xsp;
     return false;
   }
 
@@ -26077,7 +26321,7 @@ A list of Identifiers seprated by commas
   private Token jj_scanpos, jj_lastpos;
   private int jj_la;
   private int jj_gen;
-  final private int[] jj_la1 = new int[412];
+  final private int[] jj_la1 = new int[420];
   static private int[] jj_la1_0;
   static private int[] jj_la1_1;
   static private int[] jj_la1_2;
@@ -26107,43 +26351,43 @@ A list of Identifiers seprated by commas
       jj_la1_init_12();
    }
    private static void jj_la1_init_0() {
-      jj_la1_0 = new int[] {0x0,0x0,0x0,0x0,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20000,0x20000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x200,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x200,0x200,0x200,0x0,0x0,0x0,0x0,0x20000,0x0,0x0,0x0,0x0,0x20000,0x0,0x0,0x0,0x0,0x20000,0x100000,0x0,0x0,0x0,0x0,0x0,0x200,0x200,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20000,0x0,0x0,0x0,0x20000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20000,0x0,0x0,0x20000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20000,0x20000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20000,0x20000,0x0,0x0,0x20000,0x0,0x0,0x20000,0x0,0x0,0x20000,0x0,0x0,0x20000,0x0,0x0,0x20000,0x0,0x0,0x20000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20000,0x20000,0x0,0x20000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x100000,0x10a1080,0x72080780,0x1001000,0x88f08800,0x80080,0x80080,0x1001000,0x1001000,0x0,0x0,0x0,0x4000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x10a1080,0x20000,0x20000,0x20000,0x20000,0x20000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20000,0x0,0x0,0x0,0x0,0x0,0x0,0x10a1080,0x0,0x0,0x0,0x11a1080,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x10a1080,0x4000080,0x200,0xfe480780,0x0,0x0,0x20000,0x10a1080,0xfa480780,0x0,0x20000,0x0,0x0,0x0,0x0,0x4000080,0x4000080,0x0,0x200,0x0,0x200,0x0,0x0,0x0,0x0,0x20000,0x20000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20000,0x20000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x100000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x100000,0x100000,0x0,0x0,};
+      jj_la1_0 = new int[] {0x0,0x0,0x0,0x0,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20000,0x20000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x200,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x200,0x200,0x200,0x0,0x0,0x0,0x0,0x0,0x20000,0x0,0x0,0x0,0x0,0x20000,0x0,0x0,0x0,0x0,0x20000,0x100000,0x0,0x0,0x0,0x0,0x0,0x200,0x200,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20000,0x0,0x0,0x0,0x20000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20000,0x0,0x0,0x20000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20000,0x20000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20000,0x20000,0x0,0x0,0x20000,0x0,0x0,0x20000,0x0,0x0,0x20000,0x0,0x0,0x20000,0x0,0x0,0x20000,0x0,0x0,0x20000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20000,0x20000,0x0,0x20000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x100000,0x10a1080,0x72080780,0x1001000,0x88f08800,0x80080,0x80080,0x1001000,0x1001000,0x0,0x0,0x0,0x4000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x10a1080,0x20000,0x20000,0x20000,0x20000,0x20000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20000,0x0,0x0,0x0,0x0,0x0,0x0,0x10a1080,0x0,0x0,0x0,0x11a1080,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x10a1080,0x4000080,0x200,0xfe480780,0x0,0x0,0x20000,0x10a1080,0xfa480780,0x0,0x20000,0x0,0x0,0x0,0x0,0x4000080,0x4000080,0x0,0x200,0x0,0x200,0x0,0x0,0x0,0x0,0x20000,0x20000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20000,0x20000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x100000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x100000,0x100000,0x0,0x0,};
    }
    private static void jj_la1_init_1() {
-      jj_la1_1 = new int[] {0x0,0x0,0x20000000,0x20000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20000000,0x0,0x0,0x4000,0x0,0x80000000,0x80000000,0x80000000,0x100,0x100,0x0,0x100,0x100,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2000000,0x0,0x0,0x0,0x0,0x20000000,0x20000000,0x0,0x20000000,0x0,0x0,0x2000000,0x0,0x20000000,0x1000,0x0,0x0,0x1000800,0x800,0x4000,0x4000,0x20001000,0x20000000,0x0,0x2000000,0x20000000,0x0,0x0,0x0,0x0,0x0,0x20000000,0x0,0x20000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20000000,0x30000000,0x30000000,0x0,0x20000000,0x30000000,0x30000000,0x0,0x0,0x0,0x0,0x0,0x1000,0x0,0x0,0x0,0x0,0x0,0x1000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20000000,0x0,0x0,0x0,0x0,0x0,0x20000000,0x0,0x1000,0x0,0x2000000,0x0,0x0,0x40000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2000000,0x0,0x0,0x0,0x0,0x2000000,0x2000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20080012,0x9780e8,0x1,0x0,0x80012,0x80012,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2000000,0x2000000,0x0,0x0,0x0,0x0,0x0,0x20080012,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20000000,0x20000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20080012,0x0,0x2000000,0x2000000,0x22080012,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20000000,0x100,0x2000,0x4000000,0x0,0x0,0x0,0x0,0x20080012,0x200204,0x408,0xb506ec,0xa000000,0xa000000,0x0,0x20080012,0x9500e8,0x0,0x0,0x0,0x0,0x0,0x0,0x200004,0x200004,0x0,0x408,0x0,0x408,0x0,0x0,0x0,0x0,0x0,0x20000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1000,0x0,0x2000000,0x10000000,0x10000000,0x0,0x0,0x40000000,0x20000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20000000,0x0,0x0,0x20000000,0x0,0x0,0x2000000,0x0,0x0,0x1000,0x20000000,0x0,0x20000000,0x20000000,0x22000000,0x0,};
+      jj_la1_1 = new int[] {0x0,0x0,0x20000000,0x20000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20000000,0x0,0x0,0x4000,0x0,0x80000000,0x80000000,0x80000000,0x100,0x100,0x0,0x100,0x100,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2000000,0x0,0x0,0x0,0x0,0x0,0x20000000,0x20000000,0x0,0x20000000,0x0,0x0,0x2000000,0x0,0x20000000,0x1000,0x0,0x0,0x1000800,0x800,0x4000,0x4000,0x20001000,0x20000000,0x0,0x2000000,0x0,0x0,0x1000,0x20000000,0x0,0x0,0x0,0x0,0x0,0x20000000,0x0,0x20000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20000000,0x30000000,0x30000000,0x0,0x20000000,0x30000000,0x30000000,0x0,0x0,0x0,0x0,0x0,0x1000,0x0,0x0,0x0,0x0,0x0,0x1000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20000000,0x0,0x0,0x0,0x0,0x0,0x20000000,0x0,0x1000,0x0,0x2000000,0x0,0x0,0x40000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2000000,0x0,0x0,0x0,0x0,0x2000000,0x2000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20080012,0x9780e8,0x1,0x0,0x80012,0x80012,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2000000,0x2000000,0x0,0x0,0x0,0x0,0x0,0x20080012,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20000000,0x20000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20080012,0x0,0x2000000,0x2000000,0x22080012,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20000000,0x100,0x2000,0x4000000,0x0,0x0,0x0,0x0,0x20080012,0x200204,0x408,0xb506ec,0xa000000,0xa000000,0x0,0x20080012,0x9500e8,0x0,0x0,0x0,0x0,0x0,0x0,0x200004,0x200004,0x0,0x408,0x0,0x408,0x0,0x0,0x0,0x0,0x0,0x20000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1000,0x0,0x2000000,0x10000000,0x10000000,0x0,0x0,0x40000000,0x20000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20000000,0x0,0x0,0x20000000,0x0,0x0,0x2000000,0x0,0x0,0x1000,0x20000000,0x0,0x20000000,0x20000000,0x22000000,0x0,};
    }
    private static void jj_la1_init_2() {
-      jj_la1_2 = new int[] {0x0,0x1,0xd06a5ae4,0xd06a5ae5,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8,0x1000000,0x0,0x100000,0x0,0xd06a5ae5,0x0,0x0,0x4000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8000000,0x8000000,0xd06a5ae5,0xd06a5ae5,0x0,0xd06a5ae5,0x0,0x0,0x0,0x0,0xd06a5ae5,0x0,0x0,0x0,0x1000400,0x0,0x0,0x0,0xd06a5ae5,0xd06a5ae5,0x0,0x0,0xd06a5ae5,0x0,0x0,0x0,0x0,0x0,0xd06a5ae5,0x0,0xd06a5ae5,0x0,0x0,0x0,0x1000400,0x400000,0x0,0x100,0x100,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xd06a5ae5,0xd0ea5ae5,0xd0ea5ae5,0x0,0xd06a5ae5,0xd0ea5ae5,0xd0ea5ae5,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xd06a5ae5,0x100,0x100,0x0,0x0,0x0,0xd06a5ae5,0x0,0x0,0x0,0x0,0xc0000020,0x0,0x204e5200,0x10000001,0x80000,0x5200,0x0,0x0,0x40000000,0x0,0x40000000,0x0,0x0,0x0,0x80000020,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4,0x0,0x20000,0x0,0x0,0x0,0x20000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4000000,0x0,0x0,0x0,0x0,0x0,0xd06bdae5,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x100,0x100,0x0,0x0,0x0,0x4000000,0x0,0x0,0x0,0x0,0xd06bdae5,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x200000,0x0,0x4000000,0x10,0x10,0x0,0xd06a5ae5,0xd06a5ae5,0x0,0x0,0x0,0x0,0x0,0x2000000,0x0,0x2000000,0x8000,0x2000,0xd06bdae5,0x0,0x0,0x0,0xd06bdae5,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xd06a5ae5,0x0,0x0,0x0,0x100,0x100,0x0,0x100,0xd06bdae5,0x100,0x0,0x100,0x0,0x0,0x0,0xd06bdae5,0x0,0x100,0x0,0x100,0x100,0x0,0x0,0x0,0x100,0x100,0x0,0x100,0x0,0x0,0x0,0x0,0x0,0x0,0xd06a5ae5,0x0,0x8000000,0x0,0x8000000,0x0,0x8000000,0x0,0x8000000,0x0,0x8000000,0x8000000,0x0,0x0,0x0,0x800000,0x800000,0x0,0x0,0xe04e5224,0xd06a5ae5,0x0,0x0,0x0,0x8,0x0,0x0,0x0,0x0,0x0,0x0,0x2,0x2,0x0,0x2,0x2,0xd06a5ae5,0x0,0x0,0xd06a5ae5,0x0,0x0,0x0,0x0,0x0,0x0,0xd06a5ae5,0x0,0xd06a5ae5,0xd06a5ae5,0xd06a5ae5,0x0,};
+      jj_la1_2 = new int[] {0x0,0x1,0xd06a5ae4,0xd06a5ae5,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8,0x1000000,0x0,0x100000,0x0,0xd06a5ae5,0x0,0x0,0x4000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8000000,0x8000000,0xd06a5ae5,0xd06a5ae5,0x0,0xd06a5ae5,0x0,0x0,0x0,0x0,0xd06a5ae5,0x0,0x0,0x0,0x1000400,0x0,0x0,0x0,0xd06a5ae5,0xd06a5ae5,0x0,0x0,0x0,0x0,0x0,0xd06a5ae5,0x0,0x0,0x0,0x0,0x0,0xd06a5ae5,0x0,0xd06a5ae5,0x0,0x0,0x0,0x1000400,0x400000,0x0,0x100,0x100,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xd06a5ae5,0xd0ea5ae5,0xd0ea5ae5,0x0,0xd06a5ae5,0xd0ea5ae5,0xd0ea5ae5,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xd06a5ae5,0x100,0x100,0x0,0x0,0x0,0xd06a5ae5,0x0,0x0,0x0,0x0,0xc0000020,0x0,0x204e5200,0x10000001,0x80000,0x5200,0x0,0x0,0x40000000,0x0,0x40000000,0x0,0x0,0x0,0x80000020,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4,0x0,0x20000,0x0,0x0,0x0,0x20000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4000000,0x0,0x0,0x0,0x0,0x0,0xd06bdae5,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x100,0x100,0x0,0x0,0x0,0x4000000,0x0,0x0,0x0,0x0,0xd06bdae5,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x200000,0x0,0x4000000,0x10,0x10,0x0,0xd06a5ae5,0xd06a5ae5,0x0,0x0,0x0,0x0,0x0,0x2000000,0x0,0x2000000,0x8000,0x2000,0xd06bdae5,0x0,0x0,0x0,0xd06bdae5,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xd06a5ae5,0x0,0x0,0x0,0x100,0x100,0x0,0x100,0xd06bdae5,0x100,0x0,0x100,0x0,0x0,0x0,0xd06bdae5,0x0,0x100,0x0,0x100,0x100,0x0,0x0,0x0,0x100,0x100,0x0,0x100,0x0,0x0,0x0,0x0,0x0,0x0,0xd06a5ae5,0x0,0x8000000,0x0,0x8000000,0x0,0x8000000,0x0,0x8000000,0x0,0x8000000,0x8000000,0x0,0x0,0x0,0x800000,0x800000,0x0,0x0,0xe04e5224,0xd06a5ae5,0x0,0x0,0x0,0x8,0x0,0x0,0x0,0x0,0x0,0x0,0x2,0x2,0x0,0x2,0x2,0xd06a5ae5,0x0,0x0,0xd06a5ae5,0x0,0x0,0x0,0x0,0x0,0x0,0xd06a5ae5,0x0,0xd06a5ae5,0xd06a5ae5,0xd06a5ae5,0x0,};
    }
    private static void jj_la1_init_3() {
-      jj_la1_3 = new int[] {0x0,0x0,0x156a8c41,0x156a8c41,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80000000,0x0,0x0,0x40000008,0x0,0x156a8c41,0x0,0x0,0x0,0x4000000,0x300,0x300,0x4000300,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4000000,0x0,0x0,0x0,0x4000000,0x0,0x80,0x0,0x0,0x4000000,0x400400,0x400400,0x4400400,0x0,0x0,0x0,0x80,0x0,0x80,0x0,0x4000000,0x0,0x0,0x156a8c41,0x156a8c41,0x0,0x156a8c41,0x0,0x80,0x80,0x0,0x156a8c41,0x0,0x0,0x0,0x40000000,0x0,0x0,0x0,0x157a8c41,0x156a8c41,0x0,0x0,0x156a8c41,0x0,0x20000000,0x20000000,0x0,0x0,0x156a8c41,0x0,0x156a8c41,0x0,0x40000000,0x0,0x200000,0x20100,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x156a8c41,0x156a8c41,0x156a8c41,0x0,0x156a8c41,0x156a8c41,0x156a8c41,0x0,0x0,0x4000,0x4000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2,0x0,0x0,0x0,0x156a8c41,0x100,0x100,0x0,0x0,0x0,0x156a8c41,0x80,0x0,0x80,0x80,0x0,0x0,0x10028041,0x11000000,0x8040,0x0,0x0,0x0,0x0,0x0,0x0,0x1,0x0,0x800,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x10000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2,0x0,0x0,0x0,0x0,0x0,0x0,0x157a8d41,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x100100,0x0,0x0,0x0,0x0,0x0,0x100000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x157a8d41,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x156a8c41,0x156a8c41,0x0,0x0,0x400000,0x0,0x2000000,0x0,0x2000000,0x0,0x0,0x0,0x157a8d41,0x0,0x0,0x0,0x157a8d41,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x156a8c41,0x0,0x0,0x0,0x0,0x0,0x100000,0x0,0x157a8d41,0x20,0x0,0x20,0x2000,0x2000,0x0,0x157a8d41,0x0,0x0,0x0,0x0,0x0,0x20,0x0,0x0,0x20,0x0,0x0,0x0,0x0,0x100000,0x4000,0x4000,0x0,0x0,0x156a8c41,0x0,0x14,0x0,0x10,0x0,0x14,0x0,0x10,0x0,0x14,0x14,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x10028941,0x156a8c41,0x0,0x8040000,0x8040000,0x0,0x8040000,0x8040000,0x8040000,0x8040000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x156a8c41,0x0,0x0,0x156a8c41,0x40000000,0x0,0x40000000,0x0,0x0,0x0,0x156a8c41,0x0,0x156a8c41,0x156a8c41,0x156a8c41,0x0,};
+      jj_la1_3 = new int[] {0x0,0x0,0x156a8c41,0x156a8c41,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80000000,0x0,0x0,0x40000008,0x0,0x156a8c41,0x0,0x0,0x0,0x4000000,0x300,0x300,0x4000300,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4000000,0x0,0x0,0x0,0x4000000,0x0,0x80,0x0,0x0,0x4000000,0x400400,0x400400,0x4400400,0x0,0x0,0x0,0x80,0x0,0x80,0x0,0x0,0x4000000,0x0,0x0,0x156a8c41,0x156a8c41,0x0,0x156a8c41,0x0,0x80,0x80,0x0,0x156a8c41,0x0,0x0,0x0,0x40000000,0x0,0x0,0x0,0x157a8c41,0x156a8c41,0x0,0x0,0x80,0x0,0x0,0x156a8c41,0x0,0x20000000,0x20000000,0x0,0x0,0x156a8c41,0x0,0x156a8c41,0x0,0x40000000,0x0,0x200000,0x20100,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x156a8c41,0x156a8c41,0x156a8c41,0x0,0x156a8c41,0x156a8c41,0x156a8c41,0x0,0x0,0x4000,0x4000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2,0x0,0x0,0x0,0x156a8c41,0x100,0x100,0x0,0x0,0x0,0x156a8c41,0x80,0x0,0x80,0x80,0x0,0x0,0x10028041,0x11000000,0x8040,0x0,0x0,0x0,0x0,0x0,0x0,0x1,0x0,0x800,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x10000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2,0x0,0x0,0x0,0x0,0x0,0x0,0x157a8d41,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x100100,0x0,0x0,0x0,0x0,0x0,0x100000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x157a8d41,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x156a8c41,0x156a8c41,0x0,0x0,0x400000,0x0,0x2000000,0x0,0x2000000,0x0,0x0,0x0,0x157a8d41,0x0,0x0,0x0,0x157a8d41,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x156a8c41,0x0,0x0,0x0,0x0,0x0,0x100000,0x0,0x157a8d41,0x20,0x0,0x20,0x2000,0x2000,0x0,0x157a8d41,0x0,0x0,0x0,0x0,0x0,0x20,0x0,0x0,0x20,0x0,0x0,0x0,0x0,0x100000,0x4000,0x4000,0x0,0x0,0x156a8c41,0x0,0x14,0x0,0x10,0x0,0x14,0x0,0x10,0x0,0x14,0x14,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x10028941,0x156a8c41,0x0,0x8040000,0x8040000,0x0,0x8040000,0x8040000,0x8040000,0x8040000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x156a8c41,0x0,0x0,0x156a8c41,0x40000000,0x0,0x40000000,0x0,0x0,0x0,0x156a8c41,0x0,0x156a8c41,0x156a8c41,0x156a8c41,0x0,};
    }
    private static void jj_la1_init_4() {
-      jj_la1_4 = new int[] {0x0,0x0,0xe118a7,0xe118a7,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4000,0x0,0x210,0x0,0x80e118a7,0x20000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8000000,0x0,0x0,0x8000000,0x0,0x0,0x0,0x2000,0x0,0x0,0x0,0x2000,0x0,0x0,0x4000000,0x4000000,0x4000000,0x0,0x1000000,0x0,0x2000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1000000,0x0,0x1000000,0x0,0x0,0x0,0x0,0x80e118a7,0x80e118a7,0x0,0x80e118a7,0x0,0x1000000,0x1000000,0x0,0x80e118a7,0x0,0x40000000,0x0,0x0,0x0,0x0,0x0,0xe119a7,0xe118a7,0x0,0x0,0xe118a7,0x0,0x400,0x400,0x0,0x8,0xe118af,0x0,0xe118a7,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xe118a7,0xe118a7,0xe118a7,0x0,0xe118a7,0xe118a7,0xe118a7,0x100000,0x100000,0x0,0x100000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8,0xe118af,0x0,0x0,0x0,0x0,0x8,0xe118a7,0x1000000,0x0,0x1000000,0x1000000,0x0,0x1000,0xa10807,0x400000,0x0,0x10004,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x200000,0x0,0x0,0x0,0x800000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80e119a7,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x100,0x0,0x0,0x0,0x0,0x0,0x100,0x0,0x0,0x0,0x0,0x80000,0x0,0x0,0x80e119a7,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xe118a7,0xe118a7,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80e119a7,0x0,0x0,0x0,0x80e119a7,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xe118a7,0x0,0x0,0x0,0x0,0x0,0x100,0x0,0x80e119a7,0x8000,0x0,0x8000,0x0,0x0,0x0,0x80e119a7,0x0,0x0,0x0,0x0,0x0,0x8000,0x0,0x0,0x8000,0x0,0x0,0x0,0x0,0x100,0x0,0x0,0x40000000,0x0,0x80e118a7,0x0,0x10040040,0x40000,0x10000000,0x2000000,0x10040000,0x40000,0x10000000,0x2000000,0x10040000,0x10040040,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xa11807,0x80e118a7,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xe118a7,0x0,0x0,0xe118a7,0x20000,0x0,0x20000,0x40000000,0x40000000,0x0,0xe118a7,0x40000000,0xe118a7,0xe118a7,0xe118a7,0x0,};
+      jj_la1_4 = new int[] {0x0,0x0,0xe118a7,0xe118a7,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4000,0x0,0x210,0x0,0x80e118a7,0x20000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8000000,0x0,0x0,0x8000000,0x0,0x0,0x0,0x2000,0x0,0x0,0x0,0x2000,0x0,0x0,0x4000000,0x4000000,0x4000000,0x0,0x1000000,0x0,0x2000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1000000,0x0,0x1000000,0x0,0x0,0x0,0x0,0x0,0x80e118a7,0x80e118a7,0x0,0x80e118a7,0x0,0x1000000,0x1000000,0x0,0x80e118a7,0x0,0x40000000,0x0,0x0,0x0,0x0,0x0,0xe119a7,0xe118a7,0x0,0x0,0x1000000,0x0,0x0,0xe118a7,0x0,0x400,0x400,0x0,0x8,0xe118af,0x0,0xe118a7,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xe118a7,0xe118a7,0xe118a7,0x0,0xe118a7,0xe118a7,0xe118a7,0x100000,0x100000,0x0,0x100000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8,0xe118af,0x0,0x0,0x0,0x0,0x8,0xe118a7,0x1000000,0x0,0x1000000,0x1000000,0x0,0x1000,0xa10807,0x400000,0x0,0x10004,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x200000,0x0,0x0,0x0,0x800000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80e119a7,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x100,0x0,0x0,0x0,0x0,0x0,0x100,0x0,0x0,0x0,0x0,0x80000,0x0,0x0,0x80e119a7,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xe118a7,0xe118a7,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80e119a7,0x0,0x0,0x0,0x80e119a7,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xe118a7,0x0,0x0,0x0,0x0,0x0,0x100,0x0,0x80e119a7,0x8000,0x0,0x8000,0x0,0x0,0x0,0x80e119a7,0x0,0x0,0x0,0x0,0x0,0x8000,0x0,0x0,0x8000,0x0,0x0,0x0,0x0,0x100,0x0,0x0,0x40000000,0x0,0x80e118a7,0x0,0x10040040,0x40000,0x10000000,0x2000000,0x10040000,0x40000,0x10000000,0x2000000,0x10040000,0x10040040,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xa11807,0x80e118a7,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xe118a7,0x0,0x0,0xe118a7,0x20000,0x0,0x20000,0x40000000,0x40000000,0x0,0xe118a7,0x40000000,0xe118a7,0xe118a7,0xe118a7,0x0,};
    }
    private static void jj_la1_init_5() {
-      jj_la1_5 = new int[] {0x0,0x0,0x41a0c038,0x41a0c038,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80000,0x400,0x10000000,0x80,0x20000100,0x0,0x0,0x0,0x41a0c038,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1000,0x0,0x0,0x1000,0x0,0x100000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x100000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80000000,0x10000,0x10000,0x41a0c038,0x41a0c038,0x0,0x41a0c038,0x0,0x0,0x0,0x0,0x41a0c078,0x0,0x0,0x0,0x10400000,0x0,0x0,0x0,0x41a0d038,0x41a0c038,0x0,0x0,0x49a0c038,0x40,0x0,0x0,0x0,0x0,0x41a0c078,0x40,0x41a0c078,0x40,0x400000,0x40,0x0,0x0,0x2,0x0,0x0,0x4,0x0,0x4,0x0,0x2,0x0,0x4,0x41a0c038,0x41a0c038,0x41a0c038,0x0,0x41a0c038,0x41a0c038,0x41a0c038,0x20000,0x20000,0x0,0x20000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x100,0x0,0x0,0x0,0x80000000,0x0,0x0,0x41a0c038,0x0,0x0,0x0,0x0,0x0,0x41a0c038,0x0,0x0,0x0,0x0,0x0,0x8000,0x1000018,0x40200000,0x0,0x10,0x0,0x0,0x0,0x0,0x0,0x8,0x0,0x4000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2000000,0x1,0x0,0x80000000,0x80000000,0x0,0x0,0x0,0x0,0x0,0x0,0x4,0x0,0x40000,0x0,0x0,0x41a0c038,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4,0x0,0x2000000,0x0,0x41a0c038,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2,0x41a0c038,0x41a0c038,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x41a0c038,0x0,0x0,0x0,0x41a0c038,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x41a0c038,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x41a0c038,0x0,0x0,0x0,0x0,0x0,0x0,0x41a0c038,0x0,0x0,0x0,0x0,0x0,0x0,0x1000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x41a0c038,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2,0x0,0x0,0x0,0x0,0x0,0x0,0x100c018,0x41a0c038,0x0,0x0,0x0,0x80,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x49a0c038,0x0,0x0,0x41a0c038,0x80080400,0x0,0x80080400,0x0,0x0,0x0,0x41a0c038,0x0,0x41a0c038,0x41a0c038,0x41a0c038,0x0,};
+      jj_la1_5 = new int[] {0x0,0x0,0x41a0c038,0x41a0c038,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80000,0x400,0x10000000,0x80,0x20000100,0x0,0x0,0x0,0x41a0c038,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1000,0x0,0x0,0x1000,0x0,0x100000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x100000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80000000,0x10000,0x10000,0x41a0c038,0x41a0c038,0x0,0x41a0c038,0x0,0x0,0x0,0x0,0x41a0c078,0x0,0x0,0x0,0x10400000,0x0,0x0,0x0,0x41a0d038,0x41a0c038,0x0,0x0,0x0,0x0,0x0,0x49a0c038,0x40,0x0,0x0,0x0,0x0,0x41a0c078,0x40,0x41a0c078,0x40,0x400000,0x40,0x0,0x0,0x2,0x0,0x0,0x4,0x0,0x4,0x0,0x2,0x0,0x4,0x41a0c038,0x41a0c038,0x41a0c038,0x0,0x41a0c038,0x41a0c038,0x41a0c038,0x20000,0x20000,0x0,0x20000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x100,0x0,0x0,0x0,0x80000000,0x0,0x0,0x41a0c038,0x0,0x0,0x0,0x0,0x0,0x41a0c038,0x0,0x0,0x0,0x0,0x0,0x8000,0x1000018,0x40200000,0x0,0x10,0x0,0x0,0x0,0x0,0x0,0x8,0x0,0x4000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2000000,0x1,0x0,0x80000000,0x80000000,0x0,0x0,0x0,0x0,0x0,0x0,0x4,0x0,0x40000,0x0,0x0,0x41a0c038,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4,0x0,0x2000000,0x0,0x41a0c038,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2,0x41a0c038,0x41a0c038,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x41a0c038,0x0,0x0,0x0,0x41a0c038,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x41a0c038,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x41a0c038,0x0,0x0,0x0,0x0,0x0,0x0,0x41a0c038,0x0,0x0,0x0,0x0,0x0,0x0,0x1000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x41a0c038,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2,0x0,0x0,0x0,0x0,0x0,0x0,0x100c018,0x41a0c038,0x0,0x0,0x0,0x80,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x49a0c038,0x0,0x0,0x41a0c038,0x80080400,0x0,0x80080400,0x0,0x0,0x0,0x41a0c038,0x0,0x41a0c038,0x41a0c038,0x41a0c038,0x0,};
    }
    private static void jj_la1_init_6() {
-      jj_la1_6 = new int[] {0x0,0x10000000,0xe38a3e02,0xf38a3e02,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xa0,0x0,0x0,0x0,0x0,0x40000000,0x10800,0x4000,0x0,0xfb8a3e02,0x0,0x4,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80000000,0x80000000,0x80000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfb8a3e82,0xfb8a3e82,0x0,0xfb8a3e02,0x0,0x0,0x0,0x0,0xfb8a3e02,0x0,0x0,0x0,0x40000,0x0,0x0,0x0,0xf38a3e02,0xf38a3e02,0x0,0x0,0xf38a3e02,0x0,0x0,0x0,0x0,0x0,0xf38a3e02,0x0,0xf38a3e02,0x0,0x0,0x0,0x0,0x0,0x0,0x8000,0x8000,0x0,0x0,0x0,0x8,0x0,0x0,0x0,0xf38a3e02,0xf38a3e02,0xf38a3e02,0x0,0xf38a3e02,0xf38a3e02,0xf38a3e02,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40000000,0x0,0x0,0x0,0x0,0x0,0x0,0xf38a3e02,0x0,0x0,0x8000,0x0,0x0,0xf38a3e02,0x0,0x0,0x0,0x0,0x80000,0x0,0xa00041,0x10000000,0x0,0x0,0x0,0x0,0x0,0x1,0x0,0x0,0x1,0x0,0x80000,0x1,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x800000,0x0,0x0,0x2000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8,0x8,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfb8a3e02,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfb8a3e02,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20000000,0x0,0x0,0x0,0x0,0xf38a3e02,0xf38a3e02,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x100000,0xfb8a3e02,0x0,0x0,0x0,0xfb8a3e02,0x0,0x0,0x2,0x0,0x0,0x0,0x0,0xf38a3e02,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfb8a3e02,0x100,0x0,0x100,0x0,0x0,0x0,0xfb8a3e02,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfb8a3e02,0x0,0x400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xa82041,0xfb8a3e02,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4000000,0x0,0x0,0x0,0x0,0x0,0xf38a3e02,0x0,0x0,0xf38a3e02,0x10,0x0,0x10,0x0,0x0,0x0,0xf38a3e02,0x0,0xf38a3e02,0xf38a3e02,0xf38a3e02,0x0,};
+      jj_la1_6 = new int[] {0x0,0x10000000,0xe38a3e02,0xf38a3e02,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xa0,0x0,0x0,0x0,0x0,0x40000000,0x10800,0x4000,0x0,0xfb8a3e02,0x0,0x4,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80000000,0x80000000,0x80000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80,0x0,0x0,0x0,0x0,0xfb8a3e82,0xfb8a3e82,0x0,0xfb8a3e02,0x0,0x0,0x0,0x0,0xfb8a3e02,0x0,0x0,0x0,0x40000,0x0,0x0,0x0,0xf38a3e02,0xf38a3e02,0x0,0x0,0x0,0x0,0x0,0xf38a3e02,0x0,0x0,0x0,0x0,0x0,0xf38a3e02,0x0,0xf38a3e02,0x0,0x0,0x0,0x0,0x0,0x0,0x8000,0x8000,0x0,0x0,0x0,0x8,0x0,0x0,0x0,0xf38a3e02,0xf38a3e02,0xf38a3e02,0x0,0xf38a3e02,0xf38a3e02,0xf38a3e02,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40000000,0x0,0x0,0x0,0x0,0x0,0x0,0xf38a3e02,0x0,0x0,0x8000,0x0,0x0,0xf38a3e02,0x0,0x0,0x0,0x0,0x80000,0x0,0xa00041,0x10000000,0x0,0x0,0x0,0x0,0x0,0x1,0x0,0x0,0x1,0x0,0x80000,0x1,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x800000,0x0,0x0,0x2000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8,0x8,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfb8a3e02,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfb8a3e02,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20000000,0x0,0x0,0x0,0x0,0xf38a3e02,0xf38a3e02,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x100000,0xfb8a3e02,0x0,0x0,0x0,0xfb8a3e02,0x0,0x0,0x2,0x0,0x0,0x0,0x0,0xf38a3e02,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfb8a3e02,0x100,0x0,0x100,0x0,0x0,0x0,0xfb8a3e02,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfb8a3e02,0x0,0x400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xa82041,0xfb8a3e02,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4000000,0x0,0x0,0x0,0x0,0x0,0xf38a3e02,0x0,0x0,0xf38a3e02,0x10,0x0,0x10,0x0,0x0,0x0,0xf38a3e02,0x0,0xf38a3e02,0xf38a3e02,0xf38a3e02,0x0,};
    }
    private static void jj_la1_init_7() {
-      jj_la1_7 = new int[] {0x0,0x0,0x1f7a9b5f,0x1f7a9b5f,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40002000,0x0,0x0,0x80000080,0x0,0x1f7a9b5f,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1000000,0x1000000,0x1000000,0x0,0x0,0x0,0x0,0x0,0x0,0x20,0x0,0x0,0x0,0x1f7a9b5f,0x1f7a9b5f,0x0,0x1f7a9b5f,0x0,0x0,0x0,0x0,0x1f7a9b5f,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1f7a9b5f,0x1f7a9b5f,0x0,0x0,0x1f7a9b5f,0x0,0x0,0x0,0x0,0x0,0x1f7a9b5f,0x0,0x1f7a9b5f,0x0,0x0,0x0,0x0,0x0,0x0,0x1,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1f7a9b5f,0x1f7a9b5f,0x1f7a9b5f,0x0,0x1f7a9b5f,0x1f7a9b5f,0x1f7a9b5f,0x0,0x0,0x0,0x0,0x0,0x0,0x10000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1f7a9b5f,0x0,0x0,0x0,0x0,0x0,0x1f7a9b5f,0x0,0x0,0x0,0x0,0x2,0x0,0x27a9004,0x0,0x300000,0x80000,0x0,0x0,0x0,0x0,0x2,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1000,0x0,0x0,0x4,0x0,0x4,0x0,0x0,0x0,0x0,0x0,0x0,0x400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4000,0x4000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1f7a9f5f,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4000,0x4000,0x0,0x0,0x0,0x0,0x0,0x1f7a9f5f,0x0,0x0,0x0,0x0,0x0,0x4000,0x4000,0x200,0x4000,0x4000,0x0,0x1c000000,0x0,0x0,0x0,0x0,0x1f7a9b5f,0x1f7a9b5f,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1f7a9f5f,0x4000,0x4000,0x4000,0x1f7adf5f,0x4000,0x4000,0x0,0x4000,0x8,0x4000,0x4000,0x1f7a9b5f,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1f7a9f5f,0x800000,0x0,0x800000,0x0,0x0,0x0,0x1f7a9f5f,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x800000,0x800000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1f7a9b5f,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x27a9006,0x1f7a9b5f,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2000,0x0,0x20000000,0x20000000,0x1000000,0x20000000,0x20000000,0x1f7a9b5f,0x0,0x0,0x1f7a9b5f,0x0,0x0,0x0,0x0,0x0,0x0,0x1f7a9b5f,0x0,0x1f7a9b5f,0x1f7a9b5f,0x1f7a9b5f,0x0,};
+      jj_la1_7 = new int[] {0x0,0x0,0x1f7a9b5f,0x1f7a9b5f,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40002000,0x0,0x0,0x80000080,0x0,0x1f7a9b5f,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1000000,0x1000000,0x1000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20,0x0,0x0,0x0,0x1f7a9b5f,0x1f7a9b5f,0x0,0x1f7a9b5f,0x0,0x0,0x0,0x0,0x1f7a9b5f,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1f7a9b5f,0x1f7a9b5f,0x0,0x0,0x0,0x0,0x0,0x1f7a9b5f,0x0,0x0,0x0,0x0,0x0,0x1f7a9b5f,0x0,0x1f7a9b5f,0x0,0x0,0x0,0x0,0x0,0x0,0x1,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1f7a9b5f,0x1f7a9b5f,0x1f7a9b5f,0x0,0x1f7a9b5f,0x1f7a9b5f,0x1f7a9b5f,0x0,0x0,0x0,0x0,0x0,0x0,0x10000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1f7a9b5f,0x0,0x0,0x0,0x0,0x0,0x1f7a9b5f,0x0,0x0,0x0,0x0,0x2,0x0,0x27a9004,0x0,0x300000,0x80000,0x0,0x0,0x0,0x0,0x2,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1000,0x0,0x0,0x4,0x0,0x4,0x0,0x0,0x0,0x0,0x0,0x0,0x400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4000,0x4000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1f7a9f5f,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4000,0x4000,0x0,0x0,0x0,0x0,0x0,0x1f7a9f5f,0x0,0x0,0x0,0x0,0x0,0x4000,0x4000,0x200,0x4000,0x4000,0x0,0x1c000000,0x0,0x0,0x0,0x0,0x1f7a9b5f,0x1f7a9b5f,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1f7a9f5f,0x4000,0x4000,0x4000,0x1f7adf5f,0x4000,0x4000,0x0,0x4000,0x8,0x4000,0x4000,0x1f7a9b5f,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1f7a9f5f,0x800000,0x0,0x800000,0x0,0x0,0x0,0x1f7a9f5f,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x800000,0x800000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1f7a9b5f,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x27a9006,0x1f7a9b5f,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2000,0x0,0x20000000,0x20000000,0x1000000,0x20000000,0x20000000,0x1f7a9b5f,0x0,0x0,0x1f7a9b5f,0x0,0x0,0x0,0x0,0x0,0x0,0x1f7a9b5f,0x0,0x1f7a9b5f,0x1f7a9b5f,0x1f7a9b5f,0x0,};
    }
    private static void jj_la1_init_8() {
-      jj_la1_8 = new int[] {0x0,0x0,0x29dc3395,0x29dc3395,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x10,0x8020,0x0,0x29dd3395,0x0,0x0,0x0,0x0,0x4000,0x4000,0x4000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x29dd3395,0x29dd3395,0x0,0x29dd3395,0x0,0x0,0x0,0x0,0x29dd3395,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x29dc3395,0x29dc3395,0x0,0x0,0x29dc3395,0x0,0x0,0x0,0x4000000,0x0,0x2ddc3395,0x0,0x2ddc3395,0x0,0x0,0x0,0x0,0x400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x29dc3395,0x29dc3395,0x29dc3395,0x0,0x29dc3395,0x29dc3395,0x29dc3395,0x0,0x0,0x200000,0x200000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4000000,0x0,0x2ddc3395,0x0,0x0,0x0,0x0,0x0,0x29dc3395,0x0,0x0,0x0,0x0,0x1,0x0,0x21c01884,0x0,0x20000000,0x800000,0x0,0x0,0x1,0x0,0x1,0x1000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x400000,0x0,0x0,0x80,0x0,0x84,0x0,0x0,0x0,0x0,0x0,0x1000,0x0,0x0,0x0,0x1000,0x0,0x40,0x400,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x29dd3395,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x29dd3395,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8002000,0xc0000,0x0,0x0,0x0,0x0,0x29dc3395,0x29dc3395,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8,0x29dd3395,0x0,0x0,0x0,0x29dd3395,0x0,0x0,0x0,0x0,0x300,0x0,0x0,0x29dc3395,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x29dd3395,0x0,0x0,0x0,0x0,0x0,0x0,0x29dd3395,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x200000,0x200000,0x0,0x0,0x29dd3395,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x21c01885,0x29dd3395,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2,0x2,0x0,0x2,0x2,0x29dc3395,0x0,0x0,0x29dc3395,0x80000000,0x0,0x80000000,0x0,0x0,0x0,0x29dc3395,0x0,0x29dc3395,0x29dc3395,0x29dc3395,0x40020000,};
+      jj_la1_8 = new int[] {0x0,0x0,0x29dc3395,0x29dc3395,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x10,0x8020,0x0,0x29dd3395,0x0,0x0,0x0,0x0,0x4000,0x4000,0x4000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x29dd3395,0x29dd3395,0x0,0x29dd3395,0x0,0x0,0x0,0x0,0x29dd3395,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x29dc3395,0x29dc3395,0x0,0x0,0x0,0x0,0x0,0x29dc3395,0x0,0x0,0x0,0x4000000,0x0,0x2ddc3395,0x0,0x2ddc3395,0x0,0x0,0x0,0x0,0x400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x29dc3395,0x29dc3395,0x29dc3395,0x0,0x29dc3395,0x29dc3395,0x29dc3395,0x0,0x0,0x200000,0x200000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4000000,0x0,0x2ddc3395,0x0,0x0,0x0,0x0,0x0,0x29dc3395,0x0,0x0,0x0,0x0,0x1,0x0,0x21c01884,0x0,0x20000000,0x800000,0x0,0x0,0x1,0x0,0x1,0x1000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x400000,0x0,0x0,0x80,0x0,0x84,0x0,0x0,0x0,0x0,0x0,0x1000,0x0,0x0,0x0,0x1000,0x0,0x40,0x400,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x29dd3395,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x29dd3395,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8002000,0xc0000,0x0,0x0,0x0,0x0,0x29dc3395,0x29dc3395,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8,0x29dd3395,0x0,0x0,0x0,0x29dd3395,0x0,0x0,0x0,0x0,0x300,0x0,0x0,0x29dc3395,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x29dd3395,0x0,0x0,0x0,0x0,0x0,0x0,0x29dd3395,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x200000,0x200000,0x0,0x0,0x29dd3395,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x21c01885,0x29dd3395,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2,0x2,0x0,0x2,0x2,0x29dc3395,0x0,0x0,0x29dc3395,0x80000000,0x0,0x80000000,0x0,0x0,0x0,0x29dc3395,0x0,0x29dc3395,0x29dc3395,0x29dc3395,0x40020000,};
    }
    private static void jj_la1_init_9() {
-      jj_la1_9 = new int[] {0x0,0x0,0x3ffdef5b,0x3ffdef5b,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x3ffdef5b,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x3ffdef5b,0x3ffdef5b,0x0,0x3ffdef5b,0x0,0x0,0x0,0x0,0x3ffdef5b,0x0,0x80,0x0,0x0,0x0,0x0,0x0,0x3ffdef5b,0x3ffdff5b,0x20000,0x0,0x3ffdef5b,0x0,0x0,0x0,0x0,0x0,0x3ffdef5b,0x0,0x3ffdef5b,0x0,0x0,0x0,0x0,0x0,0x0,0x20,0x0,0x0,0x0,0x0,0x0,0x0,0x80,0x0,0x3ffdef5b,0x3ffdef5b,0x3ffdef5b,0x0,0x3ffdef5b,0x3ffdef5b,0x3ffdef5b,0x0,0x0,0x0,0x0,0x0,0x4,0x0,0x0,0x0,0x80,0x0,0x4,0x0,0x0,0x80,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x3ffdef5b,0x0,0x0,0x0,0x0,0x0,0x3ffdef5b,0x0,0x4,0x0,0x0,0x0,0x0,0x90110,0x0,0x10000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8,0x0,0x0,0x0,0x0,0x0,0x80000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x10,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x3ffdef5b,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x3ffdef5b,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x400003,0x0,0x0,0x0,0x0,0x3ffdef5b,0x3ffdef5b,0x0,0x0,0x8000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x3ffdef5b,0x0,0x0,0x0,0x3ffdef5b,0x0,0x0,0x840,0x0,0x140000,0x0,0x0,0x3ffdef5b,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x3ffdef5b,0x0,0x0,0x0,0x0,0x0,0x0,0x3ffdef5b,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x3ffdef5b,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x90118,0x3ffdef5b,0x0,0x1000,0x1000,0x0,0x1000,0x1000,0x1000,0x1000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x3ffdef5b,0x0,0x0,0x3ffdef5b,0x0,0x0,0x0,0x0,0x0,0x0,0x3ffdef5b,0x0,0x3ffdef5b,0x3ffdef5b,0x3ffdef5b,0x0,};
+      jj_la1_9 = new int[] {0x0,0x0,0x3ffdef5b,0x3ffdef5b,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x3ffdef5b,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x3ffdef5b,0x3ffdef5b,0x0,0x3ffdef5b,0x0,0x0,0x0,0x0,0x3ffdef5b,0x0,0x80,0x0,0x0,0x0,0x0,0x0,0x3ffdef5b,0x3ffdff5b,0x20000,0x0,0x0,0x0,0x0,0x3ffdef5b,0x0,0x0,0x0,0x0,0x0,0x3ffdef5b,0x0,0x3ffdef5b,0x0,0x0,0x0,0x0,0x0,0x0,0x20,0x0,0x0,0x0,0x0,0x0,0x0,0x80,0x0,0x3ffdef5b,0x3ffdef5b,0x3ffdef5b,0x0,0x3ffdef5b,0x3ffdef5b,0x3ffdef5b,0x0,0x0,0x0,0x0,0x0,0x4,0x0,0x0,0x0,0x80,0x0,0x4,0x0,0x0,0x80,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x3ffdef5b,0x0,0x0,0x0,0x0,0x0,0x3ffdef5b,0x0,0x4,0x0,0x0,0x0,0x0,0x90110,0x0,0x10000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8,0x0,0x0,0x0,0x0,0x0,0x80000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x10,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x3ffdef5b,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x3ffdef5b,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x400003,0x0,0x0,0x0,0x0,0x3ffdef5b,0x3ffdef5b,0x0,0x0,0x8000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x3ffdef5b,0x0,0x0,0x0,0x3ffdef5b,0x0,0x0,0x840,0x0,0x140000,0x0,0x0,0x3ffdef5b,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x3ffdef5b,0x0,0x0,0x0,0x0,0x0,0x0,0x3ffdef5b,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x3ffdef5b,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x90118,0x3ffdef5b,0x0,0x1000,0x1000,0x0,0x1000,0x1000,0x1000,0x1000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x3ffdef5b,0x0,0x0,0x3ffdef5b,0x0,0x0,0x0,0x0,0x0,0x0,0x3ffdef5b,0x0,0x3ffdef5b,0x3ffdef5b,0x3ffdef5b,0x0,};
    }
    private static void jj_la1_init_10() {
-      jj_la1_10 = new int[] {0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1,0xc000000,0x0,0x0,0x2d00,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xc0000000,0x0,0x0,0xc0000000,0x0,0x0,0x0,0x0,0x0,0x200,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2000000,0x0,0x0,0x0,0x0,0x0,0x700000,0x0,0x0,0x0,0x0,0x0,0x0,0x6,0x6,0x0,0x2,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x98,0x0,0x60,0x0,0x0,0x0,0x98,0x60,0x0,0x0,0x0,0x60,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x6,0x6,0x0,0x0,0x0,0x2,0x0,0x0,0x0,0x98,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xc000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,};
+      jj_la1_10 = new int[] {0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1,0xc000000,0x0,0x0,0x2d00,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xc0000000,0x0,0x0,0xc0000000,0x0,0x0,0x0,0x0,0x0,0x200,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2000000,0x0,0x0,0x0,0x0,0x0,0x700000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x6,0x6,0x0,0x2,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x98,0x0,0x60,0x0,0x0,0x0,0x98,0x60,0x0,0x0,0x0,0x60,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x6,0x6,0x0,0x0,0x0,0x2,0x0,0x0,0x0,0x98,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xc000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,};
    }
    private static void jj_la1_init_11() {
-      jj_la1_11 = new int[] {0x8000000,0x0,0x780,0x8000780,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x10,0x0,0x0,0x8000780,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8000780,0x8000780,0x0,0x8000780,0x0,0x0,0x0,0x0,0x8000780,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xc8000780,0x8000780,0x0,0x0,0x8000780,0x0,0x0,0x0,0x0,0x0,0x8000780,0x0,0x8000780,0x0,0x0,0x0,0x0,0xc0000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8000780,0x8000780,0x8000780,0x0,0x8000780,0x8000780,0x8000780,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1,0x0,0x0,0x0,0x0,0x1,0x0,0x6,0x0,0x0,0x0,0x0,0x0,0x0,0x10000000,0x0,0x0,0x8000780,0x0,0x0,0x0,0x0,0x0,0x8000780,0x0,0x0,0x0,0x0,0x0,0x200,0x400,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x180,0x0,0x0,0x180,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x200,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8,0x0,0x0,0x0,0xc8000780,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xc0000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xc8000780,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8000780,0x8000780,0x0,0x7fff800,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xc8000780,0x0,0x0,0x0,0xc8000780,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8000780,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xc8000780,0x20,0x0,0x20,0x0,0x0,0x0,0xc8000780,0x0,0x0,0x0,0x0,0x0,0x20,0x0,0x0,0x20,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8000780,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40000000,0x0,0x0,0x0,0x0,0x600,0x8000780,0x40000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8000780,0x0,0x0,0x8000780,0x0,0x0,0x0,0x0,0x0,0x0,0x8000780,0x0,0x8000780,0x8000780,0x8000780,0x0,};
+      jj_la1_11 = new int[] {0x8000000,0x0,0x780,0x8000780,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x10,0x0,0x0,0x8000780,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8000780,0x8000780,0x0,0x8000780,0x0,0x0,0x0,0x0,0x8000780,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xc8000780,0x8000780,0x0,0x0,0x0,0x0,0x0,0x8000780,0x0,0x0,0x0,0x0,0x0,0x8000780,0x0,0x8000780,0x0,0x0,0x0,0x0,0xc0000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8000780,0x8000780,0x8000780,0x0,0x8000780,0x8000780,0x8000780,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1,0x0,0x0,0x0,0x0,0x1,0x0,0x6,0x0,0x0,0x0,0x0,0x0,0x0,0x10000000,0x0,0x0,0x8000780,0x0,0x0,0x0,0x0,0x0,0x8000780,0x0,0x0,0x0,0x0,0x0,0x200,0x400,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x180,0x0,0x0,0x180,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x200,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8,0x0,0x0,0x0,0xc8000780,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xc0000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xc8000780,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8000780,0x8000780,0x0,0x7fff800,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xc8000780,0x0,0x0,0x0,0xc8000780,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8000780,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xc8000780,0x20,0x0,0x20,0x0,0x0,0x0,0xc8000780,0x0,0x0,0x0,0x0,0x0,0x20,0x0,0x0,0x20,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8000780,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40000000,0x0,0x0,0x0,0x0,0x600,0x8000780,0x40000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8000780,0x0,0x0,0x8000780,0x0,0x0,0x0,0x0,0x0,0x0,0x8000780,0x0,0x8000780,0x8000780,0x8000780,0x0,};
    }
    private static void jj_la1_init_12() {
-      jj_la1_12 = new int[] {0x0,0x0,0x0,0x30000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x30000,0x2,0x2,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40000,0x0,0x40000,0x0,0x40000,0x0,0x40000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40000,0x0,0x0,0x0,0x0,0x0,0x30000,0x30000,0x0,0x30000,0x40000,0x0,0x0,0x0,0x30000,0x0,0x0,0x40000,0x0,0x0,0x0,0x0,0x30002,0x30000,0x0,0x30000,0x30000,0x0,0x0,0x0,0x0,0x0,0x30000,0x0,0x30000,0x0,0x0,0x0,0x0,0x2,0x0,0x0,0x0,0x0,0x40000,0x0,0x0,0x0,0x0,0x0,0x30000,0x30000,0x30000,0x40000,0x30000,0x30000,0x30000,0x0,0x0,0x0,0x0,0x40000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40000,0x0,0x0,0x40000,0x0,0x0,0x0,0x0,0x30000,0x0,0x0,0x0,0x0,0x0,0x30000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40000,0x40000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40000,0x0,0x36fff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1,0x2,0x6f70,0x0,0x100000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40000,0x36fff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40000,0x30002,0x30002,0x40000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x36fff,0x0,0x0,0x0,0x36fff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x30000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x36fff,0x0,0x0,0x0,0x0,0x0,0x0,0x36fff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x30000,0x40000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40000,0x0,0x0,0x0,0x0,0x0,0x0,0x30000,0x1,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x30000,0x40000,0x40000,0x30000,0x0,0x40000,0x0,0x0,0x0,0x0,0x30000,0x0,0x30000,0x30000,0x30000,0x0,};
+      jj_la1_12 = new int[] {0x0,0x0,0x0,0x30000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x30000,0x2,0x2,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40000,0x0,0x40000,0x0,0x40000,0x0,0x40000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40000,0x0,0x0,0x0,0x0,0x0,0x0,0x30000,0x30000,0x0,0x30000,0x40000,0x0,0x0,0x0,0x30000,0x0,0x0,0x40000,0x0,0x0,0x0,0x0,0x30002,0x30000,0x0,0x30000,0x0,0x40000,0x0,0x30000,0x0,0x0,0x0,0x0,0x0,0x30000,0x0,0x30000,0x0,0x0,0x0,0x0,0x2,0x0,0x0,0x0,0x0,0x40000,0x0,0x0,0x0,0x0,0x0,0x30000,0x30000,0x30000,0x40000,0x30000,0x30000,0x30000,0x0,0x0,0x0,0x0,0x40000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40000,0x0,0x0,0x40000,0x0,0x0,0x0,0x0,0x30000,0x0,0x0,0x0,0x0,0x0,0x30000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40000,0x40000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40000,0x0,0x36fff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1,0x2,0x6f70,0x0,0x100000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40000,0x36fff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40000,0x30002,0x30002,0x40000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x36fff,0x0,0x0,0x0,0x36fff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x30000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x36fff,0x0,0x0,0x0,0x0,0x0,0x0,0x36fff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x30000,0x40000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40000,0x0,0x0,0x0,0x0,0x0,0x0,0x30000,0x1,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x30000,0x40000,0x40000,0x30000,0x0,0x40000,0x0,0x0,0x0,0x0,0x30000,0x0,0x30000,0x30000,0x30000,0x0,};
    }
   final private JJCalls[] jj_2_rtns = new JJCalls[115];
   private boolean jj_rescan = false;
@@ -26160,7 +26404,7 @@ A list of Identifiers seprated by commas
     token = new Token();
     token.next = jj_nt = token_source.getNextToken();
     jj_gen = 0;
-    for (int i = 0; i < 412; i++) jj_la1[i] = -1;
+    for (int i = 0; i < 420; i++) jj_la1[i] = -1;
     for (int i = 0; i < jj_2_rtns.length; i++) jj_2_rtns[i] = new JJCalls();
   }
 
@@ -26175,7 +26419,7 @@ A list of Identifiers seprated by commas
     token = new Token();
     token.next = jj_nt = token_source.getNextToken();
     jj_gen = 0;
-    for (int i = 0; i < 412; i++) jj_la1[i] = -1;
+    for (int i = 0; i < 420; i++) jj_la1[i] = -1;
     for (int i = 0; i < jj_2_rtns.length; i++) jj_2_rtns[i] = new JJCalls();
   }
 
@@ -26186,7 +26430,7 @@ A list of Identifiers seprated by commas
     token = new Token();
     token.next = jj_nt = token_source.getNextToken();
     jj_gen = 0;
-    for (int i = 0; i < 412; i++) jj_la1[i] = -1;
+    for (int i = 0; i < 420; i++) jj_la1[i] = -1;
     for (int i = 0; i < jj_2_rtns.length; i++) jj_2_rtns[i] = new JJCalls();
   }
 
@@ -26197,7 +26441,7 @@ A list of Identifiers seprated by commas
     token = new Token();
     token.next = jj_nt = token_source.getNextToken();
     jj_gen = 0;
-    for (int i = 0; i < 412; i++) jj_la1[i] = -1;
+    for (int i = 0; i < 420; i++) jj_la1[i] = -1;
     for (int i = 0; i < jj_2_rtns.length; i++) jj_2_rtns[i] = new JJCalls();
   }
 
@@ -26207,7 +26451,7 @@ A list of Identifiers seprated by commas
     token = new Token();
     token.next = jj_nt = token_source.getNextToken();
     jj_gen = 0;
-    for (int i = 0; i < 412; i++) jj_la1[i] = -1;
+    for (int i = 0; i < 420; i++) jj_la1[i] = -1;
     for (int i = 0; i < jj_2_rtns.length; i++) jj_2_rtns[i] = new JJCalls();
   }
 
@@ -26217,7 +26461,7 @@ A list of Identifiers seprated by commas
     token = new Token();
     token.next = jj_nt = token_source.getNextToken();
     jj_gen = 0;
-    for (int i = 0; i < 412; i++) jj_la1[i] = -1;
+    for (int i = 0; i < 420; i++) jj_la1[i] = -1;
     for (int i = 0; i < jj_2_rtns.length; i++) jj_2_rtns[i] = new JJCalls();
   }
 
@@ -26326,7 +26570,7 @@ A list of Identifiers seprated by commas
       la1tokens[jj_kind] = true;
       jj_kind = -1;
     }
-    for (int i = 0; i < 412; i++) {
+    for (int i = 0; i < 420; i++) {
       if (jj_la1[i] == jj_gen) {
         for (int j = 0; j < 32; j++) {
           if ((jj_la1_0[i] & (1<<j)) != 0) {
@@ -9,20 +9,24 @@ public class Explain implements INode {
 
   public NodeOptional f1;
 
-  public NodeChoice f2;
+  public NodeOptional f2;
+
+  public NodeChoice f3;
 
   private static final long serialVersionUID = 144L;
 
-  public Explain(final NodeToken n0, final NodeOptional n1, final NodeChoice n2) {
+  public Explain(final NodeToken n0, final NodeOptional n1, final NodeOptional n2, final NodeChoice n3) {
     f0 = n0;
     f1 = n1;
     f2 = n2;
+    f3 = n3;
   }
 
-  public Explain(final NodeOptional n0, final NodeChoice n1) {
+  public Explain(final NodeOptional n0, final NodeOptional n1, final NodeChoice n2) {
     f0 = new NodeToken("EXPLAIN");
     f1 = n0;
     f2 = n1;
+    f3 = n2;
   }
 
   public <R, A> R accept(final IRetArguVisitor<R, A> vis, final A argu) {
@@ -237,6 +237,7 @@ public class DepthFirstRetArguVisitor<R, A> implements IRetArguVisitor<R, A> {
     n.f0.accept(this, argu);
     n.f1.accept(this, argu);
     n.f2.accept(this, argu);
+    n.f3.accept(this, argu);
     return nRes;
   }
 
@@ -376,6 +377,40 @@ public class DepthFirstRetArguVisitor<R, A> implements IRetArguVisitor<R, A> {
     return nRes;
   }
 
+  public R visit(final ShowDistribution n, final A argu) {
+    R nRes = null;
+    n.f0.accept(this, argu);
+    n.f1.accept(this, argu);
+    n.f2.accept(this, argu);
+    n.f3.accept(this, argu);
+    return nRes;
+  }
+
+  public R visit(final ShowLockWaits n, final A argu) {
+    R nRes = null;
+    n.f0.accept(this, argu);
+    n.f1.accept(this, argu);
+    n.f2.accept(this, argu);
+    return nRes;
+  }
+
+  public R visit(final ShowQueueWaits n, final A argu) {
+    R nRes = null;
+    n.f0.accept(this, argu);
+    n.f1.accept(this, argu);
+    n.f2.accept(this, argu);
+    return nRes;
+  }
+
+  public R visit(final RebalanceTable n, final A argu) {
+    R nRes = null;
+    n.f0.accept(this, argu);
+    n.f1.accept(this, argu);
+    n.f2.accept(this, argu);
+    n.f3.accept(this, argu);
+    return nRes;
+  }
+
   public R visit(final OwnerDef n, final A argu) {
     R nRes = null;
     n.f0.accept(this, argu);
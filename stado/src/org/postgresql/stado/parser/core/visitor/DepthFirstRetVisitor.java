@@ -237,6 +237,7 @@ public class DepthFirstRetVisitor<R> implements IRetVisitor<R> {
     n.f0.accept(this);
     n.f1.accept(this);
     n.f2.accept(this);
+    n.f3.accept(this);
     return nRes;
   }
 
@@ -376,6 +377,40 @@ public class DepthFirstRetVisitor<R> implements IRetVisitor<R> {
     return nRes;
   }
 
+  public R visit(final ShowDistribution n) {
+    R nRes = null;
+    n.f0.accept(this);
+    n.f1.accept(this);
+    n.f2.accept(this);
+    n.f3.accept(this);
+    return nRes;
+  }
+
+  public R visit(final ShowLockWaits n) {
+    R nRes = null;
+    n.f0.accept(this);
+    n.f1.accept(this);
+    n.f2.accept(this);
+    return nRes;
+  }
+
+  public R visit(final ShowQueueWaits n) {
+    R nRes = null;
+    n.f0.accept(this);
+    n.f1.accept(this);
+    n.f2.accept(this);
+    return nRes;
+  }
+
+  public R visit(final RebalanceTable n) {
+    R nRes = null;
+    n.f0.accept(this);
+    n.f1.accept(this);
+    n.f2.accept(this);
+    n.f3.accept(this);
+    return nRes;
+  }
+
   public R visit(final OwnerDef n) {
     R nRes = null;
     n.f0.accept(this);
@@ -185,6 +185,7 @@ public class DepthFirstVoidArguVisitor<A> implements IVoidArguVisitor<A> {
     n.f0.accept(this, argu);
     n.f1.accept(this, argu);
     n.f2.accept(this, argu);
+    n.f3.accept(this, argu);
   }
 
   public void visit(final VacuumDatabase n, final A argu) {
@@ -289,6 +290,32 @@ public class DepthFirstVoidArguVisitor<A> implements IVoidArguVisitor<A> {
     n.f1.accept(this, argu);
   }
 
+  public void visit(final ShowDistribution n, final A argu) {
+    n.f0.accept(this, argu);
+    n.f1.accept(this, argu);
+    n.f2.accept(this, argu);
+    n.f3.accept(this, argu);
+  }
+
+  public void visit(final ShowLockWaits n, final A argu) {
+    n.f0.accept(this, argu);
+    n.f1.accept(this, argu);
+    n.f2.accept(this, argu);
+  }
+
+  public void visit(final ShowQueueWaits n, final A argu) {
+    n.f0.accept(this, argu);
+    n.f1.accept(this, argu);
+    n.f2.accept(this, argu);
+  }
+
+  public void visit(final RebalanceTable n, final A argu) {
+    n.f0.accept(this, argu);
+    n.f1.accept(this, argu);
+    n.f2.accept(this, argu);
+    n.f3.accept(this, argu);
+  }
+
   public void visit(final OwnerDef n, final A argu) {
     n.f0.accept(this, argu);
     n.f1.accept(this, argu);
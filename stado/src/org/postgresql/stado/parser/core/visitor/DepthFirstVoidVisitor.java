@@ -185,6 +185,7 @@ public class DepthFirstVoidVisitor implements IVoidVisitor {
     n.f0.accept(this);
     n.f1.accept(this);
     n.f2.accept(this);
+    n.f3.accept(this);
   }
 
   public void visit(final VacuumDatabase n) {
@@ -289,6 +290,32 @@ public class DepthFirstVoidVisitor implements IVoidVisitor {
     n.f1.accept(this);
   }
 
+  public void visit(final ShowDistribution n) {
+    n.f0.accept(this);
+    n.f1.accept(this);
+    n.f2.accept(this);
+    n.f3.accept(this);
+  }
+
+  public void visit(final ShowLockWaits n) {
+    n.f0.accept(this);
+    n.f1.accept(this);
+    n.f2.accept(this);
+  }
+
+  public void visit(final ShowQueueWaits n) {
+    n.f0.accept(this);
+    n.f1.accept(this);
+    n.f2.accept(this);
+  }
+
+  public void visit(final RebalanceTable n) {
+    n.f0.accept(this);
+    n.f1.accept(this);
+    n.f2.accept(this);
+    n.f3.accept(this);
+  }
+
   public void visit(final OwnerDef n) {
     n.f0.accept(this);
     n.f1.accept(this);
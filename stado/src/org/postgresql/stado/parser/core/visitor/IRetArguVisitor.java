@@ -95,6 +95,14 @@ public interface IRetArguVisitor<R, A> {
 
   public R visit(final ShowProperty n, final A argu);
 
+  public R visit(final ShowDistribution n, final A argu);
+
+  public R visit(final ShowLockWaits n, final A argu);
+
+  public R visit(final ShowQueueWaits n, final A argu);
+
+  public R visit(final RebalanceTable n, final A argu);
+
   public R visit(final OwnerDef n, final A argu);
 
   public R visit(final Constraint n, final A argu);
@@ -95,6 +95,14 @@ public interface IRetVisitor<R> {
 
   public R visit(final ShowProperty n);
 
+  public R visit(final ShowDistribution n);
+
+  public R visit(final ShowLockWaits n);
+
+  public R visit(final ShowQueueWaits n);
+
+  public R visit(final RebalanceTable n);
+
   public R visit(final OwnerDef n);
 
   public R visit(final Constraint n);
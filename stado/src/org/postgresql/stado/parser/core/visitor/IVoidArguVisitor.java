@@ -96,6 +96,14 @@ public interface IVoidArguVisitor<A> {
 
   public void visit(final ShowProperty n, final A argu);
 
+  public void visit(final ShowDistribution n, final A argu);
+
+  public void visit(final ShowLockWaits n, final A argu);
+
+  public void visit(final ShowQueueWaits n, final A argu);
+
+  public void visit(final RebalanceTable n, final A argu);
+
   public void visit(final OwnerDef n, final A argu);
 
   public void visit(final Constraint n, final A argu);
@@ -95,6 +95,14 @@ public interface IVoidVisitor {
 
   public void visit(final ShowProperty n);
 
+  public void visit(final ShowDistribution n);
+
+  public void visit(final ShowLockWaits n);
+
+  public void visit(final ShowQueueWaits n);
+
+  public void visit(final RebalanceTable n);
+
   public void visit(final OwnerDef n);
 
   public void visit(final Constraint n);
@@ -577,7 +577,15 @@ public class FunctionHandler extends DepthFirstVoidArguVisitor {
     public void visit(Func_Custom n, Object argu) {
         IdentifierHandler ih = new IdentifierHandler();
         n.f0.accept(ih, argu);
-        setFunctionInfo(IFunctionID.CUSTOM_ID, ih.getIdentifier());
+        if ("approx_count_distinct".equalsIgnoreCase(ih.getIdentifier())) {
+            setFunctionInfo(IFunctionID.APPROX_COUNT_DISTINCT_ID,
+                    ih.getIdentifier());
+        } else if ("approx_percentile".equalsIgnoreCase(ih.getIdentifier())) {
+            setFunctionInfo(IFunctionID.APPROX_PERCENTILE_ID,
+                    ih.getIdentifier());
+        } else {
+            setFunctionInfo(IFunctionID.CUSTOM_ID, ih.getIdentifier());
+        }
         n.f2.accept(this, argu);
     }
 
@@ -123,4 +123,8 @@ public interface IFunctionID {
     public static int ST_EXTENT3D_ID = 202;
 
     public static int ST_COLLECT_AGG_ID = 203;
+
+    public static int APPROX_COUNT_DISTINCT_ID = 204;
+
+    public static int APPROX_PERCENTILE_ID = 205;
 }
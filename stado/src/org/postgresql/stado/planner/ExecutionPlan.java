@@ -35,12 +35,14 @@ import java.util.List;
 import java.util.Map;
 
 import org.postgresql.stado.common.util.Property;
+import org.postgresql.stado.common.util.Props;
 import org.postgresql.stado.engine.XDBSessionContext;
 import org.postgresql.stado.exception.XDBServerException;
 import org.postgresql.stado.metadata.DBNode;
 import org.postgresql.stado.metadata.SysColumn;
 import org.postgresql.stado.metadata.SysTable;
 import org.postgresql.stado.parser.ExpressionType;
+import org.postgresql.stado.queryproc.CoordinatorAggregator;
 
 
 
@@ -273,11 +275,55 @@ public class ExecutionPlan {
                     coordTempTableDropList = anExecutionStep.coordStepDetail.dropList;
                     modifyFinalSelectOnCoordinator(anExecutionStep, aQueryPlan,
                             TRANSFORM_PROJECTIONS);
+
+                    if (Props.XDB_COORDINATOR_AGGREGATE && !isFinalUnionPart
+                            && aQueryPlan.getIntoTable() == null
+                            && currentLeaf.isCombinerStep()
+                            && currentLeaf.groupByColumns.isEmpty()) {
+                        setCoordinatorAggregator(anExecutionStep, previousLeaf);
+                    }
                 }
             }
         }
     }
 
+    /**
+     * Lets the final ungrouped aggregation on the coordinator combine the
+     * partial aggregates in memory. The previous step then returns its
+     * results instead of sending them to the coordinator temp table.
+     *
+     * @param finalStep
+     * @param previousLeaf
+     */
+    private void setCoordinatorAggregator(ExecutionStep finalStep,
+            Leaf previousLeaf) {
+        if (previousLeaf == null || correlatedDepth > 0 || stepList.size() < 2
+                || finalStep.correlatedSubPlan != null
+                || finalStep.outerSubPlan != null) {
+            return;
+        }
+        ExecutionStep previousStep = stepList.get(stepList.size() - 2);
+        StepDetail previousDetail = previousStep.aStepDetail;
+        if (!previousDetail.isProducer
+                || previousDetail.getDestType() != StepDetail.DEST_TYPE_COORD
+                || previousDetail.combineOnCoordFirst
+                || previousStep.correlatedSendDownStep != null
+                || previousStep.coordStepDetail != null
+                && previousStep.coordStepDetail.isProducer) {
+            return;
+        }
+        CoordinatorAggregator aggregator = CoordinatorAggregator.createAggregator(
+                finalStep.coordStepDetail.queryString,
+                previousDetail.targetTable, previousLeaf.selectColumns,
+                previousDetail.dropList);
+        if (aggregator != null) {
+            previousDetail.setDestTypeCoordinatorFinal();
+            previousStep.coordStepDetail = null;
+            finalStep.coordStepDetail.dropList.remove(previousDetail.targetTable);
+            finalStep.coordAggregator = aggregator;
+        }
+    }
+
     /**
      * Changes projections for final step when no group by is present.
      *
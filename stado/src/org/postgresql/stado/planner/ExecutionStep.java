@@ -31,6 +31,7 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 
+import org.postgresql.stado.common.util.Props;
 import org.postgresql.stado.common.util.XLogger;
 import org.postgresql.stado.engine.XDBSessionContext;
 import org.postgresql.stado.metadata.DBNode;
@@ -41,6 +42,8 @@ import org.postgresql.stado.metadata.partitions.HashPartitionMap;
 import org.postgresql.stado.metadata.partitions.PartitionMap;
 import org.postgresql.stado.optimizer.SqlExpression;
 import org.postgresql.stado.parser.ExpressionType;
+import org.postgresql.stado.queryproc.CoordinatorAggregator;
+import org.postgresql.stado.queryproc.SemiJoinFilter;
 
 
 /**
@@ -124,6 +127,14 @@ public class ExecutionStep {
      back to original outer rows. */
     public ExecutionPlan outerSubPlan;
 
+    /** if non null, the final step reads the partial aggregates of the
+     previous step from memory instead of a coordinator temp table */
+    public CoordinatorAggregator coordAggregator = null;
+
+    /** if non null, rows this step hashes to the nodes of the next joined
+     table are filtered on its join key first */
+    public SemiJoinFilter semiJoinFilter = null;
+
     /** The plan that this step belongs to. */
     private ExecutionPlan parentPlan;
 
@@ -400,11 +411,53 @@ public class ExecutionStep {
                 // don't do any XNODEID substitutions
                 // this.aStepDetail.setIsOuterStep(true);
             }
+
+            if (Props.XDB_SEMIJOIN_FILTER) {
+                prepareSemiJoinFilter(currentLeaf, nextLeaf);
+            }
         } finally {
             logger.exiting(method);
         }
     }
 
+    /**
+     * Filter the rows hashed to the nodes of the table joined in the next
+     * step on its partitioning column, if the planner estimates that enough
+     * of them will not find a match there.
+     *
+     * @param currentLeaf
+     * @param nextLeaf
+     */
+    private void prepareSemiJoinFilter(Leaf currentLeaf, Leaf nextLeaf) {
+        // Rows without a match must not be needed by anything else
+        if (nextLeaf == null || nextLeaf.getHashColumn() == null
+                || nextLeaf.isHashJoinOuter() || nextLeaf.subplan != null
+                || nextLeaf.outerSubplan != null || currentLeaf.subplan != null
+                || currentLeaf.outerSubplan != null
+                || correlatedSendDownStep != null || isExtraStep
+                || !aStepDetail.isProducer || aStepDetail.combineOnCoordFirst
+                || coordStepDetail != null && coordStepDetail.isProducer
+                || aStepDetail.getDestType() != StepDetail.DEST_TYPE_HASH
+                || aStepDetail.getHashColumnPosition() <= 0) {
+            return;
+        }
+        Leaf.Projection probeColumn = currentLeaf.selectColumns.get(
+                aStepDetail.getHashColumnPosition() - 1);
+        String probeColumnName = probeColumn.getCreateColumnName();
+        if (probeColumnName == null || probeColumnName.length() == 0
+                || !nextLeaf.getHashColumn().equals(
+                        Leaf.normalizeHashColumnName(probeColumn.projectString))) {
+            return;
+        }
+        SysTable keyTable = SysTable.getPartitionTable(
+                nextLeaf.getHashTableName(), client.getSysDatabase());
+        semiJoinFilter = SemiJoinFilter.createFilter(keyTable,
+                probeColumnName, probeColumn.getExprType(),
+                nextLeaf.getHashJoinInputRows(),
+                nextLeaf.getHashJoinOutputRows());
+        currentLeaf.setSemiJoinFilter(semiJoinFilter);
+    }
+
     /**
      * Change the step so that it uses the nodes instead of the coordinator
      */
@@ -973,6 +1026,12 @@ public class ExecutionStep {
             sbStep.append(" end correlatedSendDownStep\n\n");
         }
 
+        if (semiJoinFilter != null) {
+            sbStep.append(" semiJoinFilter = ");
+            sbStep.append(semiJoinFilter);
+            sbStep.append('\n');
+        }
+
         if (correlatedSendDownStep2 != null) {
             sbStep.append("\n correlatedSendDownStep2\n");
             sbStep.append(" ------------------------\n");
@@ -46,6 +46,7 @@ import org.postgresql.stado.optimizer.QueryCondition;
 import org.postgresql.stado.optimizer.SqlExpression;
 import org.postgresql.stado.parser.ExpressionType;
 import org.postgresql.stado.parser.handler.IdentifierHandler;
+import org.postgresql.stado.queryproc.SemiJoinFilter;
 
  
 /* This could be cleaned up more, such as using getter()/setters() */
@@ -210,6 +211,18 @@ public class Leaf {
     /** which column to hash on for sending results */
     private String hashColumn = null;
 
+    /** estimated rows of the previous step, joined on the hash column */
+    private long hashJoinInputRows = 0;
+
+    /** estimated rows of the join on the hash column */
+    private long hashJoinOutputRows = 0;
+
+    /** whether the join on the hash column is an outer join */
+    private boolean hashJoinOuter = false;
+
+    /** filter reducing the rows this step hashes to the next one */
+    private SemiJoinFilter semiJoinFilter = null;
+
     /** Indicates that we are dealing with a single step query only involving
      * lookups. We can pick one single node to execute it on.
      */
@@ -286,6 +299,9 @@ public class Leaf {
 
         /** whether or not to force quoting on a group*/
         public boolean forceGroupQuote = false;
+
+        /** data type of the created column */
+        private ExpressionType exprType;
         
         /**
          *
@@ -316,6 +332,14 @@ public class Leaf {
             return createString;
         }
 
+        /**
+         *
+         * @return the data type of the created column
+         */
+        public ExpressionType getExprType() {
+            return exprType;
+        }
+
     }
 
     /************************************************************************/
@@ -485,6 +509,7 @@ public class Leaf {
 
         // Add column to the selection list
         aColumn.createString = columnName; // Also note createColumnName
+        aColumn.exprType = exprType;
         selectColumns.add(aColumn);
         selectColumnMap.put(aColumn.projectString, aColumn);            
 
@@ -1569,6 +1594,31 @@ public class Leaf {
         this.hashColumn = normalizeHashColumnName(hashColumnName);      
     }
 
+    /**
+     * Assigns estimates of the join on the hash column
+     *
+     * @param inputRows rows of the previous step
+     * @param outputRows rows of the join
+     * @param isOuter whether it is an outer join
+     */
+    public void setHashJoinInfo (long inputRows, long outputRows,
+            boolean isOuter) {
+        this.hashJoinInputRows = inputRows;
+        this.hashJoinOutputRows = outputRows;
+        this.hashJoinOuter = isOuter;
+    }
+
+    /**
+     * Checks if the leaf just scans results of the previous step, without
+     * joining them with other relations or grouping.
+     *
+     * @return true if the leaf is a pure scan of the join table
+     */
+    public boolean isScanOnly() {
+        return joinTableName != null && joinTableName.length() > 0
+                && fromRelationList.isEmpty() && groupByColumns.isEmpty();
+    }
+
     /**
      * Checks if the table is contained in the leaf
      *
@@ -1852,6 +1902,46 @@ public class Leaf {
         return hashColumn;
     }
 
+    /**
+     *
+     * @return
+     */
+    public long getHashJoinInputRows() {
+        return hashJoinInputRows;
+    }
+
+    /**
+     *
+     * @return
+     */
+    public long getHashJoinOutputRows() {
+        return hashJoinOutputRows;
+    }
+
+    /**
+     *
+     * @return
+     */
+    public boolean isHashJoinOuter() {
+        return hashJoinOuter;
+    }
+
+    /**
+     *
+     * @return
+     */
+    public SemiJoinFilter getSemiJoinFilter() {
+        return semiJoinFilter;
+    }
+
+    /**
+     *
+     * @param semiJoinFilter
+     */
+    public void setSemiJoinFilter(SemiJoinFilter semiJoinFilter) {
+        this.semiJoinFilter = semiJoinFilter;
+    }
+
     /**
      *
      * @return
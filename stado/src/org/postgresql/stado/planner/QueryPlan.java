@@ -53,8 +53,10 @@ import org.postgresql.stado.metadata.SysTable;
 import org.postgresql.stado.misc.SortedVector;
 import org.postgresql.stado.misc.combinedresultset.SortCriteria;
 import org.postgresql.stado.optimizer.AttributeColumn;
+import org.postgresql.stado.optimizer.DistinctCountSketch;
 import org.postgresql.stado.optimizer.FromRelation;
 import org.postgresql.stado.optimizer.OrderByElement;
+import org.postgresql.stado.optimizer.PercentileSketch;
 import org.postgresql.stado.optimizer.QueryCondition;
 import org.postgresql.stado.optimizer.QueryNode;
 import org.postgresql.stado.optimizer.QueryTree;
@@ -413,6 +415,9 @@ public class QueryPlan
             	sbPlan.append(" Target: " + aLeaf.getTempTargetCreateStmt() + "\n");
             }
             sbPlan.append(" Select: " + aLeaf.getSelect() + "\n");
+            if (aLeaf.getSemiJoinFilter() != null) {
+                sbPlan.append(" Semi-join filter: " + aLeaf.getSemiJoinFilter() + "\n");
+            }
 
             for (int j = 0; j < aLeaf.tempTableDropList.size(); j++) {
                 if (j == 0) {
@@ -3007,6 +3012,10 @@ public class QueryPlan
                                     aLeaf.setHashInfo(
                                             anAC.getTableName(),
                                             aQueryCondition.getExpr().getRightExpr().getExprString());
+                                    aLeaf.setHashJoinInfo(
+                                            aQueryNode.getLeftNode().getEstRowsReturned(),
+                                            aQueryNode.getEstRowsReturned(),
+                                            node1.getOuterLevel() != node2.getOuterLevel());
                                 } else {
                                     // Now check if right side is partitioned
                                     // column
@@ -3018,6 +3027,10 @@ public class QueryPlan
                                         aLeaf.setHashInfo(
                                             anAC.getTableName(),
                                             aQueryCondition.getExpr().getLeftExpr().getExprString());
+                                        aLeaf.setHashJoinInfo(
+                                            aQueryNode.getLeftNode().getEstRowsReturned(),
+                                            aQueryNode.getEstRowsReturned(),
+                                            node1.getOuterLevel() != node2.getOuterLevel());
                                     }
                                 }
                             }
@@ -5179,6 +5192,15 @@ public class QueryPlan
                             newSqlExpression,
                             aSqlExpression.getFunctionParams().get(0).getExprString(),
                             aSqlExpression.getFunctionParams().get(1).getExprString());
+                } else if (aSqlExpression.getFunctionId() == IFunctionID.APPROX_COUNT_DISTINCT_ID) {
+                    makeApproxCountDistinctExpression(aSqlExpression,
+                            newNodeProjList, newSqlExpression,
+                            aSqlExpression.getFunctionParams().get(0).getExprString());
+                } else if (aSqlExpression.getFunctionId() == IFunctionID.APPROX_PERCENTILE_ID) {
+                    makeApproxPercentileExpression(aSqlExpression,
+                            newNodeProjList, newSqlExpression,
+                            aSqlExpression.getFunctionParams().get(0).getExprString(),
+                            aSqlExpression.getFunctionParams().get(1).getExprString());
                 } else if (aSqlExpression.getFunctionId() == IFunctionID.REGRAVX_ID) {
                     makeRegrAvgxExpression(aSqlExpression, newNodeProjList,
                             newSqlExpression,
@@ -6359,6 +6381,120 @@ public class QueryPlan
         colMappings.put(aSqlExpression, newSqlExpression.getExprString());
     }
 
+    /**
+     * Creates an expression that has the steps to compute
+     * approx_count_distinct of the given expression
+     *
+     * @param   aSqlExpression
+     * @param   newNodeProjList
+     * @param   newSqlExpression    [out]   Output expression
+     * @param   expr1               [in]    Input expression
+     *
+     * @return
+     */
+    private void makeApproxCountDistinctExpression(
+            SqlExpression aSqlExpression, List<SqlExpression> newNodeProjList,
+            SqlExpression newSqlExpression, String expr1) {
+        // Unlike COUNT(DISTINCT) values are not shipped anywhere, every node
+        // returns fixed size sketch per group
+
+        /**
+         *
+         * We need to do:
+         * approx_count_distinct(expr1) =
+         *              estimate(bit_or(sketch of expr1 at nodes))
+         *
+         **/
+
+        // Step 1: Build sketches of expr1
+        String newColumnName = generateColumnName(aSqlExpression.getExprString());
+
+        SqlExpression aNewSE = aSqlExpression.copy();
+        aNewSE.setFunctionId(IFunctionID.BITOR_ID);
+        aNewSE.setFunctionName("BIT_OR");
+        aNewSE.setExprString(DistinctCountSketch.getPartialExpression(expr1));
+        aNewSE.setExprDataType(new ExpressionType(ExpressionType.BIT_TYPE,
+                DistinctCountSketch.SKETCH_BITS, 0, 0));
+
+        aNewSE.setTempExpr(true);
+        aNewSE.setAlias(newColumnName);
+
+        newNodeProjList.add(aNewSE);
+
+        // -----------------------------------------------------
+        // Step 2: Merge the sketches and estimate the count
+
+        newSqlExpression.setExprType(SqlExpression.SQLEX_FUNCTION);
+        newSqlExpression.setFunctionId(IFunctionID.APPROX_COUNT_DISTINCT_ID);
+        newSqlExpression.setExprString(DistinctCountSketch
+                .getEstimateExpression("BIT_OR("
+                        + IdentifierHandler.quote(newColumnName) + ")"));
+        newSqlExpression.setTempExpr(true);
+
+        colMappings.put(aSqlExpression, newSqlExpression.getExprString());
+    }
+
+    /**
+     * Creates an expression that has the steps to compute
+     * approx_percentile of the given expression
+     *
+     * @param   aSqlExpression
+     * @param   newNodeProjList
+     * @param   newSqlExpression    [out]   Output expression
+     * @param   expr1               [in]    Input expression
+     * @param   expr2               [in]    Fraction
+     *
+     * @return
+     */
+    private void makeApproxPercentileExpression(
+            SqlExpression aSqlExpression, List<SqlExpression> newNodeProjList,
+            SqlExpression newSqlExpression, String expr1, String expr2) {
+        /**
+         *
+         * We need to do:
+         * approx_percentile(expr1, expr2) =
+         *              quantile expr2 of node quantiles of expr1,
+         *              weighted by count(expr1) at the nodes
+         *
+         **/
+
+        // Step 1: Quantiles of expr1
+        String newColumnName = generateColumnName(aSqlExpression.getExprString());
+
+        SqlExpression aNewSE = SqlExpression.createNewTempFunction(
+                "APPROX_PERCENTILE", IFunctionID.APPROX_PERCENTILE_ID);
+        aNewSE.setExprString(PercentileSketch.getPartialExpression(expr1));
+        aNewSE.setExprDataType(new ExpressionType(ExpressionType.CLOB_TYPE,
+                0, 0, 0));
+        aNewSE.setAlias(newColumnName);
+
+        newNodeProjList.add(aNewSE);
+
+        // Step 2: Weight of the quantiles
+        String newColumnName2 = generateColumnName(aSqlExpression.getExprString());
+
+        aNewSE = SqlExpression.createNewTempFunction("COUNT",
+                IFunctionID.COUNT_ID);
+        aNewSE.setExprString(PercentileSketch.getCountExpression(expr1));
+        aNewSE.setExprDataType(new ExpressionType(ExpressionType.BIGINT_TYPE,
+                ExpressionType.BIGINTLEN, 0, 0));
+        aNewSE.setAlias(newColumnName2);
+
+        newNodeProjList.add(aNewSE);
+
+        // -----------------------------------------------------
+        // Step 3: Merge the quantiles
+
+        newSqlExpression.setExprType(SqlExpression.SQLEX_FUNCTION);
+        newSqlExpression.setFunctionId(IFunctionID.APPROX_PERCENTILE_ID);
+        newSqlExpression.setExprString(PercentileSketch.getEstimateExpression(
+                IdentifierHandler.quote(newColumnName),
+                IdentifierHandler.quote(newColumnName2), expr2));
+        newSqlExpression.setTempExpr(true);
+
+        colMappings.put(aSqlExpression, newSqlExpression.getExprString());
+    }
+
     /**
      * Creates an expression that has the steps to compute regr_sxx
      * of the given expressions
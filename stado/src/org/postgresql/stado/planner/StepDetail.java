@@ -192,6 +192,16 @@ public class StepDetail implements Serializable {
     /** this is used for correlated joins */
     private String indexColumnString;
 
+    /** Whether statistics on target table should be updated. It is not
+     * needed if next step just scans the table.
+     */
+    public boolean analyzeTarget = true;
+
+    /** Whether producers report rows and bytes they send, for EXPLAIN
+     * ANALYZE
+     */
+    public boolean collectStatistics = false;
+
     /** Column list that we are loading up */
     private String insertColumnString;
 
@@ -295,6 +305,8 @@ public class StepDetail implements Serializable {
         newStepDetail.suppressSendingNodeId = this.suppressSendingNodeId;
         newStepDetail.nodeInfos = this.nodeInfos;
         newStepDetail.indexColumnString = this.indexColumnString;
+        newStepDetail.analyzeTarget = this.analyzeTarget;
+        newStepDetail.collectStatistics = this.collectStatistics;
         newStepDetail.insertColumnString = this.insertColumnString;
         newStepDetail.isOuterStep = this.isOuterStep;
         newStepDetail.outerNodeIdColumn = this.outerNodeIdColumn;
@@ -480,6 +492,7 @@ public class StepDetail implements Serializable {
 
             this.targetTable = aLeaf.getTargetTableName();
             this.targetSchema = aLeaf.getTempTargetCreateStmt();
+            this.analyzeTarget = nextLeaf == null || !nextLeaf.isScanOnly();
 
             // If we are a producer, determine destination info.
             this.destType = -1;
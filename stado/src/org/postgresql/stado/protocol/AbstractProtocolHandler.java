@@ -86,9 +86,7 @@ public abstract class AbstractProtocolHandler<T> implements ProtocolManager {
         try {
             T client = createClient(channel);
             clients.put(channel, client);
-            if (client instanceof Runnable) {
-                serviceQueue.execute((Runnable) client);
-            }
+            startClient(client);
         } catch (Exception ex) {
             logger.catching(ex);
             try {
@@ -117,6 +115,19 @@ public abstract class AbstractProtocolHandler<T> implements ProtocolManager {
         return clients.values().iterator();
     }
 
+    /**
+     * Start serving the new client. By default client gets own thread from
+     * the pool, if it is a Runnable.
+     *
+     * @param client
+     * @throws Exception
+     */
+    protected void startClient(T client) throws Exception {
+        if (client instanceof Runnable) {
+            serviceQueue.execute((Runnable) client);
+        }
+    }
+
     protected abstract T createClient(SocketChannel channel) throws Exception;
 
     protected abstract void closeClient(T clientContext);
@@ -27,7 +27,13 @@ package org.postgresql.stado.protocol;
 
 import java.io.IOException;
 import java.nio.channels.SocketChannel;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
+import org.postgresql.stado.common.util.Props;
 import org.postgresql.stado.common.util.XLogger;
 import org.postgresql.stado.engine.XDBSessionContext;
 
@@ -43,6 +49,11 @@ public class PgProtocolHandler extends
 
     private static PgProtocolHandler theProtocolHandler = null;
 
+    /** Selector threads reading client connections, if non-blocking mode */
+    private PgProtocolSelector[] selectors = null;
+
+    private int nextSelector = 0;
+
     /**
      *
      * @return
@@ -60,6 +71,23 @@ public class PgProtocolHandler extends
 
     protected PgProtocolHandler() throws IOException {
         super();
+        if (Props.XDB_PROTOCOL_NIO) {
+            ThreadPoolExecutor workers = new ThreadPoolExecutor(
+                    Props.XDB_PROTOCOL_WORKERS, Props.XDB_PROTOCOL_WORKERS,
+                    60L, TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>());
+            // Cancel, disconnect and transaction end must not queue behind
+            // requests blocked in lock or admission waits on all workers
+            ExecutorService urgentWorkers = Executors.newCachedThreadPool();
+            selectors = new PgProtocolSelector[Math.max(1,
+                    Props.XDB_PROTOCOL_SELECTORS)];
+            for (int i = 0; i < selectors.length; i++) {
+                selectors[i] = new PgProtocolSelector(workers, urgentWorkers);
+                Thread selectorThread = new Thread(selectors[i],
+                        "PgProtocolSelector-" + i);
+                selectorThread.setDaemon(true);
+                selectorThread.start();
+            }
+        }
     }
 
     /*
@@ -93,7 +121,28 @@ public class PgProtocolHandler extends
     @Override
     protected PgProtocolSession createClient(SocketChannel channel)
             throws Exception {
+        if (selectors == null) {
+            return new PgProtocolSession(this, channel,
+                    XDBSessionContext.createSession());
+        }
+        // Called under the handler lock
+        PgProtocolSelector selector = selectors[nextSelector];
+        nextSelector = (nextSelector + 1) % selectors.length;
         return new PgProtocolSession(this, channel,
-                XDBSessionContext.createSession());
+                XDBSessionContext.createSession(), selector);
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see org.postgresql.stado.protocol.AbstractProtocolHandler#startClient(java.lang.Object)
+     */
+    @Override
+    protected void startClient(PgProtocolSession client) throws Exception {
+        if (selectors == null) {
+            super.startClient(client);
+        } else {
+            client.register();
+        }
     }
 }
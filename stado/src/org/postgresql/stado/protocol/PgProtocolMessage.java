@@ -164,6 +164,9 @@ public class PgProtocolMessage {
 
     private int currentPos = 0;
 
+    /** Set by the selector if the request must not wait for a free worker */
+    private boolean urgent = false;
+
     public static final byte[] encodeString(String value) {
         try {
             return value == null ? null : value.getBytes(CHARSET_NAME);
@@ -267,6 +270,24 @@ public class PgProtocolMessage {
         return bbuf;
     }
 
+    /**
+     * Whether the request should be handled without waiting for a free
+     * worker, like transaction end or cancel request
+     *
+     * @return
+     */
+    boolean isUrgent() {
+        return urgent;
+    }
+
+    /**
+     *
+     * @param urgent
+     */
+    void setUrgent(boolean urgent) {
+        this.urgent = urgent;
+    }
+
     /**
      *
      * @return
@@ -0,0 +1,144 @@
+/*****************************************************************************
+ * Copyright (C) 2008 EnterpriseDB Corporation.
+ * Copyright (C) 2011 Stado Global Development Group.
+ *
+ * This file is part of Stado.
+ *
+ * Stado is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Stado is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Stado.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * You can find Stado at http://www.stado.us
+ *
+ ****************************************************************************/
+package org.postgresql.stado.protocol;
+
+import java.io.IOException;
+import java.nio.channels.CancelledKeyException;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+
+import org.postgresql.stado.common.util.XLogger;
+
+/**
+ * Reads client connections of many sessions in a single thread. Incoming data
+ * are framed into requests and queued to the session, and the session is
+ * dispatched to the worker pool only when it has a complete request to
+ * handle, so idle connections do not hold a thread. Requests which must not
+ * wait for a free worker, like cancel or commit, are handled by the urgent
+ * pool.
+ */
+class PgProtocolSelector implements Runnable {
+    private static final XLogger logger = XLogger
+            .getLogger(PgProtocolSelector.class);
+
+    private Selector selector;
+
+    private Executor workers;
+
+    private Executor urgentWorkers;
+
+    /** Sessions to register, registration is done by the selector thread */
+    private ConcurrentLinkedQueue<PgProtocolSession> registrations = new ConcurrentLinkedQueue<PgProtocolSession>();
+
+    /** Sessions to continue reading after the worker caught up */
+    private ConcurrentLinkedQueue<PgProtocolSession> resumes = new ConcurrentLinkedQueue<PgProtocolSession>();
+
+    /**
+     * @param workers
+     *            the pool to handle requests
+     * @param urgentWorkers
+     *            the pool to handle urgent requests
+     * @throws IOException
+     */
+    PgProtocolSelector(Executor workers, Executor urgentWorkers)
+            throws IOException {
+        this.workers = workers;
+        this.urgentWorkers = urgentWorkers;
+        selector = Selector.open();
+    }
+
+    /**
+     * Run session's task in appropriate worker pool
+     *
+     * @param task
+     * @param urgent
+     */
+    void execute(Runnable task, boolean urgent) {
+        (urgent ? urgentWorkers : workers).execute(task);
+    }
+
+    /**
+     * Start reading the session's channel
+     *
+     * @param session
+     */
+    void register(PgProtocolSession session) {
+        registrations.add(session);
+        selector.wakeup();
+    }
+
+    /**
+     * Continue reading the session's channel, if it has been paused
+     *
+     * @param session
+     */
+    void resume(PgProtocolSession session) {
+        resumes.add(session);
+        selector.wakeup();
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see java.lang.Runnable#run()
+     */
+    public void run() {
+        for (;;) {
+            try {
+                selector.select();
+                PgProtocolSession session;
+                while ((session = registrations.poll()) != null) {
+                    try {
+                        session.setSelectionKey(session.getChannel().register(
+                                selector, SelectionKey.OP_READ, session));
+                    } catch (IOException ioe) {
+                        logger.catching(ioe);
+                        session.endOfStream();
+                    }
+                }
+                while ((session = resumes.poll()) != null) {
+                    session.resumeReading();
+                }
+                for (Iterator<SelectionKey> it = selector.selectedKeys().iterator(); it.hasNext();) {
+                    SelectionKey key = it.next();
+                    it.remove();
+                    try {
+                        if (key.isValid() && key.isReadable()) {
+                            ((PgProtocolSession) key.attachment()).readRequests();
+                        }
+                    } catch (CancelledKeyException e) {
+                        // Session is closed by the worker
+                    }
+                }
+            } catch (ClosedSelectorException e) {
+                return;
+            } catch (Throwable t) {
+                logger.catching(t);
+            }
+        }
+    }
+}
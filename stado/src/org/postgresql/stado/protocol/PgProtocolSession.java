@@ -32,6 +32,8 @@ import java.io.UnsupportedEncodingException;
 import java.math.BigDecimal;
 import java.math.MathContext;
 import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
 import java.nio.channels.SocketChannel;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -42,6 +44,9 @@ import java.util.LinkedList;
 import java.util.Map;
 import java.util.Random;
 import java.util.Set;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Pattern;
 
 import org.apache.log4j.Level;
 import org.postgresql.stado.common.ColumnMetaData;
@@ -101,6 +106,54 @@ public class PgProtocolSession implements Runnable {
     
     private String connDatabase = null;
 
+    /*
+     * Non-blocking mode: a PgProtocolSelector frames incoming messages into
+     * the inbound queue, and the session processes them on a worker thread.
+     */
+    /** Stop reading the connection if that many requests are not handled */
+    private static final int MAX_QUEUED_REQUESTS = 64;
+
+    /** Initial size of the buffer where the selector assembles messages */
+    private static final int READ_BUFFER_SIZE = 0x2000;
+
+    /** Marks the connection is closed by the client */
+    private static final PgProtocolMessage END_OF_STREAM = new PgProtocolMessage(
+            PgProtocolMessage.MESSAGE_TYPE_TERMINATE, new byte[0]);
+
+    static {
+        END_OF_STREAM.setUrgent(true);
+    }
+
+    /** Statements releasing locks, they do not wait for a free worker */
+    private static final Pattern TRANSACTION_END = Pattern.compile(
+            "\\s*(COMMIT|END|ROLLBACK|ABORT)(\\s+(WORK|TRANSACTION))?\\s*;?\\s*",
+            Pattern.CASE_INSENSITIVE);
+
+    /**
+     * Selector of the worker thread, the worker waits on it until the
+     * non-blocking channel accepts the rest of the response
+     */
+    private static final ThreadLocal<Selector> writeSelector = new ThreadLocal<Selector>();
+
+    private LinkedBlockingQueue<PgProtocolMessage> inbound = null;
+
+    private PgProtocolSelector selector;
+
+    private SelectionKey selectionKey;
+
+    private ByteBuffer readBuffer;
+
+    /** Messages without type byte are expected until the startup packet */
+    private boolean expectStartup = true;
+
+    /** Extended query ending transaction is being read, until Sync */
+    private boolean urgentUntilSync = false;
+
+    /** Set while the session is queued to or running on a worker */
+    private final AtomicBoolean scheduled = new AtomicBoolean(false);
+
+    private final AtomicBoolean readPaused = new AtomicBoolean(false);
+
     private String FormatPgErrorMsg(String msg) {
     	String m = "";
     	
@@ -186,6 +239,21 @@ public class PgProtocolSession implements Runnable {
     
 
     private PgProtocolMessage readRequest() throws IOException {
+        if (inbound != null) {
+            PgProtocolMessage message;
+            try {
+                message = inbound.take();
+            } catch (InterruptedException e) {
+                throw new IOException("Interrupted while waiting for request");
+            }
+            if (message == END_OF_STREAM) {
+                // Keep the mark, session will be closed by the worker loop
+                inbound.offer(END_OF_STREAM);
+                throw new IOException("Connection is broken");
+            }
+            requestTaken();
+            return message;
+        }
         ByteBuffer bbuf;
         byte msgType = PgProtocolMessage.MESSAGE_TYPE_INITIAL;
         if (sessionState == SESSION_STATE_DISCONNECTED) {
@@ -261,21 +329,30 @@ public class PgProtocolSession implements Runnable {
         logger.log(Level.DEBUG, "Writing response: %0%", new Object[] {msg.getMessageType()});
         ByteBuffer aByteBuffer = msg.getAsByteBuffer(null);
         synchronized (channel) {
-            do {
-                channel.write(aByteBuffer);
-
-                // Make sure we wrote everything. If not, wait and try again.
-                // On next write, it will only write the part of the buffer
-                // not yet written.
-                if (aByteBuffer.remaining() > 0) {
-                    try {
-                        Thread.sleep(1);
-                    } catch (InterruptedException e) {
-                    }
-                    continue;
+            channel.write(aByteBuffer);
+            // Non-blocking channel may not accept everything at once, wait
+            // until it is writable and write the rest
+            if (aByteBuffer.remaining() > 0) {
+                Selector selector = writeSelector.get();
+                if (selector == null) {
+                    selector = Selector.open();
+                    writeSelector.set(selector);
                 }
-                break;
-            } while (true);
+                SelectionKey key = channel.register(selector,
+                        SelectionKey.OP_WRITE);
+                try {
+                    do {
+                        selector.select(1000);
+                        selector.selectedKeys().clear();
+                        channel.write(aByteBuffer);
+                    } while (aByteBuffer.remaining() > 0);
+                } finally {
+                    key.cancel();
+                    // Deregister now, otherwise the channel is not closed
+                    // until this selector is used again
+                    selector.selectNow();
+                }
+            }
         }
     }
 
@@ -287,6 +364,267 @@ public class PgProtocolSession implements Runnable {
         channel.configureBlocking(true);
     }
 
+    /**
+     * Creates session reading the channel in non-blocking mode. Requests
+     * are delivered by the specified selector.
+     *
+     * @param manager
+     * @param channel
+     * @param client
+     * @param selector
+     * @throws Exception
+     */
+    PgProtocolSession(PgProtocolHandler manager, SocketChannel channel,
+            XDBSessionContext client, PgProtocolSelector selector)
+            throws Exception {
+        this.manager = manager;
+        this.channel = channel;
+        this.client = client;
+        this.selector = selector;
+        inbound = new LinkedBlockingQueue<PgProtocolMessage>();
+        readBuffer = ByteBuffer.allocate(READ_BUFFER_SIZE);
+        channel.configureBlocking(false);
+    }
+
+    /**
+     * Start receiving requests from the selector
+     */
+    void register() {
+        selector.register(this);
+    }
+
+    SocketChannel getChannel() {
+        return channel;
+    }
+
+    void setSelectionKey(SelectionKey selectionKey) {
+        this.selectionKey = selectionKey;
+    }
+
+    /**
+     * Called by the selector thread when the channel is readable. Frames
+     * received data into requests and dispatches the session to a worker if
+     * there are requests to handle.
+     */
+    void readRequests() {
+        boolean connected;
+        try {
+            connected = readFrames();
+        } catch (IOException ioe) {
+            logger.catching(ioe);
+            connected = false;
+        }
+        if (!connected) {
+            endOfStream();
+            return;
+        }
+        if (inbound.size() >= MAX_QUEUED_REQUESTS) {
+            // Client is sending faster than we handle, stop reading for a
+            // while. The worker resumes reading when it catches up.
+            readPaused.set(true);
+            selectionKey.interestOps(0);
+            if (inbound.size() <= MAX_QUEUED_REQUESTS / 2
+                    && readPaused.compareAndSet(true, false)) {
+                selectionKey.interestOps(SelectionKey.OP_READ);
+            }
+        }
+        dispatch();
+    }
+
+    /**
+     * Called by the selector thread when the client has disconnected, or
+     * the channel can not be read anymore
+     */
+    void endOfStream() {
+        if (selectionKey != null) {
+            selectionKey.cancel();
+        }
+        inbound.offer(END_OF_STREAM);
+        dispatch();
+    }
+
+    /**
+     * Called by the selector thread to continue reading paused channel
+     */
+    void resumeReading() {
+        if (selectionKey.isValid()) {
+            selectionKey.interestOps(SelectionKey.OP_READ);
+        }
+    }
+
+    /**
+     * Reads available data from the channel and moves every complete
+     * message to the inbound queue.
+     *
+     * @return false if the client has closed the connection
+     * @throws IOException
+     */
+    private boolean readFrames() throws IOException {
+        if (channel.read(readBuffer) < 0) {
+            return false;
+        }
+        readBuffer.flip();
+        while (true) {
+            int headerSize = expectStartup ? 4 : 5;
+            if (readBuffer.remaining() < headerSize) {
+                break;
+            }
+            int start = readBuffer.position();
+            byte msgType = expectStartup ? PgProtocolMessage.MESSAGE_TYPE_INITIAL
+                    : readBuffer.get(start);
+            int msgSize = readBuffer.getInt(start + headerSize - 4) - 4;
+            if (msgSize < 0) {
+                throw new IOException(
+                        "Probably channel is out of sync and receiving garbage");
+            }
+            if (readBuffer.remaining() < headerSize + msgSize) {
+                if (readBuffer.capacity() < headerSize + msgSize) {
+                    ByteBuffer newBuffer;
+                    try {
+                        newBuffer = ByteBuffer.allocate(headerSize + msgSize);
+                    } catch (OutOfMemoryError e) {
+                        logger.catching(e);
+                        throw new IOException(
+                                "Probably channel is out of sync and receiving garbage");
+                    }
+                    newBuffer.put(readBuffer);
+                    readBuffer = newBuffer;
+                    return true;
+                }
+                break;
+            }
+            readBuffer.position(start + headerSize);
+            byte[] msgBody = new byte[msgSize];
+            readBuffer.get(msgBody);
+            if (expectStartup && msgSize >= 4) {
+                // Only SSL request is followed by another startup packet
+                expectStartup = ByteBuffer.wrap(msgBody).getInt() == (1234 << 16 | 5679);
+            }
+            PgProtocolMessage message = new PgProtocolMessage(msgType, msgBody);
+            message.setUrgent(isUrgent(message));
+            inbound.offer(message);
+        }
+        if (readBuffer.capacity() > READ_BUFFER_SIZE
+                && readBuffer.remaining() < READ_BUFFER_SIZE) {
+            // Large message is done, do not hold the big buffer
+            ByteBuffer newBuffer = ByteBuffer.allocate(READ_BUFFER_SIZE);
+            newBuffer.put(readBuffer);
+            readBuffer = newBuffer;
+        } else {
+            readBuffer.compact();
+        }
+        return true;
+    }
+
+    /**
+     * Tells if the request should not wait for a free worker: cancel
+     * request, disconnect, and ending of transaction, which releases locks
+     * other requests may be waiting for while holding the workers.
+     * Called by the selector thread before the message is queued.
+     *
+     * @param message
+     * @return
+     */
+    private boolean isUrgent(PgProtocolMessage message) {
+        switch (message.getMessageType()) {
+        case PgProtocolMessage.MESSAGE_TYPE_INITIAL:
+            if (message.getLength() < 4) {
+                return false;
+            }
+            try {
+                return message.getInt32() == (1234 << 16 | 5678);
+            } finally {
+                message.setPosition(0);
+            }
+        case PgProtocolMessage.MESSAGE_TYPE_TERMINATE:
+            return true;
+        case PgProtocolMessage.MESSAGE_TYPE_QUERY:
+            try {
+                return TRANSACTION_END.matcher(message.getString()).matches();
+            } finally {
+                message.setPosition(0);
+            }
+        case PgProtocolMessage.MESSAGE_TYPE_PARSE:
+            try {
+                message.getString();
+                urgentUntilSync = TRANSACTION_END.matcher(message.getString()).matches();
+            } finally {
+                message.setPosition(0);
+            }
+            return urgentUntilSync;
+        case PgProtocolMessage.MESSAGE_TYPE_SYNC:
+            boolean urgent = urgentUntilSync;
+            urgentUntilSync = false;
+            return urgent;
+        default:
+            return urgentUntilSync;
+        }
+    }
+
+    /**
+     * Hand the session over to a worker, unless it is already there or there
+     * is nothing to do. If the next request is urgent the session goes to
+     * the pool that never queues.
+     */
+    private void dispatch() {
+        if (!inbound.isEmpty() && scheduled.compareAndSet(false, true)) {
+            execute(inbound.peek().isUrgent());
+        }
+    }
+
+    private void execute(final boolean urgent) {
+        selector.execute(new Runnable() {
+            public void run() {
+                processRequests(urgent);
+            }
+        }, urgent);
+    }
+
+    /**
+     * Runs on a worker thread and handles queued requests until the queue
+     * is empty. Only one worker at a time processes the session. The
+     * worker of the urgent pool hands the session over to the regular pool
+     * when it comes to a regular request.
+     *
+     * @param urgent
+     *            true if running in the urgent pool
+     */
+    private void processRequests(boolean urgent) {
+        do {
+            PgProtocolMessage request;
+            while ((request = inbound.peek()) != null) {
+                if (urgent && !request.isUrgent()) {
+                    // Leave scheduled set, the session moves to other pool
+                    execute(false);
+                    return;
+                }
+                inbound.poll();
+                if (request == END_OF_STREAM) {
+                    closeChannel();
+                    // Leave scheduled set, so session is never dispatched again
+                    return;
+                }
+                requestTaken();
+                if (!handleRequest(request)) {
+                    closeChannel();
+                    return;
+                }
+            }
+            scheduled.set(false);
+            // The selector may have queued a request before the flag is reset
+        } while (!inbound.isEmpty() && scheduled.compareAndSet(false, true));
+    }
+
+    /**
+     * Resume reading if it has been paused and the queue is short enough
+     */
+    private void requestTaken() {
+        if (inbound.size() <= MAX_QUEUED_REQUESTS / 2
+                && readPaused.compareAndSet(true, false)) {
+            selector.resume(this);
+        }
+    }
+
     void close() {
         if (client != null) {
             try {
@@ -580,217 +918,139 @@ public class PgProtocolSession implements Runnable {
     public void run() {
         try {
             PgProtocolMessage request = readRequest();
-            while (request != null) {
+            while (request != null && handleRequest(request)) {
+                request = readRequest();
+            }
+        } catch (IOException ioe) {
+            logger.catching(ioe);
+        } finally {
+            closeChannel();
+        }
+    }
 
-                try {
-                    logger.log(Level.DEBUG, "Handle message: %0%",
-                            new Object[] { request.getMessageType() });
-                    switch (request.getMessageType()) {
-                    case PgProtocolMessage.MESSAGE_TYPE_INITIAL:
-                        int protocolMajor = request.getInt16();
-                        int protocolMinor = request.getInt16();
-                        if (protocolMajor == 1234 && protocolMinor == 5678) {
-                            // Cancel Request
-                            int sessionID = request.getInt32();
-                            int secretKey = request.getInt32();
-                            // Find a session to cancel
-                            synchronized (manager) {
-                                for (Iterator<PgProtocolSession> it = manager.clientIterator(); it.hasNext();) {
-                                    if (it.next().cancelRequest(sessionID, secretKey)) {
-                                        break;
-                                    }
-                                }
-                            }
-                            // Then exit
-                            return;
-                        } else if (protocolMajor == 1234
-                                && protocolMinor == 5679) {
-                            // SSL Request
-                            writeToChannel(PgProtocolMessage.MSG_SSL_NO,
-                                    channel);
-                        } else if (protocolMajor == PROTOCOL_MAJOR
-                                && protocolMinor == PROTOCOL_MINOR) {
-                            while (request.hasMoreData()) {
-                                String paramName = request.getString();
-                                if ("".equals(paramName)) {
-                                    break;
-                                }
-                                /* Save parameters until later when a password 
-                                 * is sent.
-                                 */
-                                String paramValue = request.getString();
-                                if ("database".equalsIgnoreCase(paramName)) {
-                                    connDatabase = paramValue;
-                                } else if ("user".equalsIgnoreCase(paramName)) {
-                                    connUser = paramValue;
-                                } else {
-                                    client.setExtraParameter(paramName, paramValue);
-                                }
+    /**
+     * Handles single client request
+     *
+     * @param request
+     * @return false if the session should be terminated
+     */
+    private boolean handleRequest(PgProtocolMessage request) {
+        try {
+            logger.log(Level.DEBUG, "Handle message: %0%",
+                    new Object[] { request.getMessageType() });
+            switch (request.getMessageType()) {
+            case PgProtocolMessage.MESSAGE_TYPE_INITIAL:
+                int protocolMajor = request.getInt16();
+                int protocolMinor = request.getInt16();
+                if (protocolMajor == 1234 && protocolMinor == 5678) {
+                    // Cancel Request
+                    int sessionID = request.getInt32();
+                    int secretKey = request.getInt32();
+                    // Find a session to cancel
+                    synchronized (manager) {
+                        for (Iterator<PgProtocolSession> it = manager.clientIterator(); it.hasNext();) {
+                            if (it.next().cancelRequest(sessionID, secretKey)) {
+                                break;
                             }
-                            setState(SESSION_STATE_HANDSHAKE);
-                            writeToChannel(
-                                    PgProtocolMessage.MSG_AUTHENTICATION_CLEARTEXT_PASSWORD,
-                                    channel);
+                        }
+                    }
+                    // Then exit
+                    return false;
+                } else if (protocolMajor == 1234
+                        && protocolMinor == 5679) {
+                    // SSL Request
+                    writeToChannel(PgProtocolMessage.MSG_SSL_NO,
+                            channel);
+                } else if (protocolMajor == PROTOCOL_MAJOR
+                        && protocolMinor == PROTOCOL_MINOR) {
+                    while (request.hasMoreData()) {
+                        String paramName = request.getString();
+                        if ("".equals(paramName)) {
+                            break;
+                        }
+                        /* Save parameters until later when a password 
+                         * is sent.
+                         */
+                        String paramValue = request.getString();
+                        if ("database".equalsIgnoreCase(paramName)) {
+                            connDatabase = paramValue;
+                        } else if ("user".equalsIgnoreCase(paramName)) {
+                            connUser = paramValue;
                         } else {
-                            try {
-                                writeResponse(ExecutionResult.createErrorResult(
-                                		new XDBServerException("Unsupported protocol version")));
-                            } catch (Throwable e) {
-                                logger.catching(e);
-                            }
-                            // break session
-                            return;
+                            client.setExtraParameter(paramName, paramValue);
                         }
-                        break;
-                    case PgProtocolMessage.MESSAGE_TYPE_PASSWORD_MESSAGE:
-                        client.login(connUser, connDatabase, 
-                                MessageTypes.CONNECTION_MODE_NORMAL, 
-                                request.getString());
-                        writeToChannel(PgProtocolMessage.MSG_AUTHENTICATION_OK,
-                                channel);
-                        PgProtocolMessage backendKeyData = new PgProtocolMessage(
-                                PgProtocolMessage.MESSAGE_TYPE_BACKEND_KEY_DATA,
-                                null);
-                        backendKeyData.putInt32(client.getSessionID());
-                        Random rnd = new Random(System.currentTimeMillis());
-                        backendKey = rnd.nextInt();
-                        backendKeyData.putInt32(backendKey);
-                        writeToChannel(backendKeyData, channel);
-                        PgProtocolMessage paramStatus = new PgProtocolMessage(
-                                PgProtocolMessage.MESSAGE_TYPE_PARAMETER_STATUS,
-                                null);
-                        paramStatus.putString("server_version");
-                        paramStatus.putString("9.0.1");
-                        writeToChannel(paramStatus, channel);
-                            // Extra parameters
-                            Set<String> extraParams = client
-                                    .getExtraParamNames();
-                            if (extraParams != null) {
-                                for (String paramName : extraParams) {
-                                    paramStatus = new PgProtocolMessage(
-                                            PgProtocolMessage.MESSAGE_TYPE_PARAMETER_STATUS,
-                                            null);
-                                    paramStatus.putString(paramName);
-                                    paramStatus.putString(client
-                                            .getExtraParameter(paramName));
-                                }
-                            }
-                        writeToChannel(paramStatus, channel);
+                    }
+                    setState(SESSION_STATE_HANDSHAKE);
+                    writeToChannel(
+                            PgProtocolMessage.MSG_AUTHENTICATION_CLEARTEXT_PASSWORD,
+                            channel);
+                } else {
+                    try {
+                        writeResponse(ExecutionResult.createErrorResult(
+                        		new XDBServerException("Unsupported protocol version")));
+                    } catch (Throwable e) {
+                        logger.catching(e);
+                    }
+                    // break session
+                    return false;
+                }
+                break;
+            case PgProtocolMessage.MESSAGE_TYPE_PASSWORD_MESSAGE:
+                client.login(connUser, connDatabase, 
+                        MessageTypes.CONNECTION_MODE_NORMAL, 
+                        request.getString());
+                writeToChannel(PgProtocolMessage.MSG_AUTHENTICATION_OK,
+                        channel);
+                PgProtocolMessage backendKeyData = new PgProtocolMessage(
+                        PgProtocolMessage.MESSAGE_TYPE_BACKEND_KEY_DATA,
+                        null);
+                backendKeyData.putInt32(client.getSessionID());
+                Random rnd = new Random(System.currentTimeMillis());
+                backendKey = rnd.nextInt();
+                backendKeyData.putInt32(backendKey);
+                writeToChannel(backendKeyData, channel);
+                PgProtocolMessage paramStatus = new PgProtocolMessage(
+                        PgProtocolMessage.MESSAGE_TYPE_PARAMETER_STATUS,
+                        null);
+                paramStatus.putString("server_version");
+                paramStatus.putString("9.0.1");
+                writeToChannel(paramStatus, channel);
+                    // Extra parameters
+                    Set<String> extraParams = client
+                            .getExtraParamNames();
+                    if (extraParams != null) {
+                        for (String paramName : extraParams) {
+                            paramStatus = new PgProtocolMessage(
+                                    PgProtocolMessage.MESSAGE_TYPE_PARAMETER_STATUS,
+                                    null);
+                            paramStatus.putString(paramName);
+                            paramStatus.putString(client
+                                    .getExtraParameter(paramName));
+                        }
+                    }
+                writeToChannel(paramStatus, channel);
 
-                        setState(SESSION_STATE_READY);
-                        break;
-                    case PgProtocolMessage.MESSAGE_TYPE_QUERY:
-                        setState(SESSION_STATE_QUERY);
+                setState(SESSION_STATE_READY);
+                break;
+            case PgProtocolMessage.MESSAGE_TYPE_QUERY:
+                setState(SESSION_STATE_QUERY);
+                try {
+                    String query = request.getString().trim();
+                    CommandLog.queryLogger.info(client.getSessionID()
+                            + " - " + query);
+                    for (String cmd : splitSimpleQuery(query)) {
                         try {
-                            String query = request.getString().trim();
-                            CommandLog.queryLogger.info(client.getSessionID()
-                                    + " - " + query);
-                            for (String cmd : splitSimpleQuery(query)) {
+                            // Reuse the plan if the query shape is cached
+                            if (!client.bindCachedStatement(cmd, "")) {
                                 client.createStatement(
                                         "",
                                         RequestAnalyzer.getExecutableRequest(
                                                 MessageTypes.REQ_EXECUTE,
                                                 cmd, client));
-                                try {
-                                    client.bindStatement("", "", null);
-                                    ResponseMessage rm = client.describeStatement(
-                                            "", "");
-                                    if (rm instanceof CopyResponse) {
-                                        CopyResponse copyResponse = (CopyResponse) rm;
-                                        if (copyResponse.getType() == MessageTypes.RESP_COPY_IN) {
-                                            startCopyInProcess(copyResponse);
-                                        } else { // RESP_COPY_OUT
-                                            startCopyOutProcess(copyResponse);
-                                        }
-                                    }
-                                    ExecutionResult result = client.executeRequest("");
-                                    if (!(rm instanceof CopyResponse)) {
-                                        sendRowDescription(rm instanceof ResultSetResponse ? (ResultSetResponse) rm
-                                                : null);
-                                    }
-                                    if (result.getContentType() == ExecutionResult.CONTENT_TYPE_SUBRESULTS) {
-                                        sendSubResults(result);
-                                    } else {
-                                        // fetchSize = 0;
-                                        writeResponse(result);
-                                    }
-                                } finally {
-                                    client.closeCursor("");
-                                    client.closeStatement("");
-                                }
-                            }
-                        } catch (Exception ex) {
-                            logger.catching(ex);
-                            writeResponse(ExecutionResult.createErrorResult(ex));
-                        } finally {
-                            setState(SESSION_STATE_READY);
-                        }
-                        break;
-                    case PgProtocolMessage.MESSAGE_TYPE_PARSE:
-                        setState(SESSION_STATE_QUERY);
-                        String statementID = request.getString();
-                        String statement = request.getString().trim();
-                        
-                        CommandLog.queryLogger.info(client.getSessionID()
-                                + " - " + statement);
-                        client.createStatement(statementID,
-                                RequestAnalyzer.getExecutableRequest(
-                                        MessageTypes.REQ_EXECUTE,
-                                        statement, client));
-                        int paramCount = request.getInt16();
-                        if (paramCount > 0) {
-                            int[] paramTypes = new int[paramCount];
-                            for (int i = 0; i < paramCount; i++) {
-                                paramTypes[i] = getJavaType(request.getInt32());
-                            }
-                            client.setParameterTypes(statementID,
-                                    paramTypes);
-                        }
-                        writeToChannel(
-                                PgProtocolMessage.MSG_PARSE_COMPLETE,
-                                channel);
-                        break;
-                    case PgProtocolMessage.MESSAGE_TYPE_BIND:
-                        if (!error) {
-                            String cursorName = request.getString();
-                            statementID = request.getString();
-                            int[] paramCodes = request.getInt16Array(request.getInt16());
-                            int argCount = request.getInt16();
-                            byte[][] args = new byte[argCount][];
-                            for (int i = 0; i < argCount; i++) {
-                                args[i] = request.getBytes(request.getInt32());
-                            }
-                            // TODO support for return values
-
-                            client.bindStatement(statementID, cursorName,
-                                    decodeParameters(args, paramCodes));
-                            writeToChannel(PgProtocolMessage.MSG_BIND_COMPLETE,
-                                    channel);
-                        }
-                        break;
-                    case PgProtocolMessage.MESSAGE_TYPE_DESCRIBE:
-                        if (!error) {
-                            char code = (char) request.getInt8();
-                            String name = request.getString();
-                            if (code == 'S') {
-                                int[] paramTypes = client.getParameterTypes(name);
-                                if (paramTypes != null && paramTypes.length > 0) {
-                                    sendParameterDescription(paramTypes);
-                                }
+                                client.bindStatement("", "", null);
                             }
                             ResponseMessage rm = client.describeStatement(
-                                    code == 'S' ? name : null,
-                                    code == 'P' ? name : null);
-                            sendRowDescription(rm instanceof ResultSetResponse ? (ResultSetResponse) rm
-                                    : null);
-                        }
-                        break;
-                    case PgProtocolMessage.MESSAGE_TYPE_EXECUTE:
-                        if (!error) {
-                            String cursorName = request.getString();
-                            fetchSize = request.getInt32();
-                            ResponseMessage rm = client.describeStatement(null,
-                                    cursorName);
+                                    "", "");
                             if (rm instanceof CopyResponse) {
                                 CopyResponse copyResponse = (CopyResponse) rm;
                                 if (copyResponse.getType() == MessageTypes.RESP_COPY_IN) {
@@ -799,81 +1059,177 @@ public class PgProtocolSession implements Runnable {
                                     startCopyOutProcess(copyResponse);
                                 }
                             }
-                            ExecutionResult result = client.executeRequest(cursorName);
-                            if (writeResponse(result)) {
-                                client.closeCursor(cursorName);
+                            ExecutionResult result = client.executeRequest("");
+                            if (!(rm instanceof CopyResponse)) {
+                                sendRowDescription(rm instanceof ResultSetResponse ? (ResultSetResponse) rm
+                                        : null);
                             }
+                            if (result.getContentType() == ExecutionResult.CONTENT_TYPE_SUBRESULTS) {
+                                sendSubResults(result);
+                            } else {
+                                // fetchSize = 0;
+                                writeResponse(result);
+                            }
+                        } finally {
+                            client.closeCursor("");
+                            client.closeStatement("");
                         }
-                        break;
-                    case PgProtocolMessage.MESSAGE_TYPE_CLOSE:
-                        char code = (char) request.getInt8();
-                        String name = request.getString();
-                        if (code == 'S') {
-                            client.closeStatement(name);
-                        } else {
-                            client.closeCursor(name);
-                        }
-                        writeToChannel(PgProtocolMessage.MSG_CLOSE_COMPLETE,
-                                channel);
-                        break;
-                    case PgProtocolMessage.MESSAGE_TYPE_SYNC:
-                        error = false;
-                        setState(SESSION_STATE_READY);
-                        break;
-                    case PgProtocolMessage.MESSAGE_TYPE_FUNCTION_CALL:
-                        int functionOID = request.getInt32();
-                        int[] paramCodes = request.getInt16Array(request.getInt16());
-                        int argCount = request.getInt16();
-                        byte[][] args = new byte[argCount][];
-                        for (int i = 0; i < argCount; i++) {
-                            args[i] = request.getBytes(request.getInt32());
-                        }
-                        decodeParameters(args, paramCodes);
-                        switch (functionOID) {
-                        default:
-                            throw new XDBServerException(
-                                    "Function is not supported, OID="
-                                            + functionOID);
-                        }
-                        // setState(SESSION_STATE_QUERY);
-                        // break;
-                    case PgProtocolMessage.MESSAGE_TYPE_TERMINATE:
-                        connUser = null;
-                        connDatabase = null;
-                        return;
-                    default:
-                        logger.debug("Unsupported message type: "
-                                + request.getMessageType());
-                    }// switch
-                    logger.log(Level.DEBUG,
-                            "Message handled successfully: %0%",
-                            new Object[] { request.getMessageType() });
+                    }
                 } catch (Exception ex) {
-                    logger.log(Level.DEBUG,
-                            "Message handled with error: %0%",
-                            new Object[] { request.getMessageType() });
                     logger.catching(ex);
-                    try {
-                        error = true;
-                        writeResponse(ExecutionResult.createErrorResult(ex));
-                    } catch (Throwable e) {
-                        logger.catching(e);
-                        // break session
-                        return;
+                    writeResponse(ExecutionResult.createErrorResult(ex));
+                } finally {
+                    setState(SESSION_STATE_READY);
+                }
+                break;
+            case PgProtocolMessage.MESSAGE_TYPE_PARSE:
+                setState(SESSION_STATE_QUERY);
+                String statementID = request.getString();
+                String statement = request.getString().trim();
+                
+                CommandLog.queryLogger.info(client.getSessionID()
+                        + " - " + statement);
+                client.createStatement(statementID,
+                        RequestAnalyzer.getExecutableRequest(
+                                MessageTypes.REQ_EXECUTE,
+                                statement, client));
+                int paramCount = request.getInt16();
+                if (paramCount > 0) {
+                    int[] paramTypes = new int[paramCount];
+                    for (int i = 0; i < paramCount; i++) {
+                        paramTypes[i] = getJavaType(request.getInt32());
                     }
+                    client.setParameterTypes(statementID,
+                            paramTypes);
                 }
+                writeToChannel(
+                        PgProtocolMessage.MSG_PARSE_COMPLETE,
+                        channel);
+                break;
+            case PgProtocolMessage.MESSAGE_TYPE_BIND:
+                if (!error) {
+                    String cursorName = request.getString();
+                    statementID = request.getString();
+                    int[] paramCodes = request.getInt16Array(request.getInt16());
+                    int argCount = request.getInt16();
+                    byte[][] args = new byte[argCount][];
+                    for (int i = 0; i < argCount; i++) {
+                        args[i] = request.getBytes(request.getInt32());
+                    }
+                    // TODO support for return values
 
-                request = readRequest();
-            }
-        } catch (IOException ioe) {
-            logger.catching(ioe);
-        } finally {
+                    client.bindStatement(statementID, cursorName,
+                            decodeParameters(args, paramCodes));
+                    writeToChannel(PgProtocolMessage.MSG_BIND_COMPLETE,
+                            channel);
+                }
+                break;
+            case PgProtocolMessage.MESSAGE_TYPE_DESCRIBE:
+                if (!error) {
+                    char code = (char) request.getInt8();
+                    String name = request.getString();
+                    if (code == 'S') {
+                        int[] paramTypes = client.getParameterTypes(name);
+                        if (paramTypes != null && paramTypes.length > 0) {
+                            sendParameterDescription(paramTypes);
+                        }
+                    }
+                    ResponseMessage rm = client.describeStatement(
+                            code == 'S' ? name : null,
+                            code == 'P' ? name : null);
+                    sendRowDescription(rm instanceof ResultSetResponse ? (ResultSetResponse) rm
+                            : null);
+                }
+                break;
+            case PgProtocolMessage.MESSAGE_TYPE_EXECUTE:
+                if (!error) {
+                    String cursorName = request.getString();
+                    fetchSize = request.getInt32();
+                    ResponseMessage rm = client.describeStatement(null,
+                            cursorName);
+                    if (rm instanceof CopyResponse) {
+                        CopyResponse copyResponse = (CopyResponse) rm;
+                        if (copyResponse.getType() == MessageTypes.RESP_COPY_IN) {
+                            startCopyInProcess(copyResponse);
+                        } else { // RESP_COPY_OUT
+                            startCopyOutProcess(copyResponse);
+                        }
+                    }
+                    ExecutionResult result = client.executeRequest(cursorName);
+                    if (writeResponse(result)) {
+                        client.closeCursor(cursorName);
+                    }
+                }
+                break;
+            case PgProtocolMessage.MESSAGE_TYPE_CLOSE:
+                char code = (char) request.getInt8();
+                String name = request.getString();
+                if (code == 'S') {
+                    client.closeStatement(name);
+                } else {
+                    client.closeCursor(name);
+                }
+                writeToChannel(PgProtocolMessage.MSG_CLOSE_COMPLETE,
+                        channel);
+                break;
+            case PgProtocolMessage.MESSAGE_TYPE_SYNC:
+                error = false;
+                setState(SESSION_STATE_READY);
+                break;
+            case PgProtocolMessage.MESSAGE_TYPE_FUNCTION_CALL:
+                int functionOID = request.getInt32();
+                int[] paramCodes = request.getInt16Array(request.getInt16());
+                int argCount = request.getInt16();
+                byte[][] args = new byte[argCount][];
+                for (int i = 0; i < argCount; i++) {
+                    args[i] = request.getBytes(request.getInt32());
+                }
+                decodeParameters(args, paramCodes);
+                switch (functionOID) {
+                default:
+                    throw new XDBServerException(
+                            "Function is not supported, OID="
+                                    + functionOID);
+                }
+                // setState(SESSION_STATE_QUERY);
+                // break;
+            case PgProtocolMessage.MESSAGE_TYPE_TERMINATE:
+                connUser = null;
+                connDatabase = null;
+                return false;
+            default:
+                logger.debug("Unsupported message type: "
+                        + request.getMessageType());
+            }// switch
+            logger.log(Level.DEBUG,
+                    "Message handled successfully: %0%",
+                    new Object[] { request.getMessageType() });
+        } catch (Exception ex) {
+            logger.log(Level.DEBUG,
+                    "Message handled with error: %0%",
+                    new Object[] { request.getMessageType() });
+            logger.catching(ex);
             try {
-	            channel.close();
-	            manager.removeClient(channel);
-            } catch (Throwable t) {
-                logger.catching(t);
+                error = true;
+                writeResponse(ExecutionResult.createErrorResult(ex));
+            } catch (Throwable e) {
+                logger.catching(e);
+                // break session
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void closeChannel() {
+        try {
+            if (selectionKey != null) {
+                selectionKey.cancel();
             }
+            channel.close();
+            manager.removeClient(channel);
+        } catch (Throwable t) {
+            logger.catching(t);
         }
     }
     
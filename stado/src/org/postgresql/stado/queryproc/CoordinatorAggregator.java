@@ -0,0 +1,680 @@
+/*****************************************************************************
+ * Copyright (C) 2008 EnterpriseDB Corporation.
+ * Copyright (C) 2011 Stado Global Development Group.
+ *
+ * This file is part of Stado.
+ *
+ * Stado is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Stado is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Stado.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * You can find Stado at http://www.stado.us
+ *
+ ****************************************************************************/
+/*
+ * CoordinatorAggregator.java
+ *
+ */
+package org.postgresql.stado.queryproc;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.postgresql.stado.common.ColumnMetaData;
+import org.postgresql.stado.common.ResultSetImpl;
+import org.postgresql.stado.common.util.XLogger;
+import org.postgresql.stado.engine.datatypes.XData;
+import org.postgresql.stado.parser.ExpressionType;
+import org.postgresql.stado.parser.handler.IdentifierHandler;
+import org.postgresql.stado.planner.Leaf;
+
+
+/**
+ * Final phase of an ungrouped aggregation done in the coordinator's memory.
+ * The partial aggregates are read from the nodes' result sets and combined
+ * here, instead of being inserted into a coordinator temp table by
+ * QueryCombiner. If every projection of the final query is SUM, MIN or MAX
+ * of a partial or the AVG division of two partial sums, the result row is
+ * computed here too, with the result types and numeric division scale
+ * PostgreSQL would use, and the coordinator database is not queried at all.
+ * Otherwise (STDDEV, VARIANCE, casts, HAVING and so on) the final query reads
+ * a single row VALUES list holding the combined partials in place of the
+ * temp table, so the database evaluates the expressions.
+ */
+public class CoordinatorAggregator {
+    private static final XLogger logger = XLogger
+            .getLogger(CoordinatorAggregator.class);
+
+    private static final int OP_NONE = 0;
+
+    private static final int OP_SUM = 1;
+
+    private static final int OP_MIN = 2;
+
+    private static final int OP_MAX = 3;
+
+    private static final String[] OP_NAMES = { null, "SUM(", "MIN(", "MAX(" };
+
+    /** Final projection dividing two sums, as AVG is rewritten */
+    private static final int OP_DIVIDE = 4;
+
+    /** Limits of the scale of numeric division, as in PostgreSQL */
+    private static final int NUMERIC_MIN_SIG_DIGITS = 16;
+
+    private static final int NUMERIC_MAX_DISPLAY_SCALE = 1000;
+
+    /** Decimal digits per digit of the PostgreSQL numeric representation */
+    private static final int DEC_DIGITS = 4;
+
+    /** The temp table replaced by the VALUES list */
+    private String sourceTable;
+
+    private String[] columnNames;
+
+    /** Types the combined values are cast to in the VALUES list */
+    private String[] columnTypes;
+
+    /** Combining function of every column */
+    private int[] ops;
+
+    /** Whether a column is combined as BigDecimal or as double */
+    private boolean[] exact;
+
+    /** java.sql.Types of the columns */
+    private int[] sqlTypes;
+
+    /**
+     * Final projections computed in memory: operation, column and divisor
+     * column, or null if the final query is executed by the database
+     */
+    private int[][] projections;
+
+    /** Node temp tables to drop when the final result set is closed */
+    private Collection<String> nodeDropList;
+
+    /**
+     *
+     * @param sourceTable
+     * @param columnCount
+     * @param nodeDropList
+     */
+    private CoordinatorAggregator(String sourceTable, int columnCount,
+            Collection<String> nodeDropList) {
+        this.sourceTable = sourceTable;
+        this.nodeDropList = nodeDropList;
+        columnNames = new String[columnCount];
+        columnTypes = new String[columnCount];
+        ops = new int[columnCount];
+        exact = new boolean[columnCount];
+        sqlTypes = new int[columnCount];
+    }
+
+    /**
+     * Checks if the final coordinator query can be fed from memory, that is
+     * if every column of the source table it reads is a number used only
+     * as argument of SUM, MIN or MAX.
+     *
+     * @param finalQuery
+     *            the query executed on the coordinator
+     * @param sourceTable
+     *            the temp table the query reads
+     * @param sourceColumns
+     *            projections of the step producing the temp table
+     * @param nodeDropList
+     *            temp tables of the producing step
+     * @return the aggregator, or null if the query is not supported
+     */
+    public static CoordinatorAggregator createAggregator(String finalQuery,
+            String sourceTable, List<Leaf.Projection> sourceColumns,
+            Collection<String> nodeDropList) {
+        String from = "FROM " + IdentifierHandler.quote(sourceTable);
+        int fromPos = finalQuery.indexOf(from);
+        if (fromPos < 0 || finalQuery.indexOf(from, fromPos + 1) >= 0) {
+            return null;
+        }
+        CoordinatorAggregator aggregator = new CoordinatorAggregator(
+                sourceTable, sourceColumns.size(), nodeDropList);
+        boolean hasAggregates = false;
+        int i = 0;
+        for (Leaf.Projection column : sourceColumns) {
+            ExpressionType exprType = column.getExprType();
+            if (exprType == null) {
+                return null;
+            }
+            switch (exprType.type) {
+            case Types.SMALLINT:
+            case Types.INTEGER:
+            case Types.BIGINT:
+            case Types.NUMERIC:
+            case Types.DECIMAL:
+                aggregator.exact[i] = true;
+                break;
+            case Types.DOUBLE:
+                aggregator.exact[i] = false;
+                break;
+            default:
+                return null;
+            }
+            aggregator.sqlTypes[i] = exprType.type;
+            String quoted = IdentifierHandler.quote(column.getCreateColumnName());
+            int op = OP_NONE;
+            for (int pos = finalQuery.indexOf(quoted); pos >= 0; pos = finalQuery
+                    .indexOf(quoted, pos + quoted.length())) {
+                int columnOp = getFunction(finalQuery, pos, quoted.length());
+                if (columnOp == OP_NONE || op != OP_NONE && op != columnOp) {
+                    return null;
+                }
+                op = columnOp;
+            }
+            hasAggregates |= op != OP_NONE;
+            aggregator.columnNames[i] = column.getCreateColumnName();
+            // Total of the partial sums and counts may not fit into the
+            // declared type of the partial, the temp table path did not
+            // have that limit, since its final SUM widened the type
+            aggregator.columnTypes[i] = op == OP_SUM && aggregator.exact[i] ? "NUMERIC"
+                    : exprType.getTypeString();
+            aggregator.ops[i++] = op;
+        }
+        if (!hasAggregates) {
+            return null;
+        }
+        aggregator.projections = aggregator.getProjections(finalQuery
+                .substring(0, fromPos).trim(), finalQuery.substring(fromPos)
+                .trim().equals(from));
+        return aggregator;
+    }
+
+    /**
+     * Recognizes the final projections that can be computed in memory.
+     *
+     * @param selectList
+     *            the final query up to the FROM clause
+     * @param fromOnly
+     *            whether there is nothing after the FROM clause
+     * @return the projections, or null if some of them are not supported
+     */
+    private int[][] getProjections(String selectList, boolean fromOnly) {
+        if (!fromOnly || !selectList.regionMatches(true, 0, "SELECT ", 0, 7)) {
+            return null;
+        }
+        List<int[]> result = new ArrayList<int[]>();
+        for (String item : splitList(selectList.substring(7))) {
+            // Cut off the alias
+            int aliasPos = item.toLowerCase().lastIndexOf(" as \"");
+            if (aliasPos > 0 && item.endsWith("\"")) {
+                item = item.substring(0, aliasPos).trim();
+            }
+            int[] projection = getAggregate(item);
+            if (projection == null && item.startsWith("(")
+                    && item.endsWith(")")) {
+                int slash = item.indexOf(" / ");
+                if (slash > 0) {
+                    int[] dividend = getAggregate(item.substring(1, slash));
+                    int[] divisor = getAggregate(item.substring(slash + 3,
+                            item.length() - 1));
+                    if (dividend != null && dividend[0] == OP_SUM
+                            && divisor != null && divisor[0] == OP_SUM) {
+                        projection = new int[] { OP_DIVIDE, dividend[1],
+                                divisor[1] };
+                    }
+                }
+            }
+            if (projection == null) {
+                return null;
+            }
+            result.add(projection);
+        }
+        return result.toArray(new int[result.size()][]);
+    }
+
+    /**
+     * @param expr
+     * @return operation and column if the expression is SUM, MIN or MAX of
+     *         a source column, null otherwise
+     */
+    private int[] getAggregate(String expr) {
+        for (int i = 0; i < columnNames.length; i++) {
+            if (ops[i] != OP_NONE
+                    && expr.equalsIgnoreCase(OP_NAMES[ops[i]]
+                            + IdentifierHandler.quote(columnNames[i]) + ")")) {
+                return new int[] { ops[i], i };
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Splits the select list by the commas which are not in parentheses,
+     * quoted identifiers or literals.
+     *
+     * @param list
+     * @return
+     */
+    private static List<String> splitList(String list) {
+        List<String> items = new ArrayList<String>();
+        int depth = 0;
+        char quote = 0;
+        int start = 0;
+        for (int i = 0; i < list.length(); i++) {
+            char c = list.charAt(i);
+            if (quote != 0) {
+                if (c == quote) {
+                    quote = 0;
+                }
+            } else if (c == '"' || c == '\'') {
+                quote = c;
+            } else if (c == '(') {
+                depth++;
+            } else if (c == ')') {
+                depth--;
+            } else if (c == ',' && depth == 0) {
+                items.add(list.substring(start, i).trim());
+                start = i + 1;
+            }
+        }
+        items.add(list.substring(start).trim());
+        return items;
+    }
+
+    /**
+     * Determines the aggregate function the column reference at the
+     * specified position is the only argument of.
+     *
+     * @param query
+     * @param pos
+     * @param length
+     * @return
+     */
+    private static int getFunction(String query, int pos, int length) {
+        if (!query.startsWith(")", pos + length) || pos < 4) {
+            return OP_NONE;
+        }
+        if (pos > 4) {
+            char prev = query.charAt(pos - 5);
+            if (Character.isLetterOrDigit(prev) || prev == '_' || prev == '.'
+                    || prev == '"') {
+                return OP_NONE;
+            }
+        }
+        String function = query.substring(pos - 4, pos);
+        for (int op = OP_SUM; op < OP_NAMES.length; op++) {
+            if (OP_NAMES[op].equalsIgnoreCase(function)) {
+                return op;
+            }
+        }
+        return OP_NONE;
+    }
+
+    /**
+     * Reads the partial aggregates and combines them. Result sets are
+     * closed.
+     *
+     * @param resultSets
+     *            results of the producing step
+     * @return combined value of every column, BigDecimal or Double, null
+     *         if there are no values
+     * @throws SQLException
+     */
+    private Object[] combine(Collection<? extends ResultSet> resultSets)
+            throws SQLException {
+        Object[] values = new Object[ops.length];
+        long rowCount = 0;
+        if (resultSets != null) {
+            for (ResultSet rs : resultSets) {
+                try {
+                    while (rs.next()) {
+                        rowCount++;
+                        for (int i = 0; i < ops.length; i++) {
+                            if (ops[i] == OP_NONE) {
+                                continue;
+                            }
+                            String value = rs.getString(i + 1);
+                            if (value == null) {
+                                continue;
+                            }
+                            if (exact[i]) {
+                                values[i] = combine(ops[i],
+                                        (BigDecimal) values[i],
+                                        new BigDecimal(value));
+                            } else {
+                                double number = Double.parseDouble(value);
+                                Double current = (Double) values[i];
+                                if (current == null
+                                        || ops[i] == OP_MIN
+                                        && Double.compare(number, current) < 0
+                                        || ops[i] == OP_MAX
+                                        && Double.compare(number, current) > 0) {
+                                    values[i] = number;
+                                } else if (ops[i] == OP_SUM) {
+                                    values[i] = current + number;
+                                }
+                            }
+                        }
+                    }
+                } finally {
+                    rs.close();
+                }
+            }
+        }
+        logger.debug("Combined " + rowCount + " partial rows");
+        return values;
+    }
+
+    /**
+     * Combines the partial aggregates and rewrites the final query to read
+     * them instead of the temp table. Result sets are closed.
+     *
+     * @param queryString
+     *            the final query
+     * @param resultSets
+     *            results of the producing step
+     * @return the query to execute on the coordinator
+     * @throws SQLException
+     */
+    public String aggregate(String queryString,
+            Collection<? extends ResultSet> resultSets) throws SQLException {
+        final String method = "aggregate";
+        logger.entering(method);
+
+        try {
+            Object[] values = combine(resultSets);
+
+            StringBuilder sbValues = new StringBuilder("FROM (VALUES (");
+            StringBuilder sbColumns = new StringBuilder();
+            for (int i = 0; i < ops.length; i++) {
+                if (i > 0) {
+                    sbValues.append(", ");
+                    sbColumns.append(", ");
+                }
+                sbValues.append("CAST(");
+                if (values[i] == null) {
+                    sbValues.append("NULL");
+                } else {
+                    sbValues.append("'").append(values[i] instanceof BigDecimal
+                            ? ((BigDecimal) values[i]).toPlainString()
+                            : values[i].toString()).append("'");
+                }
+                sbValues.append(" AS ").append(columnTypes[i]).append(")");
+                sbColumns.append(IdentifierHandler.quote(columnNames[i]));
+            }
+            sbValues.append(")) AS ").append(IdentifierHandler.quote(sourceTable))
+                    .append(" (").append(sbColumns).append(")");
+
+            String newQuery = queryString.replace(
+                    "FROM " + IdentifierHandler.quote(sourceTable),
+                    sbValues.toString());
+            logger.debug("Final query: " + newQuery);
+            return newQuery;
+        } finally {
+            logger.exiting(method);
+        }
+    }
+
+    /**
+     * @return true if the final result is computed by {@link #evaluate}
+     *         without querying the coordinator database
+     */
+    public boolean isEvaluated() {
+        return projections != null;
+    }
+
+    /**
+     * Combines the partial aggregates and computes the final projections.
+     * Result sets are closed.
+     *
+     * @param resultSets
+     *            results of the producing step
+     * @param columnMeta
+     *            metadata of the final result
+     * @return the single row result
+     * @throws SQLException
+     */
+    public ResultSet evaluate(Collection<? extends ResultSet> resultSets,
+            ColumnMetaData[] columnMeta) throws SQLException {
+        final String method = "evaluate";
+        logger.entering(method);
+
+        try {
+            Object[] values = combine(resultSets);
+            XData[] row = new XData[projections.length];
+            for (int i = 0; i < projections.length; i++) {
+                int[] projection = projections[i];
+                Object result;
+                if (projection[0] == OP_SUM) {
+                    result = getSum(projection[1], values[projection[1]]);
+                } else if (projection[0] == OP_DIVIDE) {
+                    result = divide(
+                            getSum(projection[1], values[projection[1]]),
+                            getSum(projection[2], values[projection[2]]));
+                } else {
+                    result = getValue(projection[1], values[projection[1]]);
+                }
+                row[i] = new Value(result);
+            }
+            List<XData[]> rows = new ArrayList<XData[]>(1);
+            rows.add(row);
+            return new ResultSetImpl(columnMeta, rows);
+        } finally {
+            logger.exiting(method);
+        }
+    }
+
+    /**
+     * @param column
+     * @param value
+     *            combined value
+     * @return the value as the driver returns a column of the partial's type
+     */
+    private Object getValue(int column, Object value) {
+        if (value == null) {
+            return null;
+        }
+        switch (sqlTypes[column]) {
+        case Types.SMALLINT:
+        case Types.INTEGER:
+            return ((BigDecimal) value).intValue();
+        case Types.BIGINT:
+            return ((BigDecimal) value).longValue();
+        default:
+            return value;
+        }
+    }
+
+    /**
+     * @param column
+     * @param value
+     *            combined value
+     * @return the value as the driver returns SUM of the column, it is
+     *         bigint for integer types and numeric for bigint
+     */
+    private Object getSum(int column, Object value) {
+        if (value == null) {
+            return null;
+        }
+        switch (sqlTypes[column]) {
+        case Types.SMALLINT:
+        case Types.INTEGER:
+            return ((BigDecimal) value).longValue();
+        default:
+            return value;
+        }
+    }
+
+    /**
+     * Divides the values the way PostgreSQL divides values of their types.
+     *
+     * @param dividend
+     * @param divisor
+     * @return the quotient
+     * @throws SQLException
+     *             on division by zero
+     */
+    private static Object divide(Object dividend, Object divisor)
+            throws SQLException {
+        if (dividend == null || divisor == null) {
+            return null;
+        }
+        if (((Number) divisor).doubleValue() == 0) {
+            throw new SQLException("division by zero", "22012");
+        }
+        if (dividend instanceof Double || divisor instanceof Double) {
+            return ((Number) dividend).doubleValue()
+                    / ((Number) divisor).doubleValue();
+        }
+        if (dividend instanceof Long && divisor instanceof Long) {
+            long x = (Long) dividend;
+            long y = (Long) divisor;
+            if (x == Long.MIN_VALUE && y == -1) {
+                throw new SQLException("bigint out of range", "22003");
+            }
+            return x / y;
+        }
+        BigDecimal x = toBigDecimal(dividend);
+        BigDecimal y = toBigDecimal(divisor);
+        return x.divide(y, getDivideScale(x, y), RoundingMode.HALF_UP);
+    }
+
+    private static BigDecimal toBigDecimal(Object value) {
+        return value instanceof BigDecimal ? (BigDecimal) value
+                : BigDecimal.valueOf(((Number) value).longValue());
+    }
+
+    /**
+     * Scale of the quotient of numeric division, it keeps at least
+     * NUMERIC_MIN_SIG_DIGITS significant digits, like select_div_scale() of
+     * PostgreSQL.
+     *
+     * @param x
+     * @param y
+     * @return
+     */
+    private static int getDivideScale(BigDecimal x, BigDecimal y) {
+        int[] weight1 = getWeight(x);
+        int[] weight2 = getWeight(y);
+        int qweight = weight1[0] - weight2[0];
+        if (weight1[1] <= weight2[1]) {
+            qweight--;
+        }
+        int scale = NUMERIC_MIN_SIG_DIGITS - qweight * DEC_DIGITS;
+        scale = Math.max(scale, Math.max(x.scale(), y.scale()));
+        return Math.min(Math.max(scale, 0), NUMERIC_MAX_DISPLAY_SCALE);
+    }
+
+    /**
+     * @param value
+     * @return weight and value of the first non-zero base 10000 digit of
+     *         the value
+     */
+    private static int[] getWeight(BigDecimal value) {
+        if (value.signum() == 0) {
+            return new int[] { 0, 0 };
+        }
+        BigDecimal abs = value.abs();
+        int exponent = abs.precision() - abs.scale() - 1;
+        int weight = exponent >= 0 ? exponent / DEC_DIGITS
+                : -((DEC_DIGITS - 1 - exponent) / DEC_DIGITS);
+        return new int[] { weight,
+                abs.movePointLeft(weight * DEC_DIGITS).intValue() };
+    }
+
+    /**
+     *
+     * @param op
+     * @param current
+     * @param value
+     * @return
+     */
+    private static BigDecimal combine(int op, BigDecimal current,
+            BigDecimal value) {
+        if (current == null) {
+            return value;
+        }
+        switch (op) {
+        case OP_SUM:
+            return current.add(value);
+        case OP_MIN:
+            return value.compareTo(current) < 0 ? value : current;
+        default:
+            return value.compareTo(current) > 0 ? value : current;
+        }
+    }
+
+    /**
+     *
+     * @return the temp table the final query no longer reads
+     */
+    public String getSourceTable() {
+        return sourceTable;
+    }
+
+    /**
+     *
+     * @return node temp tables to drop with the final result set
+     */
+    public Collection<String> getNodeDropList() {
+        return nodeDropList;
+    }
+
+    /**
+     * Value of the computed result row
+     */
+    private static class Value implements XData {
+        private Object value;
+
+        private int javaType = Types.OTHER;
+
+        Value(Object value) {
+            this.value = value;
+        }
+
+        public int getJavaType() {
+            return javaType;
+        }
+
+        public void setJavaType(int type) {
+            javaType = type;
+        }
+
+        public boolean isValueNull() {
+            return value == null;
+        }
+
+        public void setNull(boolean isNull) {
+            if (isNull) {
+                value = null;
+            }
+        }
+
+        @Override
+        public String toString() {
+            return value == null ? null : value.toString();
+        }
+
+        public String toString(String encoding) {
+            return toString();
+        }
+
+        public Object getObject() {
+            return value;
+        }
+
+        public void setObject(Object o) {
+            value = o;
+        }
+    }
+}
@@ -50,6 +50,7 @@ import org.postgresql.stado.common.util.Props;
 import org.postgresql.stado.common.util.XLogger;
 import org.postgresql.stado.engine.Engine;
 import org.postgresql.stado.engine.ExecutionResult;
+import org.postgresql.stado.engine.ExecutionStatistics;
 import org.postgresql.stado.engine.IPreparable;
 import org.postgresql.stado.engine.MultinodeExecutor;
 import org.postgresql.stado.engine.NodeProducerThread;
@@ -83,6 +84,7 @@ import org.postgresql.stado.parser.IXDBSql;
 import org.postgresql.stado.parser.handler.IdentifierHandler;
 import org.postgresql.stado.planner.ExecutionPlan;
 import org.postgresql.stado.planner.ExecutionStep;
+import org.postgresql.stado.planner.NodeUsage;
 import org.postgresql.stado.planner.QueryPlan;
 import org.postgresql.stado.planner.StepDetail;
 
@@ -125,6 +127,9 @@ public class QueryProcessor implements IPreparable, IXDBSql {
 
     private XDBSessionContext client;
 
+    // Runtime statistics, collected for EXPLAIN ANALYZE
+    private ExecutionStatistics statistics = null;
+
     /**
      * Executes ExecutionPlan
      *
@@ -151,98 +156,197 @@ public class QueryProcessor implements IPreparable, IXDBSql {
             }
 
             // ok, now we can start processing the steps of our query
-            for (ExecutionStep anExecStep : anExecutionPlan.stepList) {
-                // See if we need to execute any correlated subplans first
-                if (anExecStep.correlatedSubPlan != null) {
-                    logger.debug("Handle anExecStep.correlatedSubPlan");
-                    executeQueryExecPlan(anExecStep.correlatedSubPlan);
-                    logger.debug("Handle anExecStep.correlatedSubPlan - Done");
+            boolean success = false;
+            try {
+                executeSteps(anExecutionPlan);
+                success = true;
+            } finally {
+                // End of the last step may be left pending if next step
+                // has not been executed
+                if (success) {
+                    aMultinodeExecutor.finishPendingStep();
+                } else {
+                    try {
+                        aMultinodeExecutor.finishPendingStep();
+                    } catch (Exception e) {
+                        logger.catching(e);
+                    }
                 }
+            }
 
-                QueryPlan.CATEGORY_QUERYFLOW.info(anExecStep);
+            finalSelectClause = anExecutionPlan.finalProjString;
 
-                // Process any uncorrelated subqueries in the plan first
-                if (anExecStep.uncorrelatedSubPlanList != null) {
-                    for (ExecutionPlan uncorSubPlan : anExecStep.uncorrelatedSubPlanList) {
-                        executeQueryExecPlan(uncorSubPlan);
-                    }
+            /** substitute results from scalar subqueries */
+            for (ExecutionPlan scalarPlan : anExecutionPlan.scalarPlanList) {
+                finalSelectClause = scalarReplace(finalSelectClause,
+                        scalarPlan.scalarPlaceholderNo, scalarPlan.scalarResult);
+            }
+        } finally {
+            logger.exiting(method);
+        }
+    }
+
+    /**
+     * Executes steps of the ExecutionPlan
+     *
+     * @param anExecutionPlan
+     * @throws SQLException
+     */
+    private void executeSteps(ExecutionPlan anExecutionPlan)
+            throws SQLException {
+        for (int stepIndex = 0; stepIndex < anExecutionPlan.stepList.size(); stepIndex++) {
+            ExecutionStep anExecStep = anExecutionPlan.stepList.get(stepIndex);
+            // See if we need to execute any correlated subplans first
+            if (anExecStep.correlatedSubPlan != null) {
+                logger.debug("Handle anExecStep.correlatedSubPlan");
+                executeQueryExecPlan(anExecStep.correlatedSubPlan);
+                logger.debug("Handle anExecStep.correlatedSubPlan - Done");
+            }
+
+            QueryPlan.CATEGORY_QUERYFLOW.info(anExecStep);
+
+            // Process any uncorrelated subqueries in the plan first
+            if (anExecStep.uncorrelatedSubPlanList != null) {
+                for (ExecutionPlan uncorSubPlan : anExecStep.uncorrelatedSubPlanList) {
+                    executeQueryExecPlan(uncorSubPlan);
                 }
+            }
 
-                // We are ready to execute the steps in the current plan.
-
-                // Note that we first need to do any substitutions of scalar
-                // subqueries, if any exist.
-                for (ExecutionPlan scalarPlan : anExecutionPlan.scalarPlanList) {
-                    if (anExecStep.aStepDetail != null
-                            && anExecStep.aStepDetail.queryString != null) {
-                        anExecStep.aStepDetail.queryString = scalarReplace(
-                                anExecStep.aStepDetail.queryString,
-                                scalarPlan.scalarPlaceholderNo,
-                                scalarPlan.scalarResult);
-                    }
+            // We are ready to execute the steps in the current plan.
 
-                    if (anExecStep.coordStepDetail != null
-                            && anExecStep.coordStepDetail.queryString != null) {
-                        anExecStep.coordStepDetail.queryString = scalarReplace(
-                                anExecStep.coordStepDetail.queryString,
-                                scalarPlan.scalarPlaceholderNo,
-                                scalarPlan.scalarResult);
-                    }
+            // Note that we first need to do any substitutions of scalar
+            // subqueries, if any exist.
+            for (ExecutionPlan scalarPlan : anExecutionPlan.scalarPlanList) {
+                if (anExecStep.aStepDetail != null
+                        && anExecStep.aStepDetail.queryString != null) {
+                    anExecStep.aStepDetail.queryString = scalarReplace(
+                            anExecStep.aStepDetail.queryString,
+                            scalarPlan.scalarPlaceholderNo,
+                            scalarPlan.scalarResult);
                 }
 
-                if (anExecStep.outerSubPlan != null) {
-                    executeQueryExecPlan(anExecStep.outerSubPlan);
+                if (anExecStep.coordStepDetail != null
+                        && anExecStep.coordStepDetail.queryString != null) {
+                    anExecStep.coordStepDetail.queryString = scalarReplace(
+                            anExecStep.coordStepDetail.queryString,
+                            scalarPlan.scalarPlaceholderNo,
+                            scalarPlan.scalarResult);
                 }
+            }
+
+            if (anExecStep.outerSubPlan != null) {
+                executeQueryExecPlan(anExecStep.outerSubPlan);
+            }
 
-                executeQueryStep(anExecStep.aStepDetail,
+            if (anExecStep.coordAggregator != null) {
+                executeAggregateStep(anExecStep);
+            } else {
+                StepDetail aStepDetail = anExecStep.aStepDetail;
+                if (anExecStep.semiJoinFilter != null) {
+                    // Filter is built for every execution, do not change
+                    // the (possibly cached) plan
+                    aStepDetail = aStepDetail.copy();
+                    aStepDetail.queryString = anExecStep.semiJoinFilter.apply(
+                            aStepDetail.queryString, client);
+                    if (statistics != null) {
+                        Collection<DBNode> producers = new ArrayList<DBNode>();
+                        for (NodeUsage aNodeUsage : anExecStep.nodeUsageTable.values()) {
+                            if (aNodeUsage.isProducer) {
+                                producers.add(client.getSysDatabase().getDBNode(
+                                        aNodeUsage.nodeId));
+                            }
+                        }
+                        anExecStep.semiJoinFilter.measure(
+                                anExecStep.aStepDetail.queryString, producers,
+                                client);
+                    }
+                }
+                executeQueryStep(aStepDetail,
                         anExecStep.coordStepDetail, anExecStep.nodeUsageTable,
                         anExecStep.producerCount, anExecStep.consumerCount,
                         anExecStep.isExtraStep, anExecStep.destNodeList,
-                        anExecStep.isFinalStep);
-
-                // check to see at the end of this step if the subsequent step
-                // is
-                // correlated, in which case we need to send data to proper
-                // nodes.
-                if (anExecStep.correlatedSendDownStep != null) {
+                        anExecStep.isFinalStep, canCoalesceStepEnd(anExecStep,
+                                anExecutionPlan.stepList, stepIndex + 1));
+            }
+
+            // check to see at the end of this step if the subsequent step
+            // is
+            // correlated, in which case we need to send data to proper
+            // nodes.
+            if (anExecStep.correlatedSendDownStep != null) {
+                executeQueryStep(
+                        anExecStep.correlatedSendDownStep.aStepDetail,
+                        anExecStep.correlatedSendDownStep.coordStepDetail,
+                        anExecStep.correlatedSendDownStep.nodeUsageTable,
+                        anExecStep.correlatedSendDownStep.producerCount,
+                        anExecStep.correlatedSendDownStep.consumerCount,
+                        anExecStep.correlatedSendDownStep.isExtraStep,
+                        anExecStep.correlatedSendDownStep.destNodeList,
+                        anExecStep.isFinalStep, false);
+
+                if (anExecStep.correlatedSendDownStep2 != null) {
                     executeQueryStep(
-                            anExecStep.correlatedSendDownStep.aStepDetail,
-                            anExecStep.correlatedSendDownStep.coordStepDetail,
-                            anExecStep.correlatedSendDownStep.nodeUsageTable,
-                            anExecStep.correlatedSendDownStep.producerCount,
-                            anExecStep.correlatedSendDownStep.consumerCount,
-                            anExecStep.correlatedSendDownStep.isExtraStep,
-                            anExecStep.correlatedSendDownStep.destNodeList,
-                            anExecStep.isFinalStep);
-
-                    if (anExecStep.correlatedSendDownStep2 != null) {
-                        executeQueryStep(
-                                anExecStep.correlatedSendDownStep2.aStepDetail,
-                                anExecStep.correlatedSendDownStep2.coordStepDetail,
-                                anExecStep.correlatedSendDownStep2.nodeUsageTable,
-                                anExecStep.correlatedSendDownStep2.producerCount,
-                                anExecStep.correlatedSendDownStep2.consumerCount,
-                                anExecStep.correlatedSendDownStep2.isExtraStep,
-                                anExecStep.correlatedSendDownStep2.destNodeList,
-                                anExecStep.isFinalStep);
-                    }
+                            anExecStep.correlatedSendDownStep2.aStepDetail,
+                            anExecStep.correlatedSendDownStep2.coordStepDetail,
+                            anExecStep.correlatedSendDownStep2.nodeUsageTable,
+                            anExecStep.correlatedSendDownStep2.producerCount,
+                            anExecStep.correlatedSendDownStep2.consumerCount,
+                            anExecStep.correlatedSendDownStep2.isExtraStep,
+                            anExecStep.correlatedSendDownStep2.destNodeList,
+                            anExecStep.isFinalStep, false);
                 }
-                /*
-                 * if (anExecStep.outerSubPlan != null) {
-                 * executeQueryExecPlan(anExecStep.outerSubPlan); }
-                 */
             }
+            /*
+             * if (anExecStep.outerSubPlan != null) {
+             * executeQueryExecPlan(anExecStep.outerSubPlan); }
+             */
+        }
+    }
 
-            finalSelectClause = anExecutionPlan.finalProjString;
-
-            /** substitute results from scalar subqueries */
-            for (ExecutionPlan scalarPlan : anExecutionPlan.scalarPlanList) {
-                finalSelectClause = scalarReplace(finalSelectClause,
-                        scalarPlan.scalarPlaceholderNo, scalarPlan.scalarResult);
+    /**
+     * Checks if nodes may be told to finish the step together with
+     * initialization of the next one. That is possible if nothing else is sent to the nodes
+     * between the steps.
+     *
+     * @param anExecStep
+     *            current step
+     * @param stepList
+     * @param nextIndex
+     *            index of the next step in the list
+     * @return
+     */
+    private boolean canCoalesceStepEnd(ExecutionStep anExecStep,
+            List<ExecutionStep> stepList, int nextIndex) {
+        // Do not mix up phases of different steps if statistics are collected
+        if (!Props.XDB_STEP_COALESCE_END || statistics != null
+                || nextIndex >= stepList.size()
+                || anExecStep.correlatedSendDownStep != null
+                || anExecStep.aStepDetail.combineOnCoordFirst) {
+            return false;
+        }
+        ExecutionStep nextStep = stepList.get(nextIndex);
+        if (nextStep.correlatedSubPlan != null
+                || nextStep.semiJoinFilter != null
+                || nextStep.outerSubPlan != null
+                || nextStep.uncorrelatedSubPlanList != null
+                && !nextStep.uncorrelatedSubPlanList.isEmpty()
+                || nextStep.isExtraStep) {
+            return false;
+        }
+        // Next step runs on the coordinator only
+        StepDetail coordStepDetail = nextStep.coordStepDetail;
+        if (coordStepDetail != null) {
+            if (nextStep.isFinalStep
+                    && coordStepDetail.isProducer
+                    && (coordStepDetail.getDestType() == StepDetail.DEST_TYPE_COORD || coordStepDetail.getDestType() == StepDetail.DEST_TYPE_COORD_FINAL)) {
+                return false;
+            }
+            if (coordStepDetail.isConsumer && coordStepDetail.isProducer
+                    && !nextStep.aStepDetail.isConsumer) {
+                return false;
             }
-        } finally {
-            logger.exiting(method);
         }
+        return true;
     }
 
     /**
@@ -450,13 +554,17 @@ public class QueryProcessor implements IPreparable, IXDBSql {
      * @param isExtraStep
      * @param destNodeList
      * @param isFinalStep
+     * @param coalesceEnd
+     *            next step is executed on the nodes right after this one,
+     *            so the end of this step is sent along with it
      * @throws org.postgresql.stado.exception.XDBServerException
      */
     private void executeQueryStep(StepDetail aStepDetail,
             StepDetail coordStepDetail, Map nodeUsageTable,
             int producerCount, // number of nodes that are producers
             int consumerCount, // number of nodes taht are consumers
-            boolean isExtraStep, List destNodeList, boolean isFinalStep)
+            boolean isExtraStep, List destNodeList, boolean isFinalStep,
+            boolean coalesceEnd)
     throws XDBServerException {
         final String method = "executeQueryStep";
         logger.entering(method);
@@ -471,8 +579,12 @@ public class QueryProcessor implements IPreparable, IXDBSql {
                     && coordStepDetail.isProducer
                     && (coordStepDetail.getDestType() == StepDetail.DEST_TYPE_COORD || coordStepDetail.getDestType() == StepDetail.DEST_TYPE_COORD_FINAL)) {
                 try {
+                    ExecutionStatistics.StepStatistics stepStatistics = startCoordinatorStep("coordinator -> final results");
                     setFinalResultSetOnCoordinator(coordStepDetail.queryString,
                             coordStepDetail.unionResultGroup, coordStepDetail);
+                    if (stepStatistics != null) {
+                        stepStatistics.endRun();
+                    }
 
                     return;
                 } catch (SQLException se) {
@@ -487,6 +599,8 @@ public class QueryProcessor implements IPreparable, IXDBSql {
 
             // TODO: change this to use a nodeProducerThread on the coordinator
             if (isExtraStep) {
+                ExecutionStatistics.StepStatistics stepStatistics = startCoordinatorStep("coordinator -> "
+                        + coordStepDetail.targetTable);
                 qc = new QueryCombiner(client, coordStepDetail.targetTable);
                 qc.sCreateStatement = coordStepDetail.targetSchema;
                 qc.createTempTable();
@@ -507,6 +621,9 @@ public class QueryProcessor implements IPreparable, IXDBSql {
                 }
                 qc.finishInserts();
                 qc.dropTempTables(coordStepDetail.dropList);
+                if (stepStatistics != null) {
+                    stepStatistics.endRun();
+                }
                 return;
             }
 
@@ -516,6 +633,8 @@ public class QueryProcessor implements IPreparable, IXDBSql {
             if (coordStepDetail != null) {
                 if (coordStepDetail.isConsumer && coordStepDetail.isProducer
                         && !aStepDetail.isConsumer) {
+                    ExecutionStatistics.StepStatistics stepStatistics = startCoordinatorStep("coordinator -> "
+                            + coordStepDetail.targetTable);
                     qc = new QueryCombiner(client, coordStepDetail.targetTable);
                     qc.sCreateStatement = coordStepDetail.targetSchema;
                     qc.createTempTable();
@@ -533,6 +652,9 @@ public class QueryProcessor implements IPreparable, IXDBSql {
                     }
                     // qc.finishInserts();
                     qc.dropTempTables(coordStepDetail.dropList);
+                    if (stepStatistics != null) {
+                        stepStatistics.endRun();
+                    }
 
                     return;
                 }
@@ -556,7 +678,7 @@ public class QueryProcessor implements IPreparable, IXDBSql {
             try {
                 aMultinodeExecutor.executeStep(qc, aStepDetail,
                         coordStepDetail, nodeUsageTable, producerCount,
-                        consumerCount);
+                        consumerCount, coalesceEnd);
             } catch (Exception e) {
                 logger.debug(" QP.eQS(): " + e.getMessage());
 
@@ -599,6 +721,65 @@ public class QueryProcessor implements IPreparable, IXDBSql {
         }
     }
 
+    /**
+     * Executes the final step of an ungrouped aggregation, combining the
+     * partial aggregates returned by the previous step in memory.
+     *
+     * @param anExecStep
+     * @throws XDBServerException
+     */
+    private void executeAggregateStep(ExecutionStep anExecStep)
+    throws XDBServerException {
+        final String method = "executeAggregateStep";
+        logger.entering(method);
+
+        StepDetail coordStepDetail = anExecStep.coordStepDetail;
+        String queryString = coordStepDetail.queryString;
+        try {
+            ExecutionStatistics.StepStatistics stepStatistics = startCoordinatorStep("coordinator aggregate -> final results");
+            CoordinatorAggregator aggregator = anExecStep.coordAggregator;
+            if (aggregator.isEvaluated()) {
+                setFinalResultSet(aggregator.evaluate(
+                        aMultinodeExecutor.getFinalResultSets(),
+                        aQueryPlan.getMetaData()),
+                        coordStepDetail.unionResultGroup, coordStepDetail);
+            } else {
+                queryString = aggregator.aggregate(queryString,
+                        aMultinodeExecutor.getFinalResultSets());
+                setFinalResultSetOnCoordinator(queryString,
+                        coordStepDetail.unionResultGroup, coordStepDetail);
+            }
+            finalResultSet.setFinalNodeTempTableList(
+                    anExecStep.coordAggregator.getNodeDropList());
+            if (stepStatistics != null) {
+                stepStatistics.endRun();
+            }
+        } catch (SQLException se) {
+            throw new XDBServerException(
+                    se.getMessage() + "\nQUERY: " + queryString,
+                    se, ErrorMessageRepository.SQL_EXEC_FAILURE_CODE);
+        } finally {
+            logger.exiting(method);
+        }
+    }
+
+    /**
+     * Adds the step executed on the coordinator only to the statistics and
+     * starts timing it
+     *
+     * @param description
+     * @return statistics of the step or null if statistics are not collected
+     */
+    private ExecutionStatistics.StepStatistics startCoordinatorStep(
+            String description) {
+        if (statistics == null) {
+            return null;
+        }
+        ExecutionStatistics.StepStatistics stepStatistics = statistics.addStep(description);
+        stepStatistics.startRun(Collections.<Integer>emptyList());
+        return stepStatistics;
+    }
+
     /**
      * Sets the results on the coordinator
      *
@@ -624,22 +805,36 @@ public class QueryProcessor implements IPreparable, IXDBSql {
                 qc.dropTempTables(coordStepDetail.dropList);
                 throw xe;
             }
-            // Use ServerResultSetImpl so that we can drop temp tables later
-            finalResultSet = new ServerResultSetImpl(
-                    Collections.singleton(coordResultSet), null, false, -1, -1,
-                    new XDBResultSetMetaData(aQueryPlan.getMetaData()));
-
-            finalResultSet.setFinalCoordTempTableList(coordStepDetail.dropList);
-            finalResultSet.setFinalNodeTempTableList(null);
-
-            if (unionResultGroup > 0) {
-                addUnionResultSet(finalResultSet, unionResultGroup);
-            }
+            setFinalResultSet(coordResultSet, unionResultGroup, coordStepDetail);
         } finally {
             logger.exiting(method);
         }
     }
 
+    /**
+     * Sets the result produced on the coordinator as the final result
+     *
+     * @param coordResultSet
+     * @param unionResultGroup
+     * @param coordStepDetail
+     * @throws java.sql.SQLException
+     */
+    private void setFinalResultSet(ResultSet coordResultSet,
+            int unionResultGroup, StepDetail coordStepDetail)
+    throws SQLException {
+        // Use ServerResultSetImpl so that we can drop temp tables later
+        finalResultSet = new ServerResultSetImpl(
+                Collections.singleton(coordResultSet), null, false, -1, -1,
+                new XDBResultSetMetaData(aQueryPlan.getMetaData()));
+
+        finalResultSet.setFinalCoordTempTableList(coordStepDetail.dropList);
+        finalResultSet.setFinalNodeTempTableList(null);
+
+        if (unionResultGroup > 0) {
+            addUnionResultSet(finalResultSet, unionResultGroup);
+        }
+    }
+
     /**
      * Constructor
      *
@@ -775,6 +970,18 @@ public class QueryProcessor implements IPreparable, IXDBSql {
      * Returns prepared query plan, or null if it is not prepared yet
      * @return
      */
+    /**
+     * Makes the processor collect runtime statistics of the query steps
+     * when it is executed. Step ends are not coalesced then, so the time the
+     * nodes spend finishing each step is attributed to that step.
+     *
+     * @param statistics
+     *            the statistics to fill in, or null to stop collecting
+     */
+    public void setStatistics(ExecutionStatistics statistics) {
+        this.statistics = statistics;
+    }
+
     public QueryPlan getQueryPlan() {
         return aQueryPlan;
     }
@@ -1124,7 +1331,12 @@ public class QueryProcessor implements IPreparable, IXDBSql {
                     }
                     setLastStepTablespace(updatePlan.stepList.get(updatePlan.stepList.size() - 1));
                 }
-                executeQueryExecPlan(aExecPlan);
+                aMultinodeExecutor.setStatistics(statistics);
+                try {
+                    executeQueryExecPlan(aExecPlan);
+                } finally {
+                    aMultinodeExecutor.setStatistics(null);
+                }
 
                 if (aExecPlan.isTopLevelUnion) {
                     ServerResultSetImpl unionResultSet1 = new ServerResultSetImpl(
@@ -0,0 +1,405 @@
+/*****************************************************************************
+ * Copyright (C) 2008 EnterpriseDB Corporation.
+ * Copyright (C) 2011 Stado Global Development Group.
+ *
+ * This file is part of Stado.
+ *
+ * Stado is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Stado is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Stado.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * You can find Stado at http://www.stado.us
+ *
+ ****************************************************************************/
+/*
+ * SemiJoinFilter.java
+ *
+ */
+package org.postgresql.stado.queryproc;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.text.DecimalFormat;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Map;
+
+import org.postgresql.stado.common.util.Props;
+import org.postgresql.stado.common.util.XLogger;
+import org.postgresql.stado.engine.Engine;
+import org.postgresql.stado.engine.XDBSessionContext;
+import org.postgresql.stado.exception.XDBServerException;
+import org.postgresql.stado.metadata.DBNode;
+import org.postgresql.stado.metadata.SysTable;
+import org.postgresql.stado.parser.ExpressionType;
+import org.postgresql.stado.parser.handler.IdentifierHandler;
+
+
+/**
+ * Bloom filter reducing the rows a step hashes to the nodes of the table it
+ * is joined with next. Before the step is executed the nodes of that table
+ * return the filter positions of their join key values, the coordinator
+ * merges them into a filter and the step query is wrapped to skip rows
+ * whose key can not be found. Rows are filtered by the producing database,
+ * so they never reach the Loader or the partition map.
+ * <p>
+ * Both sides are hashed by the database with the same expression on the
+ * text form of the value, so the filter is only used when the key types
+ * have identical text forms for equal values.
+ */
+public class SemiJoinFilter {
+    private static final XLogger logger = XLogger
+            .getLogger(SemiJoinFilter.class);
+
+    /** Number of hash functions */
+    private static final int HASH_COUNT = 2;
+
+    /** Filter bits per key, gives about 5% of false positives */
+    private static final int BITS_PER_KEY = 8;
+
+    private static final int MIN_BITS = 1024;
+
+    /** Table the step results are joined with */
+    private SysTable keyTable;
+
+    /** Join column of keyTable */
+    private String keyColumn;
+
+    /** Column of the step results the rows are hashed on */
+    private String probeColumn;
+
+    /** Filter size, a power of two */
+    private int bits;
+
+    /** Estimated fraction of the step rows passing the filter */
+    private double passRate;
+
+    /** Fraction of the filter bits set by the last build */
+    private double fillRate = -1;
+
+    /** Joins the step rows with the filter bits of the last build */
+    private String filterJoin;
+
+    /** Condition the step rows should meet to pass the filter */
+    private String filterCondition;
+
+    /** Step rows checked against the filter by the last measuring, or -1 */
+    private long rowsProbed = -1;
+
+    /** Step rows passed the filter by the last measuring */
+    private long rowsPassed = 0;
+
+    /**
+     *
+     * @param keyTable
+     * @param keyColumn
+     * @param probeColumn
+     * @param bits
+     * @param passRate
+     */
+    private SemiJoinFilter(SysTable keyTable, String keyColumn,
+            String probeColumn, int bits, double passRate) {
+        this.keyTable = keyTable;
+        this.keyColumn = keyColumn;
+        this.probeColumn = probeColumn;
+        this.bits = bits;
+        this.passRate = passRate;
+    }
+
+    /**
+     * Decides if filtering the rows of a step hashed on the partitioning
+     * column of the joined table pays off.
+     *
+     * @param keyTable
+     *            the table joined next, the step is hashed on its
+     *            partitioning column
+     * @param probeColumn
+     *            name of the column of the step results it is hashed on
+     * @param probeType
+     *            type of that column
+     * @param inputRows
+     *            estimated number of rows of the step
+     * @param outputRows
+     *            estimated number of rows of the join
+     * @return the filter, or null if it should not be used
+     */
+    public static SemiJoinFilter createFilter(SysTable keyTable,
+            String probeColumn, ExpressionType probeType, long inputRows,
+            long outputRows) {
+        final String method = "createFilter";
+        logger.entering(method, new Object[] { keyTable, probeColumn });
+
+        try {
+            ExpressionType keyType = new ExpressionType(
+                    keyTable.getPartitionedColumn());
+            if (probeType == null || !isCompatible(keyType, probeType)) {
+                return null;
+            }
+            long keyRows = keyTable.getRowCount();
+            if (keyRows <= 0 || inputRows <= 0 || outputRows <= 0) {
+                // no statistics
+                return null;
+            }
+            int bits = MIN_BITS;
+            while (bits < keyRows * BITS_PER_KEY
+                    && bits < Props.XDB_SEMIJOIN_FILTER_MAX_BITS) {
+                bits <<= 1;
+            }
+            double falsePositives = Math.pow(1 - Math.exp(-(double) HASH_COUNT
+                    * keyRows / bits), HASH_COUNT);
+            double matchRate = Math.min(1.0, (double) outputRows / inputRows);
+            double passRate = Math.min(1.0, matchRate + falsePositives);
+            // Every key row is read once to build the filter, and shipping
+            // a row costs more than reading it
+            double savedRows = inputRows * (1 - passRate);
+            if (passRate * 100 > Props.XDB_SEMIJOIN_FILTER_MAX_PASS_PERCENT
+                    || savedRows <= keyRows) {
+                return null;
+            }
+            return new SemiJoinFilter(keyTable,
+                    keyTable.getPartitionedColumn().getColName(), probeColumn,
+                    bits, passRate);
+        } finally {
+            logger.exiting(method);
+        }
+    }
+
+    /**
+     * Equal values must have equal text forms
+     *
+     * @param keyType
+     * @param probeType
+     * @return
+     */
+    private static boolean isCompatible(ExpressionType keyType,
+            ExpressionType probeType) {
+        switch (keyType.type) {
+        case Types.SMALLINT:
+        case Types.INTEGER:
+        case Types.BIGINT:
+            return probeType.type == Types.SMALLINT
+                    || probeType.type == Types.INTEGER
+                    || probeType.type == Types.BIGINT;
+        case Types.CHAR:
+        case Types.VARCHAR:
+        case Types.DATE:
+            return probeType.type == keyType.type;
+        default:
+            return false;
+        }
+    }
+
+    /**
+     * @param expression
+     * @param hash
+     *            number of the hash function
+     * @return SQL expression returning filter position of the expression
+     */
+    private String getPosition(String expression, int hash) {
+        String text = "CAST(" + expression + " AS TEXT)";
+        for (int i = 0; i < hash; i++) {
+            text += " || '#'";
+        }
+        return "(hashtext(" + text + ") & " + (bits - 1) + ")";
+    }
+
+    /**
+     * @return query returning the filter positions of the key values on a
+     *         node
+     */
+    private String getBuildQuery() {
+        String key = IdentifierHandler.quote(keyColumn);
+        StringBuffer sbQuery = new StringBuffer(256);
+        for (int hash = 0; hash < HASH_COUNT; hash++) {
+            if (hash > 0) {
+                sbQuery.append(" UNION ");
+            }
+            sbQuery.append("SELECT ").append(getPosition(key, hash))
+                    .append(" FROM ")
+                    .append(IdentifierHandler.quote(keyTable.getTableName()))
+                    .append(" WHERE ").append(key).append(" IS NOT NULL");
+        }
+        return sbQuery.toString();
+    }
+
+    /**
+     * Builds the filter on the nodes of the key table and wraps the step
+     * query to skip the rows that do not pass it.
+     *
+     * @param queryString
+     *            the step query
+     * @param client
+     * @return the filtered step query
+     * @throws XDBServerException
+     */
+    public String apply(String queryString, XDBSessionContext client)
+            throws XDBServerException {
+        final String method = "apply";
+        logger.entering(method, new Object[] { queryString });
+
+        try {
+            Collection<DBNode> nodeList = keyTable.getNodeList();
+            Map<Integer, ResultSet> results = Engine.getInstance()
+                    .executeQueryOnMultipleNodes(getBuildQuery(), nodeList,
+                            client);
+            BitSet filter = new BitSet(bits);
+            try {
+                for (ResultSet rs : results.values()) {
+                    try {
+                        while (rs.next()) {
+                            filter.set(rs.getInt(1));
+                        }
+                    } finally {
+                        rs.close();
+                    }
+                }
+            } catch (SQLException se) {
+                throw new XDBServerException(
+                        "Could not build semi-join filter on "
+                                + keyTable.getTableName(), se);
+            }
+            fillRate = (double) filter.cardinality() / bits;
+            logger.debug("Semi-join filter on " + keyTable.getTableName()
+                    + " built, " + filter.cardinality() + " of " + bits
+                    + " bits set");
+
+            StringBuffer sbJoin = new StringBuffer(bits / 4 + 64);
+            sbJoin.append(" CROSS JOIN (SELECT X'");
+            // Bits are numbered from the left, 4 per hex digit
+            for (int i = 0; i < bits; i += 4) {
+                int digit = 0;
+                for (int j = 0; j < 4; j++) {
+                    digit <<= 1;
+                    if (filter.get(i + j)) {
+                        digit |= 1;
+                    }
+                }
+                sbJoin.append(Character.forDigit(digit, 16));
+            }
+            sbJoin.append("' AS xsjfbits) AS ")
+                    .append(IdentifierHandler.quote("xsjfbits"));
+            filterJoin = sbJoin.toString();
+
+            StringBuffer sbCondition = new StringBuffer(256);
+            String probe = IdentifierHandler.quote("xsjfrows") + "."
+                    + IdentifierHandler.quote(probeColumn);
+            for (int hash = 0; hash < HASH_COUNT; hash++) {
+                if (hash > 0) {
+                    sbCondition.append(" AND ");
+                }
+                sbCondition.append("SUBSTRING(xsjfbits FROM ")
+                        .append(getPosition(probe, hash))
+                        .append(" + 1 FOR 1) = B'1'");
+            }
+            filterCondition = sbCondition.toString();
+
+            return "SELECT " + IdentifierHandler.quote("xsjfrows") + ".* FROM ("
+                    + queryString + ") AS " + IdentifierHandler.quote("xsjfrows")
+                    + filterJoin + " WHERE " + filterCondition;
+        } finally {
+            logger.exiting(method);
+        }
+    }
+
+    /**
+     * Counts the step rows checked against the last built filter and the
+     * rows passing it, for EXPLAIN ANALYZE. The producing nodes evaluate
+     * the filter in a single pass over the step rows.
+     *
+     * @param queryString
+     *            the step query, not filtered
+     * @param nodeList
+     *            nodes producing the step rows
+     * @param client
+     * @throws XDBServerException
+     */
+    public void measure(String queryString, Collection<DBNode> nodeList,
+            XDBSessionContext client) throws XDBServerException {
+        final String method = "measure";
+        logger.entering(method, new Object[] { queryString });
+
+        try {
+            String countQuery = "SELECT count(*), count(CASE WHEN "
+                    + filterCondition + " THEN 1 END) FROM (" + queryString
+                    + ") AS " + IdentifierHandler.quote("xsjfrows")
+                    + filterJoin;
+            Map<Integer, ResultSet> results = Engine.getInstance()
+                    .executeQueryOnMultipleNodes(countQuery, nodeList, client);
+            long probed = 0;
+            long passed = 0;
+            try {
+                for (ResultSet rs : results.values()) {
+                    try {
+                        if (rs.next()) {
+                            probed += rs.getLong(1);
+                            passed += rs.getLong(2);
+                        }
+                    } finally {
+                        rs.close();
+                    }
+                }
+            } catch (SQLException se) {
+                throw new XDBServerException(
+                        "Could not measure semi-join filter on "
+                                + keyTable.getTableName(), se);
+            }
+            rowsProbed = probed;
+            rowsPassed = passed;
+        } finally {
+            logger.exiting(method);
+        }
+    }
+
+    /**
+     * @return the table the step is joined with
+     */
+    public SysTable getKeyTable() {
+        return keyTable;
+    }
+
+    /**
+     * @return estimated fraction of the step rows passing the filter
+     */
+    public double getPassRate() {
+        return passRate;
+    }
+
+    /**
+     * Output filter info for EXPLAIN
+     *
+     * @return String representation of SemiJoinFilter
+     */
+    @Override
+    public String toString() {
+        DecimalFormat percent = new DecimalFormat("0.#%");
+        StringBuffer sbFilter = new StringBuffer(128);
+        sbFilter.append("on ")
+                .append(IdentifierHandler.quote(keyTable.getTableName()))
+                .append('.').append(IdentifierHandler.quote(keyColumn))
+                .append(", ").append(bits).append(" bits, estimated pass rate ")
+                .append(percent.format(passRate));
+        if (fillRate >= 0) {
+            sbFilter.append(", measured false positive rate ")
+                    .append(percent.format(Math.pow(fillRate, HASH_COUNT)));
+        }
+        if (rowsProbed >= 0) {
+            sbFilter.append(", rows probed ").append(rowsProbed)
+                    .append(", passed ").append(rowsPassed);
+            if (rowsProbed > 0) {
+                sbFilter.append(", actual pass rate ").append(
+                        percent.format((double) rowsPassed / rowsProbed));
+            }
+        }
+        return sbFilter.toString();
+    }
+}
@@ -153,6 +153,7 @@ public class CreateMdDb {
                     + " isnullable smallint not null," + " isserial smallint,"
                     + " defaultexpr varchar(255)," + " checkexpr varchar(255),"
                     + " selectivity float," + " nativecoldef varchar(255), "
+                    + " colstats text, "
                     + " primary key (colid)" + ")",
             "alter table xsyscolumns"
                     + " add foreign key (tableid) references xsystables (tableid)",
@@ -23,6 +23,7 @@
 package org.postgresql.stado.util;
 
 
+import org.postgresql.stado.common.util.MappedFileInputStream;
 import org.postgresql.stado.common.util.ParseCmdLine;
 import org.postgresql.stado.engine.copy.CopyManager;
 
@@ -195,7 +196,7 @@ public class XdbLoader {
             if (fname == null || fname.length() == 0) {
                 input = System.in;
             } else {
-                input = new FileInputStream(fname);
+                input = new MappedFileInputStream(fname);
             }
             String commitIntervalStr = ParseArgs.getStrArg(m, "-k");
             if (commitIntervalStr != null) {
@@ -219,7 +220,8 @@ public class XdbLoader {
                 }
                 keepOriginalFormat = m.containsKey("-x");
             }
-            filter = new LoaderFilter(new BufferedInputStream(input,65536), 1024,
+            filter = new LoaderFilter(input instanceof MappedFileInputStream ? input
+                    : new BufferedInputStream(input,65536), 1024,
                     commitInterval);
             filter.filterTrailingDelimiter = m.containsKey("-a");
             if (copyDelimiter != null && copyDelimiter.length() > 0) {
@@ -427,6 +429,12 @@ public class XdbLoader {
 
         System.out.printf("\nTime : " + (double) (finishTime - startTime)
                 / 1000 + " (seconds)\n");
+        if (input instanceof MappedFileInputStream && finishTime > startTime) {
+            long bytes = ((MappedFileInputStream) input).getPosition();
+            System.out.println("Read " + bytes + " bytes ("
+                    + bytes * 1000 / (finishTime - startTime) / (1024 * 1024)
+                    + " MB/s)");
+        }
     }
             
 